@@ -0,0 +1,82 @@
+package com.koduck.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.koduck.infrastructure.config.properties.RateLimitProperties;
+import com.koduck.repository.auth.LoginAttemptRepository;
+import com.koduck.service.LoginRateLimiter;
+import com.koduck.service.impl.auth.LoginRateLimiterImpl;
+import com.koduck.service.support.InMemorySlidingWindowCounter;
+import com.koduck.service.support.LoginAttemptAuditWriter;
+import com.koduck.service.support.RedisSlidingWindowCounter;
+import com.koduck.service.support.SlidingWindowCounter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 登录失败限流配置。
+ *
+ * <p>按 {@code koduck.rate-limit.login-failure.store} 选择计数器：{@code MEMORY} 为进程内计数，
+ * {@code REDIS} 为集群共享计数（Redis 不可用时退回进程内计数）。审计写入与过期计数清理由各 Bean 上的
+ * {@code @Scheduled} 方法驱动。</p>
+ *
+ * @author Koduck Team
+ */
+@Slf4j
+@Configuration
+public class LoginRateLimitConfig {
+
+    /**
+     * 登录失败计数器。
+     *
+     * @param properties    限流配置
+     * @param redisTemplate Redis 模板
+     * @return 计数器
+     */
+    @Bean
+    public SlidingWindowCounter loginFailureCounter(RateLimitProperties properties,
+                                                    ObjectProvider<StringRedisTemplate> redisTemplate) {
+        InMemorySlidingWindowCounter local = new InMemorySlidingWindowCounter();
+        if (properties.getLoginFailure().getStore() != RateLimitProperties.LoginFailure.Store.REDIS) {
+            return local;
+        }
+        StringRedisTemplate template = redisTemplate.getIfAvailable();
+        if (template == null) {
+            log.warn("Login failure store is REDIS but no StringRedisTemplate is available, using local counters");
+            return local;
+        }
+        return new RedisSlidingWindowCounter(template, local);
+    }
+
+    /**
+     * 登录尝试审计写入器。
+     *
+     * @param repository 审计仓库
+     * @param properties 限流配置
+     * @return 写入器
+     */
+    @Bean
+    public LoginAttemptAuditWriter loginAttemptAuditWriter(LoginAttemptRepository repository,
+                                                           RateLimitProperties properties) {
+        RateLimitProperties.LoginFailure config = properties.getLoginFailure();
+        return new LoginAttemptAuditWriter(repository, config.getAuditBatchSize(), config.getAuditQueueCapacity());
+    }
+
+    /**
+     * 登录失败限流器。
+     *
+     * @param loginFailureCounter     失败计数器
+     * @param loginAttemptAuditWriter 审计写入器
+     * @param properties              限流配置
+     * @return 限流器
+     */
+    @Bean
+    public LoginRateLimiter loginRateLimiter(SlidingWindowCounter loginFailureCounter,
+                                             LoginAttemptAuditWriter loginAttemptAuditWriter,
+                                             RateLimitProperties properties) {
+        return new LoginRateLimiterImpl(loginFailureCounter, loginAttemptAuditWriter, properties);
+    }
+}
@@ -0,0 +1,56 @@
+package com.koduck.event.auth;
+
+import com.koduck.common.event.DomainEvent;
+
+import lombok.Getter;
+
+/**
+ * 用户令牌撤销事件。
+ *
+ * <p>用户登出、修改或重置密码后发布。认证过滤器据此立即清除该用户已缓存的令牌与用户主体，
+ * 后续请求重新校验令牌并加载用户。</p>
+ *
+ * @author Koduck Team
+ */
+@Getter
+public class UserTokensRevokedEvent extends DomainEvent {
+
+    /** 用户ID。 */
+    private final Long userId;
+
+    /** 撤销原因。 */
+    private final Reason reason;
+
+    /**
+     * 构造用户令牌撤销事件。
+     *
+     * @param userId 用户ID
+     * @param reason 撤销原因
+     */
+    public UserTokensRevokedEvent(Long userId, Reason reason) {
+        super();
+        this.userId = userId;
+        this.reason = reason;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("UserTokensRevokedEvent[userId=%d, reason=%s, %s]",
+            userId, reason, super.toString());
+    }
+
+    /**
+     * 撤销原因。
+     */
+    public enum Reason {
+
+        /** 用户登出。 */
+        LOGOUT,
+
+        /** 修改密码。 */
+        PASSWORD_CHANGED,
+
+        /** 重置密码。 */
+        PASSWORD_RESET
+    }
+}
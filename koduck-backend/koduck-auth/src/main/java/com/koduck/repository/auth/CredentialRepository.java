@@ -0,0 +1,63 @@
+package com.koduck.repository.auth;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.koduck.entity.auth.UserCredential;
+
+/**
+ * 用户凭证仓库，提供用户凭证数据的数据库访问。
+ *
+ * @author Koduck Team
+ */
+@Repository
+public interface CredentialRepository extends JpaRepository<UserCredential, Long> {
+
+    /**
+     * 按 ID 升序读取指定 ID 之后的一批凭证，用于全表分批扫描。
+     *
+     * @param id 上一批最后一条凭证的 ID
+     * @param pageable 批大小
+     * @return 凭证列表
+     */
+    List<UserCredential> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * 仅当 API Key 密文仍为预期值时替换，避免覆盖并发修改。
+     *
+     * @param id 凭证 ID
+     * @param expected 预期的原密文
+     * @param replacement 新密文
+     * @return 更新的行数
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserCredential c SET c.apiKeyEncrypted = :replacement "
+            + "WHERE c.id = :id AND c.apiKeyEncrypted = :expected")
+    int replaceApiKeyEncrypted(@Param("id") Long id,
+                               @Param("expected") String expected,
+                               @Param("replacement") String replacement);
+
+    /**
+     * 仅当 API Secret 密文仍为预期值时替换，避免覆盖并发修改。
+     *
+     * @param id 凭证 ID
+     * @param expected 预期的原密文
+     * @param replacement 新密文
+     * @return 更新的行数
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserCredential c SET c.apiSecretEncrypted = :replacement "
+            + "WHERE c.id = :id AND c.apiSecretEncrypted = :expected")
+    int replaceApiSecretEncrypted(@Param("id") Long id,
+                                  @Param("expected") String expected,
+                                  @Param("replacement") String replacement);
+}
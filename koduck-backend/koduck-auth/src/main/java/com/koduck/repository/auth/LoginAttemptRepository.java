@@ -12,6 +12,9 @@ import com.koduck.entity.auth.LoginAttempt;
 /**
  * 登录尝试记录仓库，提供登录尝试数据的数据库访问。
  *
+ * <p>登录限流由 {@code LoginRateLimiter} 的滑动窗口计数完成，不再调用下面的 COUNT 查询；
+ * 这些查询保留用于审计与排查。</p>
+ *
  * @author Koduck Team
  */
 @Repository
@@ -48,6 +48,8 @@ public interface AuthService<U extends UserPrincipal<?>> {
     /**
      * 用户登出。
      *
+     * <p>实现应发布 {@link com.koduck.event.auth.UserTokensRevokedEvent}，使已缓存的令牌立即失效。</p>
+     *
      * @param refreshTokenValue 刷新 Token
      */
     void logout(String refreshTokenValue);
@@ -73,6 +75,8 @@ public interface AuthService<U extends UserPrincipal<?>> {
     /**
      * 重置密码。
      *
+     * <p>实现应发布 {@link com.koduck.event.auth.UserTokensRevokedEvent}，使已缓存的令牌立即失效。</p>
+     *
      * @param request 重置密码请求
      */
     void resetPassword(ResetPasswordRequest request);
@@ -0,0 +1,39 @@
+package com.koduck.service;
+
+/**
+ * 登录失败限流。
+ *
+ * <p>按登录标识和来源 IP 分别统计滑动窗口内的失败次数，阈值与窗口来自
+ * {@code koduck.rate-limit.login-failure}。判断与计数都不查询数据库，审计记录异步批量写入。</p>
+ *
+ * @author Koduck Team
+ */
+public interface LoginRateLimiter {
+
+    /**
+     * 判断是否允许本次登录尝试，不计数。
+     *
+     * @param identifier 登录标识（用户名或邮箱），可为空
+     * @param ipAddress  来源 IP，可为空
+     * @return 两个维度都未超过阈值时返回 true
+     */
+    boolean allowLoginAttempt(String identifier, String ipAddress);
+
+    /**
+     * 记录一次失败的登录。
+     *
+     * @param identifier 登录标识（用户名或邮箱）
+     * @param ipAddress  来源 IP
+     * @param userAgent  用户代理
+     */
+    void recordLoginFailure(String identifier, String ipAddress, String userAgent);
+
+    /**
+     * 记录一次成功的登录，并清零该登录标识的失败计数；来源 IP 的计数保留。
+     *
+     * @param identifier 登录标识（用户名或邮箱）
+     * @param ipAddress  来源 IP
+     * @param userAgent  用户代理
+     */
+    void recordLoginSuccess(String identifier, String ipAddress, String userAgent);
+}
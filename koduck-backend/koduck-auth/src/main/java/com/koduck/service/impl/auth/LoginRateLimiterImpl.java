@@ -0,0 +1,130 @@
+package com.koduck.service.impl.auth;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.koduck.entity.auth.LoginAttempt;
+import com.koduck.infrastructure.config.properties.RateLimitProperties;
+import com.koduck.service.LoginRateLimiter;
+import com.koduck.service.support.LoginAttemptAuditWriter;
+import com.koduck.service.support.SlidingWindowCounter;
+
+/**
+ * 基于 {@link SlidingWindowCounter} 的登录失败限流实现。
+ *
+ * <p>计数键为 {@code login_failure:user:<标识>} 与 {@code login_failure:ip:<IP>}，标识不区分大小写。
+ * 每次判断最多两次计数器读取，计数器在内存中时不产生任何 I/O。</p>
+ *
+ * @author Koduck Team
+ */
+public class LoginRateLimiterImpl implements LoginRateLimiter {
+
+    /** 登录标识计数键前缀。 */
+    static final String USER_KEY_PREFIX = "login_failure:user:";
+
+    /** 来源 IP 计数键前缀。 */
+    static final String IP_KEY_PREFIX = "login_failure:ip:";
+
+    /** 审计记录类型：账户登录。 */
+    static final String ATTEMPT_TYPE = "ACCOUNT";
+
+    /** 登录标识列长度。 */
+    private static final int MAX_IDENTIFIER_LENGTH = 100;
+
+    /** 用户代理列长度。 */
+    private static final int MAX_USER_AGENT_LENGTH = 500;
+
+    /** 失败计数器。 */
+    private final SlidingWindowCounter counter;
+
+    /** 审计写入器。 */
+    private final LoginAttemptAuditWriter auditWriter;
+
+    /** 登录失败限流配置。 */
+    private final RateLimitProperties.LoginFailure config;
+
+    /**
+     * 构造限流器。
+     *
+     * @param counter     失败计数器
+     * @param auditWriter 审计写入器
+     * @param properties  限流配置
+     */
+    public LoginRateLimiterImpl(SlidingWindowCounter counter, LoginAttemptAuditWriter auditWriter,
+                                RateLimitProperties properties) {
+        this.counter = Objects.requireNonNull(counter, "counter must not be null");
+        this.auditWriter = Objects.requireNonNull(auditWriter, "auditWriter must not be null");
+        this.config = Objects.requireNonNull(properties, "properties must not be null").getLoginFailure();
+    }
+
+    @Override
+    public boolean allowLoginAttempt(String identifier, String ipAddress) {
+        Duration window = config.getWindowDuration();
+        if (identifier != null
+                && counter.estimate(userKey(identifier), window) >= config.getMaxFailuresPerUser()) {
+            return false;
+        }
+        return ipAddress == null
+                || counter.estimate(ipKey(ipAddress), window) < config.getMaxFailuresPerIp();
+    }
+
+    @Override
+    public void recordLoginFailure(String identifier, String ipAddress, String userAgent) {
+        Duration window = config.getWindowDuration();
+        if (identifier != null) {
+            counter.increment(userKey(identifier), window);
+        }
+        if (ipAddress != null) {
+            counter.increment(ipKey(ipAddress), window);
+        }
+        audit(identifier, ipAddress, userAgent, false);
+    }
+
+    @Override
+    public void recordLoginSuccess(String identifier, String ipAddress, String userAgent) {
+        if (identifier != null) {
+            counter.reset(userKey(identifier), config.getWindowDuration());
+        }
+        audit(identifier, ipAddress, userAgent, true);
+    }
+
+    /**
+     * 清理过期的计数，按 {@code purge-interval-ms} 定时执行。
+     *
+     * @return 清理的键数
+     */
+    @Scheduled(fixedDelayString = "${koduck.rate-limit.login-failure.purge-interval-ms:60000}")
+    public int purgeExpired() {
+        return counter.purgeExpired();
+    }
+
+    private void audit(String identifier, String ipAddress, String userAgent, boolean success) {
+        String auditIdentifier = identifier != null ? identifier : ipAddress;
+        if (auditIdentifier == null) {
+            return;
+        }
+        // 超长的值会让整批写入失败，按列长度截断
+        auditWriter.submit(LoginAttempt.builder()
+                .identifier(truncate(auditIdentifier, MAX_IDENTIFIER_LENGTH))
+                .type(ATTEMPT_TYPE)
+                .ipAddress(ipAddress)
+                .userAgent(truncate(userAgent, MAX_USER_AGENT_LENGTH))
+                .success(success)
+                .build());
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    private static String userKey(String identifier) {
+        return USER_KEY_PREFIX + identifier.toLowerCase(Locale.ROOT);
+    }
+
+    private static String ipKey(String ipAddress) {
+        return IP_KEY_PREFIX + ipAddress;
+    }
+}
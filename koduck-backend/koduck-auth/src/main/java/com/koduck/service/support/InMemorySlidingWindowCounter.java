@@ -0,0 +1,117 @@
+package com.koduck.service.support;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 进程内的 {@link SlidingWindowCounter}。
+ *
+ * <p>每个键一个 {@link Window}，对单个窗口的读写在该窗口上同步，不同键之间互不阻塞。
+ * 超过两个窗口没有计数的键不再影响估算，由 {@link #purgeExpired()} 定期清理，
+ * 避免大量来源 IP 把内存撑大。计数只在本实例内有效，多实例部署时每个实例各自限流。</p>
+ *
+ * @author Koduck Team
+ */
+public class InMemorySlidingWindowCounter implements SlidingWindowCounter {
+
+    /** 时钟（毫秒）。 */
+    private final LongSupplier clock;
+
+    /** 按键保存的窗口。 */
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    /**
+     * 使用系统时钟构造计数器。
+     */
+    public InMemorySlidingWindowCounter() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * 使用指定时钟构造计数器。
+     *
+     * @param clock 时钟（毫秒）
+     */
+    public InMemorySlidingWindowCounter(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public double increment(String key, Duration window) {
+        long windowMillis = window.toMillis();
+        Window counts = windows.computeIfAbsent(key, k -> new Window(windowMillis));
+        return counts.add(clock.getAsLong(), 1);
+    }
+
+    @Override
+    public double estimate(String key, Duration window) {
+        Window counts = windows.get(key);
+        return counts == null ? 0 : counts.add(clock.getAsLong(), 0);
+    }
+
+    @Override
+    public void reset(String key, Duration window) {
+        windows.remove(key);
+    }
+
+    @Override
+    public int purgeExpired() {
+        long now = clock.getAsLong();
+        int purged = 0;
+        for (Map.Entry<String, Window> entry : windows.entrySet()) {
+            if (entry.getValue().isExpired(now) && windows.remove(entry.getKey(), entry.getValue())) {
+                purged++;
+            }
+        }
+        return purged;
+    }
+
+    /**
+     * 当前跟踪的键数。
+     *
+     * @return 键数
+     */
+    public int size() {
+        return windows.size();
+    }
+
+    /**
+     * 单个键的两个桶。
+     */
+    private static final class Window {
+
+        /** 窗口长度（毫秒）。 */
+        private final long windowMillis;
+
+        /** 当前桶的起始时间（毫秒）。 */
+        private long bucketStart;
+
+        /** 当前桶计数。 */
+        private long current;
+
+        /** 上一个桶计数。 */
+        private long previous;
+
+        Window(long windowMillis) {
+            this.windowMillis = windowMillis;
+        }
+
+        synchronized double add(long now, long delta) {
+            long start = now - Math.floorMod(now, windowMillis);
+            if (start != bucketStart) {
+                previous = start - bucketStart == windowMillis ? current : 0;
+                current = 0;
+                bucketStart = start;
+            }
+            current += delta;
+            double weight = 1.0 - (double) (now - start) / windowMillis;
+            return previous * weight + current;
+        }
+
+        synchronized boolean isExpired(long now) {
+            return now - bucketStart >= 2 * windowMillis;
+        }
+    }
+}
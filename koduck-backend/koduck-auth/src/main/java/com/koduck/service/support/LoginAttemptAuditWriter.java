@@ -0,0 +1,119 @@
+package com.koduck.service.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.koduck.entity.auth.LoginAttempt;
+import com.koduck.repository.auth.LoginAttemptRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 登录尝试审计记录的异步批量写入器。
+ *
+ * <p>登录请求只把记录放入有界队列，由 {@link #flush()} 按批调用 {@code saveAll} 写入
+ * {@code login_attempts}，每批一个事务。队列满时丢弃新记录并计数，审计写入变慢不会阻塞登录，
+ * 也不会在撞库高峰时把连接池耗尽。{@code created_at} 由写入时生成，与尝试时间最多相差一个刷新间隔。</p>
+ *
+ * @author Koduck Team
+ */
+@Slf4j
+public class LoginAttemptAuditWriter {
+
+    /** 审计仓库。 */
+    private final LoginAttemptRepository repository;
+
+    /** 每批写入的记录数。 */
+    private final int batchSize;
+
+    /** 待写入的记录。 */
+    private final BlockingQueue<LoginAttempt> queue;
+
+    /** 因队列已满丢弃的记录数。 */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /** 上次刷新时已报告的丢弃数，每个刷新周期最多记录一条警告。 */
+    private long reportedDropped;
+
+    /**
+     * 构造写入器。
+     *
+     * @param repository    审计仓库
+     * @param batchSize     每批写入的记录数
+     * @param queueCapacity 队列容量
+     */
+    public LoginAttemptAuditWriter(LoginAttemptRepository repository, int batchSize, int queueCapacity) {
+        this.repository = Objects.requireNonNull(repository, "repository must not be null");
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * 提交一条记录，不等待写入。
+     *
+     * @param attempt 登录尝试
+     * @return 是否进入队列
+     */
+    public boolean submit(LoginAttempt attempt) {
+        if (queue.offer(attempt)) {
+            return true;
+        }
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * 写入队列中的全部记录。按 {@code audit-flush-interval-ms} 定时执行，关闭前再执行一次。
+     *
+     * @return 写入的记录数
+     */
+    @Scheduled(fixedDelayString = "${koduck.rate-limit.login-failure.audit-flush-interval-ms:1000}")
+    @PreDestroy
+    public synchronized int flush() {
+        long droppedNow = dropped.get();
+        if (droppedNow > reportedDropped) {
+            log.warn("Login attempt audit queue was full, {} records dropped since last flush",
+                    droppedNow - reportedDropped);
+            reportedDropped = droppedNow;
+        }
+        int written = 0;
+        List<LoginAttempt> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                repository.saveAll(batch);
+                written += batch.size();
+            }
+            catch (RuntimeException e) {
+                log.error("Failed to write {} login attempt audit records", batch.size(), e);
+            }
+            batch = new ArrayList<>(batchSize);
+        }
+        return written;
+    }
+
+    /**
+     * 待写入的记录数。
+     *
+     * @return 记录数
+     */
+    public int pending() {
+        return queue.size();
+    }
+
+    /**
+     * 因队列已满丢弃的记录数。
+     *
+     * @return 记录数
+     */
+    public long dropped() {
+        return dropped.get();
+    }
+}
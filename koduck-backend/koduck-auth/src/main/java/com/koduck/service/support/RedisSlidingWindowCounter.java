@@ -0,0 +1,137 @@
+package com.koduck.service.support;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 基于 Redis 的 {@link SlidingWindowCounter}，计数在集群内共享。
+ *
+ * <p>每个桶一个 Redis 键，形如 {@code {key}:桶起始毫秒}，花括号使两个桶落在同一哈希槽。
+ * 加计数、设置过期和读取上一个桶由一个 Lua 脚本原子完成，每次调用一次往返；桶键在两个窗口后
+ * 自动过期，无需清理。桶按调用方时钟划分，各实例之间的时钟偏差只影响桶边界附近的权重。</p>
+ *
+ * <p>Redis 不可用时退回到进程内计数器并记录警告，限流降级为单实例而不是放行全部请求。</p>
+ *
+ * @author Koduck Team
+ */
+@Slf4j
+public class RedisSlidingWindowCounter implements SlidingWindowCounter {
+
+    /**
+     * 计数脚本：KEYS[1] 为当前桶，KEYS[2] 为上一个桶，ARGV[1] 为增量，ARGV[2] 为桶过期毫秒数。
+     * 返回 {当前桶计数, 上一个桶计数}；浮点权重由调用方计算，避免 Lua 数值被截断为整数。
+     */
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> COUNT_SCRIPT = new DefaultRedisScript<>(
+            "local current "
+                    + "if tonumber(ARGV[1]) > 0 then "
+                    + "current = redis.call('INCRBY', KEYS[1], ARGV[1]) "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[2]) "
+                    + "else current = tonumber(redis.call('GET', KEYS[1]) or '0') end "
+                    + "local previous = tonumber(redis.call('GET', KEYS[2]) or '0') "
+                    + "return {current, previous}",
+            List.class);
+
+    /** Redis 模板。 */
+    private final StringRedisTemplate redisTemplate;
+
+    /** Redis 不可用时使用的计数器。 */
+    private final SlidingWindowCounter fallback;
+
+    /** 时钟（毫秒）。 */
+    private final LongSupplier clock;
+
+    /**
+     * 构造计数器。
+     *
+     * @param redisTemplate Redis 模板
+     * @param fallback      Redis 不可用时使用的计数器
+     */
+    public RedisSlidingWindowCounter(StringRedisTemplate redisTemplate, SlidingWindowCounter fallback) {
+        this(redisTemplate, fallback, System::currentTimeMillis);
+    }
+
+    /**
+     * 使用指定时钟构造计数器。
+     *
+     * @param redisTemplate Redis 模板
+     * @param fallback      Redis 不可用时使用的计数器
+     * @param clock         时钟（毫秒）
+     */
+    public RedisSlidingWindowCounter(StringRedisTemplate redisTemplate, SlidingWindowCounter fallback,
+                                     LongSupplier clock) {
+        this.redisTemplate = Objects.requireNonNull(redisTemplate, "redisTemplate must not be null");
+        this.fallback = Objects.requireNonNull(fallback, "fallback must not be null");
+        this.clock = clock;
+    }
+
+    @Override
+    public double increment(String key, Duration window) {
+        try {
+            return count(key, window, 1);
+        }
+        catch (RuntimeException e) {
+            log.warn("Redis sliding window increment failed for {}, using local counter: {}", key, e.getMessage());
+            return fallback.increment(key, window);
+        }
+    }
+
+    @Override
+    public double estimate(String key, Duration window) {
+        try {
+            return count(key, window, 0);
+        }
+        catch (RuntimeException e) {
+            log.warn("Redis sliding window read failed for {}, using local counter: {}", key, e.getMessage());
+            return fallback.estimate(key, window);
+        }
+    }
+
+    @Override
+    public void reset(String key, Duration window) {
+        long windowMillis = window.toMillis();
+        long start = bucketStart(clock.getAsLong(), windowMillis);
+        try {
+            redisTemplate.delete(List.of(bucketKey(key, start), bucketKey(key, start - windowMillis)));
+        }
+        catch (RuntimeException e) {
+            log.warn("Redis sliding window reset failed for {}: {}", key, e.getMessage());
+        }
+        fallback.reset(key, window);
+    }
+
+    @Override
+    public int purgeExpired() {
+        return fallback.purgeExpired();
+    }
+
+    private double count(String key, Duration window, long delta) {
+        long windowMillis = window.toMillis();
+        long now = clock.getAsLong();
+        long start = bucketStart(now, windowMillis);
+        List<?> counts = redisTemplate.execute(COUNT_SCRIPT,
+                List.of(bucketKey(key, start), bucketKey(key, start - windowMillis)),
+                Long.toString(delta), Long.toString(2 * windowMillis));
+        if (counts == null || counts.size() < 2) {
+            throw new IllegalStateException("Unexpected sliding window script result: " + counts);
+        }
+        double weight = 1.0 - (double) (now - start) / windowMillis;
+        return ((Number) counts.get(1)).longValue() * weight + ((Number) counts.get(0)).longValue();
+    }
+
+    private static long bucketStart(long now, long windowMillis) {
+        return now - Math.floorMod(now, windowMillis);
+    }
+
+    static String bucketKey(String key, long bucketStart) {
+        return "{" + key + "}:" + bucketStart;
+    }
+}
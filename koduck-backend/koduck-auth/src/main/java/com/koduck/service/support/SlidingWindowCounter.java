@@ -0,0 +1,50 @@
+package com.koduck.service.support;
+
+import java.time.Duration;
+
+/**
+ * 滑动窗口计数器。
+ *
+ * <p>时间按窗口长度切成固定桶，只保存当前桶和上一个桶的计数，估算值为
+ * {@code 上一个桶 × (1 - 当前桶已过时间 / 窗口) + 当前桶}。与精确的滑动日志相比，
+ * 每个键只占两个计数，误差来自假设上一个桶内的事件均匀分布。</p>
+ *
+ * @author Koduck Team
+ */
+public interface SlidingWindowCounter {
+
+    /**
+     * 计数加一并返回加一后的估算值。
+     *
+     * @param key    计数键
+     * @param window 窗口长度
+     * @return 窗口内的估算次数
+     */
+    double increment(String key, Duration window);
+
+    /**
+     * 返回估算值，不修改计数。
+     *
+     * @param key    计数键
+     * @param window 窗口长度
+     * @return 窗口内的估算次数
+     */
+    double estimate(String key, Duration window);
+
+    /**
+     * 清零计数。
+     *
+     * @param key    计数键
+     * @param window 窗口长度
+     */
+    void reset(String key, Duration window);
+
+    /**
+     * 清理已经过期的计数。
+     *
+     * @return 清理的键数
+     */
+    default int purgeExpired() {
+        return 0;
+    }
+}
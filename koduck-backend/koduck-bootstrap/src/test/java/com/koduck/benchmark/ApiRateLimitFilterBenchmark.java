@@ -0,0 +1,122 @@
+package com.koduck.benchmark;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.koduck.infrastructure.config.properties.ApiRateLimitProperties;
+import com.koduck.security.ratelimit.ApiRateLimitFilter;
+import com.koduck.security.ratelimit.LocalTokenBucketLimiter;
+
+/**
+ * Per-request overhead of {@link ApiRateLimitFilter} with local token buckets.
+ * Runs the filter against mock requests from 10,000 client IPs with the default rule set; buckets are large
+ * enough that every request is admitted, so the measured cost is path matching, key building and one bucket
+ * update. The target is under 50 µs per request.
+ *
+ * @author Koduck Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ApiRateLimitFilterBenchmark {
+
+    /** Distinct client IPs. */
+    private static final int IPS = 10_000;
+
+    /** Filter chain that does nothing. */
+    private static final FilterChain NOOP_CHAIN = (request, response) -> { };
+
+    /** Filter under test. */
+    private ApiRateLimitFilter filter;
+
+    /** Client IPs. */
+    private String[] ips;
+
+    /**
+     * Setup method - creates the filter with the default rules and large buckets.
+     */
+    @Setup
+    public void setup() {
+        ApiRateLimitProperties properties = new ApiRateLimitProperties();
+        properties.setRules(List.of(
+                rule("kline", "/api/v1/market/stocks/{symbol}/kline", List.of()),
+                rule("kline-legacy", "/api/v1/kline/**", List.of()),
+                rule("backtest-submit", "/api/v1/backtest/**", List.of("POST")),
+                rule("ai-chat", "/api/v1/ai/chat/**", List.of()),
+                rule("search", "/api/v1/market/search", List.of()),
+                rule("a-share-search", "/api/v1/a-share/search", List.of())));
+        filter = new ApiRateLimitFilter(properties, new LocalTokenBucketLimiter(), new ObjectMapper());
+        ips = new String[IPS];
+        for (int i = 0; i < IPS; i++) {
+            ips[i] = "10.0." + (i >> 8) + "." + (i & 0xFF);
+        }
+    }
+
+    /**
+     * Benchmark a request that matches no rule.
+     *
+     * @return response status
+     * @throws IOException      never
+     * @throws ServletException never
+     */
+    @Benchmark
+    public int testUnmatchedPath() throws IOException, ServletException {
+        return run("GET", "/api/v1/portfolio/summary");
+    }
+
+    /**
+     * Benchmark a request that matches the last rule and takes a token.
+     *
+     * @return response status
+     * @throws IOException      never
+     * @throws ServletException never
+     */
+    @Benchmark
+    public int testMatchedPath() throws IOException, ServletException {
+        return run("GET", "/api/v1/a-share/search");
+    }
+
+    private int run(String method, String uri) throws IOException, ServletException {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(ips[ThreadLocalRandom.current().nextInt(IPS)]);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, NOOP_CHAIN);
+        return response.getStatus();
+    }
+
+    private static ApiRateLimitProperties.Rule rule(String name, String pattern, List<String> methods) {
+        ApiRateLimitProperties.Rule rule = new ApiRateLimitProperties.Rule();
+        rule.setName(name);
+        rule.setPattern(pattern);
+        rule.setMethods(methods);
+        rule.setCapacity(1_000_000_000L);
+        rule.setRefillTokens(1_000_000_000L);
+        rule.setRefillPeriod(Duration.ofSeconds(1));
+        return rule;
+    }
+}
@@ -0,0 +1,199 @@
+package com.koduck.benchmark;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.koduck.infrastructure.cache.codec.CacheCodecRegistry;
+import com.koduck.infrastructure.cache.codec.CacheValueFormat;
+import com.koduck.infrastructure.cache.codec.VersionedCacheSerializer;
+import com.koduck.market.cache.KlineDataCacheCodec;
+import com.koduck.market.cache.TickDataCacheCodec;
+import com.koduck.market.model.KlineData;
+import com.koduck.market.model.TickData;
+
+/**
+ * Cache value serializer benchmark.
+ * Encodes and decodes a 240-bar kline list and a single tick with the JSON serializer built by
+ * {@code CacheConfig} and with the binary format of {@link VersionedCacheSerializer}.
+ * Payload sizes are printed once per trial.
+ *
+ * @author Koduck Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class CacheValueSerializerBenchmark {
+
+    /** Bars in the kline list, one trading day of minute bars. */
+    private static final int BARS = 240;
+
+    /** JSON serializer configured like {@code CacheConfig}. */
+    private GenericJackson2JsonRedisSerializer jsonSerializer;
+
+    /** Binary serializer with the market codecs. */
+    private VersionedCacheSerializer binarySerializer;
+
+    /** Kline list payload. */
+    private List<KlineData> klines;
+
+    /** Tick payload. */
+    private TickData tick;
+
+    /** Encoded kline list, JSON. */
+    private byte[] klinesJson;
+
+    /** Encoded kline list, binary. */
+    private byte[] klinesBinary;
+
+    /** Encoded tick, JSON. */
+    private byte[] tickJson;
+
+    /** Encoded tick, binary. */
+    private byte[] tickBinary;
+
+    /**
+     * Setup method - builds the serializers and payloads and reports the encoded sizes.
+     */
+    @Setup
+    public void setup() {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        jsonSerializer = new GenericJackson2JsonRedisSerializer(mapper);
+        CacheCodecRegistry registry = new CacheCodecRegistry(
+                List.of(new KlineDataCacheCodec(), new TickDataCacheCodec()));
+        binarySerializer = new VersionedCacheSerializer(jsonSerializer, registry, CacheValueFormat.BINARY);
+
+        Random random = new Random(42L);
+        klines = new ArrayList<>(BARS);
+        for (int i = 0; i < BARS; i++) {
+            long close = 168_000 + random.nextInt(2_000);
+            klines.add(new KlineData("600519", "AShare", Instant.ofEpochSecond(1_760_000_000L + i * 60L),
+                    BigDecimal.valueOf(close, 2), BigDecimal.valueOf(close + 150, 2),
+                    BigDecimal.valueOf(close - 120, 2), BigDecimal.valueOf(close + 30, 2),
+                    1_000L + random.nextInt(100_000), BigDecimal.valueOf(random.nextInt(1_000_000_000), 2), "1m"));
+        }
+        tick = TickData.builder()
+                .symbol("600519").market("AShare").timestamp(Instant.parse("2026-10-16T06:59:58.120Z"))
+                .price(new BigDecimal("1688.50")).change(new BigDecimal("12.30"))
+                .changePercent(new BigDecimal("0.73")).volume(2_345_678L).amount(new BigDecimal("3958123456.78"))
+                .bidPrice(new BigDecimal("1688.49")).bidVolume(300L)
+                .askPrice(new BigDecimal("1688.50")).askVolume(500L)
+                .dayHigh(new BigDecimal("1699.00")).dayLow(new BigDecimal("1671.20"))
+                .open(new BigDecimal("1676.00")).prevClose(new BigDecimal("1676.20"))
+                .build();
+
+        klinesJson = jsonSerializer.serialize(klines);
+        klinesBinary = binarySerializer.serialize(klines);
+        tickJson = jsonSerializer.serialize(tick);
+        tickBinary = binarySerializer.serialize(tick);
+        System.out.printf("kline x%d bytes: json=%d binary=%d; tick bytes: json=%d binary=%d%n",
+                BARS, klinesJson.length, klinesBinary.length, tickJson.length, tickBinary.length);
+    }
+
+    /**
+     * Benchmark JSON encoding of the kline list.
+     *
+     * @return encoded bytes
+     */
+    @Benchmark
+    public byte[] testEncodeKlinesJson() {
+        return jsonSerializer.serialize(klines);
+    }
+
+    /**
+     * Benchmark binary encoding of the kline list.
+     *
+     * @return encoded bytes
+     */
+    @Benchmark
+    public byte[] testEncodeKlinesBinary() {
+        return binarySerializer.serialize(klines);
+    }
+
+    /**
+     * Benchmark JSON decoding of the kline list.
+     *
+     * @return decoded value
+     */
+    @Benchmark
+    public Object testDecodeKlinesJson() {
+        return jsonSerializer.deserialize(klinesJson);
+    }
+
+    /**
+     * Benchmark binary decoding of the kline list.
+     *
+     * @return decoded value
+     */
+    @Benchmark
+    public Object testDecodeKlinesBinary() {
+        return binarySerializer.deserialize(klinesBinary);
+    }
+
+    /**
+     * Benchmark JSON encoding of one tick.
+     *
+     * @return encoded bytes
+     */
+    @Benchmark
+    public byte[] testEncodeTickJson() {
+        return jsonSerializer.serialize(tick);
+    }
+
+    /**
+     * Benchmark binary encoding of one tick.
+     *
+     * @return encoded bytes
+     */
+    @Benchmark
+    public byte[] testEncodeTickBinary() {
+        return binarySerializer.serialize(tick);
+    }
+
+    /**
+     * Benchmark JSON decoding of one tick.
+     *
+     * @return decoded value
+     */
+    @Benchmark
+    public Object testDecodeTickJson() {
+        return jsonSerializer.deserialize(tickJson);
+    }
+
+    /**
+     * Benchmark binary decoding of one tick.
+     *
+     * @return decoded value
+     */
+    @Benchmark
+    public Object testDecodeTickBinary() {
+        return binarySerializer.deserialize(tickBinary);
+    }
+}
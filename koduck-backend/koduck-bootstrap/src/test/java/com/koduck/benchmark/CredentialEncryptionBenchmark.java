@@ -0,0 +1,102 @@
+package com.koduck.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.koduck.util.CredentialEncryptionUtil;
+
+/**
+ * Encrypt/decrypt throughput of {@link CredentialEncryptionUtil} with 4 threads.
+ * Decryption is measured with the decrypted-value cache disabled (pooled ciphers only) and enabled, over
+ * 100 stored credentials that all fit in the cache.
+ *
+ * @author Koduck Team
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class CredentialEncryptionBenchmark {
+
+    /** Stored credentials. */
+    private static final int CREDENTIALS = 100;
+
+    /** Typical API secret. */
+    private static final String SECRET = "sk-live-4f9c2a7e1b3d5f8a0c6e2b4d7f9a1c3e";
+
+    /** Utility without the decrypted-value cache. */
+    private CredentialEncryptionUtil uncached;
+
+    /** Utility with the decrypted-value cache. */
+    private CredentialEncryptionUtil cached;
+
+    /** Stored ciphertexts. */
+    private String[] payloads;
+
+    /**
+     * Setup method - creates both utilities and the stored ciphertexts.
+     */
+    @Setup
+    public void setup() {
+        uncached = create(0L);
+        cached = create(60_000L);
+        payloads = new String[CREDENTIALS];
+        for (int i = 0; i < CREDENTIALS; i++) {
+            payloads[i] = uncached.encrypt(SECRET + i);
+        }
+    }
+
+    /**
+     * Benchmark encryption with a pooled cipher.
+     *
+     * @return ciphertext
+     */
+    @Benchmark
+    public String testEncrypt() {
+        return uncached.encrypt(SECRET);
+    }
+
+    /**
+     * Benchmark decryption with a pooled cipher.
+     *
+     * @return plain text
+     */
+    @Benchmark
+    public String testDecrypt() {
+        return uncached.decrypt(payloads[ThreadLocalRandom.current().nextInt(CREDENTIALS)]);
+    }
+
+    /**
+     * Benchmark decryption served from the decrypted-value cache.
+     *
+     * @return plain text
+     */
+    @Benchmark
+    public String testDecryptCached() {
+        return cached.decrypt(payloads[ThreadLocalRandom.current().nextInt(CREDENTIALS)]);
+    }
+
+    private static CredentialEncryptionUtil create(long cacheTtlMs) {
+        CredentialEncryptionUtil util = new CredentialEncryptionUtil();
+        ReflectionTestUtils.setField(util, "encryptionKeyFromConfig", "benchmark-encryption-key");
+        ReflectionTestUtils.setField(util, "decryptCacheTtlMs", cacheTtlMs);
+        util.init();
+        return util;
+    }
+}
@@ -0,0 +1,135 @@
+package com.koduck.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.koduck.community.service.support.FeedEntry;
+import com.koduck.community.service.support.LocalFeedStore;
+
+/**
+ * Follower feed read benchmark.
+ * A reader follows {@code authors} authors, each with 200 recent signals in an in-memory outbox. Compares the
+ * read-time pull (take each author's newest page and merge) with reading the precomputed timeline that
+ * {@code FeedServiceImpl} maintains by fan-out on publish, and measures one fan-out to 1,000 followers.
+ * Both read paths run against {@link LocalFeedStore}, so the pull path is a lower bound: in production it is
+ * a database query per page.
+ *
+ * @author Koduck Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class FeedTimelineBenchmark {
+
+    /** Recent signals kept per author. */
+    private static final int OUTBOX_SIZE = 200;
+
+    /** Entries kept per timeline. */
+    private static final int TIMELINE_SIZE = 800;
+
+    /** Followers written by one fan-out. */
+    private static final int FOLLOWERS = 1_000;
+
+    /** Page size. */
+    private static final int PAGE_SIZE = 20;
+
+    /** Reader. */
+    private static final Long READER_ID = 1L;
+
+    /** Authors followed by the reader. */
+    @Param({"50", "500"})
+    private int authors;
+
+    /** Store holding the outboxes and the reader's timeline. */
+    private LocalFeedStore store;
+
+    /** Follower IDs for the fan-out test. */
+    private List<Long> followers;
+
+    /** Next signal ID for the fan-out test. */
+    private long nextSignalId;
+
+    /**
+     * Setup method - fills the outboxes and builds the reader's timeline from them.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        store = new LocalFeedStore(TIMELINE_SIZE, OUTBOX_SIZE);
+        Random random = new Random(42);
+        long now = System.currentTimeMillis();
+        long signalId = 0;
+        List<FeedEntry> all = new ArrayList<>(authors * OUTBOX_SIZE);
+        for (long author = 1; author <= authors; author++) {
+            List<FeedEntry> outbox = new ArrayList<>(OUTBOX_SIZE);
+            for (int i = 0; i < OUTBOX_SIZE; i++) {
+                outbox.add(new FeedEntry(++signalId, author, now - random.nextInt(30 * 24 * 3600) * 1000L));
+            }
+            store.publish(author, outbox);
+            all.addAll(outbox);
+        }
+        store.addAll(READER_ID, all);
+        followers = new ArrayList<>(FOLLOWERS);
+        for (long follower = 2; follower < FOLLOWERS + 2; follower++) {
+            store.addAll(follower, List.of());
+            followers.add(follower);
+        }
+        nextSignalId = signalId;
+    }
+
+    /**
+     * Benchmark the read-time pull: newest page of every followed author, merged.
+     *
+     * @return entries on the page
+     */
+    @Benchmark
+    public List<FeedEntry> testPullMerge() {
+        List<FeedEntry> merged = new ArrayList<>(authors * PAGE_SIZE);
+        for (long author = 1; author <= authors; author++) {
+            merged.addAll(store.outbox(author, Long.MAX_VALUE, PAGE_SIZE));
+        }
+        merged.sort(FeedEntry.NEWEST_FIRST);
+        return merged.subList(0, Math.min(PAGE_SIZE, merged.size()));
+    }
+
+    /**
+     * Benchmark reading the precomputed timeline.
+     *
+     * @return entries on the page
+     */
+    @Benchmark
+    public List<FeedEntry> testPrecomputedTimeline() {
+        return store.timeline(READER_ID, Long.MAX_VALUE, PAGE_SIZE);
+    }
+
+    /**
+     * Benchmark writing one new signal to 1,000 follower timelines.
+     *
+     * @return signal written
+     */
+    @Benchmark
+    public long testFanOut() {
+        long signalId = ++nextSignalId;
+        store.push(followers, new FeedEntry(signalId, 1L, System.currentTimeMillis()));
+        return signalId;
+    }
+}
@@ -0,0 +1,120 @@
+package com.koduck.benchmark;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.koduck.market.service.support.LeaderboardIndex;
+
+/**
+ * Hot stock leaderboard benchmark.
+ * Compares reading the top 50 gainers from an incrementally maintained {@link LeaderboardIndex}
+ * with re-sorting a 5,000-symbol universe, and measures the cost of one quote update.
+ *
+ * @author Koduck Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class HotStockLeaderboardBenchmark {
+
+    /** Universe size, roughly the A-share market. */
+    private static final int SYMBOLS = 5_000;
+
+    /** Leaderboard length. */
+    private static final int LIMIT = 50;
+
+    /** Incrementally maintained change-percent leaderboard. */
+    private LeaderboardIndex index;
+
+    /** Symbol codes. */
+    private String[] symbols;
+
+    /** Latest change percent per symbol, the input of the full re-sort. */
+    private double[] changePercent;
+
+    /** Random quote source. */
+    private Random random;
+
+    /** Next symbol updated by the update benchmark. */
+    private int cursor;
+
+    /**
+     * Setup method - loads a random change-percent universe.
+     */
+    @Setup
+    public void setup() {
+        random = new Random(42L);
+        index = new LeaderboardIndex();
+        symbols = new String[SYMBOLS];
+        changePercent = new double[SYMBOLS];
+        for (int i = 0; i < SYMBOLS; i++) {
+            symbols[i] = String.format("%06d", i);
+            changePercent[i] = nextChangePercent();
+            index.update(symbols[i], changePercent[i]);
+        }
+    }
+
+    /**
+     * Benchmark reading the top gainers from the leaderboard, O(K).
+     *
+     * @return number of ranked symbols
+     */
+    @Benchmark
+    public int testLeaderboardTop() {
+        return index.top(LIMIT).size();
+    }
+
+    /**
+     * Benchmark the previous approach: sort the whole universe and take the head.
+     *
+     * @return number of ranked symbols
+     */
+    @Benchmark
+    public int testFullResort() {
+        List<Integer> slots = new ArrayList<>(SYMBOLS);
+        for (int i = 0; i < SYMBOLS; i++) {
+            slots.add(i);
+        }
+        slots.sort(Comparator.comparingDouble((Integer slot) -> changePercent[slot]).reversed());
+        List<String> top = new ArrayList<>(LIMIT);
+        for (int i = 0; i < LIMIT; i++) {
+            top.add(symbols[slots.get(i)]);
+        }
+        return top.size();
+    }
+
+    /**
+     * Benchmark merging one realtime quote into the leaderboard, O(log n).
+     *
+     * @return whether the leaderboard changed
+     */
+    @Benchmark
+    public boolean testApplyQuote() {
+        int slot = cursor;
+        cursor = (slot + 1) % SYMBOLS;
+        return index.update(symbols[slot], nextChangePercent());
+    }
+
+    private double nextChangePercent() {
+        return Math.round(random.nextGaussian() * 300) / 100.0;
+    }
+}
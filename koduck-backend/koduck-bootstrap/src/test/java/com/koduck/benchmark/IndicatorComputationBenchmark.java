@@ -0,0 +1,120 @@
+package com.koduck.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.koduck.market.service.support.IncrementalIndicator;
+import com.koduck.market.service.support.IndicatorKernels;
+import com.koduck.market.service.support.IndicatorType;
+
+/**
+ * Technical indicator computation benchmark.
+ * Compares the cost of producing the indicator value for one new bar by
+ * incremental state updates against a full recompute over the history.
+ *
+ * @author Koduck Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class IndicatorComputationBenchmark {
+
+    /** Indicator period used for all indicators except MACD. */
+    private static final int PERIOD = 20;
+
+    /** Indicator under test. */
+    @Param({"SMA", "EMA", "MACD", "RSI", "KDJ", "BOLL"})
+    private String indicator;
+
+    /** Number of historical bars. */
+    @Param({"250", "1000"})
+    private int bars;
+
+    /** Parsed indicator type. */
+    private IndicatorType type;
+
+    /** High prices. */
+    private double[] high;
+
+    /** Low prices. */
+    private double[] low;
+
+    /** Close prices. */
+    private double[] close;
+
+    /** Incremental state pre-warmed with the full history. */
+    private IncrementalIndicator incremental;
+
+    /** Output buffer. */
+    private double[] out;
+
+    /** Next bar index replayed by the incremental benchmark. */
+    private int cursor;
+
+    /**
+     * Setup method - generates a random walk and warms up the incremental state.
+     */
+    @Setup
+    public void setup() {
+        type = IndicatorType.valueOf(indicator);
+        Random random = new Random(42L);
+        high = new double[bars];
+        low = new double[bars];
+        close = new double[bars];
+        double price = 100.0;
+        for (int i = 0; i < bars; i++) {
+            price = Math.max(1.0, price * (1.0 + (random.nextDouble() - 0.5) * 0.04));
+            close[i] = price;
+            high[i] = price * (1.0 + random.nextDouble() * 0.02);
+            low[i] = price * (1.0 - random.nextDouble() * 0.02);
+        }
+        incremental = IncrementalIndicator.create(type, PERIOD);
+        for (int i = 0; i < bars; i++) {
+            incremental.push(high[i], low[i], close[i]);
+        }
+        out = new double[type.outputCount()];
+    }
+
+    /**
+     * Benchmark one new bar through incremental state: evaluate the forming
+     * bar, then commit it once it closes.
+     *
+     * @return first indicator value
+     */
+    @Benchmark
+    public double testIncrementalUpdate() {
+        int i = cursor;
+        cursor = (i + 1) % bars;
+        incremental.peek(high[i], low[i], close[i], out);
+        incremental.push(high[i], low[i], close[i]);
+        return out[0];
+    }
+
+    /**
+     * Benchmark one new bar by recomputing the indicator over the full history.
+     *
+     * @return first indicator value
+     */
+    @Benchmark
+    public double testFullRecompute() {
+        IndicatorKernels.evaluate(type, PERIOD, high, low, close, bars, out);
+        return out[0];
+    }
+}
@@ -0,0 +1,116 @@
+package com.koduck.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.koduck.infrastructure.config.JwtConfig;
+import com.koduck.security.AuthenticationCache;
+import com.koduck.util.JwtUtil;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Per-request JWT authentication overhead benchmark.
+ * Compares the previous filter path (derive the HMAC key, verify the token, then derive and verify
+ * again to read the subject) with a cache miss on the cached signing parser and a hit in
+ * {@link AuthenticationCache}. The principal lookup is not included; before this change every request
+ * also paid one {@code loadUserByUsername} database round trip, which a cache hit avoids.
+ *
+ * @author Koduck Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class JwtAuthenticationBenchmark {
+
+    /** Signing secret. */
+    private static final String SECRET = "benchmark-secret-key-for-jwt-signing-at-least-32-characters";
+
+    /** JWT configuration. */
+    private JwtConfig jwtConfig;
+
+    /** JWT utility with the cached signing parser. */
+    private JwtUtil jwtUtil;
+
+    /** Verified token cache. */
+    private AuthenticationCache authenticationCache;
+
+    /** Access token. */
+    private String token;
+
+    /**
+     * Setup method - issues a token and caches its principal.
+     */
+    @Setup
+    public void setup() {
+        jwtConfig = new JwtConfig();
+        jwtConfig.setSecret(SECRET);
+        jwtConfig.getAuthCache().setEnabled(true);
+        jwtUtil = new JwtUtil(jwtConfig);
+        authenticationCache = new AuthenticationCache(jwtConfig);
+        token = jwtUtil.generateAccessToken(42L, "alice", "alice@example.com");
+        Claims claims = jwtUtil.parseValidToken(token).orElseThrow();
+        UserDetails principal = new User("42", "", List.of());
+        authenticationCache.put(token, 42L, principal, claims.getExpiration().toInstant(),
+                authenticationCache.epoch());
+    }
+
+    /**
+     * Benchmark the previous path: two key derivations and two signature verifications per request.
+     *
+     * @return user id
+     */
+    @Benchmark
+    public Long testUncachedValidateThenParse() {
+        parseWithFreshKey(token);
+        return Long.valueOf(parseWithFreshKey(token).getSubject());
+    }
+
+    /**
+     * Benchmark a cache miss: one verification with the cached parser.
+     *
+     * @return user id
+     */
+    @Benchmark
+    public Long testCachedParserSingleParse() {
+        return Long.valueOf(jwtUtil.parseValidToken(token).orElseThrow().getSubject());
+    }
+
+    /**
+     * Benchmark a cache hit: hash the token and look up the principal.
+     *
+     * @return cached principal
+     */
+    @Benchmark
+    public UserDetails testCacheHit() {
+        return authenticationCache.get(token);
+    }
+
+    private Claims parseWithFreshKey(String jwt) {
+        SecretKey key = Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(jwt).getPayload();
+    }
+}
@@ -0,0 +1,246 @@
+package com.koduck.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.koduck.infrastructure.config.properties.RateLimitProperties;
+import com.koduck.repository.auth.LoginAttemptRepository;
+import com.koduck.service.impl.auth.LoginRateLimiterImpl;
+import com.koduck.service.support.InMemorySlidingWindowCounter;
+import com.koduck.service.support.LoginAttemptAuditWriter;
+
+/**
+ * Login throttling benchmark under a credential-stuffing pattern: many IPs, many accounts.
+ * Compares the previous check, two {@code COUNT} queries against {@code login_attempts} with the V1 indexes
+ * over 200,000 seeded rows, with {@link LoginRateLimiterImpl} on the in-memory sliding window counter.
+ * Each limiter invocation checks and records one failure; audit rows are queued and discarded.
+ * The COUNT benchmark requires a PostgreSQL at {@code BENCH_JDBC_URL}
+ * (default {@code jdbc:postgresql://localhost:5432/koduck_dev})
+ * with {@code BENCH_JDBC_USER}/{@code BENCH_JDBC_PASSWORD}.
+ *
+ * @author Koduck Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class LoginRateLimiterBenchmark {
+
+    /** Distinct source IPs. */
+    private static final int IPS = 10_000;
+
+    /** Distinct accounts. */
+    private static final int ACCOUNTS = 50_000;
+
+    /** Rows seeded into the scratch audit table. */
+    private static final int SEEDED_ROWS = 200_000;
+
+    /** Scratch table. */
+    private static final String TABLE = "bench_login_attempts";
+
+    /** Previous per-account failure count. */
+    private static final String COUNT_BY_IDENTIFIER_SQL = "SELECT COUNT(*) FROM " + TABLE
+            + " WHERE identifier = ? AND type = ? AND success = FALSE AND created_at > ?";
+
+    /** Previous per-IP failure count. */
+    private static final String COUNT_BY_IP_SQL = "SELECT COUNT(*) FROM " + TABLE
+            + " WHERE ip_address = ? AND success = FALSE AND created_at > ?";
+
+    /**
+     * Shared limiter.
+     */
+    @State(Scope.Benchmark)
+    public static class LimiterState {
+
+        /** Limiter under test. */
+        private LoginRateLimiterImpl limiter;
+
+        /** Audit writer, drained every iteration. */
+        private LoginAttemptAuditWriter auditWriter;
+
+        /**
+         * Setup method - creates the limiter with limits high enough that every attempt is recorded.
+         */
+        @Setup(Level.Trial)
+        public void setup() {
+            RateLimitProperties properties = new RateLimitProperties(
+                    new RateLimitProperties.LoginFailure(Integer.MAX_VALUE, Integer.MAX_VALUE, Duration.ofMinutes(15)),
+                    new RateLimitProperties.PasswordReset());
+            auditWriter = new LoginAttemptAuditWriter(discardingRepository(), 500, 1_000_000);
+            limiter = new LoginRateLimiterImpl(new InMemorySlidingWindowCounter(), auditWriter, properties);
+        }
+
+        /**
+         * Drains the audit queue between iterations.
+         */
+        @TearDown(Level.Iteration)
+        public void drain() {
+            auditWriter.flush();
+        }
+    }
+
+    /**
+     * Per-thread JDBC connection with prepared COUNT statements.
+     */
+    @State(Scope.Thread)
+    public static class DatabaseState {
+
+        /** JDBC connection. */
+        private Connection connection;
+
+        /** Per-account count. */
+        private PreparedStatement countByIdentifier;
+
+        /** Per-IP count. */
+        private PreparedStatement countByIp;
+
+        /**
+         * Setup method - seeds the scratch table once and prepares the statements.
+         *
+         * @throws SQLException if the database is unavailable
+         */
+        @Setup(Level.Trial)
+        public void setup() throws SQLException {
+            connection = DriverManager.getConnection(
+                    System.getenv().getOrDefault("BENCH_JDBC_URL", "jdbc:postgresql://localhost:5432/koduck_dev"),
+                    System.getenv().getOrDefault("BENCH_JDBC_USER", "koduck"),
+                    System.getenv().getOrDefault("BENCH_JDBC_PASSWORD", "koduck"));
+            seed(connection);
+            countByIdentifier = connection.prepareStatement(COUNT_BY_IDENTIFIER_SQL);
+            countByIp = connection.prepareStatement(COUNT_BY_IP_SQL);
+        }
+
+        /**
+         * Teardown method - closes the connection.
+         *
+         * @throws SQLException if the database is unavailable
+         */
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            connection.close();
+        }
+    }
+
+    /**
+     * Benchmark the previous check: one COUNT per account and one per IP.
+     *
+     * @param state database state
+     * @return combined failure count
+     * @throws SQLException if a query fails
+     */
+    @Benchmark
+    public long testCountQueries(DatabaseState state) throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Timestamp since = Timestamp.valueOf(LocalDateTime.now().minusMinutes(15));
+        state.countByIdentifier.setString(1, account(random.nextInt(ACCOUNTS)));
+        state.countByIdentifier.setString(2, "ACCOUNT");
+        state.countByIdentifier.setTimestamp(3, since);
+        state.countByIp.setString(1, ip(random.nextInt(IPS)));
+        state.countByIp.setTimestamp(2, since);
+        return count(state.countByIdentifier) + count(state.countByIp);
+    }
+
+    /**
+     * Benchmark the sliding window limiter: check, then record a failure.
+     *
+     * @param state limiter state
+     * @return whether the attempt was allowed
+     */
+    @Benchmark
+    public boolean testSlidingWindowLimiter(LimiterState state) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String account = account(random.nextInt(ACCOUNTS));
+        String ip = ip(random.nextInt(IPS));
+        boolean allowed = state.limiter.allowLoginAttempt(account, ip);
+        state.limiter.recordLoginFailure(account, ip, "bench");
+        return allowed;
+    }
+
+    private static void seed(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " (id BIGSERIAL PRIMARY KEY, "
+                    + "identifier VARCHAR(100) NOT NULL, type VARCHAR(20) NOT NULL, ip_address VARCHAR(45), "
+                    + "user_agent VARCHAR(500), success BOOLEAN NOT NULL DEFAULT FALSE, "
+                    + "created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+            try (ResultSet rows = statement.executeQuery("SELECT COUNT(*) FROM " + TABLE)) {
+                rows.next();
+                if (rows.getLong(1) >= SEEDED_ROWS) {
+                    return;
+                }
+            }
+            statement.execute("TRUNCATE " + TABLE);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + TABLE
+                + " (identifier, type, ip_address, user_agent, success, created_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < SEEDED_ROWS; i++) {
+                insert.setString(1, account(i % ACCOUNTS));
+                insert.setString(2, "ACCOUNT");
+                insert.setString(3, ip(i % IPS));
+                insert.setString(4, "bench");
+                insert.setBoolean(5, i % 20 == 0);
+                insert.setTimestamp(6, Timestamp.valueOf(now.minusSeconds(i % 3_600)));
+                insert.addBatch();
+                if (i % 1_000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE INDEX IF NOT EXISTS " + TABLE + "_identifier_type ON " + TABLE
+                    + " (identifier, type)");
+            statement.execute("CREATE INDEX IF NOT EXISTS " + TABLE + "_created_at ON " + TABLE + " (created_at)");
+            statement.execute("ANALYZE " + TABLE);
+        }
+    }
+
+    private static long count(PreparedStatement query) throws SQLException {
+        try (ResultSet rows = query.executeQuery()) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    private static String account(int index) {
+        return "victim" + index + "@example.com";
+    }
+
+    private static String ip(int index) {
+        return "10." + (index >> 16) + "." + (index >> 8 & 0xFF) + "." + (index & 0xFF);
+    }
+
+    private static LoginAttemptRepository discardingRepository() {
+        return (LoginAttemptRepository) Proxy.newProxyInstance(
+                LoginAttemptRepository.class.getClassLoader(),
+                new Class<?>[] {LoginAttemptRepository.class},
+                (proxy, method, args) -> "saveAll".equals(method.getName()) ? List.of() : null);
+    }
+}
@@ -0,0 +1,102 @@
+package com.koduck.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.koduck.portfolio.entity.TradeType;
+import com.koduck.portfolio.repository.TradeReplayRow;
+import com.koduck.portfolio.service.support.CostBasisMethod;
+import com.koduck.portfolio.service.support.LotReplay;
+
+/**
+ * Lot accounting replay benchmark.
+ * Replays 1,000,000 trades of 10,000 users (20 symbols each, roughly two buys per sell) through
+ * {@link LotReplay} in (user, trade time) order, the shape streamed by
+ * {@code TradeRepository#streamAllReplayRows}. Database read time is not included.
+ *
+ * @author Koduck Team
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class LotReplayBenchmark {
+
+    /** Users. */
+    private static final int USERS = 10_000;
+
+    /** Trades per user. */
+    private static final int TRADES_PER_USER = 100;
+
+    /** Symbols per user. */
+    private static final int SYMBOLS = 20;
+
+    /** Cost basis method. */
+    @Param({"FIFO", "LIFO"})
+    private CostBasisMethod method;
+
+    /** Trades ordered by user and trade time. */
+    private TradeReplayRow[] trades;
+
+    /**
+     * Setup method - generates the trade history.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(42L);
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 9, 30);
+        trades = new TradeReplayRow[USERS * TRADES_PER_USER];
+        int next = 0;
+        for (long user = 1; user <= USERS; user++) {
+            long[] held = new long[SYMBOLS];
+            for (int i = 0; i < TRADES_PER_USER; i++) {
+                int slot = random.nextInt(SYMBOLS);
+                BigDecimal price = BigDecimal.valueOf(500 + random.nextInt(5_000), 2);
+                long quantity = 100L * (1 + random.nextInt(10));
+                TradeType type = TradeType.BUY;
+                if (held[slot] > 0 && random.nextInt(3) == 0) {
+                    type = TradeType.SELL;
+                    quantity = Math.min(quantity, held[slot]);
+                    held[slot] -= quantity;
+                }
+                else {
+                    held[slot] += quantity;
+                }
+                trades[next++] = new TradeReplayRow(user, "AShare", String.format("%06d", slot), type,
+                        BigDecimal.valueOf(quantity), price, start.plusMinutes(i * 30L));
+            }
+        }
+    }
+
+    /**
+     * Benchmark one full replay of the trade history.
+     *
+     * @return number of replayed users
+     */
+    @Benchmark
+    public int testReplayAll() {
+        LotReplay replay = new LotReplay(method, lots -> { });
+        for (TradeReplayRow trade : trades) {
+            replay.accept(trade);
+        }
+        return replay.finish();
+    }
+}
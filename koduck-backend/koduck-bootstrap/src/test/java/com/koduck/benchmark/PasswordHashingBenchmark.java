@@ -0,0 +1,105 @@
+package com.koduck.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.koduck.exception.PasswordHashingRejectedException;
+import com.koduck.infrastructure.config.properties.PasswordHashingProperties;
+import com.koduck.security.BoundedPasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Login password verification under a burst of 16 concurrent callers at BCrypt cost 10.
+ * Compares verifying on the caller thread with {@link BoundedPasswordEncoder} using 2 hashing threads and
+ * a queue of 8; the bounded encoder sheds the excess instead of letting every caller compete for CPU,
+ * so admitted verifications keep a stable latency.
+ *
+ * @author Koduck Team
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class PasswordHashingBenchmark {
+
+    /** BCrypt cost. */
+    private static final int STRENGTH = 10;
+
+    /** Password verified by every call. */
+    private static final String PASSWORD = "correct horse battery staple";
+
+    /** Encoder running BCrypt on the caller thread. */
+    private BCryptPasswordEncoder direct;
+
+    /** Encoder running BCrypt on the bounded executor. */
+    private BoundedPasswordEncoder bounded;
+
+    /** Stored hash. */
+    private String hash;
+
+    /**
+     * Setup method - creates both encoders and the stored hash.
+     */
+    @Setup
+    public void setup() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setStrength(STRENGTH);
+        properties.setThreads(2);
+        properties.setQueueCapacity(8);
+        properties.setTimeout(Duration.ofSeconds(5));
+        direct = new BCryptPasswordEncoder(STRENGTH);
+        bounded = new BoundedPasswordEncoder(properties, new SimpleMeterRegistry());
+        hash = direct.encode(PASSWORD);
+    }
+
+    /**
+     * Teardown method - stops the hashing threads.
+     */
+    @TearDown
+    public void tearDown() {
+        bounded.close();
+    }
+
+    /**
+     * Benchmark verification on the caller thread.
+     *
+     * @return whether the password matched
+     */
+    @Benchmark
+    public boolean testDirectMatches() {
+        return direct.matches(PASSWORD, hash);
+    }
+
+    /**
+     * Benchmark verification on the bounded executor; shed calls return immediately.
+     *
+     * @return whether the password matched, false when shed
+     */
+    @Benchmark
+    public boolean testBoundedMatches() {
+        try {
+            return bounded.matches(PASSWORD, hash);
+        }
+        catch (PasswordHashingRejectedException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.koduck.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.koduck.portfolio.service.support.PositionBook;
+
+/**
+ * Live portfolio valuation benchmark.
+ * 50,000 online users hold 10 of 3,000 symbols each. Compares merging one price tick through the
+ * symbol-to-holders index into resident {@link PositionBook}s with recomputing every online portfolio.
+ *
+ * @author Koduck Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class PortfolioValuationBenchmark {
+
+    /** Online users. */
+    private static final int USERS = 50_000;
+
+    /** Positions per user. */
+    private static final int POSITIONS = 10;
+
+    /** Universe size. */
+    private static final int SYMBOLS = 3_000;
+
+    /** Resident position books per user. */
+    private PositionBook[] books;
+
+    /** Symbol to holders, as maintained by the valuation service. */
+    private Map<String, List<Integer>> holders;
+
+    /** Held symbol slots per user, the input of the full recompute. */
+    private int[][] holdings;
+
+    /** Quantity per user and position. */
+    private BigDecimal[][] quantities;
+
+    /** Latest price per symbol slot. */
+    private BigDecimal[] prices;
+
+    /** Previous close per symbol slot. */
+    private BigDecimal[] previousCloses;
+
+    /** Symbol codes. */
+    private String[] symbols;
+
+    /** Random tick source. */
+    private Random random;
+
+    /**
+     * Setup method - loads 50,000 portfolios and the holders index.
+     */
+    @Setup
+    public void setup() {
+        random = new Random(42L);
+        symbols = new String[SYMBOLS];
+        prices = new BigDecimal[SYMBOLS];
+        previousCloses = new BigDecimal[SYMBOLS];
+        for (int i = 0; i < SYMBOLS; i++) {
+            symbols[i] = String.format("%06d", i);
+            previousCloses[i] = BigDecimal.valueOf(500 + random.nextInt(5_000), 2);
+            prices[i] = previousCloses[i];
+        }
+        books = new PositionBook[USERS];
+        holders = new HashMap<>();
+        holdings = new int[USERS][POSITIONS];
+        quantities = new BigDecimal[USERS][POSITIONS];
+        for (int user = 0; user < USERS; user++) {
+            books[user] = new PositionBook();
+            Set<Integer> held = new HashSet<>();
+            int position = 0;
+            while (position < POSITIONS) {
+                int slot = random.nextInt(SYMBOLS);
+                if (!held.add(slot)) {
+                    continue;
+                }
+                holdings[user][position] = slot;
+                quantities[user][position] = BigDecimal.valueOf(100L * (1 + random.nextInt(20)));
+                books[user].add("AShare", symbols[slot], quantities[user][position], prices[slot],
+                        prices[slot], previousCloses[slot]);
+                holders.computeIfAbsent(symbols[slot], key -> new ArrayList<>()).add(user);
+                position++;
+            }
+        }
+    }
+
+    /**
+     * Benchmark merging one tick into the books of its holders, O(holders of the symbol).
+     *
+     * @return number of revalued portfolios
+     */
+    @Benchmark
+    public int testTickIndexed() {
+        int slot = random.nextInt(SYMBOLS);
+        BigDecimal price = nextPrice(slot);
+        int changed = 0;
+        for (Integer user : holders.getOrDefault(symbols[slot], List.of())) {
+            if (books[user].applyPrice(symbols[slot], price, previousCloses[slot])) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Benchmark the naive approach: recompute market value and daily P&amp;L of every online portfolio.
+     *
+     * @return number of revalued portfolios
+     */
+    @Benchmark
+    public int testTickFullRecompute() {
+        int slot = random.nextInt(SYMBOLS);
+        prices[slot] = nextPrice(slot);
+        int revalued = 0;
+        for (int user = 0; user < USERS; user++) {
+            BigDecimal marketValue = BigDecimal.ZERO;
+            BigDecimal dailyPnl = BigDecimal.ZERO;
+            for (int position = 0; position < POSITIONS; position++) {
+                int held = holdings[user][position];
+                marketValue = marketValue.add(prices[held].multiply(quantities[user][position]));
+                dailyPnl = dailyPnl.add(prices[held].subtract(previousCloses[held])
+                        .multiply(quantities[user][position]));
+            }
+            if (marketValue.compareTo(dailyPnl) != 0) {
+                revalued++;
+            }
+        }
+        return revalued;
+    }
+
+    private BigDecimal nextPrice(int slot) {
+        long cents = previousCloses[slot].unscaledValue().longValue() + random.nextInt(101) - 50;
+        return BigDecimal.valueOf(Math.max(1L, cents), 2);
+    }
+}
@@ -0,0 +1,162 @@
+package com.koduck.benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.koduck.infrastructure.cache.RedisCacheLayer;
+import com.koduck.infrastructure.config.RedisConfig;
+
+/**
+ * RedisCacheLayer bulk operation benchmark.
+ * Replaces a 10,000-member set with the previous one-SADD-per-member loop and with the
+ * pipelined temp-key swap, and writes 1,000 values with per-key SET versus one pipelined multiSet.
+ * Requires a Redis at {@code REDIS_HOST}/{@code REDIS_PORT} (default {@code localhost:6379}).
+ *
+ * <p>Round trips per 10k-member replace: the loop issues DEL plus one SADD per member, 10,001 in total;
+ * the pipelined swap flushes DEL, 10 SADD batches, EXPIRE and the swap EVAL together, one round trip.</p>
+ *
+ * @author Koduck Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class RedisCacheLayerBenchmark {
+
+    /** Values written by the multi-set benchmarks. */
+    private static final int VALUES = 1_000;
+
+    /** TTL of the benchmark keys in seconds. */
+    private static final long TTL_SECONDS = 300;
+
+    /** Key of the replaced set. */
+    private static final String SET_KEY = "bench:cache-layer:set";
+
+    /** Key prefix of the multi-set values. */
+    private static final String VALUE_PREFIX = "bench:cache-layer:value:";
+
+    /** Number of set members replaced per invocation. */
+    @Param({"10000"})
+    private int members;
+
+    /** Connection factory for the local Redis. */
+    private LettuceConnectionFactory connectionFactory;
+
+    /** Template configured like production. */
+    private RedisTemplate<String, Object> redisTemplate;
+
+    /** Layer under test. */
+    private RedisCacheLayer cacheLayer;
+
+    /** Set members. */
+    private List<String> setMembers;
+
+    /** Multi-set values. */
+    private Map<String, Object> values;
+
+    /**
+     * Setup method - connects to the local Redis and prepares the payloads.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        String host = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+        int port = Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"));
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new RedisConfig(new ObjectMapper()).redisTemplate(connectionFactory);
+        cacheLayer = new RedisCacheLayer(redisTemplate);
+        setMembers = new ArrayList<>(members);
+        for (int i = 0; i < members; i++) {
+            setMembers.add(String.format("%06d", i));
+        }
+        values = new LinkedHashMap<>();
+        for (int i = 0; i < VALUES; i++) {
+            values.put(VALUE_PREFIX + i, "quote-" + i);
+        }
+    }
+
+    /**
+     * Teardown method - removes the benchmark keys.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        redisTemplate.delete(SET_KEY);
+        redisTemplate.delete(values.keySet());
+        connectionFactory.destroy();
+    }
+
+    /**
+     * Benchmark the previous replaceSet: DEL followed by one SADD per member.
+     *
+     * @return replaced set size
+     */
+    @Benchmark
+    public int testReplaceSetPerMember() {
+        redisTemplate.delete(SET_KEY);
+        for (String member : setMembers) {
+            redisTemplate.opsForSet().add(SET_KEY, member);
+        }
+        return setMembers.size();
+    }
+
+    /**
+     * Benchmark the pipelined, atomic replaceSet.
+     *
+     * @return replaced set size
+     */
+    @Benchmark
+    public int testReplaceSetPipelined() {
+        cacheLayer.replaceSet(SET_KEY, setMembers);
+        return setMembers.size();
+    }
+
+    /**
+     * Benchmark writing values one SET EX at a time.
+     *
+     * @return number of values written
+     */
+    @Benchmark
+    public int testSetValuePerKey() {
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            cacheLayer.setValue(entry.getKey(), entry.getValue(), TTL_SECONDS);
+        }
+        return values.size();
+    }
+
+    /**
+     * Benchmark writing the same values with one pipelined multiSet.
+     *
+     * @return number of values written
+     */
+    @Benchmark
+    public int testMultiSet() {
+        cacheLayer.multiSet(values, TTL_SECONDS);
+        return values.size();
+    }
+}
@@ -0,0 +1,162 @@
+package com.koduck.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Community signal search benchmark.
+ * Seeds 1,000,000 signals with mixed Chinese/English titles into a scratch copy of {@code community_signals}
+ * with the {@code search_vector} column and GIN index from V3, then reads the first 20-row page with the
+ * previous {@code LIKE '%keyword%'} query and with the ranked full-text query used by
+ * {@code SignalRepository#searchFullText}. The full-text cost grows with the number of matches, since every
+ * match is ranked; the common phrase shows that upper bound.
+ * Requires a PostgreSQL migrated to V3 at {@code BENCH_JDBC_URL} (default
+ * {@code jdbc:postgresql://localhost:5432/koduck_dev}) with {@code BENCH_JDBC_USER}/{@code BENCH_JDBC_PASSWORD}.
+ *
+ * @author Koduck Team
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class SignalSearchBenchmark {
+
+    /** Signals seeded. */
+    private static final int SIGNALS = 1_000_000;
+
+    /** Page size. */
+    private static final int PAGE_SIZE = 20;
+
+    /** Scratch table. */
+    private static final String TABLE = "bench_community_signals";
+
+    /** Previous approach: leading-wildcard LIKE over title and content. */
+    private static final String LIKE_SQL = "SELECT id FROM " + TABLE + " WHERE title LIKE ? OR content LIKE ? "
+            + "ORDER BY created_at DESC LIMIT ?";
+
+    /** Full-text search, the SQL shape of searchFullText. */
+    private static final String FULL_TEXT_SQL = "SELECT id FROM " + TABLE + " s "
+            + "WHERE s.search_vector @@ community_search_query(?) AND (CAST(? AS VARCHAR) IS NULL OR s.market = ?) "
+            + "ORDER BY ts_rank_cd(s.search_vector, community_search_query(?)) "
+            + "/ (1 + EXTRACT(EPOCH FROM (CURRENT_TIMESTAMP - s.created_at)) / 604800.0) DESC, s.id DESC LIMIT ?";
+
+    /** Search keyword: a rare English word, a rare Chinese phrase, and a common Chinese phrase. */
+    @Param({"golden-cross", "放量突破", "看多"})
+    private String keyword;
+
+    /** JDBC connection. */
+    private Connection connection;
+
+    /**
+     * Setup method - seeds the scratch table and builds the GIN index.
+     *
+     * @throws SQLException if the database is unavailable
+     */
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getenv().getOrDefault("BENCH_JDBC_URL", "jdbc:postgresql://localhost:5432/koduck_dev"),
+                System.getenv().getOrDefault("BENCH_JDBC_USER", "koduck"),
+                System.getenv().getOrDefault("BENCH_JDBC_PASSWORD", "koduck"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (id BIGSERIAL PRIMARY KEY, symbol VARCHAR(20) NOT NULL, "
+                    + "market VARCHAR(10), title VARCHAR(200), content TEXT, search_vector TSVECTOR, "
+                    + "created_at TIMESTAMP NOT NULL)");
+            // 标题从固定词表组合：“看多”约 1/4 命中，“放量突破”约 1/100，golden-cross 约 1/1000
+            statement.execute("INSERT INTO " + TABLE + " (symbol, market, title, content, created_at) "
+                    + "SELECT lpad((i % 5000)::text, 6, '0'), CASE WHEN i % 3 = 0 THEN 'US' ELSE 'CN' END, "
+                    + "(ARRAY['看多', '看空', '震荡', '观望'])[i % 4 + 1] || ' '"
+                    + " || CASE WHEN i % 100 = 0 THEN '放量突破' ELSE '缩量整理' END"
+                    + " || CASE WHEN i % 1000 = 0 THEN ' golden-cross' ELSE ' macd' END, "
+                    + "'均线 支撑 reversal signal ' || i, "
+                    + "now() - (i % 720) * INTERVAL '1 hour' FROM generate_series(1, " + SIGNALS + ") AS i");
+            statement.execute("UPDATE " + TABLE + " SET search_vector = "
+                    + "setweight(to_tsvector('simple', community_search_text(title)), 'A') "
+                    + "|| setweight(to_tsvector('simple', symbol), 'A') "
+                    + "|| setweight(to_tsvector('simple', community_search_text(content)), 'B')");
+            statement.execute("CREATE INDEX ON " + TABLE + " USING GIN (search_vector)");
+            statement.execute("ANALYZE " + TABLE);
+        }
+    }
+
+    /**
+     * Teardown method - drops the scratch table.
+     *
+     * @throws SQLException if the database is unavailable
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.close();
+    }
+
+    /**
+     * Benchmark the previous LIKE search, which scans the whole table.
+     *
+     * @return rows on the page
+     * @throws SQLException if the query fails
+     */
+    @Benchmark
+    public int testLikeSearch() throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement(LIKE_SQL)) {
+            query.setString(1, "%" + keyword + "%");
+            query.setString(2, "%" + keyword + "%");
+            query.setInt(3, PAGE_SIZE);
+            return count(query);
+        }
+    }
+
+    /**
+     * Benchmark the ranked full-text search through the GIN index.
+     *
+     * @return rows on the page
+     * @throws SQLException if the query fails
+     */
+    @Benchmark
+    public int testFullTextSearch() throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement(FULL_TEXT_SQL)) {
+            query.setString(1, keyword);
+            query.setString(2, null);
+            query.setString(3, null);
+            query.setString(4, keyword);
+            query.setInt(5, PAGE_SIZE);
+            return count(query);
+        }
+    }
+
+    private static int count(PreparedStatement query) throws SQLException {
+        int rows = 0;
+        try (ResultSet result = query.executeQuery()) {
+            while (result.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,146 @@
+package com.koduck.benchmark;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.koduck.market.service.support.ScreenFilter;
+import com.koduck.market.service.support.ScreenerField;
+import com.koduck.market.service.support.ScreenerSnapshot;
+
+/**
+ * Cross-sectional screener benchmark.
+ * Evaluates "RSI(14) &lt; 30 and close &gt; BOLL lower and volume &gt; 2x MA20 volume"
+ * over a 5,000-symbol snapshot and ranks the matches on a primitive column.
+ *
+ * @author Koduck Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class StockScreenerBenchmark {
+
+    /** Universe size, roughly the A-share market. */
+    private static final int SYMBOLS = 5_000;
+
+    /** Closed bars kept per symbol. */
+    private static final int BARS = 120;
+
+    /** Seconds per daily bar. */
+    private static final long DAY_SECONDS = 86_400L;
+
+    /** Number of ranked results. */
+    private static final int LIMIT = 50;
+
+    /** Snapshot loaded with the random universe. */
+    private ScreenerSnapshot snapshot;
+
+    /** Symbol codes. */
+    private List<String> symbols;
+
+    /** Forming bar replayed by the update benchmark. */
+    private double[] lastClose;
+
+    /** RSI(14) column. */
+    private double[] rsi;
+
+    /** BOLL(20) lower band column. */
+    private double[] lower;
+
+    /** Close column. */
+    private double[] close;
+
+    /** Volume column. */
+    private double[] volume;
+
+    /** MA20 volume column. */
+    private double[] volumeMa;
+
+    /** Compiled example condition. */
+    private ScreenFilter filter;
+
+    /** Next slot updated by the update benchmark. */
+    private int cursor;
+
+    /**
+     * Setup method - loads a random-walk universe and materializes the indicator columns.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(42L);
+        symbols = new ArrayList<>(SYMBOLS);
+        for (int i = 0; i < SYMBOLS; i++) {
+            symbols.add(String.format("%06d", i));
+        }
+        snapshot = new ScreenerSnapshot(symbols, symbols, BARS, 32);
+        lastClose = new double[SYMBOLS];
+        for (int slot = 0; slot < SYMBOLS; slot++) {
+            double price = 5.0 + random.nextDouble() * 50.0;
+            for (int day = 0; day <= BARS; day++) {
+                price = Math.max(1.0, price * (1.0 + (random.nextDouble() - 0.52) * 0.06));
+                double spread = price * random.nextDouble() * 0.02;
+                double dayVolume = 1_000_000 * (0.5 + random.nextDouble() * (day == BARS ? 4.0 : 1.0));
+                snapshot.apply(slot, day * DAY_SECONDS, price + spread, price - spread, price, dayVolume,
+                    Double.NaN);
+            }
+            lastClose[slot] = price;
+        }
+        rsi = snapshot.column(field("rsi(14)"));
+        lower = snapshot.column(field("lower(20)"));
+        close = snapshot.column(field("close"));
+        volume = snapshot.column(field("volume"));
+        volumeMa = snapshot.column(field("volumeMa(20)"));
+        filter = ScreenFilter.allOf(List.of(
+            ScreenFilter.compare(rsi, ScreenFilter.Operator.LT, 30.0),
+            ScreenFilter.compare(close, ScreenFilter.Operator.GT, lower, 1.0),
+            ScreenFilter.compare(volume, ScreenFilter.Operator.GT, volumeMa, 2.0)));
+    }
+
+    /**
+     * Benchmark one screen over the whole universe: filter and rank.
+     *
+     * @return number of ranked symbols
+     */
+    @Benchmark
+    public int testScreenUniverse() {
+        BitSet candidates = snapshot.populated();
+        filter.retain(candidates);
+        return ScreenerSnapshot.topK(candidates, rsi, false, LIMIT).length;
+    }
+
+    /**
+     * Benchmark merging one intraday update of a forming bar, including the indicator columns.
+     *
+     * @return the updated RSI value
+     */
+    @Benchmark
+    public double testApplyFormingBar() {
+        int slot = cursor;
+        cursor = (slot + 1) % SYMBOLS;
+        double price = lastClose[slot];
+        snapshot.apply(slot, BARS * DAY_SECONDS, price * 1.01, price * 0.99, price, 2_000_000, Double.NaN);
+        return rsi[slot];
+    }
+
+    private static ScreenerField field(String code) {
+        return ScreenerField.parse(code).orElseThrow();
+    }
+}
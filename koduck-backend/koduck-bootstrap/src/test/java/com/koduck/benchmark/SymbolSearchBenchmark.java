@@ -0,0 +1,93 @@
+package com.koduck.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.koduck.market.service.support.SymbolSearchIndex;
+
+/**
+ * Symbol search benchmark.
+ * Replays keystroke-style queries (code prefixes, name fragments, pinyin initials)
+ * against a 12,000-instrument in-memory index.
+ *
+ * @author Koduck Team
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class SymbolSearchBenchmark {
+
+    /** Number of instruments. */
+    private static final int INSTRUMENTS = 12_000;
+
+    /** Number of results per query. */
+    private static final int LIMIT = 10;
+
+    /** Characters used to generate instrument names. */
+    private static final String NAME_CHARS = "中国平安银行科技电子医药发展股份能源新材料控股集团华东南北西天海通信汽车";
+
+    /** Keystroke queries, from one character to a full term. */
+    private static final String[] QUERIES = {
+        "6", "60", "600", "6000", "0", "00", "z", "zg", "zgpa", "h", "hd", "平", "平安", "银行", "kj", "x",
+    };
+
+    /** Optional market filter. */
+    @Param({"", "AShare"})
+    private String market;
+
+    /** Index under test. */
+    private SymbolSearchIndex index;
+
+    /** Next query replayed. */
+    private int cursor;
+
+    /**
+     * Setup method - builds the index from random instruments.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(1L);
+        List<SymbolSearchIndex.Entry> entries = new ArrayList<>(INSTRUMENTS);
+        for (int i = 0; i < INSTRUMENTS; i++) {
+            StringBuilder name = new StringBuilder();
+            int length = 3 + random.nextInt(3);
+            for (int j = 0; j < length; j++) {
+                name.append(NAME_CHARS.charAt(random.nextInt(NAME_CHARS.length())));
+            }
+            entries.add(new SymbolSearchIndex.Entry(String.format("%06d", random.nextInt(1_000_000)),
+                name.toString(), i % 3 == 0 ? "HKStock" : "AShare", "STOCK"));
+        }
+        index = SymbolSearchIndex.build(entries);
+    }
+
+    /**
+     * Benchmark one keystroke query.
+     *
+     * @return number of results
+     */
+    @Benchmark
+    public int testKeystrokeQuery() {
+        String query = QUERIES[cursor];
+        cursor = (cursor + 1) % QUERIES.length;
+        return index.search(query, market, LIMIT).size();
+    }
+}
@@ -0,0 +1,186 @@
+package com.koduck.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Trade history pagination benchmark.
+ * Seeds 50,000 trades for one user into a scratch copy of the {@code trades} table with the
+ * {@code (user_id, trade_time DESC, id DESC)} index from V2, then reads a 20-row page at increasing
+ * depth with OFFSET and with the keyset predicate used by {@code TradeRepository#findTradeHistoryPage}.
+ * Requires a PostgreSQL at {@code BENCH_JDBC_URL} (default {@code jdbc:postgresql://localhost:5432/koduck_dev})
+ * with {@code BENCH_JDBC_USER}/{@code BENCH_JDBC_PASSWORD}.
+ *
+ * @author Koduck Team
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class TradeHistoryPaginationBenchmark {
+
+    /** Trades seeded for the benchmark user. */
+    private static final int TRADES = 50_000;
+
+    /** Page size. */
+    private static final int PAGE_SIZE = 20;
+
+    /** Benchmark user. */
+    private static final long USER_ID = 1L;
+
+    /** Scratch table. */
+    private static final String TABLE = "bench_trades";
+
+    /** Previous approach pushed down: OFFSET pagination. */
+    private static final String OFFSET_SQL = "SELECT * FROM " + TABLE + " WHERE user_id = ? "
+            + "ORDER BY trade_time DESC, id DESC LIMIT ? OFFSET ?";
+
+    /** Keyset pagination, the SQL shape of findTradeHistoryPage. */
+    private static final String KEYSET_SQL = "SELECT * FROM " + TABLE + " WHERE user_id = ? "
+            + "AND trade_time <= ? AND (trade_time < ? OR id < ?) "
+            + "ORDER BY trade_time DESC, id DESC LIMIT ?";
+
+    /** Page number read by each invocation, 0-based. */
+    @Param({"0", "100", "2000"})
+    private int page;
+
+    /** JDBC connection. */
+    private Connection connection;
+
+    /** Trade time of the last row before the page. */
+    private Timestamp cursorTime;
+
+    /** ID of the last row before the page. */
+    private long cursorId;
+
+    /**
+     * Setup method - seeds the scratch table and resolves the cursor of the benchmarked page.
+     *
+     * @throws SQLException if the database is unavailable
+     */
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getenv().getOrDefault("BENCH_JDBC_URL", "jdbc:postgresql://localhost:5432/koduck_dev"),
+                System.getenv().getOrDefault("BENCH_JDBC_USER", "koduck"),
+                System.getenv().getOrDefault("BENCH_JDBC_PASSWORD", "koduck"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (id BIGSERIAL PRIMARY KEY, user_id BIGINT NOT NULL, "
+                    + "symbol VARCHAR(20) NOT NULL, trade_type VARCHAR(10) NOT NULL, trade_time TIMESTAMP NOT NULL)");
+        }
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 9, 30);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + TABLE
+                + " (user_id, symbol, trade_type, trade_time) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < TRADES; i++) {
+                insert.setLong(1, USER_ID);
+                insert.setString(2, String.format("%06d", i % 200));
+                insert.setString(3, i % 2 == 0 ? "BUY" : "SELL");
+                // 每 4 笔共用一个时间戳，覆盖同一时刻按 ID 排序的情况
+                insert.setTimestamp(4, Timestamp.valueOf(start.plusSeconds(i / 4 * 30L)));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE INDEX ON " + TABLE + " (user_id, trade_time DESC, id DESC)");
+            statement.execute("ANALYZE " + TABLE);
+        }
+        cursorTime = Timestamp.valueOf(LocalDateTime.of(9999, 12, 31, 23, 59, 59));
+        cursorId = Long.MAX_VALUE;
+        if (page > 0) {
+            try (PreparedStatement query = connection.prepareStatement(OFFSET_SQL)) {
+                query.setLong(1, USER_ID);
+                query.setInt(2, 1);
+                query.setInt(3, page * PAGE_SIZE - 1);
+                try (ResultSet rows = query.executeQuery()) {
+                    rows.next();
+                    cursorTime = rows.getTimestamp("trade_time");
+                    cursorId = rows.getLong("id");
+                }
+            }
+        }
+    }
+
+    /**
+     * Teardown method - drops the scratch table.
+     *
+     * @throws SQLException if the database is unavailable
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.close();
+    }
+
+    /**
+     * Benchmark OFFSET pagination, which reads and discards every row before the page.
+     *
+     * @return rows on the page
+     * @throws SQLException if the query fails
+     */
+    @Benchmark
+    public int testOffsetPage() throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement(OFFSET_SQL)) {
+            query.setLong(1, USER_ID);
+            query.setInt(2, PAGE_SIZE);
+            query.setInt(3, page * PAGE_SIZE);
+            return count(query);
+        }
+    }
+
+    /**
+     * Benchmark keyset pagination, which seeks to the cursor through the index.
+     *
+     * @return rows on the page
+     * @throws SQLException if the query fails
+     */
+    @Benchmark
+    public int testKeysetPage() throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement(KEYSET_SQL)) {
+            query.setLong(1, USER_ID);
+            query.setTimestamp(2, cursorTime);
+            query.setTimestamp(3, cursorTime);
+            query.setLong(4, cursorId);
+            query.setInt(5, PAGE_SIZE);
+            return count(query);
+        }
+    }
+
+    private static int count(PreparedStatement query) throws SQLException {
+        int rows = 0;
+        try (ResultSet result = query.executeQuery()) {
+            while (result.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+}
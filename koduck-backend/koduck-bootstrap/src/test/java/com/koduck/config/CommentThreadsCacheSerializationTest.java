@@ -0,0 +1,97 @@
+package com.koduck.config;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.koduck.community.config.CommunityCacheConfig;
+import com.koduck.community.entity.Comment;
+import com.koduck.community.service.support.CommentTree;
+import com.koduck.infrastructure.cache.codec.CacheValueCodec;
+import com.koduck.infrastructure.config.properties.CacheProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Round-trips comment trees through the cache manager built by {@link CacheConfig} with the
+ * community module's customizer applied, the same wiring as the running application.
+ *
+ * @author Koduck Team
+ */
+class CommentThreadsCacheSerializationTest {
+
+    /** Base time of the sample comments. */
+    private static final Instant CREATED_AT = Instant.parse("2026-10-16T02:00:00.123Z");
+
+    @Test
+    @DisplayName("commentThreads should read a cached tree back as an equal CommentTree")
+    void commentThreadsShouldRoundTripTree() {
+        Map<String, RedisCacheConfiguration> configurations = cacheConfigurations();
+        CommentTree tree = CommentTree.assemble(List.of(
+                comment(1L, null), comment(2L, 1L), comment(3L, null), comment(4L, 2L)));
+
+        RedisCacheConfiguration commentThreads = configurations.get(CommunityCacheConfig.CACHE_COMMENT_THREADS);
+        ByteBuffer written = commentThreads.getValueSerializationPair().write(tree);
+        Object read = commentThreads.getValueSerializationPair().read(written);
+
+        assertThat(read).isInstanceOf(CommentTree.class).isEqualTo(tree);
+        assertThat(((CommentTree) read).roots().get(1).replies().get(0).replies().get(0).createdAt())
+                .isEqualTo(CREATED_AT.plusSeconds(4));
+    }
+
+    @Test
+    @DisplayName("The untyped default serializer would not read a CommentTree back")
+    void defaultSerializerShouldNotRestoreTreeType() {
+        Map<String, RedisCacheConfiguration> configurations = cacheConfigurations();
+        CommentTree tree = CommentTree.assemble(List.of(comment(1L, null)));
+
+        RedisCacheConfiguration kline = configurations.get(CacheConfig.CACHE_KLINE);
+        Object read = kline.getValueSerializationPair().read(kline.getValueSerializationPair().write(tree));
+
+        assertThat(read).isNotInstanceOf(CommentTree.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, RedisCacheConfiguration> cacheConfigurations() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        CacheProperties cacheProperties = new CacheProperties();
+        RedisCacheManagerBuilderCustomizer customizer =
+                new CommunityCacheConfig().commentThreadsCacheCustomizer(objectMapper, cacheProperties);
+        ObjectProvider<CacheValueCodec<?>> codecs = mock(ObjectProvider.class);
+        when(codecs.orderedStream()).thenReturn(Stream.empty());
+        ObjectProvider<RedisCacheManagerBuilderCustomizer> customizers = mock(ObjectProvider.class);
+        when(customizers.orderedStream()).thenAnswer(invocation -> Stream.of(customizer));
+
+        RedisCacheManager cacheManager = new CacheConfig(objectMapper, cacheProperties, codecs, customizers)
+                .cacheManager(mock(RedisConnectionFactory.class));
+        cacheManager.afterPropertiesSet();
+        return cacheManager.getCacheConfigurations();
+    }
+
+    private static Comment comment(Long id, Long parentId) {
+        Comment comment = new Comment();
+        comment.setId(id);
+        comment.setSignalId(10L);
+        comment.setParentId(parentId);
+        comment.setUserId(100L + id);
+        comment.setContent("comment " + id);
+        comment.setLikeCount(id.intValue());
+        comment.setCreatedAt(CREATED_AT.plusSeconds(id));
+        comment.setUpdatedAt(CREATED_AT.plusSeconds(id));
+        return comment;
+    }
+}
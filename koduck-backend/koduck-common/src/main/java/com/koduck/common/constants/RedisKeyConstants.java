@@ -51,7 +51,7 @@ public final class RedisKeyConstants {
      * Hot stocks list - List
      * Key pattern: hot:stocks:{type}
      * TTL: 60 seconds
-     * Types: volume, gain, loss
+     * Types: volume, gain, loss, amount
      */
     public static final String HOT_STOCKS_PREFIX = "hot:stocks:";
 
@@ -70,6 +70,69 @@ public final class RedisKeyConstants {
      */
     public static final String HOT_STOCKS_LOSS = "loss";
 
+    /**
+     * Hot stocks by turnover amount
+     */
+    public static final String HOT_STOCKS_AMOUNT = "amount";
+
+    /**
+     * Hot stock leaderboard scores (Sorted Set)
+     * Key pattern: hot:rank:{market}:{metric}
+     * TTL: 86400 seconds, refreshed on every write
+     * Metrics: change, volume, amount
+     */
+    public static final String HOT_RANK_PREFIX = "hot:rank:";
+
+    /**
+     * Community hot signal scores (Sorted Set)
+     * Key: community:hot:{signals}
+     * TTL: Permanent, stale members removed by compaction
+     * The hash tag keeps it in the same cluster slot as the engagement hash.
+     */
+    public static final String COMMUNITY_HOT_SIGNALS = "community:hot:{signals}";
+
+    /**
+     * Community hot signal weighted engagement (Hash), field: signal id
+     * Key: community:hot:{signals}:engagement
+     * TTL: Permanent, compacted together with the scores
+     */
+    public static final String COMMUNITY_HOT_SIGNAL_ENGAGEMENT = "community:hot:{signals}:engagement";
+
+    /**
+     * Community signal counter increments not yet written to the database (Hash)
+     * Key: community:counters:{signals}:pending, field: {signalId}:{likes|comments|views}
+     * TTL: Permanent, renamed to the flushing key when a batch is claimed
+     */
+    public static final String COMMUNITY_SIGNAL_COUNTERS_PENDING = "community:counters:{signals}:pending";
+
+    /**
+     * Community signal counter batch being written to the database (Hash)
+     * Key: community:counters:{signals}:flushing
+     * TTL: Permanent, deleted once the batch is acknowledged
+     */
+    public static final String COMMUNITY_SIGNAL_COUNTERS_FLUSHING = "community:counters:{signals}:flushing";
+
+    /**
+     * Community follower feed timeline (Sorted Set), member: {signalId}:{authorId}, score: publish epoch millis
+     * Key pattern: community:feed:timeline:{userId}
+     * TTL: 7 days by default, refreshed on read; rebuilt from the database when missing
+     */
+    public static final String COMMUNITY_FEED_TIMELINE_PREFIX = "community:feed:timeline:";
+
+    /**
+     * Community author outbox of recent signals (Sorted Set), same member and score as the timeline
+     * Key pattern: community:feed:outbox:{authorId}
+     * TTL: Permanent, capped by size
+     */
+    public static final String COMMUNITY_FEED_OUTBOX_PREFIX = "community:feed:outbox:";
+
+    /**
+     * Community authors whose signals are pulled at read time instead of pushed (Set)
+     * Key: community:feed:celebrities
+     * TTL: Permanent
+     */
+    public static final String COMMUNITY_FEED_CELEBRITIES = "community:feed:celebrities";
+
     /**
      * User tracking list (Set)
      * Key pattern: user:track:{userId}
@@ -100,6 +163,11 @@ public final class RedisKeyConstants {
      */
     public static final long TTL_STOCK_WATCH_DAILY = 86400;
 
+    /**
+     * TTL for hot stock leaderboard scores: 24 hours
+     */
+    public static final long TTL_HOT_RANK = 86400;
+
     /**
      * Generate stock tracking key.
      *
@@ -150,6 +218,37 @@ public final class RedisKeyConstants {
         return HOT_STOCKS_PREFIX + type;
     }
 
+    /**
+     * Generate hot stock leaderboard key.
+     *
+     * @param market normalized market key, e.g. {@code ashare}
+     * @param metric ranking metric, e.g. {@code change}, {@code volume}, {@code amount}
+     * @return Redis key in pattern {@code hot:rank:{market}:{metric}}
+     */
+    public static String hotRankKey(String market, String metric) {
+        return HOT_RANK_PREFIX + market + ":" + metric;
+    }
+
+    /**
+     * Generate community feed timeline key.
+     *
+     * @param userId user identifier
+     * @return Redis key in pattern {@code community:feed:timeline:{userId}}
+     */
+    public static String communityFeedTimelineKey(Long userId) {
+        return COMMUNITY_FEED_TIMELINE_PREFIX + userId;
+    }
+
+    /**
+     * Generate community author outbox key.
+     *
+     * @param authorId author identifier
+     * @return Redis key in pattern {@code community:feed:outbox:{authorId}}
+     */
+    public static String communityFeedOutboxKey(Long authorId) {
+        return COMMUNITY_FEED_OUTBOX_PREFIX + authorId;
+    }
+
     /**
      * Generate user tracking key.
      *
@@ -0,0 +1,23 @@
+package com.koduck.exception;
+
+import java.io.Serial;
+
+/**
+ * Exception thrown when a password hashing request is shed because the hashing executor is saturated.
+ *
+ * @author Koduck Team
+ */
+public class PasswordHashingRejectedException extends BusinessException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates the exception.
+     *
+     * @param message reason for shedding
+     */
+    public PasswordHashingRejectedException(String message) {
+        super(ErrorCode.TOO_MANY_REQUESTS, message);
+    }
+}
@@ -0,0 +1,80 @@
+package com.koduck.util;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+
+/**
+ * Logs warnings at most once per interval.
+ *
+ * <p>Meant for failures of an optional dependency, such as Redis, that the caller falls back from on every
+ * request: the first failure is logged, repeats within the interval are dropped. Concurrent callers race on
+ * a compare-and-set, so exactly one of them logs.</p>
+ *
+ * @author GitHub Copilot
+ */
+public final class ThrottledLogger {
+
+    /**
+     * Target logger.
+     */
+    private final Logger logger;
+
+    /**
+     * Minimum interval between warnings in milliseconds.
+     */
+    private final long intervalMillis;
+
+    /**
+     * Clock in epoch milliseconds.
+     */
+    private final LongSupplier clock;
+
+    /**
+     * Time of the last warning in epoch milliseconds.
+     */
+    private final AtomicLong lastWarning = new AtomicLong();
+
+    /**
+     * Creates a throttled logger.
+     *
+     * @param logger   target logger
+     * @param interval minimum interval between warnings
+     */
+    public ThrottledLogger(final Logger logger, final Duration interval) {
+        this(logger, interval, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates a throttled logger with an explicit clock.
+     *
+     * @param logger   target logger
+     * @param interval minimum interval between warnings
+     * @param clock    clock in epoch milliseconds
+     */
+    ThrottledLogger(final Logger logger, final Duration interval, final LongSupplier clock) {
+        this.logger = Objects.requireNonNull(logger, "logger must not be null");
+        this.intervalMillis = interval.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Logs a warning unless one was logged within the interval.
+     *
+     * @param format message format
+     * @param args   message arguments
+     * @return true when the warning was logged
+     */
+    public boolean warn(final String format, final Object... args) {
+        final long now = clock.getAsLong();
+        final long last = lastWarning.get();
+        if (now - last >= intervalMillis && lastWarning.compareAndSet(last, now)) {
+            logger.warn(format, args);
+            return true;
+        }
+        return false;
+    }
+}
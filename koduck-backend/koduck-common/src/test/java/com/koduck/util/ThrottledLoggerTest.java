@@ -0,0 +1,46 @@
+package com.koduck.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.slf4j.Logger;
+
+import com.koduck.common.AbstractUnitTest;
+
+/**
+ * ThrottledLogger 单元测试。
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+class ThrottledLoggerTest extends AbstractUnitTest {
+
+    @Mock
+    private Logger logger;
+
+    @Test
+    @DisplayName("间隔内只记录一次警告")
+    void shouldLogOncePerInterval() {
+        // Given
+        AtomicLong clock = new AtomicLong(1_000_000L);
+        ThrottledLogger throttled = new ThrottledLogger(logger, Duration.ofSeconds(10), clock::get);
+
+        // When / Then
+        assertThat(throttled.warn("Redis unavailable: {}", "first")).isTrue();
+        clock.addAndGet(9_999L);
+        assertThat(throttled.warn("Redis unavailable: {}", "second")).isFalse();
+        clock.addAndGet(1L);
+        assertThat(throttled.warn("Redis unavailable: {}", "third")).isTrue();
+
+        verify(logger, times(2)).warn(anyString(), any(Object[].class));
+    }
+}
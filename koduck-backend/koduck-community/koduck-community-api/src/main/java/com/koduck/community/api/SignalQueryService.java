@@ -76,7 +76,27 @@ public interface SignalQueryService {
      * @param pageSize 每页大小
      * @return 信号摘要列表
      */
+    default List<SignalSummaryDto> searchSignals(String keyword,
+                                                 @Positive int page,
+                                                 @Positive int pageSize) {
+        return searchSignals(keyword, null, null, null, page, pageSize);
+    }
+
+    /**
+     * 全文检索信号，结果按相关度与发布时间综合排序。
+     *
+     * @param keyword 关键词，支持中英文混合
+     * @param symbol 股票代码过滤，为 null 时不过滤
+     * @param market 市场过滤，为 null 时不过滤
+     * @param signalType 信号类型过滤（BUY/SELL），为 null 时不过滤
+     * @param page 页码
+     * @param pageSize 每页大小
+     * @return 信号摘要列表
+     */
     List<SignalSummaryDto> searchSignals(String keyword,
+                                         String symbol,
+                                         String market,
+                                         String signalType,
                                          @Positive int page,
                                          @Positive int pageSize);
 
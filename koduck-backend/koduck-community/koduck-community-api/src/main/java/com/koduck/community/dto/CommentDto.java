@@ -41,6 +41,7 @@ public class CommentDto implements Serializable {
 
     private final Integer likeCount;
     private final Integer replyCount;
+    private final Boolean likedByMe;
     private final List<CommentDto> replies;
 
     private final Instant createdAt;
@@ -56,6 +57,7 @@ public class CommentDto implements Serializable {
         this.content = builder.content;
         this.likeCount = builder.likeCount;
         this.replyCount = builder.replyCount;
+        this.likedByMe = builder.likedByMe;
         this.replies = builder.replies == null ? null : new ArrayList<>(builder.replies);
         this.createdAt = builder.createdAt;
         this.updatedAt = builder.updatedAt;
@@ -75,6 +77,7 @@ public class CommentDto implements Serializable {
     public String getContent() { return content; }
     public Integer getLikeCount() { return likeCount; }
     public Integer getReplyCount() { return replyCount; }
+    public Boolean getLikedByMe() { return likedByMe; }
     public Instant getCreatedAt() { return createdAt; }
     public Instant getUpdatedAt() { return updatedAt; }
 
@@ -97,6 +100,7 @@ public class CommentDto implements Serializable {
         private String content;
         private Integer likeCount;
         private Integer replyCount;
+        private Boolean likedByMe;
         private List<CommentDto> replies;
         private Instant createdAt;
         private Instant updatedAt;
@@ -110,6 +114,7 @@ public class CommentDto implements Serializable {
         public Builder content(String content) { this.content = content; return this; }
         public Builder likeCount(Integer likeCount) { this.likeCount = likeCount; return this; }
         public Builder replyCount(Integer replyCount) { this.replyCount = replyCount; return this; }
+        public Builder likedByMe(Boolean likedByMe) { this.likedByMe = likedByMe; return this; }
 
         public Builder replies(List<CommentDto> replies) {
             this.replies = replies == null ? null : new ArrayList<>(replies);
@@ -0,0 +1,50 @@
+package com.koduck.community.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.koduck.community.service.support.CommentTree;
+import com.koduck.infrastructure.config.properties.CacheProperties;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * Community 模块缓存配置。
+ *
+ * <p>全局缓存的 JSON 序列化器不记录值类型，读回的是 Map，按 {@link CommentTree} 读取时会失败，
+ * 因此评论树缓存改用绑定 {@link CommentTree} 的序列化器；TTL 沿用 {@code koduck.cache} 的默认值。</p>
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+@Configuration(proxyBeanMethods = false)
+public class CommunityCacheConfig {
+
+    /** 信号评论树的缓存名称，键为信号ID。 */
+    public static final String CACHE_COMMENT_THREADS = "commentThreads";
+
+    /**
+     * 为评论树缓存注册按类型序列化的配置。
+     *
+     * @param objectMapper 全局 ObjectMapper
+     * @param cacheProperties 缓存配置属性
+     * @return 缓存管理器定制器
+     */
+    @Bean
+    public RedisCacheManagerBuilderCustomizer commentThreadsCacheCustomizer(ObjectMapper objectMapper,
+                                                                            CacheProperties cacheProperties) {
+        ObjectMapper copy = objectMapper.copy().registerModule(new JavaTimeModule());
+        RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(cacheProperties.getDefaultTtl())
+                .serializeKeysWith(RedisSerializationContext.SerializationPair
+                        .fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair
+                        .fromSerializer(new Jackson2JsonRedisSerializer<>(copy, CommentTree.class)))
+                .disableCachingNullValues();
+        return builder -> builder.withCacheConfiguration(CACHE_COMMENT_THREADS, configuration);
+    }
+}
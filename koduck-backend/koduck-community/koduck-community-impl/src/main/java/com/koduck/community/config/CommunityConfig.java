@@ -0,0 +1,18 @@
+package com.koduck.community.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Community 模块配置类。
+ *
+ * <p>启用 Community 模块的配置属性绑定。</p>
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+@Configuration
+@EnableConfigurationProperties(CommunityProperties.class)
+public class CommunityConfig {
+    // 配置类，通过 @EnableConfigurationProperties 启用 CommunityProperties
+}
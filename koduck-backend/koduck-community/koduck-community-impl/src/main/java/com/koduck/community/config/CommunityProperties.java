@@ -0,0 +1,120 @@
+package com.koduck.community.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Community 模块配置属性。
+ *
+ * <p>配置前缀: {@code koduck.community}</p>
+ *
+ * <p>示例配置:</p>
+ * <pre>
+ * koduck:
+ *   community:
+ *     hot:
+ *       decay-seconds: 45000
+ *       max-age-hours: 168
+ * </pre>
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "koduck.community")
+public class CommunityProperties {
+
+    /** 热门信号排行配置。 */
+    private HotConfig hot = new HotConfig();
+
+    /** 信号计数写回配置。 */
+    private CounterConfig counters = new CounterConfig();
+
+    /** 评论树配置。 */
+    private CommentConfig comments = new CommentConfig();
+
+    /** 关注动态配置。 */
+    private FeedConfig feed = new FeedConfig();
+
+    /**
+     * 热门信号排行配置。
+     */
+    @Data
+    public static class HotConfig {
+        /** 是否由增量排行回答热门信号查询。 */
+        private boolean enabled = true;
+        /** 是否使用 Redis 有序集合，供多实例共享；关闭或 Redis 不可用时只用本实例内存排行。 */
+        private boolean redisEnabled = true;
+        /** 一次点赞计入的互动量，取消点赞扣回。 */
+        private double likeWeight = 1.0;
+        /** 一条评论计入的互动量。 */
+        private double commentWeight = 2.0;
+        /** 一次浏览计入的互动量。 */
+        private double viewWeight = 0.1;
+        /** 衰减常数（秒）：互动量增长 10 倍相当于晚发布这么久，默认 12.5 小时。 */
+        private long decaySeconds = 45000;
+        /** 超过该时长（小时）的零互动信号分数，作为压缩时的淘汰线。 */
+        private long maxAgeHours = 168;
+        /** 排行保留的信号数上限。 */
+        private int maxEntries = 10000;
+        /** 压缩间隔（毫秒）。 */
+        private long compactionIntervalMs = 300000;
+        /** 单次查询返回条数上限。 */
+        private int maxLimit = 100;
+    }
+
+    /**
+     * 信号计数写回配置。
+     */
+    @Data
+    public static class CounterConfig {
+        /** 是否缓冲计数增量；关闭时每次增量直接更新数据库。 */
+        private boolean enabled = true;
+        /** 缓冲位置：{@code redis} 多实例共享且重启不丢失，{@code local} 只在本实例内存中。 */
+        private String store = "redis";
+        /** 写回数据库的间隔（毫秒）。 */
+        private long flushIntervalMs = 2000;
+        /** 本地缓冲的分片数。 */
+        private int shards = 16;
+        /** 批次标记保留时长（小时），应远大于批次从封批到确认的最长时间。 */
+        private long markerRetentionHours = 24;
+        /** 清理过期批次标记的间隔（毫秒）。 */
+        private long markerCleanupIntervalMs = 3600000;
+    }
+
+    /**
+     * 评论树配置。
+     */
+    @Data
+    public static class CommentConfig {
+        /** 是否缓存组装好的评论树；新评论发布时失效。 */
+        private boolean cacheEnabled = true;
+        /** 每页顶级评论数上限。 */
+        private int maxPageSize = 50;
+    }
+
+    /**
+     * 关注动态配置。
+     */
+    @Data
+    public static class FeedConfig {
+        /** 是否维护关注动态时间线。 */
+        private boolean enabled = true;
+        /** 时间线位置：{@code redis} 多实例共享，{@code local} 只在本实例内存中。 */
+        private String store = "redis";
+        /** 每个用户时间线保留的条目数。 */
+        private int timelineSize = 800;
+        /** 每个作者发件箱保留的最近信号数。 */
+        private int outboxSize = 200;
+        /** 粉丝数达到该值的作者不再写入粉丝时间线，改为读取时从发件箱拉取。 */
+        private long pullThreshold = 10000;
+        /** 关注时回填的最近信号数。 */
+        private int backfillSize = 50;
+        /** 写入时间线时每批读取的粉丝数。 */
+        private int fanOutBatchSize = 1000;
+        /** 时间线未被读取时的保留时长（小时），过期后下次读取从数据库重建。 */
+        private long timelineTtlHours = 168;
+        /** 单次读取条数上限。 */
+        private int maxLimit = 100;
+    }
+}
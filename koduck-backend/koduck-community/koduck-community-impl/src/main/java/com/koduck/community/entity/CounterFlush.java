@@ -0,0 +1,33 @@
+package com.koduck.community.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * 计数写回批次标记。
+ *
+ * <p>与批次内的计数更新在同一事务中写入，重放已写回的批次时据此跳过。</p>
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+@Entity
+@Table(name = "community_counter_flushes")
+public class CounterFlush {
+
+    @Id
+    @Column(name = "batch_id", length = 36)
+    private String batchId;
+
+    @Column(name = "flushed_at", nullable = false)
+    private Instant flushedAt;
+
+    // Getters and Setters
+
+    public String getBatchId() { return batchId; }
+    public void setBatchId(String batchId) { this.batchId = batchId; }
+
+    public Instant getFlushedAt() { return flushedAt; }
+    public void setFlushedAt(Instant flushedAt) { this.flushedAt = flushedAt; }
+}
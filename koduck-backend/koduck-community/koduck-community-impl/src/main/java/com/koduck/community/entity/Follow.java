@@ -0,0 +1,47 @@
+package com.koduck.community.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+/**
+ * 关注关系实体。
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+@Entity
+@Table(name = "community_user_follows", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"follower_id", "followee_id"})
+})
+public class Follow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "follower_id", nullable = false)
+    private Long followerId;
+
+    @Column(name = "followee_id", nullable = false)
+    private Long followeeId;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private Instant createdAt;
+
+    // Getters and Setters
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getFollowerId() { return followerId; }
+    public void setFollowerId(Long followerId) { this.followerId = followerId; }
+
+    public Long getFolloweeId() { return followeeId; }
+    public void setFolloweeId(Long followeeId) { this.followeeId = followeeId; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+}
@@ -26,6 +26,14 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     Page<Comment> findBySignalId(Long signalId, Pageable pageable);
 
+    /**
+     * 一次查询信号的全部评论（含各级回复），按ID升序，供内存中组装评论树。
+     *
+     * @param signalId 信号ID
+     * @return 评论列表
+     */
+    List<Comment> findBySignalIdOrderByIdAsc(Long signalId);
+
     /**
      * 查询评论的回复。
      *
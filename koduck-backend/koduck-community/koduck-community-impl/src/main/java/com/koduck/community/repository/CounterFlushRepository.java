@@ -0,0 +1,44 @@
+package com.koduck.community.repository;
+
+import com.koduck.community.entity.CounterFlush;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+/**
+ * 计数写回批次标记存储库。
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+@Repository
+public interface CounterFlushRepository extends JpaRepository<CounterFlush, String> {
+
+    /**
+     * 写入批次标记。
+     *
+     * <p>总是执行 INSERT（{@code save} 对已有主键会改为 UPDATE），两个实例并发写回同一批次时后提交的一方主键冲突回滚。</p>
+     *
+     * @param batchId 批次ID
+     * @param flushedAt 写回时间
+     * @return 写入行数
+     */
+    @Modifying
+    @Query(value = "INSERT INTO community_counter_flushes (batch_id, flushed_at) VALUES (:batchId, :flushedAt)",
+            nativeQuery = true)
+    int insert(@Param("batchId") String batchId, @Param("flushedAt") Instant flushedAt);
+
+    /**
+     * 删除早于指定时间的批次标记。
+     *
+     * @param cutoff 时间下限
+     * @return 删除行数
+     */
+    @Modifying
+    @Query("DELETE FROM CounterFlush f WHERE f.flushedAt < :cutoff")
+    int deleteFlushedBefore(@Param("cutoff") Instant cutoff);
+}
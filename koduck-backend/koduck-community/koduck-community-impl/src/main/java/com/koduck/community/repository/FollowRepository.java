@@ -0,0 +1,92 @@
+package com.koduck.community.repository;
+
+import com.koduck.community.entity.Follow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 关注关系存储库。
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+@Repository
+public interface FollowRepository extends JpaRepository<Follow, Long> {
+
+    /**
+     * 检查是否已关注。
+     *
+     * @param followerId 关注者ID
+     * @param followeeId 被关注者ID
+     * @return 是否已关注
+     */
+    boolean existsByFollowerIdAndFolloweeId(Long followerId, Long followeeId);
+
+    /**
+     * 取消关注。
+     *
+     * @param followerId 关注者ID
+     * @param followeeId 被关注者ID
+     * @return 删除行数
+     */
+    @Modifying
+    @Query("DELETE FROM Follow f WHERE f.followerId = :followerId AND f.followeeId = :followeeId")
+    int deleteFollow(@Param("followerId") Long followerId, @Param("followeeId") Long followeeId);
+
+    /**
+     * 查询用户关注的全部作者。
+     *
+     * @param followerId 关注者ID
+     * @return 被关注者ID
+     */
+    @Query("SELECT f.followeeId FROM Follow f WHERE f.followerId = :followerId")
+    List<Long> findFolloweeIds(@Param("followerId") Long followerId);
+
+    /**
+     * 查询用户关注了给定作者中的哪些。
+     *
+     * @param followerId 关注者ID
+     * @param followeeIds 候选作者ID
+     * @return 其中已关注的作者ID
+     */
+    @Query("SELECT f.followeeId FROM Follow f WHERE f.followerId = :followerId AND f.followeeId IN :followeeIds")
+    List<Long> findFolloweeIdsIn(@Param("followerId") Long followerId,
+                                 @Param("followeeIds") Collection<Long> followeeIds);
+
+    /**
+     * 按ID顺序分批读取作者的粉丝（键集分页）。
+     *
+     * @param followeeId 作者ID
+     * @param afterId 上一批最后一个粉丝ID，第一批传 0
+     * @param pageable 批大小，页码应为 0
+     * @return 粉丝ID，升序
+     */
+    @Query("SELECT f.followerId FROM Follow f WHERE f.followeeId = :followeeId AND f.followerId > :afterId "
+            + "ORDER BY f.followerId")
+    List<Long> findFollowerIdsAfter(@Param("followeeId") Long followeeId,
+                                    @Param("afterId") Long afterId,
+                                    Pageable pageable);
+
+    /**
+     * 计算作者的粉丝数。
+     *
+     * @param followeeId 作者ID
+     * @return 粉丝数
+     */
+    long countByFolloweeId(Long followeeId);
+
+    /**
+     * 计算用户关注的作者数。
+     *
+     * @param followerId 关注者ID
+     * @return 关注数
+     */
+    long countByFollowerId(Long followerId);
+}
@@ -4,8 +4,12 @@ import com.koduck.community.entity.Like;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -56,6 +60,20 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
      */
     boolean existsByUserIdAndTargetTypeAndTargetId(Long userId, String targetType, Long targetId);
 
+    /**
+     * 一次查询用户点赞过的目标，用于批量标记“我已点赞”。
+     *
+     * @param userId 用户ID
+     * @param targetType 目标类型
+     * @param targetIds 目标ID
+     * @return 其中用户点赞过的目标ID
+     */
+    @Query("SELECT l.targetId FROM Like l WHERE l.userId = :userId AND l.targetType = :targetType "
+            + "AND l.targetId IN :targetIds")
+    List<Long> findLikedTargetIds(@Param("userId") Long userId,
+                                  @Param("targetType") String targetType,
+                                  @Param("targetIds") Collection<Long> targetIds);
+
     /**
      * 计算目标的点赞数量。
      *
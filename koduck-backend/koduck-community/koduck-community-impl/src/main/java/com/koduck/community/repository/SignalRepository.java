@@ -3,11 +3,15 @@ package com.koduck.community.repository;
 import com.koduck.community.entity.Signal;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -52,19 +56,115 @@ public interface SignalRepository extends JpaRepository<Signal, Long> {
      * @param keyword 关键词
      * @param pageable 分页参数
      * @return 信号分页
+     * @deprecated 前后模糊匹配无法使用索引，会顺序扫描整表，请使用 {@link #searchFullText}
      */
+    @Deprecated
     @Query("SELECT s FROM Signal s WHERE s.title LIKE %:keyword% OR s.content LIKE %:keyword% OR s.symbol LIKE %:keyword%")
     Page<Signal> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
+    /**
+     * 全文检索信号。
+     *
+     * <p>匹配标题、股票代码和正文（V3 迁移维护的 {@code search_vector}，GIN 索引），
+     * 按相关度除以时间衰减因子排序，发布满 7 天的信号相关度减半。
+     * 返回 {@link Slice} 而不是 {@code Page}，避免对全部命中结果计数。</p>
+     *
+     * @param keyword 关键词，中英文混合，不能为空白
+     * @param symbol 股票代码过滤，为 null 时不过滤
+     * @param market 市场过滤，为 null 时不过滤
+     * @param signalType 信号类型名称过滤，为 null 时不过滤
+     * @param pageable 分页参数，不支持排序
+     * @return 信号切片
+     */
+    @Query(value = "SELECT s.* FROM community_signals s "
+            + "WHERE s.search_vector @@ community_search_query(:keyword) "
+            + "AND (CAST(:symbol AS VARCHAR) IS NULL OR s.symbol = :symbol) "
+            + "AND (CAST(:market AS VARCHAR) IS NULL OR s.market = :market) "
+            + "AND (CAST(:signalType AS VARCHAR) IS NULL OR s.signal_type = :signalType) "
+            + "ORDER BY ts_rank_cd(s.search_vector, community_search_query(:keyword)) "
+            + "/ (1 + EXTRACT(EPOCH FROM (CURRENT_TIMESTAMP - s.created_at)) / 604800.0) DESC, s.id DESC",
+            nativeQuery = true)
+    Slice<Signal> searchFullText(@Param("keyword") String keyword,
+                                 @Param("symbol") String symbol,
+                                 @Param("market") String market,
+                                 @Param("signalType") String signalType,
+                                 Pageable pageable);
+
     /**
      * 查询热门信号（按点赞数排序）。
      *
      * @param limit 数量限制
      * @return 信号列表
+     * @deprecated 累计点赞不随时间衰减，且每次都对全表排序，请使用
+     *     {@link com.koduck.community.service.HotSignalService#hotSignals}
      */
+    @Deprecated
     @Query("SELECT s FROM Signal s WHERE s.status = 'ACTIVE' ORDER BY s.likeCount DESC, s.viewCount DESC")
     List<Signal> findHotSignals(Pageable pageable);
 
+    /**
+     * 查询指定时间之后发布的信号，用于重建热门排行。
+     *
+     * @param status 状态
+     * @param createdAfter 发布时间下限（不含）
+     * @return 信号列表
+     */
+    List<Signal> findByStatusAndCreatedAtAfter(Signal.Status status, Instant createdAfter);
+
+    /**
+     * 按发布时间倒序查询作者的信号，用于关注时回填时间线。
+     *
+     * @param userId 作者ID
+     * @param status 状态
+     * @param pageable 条数
+     * @return 信号列表
+     */
+    List<Signal> findByUserIdAndStatusOrderByCreatedAtDesc(Long userId, Signal.Status status, Pageable pageable);
+
+    /**
+     * 按发布时间倒序查询多个作者的信号，用于重建时间线。
+     *
+     * @param userIds 作者ID
+     * @param status 状态
+     * @param pageable 条数
+     * @return 信号列表
+     */
+    List<Signal> findByUserIdInAndStatusOrderByCreatedAtDesc(Collection<Long> userIds,
+                                                             Signal.Status status,
+                                                             Pageable pageable);
+
+    /**
+     * 按发布时间倒序查询多个作者在指定时间之前的信号，时间线不可用时直接查询关注动态。
+     *
+     * @param userIds 作者ID
+     * @param status 状态
+     * @param before 发布时间上限（不含）
+     * @param pageable 条数
+     * @return 信号列表
+     */
+    List<Signal> findByUserIdInAndStatusAndCreatedAtBeforeOrderByCreatedAtDesc(Collection<Long> userIds,
+                                                                               Signal.Status status,
+                                                                               Instant before,
+                                                                               Pageable pageable);
+
+    /**
+     * 累加信号的点赞、评论和浏览计数。
+     *
+     * @param signalId 信号ID
+     * @param likes 点赞增量
+     * @param comments 评论增量
+     * @param views 浏览增量
+     * @return 更新行数
+     */
+    @Modifying
+    @Query("UPDATE Signal s SET s.likeCount = COALESCE(s.likeCount, 0) + :likes, "
+            + "s.commentCount = COALESCE(s.commentCount, 0) + :comments, "
+            + "s.viewCount = COALESCE(s.viewCount, 0) + :views WHERE s.id = :signalId")
+    int addCounters(@Param("signalId") Long signalId,
+                    @Param("likes") int likes,
+                    @Param("comments") int comments,
+                    @Param("views") int views);
+
     /**
      * 计算用户的信号数量。
      *
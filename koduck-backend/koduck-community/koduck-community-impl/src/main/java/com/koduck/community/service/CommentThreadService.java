@@ -0,0 +1,56 @@
+package com.koduck.community.service;
+
+import com.koduck.community.dto.CommentDto;
+import com.koduck.community.service.support.CommentTree;
+
+import java.util.List;
+
+/**
+ * 评论树服务接口。
+ *
+ * <p>一次查询取出信号的全部评论并在内存中组装成树，组装结果按信号缓存；
+ * 分页只针对顶级评论，每条评论带有直接回复数，当前用户的点赞标记由一次批量查询得到。</p>
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+public interface CommentThreadService {
+
+    /**
+     * 读取一页顶级评论及其全部回复。
+     *
+     * @param signalId 信号ID
+     * @param viewerId 当前用户ID，为 {@code null} 时不查询点赞标记
+     * @param page 页码（从1开始）
+     * @param pageSize 每页顶级评论数
+     * @return 评论页
+     */
+    ThreadPage thread(Long signalId, Long viewerId, int page, int pageSize);
+
+    /**
+     * 读取信号的完整评论树，优先从缓存读取。
+     *
+     * @param signalId 信号ID
+     * @return 评论树
+     */
+    CommentTree tree(Long signalId);
+
+    /**
+     * 使信号的评论树缓存失效，评论被修改、删除或点赞数变化时调用。
+     *
+     * @param signalId 信号ID
+     */
+    void evict(Long signalId);
+
+    /**
+     * 评论页。
+     *
+     * @param comments 本页顶级评论，回复嵌套在各自的父评论下
+     * @param totalTopLevel 顶级评论总数
+     * @param totalComments 评论总数（含回复）
+     * @param page 页码
+     * @param pageSize 每页顶级评论数
+     */
+    record ThreadPage(List<CommentDto> comments, long totalTopLevel, long totalComments, int page, int pageSize) {
+    }
+}
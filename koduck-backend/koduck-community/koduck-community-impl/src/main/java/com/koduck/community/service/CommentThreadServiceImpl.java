@@ -0,0 +1,187 @@
+package com.koduck.community.service;
+
+import com.koduck.community.config.CommunityCacheConfig;
+import com.koduck.community.config.CommunityProperties;
+import com.koduck.community.dto.CommentDto;
+import com.koduck.community.dto.LikeDto;
+import com.koduck.community.event.CommentCreatedEvent;
+import com.koduck.community.repository.CommentRepository;
+import com.koduck.community.repository.LikeRepository;
+import com.koduck.community.service.support.CommentTree;
+import com.koduck.util.ThrottledLogger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 评论树服务实现。
+ *
+ * <p>评论树按信号ID缓存在 {@link CommunityCacheConfig#CACHE_COMMENT_THREADS} 中，新评论提交后失效；
+ * 未配置缓存管理器或缓存访问失败时直接从数据库组装。缓存的树与用户无关，点赞标记在分页后按本页评论批量查询。</p>
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+@Slf4j
+@Service
+public class CommentThreadServiceImpl implements CommentThreadService {
+
+    /** 评论存储库。 */
+    private final CommentRepository commentRepository;
+
+    /** 点赞存储库。 */
+    private final LikeRepository likeRepository;
+
+    /** 缓存管理器。 */
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    /** 评论树配置。 */
+    private final CommunityProperties.CommentConfig config;
+
+    /** 缓存失败告警，每 10 秒最多一次。 */
+    private final ThrottledLogger cacheWarnings = new ThrottledLogger(log, Duration.ofSeconds(10));
+
+    /**
+     * 构造评论树服务。
+     *
+     * @param commentRepository 评论存储库
+     * @param likeRepository 点赞存储库
+     * @param cacheManager 缓存管理器
+     * @param communityProperties 社区模块配置
+     */
+    public CommentThreadServiceImpl(CommentRepository commentRepository,
+                                    LikeRepository likeRepository,
+                                    ObjectProvider<CacheManager> cacheManager,
+                                    CommunityProperties communityProperties) {
+        this.commentRepository = commentRepository;
+        this.likeRepository = likeRepository;
+        this.cacheManager = cacheManager;
+        this.config = communityProperties.getComments();
+    }
+
+    @Override
+    public ThreadPage thread(Long signalId, Long viewerId, int page, int pageSize) {
+        int size = Math.max(1, Math.min(pageSize, config.getMaxPageSize()));
+        int pageNumber = Math.max(1, page);
+        CommentTree tree = tree(signalId);
+        List<CommentTree.Node> roots = tree.roots();
+        long from = (long) (pageNumber - 1) * size;
+        List<CommentTree.Node> slice = from >= roots.size()
+                ? List.of()
+                : roots.subList((int) from, (int) Math.min(from + size, roots.size()));
+
+        Set<Long> liked = likedComments(viewerId, slice);
+        List<CommentDto> comments = new ArrayList<>(slice.size());
+        for (CommentTree.Node node : slice) {
+            comments.add(toDto(signalId, node, viewerId == null ? null : liked));
+        }
+        return new ThreadPage(comments, roots.size(), tree.size(), pageNumber, size);
+    }
+
+    @Override
+    public CommentTree tree(Long signalId) {
+        Cache cache = cache();
+        if (cache != null) {
+            try {
+                CommentTree cached = cache.get(signalId, CommentTree.class);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+            catch (RuntimeException e) {
+                warnCache(e);
+            }
+        }
+        CommentTree tree = CommentTree.assemble(commentRepository.findBySignalIdOrderByIdAsc(signalId));
+        if (cache != null) {
+            try {
+                cache.put(signalId, tree);
+            }
+            catch (RuntimeException e) {
+                warnCache(e);
+            }
+        }
+        return tree;
+    }
+
+    @Override
+    public void evict(Long signalId) {
+        Cache cache = cache();
+        if (cache == null || signalId == null) {
+            return;
+        }
+        try {
+            cache.evict(signalId);
+        }
+        catch (RuntimeException e) {
+            warnCache(e);
+        }
+    }
+
+    /**
+     * 新评论提交后使评论树失效；在事务提交后执行，避免并发读取把提交前的树重新写入缓存。
+     *
+     * @param event 评论创建事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentCreated(CommentCreatedEvent event) {
+        evict(event.getSignalId());
+    }
+
+    private Set<Long> likedComments(Long viewerId, List<CommentTree.Node> slice) {
+        if (viewerId == null || slice.isEmpty()) {
+            return Set.of();
+        }
+        List<Long> ids = new ArrayList<>();
+        Deque<CommentTree.Node> pending = new ArrayDeque<>(slice);
+        while (!pending.isEmpty()) {
+            CommentTree.Node node = pending.pop();
+            ids.add(node.id());
+            pending.addAll(node.replies());
+        }
+        return new HashSet<>(likeRepository.findLikedTargetIds(viewerId, LikeDto.TargetType.COMMENT, ids));
+    }
+
+    private CommentDto toDto(Long signalId, CommentTree.Node node, Set<Long> liked) {
+        List<CommentDto> replies = new ArrayList<>(node.replies().size());
+        for (CommentTree.Node reply : node.replies()) {
+            replies.add(toDto(signalId, reply, liked));
+        }
+        return CommentDto.builder()
+                .id(node.id())
+                .signalId(signalId)
+                .parentId(node.parentId())
+                .userId(node.userId())
+                .content(node.content())
+                .likeCount(node.likeCount())
+                .replyCount(node.replyCount())
+                .likedByMe(liked == null ? null : liked.contains(node.id()))
+                .replies(replies)
+                .createdAt(node.createdAt())
+                .updatedAt(node.updatedAt())
+                .build();
+    }
+
+    private Cache cache() {
+        if (!config.isCacheEnabled()) {
+            return null;
+        }
+        CacheManager manager = cacheManager.getIfAvailable();
+        return manager == null ? null : manager.getCache(CommunityCacheConfig.CACHE_COMMENT_THREADS);
+    }
+
+    private void warnCache(RuntimeException e) {
+        cacheWarnings.warn("Comment thread cache unavailable, loading from the database: {}", e.getMessage());
+    }
+}
@@ -0,0 +1,82 @@
+package com.koduck.community.service;
+
+import com.koduck.community.entity.Signal;
+import com.koduck.community.service.support.FeedEntry;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 关注与关注动态服务接口。
+ *
+ * <p>关注动态由预先计算的每用户时间线提供：普通作者发布信号时写入粉丝的时间线，
+ * 粉丝数达到阈值的作者只写入自己的发件箱，读取时再拉取合并。</p>
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+public interface FeedService {
+
+    /**
+     * 关注作者，并把作者最近的信号回填到关注者的时间线。
+     *
+     * @param followerId 关注者ID
+     * @param followeeId 作者ID
+     * @return 是否新建了关注关系
+     */
+    boolean follow(Long followerId, Long followeeId);
+
+    /**
+     * 取消关注，并从关注者的时间线移除作者的信号。
+     *
+     * @param followerId 关注者ID
+     * @param followeeId 作者ID
+     * @return 是否删除了关注关系
+     */
+    boolean unfollow(Long followerId, Long followeeId);
+
+    /**
+     * 检查是否已关注。
+     *
+     * @param followerId 关注者ID
+     * @param followeeId 作者ID
+     * @return 是否已关注
+     */
+    boolean isFollowing(Long followerId, Long followeeId);
+
+    /**
+     * 读取关注动态条目。
+     *
+     * @param userId 用户ID
+     * @param before 发布时间上限（不含），为 {@code null} 时从最新开始；翻页时传上一页最后一条的发布时间
+     * @param limit 条数
+     * @return 按发布时间倒序的条目
+     */
+    List<FeedEntry> timeline(Long userId, Instant before, int limit);
+
+    /**
+     * 读取关注动态中的信号，已关闭的信号被跳过。
+     *
+     * @param userId 用户ID
+     * @param before 发布时间上限（不含），为 {@code null} 时从最新开始
+     * @param limit 条数
+     * @return 按发布时间倒序的信号
+     */
+    List<Signal> feed(Long userId, Instant before, int limit);
+
+    /**
+     * 把信号写入作者发件箱，作者不是读取时拉取的作者时再写入全部粉丝的时间线。
+     *
+     * @param signalId 信号ID
+     * @return 写入的时间线数
+     */
+    int fanOut(Long signalId);
+
+    /**
+     * 从数据库重建用户的时间线。
+     *
+     * @param userId 用户ID
+     * @return 写入的条目数
+     */
+    int rebuild(Long userId);
+}
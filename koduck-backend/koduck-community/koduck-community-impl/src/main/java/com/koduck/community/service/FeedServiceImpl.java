@@ -0,0 +1,355 @@
+package com.koduck.community.service;
+
+import com.koduck.community.config.CommunityProperties;
+import com.koduck.community.entity.Follow;
+import com.koduck.community.entity.Signal;
+import com.koduck.community.event.SignalPublishedEvent;
+import com.koduck.community.exception.CommunityException;
+import com.koduck.community.repository.FollowRepository;
+import com.koduck.community.repository.SignalRepository;
+import com.koduck.community.service.support.FeedEntry;
+import com.koduck.community.service.support.FeedStore;
+import com.koduck.community.service.support.LocalFeedStore;
+import com.koduck.community.service.support.RedisFeedStore;
+import com.koduck.util.ThrottledLogger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 关注与关注动态服务实现（混合推拉）。
+ *
+ * <p>信号发布并提交后异步写入作者发件箱；作者粉丝数低于 {@code pull-threshold} 时按粉丝ID分批写入粉丝时间线，
+ * 达到阈值后作者被标记为读取时拉取，此后只写发件箱。标记不会撤销：粉丝数回落后继续拉取，
+ * 只多读一个发件箱，而不会漏掉标记期间发布的信号。</p>
+ *
+ * <p>读取时取用户时间线，再合并其关注的拉取作者的发件箱；时间线不存在（新用户、过期或 Redis 被清空）时从数据库重建。
+ * 时间线存储不可用时直接按关注列表查询数据库。</p>
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+@Slf4j
+@Service
+public class FeedServiceImpl implements FeedService {
+
+    /** 关注关系存储库。 */
+    private final FollowRepository followRepository;
+
+    /** 信号存储库。 */
+    private final SignalRepository signalRepository;
+
+    /** 时间线存储。 */
+    private final FeedStore store;
+
+    /** 关注动态配置。 */
+    private final CommunityProperties.FeedConfig config;
+
+    /** 存储失败告警，每 10 秒最多一次。 */
+    private final ThrottledLogger storeWarnings = new ThrottledLogger(log, Duration.ofSeconds(10));
+
+    /**
+     * 构造关注动态服务。
+     *
+     * @param followRepository 关注关系存储库
+     * @param signalRepository 信号存储库
+     * @param redisTemplate Redis 模板
+     * @param communityProperties 社区模块配置
+     */
+    @Autowired
+    public FeedServiceImpl(FollowRepository followRepository,
+                           SignalRepository signalRepository,
+                           ObjectProvider<StringRedisTemplate> redisTemplate,
+                           CommunityProperties communityProperties) {
+        this(followRepository, signalRepository, createStore(redisTemplate, communityProperties.getFeed()),
+                communityProperties);
+    }
+
+    /**
+     * 构造关注动态服务（可注入存储，用于测试）。
+     *
+     * @param followRepository 关注关系存储库
+     * @param signalRepository 信号存储库
+     * @param store 时间线存储
+     * @param communityProperties 社区模块配置
+     */
+    FeedServiceImpl(FollowRepository followRepository,
+                    SignalRepository signalRepository,
+                    FeedStore store,
+                    CommunityProperties communityProperties) {
+        this.followRepository = followRepository;
+        this.signalRepository = signalRepository;
+        this.store = store;
+        this.config = communityProperties.getFeed();
+    }
+
+    @Override
+    public boolean follow(Long followerId, Long followeeId) {
+        if (followerId == null || followeeId == null) {
+            return false;
+        }
+        if (followerId.equals(followeeId)) {
+            throw new CommunityException("Users cannot follow themselves");
+        }
+        if (followRepository.existsByFollowerIdAndFolloweeId(followerId, followeeId)) {
+            return false;
+        }
+        Follow follow = new Follow();
+        follow.setFollowerId(followerId);
+        follow.setFolloweeId(followeeId);
+        try {
+            followRepository.save(follow);
+        }
+        catch (DataIntegrityViolationException e) {
+            return false;
+        }
+        if (config.isEnabled()) {
+            backfill(followerId, followeeId);
+        }
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public boolean unfollow(Long followerId, Long followeeId) {
+        if (followerId == null || followeeId == null) {
+            return false;
+        }
+        boolean deleted = followRepository.deleteFollow(followerId, followeeId) > 0;
+        if (deleted && config.isEnabled()) {
+            try {
+                store.removeAuthor(followerId, followeeId);
+            }
+            catch (RuntimeException e) {
+                warnStore(e);
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public boolean isFollowing(Long followerId, Long followeeId) {
+        return followerId != null && followeeId != null
+                && followRepository.existsByFollowerIdAndFolloweeId(followerId, followeeId);
+    }
+
+    @Override
+    public List<FeedEntry> timeline(Long userId, Instant before, int limit) {
+        int size = Math.max(1, Math.min(limit, config.getMaxLimit()));
+        long beforeMillis = before == null ? Long.MAX_VALUE : before.toEpochMilli();
+        if (config.isEnabled()) {
+            try {
+                return readTimeline(userId, beforeMillis, size);
+            }
+            catch (RuntimeException e) {
+                warnStore(e);
+            }
+        }
+        return readDatabase(userId, before, size);
+    }
+
+    @Override
+    public List<Signal> feed(Long userId, Instant before, int limit) {
+        List<FeedEntry> entries = timeline(userId, before, limit);
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(entries.size());
+        for (FeedEntry entry : entries) {
+            ids.add(entry.signalId());
+        }
+        Map<Long, Signal> signals = new HashMap<>(ids.size() * 2);
+        for (Signal signal : signalRepository.findAllById(ids)) {
+            signals.put(signal.getId(), signal);
+        }
+        List<Signal> feed = new ArrayList<>(entries.size());
+        for (FeedEntry entry : entries) {
+            Signal signal = signals.get(entry.signalId());
+            if (signal != null && signal.getStatus() == Signal.Status.ACTIVE) {
+                feed.add(signal);
+            }
+        }
+        return feed;
+    }
+
+    /**
+     * 信号发布事件提交后异步写入时间线。
+     *
+     * @param event 信号发布事件
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSignalPublished(SignalPublishedEvent event) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            int written = fanOut(event.getSignalId());
+            log.debug("Signal {} fanned out to {} timelines", event.getSignalId(), written);
+        }
+        catch (RuntimeException e) {
+            log.warn("Signal {} fan-out failed: {}", event.getSignalId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public int fanOut(Long signalId) {
+        Signal signal = signalId == null ? null : signalRepository.findById(signalId).orElse(null);
+        if (signal == null || signal.getStatus() != Signal.Status.ACTIVE
+                || signal.getUserId() == null || signal.getCreatedAt() == null) {
+            return 0;
+        }
+        FeedEntry entry = FeedEntry.of(signal);
+        Long authorId = signal.getUserId();
+        store.publish(authorId, List.of(entry));
+        if (store.celebrities().contains(authorId)) {
+            return 0;
+        }
+        if (followRepository.countByFolloweeId(authorId) >= config.getPullThreshold()) {
+            store.addCelebrity(authorId);
+            log.info("Author {} reached {} followers, signals will be pulled at read time",
+                    authorId, config.getPullThreshold());
+            return 0;
+        }
+        int batchSize = Math.max(1, config.getFanOutBatchSize());
+        int written = 0;
+        long after = 0L;
+        while (true) {
+            List<Long> followers = followRepository.findFollowerIdsAfter(authorId, after, PageRequest.of(0, batchSize));
+            if (followers.isEmpty()) {
+                break;
+            }
+            store.push(followers, entry);
+            written += followers.size();
+            after = followers.get(followers.size() - 1);
+            if (followers.size() < batchSize) {
+                break;
+            }
+        }
+        return written;
+    }
+
+    @Override
+    public int rebuild(Long userId) {
+        Set<Long> celebrities = store.celebrities();
+        List<Long> authorIds = new ArrayList<>();
+        for (Long followeeId : followRepository.findFolloweeIds(userId)) {
+            if (!celebrities.contains(followeeId)) {
+                authorIds.add(followeeId);
+            }
+        }
+        List<FeedEntry> entries = new ArrayList<>();
+        if (!authorIds.isEmpty()) {
+            for (Signal signal : signalRepository.findByUserIdInAndStatusOrderByCreatedAtDesc(
+                    authorIds, Signal.Status.ACTIVE, PageRequest.of(0, config.getTimelineSize()))) {
+                entries.add(FeedEntry.of(signal));
+            }
+        }
+        store.addAll(userId, entries);
+        return entries.size();
+    }
+
+    private List<FeedEntry> readTimeline(Long userId, long before, int limit) {
+        List<FeedEntry> pushed = store.timeline(userId, before, limit);
+        if (pushed == null) {
+            rebuild(userId);
+            pushed = store.timeline(userId, before, limit);
+        }
+        List<FeedEntry> merged = new ArrayList<>(pushed == null ? List.of() : pushed);
+        Set<Long> celebrities = store.celebrities();
+        if (!celebrities.isEmpty()) {
+            for (Long authorId : followRepository.findFolloweeIdsIn(userId, celebrities)) {
+                merged.addAll(store.outbox(authorId, before, limit));
+            }
+        }
+        return newest(merged, limit);
+    }
+
+    private List<FeedEntry> readDatabase(Long userId, Instant before, int limit) {
+        List<Long> authorIds = followRepository.findFolloweeIds(userId);
+        if (authorIds.isEmpty()) {
+            return List.of();
+        }
+        List<Signal> signals = before == null
+                ? signalRepository.findByUserIdInAndStatusOrderByCreatedAtDesc(
+                        authorIds, Signal.Status.ACTIVE, PageRequest.of(0, limit))
+                : signalRepository.findByUserIdInAndStatusAndCreatedAtBeforeOrderByCreatedAtDesc(
+                        authorIds, Signal.Status.ACTIVE, before, PageRequest.of(0, limit));
+        List<FeedEntry> entries = new ArrayList<>(signals.size());
+        for (Signal signal : signals) {
+            entries.add(FeedEntry.of(signal));
+        }
+        return entries;
+    }
+
+    private void backfill(Long followerId, Long followeeId) {
+        try {
+            if (store.celebrities().contains(followeeId) || store.timeline(followerId, Long.MAX_VALUE, 0) == null) {
+                return;
+            }
+            List<FeedEntry> recent = store.outbox(followeeId, Long.MAX_VALUE, config.getBackfillSize());
+            if (recent.isEmpty()) {
+                List<FeedEntry> loaded = new ArrayList<>();
+                for (Signal signal : signalRepository.findByUserIdAndStatusOrderByCreatedAtDesc(
+                        followeeId, Signal.Status.ACTIVE, PageRequest.of(0, config.getOutboxSize()))) {
+                    loaded.add(FeedEntry.of(signal));
+                }
+                store.publish(followeeId, loaded);
+                recent = loaded.subList(0, Math.min(loaded.size(), config.getBackfillSize()));
+            }
+            store.addAll(followerId, recent);
+        }
+        catch (RuntimeException e) {
+            warnStore(e);
+        }
+    }
+
+    private static List<FeedEntry> newest(List<FeedEntry> entries, int limit) {
+        entries.sort(FeedEntry.NEWEST_FIRST);
+        Set<Long> seen = new HashSet<>(entries.size() * 2);
+        List<FeedEntry> result = new ArrayList<>(Math.min(limit, entries.size()));
+        for (FeedEntry entry : entries) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (seen.add(entry.signalId())) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    private void warnStore(RuntimeException e) {
+        storeWarnings.warn("Feed timeline store unavailable, reading followed signals from the database: {}",
+                e.getMessage());
+    }
+
+    private static FeedStore createStore(ObjectProvider<StringRedisTemplate> redisTemplate,
+                                         CommunityProperties.FeedConfig config) {
+        if ("redis".equalsIgnoreCase(config.getStore())) {
+            StringRedisTemplate redis = redisTemplate.getIfAvailable();
+            if (redis != null) {
+                return new RedisFeedStore(redis, config.getTimelineSize(), config.getOutboxSize(),
+                        Duration.ofHours(config.getTimelineTtlHours()));
+            }
+            log.warn("No Redis available for feed timelines, keeping them in memory on this instance");
+        }
+        return new LocalFeedStore(config.getTimelineSize(), config.getOutboxSize());
+    }
+}
@@ -0,0 +1,77 @@
+package com.koduck.community.service;
+
+import com.koduck.community.entity.Signal;
+
+import java.util.List;
+
+/**
+ * 热门信号排行服务接口。
+ *
+ * <p>热度随发布时间衰减，在点赞、评论、浏览时增量更新；读取只取前 K 名，不对信号表排序。</p>
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+public interface HotSignalService {
+
+    /**
+     * 记录点赞或取消点赞。
+     *
+     * @param signalId 信号ID
+     * @param liked 点赞为 {@code true}，取消点赞为 {@code false}
+     */
+    void recordLike(Long signalId, boolean liked);
+
+    /**
+     * 记录一条评论。
+     *
+     * @param signalId 信号ID
+     */
+    void recordComment(Long signalId);
+
+    /**
+     * 记录一次浏览。
+     *
+     * @param signalId 信号ID
+     */
+    void recordView(Long signalId);
+
+    /**
+     * 读取排行前 K 名。
+     *
+     * @param limit 返回条数上限
+     * @return 按热度降序排列的信号ID与分数
+     */
+    List<HotSignal> top(int limit);
+
+    /**
+     * 读取热门信号实体，按热度降序；已不再活跃的信号会被移出排行。
+     *
+     * @param limit 返回条数上限
+     * @return 信号列表
+     */
+    List<Signal> hotSignals(int limit);
+
+    /**
+     * 丢弃内存排行，从近期活跃信号重建，并补齐 Redis 中缺失的信号。
+     *
+     * @return 重建后的信号数
+     */
+    int rebuild();
+
+    /**
+     * 移除不可能再进入榜单的旧信号，并把排行压到条目数上限。
+     *
+     * @return Redis 中移除的信号数；未使用 Redis 时为内存中移除的信号数
+     */
+    int compact();
+
+    /**
+     * 排名条目。
+     *
+     * @param signalId 信号ID
+     * @param score 热度分数
+     */
+    record HotSignal(Long signalId, double score) {
+    }
+}
@@ -0,0 +1,443 @@
+package com.koduck.community.service;
+
+import com.koduck.common.constants.RedisKeyConstants;
+import com.koduck.community.config.CommunityProperties;
+import com.koduck.community.entity.Signal;
+import com.koduck.community.event.CommentCreatedEvent;
+import com.koduck.community.event.SignalPublishedEvent;
+import com.koduck.community.repository.SignalRepository;
+import com.koduck.community.service.support.HotSignalIndex;
+import com.koduck.util.ThrottledLogger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 热门信号排行服务实现。
+ *
+ * <p>分数规则见 {@link HotSignalIndex}。Redis 中 {@code community:hot:{signals}} 有序集合保存分数，
+ * 同槽位的哈希保存每个信号的加权互动量；一次互动由一个 Lua 脚本读出旧互动量、反推发布时间基准分并写回新分数，
+ * 多实例并发累加不会相互覆盖。信号首次出现时从数据库读取发布时间与累计计数作为初始值。</p>
+ *
+ * <p>本实例同时维护一份内存排行，Redis 未配置或访问失败时由它回答查询；它只包含数据库初始值与本实例收到的互动。
+ * 定时压缩移除分数低于“{@code max-age-hours} 前发布的零互动信号”的条目，这些信号已不可能超过新信号，
+ * 并把条目数压到 {@code max-entries}。</p>
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+@Slf4j
+@Service
+public class HotSignalServiceImpl implements HotSignalService {
+
+    /**
+     * 累加脚本：KEYS[1] 分数有序集合，KEYS[2] 互动量哈希；ARGV[1] 信号ID，ARGV[2] 互动量增量，
+     * ARGV[3]、ARGV[4] 为信号不在集合中时使用的基准分与初始互动量，为空串时不加入。
+     * 返回新的互动量，信号不在集合中且未给出初始值时返回 nil。
+     */
+    static final RedisScript<String> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('ZSCORE', KEYS[1], ARGV[1]) "
+                    + "local before = tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0') "
+                    + "local base "
+                    + "if current then base = tonumber(current) - math.log10(math.max(before, 1)) "
+                    + "elseif ARGV[3] ~= '' then base = tonumber(ARGV[3]) before = tonumber(ARGV[4]) "
+                    + "else return false end "
+                    + "local after = math.max(before + tonumber(ARGV[2]), 0) "
+                    + "redis.call('HSET', KEYS[2], ARGV[1], string.format('%.17g', after)) "
+                    + "redis.call('ZADD', KEYS[1], "
+                    + "string.format('%.17g', base + math.log10(math.max(after, 1))), ARGV[1]) "
+                    + "return string.format('%.17g', after)",
+            String.class);
+
+    /**
+     * 压缩脚本：KEYS 同上；ARGV[1] 淘汰线，ARGV[2] 条目数上限。先取分数低于淘汰线的信号，
+     * 再从低分端补足超出上限的部分，分批从有序集合与哈希中删除。返回删除的信号数。
+     */
+    static final RedisScript<Long> COMPACT_SCRIPT = new DefaultRedisScript<>(
+            "local stale = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[1]) "
+                    + "local extra = redis.call('ZCARD', KEYS[1]) - #stale - tonumber(ARGV[2]) "
+                    + "if extra > 0 then "
+                    + "for _, member in ipairs(redis.call('ZRANGE', KEYS[1], #stale, #stale + extra - 1)) do "
+                    + "stale[#stale + 1] = member end end "
+                    + "for i = 1, #stale, 500 do "
+                    + "local batch = {unpack(stale, i, math.min(i + 499, #stale))} "
+                    + "redis.call('ZREM', KEYS[1], unpack(batch)) "
+                    + "redis.call('HDEL', KEYS[2], unpack(batch)) end "
+                    + "return #stale",
+            Long.class);
+
+    /** 脚本操作的键。 */
+    private static final List<String> KEYS = List.of(
+            RedisKeyConstants.COMMUNITY_HOT_SIGNALS, RedisKeyConstants.COMMUNITY_HOT_SIGNAL_ENGAGEMENT);
+
+    /** 信号存储库。 */
+    private final SignalRepository signalRepository;
+
+    /** Redis 模板。 */
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
+
+    /** 热门排行配置。 */
+    private final CommunityProperties.HotConfig config;
+
+    /** 时钟。 */
+    private final Clock clock;
+
+    /** 本实例内存排行。 */
+    private final HotSignalIndex local = new HotSignalIndex();
+
+    /** 已确认不进入排行的信号（非活跃或过旧），每次压缩时清空。 */
+    private final Set<Long> ignored = ConcurrentHashMap.newKeySet();
+
+    /** 重建互斥锁。 */
+    private final Object loadMonitor = new Object();
+
+    /** Redis 失败告警，每 10 秒最多一次。 */
+    private final ThrottledLogger redisWarnings = new ThrottledLogger(log, Duration.ofSeconds(10));
+
+    /** 内存排行是否已从数据库加载。 */
+    private volatile boolean loaded;
+
+    /**
+     * 构造热门信号排行服务。
+     *
+     * @param signalRepository 信号存储库
+     * @param redisTemplate Redis 模板
+     * @param communityProperties 社区模块配置
+     */
+    @Autowired
+    public HotSignalServiceImpl(SignalRepository signalRepository,
+                                ObjectProvider<StringRedisTemplate> redisTemplate,
+                                CommunityProperties communityProperties) {
+        this(signalRepository, redisTemplate, communityProperties, Clock.systemUTC());
+    }
+
+    /**
+     * 构造热门信号排行服务（可注入时钟，用于测试）。
+     *
+     * @param signalRepository 信号存储库
+     * @param redisTemplate Redis 模板
+     * @param communityProperties 社区模块配置
+     * @param clock 时钟
+     */
+    HotSignalServiceImpl(SignalRepository signalRepository,
+                         ObjectProvider<StringRedisTemplate> redisTemplate,
+                         CommunityProperties communityProperties,
+                         Clock clock) {
+        this.signalRepository = signalRepository;
+        this.redisTemplate = redisTemplate;
+        this.config = communityProperties.getHot();
+        this.clock = clock;
+    }
+
+    /**
+     * 新信号发布后加入排行。
+     *
+     * @param event 信号发布事件
+     */
+    @EventListener
+    public void onSignalPublished(SignalPublishedEvent event) {
+        record(event.getSignalId(), 0.0);
+    }
+
+    /**
+     * 评论创建后累加所属信号的热度。
+     *
+     * @param event 评论创建事件
+     */
+    @EventListener
+    public void onCommentCreated(CommentCreatedEvent event) {
+        recordComment(event.getSignalId());
+    }
+
+    @Override
+    public void recordLike(Long signalId, boolean liked) {
+        record(signalId, liked ? config.getLikeWeight() : -config.getLikeWeight());
+    }
+
+    @Override
+    public void recordComment(Long signalId) {
+        record(signalId, config.getCommentWeight());
+    }
+
+    @Override
+    public void recordView(Long signalId) {
+        record(signalId, config.getViewWeight());
+    }
+
+    @Override
+    public List<HotSignal> top(int limit) {
+        if (!config.isEnabled() || limit <= 0) {
+            return List.of();
+        }
+        int capped = Math.min(limit, Math.max(1, config.getMaxLimit()));
+        StringRedisTemplate redis = redis();
+        if (redis != null) {
+            try {
+                Set<ZSetOperations.TypedTuple<String>> ranked = redis.opsForZSet()
+                        .reverseRangeWithScores(RedisKeyConstants.COMMUNITY_HOT_SIGNALS, 0, capped - 1L);
+                if (ranked != null && !ranked.isEmpty()) {
+                    List<HotSignal> result = new ArrayList<>(ranked.size());
+                    for (ZSetOperations.TypedTuple<String> entry : ranked) {
+                        if (entry.getValue() != null && entry.getScore() != null) {
+                            result.add(new HotSignal(Long.valueOf(entry.getValue()), entry.getScore()));
+                        }
+                    }
+                    return result;
+                }
+            }
+            catch (RuntimeException e) {
+                warnRedis(e);
+            }
+        }
+        ensureLoaded();
+        List<HotSignal> result = new ArrayList<>();
+        for (HotSignalIndex.Entry entry : local.top(capped)) {
+            result.add(new HotSignal(entry.signalId(), entry.score()));
+        }
+        return result;
+    }
+
+    @Override
+    public List<Signal> hotSignals(int limit) {
+        List<HotSignal> ranked = top(limit);
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(ranked.size());
+        for (HotSignal entry : ranked) {
+            ids.add(entry.signalId());
+        }
+        Map<Long, Signal> byId = new HashMap<>();
+        for (Signal signal : signalRepository.findAllById(ids)) {
+            byId.put(signal.getId(), signal);
+        }
+        List<Signal> result = new ArrayList<>(ranked.size());
+        for (HotSignal entry : ranked) {
+            Signal signal = byId.get(entry.signalId());
+            if (signal != null && signal.getStatus() == Signal.Status.ACTIVE) {
+                result.add(signal);
+            }
+            else {
+                evict(entry.signalId());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int rebuild() {
+        synchronized (loadMonitor) {
+            Instant since = clock.instant().minus(maxAge());
+            List<Signal> recent = signalRepository.findByStatusAndCreatedAtAfter(Signal.Status.ACTIVE, since);
+            local.clear();
+            ignored.clear();
+            for (Signal signal : recent) {
+                local.seed(signal.getId(), base(signal), engagement(signal));
+            }
+            local.compact(minScore(), maxEntries());
+            int mirrored = seedRedis();
+            loaded = true;
+            log.info("Hot signal ranking rebuilt: recent={}, ranked={}, mirrored={}",
+                    recent.size(), local.size(), mirrored);
+            return local.size();
+        }
+    }
+
+    /**
+     * 定时压缩排行。
+     */
+    @Scheduled(fixedDelayString = "${koduck.community.hot.compaction-interval-ms:300000}")
+    public void scheduledCompaction() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            compact();
+        }
+        catch (RuntimeException e) {
+            log.warn("Hot signal compaction failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public int compact() {
+        ensureLoaded();
+        double minScore = minScore();
+        int removed = local.compact(minScore, maxEntries());
+        ignored.clear();
+        StringRedisTemplate redis = redis();
+        if (redis == null) {
+            return removed;
+        }
+        try {
+            Long redisRemoved = redis.execute(COMPACT_SCRIPT, KEYS,
+                    Double.toString(minScore), Integer.toString(maxEntries()));
+            Long size = redis.opsForZSet().zCard(RedisKeyConstants.COMMUNITY_HOT_SIGNALS);
+            if (size != null && size == 0 && local.size() > 0) {
+                log.info("Hot signal ranking missing in Redis, reseeded {} signals", seedRedis());
+            }
+            return redisRemoved == null ? 0 : redisRemoved.intValue();
+        }
+        catch (RuntimeException e) {
+            warnRedis(e);
+            return removed;
+        }
+    }
+
+    private void record(Long signalId, double delta) {
+        if (!config.isEnabled() || signalId == null || ignored.contains(signalId)) {
+            return;
+        }
+        try {
+            ensureLoaded();
+            Signal loadedSignal = null;
+            if (Double.isNaN(local.increment(signalId, delta))) {
+                loadedSignal = loadEligible(signalId);
+                if (loadedSignal == null) {
+                    ignored.add(signalId);
+                    return;
+                }
+                local.seed(signalId, base(loadedSignal), engagement(loadedSignal));
+                local.increment(signalId, delta);
+            }
+            StringRedisTemplate redis = redis();
+            if (redis == null) {
+                return;
+            }
+            try {
+                if (increment(redis, signalId, delta, null, 0.0) == null) {
+                    Signal signal = loadedSignal != null ? loadedSignal : loadEligible(signalId);
+                    if (signal != null) {
+                        increment(redis, signalId, delta, base(signal), engagement(signal));
+                    }
+                }
+            }
+            catch (RuntimeException e) {
+                warnRedis(e);
+            }
+        }
+        catch (RuntimeException e) {
+            log.warn("Hot signal update failed: signalId={}, error={}", signalId, e.getMessage());
+        }
+    }
+
+    private String increment(StringRedisTemplate redis, long signalId, double delta, Double base,
+                             double engagement) {
+        return redis.execute(INCREMENT_SCRIPT, KEYS, Long.toString(signalId), Double.toString(delta),
+                base == null ? "" : Double.toString(base), Double.toString(engagement));
+    }
+
+    private int seedRedis() {
+        StringRedisTemplate redis = redis();
+        if (redis == null) {
+            return 0;
+        }
+        int seeded = 0;
+        try {
+            for (HotSignalIndex.Entry entry : local.top(local.size())) {
+                increment(redis, entry.signalId(), 0.0, entry.base(), entry.engagement());
+                seeded++;
+            }
+        }
+        catch (RuntimeException e) {
+            warnRedis(e);
+        }
+        return seeded;
+    }
+
+    private void evict(Long signalId) {
+        local.remove(signalId);
+        StringRedisTemplate redis = redis();
+        if (redis == null) {
+            return;
+        }
+        try {
+            redis.opsForZSet().remove(RedisKeyConstants.COMMUNITY_HOT_SIGNALS, signalId.toString());
+            redis.opsForHash().delete(RedisKeyConstants.COMMUNITY_HOT_SIGNAL_ENGAGEMENT, signalId.toString());
+        }
+        catch (RuntimeException e) {
+            warnRedis(e);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (loadMonitor) {
+            if (loaded) {
+                return;
+            }
+            try {
+                rebuild();
+            }
+            catch (RuntimeException e) {
+                log.warn("Hot signal ranking rebuild failed, starting empty: {}", e.getMessage());
+                loaded = true;
+            }
+        }
+    }
+
+    private Signal loadEligible(Long signalId) {
+        return signalRepository.findById(signalId)
+                .filter(signal -> signal.getStatus() == Signal.Status.ACTIVE)
+                .filter(signal -> HotSignalIndex.score(base(signal), engagement(signal)) >= minScore())
+                .orElse(null);
+    }
+
+    private double base(Signal signal) {
+        Instant createdAt = signal.getCreatedAt() != null ? signal.getCreatedAt() : clock.instant();
+        return base(createdAt);
+    }
+
+    private double base(Instant createdAt) {
+        return createdAt.getEpochSecond() / (double) Math.max(1L, config.getDecaySeconds());
+    }
+
+    private double engagement(Signal signal) {
+        return count(signal.getLikeCount()) * config.getLikeWeight()
+                + count(signal.getCommentCount()) * config.getCommentWeight()
+                + count(signal.getViewCount()) * config.getViewWeight();
+    }
+
+    private double minScore() {
+        return base(clock.instant().minus(maxAge()));
+    }
+
+    private Duration maxAge() {
+        return Duration.ofHours(config.getMaxAgeHours());
+    }
+
+    private int maxEntries() {
+        return Math.max(1, config.getMaxEntries());
+    }
+
+    private StringRedisTemplate redis() {
+        return config.isRedisEnabled() ? redisTemplate.getIfAvailable() : null;
+    }
+
+    private void warnRedis(RuntimeException e) {
+        redisWarnings.warn("Redis hot signal ranking unavailable, using local ranking: {}", e.getMessage());
+    }
+
+    private static int count(Integer value) {
+        return value == null ? 0 : value;
+    }
+}
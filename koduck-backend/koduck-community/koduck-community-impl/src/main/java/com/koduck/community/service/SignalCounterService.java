@@ -0,0 +1,60 @@
+package com.koduck.community.service;
+
+import com.koduck.community.entity.Signal;
+import com.koduck.community.service.support.SignalCounter;
+
+/**
+ * 信号计数服务接口。
+ *
+ * <p>点赞、评论、浏览计数的增量先进入缓冲，定时合并后按批写回 {@code community_signals}，
+ * 热门信号上的并发互动不再逐次更新同一行。</p>
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+public interface SignalCounterService {
+
+    /**
+     * 计数加一。
+     *
+     * @param signalId 信号ID
+     * @param counter 计数
+     */
+    default void increment(Long signalId, SignalCounter counter) {
+        add(signalId, counter, 1L);
+    }
+
+    /**
+     * 累加计数增量。
+     *
+     * @param signalId 信号ID
+     * @param counter 计数
+     * @param delta 增量，取消点赞等为负
+     */
+    void add(Long signalId, SignalCounter counter, long delta);
+
+    /**
+     * 当前计数：数据库中的值加上尚未写回的增量。
+     *
+     * @param signal 从数据库读取的信号
+     * @return 计数
+     */
+    SignalCounts counts(Signal signal);
+
+    /**
+     * 写回一批增量。
+     *
+     * @return 本批更新的信号数
+     */
+    int flush();
+
+    /**
+     * 信号计数。
+     *
+     * @param likes 点赞数
+     * @param comments 评论数
+     * @param views 浏览数
+     */
+    record SignalCounts(long likes, long comments, long views) {
+    }
+}
@@ -0,0 +1,252 @@
+package com.koduck.community.service;
+
+import com.koduck.community.config.CommunityProperties;
+import com.koduck.community.entity.Signal;
+import com.koduck.community.repository.CounterFlushRepository;
+import com.koduck.community.repository.SignalRepository;
+import com.koduck.community.service.support.LocalSignalCounterBuffer;
+import com.koduck.community.service.support.RedisSignalCounterBuffer;
+import com.koduck.community.service.support.SignalCounter;
+import com.koduck.community.service.support.SignalCounterBuffer;
+import jakarta.annotation.PreDestroy;
+import com.koduck.util.ThrottledLogger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 信号计数服务实现（写回缓冲）。
+ *
+ * <p>增量进入 {@link SignalCounterBuffer}：默认是 Redis 缓冲，多实例共享，应用重启后由下一次写回继续；
+ * 未配置 Redis 或 {@code store=local} 时使用本实例的分片内存缓冲，正常关闭前会写回。
+ * Redis 访问失败时该次增量直接更新数据库，不会因缓冲不可用而丢失。</p>
+ *
+ * <p>写回在一个事务中先写入批次标记再按信号ID顺序更新计数，多实例并发写回同一批时按相同顺序加锁，不会死锁；
+ * 标记已存在说明该批已写回过，只确认不再累加，因此写回后来不及确认就退出的批次被重放时也只生效一次。</p>
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+@Slf4j
+@Service
+public class SignalCounterServiceImpl implements SignalCounterService {
+
+    /** 关闭时最多写回的批次数。 */
+    private static final int SHUTDOWN_FLUSH_ROUNDS = 3;
+
+    /** 信号存储库。 */
+    private final SignalRepository signalRepository;
+
+    /** 批次标记存储库。 */
+    private final CounterFlushRepository counterFlushRepository;
+
+    /** 增量缓冲。 */
+    private final SignalCounterBuffer buffer;
+
+    /** 计数写回配置。 */
+    private final CommunityProperties.CounterConfig config;
+
+    /** 事务模板。 */
+    private final TransactionTemplate transactionTemplate;
+
+    /** 时钟。 */
+    private final Clock clock;
+
+    /** 缓冲失败告警，每 10 秒最多一次。 */
+    private final ThrottledLogger bufferWarnings = new ThrottledLogger(log, Duration.ofSeconds(10));
+
+    /**
+     * 构造信号计数服务。
+     *
+     * @param signalRepository 信号存储库
+     * @param counterFlushRepository 批次标记存储库
+     * @param redisTemplate Redis 模板
+     * @param communityProperties 社区模块配置
+     * @param transactionManager 事务管理器
+     */
+    @Autowired
+    public SignalCounterServiceImpl(SignalRepository signalRepository,
+                                    CounterFlushRepository counterFlushRepository,
+                                    ObjectProvider<StringRedisTemplate> redisTemplate,
+                                    CommunityProperties communityProperties,
+                                    PlatformTransactionManager transactionManager) {
+        this(signalRepository, counterFlushRepository,
+                createBuffer(redisTemplate, communityProperties.getCounters()),
+                communityProperties, new TransactionTemplate(transactionManager), Clock.systemUTC());
+    }
+
+    /**
+     * 构造信号计数服务（可注入缓冲与时钟，用于测试）。
+     *
+     * @param signalRepository 信号存储库
+     * @param counterFlushRepository 批次标记存储库
+     * @param buffer 增量缓冲
+     * @param communityProperties 社区模块配置
+     * @param transactionTemplate 事务模板
+     * @param clock 时钟
+     */
+    SignalCounterServiceImpl(SignalRepository signalRepository,
+                             CounterFlushRepository counterFlushRepository,
+                             SignalCounterBuffer buffer,
+                             CommunityProperties communityProperties,
+                             TransactionTemplate transactionTemplate,
+                             Clock clock) {
+        this.signalRepository = signalRepository;
+        this.counterFlushRepository = counterFlushRepository;
+        this.buffer = buffer;
+        this.config = communityProperties.getCounters();
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+    }
+
+    @Override
+    public void add(Long signalId, SignalCounter counter, long delta) {
+        if (signalId == null || counter == null || delta == 0) {
+            return;
+        }
+        if (config.isEnabled()) {
+            try {
+                buffer.add(signalId, counter, delta);
+                return;
+            }
+            catch (RuntimeException e) {
+                warnBuffer(e);
+            }
+        }
+        long[] deltas = new long[SignalCounter.values().length];
+        deltas[counter.ordinal()] = delta;
+        transactionTemplate.executeWithoutResult(status -> update(signalId, deltas));
+    }
+
+    @Override
+    public SignalCounts counts(Signal signal) {
+        long[] pending = new long[SignalCounter.values().length];
+        if (config.isEnabled() && signal.getId() != null) {
+            try {
+                pending = buffer.pending(signal.getId());
+            }
+            catch (RuntimeException e) {
+                warnBuffer(e);
+            }
+        }
+        return new SignalCounts(
+                count(signal.getLikeCount()) + pending[SignalCounter.LIKES.ordinal()],
+                count(signal.getCommentCount()) + pending[SignalCounter.COMMENTS.ordinal()],
+                count(signal.getViewCount()) + pending[SignalCounter.VIEWS.ordinal()]);
+    }
+
+    /**
+     * 定时写回。
+     */
+    @Scheduled(fixedDelayString = "${koduck.community.counters.flush-interval-ms:2000}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        }
+        catch (RuntimeException e) {
+            log.warn("Signal counter flush failed, batch will be retried: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized int flush() {
+        SignalCounterBuffer.Batch batch = buffer.claim();
+        if (batch == null) {
+            return 0;
+        }
+        Integer updated = transactionTemplate.execute(status -> apply(batch));
+        buffer.acknowledge(batch);
+        if (updated != null && updated > 0) {
+            log.debug("Signal counters flushed: batch={}, signals={}", batch.id(), updated);
+        }
+        return updated == null ? 0 : updated;
+    }
+
+    /**
+     * 关闭前写回缓冲中的增量；第一批可能是重放的旧批次，因此多写回几轮。
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            for (int i = 0; i < SHUTDOWN_FLUSH_ROUNDS; i++) {
+                flush();
+            }
+        }
+        catch (RuntimeException e) {
+            log.warn("Signal counter flush on shutdown failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 定时清理过期批次标记。
+     */
+    @Scheduled(fixedDelayString = "${koduck.community.counters.marker-cleanup-interval-ms:3600000}")
+    public void purgeFlushMarkers() {
+        try {
+            Integer removed = transactionTemplate.execute(status -> counterFlushRepository.deleteFlushedBefore(
+                    clock.instant().minus(Duration.ofHours(config.getMarkerRetentionHours()))));
+            if (removed != null && removed > 0) {
+                log.debug("Signal counter flush markers purged: {}", removed);
+            }
+        }
+        catch (RuntimeException e) {
+            log.warn("Signal counter flush marker purge failed: {}", e.getMessage());
+        }
+    }
+
+    private int apply(SignalCounterBuffer.Batch batch) {
+        if (counterFlushRepository.existsById(batch.id())) {
+            log.info("Signal counter batch {} already flushed, skipping replay", batch.id());
+            return 0;
+        }
+        counterFlushRepository.insert(batch.id(), clock.instant());
+        List<Long> signalIds = new ArrayList<>(batch.deltas().keySet());
+        Collections.sort(signalIds);
+        int updated = 0;
+        for (Long signalId : signalIds) {
+            updated += update(signalId, batch.deltas().get(signalId));
+        }
+        return updated;
+    }
+
+    private int update(Long signalId, long[] deltas) {
+        int likes = Math.toIntExact(deltas[SignalCounter.LIKES.ordinal()]);
+        int comments = Math.toIntExact(deltas[SignalCounter.COMMENTS.ordinal()]);
+        int views = Math.toIntExact(deltas[SignalCounter.VIEWS.ordinal()]);
+        if (likes == 0 && comments == 0 && views == 0) {
+            return 0;
+        }
+        return signalRepository.addCounters(signalId, likes, comments, views);
+    }
+
+    private void warnBuffer(RuntimeException e) {
+        bufferWarnings.warn("Signal counter buffer unavailable, writing through to the database: {}", e.getMessage());
+    }
+
+    private static SignalCounterBuffer createBuffer(ObjectProvider<StringRedisTemplate> redisTemplate,
+                                                    CommunityProperties.CounterConfig config) {
+        if ("redis".equalsIgnoreCase(config.getStore())) {
+            StringRedisTemplate redis = redisTemplate.getIfAvailable();
+            if (redis != null) {
+                return new RedisSignalCounterBuffer(redis);
+            }
+            log.warn("No Redis available for signal counters, buffering in memory until the next flush");
+        }
+        return new LocalSignalCounterBuffer(config.getShards());
+    }
+
+    private static long count(Integer value) {
+        return value == null ? 0L : value;
+    }
+}
@@ -0,0 +1,207 @@
+package com.koduck.community.service;
+
+import com.koduck.community.api.SignalQueryService;
+import com.koduck.community.dto.SignalDetailDto;
+import com.koduck.community.dto.SignalDto;
+import com.koduck.community.dto.SignalSummaryDto;
+import com.koduck.community.entity.Signal;
+import com.koduck.community.exception.SignalException;
+import com.koduck.community.repository.SignalRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 信号查询服务实现。
+ *
+ * <p>列表按发布时间倒序分页；搜索走 {@link SignalRepository#searchFullText} 的全文索引，
+ * 只取当前页而不统计总数；热门信号由 {@link HotSignalService} 的增量排行回答。
+ * 作者、投资组合名称与评论由调用方按需补充，这里只返回信号本身的字段。</p>
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+@Service
+@Transactional(readOnly = true)
+public class SignalQueryServiceImpl implements SignalQueryService {
+
+    /** 列表排序：发布时间倒序，同一时间按ID倒序。 */
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    /** 信号存储库。 */
+    private final SignalRepository signalRepository;
+
+    /** 热门信号排行服务。 */
+    private final HotSignalService hotSignalService;
+
+    /**
+     * 构造信号查询服务。
+     *
+     * @param signalRepository 信号存储库
+     * @param hotSignalService 热门信号排行服务
+     */
+    public SignalQueryServiceImpl(SignalRepository signalRepository, HotSignalService hotSignalService) {
+        this.signalRepository = signalRepository;
+        this.hotSignalService = hotSignalService;
+    }
+
+    @Override
+    public Optional<SignalDetailDto> getSignalDetail(Long signalId) {
+        return signalRepository.findById(signalId).map(SignalQueryServiceImpl::toDetail);
+    }
+
+    @Override
+    public Optional<SignalDto> getSignal(Long signalId) {
+        return signalRepository.findById(signalId).map(SignalQueryServiceImpl::toDto);
+    }
+
+    @Override
+    public List<SignalSummaryDto> getActiveSignals(int page, int pageSize) {
+        return toSummaries(signalRepository.findByStatus(Signal.Status.ACTIVE, pageable(page, pageSize, NEWEST_FIRST))
+                .getContent());
+    }
+
+    @Override
+    public List<SignalSummaryDto> getUserSignals(Long userId, int page, int pageSize) {
+        return toSummaries(signalRepository.findByUserId(userId, pageable(page, pageSize, NEWEST_FIRST))
+                .getContent());
+    }
+
+    @Override
+    public List<SignalSummaryDto> getPortfolioSignals(Long portfolioId, int page, int pageSize) {
+        return toSummaries(signalRepository.findByPortfolioId(portfolioId, pageable(page, pageSize, NEWEST_FIRST))
+                .getContent());
+    }
+
+    @Override
+    public List<SignalSummaryDto> searchSignals(String keyword,
+                                                String symbol,
+                                                String market,
+                                                String signalType,
+                                                int page,
+                                                int pageSize) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        return toSummaries(signalRepository.searchFullText(keyword.strip(), blankToNull(symbol), blankToNull(market),
+                signalTypeName(signalType), pageable(page, pageSize, Sort.unsorted())).getContent());
+    }
+
+    @Override
+    public List<SignalSummaryDto> getHotSignals(int limit) {
+        return toSummaries(hotSignalService.hotSignals(limit));
+    }
+
+    @Override
+    public long countUserSignals(Long userId) {
+        return signalRepository.countByUserId(userId);
+    }
+
+    @Override
+    public boolean exists(Long signalId) {
+        return signalRepository.existsById(signalId);
+    }
+
+    @Override
+    public boolean belongsToUser(Long signalId, Long userId) {
+        return signalRepository.existsByIdAndUserId(signalId, userId);
+    }
+
+    private static PageRequest pageable(int page, int pageSize, Sort sort) {
+        return PageRequest.of(Math.max(page, 1) - 1, Math.max(pageSize, 1), sort);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+
+    private static String signalTypeName(String signalType) {
+        String value = blankToNull(signalType);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Signal.SignalType.valueOf(value.toUpperCase(Locale.ROOT)).name();
+        }
+        catch (IllegalArgumentException e) {
+            throw new SignalException("Unknown signal type: " + signalType);
+        }
+    }
+
+    private static List<SignalSummaryDto> toSummaries(List<Signal> signals) {
+        List<SignalSummaryDto> result = new ArrayList<>(signals.size());
+        for (Signal signal : signals) {
+            result.add(toSummary(signal));
+        }
+        return result;
+    }
+
+    private static SignalSummaryDto toSummary(Signal signal) {
+        return SignalSummaryDto.builder()
+                .id(signal.getId())
+                .userId(signal.getUserId())
+                .title(signal.getTitle())
+                .direction(name(signal.getSignalType()))
+                .symbol(signal.getSymbol())
+                .entryPrice(signal.getEntryPrice())
+                .status(name(signal.getStatus()))
+                .likeCount(signal.getLikeCount())
+                .commentCount(signal.getCommentCount())
+                .createdAt(signal.getCreatedAt())
+                .build();
+    }
+
+    private static SignalDto toDto(Signal signal) {
+        return SignalDto.builder()
+                .id(signal.getId())
+                .userId(signal.getUserId())
+                .portfolioId(signal.getPortfolioId())
+                .title(signal.getTitle())
+                .content(signal.getContent())
+                .direction(name(signal.getSignalType()))
+                .symbol(signal.getSymbol())
+                .market(signal.getMarket())
+                .entryPrice(signal.getEntryPrice())
+                .stopLoss(signal.getStopLoss())
+                .takeProfit(signal.getTakeProfit())
+                .status(name(signal.getStatus()))
+                .viewCount(signal.getViewCount())
+                .likeCount(signal.getLikeCount())
+                .commentCount(signal.getCommentCount())
+                .createdAt(signal.getCreatedAt())
+                .updatedAt(signal.getUpdatedAt())
+                .build();
+    }
+
+    private static SignalDetailDto toDetail(Signal signal) {
+        return SignalDetailDto.builder()
+                .id(signal.getId())
+                .userId(signal.getUserId())
+                .portfolioId(signal.getPortfolioId())
+                .title(signal.getTitle())
+                .content(signal.getContent())
+                .direction(name(signal.getSignalType()))
+                .symbol(signal.getSymbol())
+                .market(signal.getMarket())
+                .entryPrice(signal.getEntryPrice())
+                .stopLoss(signal.getStopLoss())
+                .takeProfit(signal.getTakeProfit())
+                .status(name(signal.getStatus()))
+                .viewCount(signal.getViewCount())
+                .likeCount(signal.getLikeCount())
+                .commentCount(signal.getCommentCount())
+                .createdAt(signal.getCreatedAt())
+                .updatedAt(signal.getUpdatedAt())
+                .build();
+    }
+
+    private static String name(Enum<?> value) {
+        return value == null ? null : value.name();
+    }
+}
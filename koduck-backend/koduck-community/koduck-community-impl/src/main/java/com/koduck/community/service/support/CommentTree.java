@@ -0,0 +1,78 @@
+package com.koduck.community.service.support;
+
+import com.koduck.community.entity.Comment;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 一个信号的完整评论树，作为缓存值保存。
+ *
+ * <p>顶级评论按发布时间倒序，回复按发布时间正序。缓存按 {@code CommentTree} 类型序列化，
+ * 见 {@link com.koduck.community.config.CommunityCacheConfig}。</p>
+ *
+ * @param roots 顶级评论
+ * @param size 评论总数
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+public record CommentTree(List<Node> roots, int size) {
+
+    /**
+     * 由按ID升序排列的评论组装评论树，复杂度 O(n)。
+     *
+     * <p>评论ID自增，回复的ID总大于父评论，因此倒序遍历时每条评论的回复都已组装完成。
+     * 父评论不在列表中（已删除）或ID不小于自身的评论作为顶级评论，不会丢失也不会成环。</p>
+     *
+     * @param comments 一个信号的全部评论，按ID升序
+     * @return 评论树
+     */
+    public static CommentTree assemble(List<Comment> comments) {
+        Set<Long> ids = new HashSet<>(comments.size() * 2);
+        for (Comment comment : comments) {
+            ids.add(comment.getId());
+        }
+        Map<Long, List<Node>> replies = new HashMap<>();
+        ArrayList<Node> roots = new ArrayList<>();
+        for (int i = comments.size() - 1; i >= 0; i--) {
+            Comment comment = comments.get(i);
+            List<Node> children = replies.remove(comment.getId());
+            ArrayList<Node> ordered = new ArrayList<>(children == null ? List.of() : children);
+            Collections.reverse(ordered);
+            Node node = new Node(comment.getId(), comment.getParentId(), comment.getUserId(), comment.getContent(),
+                    comment.getLikeCount() == null ? 0 : comment.getLikeCount(), ordered.size(),
+                    comment.getCreatedAt(), comment.getUpdatedAt(), ordered);
+            Long parentId = comment.getParentId();
+            if (parentId != null && parentId < comment.getId() && ids.contains(parentId)) {
+                replies.computeIfAbsent(parentId, key -> new ArrayList<>()).add(node);
+            }
+            else {
+                roots.add(node);
+            }
+        }
+        return new CommentTree(roots, comments.size());
+    }
+
+    /**
+     * 评论节点。
+     *
+     * @param id 评论ID
+     * @param parentId 父评论ID
+     * @param userId 用户ID
+     * @param content 内容
+     * @param likeCount 点赞数
+     * @param replyCount 直接回复数
+     * @param createdAt 创建时间
+     * @param updatedAt 更新时间
+     * @param replies 回复，按发布时间正序
+     */
+    public record Node(Long id, Long parentId, Long userId, String content, int likeCount, int replyCount,
+                       Instant createdAt, Instant updatedAt, List<Node> replies) {
+    }
+}
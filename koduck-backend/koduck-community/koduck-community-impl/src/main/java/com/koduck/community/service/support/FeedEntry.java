@@ -0,0 +1,56 @@
+package com.koduck.community.service.support;
+
+import com.koduck.community.entity.Signal;
+
+import java.util.Comparator;
+
+/**
+ * 时间线条目。
+ *
+ * <p>Redis 中成员为 {@code <signalId>:<authorId>}，分数为发布时间毫秒数；带上作者ID，取消关注时不必查库即可清理。</p>
+ *
+ * @param signalId 信号ID
+ * @param authorId 作者ID
+ * @param publishedAt 发布时间（毫秒）
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+public record FeedEntry(long signalId, long authorId, long publishedAt) {
+
+    /** 按发布时间倒序，同一时刻按信号ID倒序。 */
+    public static final Comparator<FeedEntry> NEWEST_FIRST = Comparator
+            .comparingLong(FeedEntry::publishedAt).reversed()
+            .thenComparing(Comparator.comparingLong(FeedEntry::signalId).reversed());
+
+    /**
+     * 由信号构造条目。
+     *
+     * @param signal 信号
+     * @return 条目
+     */
+    public static FeedEntry of(Signal signal) {
+        return new FeedEntry(signal.getId(), signal.getUserId(), signal.getCreatedAt().toEpochMilli());
+    }
+
+    /**
+     * 解析 Redis 成员。
+     *
+     * @param member 成员
+     * @param score 分数
+     * @return 条目
+     */
+    public static FeedEntry parse(String member, double score) {
+        int separator = member.indexOf(':');
+        return new FeedEntry(Long.parseLong(member.substring(0, separator)),
+                Long.parseLong(member.substring(separator + 1)), (long) score);
+    }
+
+    /**
+     * Redis 成员。
+     *
+     * @return {@code <signalId>:<authorId>}
+     */
+    public String member() {
+        return signalId + ":" + authorId;
+    }
+}
@@ -0,0 +1,89 @@
+package com.koduck.community.service.support;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 关注动态存储：每个用户的时间线、每个作者的发件箱，以及读取时拉取的作者集合。
+ *
+ * <p>时间线和发件箱都按发布时间倒序保存，超出容量时丢弃最旧的条目。</p>
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+public interface FeedStore {
+
+    /**
+     * 把条目写入多个用户的时间线；尚未建立时间线的用户跳过，等读取时重建。
+     *
+     * @param userIds 用户ID
+     * @param entry 条目
+     */
+    void push(Collection<Long> userIds, FeedEntry entry);
+
+    /**
+     * 把多个条目写入用户的时间线，时间线不存在时建立（条目为空时建立空时间线）。
+     *
+     * @param userId 用户ID
+     * @param entries 条目
+     */
+    void addAll(Long userId, Collection<FeedEntry> entries);
+
+    /**
+     * 读取用户时间线中早于指定时间的条目。
+     *
+     * @param userId 用户ID
+     * @param before 发布时间上限（毫秒，不含）
+     * @param limit 条数上限
+     * @return 按发布时间倒序的条目；时间线尚未建立或已过期时为 {@code null}
+     */
+    List<FeedEntry> timeline(Long userId, long before, int limit);
+
+    /**
+     * 从用户时间线移除作者的全部条目。
+     *
+     * @param userId 用户ID
+     * @param authorId 作者ID
+     */
+    void removeAuthor(Long userId, Long authorId);
+
+    /**
+     * 丢弃用户的时间线，下次读取时重建。
+     *
+     * @param userId 用户ID
+     */
+    void dropTimeline(Long userId);
+
+    /**
+     * 把条目写入作者的发件箱。
+     *
+     * @param authorId 作者ID
+     * @param entries 条目
+     */
+    void publish(Long authorId, Collection<FeedEntry> entries);
+
+    /**
+     * 读取作者发件箱中早于指定时间的条目。
+     *
+     * @param authorId 作者ID
+     * @param before 发布时间上限（毫秒，不含）
+     * @param limit 条数上限
+     * @return 按发布时间倒序的条目
+     */
+    List<FeedEntry> outbox(Long authorId, long before, int limit);
+
+    /**
+     * 读取时从发件箱拉取的作者。
+     *
+     * @return 作者ID
+     */
+    Set<Long> celebrities();
+
+    /**
+     * 把作者标记为读取时拉取。
+     *
+     * @param authorId 作者ID
+     */
+    void addCelebrity(Long authorId);
+}
@@ -0,0 +1,166 @@
+package com.koduck.community.service.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 定长内存时间线：按发布时间倒序保存最近的条目，超出容量时丢弃最旧的。
+ *
+ * <p>条目以三个并列的 {@code long} 数组保存，不为每个条目分配对象；插入时二分查找位置，
+ * 复杂度 O(容量)，容量为几百时只是一次数组移动。线程安全。</p>
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+public class FeedTimeline {
+
+    /** 容量。 */
+    private final int capacity;
+
+    /** 信号ID。 */
+    private final long[] signalIds;
+
+    /** 作者ID。 */
+    private final long[] authorIds;
+
+    /** 发布时间（毫秒）。 */
+    private final long[] publishedAt;
+
+    /** 条目数。 */
+    private int size;
+
+    /**
+     * 构造时间线。
+     *
+     * @param capacity 容量
+     */
+    public FeedTimeline(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.signalIds = new long[capacity];
+        this.authorIds = new long[capacity];
+        this.publishedAt = new long[capacity];
+    }
+
+    /**
+     * 加入条目；已存在的信号不重复加入。
+     *
+     * @param entry 条目
+     * @return 是否加入
+     */
+    public synchronized boolean add(FeedEntry entry) {
+        for (int i = 0; i < size; i++) {
+            if (signalIds[i] == entry.signalId()) {
+                return false;
+            }
+        }
+        int index = insertionPoint(entry);
+        if (index >= capacity) {
+            return false;
+        }
+        int moved = Math.min(size, capacity - 1) - index;
+        if (moved > 0) {
+            System.arraycopy(signalIds, index, signalIds, index + 1, moved);
+            System.arraycopy(authorIds, index, authorIds, index + 1, moved);
+            System.arraycopy(publishedAt, index, publishedAt, index + 1, moved);
+        }
+        signalIds[index] = entry.signalId();
+        authorIds[index] = entry.authorId();
+        publishedAt[index] = entry.publishedAt();
+        size = Math.min(size + 1, capacity);
+        return true;
+    }
+
+    /**
+     * 加入多个条目。
+     *
+     * @param entries 条目
+     */
+    public synchronized void addAll(Collection<FeedEntry> entries) {
+        for (FeedEntry entry : entries) {
+            add(entry);
+        }
+    }
+
+    /**
+     * 移除作者的全部条目。
+     *
+     * @param authorId 作者ID
+     * @return 移除的条目数
+     */
+    public synchronized int removeAuthor(long authorId) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (authorIds[i] != authorId) {
+                signalIds[kept] = signalIds[i];
+                authorIds[kept] = authorIds[i];
+                publishedAt[kept] = publishedAt[i];
+                kept++;
+            }
+        }
+        int removed = size - kept;
+        size = kept;
+        return removed;
+    }
+
+    /**
+     * 读取早于指定时间的条目，按发布时间倒序。
+     *
+     * @param before 发布时间上限（毫秒，不含）
+     * @param limit 条数上限
+     * @return 条目
+     */
+    public synchronized List<FeedEntry> before(long before, int limit) {
+        int from = firstBefore(before);
+        int to = Math.min(size, from + Math.max(limit, 0));
+        List<FeedEntry> entries = new ArrayList<>(Math.max(to - from, 0));
+        for (int i = from; i < to; i++) {
+            entries.add(new FeedEntry(signalIds[i], authorIds[i], publishedAt[i]));
+        }
+        return entries;
+    }
+
+    /**
+     * 条目数。
+     *
+     * @return 条目数
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private int insertionPoint(FeedEntry entry) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            boolean newer = publishedAt[mid] > entry.publishedAt()
+                    || publishedAt[mid] == entry.publishedAt() && signalIds[mid] > entry.signalId();
+            if (newer) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int firstBefore(long before) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (publishedAt[mid] >= before) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,185 @@
+package com.koduck.community.service.support;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 热门信号的内存排行。
+ *
+ * <p>分数为 {@code base + log10(max(互动量, 1))}，{@code base} 是发布时间（秒）除以衰减常数，
+ * 与 Reddit 的热度排序相同：互动量每增长 10 倍，相当于晚发布一个衰减常数。分数只在互动时变化，
+ * 时间流逝不需要重算，旧信号自然被新信号超过。</p>
+ *
+ * <p>按（分数, 信号ID）有序保存，另以信号ID索引当前条目：一次互动先删旧条目再插新条目，代价
+ * O(log n)；读取前 K 名只沿跳表走 K 步。写入串行，读取不加锁。</p>
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+public final class HotSignalIndex {
+
+    /** 排序：分数升序，分数相同按信号ID升序。 */
+    private static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::score)
+        .thenComparingLong(Entry::signalId);
+
+    /** 有序条目。 */
+    private final ConcurrentSkipListSet<Entry> ordered = new ConcurrentSkipListSet<>(ORDER);
+
+    /** 信号ID到当前条目的索引。 */
+    private final Map<Long, Entry> bySignal = new ConcurrentHashMap<>();
+
+    /**
+     * 计算热度分数。
+     *
+     * @param base       发布时间基准分
+     * @param engagement 加权互动量
+     * @return 分数
+     */
+    public static double score(double base, double engagement) {
+        return base + Math.log10(Math.max(engagement, 1.0));
+    }
+
+    /**
+     * 加入信号；已在排行中时不变。
+     *
+     * @param signalId   信号ID
+     * @param base       发布时间基准分
+     * @param engagement 初始加权互动量
+     * @return 新加入时返回 {@code true}
+     */
+    public synchronized boolean seed(long signalId, double base, double engagement) {
+        if (bySignal.containsKey(signalId)) {
+            return false;
+        }
+        Entry entry = new Entry(signalId, base, Math.max(engagement, 0.0));
+        ordered.add(entry);
+        bySignal.put(signalId, entry);
+        return true;
+    }
+
+    /**
+     * 累加互动量，结果不低于 0。
+     *
+     * @param signalId 信号ID
+     * @param delta    互动量增量，可为负
+     * @return 新分数；信号不在排行中时返回 {@link Double#NaN}
+     */
+    public synchronized double increment(long signalId, double delta) {
+        Entry previous = bySignal.get(signalId);
+        if (previous == null) {
+            return Double.NaN;
+        }
+        Entry next = new Entry(signalId, previous.base(), Math.max(previous.engagement() + delta, 0.0));
+        ordered.remove(previous);
+        ordered.add(next);
+        bySignal.put(signalId, next);
+        return next.score();
+    }
+
+    /**
+     * 移除信号。
+     *
+     * @param signalId 信号ID
+     * @return 信号原本在排行中时返回 {@code true}
+     */
+    public synchronized boolean remove(long signalId) {
+        Entry previous = bySignal.remove(signalId);
+        if (previous == null) {
+            return false;
+        }
+        ordered.remove(previous);
+        return true;
+    }
+
+    /**
+     * 清空排行。
+     */
+    public synchronized void clear() {
+        bySignal.clear();
+        ordered.clear();
+    }
+
+    /**
+     * 从分数最低处淘汰：先移除分数低于 {@code minScore} 的信号，再把条目数压到 {@code maxEntries}。
+     *
+     * @param minScore   淘汰线
+     * @param maxEntries 条目数上限
+     * @return 移除的信号数
+     */
+    public synchronized int compact(double minScore, int maxEntries) {
+        int removed = 0;
+        Iterator<Entry> iterator = ordered.iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.score() >= minScore && bySignal.size() <= maxEntries) {
+                break;
+            }
+            iterator.remove();
+            bySignal.remove(entry.signalId());
+            removed++;
+        }
+        return removed;
+    }
+
+    /**
+     * 分数最高的前 K 名，分数降序。
+     *
+     * @param limit 条数上限
+     * @return 排名条目
+     */
+    public List<Entry> top(int limit) {
+        int capped = Math.min(limit, size());
+        if (capped <= 0) {
+            return List.of();
+        }
+        List<Entry> result = new ArrayList<>(capped);
+        Iterator<Entry> iterator = ordered.descendingIterator();
+        while (result.size() < capped && iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    /**
+     * 信号是否在排行中。
+     *
+     * @param signalId 信号ID
+     * @return 在排行中时返回 {@code true}
+     */
+    public boolean contains(long signalId) {
+        return bySignal.containsKey(signalId);
+    }
+
+    /**
+     * 排行中的信号数。
+     *
+     * @return 信号数
+     */
+    public int size() {
+        return bySignal.size();
+    }
+
+    /**
+     * 排名条目。
+     *
+     * @param signalId   信号ID
+     * @param base       发布时间基准分
+     * @param engagement 加权互动量
+     */
+    public record Entry(long signalId, double base, double engagement) {
+
+        /**
+         * 热度分数。
+         *
+         * @return 分数
+         */
+        public double score() {
+            return HotSignalIndex.score(base, engagement);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.koduck.community.service.support;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 本实例内存中的关注动态存储，每个时间线和发件箱是一个 {@link FeedTimeline}。
+ *
+ * <p>只适合单实例部署：其他实例发布的信号不会写入本实例的时间线，重启后时间线在首次读取时从数据库重建。</p>
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+public class LocalFeedStore implements FeedStore {
+
+    /** 时间线容量。 */
+    private final int timelineSize;
+
+    /** 发件箱容量。 */
+    private final int outboxSize;
+
+    /** 用户时间线。 */
+    private final Map<Long, FeedTimeline> timelines = new ConcurrentHashMap<>();
+
+    /** 作者发件箱。 */
+    private final Map<Long, FeedTimeline> outboxes = new ConcurrentHashMap<>();
+
+    /** 读取时拉取的作者。 */
+    private final Set<Long> celebrities = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 构造内存存储。
+     *
+     * @param timelineSize 时间线容量
+     * @param outboxSize 发件箱容量
+     */
+    public LocalFeedStore(int timelineSize, int outboxSize) {
+        this.timelineSize = timelineSize;
+        this.outboxSize = outboxSize;
+    }
+
+    @Override
+    public void push(Collection<Long> userIds, FeedEntry entry) {
+        for (Long userId : userIds) {
+            FeedTimeline timeline = timelines.get(userId);
+            if (timeline != null) {
+                timeline.add(entry);
+            }
+        }
+    }
+
+    @Override
+    public void addAll(Long userId, Collection<FeedEntry> entries) {
+        timelines.computeIfAbsent(userId, key -> new FeedTimeline(timelineSize)).addAll(entries);
+    }
+
+    @Override
+    public List<FeedEntry> timeline(Long userId, long before, int limit) {
+        FeedTimeline timeline = timelines.get(userId);
+        return timeline == null ? null : timeline.before(before, limit);
+    }
+
+    @Override
+    public void removeAuthor(Long userId, Long authorId) {
+        FeedTimeline timeline = timelines.get(userId);
+        if (timeline != null) {
+            timeline.removeAuthor(authorId);
+        }
+    }
+
+    @Override
+    public void dropTimeline(Long userId) {
+        timelines.remove(userId);
+    }
+
+    @Override
+    public void publish(Long authorId, Collection<FeedEntry> entries) {
+        outboxes.computeIfAbsent(authorId, key -> new FeedTimeline(outboxSize)).addAll(entries);
+    }
+
+    @Override
+    public List<FeedEntry> outbox(Long authorId, long before, int limit) {
+        FeedTimeline outbox = outboxes.get(authorId);
+        return outbox == null ? List.of() : outbox.before(before, limit);
+    }
+
+    @Override
+    public Set<Long> celebrities() {
+        return Set.copyOf(celebrities);
+    }
+
+    @Override
+    public void addCelebrity(Long authorId) {
+        celebrities.add(authorId);
+    }
+}
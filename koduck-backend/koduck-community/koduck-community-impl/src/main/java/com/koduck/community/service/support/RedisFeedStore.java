@@ -0,0 +1,200 @@
+package com.koduck.community.service.support;
+
+import com.koduck.common.constants.RedisKeyConstants;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis 中的关注动态存储，多实例共享。
+ *
+ * <p>时间线和发件箱都是有序集合，成员为 {@code <signalId>:<authorId>}，分数为发布时间毫秒数。
+ * 建立时间线时写入分数为 0 的占位成员，关注的作者都没有信号时也能与“尚未建立”区分；读取只取分数不小于 1 的成员。
+ * 写入粉丝时间线时只写入已存在的时间线，过期的时间线在下次读取时从数据库完整重建，不会只剩新写入的部分。</p>
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+public final class RedisFeedStore implements FeedStore {
+
+    /** 占位成员，分数为 0。 */
+    static final String PLACEHOLDER = "0:0";
+
+    /**
+     * 写入脚本：KEYS[1] 时间线，ARGV[1] 成员，ARGV[2] 分数，ARGV[3] 容量；时间线存在时写入并截断。
+     */
+    static final String PUSH_SCRIPT = "if redis.call('EXISTS', KEYS[1]) == 1 then "
+            + "redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) "
+            + "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -tonumber(ARGV[3]) - 2) return 1 end return 0";
+
+    /**
+     * 读取脚本：KEYS[1] 时间线，ARGV[1] 分数上限（含），ARGV[2] 条数，ARGV[3] 过期秒数；
+     * 时间线不存在时返回 nil，否则续期并返回成员与分数交替的列表。
+     */
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> READ_SCRIPT = RedisScript.of(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return false end "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[3]) "
+                    + "return redis.call('ZREVRANGEBYSCORE', KEYS[1], ARGV[1], 1, 'WITHSCORES', 'LIMIT', 0, ARGV[2])",
+            List.class);
+
+    /**
+     * 清理脚本：KEYS[1] 时间线，ARGV[1] 成员后缀 {@code :<authorId>}；返回移除的成员数。
+     */
+    static final RedisScript<Long> REMOVE_AUTHOR_SCRIPT = RedisScript.of(
+            "local removed = 0 "
+                    + "for _, member in ipairs(redis.call('ZRANGE', KEYS[1], 0, -1)) do "
+                    + "if string.sub(member, -#ARGV[1]) == ARGV[1] then "
+                    + "removed = removed + redis.call('ZREM', KEYS[1], member) end end "
+                    + "return removed",
+            Long.class);
+
+    /** 写入脚本的字节。 */
+    private static final byte[] PUSH_SCRIPT_BYTES = PUSH_SCRIPT.getBytes(StandardCharsets.UTF_8);
+
+    /** Redis 模板。 */
+    private final StringRedisTemplate redisTemplate;
+
+    /** 时间线容量。 */
+    private final int timelineSize;
+
+    /** 发件箱容量。 */
+    private final int outboxSize;
+
+    /** 时间线未被读取时的保留时长。 */
+    private final Duration timelineTtl;
+
+    /**
+     * 创建存储。
+     *
+     * @param redisTemplate Redis 模板
+     * @param timelineSize 时间线容量
+     * @param outboxSize 发件箱容量
+     * @param timelineTtl 时间线未被读取时的保留时长
+     */
+    public RedisFeedStore(StringRedisTemplate redisTemplate, int timelineSize, int outboxSize,
+                          Duration timelineTtl) {
+        this.redisTemplate = redisTemplate;
+        this.timelineSize = timelineSize;
+        this.outboxSize = outboxSize;
+        this.timelineTtl = timelineTtl;
+    }
+
+    @Override
+    public void push(Collection<Long> userIds, FeedEntry entry) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        byte[] member = bytes(entry.member());
+        byte[] score = bytes(Long.toString(entry.publishedAt()));
+        byte[] capacity = bytes(Integer.toString(timelineSize));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long userId : userIds) {
+                connection.scriptingCommands().eval(PUSH_SCRIPT_BYTES, ReturnType.INTEGER, 1,
+                        bytes(RedisKeyConstants.communityFeedTimelineKey(userId)), member, score, capacity);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void addAll(Long userId, Collection<FeedEntry> entries) {
+        String key = RedisKeyConstants.communityFeedTimelineKey(userId);
+        Set<ZSetOperations.TypedTuple<String>> tuples = tuples(entries);
+        tuples.add(ZSetOperations.TypedTuple.of(PLACEHOLDER, 0.0));
+        redisTemplate.opsForZSet().add(key, tuples);
+        redisTemplate.opsForZSet().removeRange(key, 0, -timelineSize - 2L);
+        redisTemplate.expire(key, timelineTtl);
+    }
+
+    @Override
+    public List<FeedEntry> timeline(Long userId, long before, int limit) {
+        List<?> result = redisTemplate.execute(READ_SCRIPT,
+                List.of(RedisKeyConstants.communityFeedTimelineKey(userId)),
+                Long.toString(before - 1), Integer.toString(limit), Long.toString(timelineTtl.toSeconds()));
+        if (result == null) {
+            return null;
+        }
+        List<FeedEntry> entries = new ArrayList<>(result.size() / 2);
+        for (int i = 0; i + 1 < result.size(); i += 2) {
+            String member = String.valueOf(result.get(i));
+            entries.add(FeedEntry.parse(member, Double.parseDouble(String.valueOf(result.get(i + 1)))));
+        }
+        return entries;
+    }
+
+    @Override
+    public void removeAuthor(Long userId, Long authorId) {
+        redisTemplate.execute(REMOVE_AUTHOR_SCRIPT, List.of(RedisKeyConstants.communityFeedTimelineKey(userId)),
+                ":" + authorId);
+    }
+
+    @Override
+    public void dropTimeline(Long userId) {
+        redisTemplate.delete(RedisKeyConstants.communityFeedTimelineKey(userId));
+    }
+
+    @Override
+    public void publish(Long authorId, Collection<FeedEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        String key = RedisKeyConstants.communityFeedOutboxKey(authorId);
+        redisTemplate.opsForZSet().add(key, tuples(entries));
+        redisTemplate.opsForZSet().removeRange(key, 0, -outboxSize - 1L);
+    }
+
+    @Override
+    public List<FeedEntry> outbox(Long authorId, long before, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet().reverseRangeByScoreWithScores(
+                RedisKeyConstants.communityFeedOutboxKey(authorId), 1, before - 1, 0, limit);
+        if (tuples == null) {
+            return List.of();
+        }
+        List<FeedEntry> entries = new ArrayList<>(tuples.size());
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            entries.add(FeedEntry.parse(tuple.getValue(), tuple.getScore()));
+        }
+        return entries;
+    }
+
+    @Override
+    public Set<Long> celebrities() {
+        Set<String> members = redisTemplate.opsForSet().members(RedisKeyConstants.COMMUNITY_FEED_CELEBRITIES);
+        if (members == null || members.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> authorIds = new HashSet<>(members.size() * 2);
+        for (String member : members) {
+            authorIds.add(Long.parseLong(member));
+        }
+        return authorIds;
+    }
+
+    @Override
+    public void addCelebrity(Long authorId) {
+        redisTemplate.opsForSet().add(RedisKeyConstants.COMMUNITY_FEED_CELEBRITIES, authorId.toString());
+    }
+
+    private static Set<ZSetOperations.TypedTuple<String>> tuples(Collection<FeedEntry> entries) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>(entries.size() * 2 + 2);
+        for (FeedEntry entry : entries) {
+            tuples.add(ZSetOperations.TypedTuple.of(entry.member(), (double) entry.publishedAt()));
+        }
+        return tuples;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,148 @@
+package com.koduck.community.service.support;
+
+import com.koduck.common.constants.RedisKeyConstants;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis 中的信号计数缓冲，多实例共享。
+ *
+ * <p>增量以 {@code HINCRBY} 累加到 {@code community:counters:{signals}:pending} 哈希，字段为 {@code 信号ID:计数}。
+ * 封批由 Lua 脚本把该哈希改名为 {@code ...:flushing} 并写入批次ID；改名之后的增量进入新的 pending 哈希。
+ * flushing 哈希在确认前一直保留，任一实例的下一次写回都会重放它，应用重启不会丢失增量。
+ * 确认只删除批次ID仍匹配的 flushing 哈希，迟到的确认不会误删新批次。</p>
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+public final class RedisSignalCounterBuffer implements SignalCounterBuffer {
+
+    /** flushing 哈希中保存批次ID的字段。 */
+    static final String BATCH_FIELD = "__batch";
+
+    /**
+     * 封批脚本：KEYS[1] pending，KEYS[2] flushing，ARGV[1] 新批次ID。
+     * 已有 flushing 时原样返回，否则在有增量时改名并写入批次ID；返回 flushing 的全部字段与值。
+     */
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> CLAIM_SCRIPT = RedisScript.of(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then "
+                    + "if redis.call('EXISTS', KEYS[1]) == 0 then return {} end "
+                    + "redis.call('RENAME', KEYS[1], KEYS[2]) "
+                    + "redis.call('HSET', KEYS[2], '" + BATCH_FIELD + "', ARGV[1]) end "
+                    + "return redis.call('HGETALL', KEYS[2])",
+            List.class);
+
+    /**
+     * 确认脚本：KEYS[1] flushing，ARGV[1] 批次ID；批次ID匹配时删除。
+     */
+    static final RedisScript<Long> ACK_SCRIPT = RedisScript.of(
+            "if redis.call('HGET', KEYS[1], '" + BATCH_FIELD + "') == ARGV[1] then "
+                    + "return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    /**
+     * 读取脚本：KEYS 同封批脚本，ARGV 为一个信号的各计数字段；返回 pending 与 flushing 中对应字段之和。
+     */
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> PENDING_SCRIPT = RedisScript.of(
+            "local pending = redis.call('HMGET', KEYS[1], unpack(ARGV)) "
+                    + "local flushing = redis.call('HMGET', KEYS[2], unpack(ARGV)) "
+                    + "local result = {} "
+                    + "for i = 1, #ARGV do "
+                    + "result[i] = (tonumber(pending[i]) or 0) + (tonumber(flushing[i]) or 0) end "
+                    + "return result",
+            List.class);
+
+    /** 脚本操作的键。 */
+    private static final List<String> KEYS = List.of(
+            RedisKeyConstants.COMMUNITY_SIGNAL_COUNTERS_PENDING, RedisKeyConstants.COMMUNITY_SIGNAL_COUNTERS_FLUSHING);
+
+    /** Redis 模板。 */
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 创建缓冲。
+     *
+     * @param redisTemplate Redis 模板
+     */
+    public RedisSignalCounterBuffer(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void add(long signalId, SignalCounter counter, long delta) {
+        redisTemplate.opsForHash().increment(RedisKeyConstants.COMMUNITY_SIGNAL_COUNTERS_PENDING,
+                field(signalId, counter), delta);
+    }
+
+    @Override
+    public long[] pending(long signalId) {
+        SignalCounter[] counters = SignalCounter.values();
+        Object[] fields = new Object[counters.length];
+        for (int i = 0; i < counters.length; i++) {
+            fields[i] = field(signalId, counters[i]);
+        }
+        List<?> values = redisTemplate.execute(PENDING_SCRIPT, KEYS, fields);
+        long[] total = new long[counters.length];
+        if (values != null) {
+            for (int i = 0; i < total.length && i < values.size(); i++) {
+                total[i] = values.get(i) instanceof Number number ? number.longValue() : 0L;
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public Batch claim() {
+        List<?> entries = redisTemplate.execute(CLAIM_SCRIPT, KEYS, UUID.randomUUID().toString());
+        if (entries == null || entries.isEmpty()) {
+            return null;
+        }
+        String batchId = null;
+        Map<Long, long[]> deltas = new HashMap<>();
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            String field = String.valueOf(entries.get(i));
+            String value = String.valueOf(entries.get(i + 1));
+            if (BATCH_FIELD.equals(field)) {
+                batchId = value;
+                continue;
+            }
+            int separator = field.lastIndexOf(':');
+            SignalCounter counter = counterOf(field.substring(separator + 1));
+            if (separator <= 0 || counter == null) {
+                continue;
+            }
+            long signalId = Long.parseLong(field.substring(0, separator));
+            deltas.computeIfAbsent(signalId, key -> new long[SignalCounter.values().length])[counter.ordinal()]
+                    += Long.parseLong(value);
+        }
+        if (batchId == null) {
+            return null;
+        }
+        return new Batch(batchId, deltas);
+    }
+
+    @Override
+    public void acknowledge(Batch batch) {
+        redisTemplate.execute(ACK_SCRIPT, List.of(RedisKeyConstants.COMMUNITY_SIGNAL_COUNTERS_FLUSHING), batch.id());
+    }
+
+    private static String field(long signalId, SignalCounter counter) {
+        return signalId + ":" + counter.code();
+    }
+
+    private static SignalCounter counterOf(String code) {
+        for (SignalCounter counter : SignalCounter.values()) {
+            if (counter.code().equals(code)) {
+                return counter;
+            }
+        }
+        return null;
+    }
+}
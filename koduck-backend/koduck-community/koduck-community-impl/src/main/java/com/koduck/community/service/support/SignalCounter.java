@@ -0,0 +1,35 @@
+package com.koduck.community.service.support;
+
+/**
+ * 写回缓冲的信号计数，序号即增量数组下标。
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+public enum SignalCounter {
+
+    /** 点赞数。 */
+    LIKES("likes"),
+
+    /** 评论数。 */
+    COMMENTS("comments"),
+
+    /** 浏览数。 */
+    VIEWS("views");
+
+    /** Redis 哈希字段后缀。 */
+    private final String code;
+
+    SignalCounter(String code) {
+        this.code = code;
+    }
+
+    /**
+     * Redis 哈希字段后缀。
+     *
+     * @return 字段后缀
+     */
+    public String code() {
+        return code;
+    }
+}
@@ -0,0 +1,56 @@
+package com.koduck.community.service.support;
+
+import java.util.Map;
+
+/**
+ * 信号计数增量缓冲。
+ *
+ * <p>增量先累积在缓冲中，由写回任务按批取出：{@link #claim} 把当前全部增量封为一个带唯一 ID 的批次，
+ * 批次在 {@link #acknowledge} 之前一直保留，再次 {@code claim} 返回同一批次，写回失败或进程退出后可以重放；
+ * 封批之后的增量进入下一批。</p>
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+public interface SignalCounterBuffer {
+
+    /**
+     * 累加增量。
+     *
+     * @param signalId 信号ID
+     * @param counter 计数
+     * @param delta 增量，可为负
+     */
+    void add(long signalId, SignalCounter counter, long delta);
+
+    /**
+     * 尚未写回数据库的增量，包括已封批但未确认的部分。
+     *
+     * @param signalId 信号ID
+     * @return 按 {@link SignalCounter} 序号排列的增量
+     */
+    long[] pending(long signalId);
+
+    /**
+     * 取出待写回批次：有未确认的批次时返回它，否则把当前增量封为新批次。
+     *
+     * @return 批次；没有增量时返回 {@code null}
+     */
+    Batch claim();
+
+    /**
+     * 确认批次已写回，之后不再重放。
+     *
+     * @param batch 批次
+     */
+    void acknowledge(Batch batch);
+
+    /**
+     * 写回批次。
+     *
+     * @param id 批次ID
+     * @param deltas 信号ID到按 {@link SignalCounter} 序号排列的增量
+     */
+    record Batch(String id, Map<Long, long[]> deltas) {
+    }
+}
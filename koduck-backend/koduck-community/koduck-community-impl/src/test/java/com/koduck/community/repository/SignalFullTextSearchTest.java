@@ -0,0 +1,196 @@
+package com.koduck.community.repository;
+
+import com.koduck.community.TestConfiguration;
+import com.koduck.community.entity.Signal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 信号全文检索测试（PostgreSQL）。
+ *
+ * <p>表结构由实体生成，再执行 koduck-core 中真实的 V3 迁移脚本，覆盖分词函数、维护 {@code search_vector}
+ * 的触发器以及 {@link SignalRepository#searchFullText} 的过滤与排序。迁移在每个测试的事务内执行，随事务回滚。
+ * 排序用例中，仅正文命中的相关度约为标题命中的 0.4（权重 B / A），3 天前发布的标题命中衰减到 0.7，仍排在前面。</p>
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestConfiguration.class)
+@Testcontainers
+class SignalFullTextSearchTest {
+
+    /** V3 迁移脚本，路径相对于本模块目录。 */
+    private static final Path MIGRATION = Path.of(
+            "../../koduck-core/src/main/resources/db/migration/V3__community_signal_full_text_search.sql");
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SignalRepository signalRepository;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @BeforeEach
+    void applyMigration() throws IOException {
+        jdbcTemplate.execute(Files.readString(MIGRATION));
+    }
+
+    @Test
+    @DisplayName("文档分词应把连续汉字展开为重叠二元组，保留英文与数字")
+    void searchTextShouldExpandCjkRunsIntoBigrams() {
+        assertEquals(Set.of("macd", "放量", "量突", "突破", "金叉", "叉上", "上涨"), lexemes("放量突破 MACD金叉上涨"));
+        assertEquals(Set.of("600000", "涨"), lexemes("涨 600000"));
+        assertEquals("", jdbcTemplate.queryForObject("SELECT community_search_text(NULL)", String.class));
+    }
+
+    @Test
+    @DisplayName("查询分词应对所有词项取交集，单个汉字按前缀匹配")
+    void searchQueryShouldAndTermsAndPrefixSingleCharacters() {
+        assertEquals("'macd' & '放量' & '量突' & '突破'", query("放量突破 MACD"));
+        assertEquals("'涨':*", query("涨"));
+        assertTrue(matches("放量突破 MACD金叉", "突破"));
+        assertTrue(matches("放量突破 MACD金叉", "macd 放量"));
+        assertTrue(matches("放量突破", "量"));
+        assertFalse(matches("放量突破", "放突"));
+        assertFalse(matches("放量突破", "突破 缩量"));
+    }
+
+    @Test
+    @DisplayName("触发器应在插入和修改标题、正文时维护检索向量")
+    void triggerShouldMaintainSearchVector() {
+        Signal signal = entityManager.persistAndFlush(signal("600000", "放量突破", "MACD 金叉"));
+        assertEquals(List.of(signal.getId()), ids(search("金叉", null, null, null)));
+
+        signal.setContent("缩量回调");
+        entityManager.persistAndFlush(signal);
+        assertTrue(search("金叉", null, null, null).isEmpty());
+        assertEquals(List.of(signal.getId()), ids(search("回调", null, null, null)));
+        assertEquals(List.of(signal.getId()), ids(search("600000", null, null, null)));
+    }
+
+    @Test
+    @DisplayName("标题命中应排在仅正文命中之前，相关度相同时较新的信号在前")
+    void rankingShouldPreferTitleMatchesAndNewerSignals() {
+        Signal inContent = entityManager.persist(signal("600000", "日线观察", "放量突破前高"));
+        Signal olderTitle = entityManager.persist(signal("000001", "放量突破", "等待回踩"));
+        Signal newerTitle = entityManager.persist(signal("300750", "放量突破", "等待回踩"));
+        entityManager.flush();
+        Instant now = Instant.now();
+        setCreatedAt(inContent, now.minus(Duration.ofHours(1)));
+        setCreatedAt(olderTitle, now.minus(Duration.ofDays(3)));
+        setCreatedAt(newerTitle, now.minus(Duration.ofDays(1)));
+
+        assertEquals(List.of(newerTitle.getId(), olderTitle.getId(), inContent.getId()),
+                ids(search("放量突破", null, null, null)));
+    }
+
+    @Test
+    @DisplayName("应按股票代码、市场和信号类型过滤，并以切片分页")
+    void shouldFilterAndSlice() {
+        Signal buy = signal("600000", "放量突破", "MACD 金叉");
+        buy.setMarket("AShare");
+        Signal sell = signal("600000", "放量突破失败", "止损");
+        sell.setMarket("AShare");
+        sell.setSignalType(Signal.SignalType.SELL);
+        Signal other = signal("AAPL", "放量突破", "breakout");
+        other.setMarket("US");
+        entityManager.persist(buy);
+        entityManager.persist(sell);
+        entityManager.persist(other);
+        entityManager.flush();
+
+        assertEquals(3, search("突破", null, null, null).getNumberOfElements());
+        assertEquals(List.of(buy.getId()), ids(search("突破", "600000", "AShare", "BUY")));
+        assertEquals(List.of(other.getId()), ids(search("突破", null, "US", null)));
+        assertTrue(search("突破", "000001", null, null).isEmpty());
+
+        Slice<Signal> first = signalRepository.searchFullText("突破", null, null, null, PageRequest.of(0, 2));
+        Slice<Signal> second = signalRepository.searchFullText("突破", null, null, null, PageRequest.of(1, 2));
+        assertEquals(2, first.getNumberOfElements());
+        assertTrue(first.hasNext());
+        assertEquals(1, second.getNumberOfElements());
+        assertFalse(second.hasNext());
+    }
+
+    private Slice<Signal> search(String keyword, String symbol, String market, String signalType) {
+        return signalRepository.searchFullText(keyword, symbol, market, signalType, PageRequest.of(0, 10));
+    }
+
+    private Set<String> lexemes(String text) {
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT lexeme FROM unnest(to_tsvector('simple', community_search_text(?)))", String.class, text));
+    }
+
+    private String query(String keyword) {
+        return jdbcTemplate.queryForObject("SELECT community_search_query(?)::text", String.class, keyword);
+    }
+
+    private boolean matches(String text, String keyword) {
+        Boolean matched = jdbcTemplate.queryForObject(
+                "SELECT to_tsvector('simple', community_search_text(?)) @@ community_search_query(?)",
+                Boolean.class, text, keyword);
+        return Boolean.TRUE.equals(matched);
+    }
+
+    private void setCreatedAt(Signal signal, Instant createdAt) {
+        jdbcTemplate.update("UPDATE community_signals SET created_at = ? WHERE id = ?",
+                Timestamp.from(createdAt), signal.getId());
+    }
+
+    private static List<Long> ids(Slice<Signal> slice) {
+        return slice.getContent().stream().map(Signal::getId).toList();
+    }
+
+    private static Signal signal(String symbol, String title, String content) {
+        Signal signal = new Signal();
+        signal.setUserId(1L);
+        signal.setSymbol(symbol);
+        signal.setSignalType(Signal.SignalType.BUY);
+        signal.setTitle(title);
+        signal.setContent(content);
+        signal.setStatus(Signal.Status.ACTIVE);
+        return signal;
+    }
+}
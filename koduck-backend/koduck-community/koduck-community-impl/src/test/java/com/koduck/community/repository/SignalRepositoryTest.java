@@ -152,6 +152,7 @@ class SignalRepositoryTest {
 
     @Test
     @DisplayName("应搜索信号")
+    @SuppressWarnings("deprecation")
     void shouldSearchByKeyword() {
         Signal signal1 = createTestSignal(USER_ID, "AAPL", Signal.SignalType.BUY, 
                 "Apple Buy Signal", Signal.Status.ACTIVE, 0);
@@ -170,6 +171,7 @@ class SignalRepositoryTest {
 
     @Test
     @DisplayName("应查询热门信号")
+    @SuppressWarnings("deprecation")
     void shouldFindHotSignals() {
         Signal signal1 = createTestSignal(USER_ID, "AAPL", Signal.SignalType.BUY, 
                 "Hot Signal", Signal.Status.ACTIVE, 100);
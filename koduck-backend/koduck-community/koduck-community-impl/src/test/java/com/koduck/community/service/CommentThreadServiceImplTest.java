@@ -0,0 +1,162 @@
+package com.koduck.community.service;
+
+import com.koduck.community.config.CommunityCacheConfig;
+import com.koduck.community.config.CommunityProperties;
+import com.koduck.community.dto.CommentDto;
+import com.koduck.community.dto.LikeDto;
+import com.koduck.community.entity.Comment;
+import com.koduck.community.event.CommentCreatedEvent;
+import com.koduck.community.repository.CommentRepository;
+import com.koduck.community.repository.LikeRepository;
+import com.koduck.community.service.support.CommentTree;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CommentThreadServiceImpl 单元测试。
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CommentThreadServiceImplTest {
+
+    private static final Long SIGNAL_ID = 7L;
+    private static final Long VIEWER_ID = 42L;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    @Mock
+    private ObjectProvider<CacheManager> cacheManagerProvider;
+
+    /** 测试目标对象。 */
+    private CommentThreadServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        when(cacheManagerProvider.getIfAvailable()).thenReturn(new ConcurrentMapCacheManager());
+        when(commentRepository.findBySignalIdOrderByIdAsc(SIGNAL_ID)).thenReturn(List.of(
+                comment(1L, null), comment(2L, 1L), comment(3L, null),
+                comment(4L, 2L), comment(5L, null), comment(6L, 5L)));
+        when(likeRepository.findLikedTargetIds(eq(VIEWER_ID), eq(LikeDto.TargetType.COMMENT), any()))
+                .thenReturn(List.of(2L, 4L));
+        service = new CommentThreadServiceImpl(commentRepository, likeRepository, cacheManagerProvider,
+                new CommunityProperties());
+    }
+
+    @Test
+    @DisplayName("一次查询组装评论树，按顶级评论分页并带回复数")
+    void shouldPageTopLevelCommentsWithInlineReplies() {
+        CommentThreadService.ThreadPage page = service.thread(SIGNAL_ID, null, 2, 2);
+
+        assertEquals(3, page.totalTopLevel());
+        assertEquals(6, page.totalComments());
+        assertEquals(1, page.comments().size());
+        CommentDto root = page.comments().get(0);
+        assertEquals(1L, root.getId().longValue());
+        assertEquals(1, root.getReplyCount());
+        assertEquals(4L, root.getReplies().get(0).getReplies().get(0).getId().longValue());
+        assertNull(root.getLikedByMe());
+        verify(commentRepository, times(1)).findBySignalIdOrderByIdAsc(SIGNAL_ID);
+        verify(commentRepository, never()).findByParentId(anyLong(), any());
+        verify(likeRepository, never()).findLikedTargetIds(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("本页评论的点赞标记应由一次批量查询得到")
+    @SuppressWarnings("unchecked")
+    void shouldMarkLikedCommentsWithOneLookup() {
+        CommentThreadService.ThreadPage page = service.thread(SIGNAL_ID, VIEWER_ID, 2, 2);
+
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(likeRepository, times(1)).findLikedTargetIds(eq(VIEWER_ID), eq(LikeDto.TargetType.COMMENT),
+                ids.capture());
+        assertEquals(Set.of(1L, 2L, 4L), Set.copyOf(ids.getValue()));
+        CommentDto root = page.comments().get(0);
+        assertFalse(root.getLikedByMe());
+        assertTrue(root.getReplies().get(0).getLikedByMe());
+        assertTrue(root.getReplies().get(0).getReplies().get(0).getLikedByMe());
+    }
+
+    @Test
+    @DisplayName("评论树应被缓存，新评论发布后失效")
+    void shouldCacheTreeAndEvictOnNewComment() {
+        service.thread(SIGNAL_ID, null, 1, 10);
+        service.thread(SIGNAL_ID, VIEWER_ID, 1, 10);
+        verify(commentRepository, times(1)).findBySignalIdOrderByIdAsc(SIGNAL_ID);
+
+        service.onCommentCreated(new CommentCreatedEvent(this, 8L, SIGNAL_ID, null, 1L, "alice"));
+        service.thread(SIGNAL_ID, null, 1, 10);
+
+        verify(commentRepository, times(2)).findBySignalIdOrderByIdAsc(SIGNAL_ID);
+    }
+
+    @Test
+    @DisplayName("缓存不可用时应直接从数据库组装")
+    void shouldLoadFromDatabaseWhenCacheFails() {
+        CacheManager failing = mock(CacheManager.class);
+        Cache cache = mock(Cache.class);
+        when(failing.getCache(CommunityCacheConfig.CACHE_COMMENT_THREADS)).thenReturn(cache);
+        when(cache.get(any(), eq(CommentTree.class)))
+                .thenThrow(new IllegalStateException("redis down"));
+        when(cacheManagerProvider.getIfAvailable()).thenReturn(failing);
+
+        CommentThreadService.ThreadPage page = service.thread(SIGNAL_ID, null, 1, 10);
+
+        assertEquals(3, page.comments().size());
+        assertEquals(List.of(5L, 3L, 1L), page.comments().stream().map(CommentDto::getId).toList());
+    }
+
+    @Test
+    @DisplayName("每页大小应受配置上限约束")
+    void shouldClampPageSize() {
+        CommentThreadService.ThreadPage page = service.thread(SIGNAL_ID, null, 0, 1000);
+
+        assertEquals(1, page.page());
+        assertEquals(50, page.pageSize());
+        assertEquals(3, page.comments().size());
+    }
+
+    private static Comment comment(Long id, Long parentId) {
+        Comment comment = new Comment();
+        comment.setId(id);
+        comment.setSignalId(SIGNAL_ID);
+        comment.setParentId(parentId);
+        comment.setUserId(1L);
+        comment.setContent("comment " + id);
+        return comment;
+    }
+}
@@ -0,0 +1,247 @@
+package com.koduck.community.service;
+
+import com.koduck.community.config.CommunityProperties;
+import com.koduck.community.entity.Follow;
+import com.koduck.community.entity.Signal;
+import com.koduck.community.event.SignalPublishedEvent;
+import com.koduck.community.exception.CommunityException;
+import com.koduck.community.repository.FollowRepository;
+import com.koduck.community.repository.SignalRepository;
+import com.koduck.community.service.support.FeedEntry;
+import com.koduck.community.service.support.FeedStore;
+import com.koduck.community.service.support.LocalFeedStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * FeedServiceImpl 单元测试。
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FeedServiceImplTest {
+
+    private static final Long READER_ID = 1L;
+    private static final Long AUTHOR_ID = 100L;
+    private static final Long CELEBRITY_ID = 200L;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private SignalRepository signalRepository;
+
+    private CommunityProperties properties;
+
+    private LocalFeedStore store;
+
+    /** 测试目标对象。 */
+    private FeedServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CommunityProperties();
+        properties.getFeed().setPullThreshold(3);
+        store = new LocalFeedStore(properties.getFeed().getTimelineSize(), properties.getFeed().getOutboxSize());
+        service = new FeedServiceImpl(followRepository, signalRepository, store, properties);
+        when(followRepository.findFollowerIdsAfter(anyLong(), anyLong(), any(Pageable.class))).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("普通作者发布的信号应写入已建立时间线的粉丝")
+    void shouldPushToFollowersOfRegularAuthor() {
+        store.addAll(READER_ID, List.of());
+        store.addAll(2L, List.of());
+        Signal signal = signal(10L, AUTHOR_ID, 5_000L);
+        when(signalRepository.findById(10L)).thenReturn(Optional.of(signal));
+        when(followRepository.countByFolloweeId(AUTHOR_ID)).thenReturn(2L);
+        when(followRepository.findFollowerIdsAfter(eq(AUTHOR_ID), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(READER_ID, 2L, 3L));
+
+        int written = service.fanOut(10L);
+
+        assertEquals(3, written);
+        assertEquals(List.of(10L), ids(store.timeline(READER_ID, Long.MAX_VALUE, 10)));
+        assertEquals(List.of(10L), ids(store.timeline(2L, Long.MAX_VALUE, 10)));
+        assertNull(store.timeline(3L, Long.MAX_VALUE, 10));
+        assertEquals(List.of(10L), ids(store.outbox(AUTHOR_ID, Long.MAX_VALUE, 10)));
+    }
+
+    @Test
+    @DisplayName("粉丝数达到阈值的作者只写发件箱，读取时再拉取合并")
+    void shouldPullCelebrityOutboxAtReadTime() {
+        when(signalRepository.findById(20L)).thenReturn(Optional.of(signal(20L, CELEBRITY_ID, 6_000L)));
+        when(followRepository.countByFolloweeId(CELEBRITY_ID)).thenReturn(3L);
+        store.addAll(READER_ID, List.of(new FeedEntry(10L, AUTHOR_ID, 5_000L)));
+        when(followRepository.findFolloweeIdsIn(eq(READER_ID), anyCollection())).thenReturn(List.of(CELEBRITY_ID));
+
+        assertEquals(0, service.fanOut(20L));
+        assertTrue(store.celebrities().contains(CELEBRITY_ID));
+        List<FeedEntry> timeline = service.timeline(READER_ID, null, 10);
+
+        assertEquals(List.of(20L, 10L), ids(timeline));
+        verify(followRepository, never()).findFollowerIdsAfter(eq(CELEBRITY_ID), anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("已标记的作者再次发布时不应查询粉丝数")
+    void shouldKeepCelebrityMarkSticky() {
+        store.addCelebrity(CELEBRITY_ID);
+        when(signalRepository.findById(21L)).thenReturn(Optional.of(signal(21L, CELEBRITY_ID, 7_000L)));
+
+        assertEquals(0, service.fanOut(21L));
+        verify(followRepository, never()).countByFolloweeId(CELEBRITY_ID);
+        assertEquals(List.of(21L), ids(store.outbox(CELEBRITY_ID, Long.MAX_VALUE, 10)));
+    }
+
+    @Test
+    @DisplayName("关注后应把作者最近的信号回填到已建立的时间线")
+    void shouldBackfillOnFollow() {
+        store.addAll(READER_ID, List.of());
+        when(followRepository.existsByFollowerIdAndFolloweeId(READER_ID, AUTHOR_ID)).thenReturn(false);
+        when(signalRepository.findByUserIdAndStatusOrderByCreatedAtDesc(
+                eq(AUTHOR_ID), eq(Signal.Status.ACTIVE), any(Pageable.class)))
+                .thenReturn(List.of(signal(12L, AUTHOR_ID, 3_000L), signal(11L, AUTHOR_ID, 2_000L)));
+
+        assertTrue(service.follow(READER_ID, AUTHOR_ID));
+
+        verify(followRepository).save(any(Follow.class));
+        assertEquals(List.of(12L, 11L), ids(store.timeline(READER_ID, Long.MAX_VALUE, 10)));
+        assertEquals(List.of(12L, 11L), ids(store.outbox(AUTHOR_ID, Long.MAX_VALUE, 10)));
+    }
+
+    @Test
+    @DisplayName("重复关注或关注自己不应新建关注关系")
+    void shouldRejectDuplicateAndSelfFollow() {
+        when(followRepository.existsByFollowerIdAndFolloweeId(READER_ID, AUTHOR_ID)).thenReturn(true);
+
+        assertFalse(service.follow(READER_ID, AUTHOR_ID));
+        assertThrows(CommunityException.class, () -> service.follow(READER_ID, READER_ID));
+        verify(followRepository, never()).save(any(Follow.class));
+    }
+
+    @Test
+    @DisplayName("取消关注后应从时间线移除作者的信号")
+    void shouldRemoveAuthorOnUnfollow() {
+        store.addAll(READER_ID, List.of(new FeedEntry(10L, AUTHOR_ID, 5_000L), new FeedEntry(30L, 300L, 4_000L)));
+        when(followRepository.deleteFollow(READER_ID, AUTHOR_ID)).thenReturn(1);
+
+        assertTrue(service.unfollow(READER_ID, AUTHOR_ID));
+
+        assertEquals(List.of(30L), ids(store.timeline(READER_ID, Long.MAX_VALUE, 10)));
+    }
+
+    @Test
+    @DisplayName("时间线不存在时应从数据库重建，排除拉取的作者")
+    void shouldRebuildMissingTimeline() {
+        store.addCelebrity(CELEBRITY_ID);
+        when(followRepository.findFolloweeIds(READER_ID)).thenReturn(List.of(AUTHOR_ID, CELEBRITY_ID));
+        when(signalRepository.findByUserIdInAndStatusOrderByCreatedAtDesc(
+                eq(List.of(AUTHOR_ID)), eq(Signal.Status.ACTIVE), any(Pageable.class)))
+                .thenReturn(List.of(signal(12L, AUTHOR_ID, 3_000L), signal(11L, AUTHOR_ID, 2_000L)));
+
+        List<FeedEntry> first = service.timeline(READER_ID, null, 1);
+        List<FeedEntry> next = service.timeline(READER_ID, Instant.ofEpochMilli(first.get(0).publishedAt()), 1);
+
+        assertEquals(List.of(12L), ids(first));
+        assertEquals(List.of(11L), ids(next));
+        assertNotNull(store.timeline(READER_ID, Long.MAX_VALUE, 0));
+        verify(signalRepository).findByUserIdInAndStatusOrderByCreatedAtDesc(
+                eq(List.of(AUTHOR_ID)), eq(Signal.Status.ACTIVE), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("存储不可用时应按关注列表查询数据库")
+    void shouldFallBackToDatabaseWhenStoreFails() {
+        FeedStore failing = mock(FeedStore.class);
+        when(failing.timeline(anyLong(), anyLong(), anyInt())).thenThrow(new IllegalStateException("down"));
+        doThrow(new IllegalStateException("down")).when(failing).removeAuthor(anyLong(), anyLong());
+        service = new FeedServiceImpl(followRepository, signalRepository, failing, properties);
+        Instant before = Instant.ofEpochMilli(10_000L);
+        when(followRepository.findFolloweeIds(READER_ID)).thenReturn(List.of(AUTHOR_ID));
+        when(signalRepository.findByUserIdInAndStatusAndCreatedAtBeforeOrderByCreatedAtDesc(
+                eq(List.of(AUTHOR_ID)), eq(Signal.Status.ACTIVE), eq(before), any(Pageable.class)))
+                .thenReturn(List.of(signal(12L, AUTHOR_ID, 3_000L)));
+        when(followRepository.deleteFollow(READER_ID, AUTHOR_ID)).thenReturn(1);
+
+        assertEquals(List.of(12L), ids(service.timeline(READER_ID, before, 10)));
+        assertTrue(service.unfollow(READER_ID, AUTHOR_ID));
+    }
+
+    @Test
+    @DisplayName("读取信号时应保持时间线顺序并跳过已关闭的信号")
+    void shouldLoadActiveSignalsInTimelineOrder() {
+        store.addAll(READER_ID, List.of(new FeedEntry(10L, AUTHOR_ID, 5_000L), new FeedEntry(11L, AUTHOR_ID, 4_000L),
+                new FeedEntry(12L, AUTHOR_ID, 3_000L)));
+        Signal closed = signal(11L, AUTHOR_ID, 4_000L);
+        closed.setStatus(Signal.Status.CLOSED);
+        when(signalRepository.findAllById(any())).thenReturn(List.of(
+                signal(12L, AUTHOR_ID, 3_000L), closed, signal(10L, AUTHOR_ID, 5_000L)));
+
+        List<Signal> feed = service.feed(READER_ID, null, 10);
+
+        assertEquals(2, feed.size());
+        assertEquals(10L, feed.get(0).getId().longValue());
+        assertEquals(12L, feed.get(1).getId().longValue());
+    }
+
+    @Test
+    @DisplayName("关闭功能时不应写入时间线")
+    void shouldSkipFanOutWhenDisabled() {
+        properties.getFeed().setEnabled(false);
+        service = new FeedServiceImpl(followRepository, signalRepository, store, properties);
+
+        service.onSignalPublished(new SignalPublishedEvent(10L, "AAPL", "BUY", AUTHOR_ID));
+
+        verify(signalRepository, never()).findById(10L);
+        assertTrue(store.celebrities().isEmpty());
+    }
+
+    private static Signal signal(Long id, Long userId, long publishedAt) {
+        Signal signal = new Signal();
+        signal.setId(id);
+        signal.setUserId(userId);
+        signal.setStatus(Signal.Status.ACTIVE);
+        signal.setCreatedAt(Instant.ofEpochMilli(publishedAt));
+        return signal;
+    }
+
+    private static List<Long> ids(List<FeedEntry> entries) {
+        List<Long> ids = new ArrayList<>(entries.size());
+        for (FeedEntry entry : entries) {
+            ids.add(entry.signalId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,238 @@
+package com.koduck.community.service;
+
+import com.koduck.common.constants.RedisKeyConstants;
+import com.koduck.community.config.CommunityProperties;
+import com.koduck.community.entity.Signal;
+import com.koduck.community.repository.SignalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * HotSignalServiceImpl 单元测试。
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class HotSignalServiceImplTest {
+
+    /** 测试起始时间。 */
+    private static final Instant NOW = Instant.parse("2026-10-19T12:00:00Z");
+
+    /** 脚本操作的键。 */
+    private static final List<String> KEYS = List.of(
+            RedisKeyConstants.COMMUNITY_HOT_SIGNALS, RedisKeyConstants.COMMUNITY_HOT_SIGNAL_ENGAGEMENT);
+
+    @Mock
+    private SignalRepository signalRepository;
+
+    @Mock
+    private ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private Clock clock;
+
+    /** 当前时间。 */
+    private Instant now = NOW;
+
+    /** 测试目标对象。 */
+    private HotSignalServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenAnswer(invocation -> now);
+        when(redisTemplateProvider.getIfAvailable()).thenReturn(null);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(signalRepository.findByStatusAndCreatedAtAfter(eq(Signal.Status.ACTIVE), any(Instant.class)))
+                .thenReturn(List.of());
+        service = new HotSignalServiceImpl(signalRepository, redisTemplateProvider, new CommunityProperties(), clock);
+    }
+
+    @Test
+    @DisplayName("互动量相同时新信号应排在旧信号之前")
+    void shouldRankNewerSignalFirstForSameEngagement() {
+        recent(signal(1L, NOW.minus(Duration.ofDays(3)), 5, Signal.Status.ACTIVE),
+                signal(2L, NOW.minus(Duration.ofHours(1)), 5, Signal.Status.ACTIVE));
+
+        assertEquals(List.of(2L, 1L), ids(service.top(10)));
+    }
+
+    @Test
+    @DisplayName("点赞、评论和浏览应增量提升排名，不再查询全表排序")
+    @SuppressWarnings("deprecation")
+    void shouldRaiseRankIncrementally() {
+        recent(signal(1L, NOW.minus(Duration.ofHours(13)), 0, Signal.Status.ACTIVE),
+                signal(2L, NOW.minus(Duration.ofHours(1)), 0, Signal.Status.ACTIVE));
+        assertEquals(List.of(2L, 1L), ids(service.top(10)));
+
+        service.recordLike(1L, true);
+        service.recordLike(1L, true);
+        for (int i = 0; i < 3; i++) {
+            service.recordComment(1L);
+        }
+        assertEquals(List.of(2L, 1L), ids(service.top(10)));
+
+        for (int i = 0; i < 20; i++) {
+            service.recordView(1L);
+        }
+        service.recordLike(2L, true);
+
+        assertEquals(List.of(1L, 2L), ids(service.top(10)));
+        verify(signalRepository, never()).findHotSignals(any());
+        verify(signalRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("非活跃或过旧的信号不应进入排行，且只查询一次数据库")
+    void shouldIgnoreInactiveAndExpiredSignals() {
+        when(signalRepository.findById(3L)).thenReturn(Optional.of(
+                signal(3L, NOW.minus(Duration.ofHours(1)), 0, Signal.Status.CLOSED)));
+        when(signalRepository.findById(4L)).thenReturn(Optional.of(
+                signal(4L, NOW.minus(Duration.ofDays(8)), 0, Signal.Status.ACTIVE)));
+
+        service.recordView(3L);
+        service.recordView(3L);
+        service.recordLike(4L, true);
+        service.recordLike(4L, true);
+
+        assertEquals(List.of(), service.top(10));
+        verify(signalRepository, times(1)).findById(3L);
+        verify(signalRepository, times(1)).findById(4L);
+    }
+
+    @Test
+    @DisplayName("压缩应移除超过保留期的零互动信号")
+    void shouldCompactExpiredSignals() {
+        recent(signal(1L, NOW.minus(Duration.ofDays(6)), 0, Signal.Status.ACTIVE),
+                signal(2L, NOW.minus(Duration.ofHours(1)), 0, Signal.Status.ACTIVE));
+        assertEquals(List.of(2L, 1L), ids(service.top(10)));
+
+        now = NOW.plus(Duration.ofDays(2));
+
+        assertEquals(1, service.compact());
+        assertEquals(List.of(2L), ids(service.top(10)));
+    }
+
+    @Test
+    @DisplayName("读取热门实体时应按排名返回并移出已关闭的信号")
+    void shouldEvictClosedSignalsWhenHydrating() {
+        Signal first = signal(1L, NOW.minus(Duration.ofMinutes(10)), 0, Signal.Status.ACTIVE);
+        Signal second = signal(2L, NOW.minus(Duration.ofHours(2)), 0, Signal.Status.ACTIVE);
+        recent(first, second);
+        Signal closed = signal(2L, second.getCreatedAt(), 0, Signal.Status.CLOSED);
+        when(signalRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(closed, first));
+
+        assertEquals(List.of(first), service.hotSignals(10));
+        assertEquals(List.of(1L), ids(service.top(10)));
+    }
+
+    @Test
+    @DisplayName("应从 Redis 有序集合读取前 K 名")
+    void shouldReadTopFromRedis() {
+        when(redisTemplateProvider.getIfAvailable()).thenReturn(redisTemplate);
+        Set<ZSetOperations.TypedTuple<String>> ranked = new LinkedHashSet<>();
+        ranked.add(new DefaultTypedTuple<>("9", 5.0));
+        ranked.add(new DefaultTypedTuple<>("8", 4.0));
+        when(zSetOperations.reverseRangeWithScores(RedisKeyConstants.COMMUNITY_HOT_SIGNALS, 0, 1))
+                .thenReturn(ranked);
+
+        assertEquals(List.of(new HotSignalService.HotSignal(9L, 5.0), new HotSignalService.HotSignal(8L, 4.0)),
+                service.top(2));
+        verify(signalRepository, never()).findByStatusAndCreatedAtAfter(any(), any());
+    }
+
+    @Test
+    @DisplayName("Redis 中缺少的信号应以数据库中的发布时间和计数补入")
+    void shouldSeedMissingSignalInRedis() {
+        when(redisTemplateProvider.getIfAvailable()).thenReturn(redisTemplate);
+        Signal signal = signal(7L, NOW.minus(Duration.ofHours(1)), 3, Signal.Status.ACTIVE);
+        when(signalRepository.findById(7L)).thenReturn(Optional.of(signal));
+        when(redisTemplate.execute(eq(HotSignalServiceImpl.INCREMENT_SCRIPT), anyList(), any(Object[].class)))
+                .thenReturn(null, "4.0");
+
+        service.recordLike(7L, true);
+
+        String base = Double.toString(signal.getCreatedAt().getEpochSecond() / 45000.0);
+        verify(redisTemplate).execute(HotSignalServiceImpl.INCREMENT_SCRIPT, KEYS, "7", "1.0", "", "0.0");
+        verify(redisTemplate).execute(HotSignalServiceImpl.INCREMENT_SCRIPT, KEYS, "7", "1.0", base, "3.0");
+        verify(signalRepository, times(1)).findById(7L);
+    }
+
+    @Test
+    @DisplayName("Redis 不可用时应回退到本实例排行")
+    void shouldFallBackToLocalRankingWhenRedisFails() {
+        when(redisTemplateProvider.getIfAvailable()).thenReturn(redisTemplate);
+        RedisConnectionFailureException failure = new RedisConnectionFailureException("down");
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenThrow(failure);
+        when(zSetOperations.reverseRangeWithScores(any(), anyLong(), anyLong())).thenThrow(failure);
+        recent(signal(1L, NOW.minus(Duration.ofHours(3)), 0, Signal.Status.ACTIVE),
+                signal(2L, NOW.minus(Duration.ofHours(1)), 0, Signal.Status.ACTIVE));
+
+        for (int i = 0; i < 5; i++) {
+            service.recordComment(1L);
+        }
+
+        assertEquals(List.of(1L, 2L), ids(service.top(10)));
+    }
+
+    private void recent(Signal... signals) {
+        when(signalRepository.findByStatusAndCreatedAtAfter(eq(Signal.Status.ACTIVE), any(Instant.class)))
+                .thenReturn(List.of(signals));
+    }
+
+    private static Signal signal(Long id, Instant createdAt, int likeCount, Signal.Status status) {
+        Signal signal = new Signal();
+        signal.setId(id);
+        signal.setUserId(100L);
+        signal.setSymbol("AAPL");
+        signal.setSignalType(Signal.SignalType.BUY);
+        signal.setTitle("Signal " + id);
+        signal.setStatus(status);
+        signal.setLikeCount(likeCount);
+        signal.setCommentCount(0);
+        signal.setViewCount(0);
+        signal.setCreatedAt(createdAt);
+        return signal;
+    }
+
+    private static List<Long> ids(List<HotSignalService.HotSignal> ranked) {
+        return ranked.stream().map(HotSignalService.HotSignal::signalId).toList();
+    }
+}
@@ -0,0 +1,194 @@
+package com.koduck.community.service;
+
+import com.koduck.community.TestConfiguration;
+import com.koduck.community.config.CommunityProperties;
+import com.koduck.community.entity.Signal;
+import com.koduck.community.repository.CounterFlushRepository;
+import com.koduck.community.repository.SignalRepository;
+import com.koduck.community.service.support.LocalSignalCounterBuffer;
+import com.koduck.community.service.support.SignalCounter;
+import com.koduck.community.service.support.SignalCounterBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SignalCounterServiceImpl 测试。
+ *
+ * <p>写回在独立事务中提交，因此关闭测试事务并在每个用例后清理数据。</p>
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+@DataJpaTest
+@Import(TestConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SignalCounterServiceImplTest {
+
+    @Autowired
+    private SignalRepository signalRepository;
+
+    @Autowired
+    private CounterFlushRepository counterFlushRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SignalCounterServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = createService(new LocalSignalCounterBuffer(16));
+    }
+
+    @AfterEach
+    void tearDown() {
+        counterFlushRepository.deleteAll();
+        signalRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("并发点赞与定时写回交错时不应丢失计数")
+    void shouldNotLoseConcurrentLikes() throws Exception {
+        Signal signal = saveSignal(0);
+        ExecutorService likers = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1000);
+        AtomicBoolean liking = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (liking.get()) {
+                service.flush();
+            }
+        });
+        for (int i = 0; i < 1000; i++) {
+            likers.execute(() -> {
+                try {
+                    start.await();
+                    service.increment(signal.getId(), SignalCounter.LIKES);
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                finally {
+                    done.countDown();
+                }
+            });
+        }
+        flusher.start();
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        liking.set(false);
+        flusher.join();
+        likers.shutdown();
+
+        service.flush();
+
+        Signal stored = signalRepository.findById(signal.getId()).orElseThrow();
+        assertEquals(1000, stored.getLikeCount());
+        assertEquals(new SignalCounterService.SignalCounts(1000, 0, 0), service.counts(stored));
+    }
+
+    @Test
+    @DisplayName("读取计数应包含尚未写回的增量")
+    void shouldIncludePendingDeltasInCounts() {
+        Signal signal = saveSignal(5);
+        service.add(signal.getId(), SignalCounter.LIKES, 2);
+        service.increment(signal.getId(), SignalCounter.COMMENTS);
+        service.add(signal.getId(), SignalCounter.VIEWS, 3);
+
+        SignalCounterService.SignalCounts before =
+                service.counts(signalRepository.findById(signal.getId()).orElseThrow());
+        assertEquals(1, service.flush());
+        SignalCounterService.SignalCounts after =
+                service.counts(signalRepository.findById(signal.getId()).orElseThrow());
+
+        assertEquals(new SignalCounterService.SignalCounts(7, 1, 3), before);
+        assertEquals(before, after);
+    }
+
+    @Test
+    @DisplayName("已写回的批次被重放时不应重复累加")
+    void shouldSkipReplayedBatch() {
+        Signal signal = saveSignal(0);
+        SignalCounterBuffer.Batch batch = new SignalCounterBuffer.Batch("batch-1",
+                Map.of(signal.getId(), new long[] {4, 0, 0}));
+        SignalCounterServiceImpl replaying = createService(new ReplayingBuffer(batch));
+
+        assertEquals(1, replaying.flush());
+        assertEquals(0, replaying.flush());
+
+        assertEquals(4, signalRepository.findById(signal.getId()).orElseThrow().getLikeCount());
+        assertTrue(counterFlushRepository.existsById("batch-1"));
+    }
+
+    private SignalCounterServiceImpl createService(SignalCounterBuffer buffer) {
+        return new SignalCounterServiceImpl(signalRepository, counterFlushRepository, buffer,
+                new CommunityProperties(), new TransactionTemplate(transactionManager), Clock.systemUTC());
+    }
+
+    private Signal saveSignal(int likeCount) {
+        Signal signal = new Signal();
+        signal.setUserId(1L);
+        signal.setPortfolioId(10L);
+        signal.setSymbol("AAPL");
+        signal.setSignalType(Signal.SignalType.BUY);
+        signal.setTitle("Counter Signal");
+        signal.setContent("Counter content");
+        signal.setEntryPrice(new BigDecimal("150.00"));
+        signal.setStatus(Signal.Status.ACTIVE);
+        signal.setLikeCount(likeCount);
+        signal.setCommentCount(0);
+        signal.setViewCount(0);
+        return signalRepository.save(signal);
+    }
+
+    /**
+     * 确认后仍返回同一批次的缓冲，模拟写回后来不及确认就退出的实例。
+     */
+    private static final class ReplayingBuffer implements SignalCounterBuffer {
+
+        private final Batch batch;
+
+        private ReplayingBuffer(Batch batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void add(long signalId, SignalCounter counter, long delta) {
+        }
+
+        @Override
+        public long[] pending(long signalId) {
+            return new long[SignalCounter.values().length];
+        }
+
+        @Override
+        public Batch claim() {
+            return batch;
+        }
+
+        @Override
+        public void acknowledge(Batch batch) {
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.koduck.community.service;
+
+import com.koduck.community.dto.SignalSummaryDto;
+import com.koduck.community.entity.Signal;
+import com.koduck.community.exception.SignalException;
+import com.koduck.community.repository.SignalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * SignalQueryServiceImpl 单元测试。
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SignalQueryServiceImplTest {
+
+    @Mock
+    private SignalRepository signalRepository;
+
+    @Mock
+    private HotSignalService hotSignalService;
+
+    /** 测试目标对象。 */
+    private SignalQueryServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SignalQueryServiceImpl(signalRepository, hotSignalService);
+    }
+
+    @Test
+    @DisplayName("搜索应走全文检索，规范化过滤条件并按页码取切片")
+    void searchShouldUseFullTextWithNormalizedFilters() {
+        when(signalRepository.searchFullText(anyString(), any(), any(), any(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(signal(7L, "放量突破"))));
+
+        List<SignalSummaryDto> result = service.searchSignals("  放量 MACD ", " 600000 ", "", "buy", 3, 20);
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(signalRepository).searchFullText(eq("放量 MACD"), eq("600000"), isNull(), eq("BUY"),
+                pageable.capture());
+        assertEquals(40L, pageable.getValue().getOffset());
+        assertEquals(20, pageable.getValue().getPageSize());
+        assertTrue(pageable.getValue().getSort().isUnsorted());
+        assertEquals(1, result.size());
+        assertEquals(7L, result.get(0).getId());
+        assertEquals("BUY", result.get(0).getDirection());
+        assertEquals("ACTIVE", result.get(0).getStatus());
+    }
+
+    @Test
+    @DisplayName("三参数搜索不带过滤条件")
+    void keywordOnlySearchShouldNotFilter() {
+        when(signalRepository.searchFullText(anyString(), any(), any(), any(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of()));
+
+        service.searchSignals("突破", 1, 10);
+
+        verify(signalRepository).searchFullText(eq("突破"), isNull(), isNull(), isNull(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("空白关键词不查询数据库")
+    void blankKeywordShouldReturnEmpty() {
+        assertTrue(service.searchSignals(" ", null, null, null, 1, 10).isEmpty());
+        verify(signalRepository, never()).searchFullText(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("未知信号类型应抛出信号异常")
+    void unknownSignalTypeShouldBeRejected() {
+        assertThrows(SignalException.class, () -> service.searchSignals("突破", null, null, "HOLD", 1, 10));
+        verify(signalRepository, never()).searchFullText(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("热门信号应由增量排行回答")
+    void hotSignalsShouldComeFromRanking() {
+        when(hotSignalService.hotSignals(5)).thenReturn(List.of(signal(2L, "热门"), signal(1L, "次热门")));
+
+        List<SignalSummaryDto> result = service.getHotSignals(5);
+
+        assertEquals(List.of(2L, 1L), result.stream().map(SignalSummaryDto::getId).toList());
+    }
+
+    private static Signal signal(Long id, String title) {
+        Signal signal = new Signal();
+        signal.setId(id);
+        signal.setUserId(1L);
+        signal.setSymbol("600000");
+        signal.setSignalType(Signal.SignalType.BUY);
+        signal.setTitle(title);
+        signal.setStatus(Signal.Status.ACTIVE);
+        signal.setCreatedAt(Instant.parse("2026-10-16T02:00:00Z"));
+        return signal;
+    }
+}
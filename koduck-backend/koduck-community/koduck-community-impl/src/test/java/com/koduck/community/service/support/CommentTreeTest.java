@@ -0,0 +1,83 @@
+package com.koduck.community.service.support;
+
+import com.koduck.community.entity.Comment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * CommentTree 单元测试。
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+class CommentTreeTest {
+
+    @Test
+    @DisplayName("应把扁平评论组装为树，顶级评论倒序、回复正序")
+    void shouldAssembleFlatCommentsIntoTree() {
+        CommentTree tree = CommentTree.assemble(List.of(
+                comment(1L, null), comment(2L, 1L), comment(3L, null),
+                comment(4L, 2L), comment(5L, 1L), comment(6L, 3L)));
+
+        assertEquals(6, tree.size());
+        assertEquals(List.of(3L, 1L), ids(tree.roots()));
+        CommentTree.Node first = tree.roots().get(1);
+        assertEquals(List.of(2L, 5L), ids(first.replies()));
+        assertEquals(2, first.replyCount());
+        assertEquals(List.of(4L), ids(first.replies().get(0).replies()));
+        assertEquals(1, first.replies().get(0).replyCount());
+        assertEquals(0, first.replies().get(1).replyCount());
+        assertEquals(List.of(6L), ids(tree.roots().get(0).replies()));
+    }
+
+    @Test
+    @DisplayName("父评论缺失或ID不小于自身的评论应作为顶级评论")
+    void shouldPromoteOrphansToRoots() {
+        CommentTree tree = CommentTree.assemble(List.of(
+                comment(2L, 99L), comment(3L, 4L), comment(4L, null)));
+
+        assertEquals(List.of(4L, 3L, 2L), ids(tree.roots()));
+        assertEquals(0, tree.roots().get(0).replyCount());
+    }
+
+    @Test
+    @DisplayName("深层回复链应按层级完整组装")
+    void shouldAssembleDeepReplyChain() {
+        List<Comment> comments = new ArrayList<>();
+        comments.add(comment(1L, null));
+        for (long id = 2; id <= 5000; id++) {
+            comments.add(comment(id, id - 1));
+        }
+
+        CommentTree tree = CommentTree.assemble(comments);
+
+        assertEquals(1, tree.roots().size());
+        CommentTree.Node node = tree.roots().get(0);
+        int depth = 1;
+        while (!node.replies().isEmpty()) {
+            node = node.replies().get(0);
+            depth++;
+        }
+        assertEquals(5000, depth);
+        assertEquals(5000L, node.id().longValue());
+    }
+
+    private static List<Long> ids(List<CommentTree.Node> nodes) {
+        return nodes.stream().map(CommentTree.Node::id).toList();
+    }
+
+    private static Comment comment(Long id, Long parentId) {
+        Comment comment = new Comment();
+        comment.setId(id);
+        comment.setSignalId(1L);
+        comment.setParentId(parentId);
+        comment.setUserId(1L);
+        comment.setContent("comment " + id);
+        return comment;
+    }
+}
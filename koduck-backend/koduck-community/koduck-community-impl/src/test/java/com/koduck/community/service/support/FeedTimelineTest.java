@@ -0,0 +1,96 @@
+package com.koduck.community.service.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * FeedTimeline 单元测试。
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+class FeedTimelineTest {
+
+    @Test
+    @DisplayName("条目应按发布时间倒序保存，时间相同时ID大的在前")
+    void shouldKeepEntriesNewestFirst() {
+        FeedTimeline timeline = new FeedTimeline(10);
+        timeline.add(new FeedEntry(1L, 100L, 1_000L));
+        timeline.add(new FeedEntry(3L, 101L, 3_000L));
+        timeline.add(new FeedEntry(2L, 100L, 2_000L));
+        timeline.add(new FeedEntry(4L, 102L, 2_000L));
+
+        assertEquals(List.of(3L, 4L, 2L, 1L), ids(timeline.before(Long.MAX_VALUE, 10)));
+    }
+
+    @Test
+    @DisplayName("超出容量时应丢弃最旧的条目")
+    void shouldDropOldestBeyondCapacity() {
+        FeedTimeline timeline = new FeedTimeline(3);
+        for (long id = 1; id <= 5; id++) {
+            timeline.add(new FeedEntry(id, 100L, id * 1_000L));
+        }
+
+        assertEquals(3, timeline.size());
+        assertEquals(List.of(5L, 4L, 3L), ids(timeline.before(Long.MAX_VALUE, 10)));
+        assertFalse(timeline.add(new FeedEntry(0L, 100L, 500L)));
+        assertEquals(List.of(5L, 4L, 3L), ids(timeline.before(Long.MAX_VALUE, 10)));
+    }
+
+    @Test
+    @DisplayName("重复写入同一信号不应产生重复条目")
+    void shouldIgnoreDuplicateSignal() {
+        FeedTimeline timeline = new FeedTimeline(10);
+        assertTrue(timeline.add(new FeedEntry(1L, 100L, 1_000L)));
+        assertFalse(timeline.add(new FeedEntry(1L, 100L, 1_000L)));
+        timeline.addAll(List.of(new FeedEntry(1L, 100L, 1_000L), new FeedEntry(2L, 100L, 2_000L)));
+
+        assertEquals(2, timeline.size());
+    }
+
+    @Test
+    @DisplayName("应移除指定作者的全部条目")
+    void shouldRemoveAuthor() {
+        FeedTimeline timeline = new FeedTimeline(10);
+        timeline.addAll(List.of(new FeedEntry(1L, 100L, 1_000L), new FeedEntry(2L, 101L, 2_000L),
+                new FeedEntry(3L, 100L, 3_000L), new FeedEntry(4L, 102L, 4_000L)));
+
+        assertEquals(2, timeline.removeAuthor(100L));
+        assertEquals(List.of(4L, 2L), ids(timeline.before(Long.MAX_VALUE, 10)));
+        assertEquals(0, timeline.removeAuthor(100L));
+    }
+
+    @Test
+    @DisplayName("游标分页应只返回早于游标的条目")
+    void shouldPageWithBeforeCursor() {
+        FeedTimeline timeline = new FeedTimeline(100);
+        for (long id = 1; id <= 50; id++) {
+            timeline.add(new FeedEntry(id, 100L, id * 1_000L));
+        }
+
+        List<FeedEntry> first = timeline.before(Long.MAX_VALUE, 20);
+        List<FeedEntry> second = timeline.before(first.get(first.size() - 1).publishedAt(), 20);
+        List<FeedEntry> last = timeline.before(second.get(second.size() - 1).publishedAt(), 20);
+
+        assertEquals(50L, first.get(0).signalId());
+        assertEquals(30L, second.get(0).signalId());
+        assertEquals(List.of(10L, 9L, 8L, 7L, 6L, 5L, 4L, 3L, 2L, 1L), ids(last));
+        assertTrue(timeline.before(1_000L, 20).isEmpty());
+        assertTrue(timeline.before(Long.MAX_VALUE, 0).isEmpty());
+    }
+
+    private static List<Long> ids(List<FeedEntry> entries) {
+        List<Long> ids = new ArrayList<>(entries.size());
+        for (FeedEntry entry : entries) {
+            ids.add(entry.signalId());
+        }
+        return ids;
+    }
+}
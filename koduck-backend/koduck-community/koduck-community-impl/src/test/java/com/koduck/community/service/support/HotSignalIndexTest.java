@@ -0,0 +1,78 @@
+package com.koduck.community.service.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * HotSignalIndex 单元测试。
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+class HotSignalIndexTest {
+
+    @Test
+    @DisplayName("互动量增长 10 倍应抵消一个衰减常数的发布时间差")
+    void shouldTradeTenfoldEngagementForOneDecayUnit() {
+        assertEquals(HotSignalIndex.score(101.0, 1.0), HotSignalIndex.score(100.0, 10.0), 1e-9);
+        assertEquals(HotSignalIndex.score(100.0, 0.0), HotSignalIndex.score(100.0, 1.0), 1e-9);
+    }
+
+    @Test
+    @DisplayName("应按分数降序返回前 K 名并随互动增量调整位置")
+    void shouldReorderOnIncrement() {
+        HotSignalIndex index = new HotSignalIndex();
+        index.seed(1L, 100.0, 0.0);
+        index.seed(2L, 100.5, 0.0);
+        index.seed(3L, 99.0, 0.0);
+
+        assertEquals(List.of(2L, 1L, 3L), ids(index.top(3)));
+
+        index.increment(1L, 9.0);
+
+        assertEquals(List.of(1L, 2L), ids(index.top(2)));
+        assertEquals(9.0, index.top(1).get(0).engagement(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("重复加入不应覆盖已有互动量，减少后不应低于 0")
+    void shouldKeepExistingEntryAndClampAtZero() {
+        HotSignalIndex index = new HotSignalIndex();
+        assertTrue(index.seed(1L, 100.0, 5.0));
+        assertFalse(index.seed(1L, 200.0, 0.0));
+
+        index.increment(1L, -10.0);
+
+        assertEquals(0.0, index.top(1).get(0).engagement(), 1e-9);
+        assertEquals(100.0, index.top(1).get(0).score(), 1e-9);
+        assertTrue(Double.isNaN(index.increment(2L, 1.0)));
+    }
+
+    @Test
+    @DisplayName("压缩应移除低于淘汰线的信号并限制条目数")
+    void shouldCompactBelowThresholdAndOverCapacity() {
+        HotSignalIndex index = new HotSignalIndex();
+        index.seed(1L, 90.0, 0.0);
+        index.seed(2L, 99.0, 100.0);
+        index.seed(3L, 100.0, 0.0);
+        index.seed(4L, 101.0, 0.0);
+        index.seed(5L, 102.0, 0.0);
+
+        int removed = index.compact(100.0, 3);
+
+        assertEquals(2, removed);
+        assertEquals(List.of(5L, 4L, 2L), ids(index.top(10)));
+        assertFalse(index.contains(1L));
+        assertFalse(index.contains(3L));
+    }
+
+    private static List<Long> ids(List<HotSignalIndex.Entry> entries) {
+        return entries.stream().map(HotSignalIndex.Entry::signalId).toList();
+    }
+}
@@ -0,0 +1,81 @@
+package com.koduck.community.service.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * LocalSignalCounterBuffer 单元测试。
+ *
+ * @author Koduck Team
+ * @since 0.1.0
+ */
+class LocalSignalCounterBufferTest {
+
+    @Test
+    @DisplayName("封批应合并各分片的增量，未确认前重复返回同一批次")
+    void shouldReplayBatchUntilAcknowledged() throws Exception {
+        LocalSignalCounterBuffer buffer = new LocalSignalCounterBuffer(4);
+        ExecutorService threads = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(8);
+        for (int i = 0; i < 8; i++) {
+            threads.execute(() -> {
+                buffer.add(1L, SignalCounter.LIKES, 1);
+                buffer.add(1L, SignalCounter.VIEWS, 2);
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        threads.shutdown();
+
+        SignalCounterBuffer.Batch batch = buffer.claim();
+
+        assertArrayEquals(new long[] {8, 0, 16}, batch.deltas().get(1L));
+        assertSame(batch, buffer.claim());
+        buffer.acknowledge(batch);
+        assertNull(buffer.claim());
+    }
+
+    @Test
+    @DisplayName("待写回增量应包含未确认批次，封批后的增量进入下一批")
+    void shouldCountInFlightBatchAsPending() {
+        LocalSignalCounterBuffer buffer = new LocalSignalCounterBuffer(1);
+        buffer.add(1L, SignalCounter.LIKES, 3);
+        SignalCounterBuffer.Batch first = buffer.claim();
+
+        buffer.add(1L, SignalCounter.LIKES, 2);
+        buffer.add(1L, SignalCounter.COMMENTS, 1);
+
+        assertArrayEquals(new long[] {5, 1, 0}, buffer.pending(1L));
+        buffer.acknowledge(first);
+        assertArrayEquals(new long[] {2, 1, 0}, buffer.pending(1L));
+        SignalCounterBuffer.Batch second = buffer.claim();
+        assertNotEquals(first.id(), second.id());
+        assertArrayEquals(new long[] {2, 1, 0}, second.deltas().get(1L));
+    }
+
+    @Test
+    @DisplayName("相互抵消的增量不应进入批次")
+    void shouldDropZeroDeltas() {
+        LocalSignalCounterBuffer buffer = new LocalSignalCounterBuffer(2);
+        buffer.add(1L, SignalCounter.LIKES, 1);
+        buffer.add(1L, SignalCounter.LIKES, -1);
+        buffer.add(2L, SignalCounter.VIEWS, 1);
+
+        SignalCounterBuffer.Batch batch = buffer.claim();
+
+        assertEquals(1, batch.deltas().size());
+        assertArrayEquals(new long[] {0, 0, 1}, batch.deltas().get(2L));
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import com.koduck.infrastructure.config.properties.DataServiceProperties;
+import com.koduck.service.RealtimeDataTriggerService;
 
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.extern.slf4j.Slf4j;
@@ -24,7 +25,7 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Component
 @Slf4j
-public class DataServiceClient {
+public class DataServiceClient implements RealtimeDataTriggerService {
 
     /**
      * Request body key for stock symbol collections.
@@ -87,6 +88,7 @@ public class DataServiceClient {
      *
      * @param symbols list of stock symbols to update
      */
+    @Override
     @CircuitBreaker(name = CB_DATA_SERVICE_CLIENT, fallbackMethod = "triggerRealtimeUpdateFallback")
     public void triggerRealtimeUpdate(final List<String> symbols) {
         final boolean shouldTrigger;
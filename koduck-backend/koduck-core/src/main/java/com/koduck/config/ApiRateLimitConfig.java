@@ -0,0 +1,80 @@
+package com.koduck.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.koduck.infrastructure.config.properties.ApiRateLimitProperties;
+import com.koduck.security.ratelimit.ApiRateLimitFilter;
+import com.koduck.security.ratelimit.LocalTokenBucketLimiter;
+import com.koduck.security.ratelimit.RedisTokenBucketLimiter;
+import com.koduck.security.ratelimit.TokenBucketLimiter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * API 请求限流配置。
+ *
+ * <p>Selects the token bucket store from {@code koduck.rate-limit.api.store} and creates
+ * {@link ApiRateLimitFilter}. The filter runs inside the security chain (see {@link SecurityConfig}) so the
+ * authenticated user is known; its servlet container registration is disabled to avoid running it twice.</p>
+ *
+ * @author Koduck Team
+ */
+@Slf4j
+@Configuration
+public class ApiRateLimitConfig {
+
+    /**
+     * 创建令牌桶限流器。
+     *
+     * @param properties    限流配置
+     * @param redisTemplate Redis 模板
+     * @return 令牌桶限流器
+     */
+    @Bean
+    public TokenBucketLimiter apiTokenBucketLimiter(ApiRateLimitProperties properties,
+                                                    ObjectProvider<StringRedisTemplate> redisTemplate) {
+        LocalTokenBucketLimiter local = new LocalTokenBucketLimiter();
+        if (properties.getStore() != ApiRateLimitProperties.Store.REDIS) {
+            return local;
+        }
+        StringRedisTemplate template = redisTemplate.getIfAvailable();
+        if (template == null) {
+            log.warn("API rate limit store is REDIS but no StringRedisTemplate is available, using local buckets");
+            return local;
+        }
+        return new RedisTokenBucketLimiter(template, local);
+    }
+
+    /**
+     * 创建 API 限流过滤器。
+     *
+     * @param properties   限流配置
+     * @param limiter      令牌桶限流器
+     * @param objectMapper JSON 序列化
+     * @return 限流过滤器
+     */
+    @Bean
+    public ApiRateLimitFilter apiRateLimitFilter(ApiRateLimitProperties properties, TokenBucketLimiter limiter,
+                                                 ObjectMapper objectMapper) {
+        return new ApiRateLimitFilter(properties, limiter, objectMapper);
+    }
+
+    /**
+     * 禁用过滤器在 Servlet 容器中的自动注册，只在安全过滤器链中执行。
+     *
+     * @param apiRateLimitFilter 限流过滤器
+     * @return 已禁用的注册
+     */
+    @Bean
+    public FilterRegistrationBean<ApiRateLimitFilter> apiRateLimitFilterRegistration(
+            ApiRateLimitFilter apiRateLimitFilter) {
+        FilterRegistrationBean<ApiRateLimitFilter> registration = new FilterRegistrationBean<>(apiRateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
@@ -1,7 +1,13 @@
 package com.koduck.config;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,20 +16,30 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import com.koduck.infrastructure.cache.codec.CacheCodecRegistry;
+import com.koduck.infrastructure.cache.codec.CacheValueCodec;
+import com.koduck.infrastructure.cache.codec.CacheValueFormat;
+import com.koduck.infrastructure.cache.codec.VersionedCacheSerializer;
 import com.koduck.infrastructure.config.properties.CacheProperties;
 
 /**
  * 基于 Redis 的缓存配置。
  * <p>
- * Defines multiple named caches with tailored time-to-live settings
- * and JSON serialization support.  Null-safety guards are applied to
+ * Defines multiple named caches with tailored time-to-live settings.
+ * Values are written as JSON or, per cache, in the versioned binary format of
+ * {@link VersionedCacheSerializer}; both formats are always readable.  Null-safety guards are applied to
  * serializers and the connection factory to satisfy
  * {@code @NonNull} contracts and suppress static analysis warnings.
+ * <p>
+ * The JSON serializer does not record value types, so values come back as maps and lists.  Modules that
+ * read a cache as a concrete type register a {@link RedisCacheManagerBuilderCustomizer} that gives the
+ * cache a typed serializer; customizers are applied last and override the configuration above.
  *
  * @author Koduck
  */
@@ -70,15 +86,31 @@ public class CacheConfig {
      */
     private final CacheProperties cacheProperties;
 
+    /**
+     * 各模块注册的缓存值二进制编解码器。
+     */
+    private final ObjectProvider<CacheValueCodec<?>> cacheValueCodecs;
+
+    /**
+     * 各模块注册的缓存管理器定制器，用于为单个缓存指定序列化方式。
+     */
+    private final ObjectProvider<RedisCacheManagerBuilderCustomizer> cacheManagerCustomizers;
+
     /**
      * 使用注入的依赖构造 {CacheConfig}。
      *
-     * @param objectMapper    global Jackson object mapper (must not be {@code null})
-     * @param cacheProperties 缓存 TTL 配置属性
+     * @param objectMapper            global Jackson object mapper (must not be {@code null})
+     * @param cacheProperties         缓存 TTL 与值格式配置属性
+     * @param cacheValueCodecs        缓存值二进制编解码器
+     * @param cacheManagerCustomizers 缓存管理器定制器
      */
-    public CacheConfig(ObjectMapper objectMapper, CacheProperties cacheProperties) {
+    public CacheConfig(ObjectMapper objectMapper, CacheProperties cacheProperties,
+                       ObjectProvider<CacheValueCodec<?>> cacheValueCodecs,
+                       ObjectProvider<RedisCacheManagerBuilderCustomizer> cacheManagerCustomizers) {
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.cacheProperties = Objects.requireNonNull(cacheProperties);
+        this.cacheValueCodecs = Objects.requireNonNull(cacheValueCodecs);
+        this.cacheManagerCustomizers = Objects.requireNonNull(cacheManagerCustomizers);
     }
 
     /**
@@ -96,26 +128,51 @@ public class CacheConfig {
         return new GenericJackson2JsonRedisSerializer(copy);
     }
 
+    /**
+     * 为每种写入格式构造一个版本化序列化器，共享同一个 JSON 序列化器与编解码器注册表。
+     *
+     * @return 按写入格式索引的序列化器
+     */
+    private Map<CacheValueFormat, RedisSerializer<Object>> createValueSerializers() {
+        GenericJackson2JsonRedisSerializer jsonSerializer = createJsonSerializer();
+        CacheCodecRegistry registry = new CacheCodecRegistry(cacheValueCodecs.orderedStream().toList());
+        Map<CacheValueFormat, RedisSerializer<Object>> serializers = new EnumMap<>(CacheValueFormat.class);
+        for (CacheValueFormat format : CacheValueFormat.values()) {
+            serializers.put(format, new VersionedCacheSerializer(jsonSerializer, registry, format));
+        }
+        return serializers;
+    }
+
+    /**
+     * 未单独配置格式的缓存使用的写入格式。
+     *
+     * @return 默认写入格式
+     */
+    private CacheValueFormat defaultValueFormat() {
+        CacheValueFormat format = cacheProperties.getValueFormat();
+        return format == null ? CacheValueFormat.JSON : format;
+    }
+
     /**
      * {RedisCacheConfiguration} 的实用工厂。
      *
      * @param ttl                 desired entry time-to-live (must be non-null)
-     * @param jsonSerializer      serializer for cache values (must be non-null)
+     * @param valueSerializer     serializer for cache values (must be non-null)
      * @param disableCachingNullValues when {@code true} calls
      *                                  {@code disableCachingNullValues()} on the
      *                                  configuration
      * @return 配置的缓存配置实例
      */
     private static RedisCacheConfiguration buildCacheConfiguration(
-                    java.time.Duration ttl,
-                    GenericJackson2JsonRedisSerializer jsonSerializer,
+                    Duration ttl,
+                    RedisSerializer<Object> valueSerializer,
                     boolean disableCachingNullValues) {
         RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
                         .entryTtl(Objects.requireNonNull(ttl))
                         .serializeKeysWith(RedisSerializationContext.SerializationPair
                                         .fromSerializer(new StringRedisSerializer()))
                         .serializeValuesWith(RedisSerializationContext.SerializationPair
-                                        .fromSerializer(Objects.requireNonNull(jsonSerializer)));
+                                        .fromSerializer(Objects.requireNonNull(valueSerializer)));
 
         if (disableCachingNullValues) {
             return configuration.disableCachingNullValues();
@@ -125,7 +182,7 @@ public class CacheConfig {
 
     /**
      * 构造应用使用的 {RedisCacheManager} 的 Spring Bean，
-     * 注册了多个具有不同 TTL 的命名缓存配置，
+     * 注册了多个具有不同 TTL 与值格式的命名缓存配置，
      * 由 {CacheProperties} 驱动。
      *
      * @param connectionFactory Redis 连接工厂 (injected by Spring,
@@ -134,34 +191,36 @@ public class CacheConfig {
      */
     @Bean
     public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        GenericJackson2JsonRedisSerializer jsonSerializer = createJsonSerializer();
+        Map<CacheValueFormat, RedisSerializer<Object>> serializers = createValueSerializers();
+
+        RedisCacheConfiguration defaultConfig = buildCacheConfiguration(cacheProperties.getDefaultTtl(),
+                serializers.get(defaultValueFormat()), true);
 
-        RedisCacheConfiguration defaultConfig = buildCacheConfiguration(
-                cacheProperties.getDefaultTtl(), jsonSerializer, true);
-        RedisCacheConfiguration klineConfig = buildCacheConfiguration(
-                cacheProperties.getKlineTtl(), jsonSerializer, false);
-        RedisCacheConfiguration priceConfig = buildCacheConfiguration(
-                cacheProperties.getPriceTtl(), jsonSerializer, false);
-        RedisCacheConfiguration marketSearchConfig = buildCacheConfiguration(
-                cacheProperties.getMarketSearchTtl(), jsonSerializer, false);
-        RedisCacheConfiguration stockDetailConfig = buildCacheConfiguration(
-                cacheProperties.getStockDetailTtl(), jsonSerializer, false);
-        RedisCacheConfiguration marketIndicesConfig = buildCacheConfiguration(
-                cacheProperties.getMarketIndicesTtl(), jsonSerializer, false);
-        RedisCacheConfiguration stockIndustryConfig = buildCacheConfiguration(
-                cacheProperties.getStockIndustryTtl(), jsonSerializer, false);
-        RedisCacheConfiguration hotStocksConfig = buildCacheConfiguration(
-                cacheProperties.getHotStocksTtl(), jsonSerializer, false);
-
-        return RedisCacheManager.builder(Objects.requireNonNull(connectionFactory))
-            .cacheDefaults(Objects.requireNonNull(defaultConfig))
-            .withCacheConfiguration(CACHE_KLINE, Objects.requireNonNull(klineConfig))
-            .withCacheConfiguration(CACHE_PRICE, Objects.requireNonNull(priceConfig))
-            .withCacheConfiguration(CACHE_MARKET_SEARCH, Objects.requireNonNull(marketSearchConfig))
-            .withCacheConfiguration(CACHE_STOCK_DETAIL, Objects.requireNonNull(stockDetailConfig))
-            .withCacheConfiguration(CACHE_MARKET_INDICES, Objects.requireNonNull(marketIndicesConfig))
-            .withCacheConfiguration(CACHE_STOCK_INDUSTRY, Objects.requireNonNull(stockIndustryConfig))
-            .withCacheConfiguration(CACHE_HOT_STOCKS, Objects.requireNonNull(hotStocksConfig))
-                .build();
+        Map<String, Duration> cacheTtls = new LinkedHashMap<>();
+        cacheTtls.put(CACHE_KLINE, cacheProperties.getKlineTtl());
+        cacheTtls.put(CACHE_PRICE, cacheProperties.getPriceTtl());
+        cacheTtls.put(CACHE_MARKET_SEARCH, cacheProperties.getMarketSearchTtl());
+        cacheTtls.put(CACHE_STOCK_DETAIL, cacheProperties.getStockDetailTtl());
+        cacheTtls.put(CACHE_MARKET_INDICES, cacheProperties.getMarketIndicesTtl());
+        cacheTtls.put(CACHE_STOCK_INDUSTRY, cacheProperties.getStockIndustryTtl());
+        cacheTtls.put(CACHE_HOT_STOCKS, cacheProperties.getHotStocksTtl());
+
+        RedisCacheManager.RedisCacheManagerBuilder builder =
+                RedisCacheManager.builder(Objects.requireNonNull(connectionFactory))
+                        .cacheDefaults(Objects.requireNonNull(defaultConfig));
+        cacheTtls.forEach((cacheName, ttl) -> builder.withCacheConfiguration(cacheName, buildCacheConfiguration(
+                ttl, serializers.get(cacheProperties.resolveValueFormat(cacheName)), false)));
+        // 只在值格式中出现的缓存（如组合模块的价格缓存）沿用默认 TTL，按自己的格式写入
+        Map<String, CacheValueFormat> valueFormats = cacheProperties.getValueFormats();
+        if (valueFormats != null) {
+            valueFormats.forEach((cacheName, format) -> {
+                if (format != null && !cacheTtls.containsKey(cacheName)) {
+                    builder.withCacheConfiguration(cacheName, buildCacheConfiguration(
+                            cacheProperties.getDefaultTtl(), serializers.get(format), true));
+                }
+            });
+        }
+        cacheManagerCustomizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        return builder.build();
     }
 }
@@ -15,14 +15,19 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.koduck.infrastructure.config.properties.PasswordHashingProperties;
 import com.koduck.infrastructure.config.properties.SecurityEndpointProperties;
+import com.koduck.security.BoundedPasswordEncoder;
 import com.koduck.security.JwtAuthenticationFilter;
+import com.koduck.security.ratelimit.ApiRateLimitFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Spring Security 安全配置。
@@ -42,7 +47,8 @@ public class SecurityConfig {
      *
      * @param http Spring Security HTTP 配置构建器
      * @param jwtAuthenticationFilter 用于认证传入请求的 JWT 过滤器
-     * @param userDetailsService 认证用的用户详情服务
+     * @param apiRateLimitFilter 认证之后执行的 API 限流过滤器
+     * @param authenticationProvider 用户名密码认证提供者
      * @param securityEndpointProperties 安全端点配置属性
      * @return 配置的安全过滤器链
      * @throws Exception when the security configuration cannot be built
@@ -51,7 +57,8 @@ public class SecurityConfig {
     public SecurityFilterChain securityFilterChain(
             HttpSecurity http,
             JwtAuthenticationFilter jwtAuthenticationFilter,
-            UserDetailsService userDetailsService,
+            ApiRateLimitFilter apiRateLimitFilter,
+            AuthenticationProvider authenticationProvider,
             SecurityEndpointProperties securityEndpointProperties) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)
@@ -78,8 +85,9 @@ public class SecurityConfig {
 
                 auth.anyRequest().authenticated();
             })
-            .authenticationProvider(authenticationProvider(userDetailsService))
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .authenticationProvider(authenticationProvider)
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(apiRateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -87,14 +95,21 @@ public class SecurityConfig {
     /**
      * 创建由 {UserDetailsService} 支持的认证提供者。
      *
+     * <p>登录成功且存储的哈希低于当前 BCrypt 强度时，由 {@code userDetailsPasswordService} 透明重新哈希。</p>
+     *
      * @param userDetailsService user details service used for authentication
+     * @param passwordEncoder 密码编码器
+     * @param userDetailsPasswordService 保存升级后哈希的服务
      * @return 配置的认证提供者
      */
     @Bean
-    public AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService) {
+    public AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService,
+                                                         PasswordEncoder passwordEncoder,
+                                                         UserDetailsPasswordService userDetailsPasswordService) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
         return authProvider;
     }
 
@@ -111,12 +126,15 @@ public class SecurityConfig {
     }
 
     /**
-     * 创建用于凭证哈希的密码编码器。
+     * 创建用于凭证哈希的密码编码器，哈希在独立的有界线程池上执行。
      *
+     * @param passwordHashingProperties 密码哈希配置属性
+     * @param meterRegistry 指标注册表
      * @return BCrypt 密码编码器
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties,
+                                                  MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(passwordHashingProperties, meterRegistry);
     }
 }
@@ -0,0 +1,248 @@
+package com.koduck.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import com.koduck.event.auth.UserTokensRevokedEvent;
+import com.koduck.infrastructure.config.JwtConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded cache of verified JWTs and the principals loaded for them.
+ *
+ * <p>Entries are keyed by the SHA-256 of the token, so raw tokens are never retained, and expire at the
+ * earlier of the token expiry and the configured TTL. When the cache is full, expired entries are purged
+ * and new tokens are not cached until space frees up. {@link UserTokensRevokedEvent} evicts every entry of
+ * the user immediately; loads that started before a revocation are not cached (see {@link #epoch()}).</p>
+ *
+ * @author Koduck Team
+ */
+@Slf4j
+@Component
+public class AuthenticationCache {
+
+    /**
+     * Cache settings.
+     */
+    private final JwtConfig.AuthCache config;
+
+    /**
+     * Clock in epoch milliseconds.
+     */
+    private final LongSupplier clock;
+
+    /**
+     * Cached entries by token hash.
+     */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Token hashes by user, for eviction on revocation.
+     */
+    private final Map<Long, Set<String>> userTokens = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented on every revocation.
+     */
+    private final AtomicLong epoch = new AtomicLong();
+
+    /**
+     * Creates the cache.
+     *
+     * @param jwtConfig JWT configuration
+     */
+    @Autowired
+    public AuthenticationCache(JwtConfig jwtConfig) {
+        this(jwtConfig, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates the cache with an explicit clock.
+     *
+     * @param jwtConfig JWT configuration
+     * @param clock     clock in epoch milliseconds
+     */
+    AuthenticationCache(JwtConfig jwtConfig, LongSupplier clock) {
+        this.config = Objects.requireNonNull(jwtConfig, "jwtConfig must not be null").getAuthCache();
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached principal of a token.
+     *
+     * @param token raw JWT
+     * @return principal, or null when not cached or expired
+     */
+    public UserDetails get(String token) {
+        if (!config.isEnabled()) {
+            return null;
+        }
+        String key = hash(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis() <= clock.getAsLong()) {
+            remove(key, entry);
+            return null;
+        }
+        return entry.principal();
+    }
+
+    /**
+     * Returns the current revocation epoch. Read it before loading a principal and pass it to
+     * {@link #put}, so a principal loaded across a revocation is not cached.
+     *
+     * @return revocation epoch
+     */
+    public long epoch() {
+        return epoch.get();
+    }
+
+    /**
+     * Caches a verified token and its principal.
+     *
+     * @param token       raw JWT
+     * @param userId      user id from the token subject
+     * @param principal   loaded principal
+     * @param tokenExpiry token expiry
+     * @param loadEpoch   {@link #epoch()} read before the principal was loaded
+     * @return true when cached
+     */
+    public boolean put(String token, Long userId, UserDetails principal, Instant tokenExpiry, long loadEpoch) {
+        if (!config.isEnabled() || tokenExpiry == null) {
+            return false;
+        }
+        long now = clock.getAsLong();
+        long expiresAt = Math.min(tokenExpiry.toEpochMilli(), now + config.getTtlMs());
+        if (expiresAt <= now) {
+            return false;
+        }
+        if (entries.size() >= config.getMaxEntries()) {
+            purgeExpired(now);
+            if (entries.size() >= config.getMaxEntries()) {
+                log.debug("Authentication cache is full ({} entries), not caching token", entries.size());
+                return false;
+            }
+        }
+        String key = hash(token);
+        userTokens.compute(userId, (id, keys) -> {
+            Set<String> indexed = keys != null ? keys : ConcurrentHashMap.newKeySet();
+            indexed.add(key);
+            return indexed;
+        });
+        entries.put(key, new Entry(userId, principal, expiresAt));
+        if (epoch.get() != loadEpoch) {
+            // A revocation ran while the principal was loading and may have missed this entry.
+            evictToken(token);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Evicts a single token.
+     *
+     * @param token raw JWT
+     */
+    public void evictToken(String token) {
+        String key = hash(token);
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            remove(key, entry);
+        }
+    }
+
+    /**
+     * Evicts every cached token of a user.
+     *
+     * @param userId user id
+     * @return number of evicted tokens
+     */
+    public int evictUser(Long userId) {
+        epoch.incrementAndGet();
+        Set<String> keys = userTokens.remove(userId);
+        if (keys == null) {
+            return 0;
+        }
+        int evicted = 0;
+        for (String key : keys) {
+            if (entries.remove(key) != null) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Evicts the tokens of a user whose tokens were revoked.
+     *
+     * @param event revocation event
+     */
+    @EventListener
+    public void onUserTokensRevoked(UserTokensRevokedEvent event) {
+        int evicted = evictUser(event.getUserId());
+        log.debug("Evicted {} cached tokens of user {} ({})", evicted, event.getUserId(), event.getReason());
+    }
+
+    /**
+     * Returns the number of cached tokens.
+     *
+     * @return cached tokens
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void purgeExpired(long now) {
+        for (Map.Entry<String, Entry> cached : entries.entrySet()) {
+            if (cached.getValue().expiresAtMillis() <= now) {
+                remove(cached.getKey(), cached.getValue());
+            }
+        }
+    }
+
+    private void remove(String key, Entry entry) {
+        if (entries.remove(key, entry)) {
+            userTokens.computeIfPresent(entry.userId(), (id, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Cached principal.
+     *
+     * @param userId          user id
+     * @param principal       principal
+     * @param expiresAtMillis expiry in epoch milliseconds
+     */
+    private record Entry(Long userId, UserDetails principal, long expiresAtMillis) {
+    }
+}
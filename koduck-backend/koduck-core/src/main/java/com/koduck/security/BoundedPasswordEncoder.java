@@ -0,0 +1,199 @@
+package com.koduck.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.koduck.exception.PasswordHashingRejectedException;
+import com.koduck.infrastructure.config.properties.PasswordHashingProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * BCrypt password encoder that runs every hash on a dedicated, bounded thread pool.
+ *
+ * <p>A BCrypt verification costs tens of milliseconds of CPU, so a login burst on request threads starves
+ * every other endpoint. Here the work runs on {@code threads} hashing threads with at most
+ * {@code queueCapacity} waiting requests; anything beyond that, or a caller that waits longer than
+ * {@code timeout}, fails fast with {@link PasswordHashingRejectedException} (HTTP 429).</p>
+ *
+ * <p>{@link #upgradeEncoding} reports hashes whose cost is below the configured strength, so a
+ * {@code DaoAuthenticationProvider} with a {@code UserDetailsPasswordService} rehashes them at the next
+ * successful login. Hashes with a higher cost are left alone, which keeps instances that briefly run
+ * different strengths during a rollout from rewriting each other's hashes.</p>
+ *
+ * @author Koduck Team
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    /**
+     * Prefix of hashing thread names.
+     */
+    private static final String THREAD_PREFIX = "password-hash-";
+
+    /**
+     * Underlying BCrypt encoder.
+     */
+    private final BCryptPasswordEncoder delegate;
+
+    /**
+     * Hashing executor.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Longest wait for a hash, in nanoseconds.
+     */
+    private final long timeoutNanos;
+
+    /**
+     * Time spent encoding.
+     */
+    private final Timer encodeTimer;
+
+    /**
+     * Time spent verifying.
+     */
+    private final Timer matchesTimer;
+
+    /**
+     * Requests rejected because the queue was full.
+     */
+    private final Counter queueFullRejections;
+
+    /**
+     * Requests abandoned after the timeout.
+     */
+    private final Counter timeoutRejections;
+
+    /**
+     * Creates the encoder.
+     *
+     * @param properties    hashing settings
+     * @param meterRegistry meter registry
+     */
+    public BoundedPasswordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this(new BCryptPasswordEncoder(properties.getStrength()), properties, meterRegistry);
+    }
+
+    /**
+     * Creates the encoder around an explicit BCrypt encoder.
+     *
+     * @param delegate      BCrypt encoder run on the hashing threads
+     * @param properties    hashing settings
+     * @param meterRegistry meter registry
+     */
+    BoundedPasswordEncoder(BCryptPasswordEncoder delegate, PasswordHashingProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeoutNanos = properties.getTimeout().toNanos();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, THREAD_PREFIX + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer = Timer.builder("koduck.password.hash.duration")
+            .description("Time spent computing a password hash")
+            .tag("operation", "encode")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.matchesTimer = Timer.builder("koduck.password.hash.duration")
+            .description("Time spent computing a password hash")
+            .tag("operation", "matches")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.queueFullRejections = Counter.builder("koduck.password.hash.rejected")
+            .description("Password hashing requests shed before completing")
+            .tag("reason", "queue_full")
+            .register(meterRegistry);
+        this.timeoutRejections = Counter.builder("koduck.password.hash.rejected")
+            .description("Password hashing requests shed before completing")
+            .tag("reason", "timeout")
+            .register(meterRegistry);
+        Gauge.builder("koduck.password.hash.queue.depth", executor, pool -> pool.getQueue().size())
+            .description("Password hashing requests waiting for a hashing thread")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Returns the number of requests waiting for a hashing thread.
+     *
+     * @return queue depth
+     */
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Stops the hashing threads; queued requests are abandoned.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T submit(Timer timer, Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        }
+        catch (RejectedExecutionException e) {
+            queueFullRejections.increment();
+            throw new PasswordHashingRejectedException("Password hashing is saturated, try again later");
+        }
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        }
+        catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutRejections.increment();
+            throw new PasswordHashingRejectedException("Password hashing timed out, try again later");
+        }
+        catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.koduck.security;
 
 import java.io.IOException;
+import java.util.Date;
 import java.util.Objects;
 
 import jakarta.servlet.FilterChain;
@@ -21,11 +22,15 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import com.koduck.infrastructure.config.JwtConfig;
 import com.koduck.util.JwtUtil;
 
+import io.jsonwebtoken.Claims;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * JWT authentication filter for validating tokens in incoming requests.
  *
+ * <p>Verified tokens and their principals are served from {@link AuthenticationCache}; on a miss the
+ * token is verified and parsed once and the principal is loaded and cached.</p>
+ *
  * @author GitHub Copilot
  */
 @Slf4j
@@ -47,13 +52,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      */
     private final UserDetailsService userDetailsService;
 
+    /**
+     * Cache of verified tokens and principals.
+     */
+    private final AuthenticationCache authenticationCache;
+
     public JwtAuthenticationFilter(JwtUtil jwtUtil,
                                    JwtConfig jwtConfig,
-                                   UserDetailsService userDetailsService) {
+                                   UserDetailsService userDetailsService,
+                                   AuthenticationCache authenticationCache) {
         this.jwtUtil = Objects.requireNonNull(jwtUtil, "jwtUtil must not be null");
         this.jwtConfig = Objects.requireNonNull(jwtConfig, "jwtConfig must not be null");
         this.userDetailsService = Objects.requireNonNull(userDetailsService,
             "userDetailsService must not be null");
+        this.authenticationCache = Objects.requireNonNull(authenticationCache,
+            "authenticationCache must not be null");
     }
 
     @Override
@@ -62,9 +75,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
         try {
             String jwt = getJwtFromRequest(request);
-            if (StringUtils.hasText(jwt) && jwtUtil.validateToken(jwt)) {
-                Long userId = jwtUtil.getUserIdFromToken(jwt);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(String.valueOf(userId));
+            UserDetails userDetails = StringUtils.hasText(jwt) ? resolvePrincipal(jwt) : null;
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
                         userDetails,
@@ -81,6 +93,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails resolvePrincipal(String jwt) {
+        UserDetails cached = authenticationCache.get(jwt);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = jwtUtil.parseValidToken(jwt).orElse(null);
+        if (claims == null) {
+            return null;
+        }
+        Long userId = Long.valueOf(claims.getSubject());
+        long epoch = authenticationCache.epoch();
+        UserDetails userDetails = userDetailsService.loadUserByUsername(String.valueOf(userId));
+        Date expiration = claims.getExpiration();
+        authenticationCache.put(jwt, userId, userDetails, expiration != null ? expiration.toInstant() : null, epoch);
+        return userDetails;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader(jwtConfig.getHeaderName());
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(jwtConfig.getTokenPrefix())) {
@@ -0,0 +1,61 @@
+package com.koduck.security;
+
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.koduck.entity.auth.User;
+import com.koduck.repository.auth.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stores passwords rehashed at login by {@code DaoAuthenticationProvider}.
+ *
+ * <p>The provider calls {@link #updatePassword} after a successful login whose stored hash
+ * {@link BoundedPasswordEncoder#upgradeEncoding needs upgrading}, so raising the BCrypt strength migrates
+ * active users without a reset. The principal is returned unchanged because it never carries the hash.</p>
+ *
+ * @author Koduck Team
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordUpgradeService implements UserDetailsPasswordService {
+
+    /**
+     * User repository.
+     */
+    private final UserRepository userRepository;
+
+    /**
+     * Replaces the stored hash of a user.
+     *
+     * @param user        authenticated user
+     * @param newPassword new password hash
+     * @return the same user
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Long userId = resolveUserId(user);
+        if (userId == null) {
+            log.warn("Cannot upgrade password hash, user {} not found", user.getUsername());
+            return user;
+        }
+        userRepository.updatePassword(userId, newPassword);
+        log.info("Upgraded password hash of user {}", userId);
+        return user;
+    }
+
+    private Long resolveUserId(UserDetails user) {
+        if (user instanceof UserPrincipal<?> principal && principal.getId() != null) {
+            return principal.getId();
+        }
+        return userRepository.findByUsername(user.getUsername())
+            .map(User::getId)
+            .orElse(null);
+    }
+}
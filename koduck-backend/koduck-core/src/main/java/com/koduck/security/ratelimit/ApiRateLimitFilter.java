@@ -0,0 +1,175 @@
+package com.koduck.security.ratelimit;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.koduck.dto.ApiResponse;
+import com.koduck.exception.ErrorCode;
+import com.koduck.infrastructure.config.properties.ApiRateLimitProperties;
+import com.koduck.security.UserPrincipal;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Request-level rate limiting filter for expensive endpoints.
+ *
+ * <p>Runs after {@code JwtAuthenticationFilter} in the security chain. The first rule of
+ * {@link ApiRateLimitProperties} matching the request path and method selects a token bucket, keyed by the
+ * rule and the authenticated user id, or the client IP for anonymous requests. Rejected requests get
+ * 429 with a {@code Retry-After} header in whole seconds. Requests matching no rule only pay the path match.</p>
+ *
+ * <p>The client IP is {@link HttpServletRequest#getRemoteAddr()}; behind a proxy, configure
+ * {@code server.forward-headers-strategy} so it reflects the real client rather than trusting raw headers.</p>
+ *
+ * @author Koduck Team
+ */
+@Slf4j
+public class ApiRateLimitFilter extends OncePerRequestFilter {
+
+    /**
+     * Bucket limiter.
+     */
+    private final TokenBucketLimiter limiter;
+
+    /**
+     * JSON mapper for the 429 body.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Whether limiting is enabled.
+     */
+    private final boolean enabled;
+
+    /**
+     * Rules in match order.
+     */
+    private final List<CompiledRule> rules;
+
+    /**
+     * Creates the filter.
+     *
+     * @param properties   rate limit properties
+     * @param limiter      bucket limiter
+     * @param objectMapper JSON mapper
+     */
+    public ApiRateLimitFilter(ApiRateLimitProperties properties, TokenBucketLimiter limiter,
+                              ObjectMapper objectMapper) {
+        Objects.requireNonNull(properties, "properties must not be null");
+        this.limiter = Objects.requireNonNull(limiter, "limiter must not be null");
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper must not be null");
+        this.rules = compile(properties.getRules());
+        this.enabled = properties.isEnabled() && !rules.isEmpty();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        CompiledRule rule = match(request);
+        if (rule != null) {
+            String key = rule.name() + ':' + clientKey(request);
+            long waitNanos = limiter.tryAcquire(key, rule.spec());
+            if (waitNanos > 0) {
+                reject(response, waitNanos);
+                log.debug("Rate limited {} {} ({})", request.getMethod(), request.getRequestURI(), key);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private CompiledRule match(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        if (!contextPath.isEmpty() && uri.startsWith(contextPath)) {
+            uri = uri.substring(contextPath.length());
+        }
+        PathContainer path = PathContainer.parsePath(uri);
+        String method = request.getMethod();
+        for (CompiledRule rule : rules) {
+            if ((rule.methods().isEmpty() || rule.methods().contains(method)) && rule.pattern().matches(path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            if (authentication.getPrincipal() instanceof UserPrincipal<?> principal && principal.getId() != null) {
+                return "u:" + principal.getId();
+            }
+            return "u:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long second = TimeUnit.SECONDS.toNanos(1);
+        long retryAfterSeconds = Math.max(1L, (waitNanos + second - 1) / second);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(ErrorCode.TOO_MANY_REQUESTS));
+    }
+
+    private static List<CompiledRule> compile(List<ApiRateLimitProperties.Rule> configured) {
+        List<CompiledRule> compiled = new ArrayList<>();
+        if (configured == null) {
+            return compiled;
+        }
+        for (ApiRateLimitProperties.Rule rule : configured) {
+            Set<String> methods = rule.getMethods().stream()
+                    .map(method -> method.toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toUnmodifiableSet());
+            compiled.add(new CompiledRule(rule.getName(), PathPatternParser.defaultInstance.parse(rule.getPattern()),
+                    methods, new BucketSpec(rule.getCapacity(), rule.getRefillTokens(), rule.getRefillPeriod())));
+        }
+        return List.copyOf(compiled);
+    }
+
+    /**
+     * Rule with a parsed pattern.
+     *
+     * @param name    rule name
+     * @param pattern path pattern
+     * @param methods HTTP methods, empty for all
+     * @param spec    bucket parameters
+     */
+    private record CompiledRule(String name, PathPattern pattern, Set<String> methods, BucketSpec spec) {
+    }
+}
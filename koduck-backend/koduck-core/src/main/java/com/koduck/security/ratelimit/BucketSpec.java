@@ -0,0 +1,48 @@
+package com.koduck.security.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Token bucket parameters.
+ *
+ * @param capacity     largest burst allowed
+ * @param refillTokens tokens added every refill period
+ * @param refillPeriod refill period
+ * @author Koduck Team
+ */
+public record BucketSpec(long capacity, long refillTokens, Duration refillPeriod) {
+
+    /**
+     * Creates bucket parameters with validation.
+     *
+     * @param capacity     largest burst allowed
+     * @param refillTokens tokens added every refill period
+     * @param refillPeriod refill period
+     */
+    public BucketSpec {
+        if (capacity < 1 || refillTokens < 1) {
+            throw new IllegalArgumentException("capacity and refillTokens must be positive");
+        }
+        if (refillPeriod == null || refillPeriod.isNegative() || refillPeriod.isZero()) {
+            throw new IllegalArgumentException("refillPeriod must be positive");
+        }
+    }
+
+    /**
+     * Returns the time in which one token is added.
+     *
+     * @return emission interval in nanoseconds
+     */
+    public long emissionIntervalNanos() {
+        return Math.max(1L, refillPeriod.toNanos() / refillTokens);
+    }
+
+    /**
+     * Returns the time in which an empty bucket fills up.
+     *
+     * @return burst tolerance in nanoseconds
+     */
+    public long burstNanos() {
+        return Math.multiplyExact(emissionIntervalNanos(), capacity);
+    }
+}
@@ -0,0 +1,90 @@
+package com.koduck.security.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * In-memory {@link TokenBucketLimiter}; limits apply per instance.
+ *
+ * <p>Each bucket is one {@link AtomicLong} updated with compare-and-set, so concurrent requests on the same
+ * key never block. Full buckets are dropped by {@link #purgeIdle()}; a request racing the purge may take
+ * its token from the dropped bucket, which at most grants one extra request.</p>
+ *
+ * @author Koduck Team
+ */
+public class LocalTokenBucketLimiter implements TokenBucketLimiter {
+
+    /**
+     * Clock in nanoseconds.
+     */
+    private final LongSupplier clock;
+
+    /**
+     * Theoretical arrival time by bucket key.
+     */
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the limiter with the monotonic system clock.
+     */
+    public LocalTokenBucketLimiter() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Creates the limiter with an explicit clock.
+     *
+     * @param clock clock in nanoseconds
+     */
+    public LocalTokenBucketLimiter(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public long tryAcquire(String key, BucketSpec spec) {
+        AtomicLong tat = buckets.get(key);
+        if (tat == null) {
+            tat = buckets.computeIfAbsent(key, k -> new AtomicLong(clock.getAsLong()));
+        }
+        long interval = spec.emissionIntervalNanos();
+        long burst = spec.burstNanos();
+        while (true) {
+            long now = clock.getAsLong();
+            long current = tat.get();
+            long next = Math.max(current, now) + interval;
+            long excess = next - now - burst;
+            if (excess > 0) {
+                return excess;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${koduck.rate-limit.api.purge-interval-ms:60000}")
+    public int purgeIdle() {
+        long now = clock.getAsLong();
+        int purged = 0;
+        for (Map.Entry<String, AtomicLong> bucket : buckets.entrySet()) {
+            if (bucket.getValue().get() - now <= 0 && buckets.remove(bucket.getKey(), bucket.getValue())) {
+                purged++;
+            }
+        }
+        return purged;
+    }
+
+    /**
+     * Returns the number of tracked buckets.
+     *
+     * @return tracked buckets
+     */
+    public int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,116 @@
+package com.koduck.security.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.koduck.util.ThrottledLogger;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis-backed {@link TokenBucketLimiter}; limits are shared across instances.
+ *
+ * <p>Each bucket is one key holding its theoretical arrival time in epoch microseconds. Reading, checking and
+ * advancing it runs in one Lua script, one round trip per request; keys expire once the bucket is full again.
+ * Time comes from the caller, so clock skew between instances shifts refill by the skew. When Redis is
+ * unavailable the local limiter is used and a warning is logged at most every 10 seconds.</p>
+ *
+ * @author Koduck Team
+ */
+@Slf4j
+public class RedisTokenBucketLimiter implements TokenBucketLimiter {
+
+    /**
+     * Key prefix.
+     */
+    static final String KEY_PREFIX = "rate_limit:api:";
+
+    /**
+     * Acquire script: KEYS[1] is the bucket, ARGV[1] now, ARGV[2] emission interval and ARGV[3] burst
+     * tolerance, all in microseconds. Returns 0 when a token was taken, otherwise the wait in microseconds.
+     */
+    static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]) "
+                    + "local tat = tonumber(redis.call('GET', KEYS[1]) or ARGV[1]) "
+                    + "if tat < now then tat = now end "
+                    + "local nxt = tat + tonumber(ARGV[2]) "
+                    + "local excess = nxt - now - tonumber(ARGV[3]) "
+                    + "if excess > 0 then return excess end "
+                    + "redis.call('SET', KEYS[1], string.format('%.0f', nxt), 'PX', "
+                    + "math.max(1, math.ceil((nxt - now) / 1000))) "
+                    + "return 0",
+            Long.class);
+
+    /**
+     * Redis template.
+     */
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * Limiter used when Redis is unavailable.
+     */
+    private final TokenBucketLimiter fallback;
+
+    /**
+     * Clock in epoch microseconds.
+     */
+    private final LongSupplier clock;
+
+    /**
+     * Redis failure warnings, at most one every 10 seconds.
+     */
+    private final ThrottledLogger redisWarnings = new ThrottledLogger(log, Duration.ofSeconds(10));
+
+    /**
+     * Creates the limiter.
+     *
+     * @param redisTemplate Redis template
+     * @param fallback      limiter used when Redis is unavailable
+     */
+    public RedisTokenBucketLimiter(StringRedisTemplate redisTemplate, TokenBucketLimiter fallback) {
+        this(redisTemplate, fallback, () -> TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis()));
+    }
+
+    /**
+     * Creates the limiter with an explicit clock.
+     *
+     * @param redisTemplate Redis template
+     * @param fallback      limiter used when Redis is unavailable
+     * @param clock         clock in epoch microseconds
+     */
+    public RedisTokenBucketLimiter(StringRedisTemplate redisTemplate, TokenBucketLimiter fallback,
+                                   LongSupplier clock) {
+        this.redisTemplate = Objects.requireNonNull(redisTemplate, "redisTemplate must not be null");
+        this.fallback = Objects.requireNonNull(fallback, "fallback must not be null");
+        this.clock = clock;
+    }
+
+    @Override
+    public long tryAcquire(String key, BucketSpec spec) {
+        long interval = Math.max(1L, TimeUnit.NANOSECONDS.toMicros(spec.emissionIntervalNanos()));
+        try {
+            Long wait = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(KEY_PREFIX + key),
+                    Long.toString(clock.getAsLong()), Long.toString(interval),
+                    Long.toString(Math.multiplyExact(interval, spec.capacity())));
+            return wait == null || wait <= 0 ? 0 : TimeUnit.MICROSECONDS.toNanos(wait);
+        }
+        catch (RuntimeException e) {
+            redisWarnings.warn("Redis rate limiting failed, using local buckets: {}", e.getMessage());
+            return fallback.tryAcquire(key, spec);
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${koduck.rate-limit.api.purge-interval-ms:60000}")
+    public int purgeIdle() {
+        return fallback.purgeIdle();
+    }
+}
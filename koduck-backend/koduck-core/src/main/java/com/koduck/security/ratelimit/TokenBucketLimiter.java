@@ -0,0 +1,32 @@
+package com.koduck.security.ratelimit;
+
+/**
+ * Token bucket rate limiter.
+ *
+ * <p>Implementations track each bucket as its theoretical arrival time (the generic cell rate algorithm):
+ * taking a token moves it forward by one emission interval, and a request is rejected when that would put
+ * it more than one full bucket ahead of now. This is equivalent to a token bucket with continuous refill
+ * and needs a single number of state per key.</p>
+ *
+ * @author Koduck Team
+ */
+public interface TokenBucketLimiter {
+
+    /**
+     * Takes one token from a bucket.
+     *
+     * @param key  bucket key
+     * @param spec bucket parameters
+     * @return 0 when a token was taken, otherwise nanoseconds until one is available
+     */
+    long tryAcquire(String key, BucketSpec spec);
+
+    /**
+     * Drops buckets that have refilled completely and are indistinguishable from new ones.
+     *
+     * @return number of dropped buckets
+     */
+    default int purgeIdle() {
+        return 0;
+    }
+}
@@ -24,6 +24,7 @@ import com.koduck.common.constants.HttpHeaderConstants;
 import com.koduck.infrastructure.config.JwtConfig;
 import com.koduck.util.JwtUtil;
 
+import io.jsonwebtoken.Claims;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -125,12 +126,13 @@ public class WebSocketChannelInterceptor implements ChannelInterceptor {
         }
 
         try {
-            if (!jwtUtil.validateToken(token)) {
+            Claims claims = jwtUtil.parseValidToken(token).orElse(null);
+            if (claims == null) {
                 log.warn("WebSocket CONNECT rejected: invalid JWT token");
                 return;
             }
 
-            Long userId = jwtUtil.getUserIdFromToken(token);
+            Long userId = claims.getSubject() != null ? Long.valueOf(claims.getSubject()) : null;
             if (userId == null) {
                 log.warn("WebSocket CONNECT rejected: token does not contain userId");
                 return;
@@ -0,0 +1,144 @@
+package com.koduck.service.support;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.koduck.entity.auth.UserCredential;
+import com.koduck.exception.CredentialEncryptionException;
+import com.koduck.repository.auth.CredentialRepository;
+import com.koduck.util.CredentialEncryptionUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rewrites stored credentials encrypted with a previous key under the current key.
+ *
+ * <p>Runs only while {@code credential.encryption.previous-keys} is configured. Each pass walks
+ * {@code user_credentials} in id order, one batch at a time, and replaces a ciphertext only if it still
+ * holds the value that was read, so a concurrent edit is never overwritten. Once a pass finds nothing
+ * left to rewrite, the job stays idle until restart; the previous keys can then be removed.</p>
+ *
+ * @author Koduck Team
+ */
+@Slf4j
+@Component
+public class CredentialReEncryptionJob {
+
+    /**
+     * Default number of credentials read per batch.
+     */
+    private static final int DEFAULT_BATCH_SIZE = 200;
+
+    /**
+     * Credential repository.
+     */
+    private final CredentialRepository credentialRepository;
+
+    /**
+     * Encryption utility.
+     */
+    private final CredentialEncryptionUtil credentialEncryptionUtil;
+
+    /**
+     * Credentials read per batch.
+     */
+    @Value("${credential.encryption.rotation.batch-size:200}")
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /**
+     * Set once a pass completes without rewriting or failing anything.
+     */
+    private volatile boolean completed;
+
+    /**
+     * Creates the job.
+     *
+     * @param credentialRepository     credential repository
+     * @param credentialEncryptionUtil encryption utility
+     */
+    public CredentialReEncryptionJob(CredentialRepository credentialRepository,
+                                     CredentialEncryptionUtil credentialEncryptionUtil) {
+        this.credentialRepository = credentialRepository;
+        this.credentialEncryptionUtil = credentialEncryptionUtil;
+    }
+
+    /**
+     * Runs a pass while previous keys are configured and credentials may still use them.
+     */
+    @Scheduled(initialDelayString = "${credential.encryption.rotation.initial-delay-ms:60000}",
+            fixedDelayString = "${credential.encryption.rotation.interval-ms:600000}")
+    public void run() {
+        if (completed || !credentialEncryptionUtil.hasPreviousKeys()) {
+            return;
+        }
+        Result result = reEncryptAll();
+        log.info("Credential re-encryption pass: scanned={}, rewritten={}, failed={}",
+                result.scanned(), result.rewritten(), result.failed());
+        if (result.rewritten() == 0 && result.failed() == 0) {
+            completed = true;
+            log.info("All credentials use the current encryption key; previous keys can be removed");
+        }
+    }
+
+    /**
+     * Rewrites every credential encrypted with a previous key.
+     *
+     * @return pass statistics
+     */
+    public synchronized Result reEncryptAll() {
+        long lastId = 0L;
+        int scanned = 0;
+        int rewritten = 0;
+        int failed = 0;
+        List<UserCredential> batch;
+        do {
+            batch = credentialRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.ofSize(batchSize));
+            for (UserCredential credential : batch) {
+                lastId = credential.getId();
+                scanned++;
+                try {
+                    rewritten += reEncrypt(credential);
+                }
+                catch (CredentialEncryptionException e) {
+                    failed++;
+                    log.warn("Failed to re-encrypt credential {}: {}", credential.getId(), e.getMessage());
+                }
+            }
+        }
+        while (batch.size() == batchSize);
+        return new Result(scanned, rewritten, failed);
+    }
+
+    private int reEncrypt(UserCredential credential) {
+        int rewritten = 0;
+        String apiKey = credential.getApiKeyEncrypted();
+        if (credentialEncryptionUtil.needsReEncryption(apiKey)
+                && credentialRepository.replaceApiKeyEncrypted(credential.getId(), apiKey,
+                        credentialEncryptionUtil.reEncrypt(apiKey)) == 1) {
+            credentialEncryptionUtil.invalidate(apiKey);
+            rewritten++;
+        }
+        String apiSecret = credential.getApiSecretEncrypted();
+        if (credentialEncryptionUtil.needsReEncryption(apiSecret)
+                && credentialRepository.replaceApiSecretEncrypted(credential.getId(), apiSecret,
+                        credentialEncryptionUtil.reEncrypt(apiSecret)) == 1) {
+            credentialEncryptionUtil.invalidate(apiSecret);
+            rewritten++;
+        }
+        return rewritten;
+    }
+
+    /**
+     * Statistics of one pass.
+     *
+     * @param scanned   credentials read
+     * @param rewritten ciphertexts rewritten
+     * @param failed    credentials that could not be decrypted
+     */
+    public record Result(int scanned, int rewritten, int failed) {
+    }
+}
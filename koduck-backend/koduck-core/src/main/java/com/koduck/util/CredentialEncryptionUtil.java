@@ -1,13 +1,22 @@
 package com.koduck.util;
 
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.Arrays;
 import java.util.Base64;
-
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import javax.crypto.AEADBadTagException;
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
@@ -26,6 +35,18 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Encrypts and decrypts credential secrets with AES-256-GCM.
  *
+ * <p>Ciphertexts are {@code <keyId>:<Base64(IV || ciphertext || tag)>}, where the key id is a fingerprint
+ * of the key that encrypted them. Payloads without the prefix are decrypted by trying the current key, then
+ * each previous key. Both formats are always readable, but the prefix is only written once
+ * {@code credential.encryption.write-key-id} is enabled, so instances that predate key ids can still read
+ * everything written during a rolling deploy or after a rollback. Configuring
+ * {@code credential.encryption.previous-keys} keeps old ciphertexts readable after a key change while
+ * {@code CredentialReEncryptionJob} rewrites them under the current key.</p>
+ *
+ * <p>Cipher instances are recycled through a bounded pool rather than thread locals, so virtual threads do
+ * not each build their own. Decrypted values are cached for a short time, keyed by ciphertext; callers that
+ * replace or delete a credential should {@link #invalidate} its old ciphertext.</p>
+ *
  * @author GitHub Copilot
  */
 @Component
@@ -77,17 +98,102 @@ public class CredentialEncryptionUtil {
      */
     private static final int KEY_LENGTH = 32;
 
+    /**
+     * Bytes of the key digest used as the key id.
+     */
+    private static final int KEY_ID_LENGTH = 4;
+
+    /**
+     * Separator between the key id and the payload; never part of Base64.
+     */
+    private static final char KEY_ID_SEPARATOR = ':';
+
+    /**
+     * Default lifetime of a cached decrypted value in milliseconds.
+     */
+    private static final long DEFAULT_DECRYPT_CACHE_TTL_MS = 60_000L;
+
+    /**
+     * Default maximum number of cached decrypted values.
+     */
+    private static final int DEFAULT_DECRYPT_CACHE_MAX_ENTRIES = 1_000;
+
+    /**
+     * Default number of idle ciphers kept for reuse.
+     */
+    private static final int DEFAULT_CIPHER_POOL_SIZE = 32;
+
     /**
      * Encryption key configured via Spring properties.
      */
     @Value("${credential.encryption.key:}")
     private String encryptionKeyFromConfig;
 
+    /**
+     * Retired keys that may still have encrypted stored values.
+     */
+    @Value("${credential.encryption.previous-keys:}")
+    private String[] previousKeysFromConfig = new String[0];
+
+    /**
+     * Whether new payloads carry the key id prefix; enable only once every instance reads prefixed payloads.
+     */
+    @Value("${credential.encryption.write-key-id:false}")
+    private boolean writeKeyId;
+
+    /**
+     * Lifetime of a cached decrypted value in milliseconds; 0 disables the cache.
+     */
+    @Value("${credential.encryption.decrypt-cache-ttl-ms:60000}")
+    private long decryptCacheTtlMs = DEFAULT_DECRYPT_CACHE_TTL_MS;
+
+    /**
+     * Maximum number of cached decrypted values.
+     */
+    @Value("${credential.encryption.decrypt-cache-max-entries:1000}")
+    private int decryptCacheMaxEntries = DEFAULT_DECRYPT_CACHE_MAX_ENTRIES;
+
+    /**
+     * Number of idle ciphers kept for reuse.
+     */
+    @Value("${credential.encryption.cipher-pool-size:32}")
+    private int cipherPoolSize = DEFAULT_CIPHER_POOL_SIZE;
+
     /**
      * Runtime AES key derived from configuration.
      */
     private SecretKey secretKey;
 
+    /**
+     * Key id and separator of the current key.
+     */
+    private String currentKeyPrefix;
+
+    /**
+     * Current and previous keys by key id.
+     */
+    private Map<String, SecretKey> keysById = Map.of();
+
+    /**
+     * Current and previous keys in the order tried for payloads without a key id.
+     */
+    private List<SecretKey> legacyKeys = List.of();
+
+    /**
+     * Idle ciphers.
+     */
+    private BlockingQueue<Cipher> cipherPool;
+
+    /**
+     * Decrypted values by ciphertext.
+     */
+    private final Map<String, CachedPlainText> decryptCache = new ConcurrentHashMap<>();
+
+    /**
+     * Clock in epoch milliseconds.
+     */
+    private final LongSupplier clock;
+
     /**
      * Secure random source used for GCM initialization vectors.
      */
@@ -97,7 +203,16 @@ public class CredentialEncryptionUtil {
      * Creates the credential encryption utility.
      */
     public CredentialEncryptionUtil() {
-        // Default constructor for Spring-managed component initialization.
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * Creates the utility with an explicit clock.
+     *
+     * @param clock clock in epoch milliseconds
+     */
+    CredentialEncryptionUtil(final LongSupplier clock) {
+        this.clock = clock;
     }
 
     /**
@@ -108,9 +223,22 @@ public class CredentialEncryptionUtil {
         final String keyToUse = resolveEncryptionKey();
 
         try {
-            final byte[] keyBytes = deriveKey(keyToUse);
-            secretKey = new SecretKeySpec(keyBytes, ALGORITHM);
-            log.info("Credential encryption key initialized successfully.");
+            secretKey = new SecretKeySpec(deriveKey(keyToUse), ALGORITHM);
+            final String currentKeyId = keyId(secretKey);
+            currentKeyPrefix = currentKeyId + KEY_ID_SEPARATOR;
+            final Map<String, SecretKey> keys = new LinkedHashMap<>();
+            keys.put(currentKeyId, secretKey);
+            for (final String previousKey : previousKeysFromConfig) {
+                if (StringUtils.hasText(previousKey)) {
+                    final SecretKey key = new SecretKeySpec(deriveKey(previousKey.trim()), ALGORITHM);
+                    keys.putIfAbsent(keyId(key), key);
+                }
+            }
+            keysById = Map.copyOf(keys);
+            legacyKeys = List.copyOf(keys.values());
+            cipherPool = new ArrayBlockingQueue<>(Math.max(1, cipherPoolSize));
+            decryptCache.clear();
+            log.info("Credential encryption key initialized successfully ({} previous keys).", keys.size() - 1);
         }
         catch (NoSuchAlgorithmException ex) {
             log.error("Failed to initialize credential encryption key.", ex);
@@ -155,10 +283,22 @@ public class CredentialEncryptionUtil {
     }
 
     /**
-     * Encrypts a plain-text credential value.
+     * Computes the id written in front of payloads encrypted with a key.
+     *
+     * @param key AES key
+     * @return hex fingerprint of the key
+     * @throws NoSuchAlgorithmException when SHA-256 is unavailable
+     */
+    private static String keyId(final SecretKey key) throws NoSuchAlgorithmException {
+        final byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getEncoded());
+        return HexFormat.of().formatHex(Arrays.copyOf(digest, KEY_ID_LENGTH));
+    }
+
+    /**
+     * Encrypts a plain-text credential value with the current key.
      *
      * @param plainText source text
-     * @return encrypted Base64 payload or null when the source is blank
+     * @return encrypted payload, prefixed with the key id when enabled, or null when the source is blank
      */
     public String encrypt(final String plainText) {
         String encrypted = null;
@@ -166,60 +306,234 @@ public class CredentialEncryptionUtil {
             return encrypted;
         }
 
+        final Cipher cipher = borrowCipher();
         try {
             final byte[] initVector = new byte[GCM_IV_LENGTH];
             SECURE_RANDOM.nextBytes(initVector);
 
-            final Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            final GCMParameterSpec gcmSpec = new GCMParameterSpec(GCM_TAG_LENGTH * 8, initVector);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, gcmSpec);
-
-            final byte[] cipherText = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
-            final ByteBuffer byteBuffer = ByteBuffer.allocate(initVector.length + cipherText.length);
-            byteBuffer.put(initVector);
-            byteBuffer.put(cipherText);
-            encrypted = Base64.getEncoder().encodeToString(byteBuffer.array());
+            cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(GCM_TAG_LENGTH * 8, initVector));
+            final byte[] input = plainText.getBytes(StandardCharsets.UTF_8);
+            final byte[] output = new byte[GCM_IV_LENGTH + cipher.getOutputSize(input.length)];
+            System.arraycopy(initVector, 0, output, 0, GCM_IV_LENGTH);
+            cipher.doFinal(input, 0, input.length, output, GCM_IV_LENGTH);
+            final String payload = Base64.getEncoder().encodeToString(output);
+            encrypted = writeKeyId ? currentKeyPrefix + payload : payload;
         }
         catch (GeneralSecurityException ex) {
             log.error("Failed to encrypt credential.", ex);
             throw new CredentialEncryptionException("加密失败", ex);
         }
+        finally {
+            releaseCipher(cipher);
+        }
         return encrypted;
     }
 
     /**
-     * Decrypts an encrypted credential value.
+     * Decrypts an encrypted credential value, serving recently decrypted values from the cache.
      *
-     * @param encryptedText Base64 payload including IV
+     * @param encryptedText payload produced by {@link #encrypt}
      * @return decrypted plain text or null when the source is blank
      */
     public String decrypt(final String encryptedText) {
-        String decrypted = null;
         if (encryptedText == null || encryptedText.isEmpty()) {
-            return decrypted;
+            return null;
+        }
+        if (decryptCacheTtlMs <= 0) {
+            return decryptUncached(encryptedText);
         }
 
-        try {
-            final byte[] decoded = Base64.getDecoder().decode(encryptedText);
-            final ByteBuffer byteBuffer = ByteBuffer.wrap(decoded);
-            final byte[] initVector = new byte[GCM_IV_LENGTH];
-            byteBuffer.get(initVector);
+        final long now = clock.getAsLong();
+        final CachedPlainText cached = decryptCache.get(encryptedText);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > now) {
+                return cached.plainText();
+            }
+            decryptCache.remove(encryptedText, cached);
+        }
+        final String decrypted = decryptUncached(encryptedText);
+        cache(encryptedText, decrypted, now);
+        return decrypted;
+    }
 
-            final byte[] cipherText = new byte[byteBuffer.remaining()];
-            byteBuffer.get(cipherText);
+    /**
+     * Returns whether a payload differs from what {@link #encrypt} writes now: encrypted with another key,
+     * or with or without the key id prefix against the {@code write-key-id} setting.
+     *
+     * <p>While the prefix is not written, a payload without one is checked against the current key, since
+     * nothing else tells which key encrypted it.</p>
+     *
+     * @param encryptedText stored payload
+     * @return true when {@link #reEncrypt} would rewrite it
+     */
+    public boolean needsReEncryption(final String encryptedText) {
+        if (encryptedText == null || encryptedText.isEmpty()) {
+            return false;
+        }
+        if (writeKeyId) {
+            return !encryptedText.startsWith(currentKeyPrefix);
+        }
+        return encryptedText.indexOf(KEY_ID_SEPARATOR) >= 0 || !authenticatesWithCurrentKey(encryptedText);
+    }
+
+    /**
+     * Decrypts a payload and encrypts the value again with the current key.
+     *
+     * @param encryptedText stored payload
+     * @return payload encrypted with the current key, or null when the source is blank
+     */
+    public String reEncrypt(final String encryptedText) {
+        if (encryptedText == null || encryptedText.isEmpty()) {
+            return null;
+        }
+        return encrypt(decryptUncached(encryptedText));
+    }
+
+    /**
+     * Returns whether previous keys are configured, i.e. stored payloads may need re-encryption.
+     *
+     * @return true when previous keys are configured
+     */
+    public boolean hasPreviousKeys() {
+        return keysById.size() > 1;
+    }
+
+    /**
+     * Evicts the cached plain text of a payload.
+     *
+     * @param encryptedText stored payload that was replaced or deleted
+     */
+    public void invalidate(final String encryptedText) {
+        if (encryptedText != null) {
+            decryptCache.remove(encryptedText);
+        }
+    }
+
+    /**
+     * Evicts every cached plain text.
+     */
+    public void invalidateAll() {
+        decryptCache.clear();
+    }
 
-            final Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            final GCMParameterSpec gcmSpec = new GCMParameterSpec(GCM_TAG_LENGTH * 8, initVector);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey, gcmSpec);
+    /**
+     * Returns the number of cached plain texts.
+     *
+     * @return cache size
+     */
+    public int cacheSize() {
+        return decryptCache.size();
+    }
 
-            final byte[] plainText = cipher.doFinal(cipherText);
-            decrypted = new String(plainText, StandardCharsets.UTF_8);
+    private String decryptUncached(final String encryptedText) {
+        final int separator = encryptedText.indexOf(KEY_ID_SEPARATOR);
+        final List<SecretKey> candidates;
+        final String payload;
+        if (separator < 0) {
+            candidates = legacyKeys;
+            payload = encryptedText;
+        }
+        else {
+            final SecretKey key = keysById.get(encryptedText.substring(0, separator));
+            if (key == null) {
+                log.error("Failed to decrypt credential: unknown key id.");
+                throw new CredentialEncryptionException("解密失败，加密密钥已不在配置中", null);
+            }
+            candidates = List.of(key);
+            payload = encryptedText.substring(separator + 1);
         }
-        catch (GeneralSecurityException | IllegalArgumentException ex) {
+
+        final byte[] decoded;
+        try {
+            decoded = Base64.getDecoder().decode(payload);
+        }
+        catch (IllegalArgumentException ex) {
             log.error("Failed to decrypt credential.", ex);
             throw new CredentialEncryptionException("解密失败，可能是密钥不正确或数据已损坏", ex);
         }
-        return decrypted;
+        if (decoded.length < GCM_IV_LENGTH + GCM_TAG_LENGTH) {
+            log.error("Failed to decrypt credential: payload too short.");
+            throw new CredentialEncryptionException("解密失败，可能是密钥不正确或数据已损坏", null);
+        }
+
+        GeneralSecurityException failure = null;
+        final Cipher cipher = borrowCipher();
+        try {
+            for (final SecretKey key : candidates) {
+                try {
+                    cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH * 8, decoded, 0,
+                            GCM_IV_LENGTH));
+                    final byte[] plainText = cipher.doFinal(decoded, GCM_IV_LENGTH, decoded.length - GCM_IV_LENGTH);
+                    return new String(plainText, StandardCharsets.UTF_8);
+                }
+                catch (AEADBadTagException ex) {
+                    failure = ex;
+                }
+            }
+        }
+        catch (GeneralSecurityException ex) {
+            failure = ex;
+        }
+        finally {
+            releaseCipher(cipher);
+        }
+        log.error("Failed to decrypt credential.", failure);
+        throw new CredentialEncryptionException("解密失败，可能是密钥不正确或数据已损坏", failure);
+    }
+
+    private boolean authenticatesWithCurrentKey(final String payload) {
+        final byte[] decoded;
+        try {
+            decoded = Base64.getDecoder().decode(payload);
+        }
+        catch (IllegalArgumentException ex) {
+            return false;
+        }
+        if (decoded.length < GCM_IV_LENGTH + GCM_TAG_LENGTH) {
+            return false;
+        }
+
+        final Cipher cipher = borrowCipher();
+        try {
+            cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(GCM_TAG_LENGTH * 8, decoded, 0,
+                    GCM_IV_LENGTH));
+            cipher.doFinal(decoded, GCM_IV_LENGTH, decoded.length - GCM_IV_LENGTH);
+            return true;
+        }
+        catch (GeneralSecurityException ex) {
+            return false;
+        }
+        finally {
+            releaseCipher(cipher);
+        }
+    }
+
+    private void cache(final String encryptedText, final String plainText, final long now) {
+        if (decryptCache.size() >= decryptCacheMaxEntries) {
+            decryptCache.entrySet().removeIf(entry -> entry.getValue().expiresAtMillis() <= now);
+            if (decryptCache.size() >= decryptCacheMaxEntries) {
+                return;
+            }
+        }
+        decryptCache.put(encryptedText, new CachedPlainText(plainText, now + decryptCacheTtlMs));
+    }
+
+    private Cipher borrowCipher() {
+        final Cipher pooled = cipherPool.poll();
+        if (pooled != null) {
+            return pooled;
+        }
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        }
+        catch (GeneralSecurityException ex) {
+            log.error("Failed to create credential cipher.", ex);
+            throw new CredentialEncryptionException("加密组件初始化失败", ex);
+        }
+    }
+
+    private void releaseCipher(final Cipher cipher) {
+        cipherPool.offer(cipher);
     }
 
     /**
@@ -266,4 +580,13 @@ public class CredentialEncryptionUtil {
         SECURE_RANDOM.nextBytes(key);
         return Base64.getEncoder().encodeToString(key);
     }
+
+    /**
+     * Cached decrypted value.
+     *
+     * @param plainText       decrypted value
+     * @param expiresAtMillis expiry in epoch milliseconds
+     */
+    private record CachedPlainText(String plainText, long expiresAtMillis) {
+    }
 }
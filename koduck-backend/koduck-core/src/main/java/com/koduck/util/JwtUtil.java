@@ -6,6 +6,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 import javax.crypto.SecretKey;
@@ -17,6 +18,7 @@ import com.koduck.infrastructure.config.JwtConfig;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -38,6 +40,11 @@ public class JwtUtil {
      */
     private final JwtConfig jwtConfig;
 
+    /**
+     * Signing key and parser derived from the current secret, rebuilt only when the secret changes.
+     */
+    private volatile SigningMaterial signingMaterial;
+
     /**
      * Creates the JWT helper.
      *
@@ -53,7 +60,23 @@ public class JwtUtil {
      * @return signing key
      */
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes(StandardCharsets.UTF_8));
+        return getSigningMaterial().key();
+    }
+
+    /**
+     * Returns the signing key and parser for the configured secret, deriving them once per secret.
+     *
+     * @return signing material
+     */
+    private SigningMaterial getSigningMaterial() {
+        final String secret = jwtConfig.getSecret();
+        SigningMaterial material = signingMaterial;
+        if (material == null || !material.secret().equals(secret)) {
+            final SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            material = new SigningMaterial(secret, key, Jwts.parser().verifyWith(key).build());
+            signingMaterial = material;
+        }
+        return material;
     }
 
     /**
@@ -109,9 +132,7 @@ public class JwtUtil {
      * @return parsed claims
      */
     public Claims parseToken(final String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return getSigningMaterial().parser()
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -123,10 +144,19 @@ public class JwtUtil {
      * @return true when token is valid
      */
     public boolean validateToken(final String token) {
-        boolean valid = false;
+        return parseValidToken(token).isPresent();
+    }
+
+    /**
+     * Validates and parses a signed JWT token in a single pass.
+     *
+     * @param token token to validate
+     * @return parsed claims, or empty when the token is invalid
+     */
+    public Optional<Claims> parseValidToken(final String token) {
+        Optional<Claims> claims = Optional.empty();
         try {
-            parseToken(token);
-            valid = true;
+            claims = Optional.of(parseToken(token));
         }
         catch (ExpiredJwtException ex) {
             warnIfEnabled("JWT token is expired: {}", ex.getMessage());
@@ -143,7 +173,7 @@ public class JwtUtil {
         catch (IllegalArgumentException ex) {
             warnIfEnabled("JWT token is empty or null: {}", ex.getMessage());
         }
-        return valid;
+        return claims;
     }
 
     /**
@@ -208,4 +238,14 @@ public class JwtUtil {
             log.warn(message, detail);
         }
     }
+
+    /**
+     * Signing key and the parser verifying with it.
+     *
+     * @param secret secret the key was derived from
+     * @param key    HMAC signing key
+     * @param parser thread-safe parser verifying with {@code key}
+     */
+    private record SigningMaterial(String secret, SecretKey key, JwtParser parser) {
+    }
 }
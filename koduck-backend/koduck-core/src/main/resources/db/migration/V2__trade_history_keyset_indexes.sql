@@ -0,0 +1,13 @@
+-- 交易历史键集分页（ADR-0163）
+-- 按 (trade_time, id) 倒序遍历用户交易：游标条件 trade_time <= ? 落在索引范围内，
+-- ORDER BY ... LIMIT 直接沿索引读取，无需排序，翻页代价与页深无关。
+
+CREATE INDEX IF NOT EXISTS idx_trade_user_time_id
+    ON trades(user_id, trade_time DESC, id DESC);
+
+-- 按股票代码过滤时使用
+CREATE INDEX IF NOT EXISTS idx_trade_user_symbol_time_id
+    ON trades(user_id, symbol, trade_time DESC, id DESC);
+
+-- 被上面两个索引的前缀覆盖
+DROP INDEX IF EXISTS idx_trade_user;
@@ -0,0 +1,84 @@
+-- 社区信号全文检索（ADR-0170）
+-- 标题、股票代码和正文写入 search_vector（tsvector），由触发器维护并建 GIN 索引，取代 LIKE '%keyword%' 顺序扫描。
+-- 内置文本搜索配置不切分中文，这里把连续的中日韩字符展开为重叠二元组（“放量突破” -> “放量 量突 突破”），
+-- 英文、数字交给 simple 配置按词切分并转小写；查询端用同一规则生成 tsquery，单个汉字按前缀匹配二元组。
+
+ALTER TABLE community_signals ADD COLUMN IF NOT EXISTS title VARCHAR(200);
+ALTER TABLE community_signals ADD COLUMN IF NOT EXISTS content TEXT;
+ALTER TABLE community_signals ADD COLUMN IF NOT EXISTS market VARCHAR(10);
+ALTER TABLE community_signals ADD COLUMN IF NOT EXISTS search_vector TSVECTOR;
+
+-- 文档端分词：中日韩字符串展开为二元组，其余文本原样保留
+CREATE OR REPLACE FUNCTION community_search_text(input TEXT) RETURNS TEXT
+    LANGUAGE plpgsql IMMUTABLE PARALLEL SAFE AS $$
+DECLARE
+    result TEXT;
+    run TEXT;
+    i INTEGER;
+BEGIN
+    IF input IS NULL THEN
+        RETURN '';
+    END IF;
+    result := regexp_replace(input, '[\u3400-\u4dbf\u4e00-\u9fff\uf900-\ufaff]+', ' ', 'g');
+    FOR run IN SELECT m[1] FROM regexp_matches(input, '([\u3400-\u4dbf\u4e00-\u9fff\uf900-\ufaff]+)', 'g') AS m LOOP
+        IF char_length(run) = 1 THEN
+            result := result || ' ' || run;
+        ELSE
+            FOR i IN 1 .. char_length(run) - 1 LOOP
+                result := result || ' ' || substr(run, i, 2);
+            END LOOP;
+        END IF;
+    END LOOP;
+    RETURN result;
+END;
+$$;
+
+-- 查询端：所有词项取交集；单个汉字匹配以它开头的二元组
+CREATE OR REPLACE FUNCTION community_search_query(input TEXT) RETURNS TSQUERY
+    LANGUAGE plpgsql IMMUTABLE PARALLEL SAFE AS $$
+DECLARE
+    query TSQUERY;
+    run TEXT;
+    i INTEGER;
+BEGIN
+    query := plainto_tsquery('simple',
+            regexp_replace(coalesce(input, ''), '[\u3400-\u4dbf\u4e00-\u9fff\uf900-\ufaff]+', ' ', 'g'));
+    FOR run IN SELECT m[1] FROM regexp_matches(coalesce(input, ''),
+            '([\u3400-\u4dbf\u4e00-\u9fff\uf900-\ufaff]+)', 'g') AS m LOOP
+        IF char_length(run) = 1 THEN
+            query := query && to_tsquery('simple', quote_literal(run) || ':*');
+        ELSE
+            FOR i IN 1 .. char_length(run) - 1 LOOP
+                query := query && to_tsquery('simple', quote_literal(substr(run, i, 2)));
+            END LOOP;
+        END IF;
+    END LOOP;
+    RETURN query;
+END;
+$$;
+
+-- 标题与股票代码权重 A，正文权重 B
+CREATE OR REPLACE FUNCTION community_signals_search_vector() RETURNS TRIGGER
+    LANGUAGE plpgsql AS $$
+BEGIN
+    NEW.search_vector :=
+            setweight(to_tsvector('simple', community_search_text(NEW.title)), 'A')
+            || setweight(to_tsvector('simple', coalesce(NEW.symbol, '')), 'A')
+            || setweight(to_tsvector('simple', community_search_text(NEW.content)), 'B');
+    RETURN NEW;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS trg_community_signals_search_vector ON community_signals;
+CREATE TRIGGER trg_community_signals_search_vector
+    BEFORE INSERT OR UPDATE OF title, symbol, content ON community_signals
+    FOR EACH ROW EXECUTE FUNCTION community_signals_search_vector();
+
+-- 回填已有数据
+UPDATE community_signals
+SET search_vector = setweight(to_tsvector('simple', community_search_text(title)), 'A')
+        || setweight(to_tsvector('simple', coalesce(symbol, '')), 'A')
+        || setweight(to_tsvector('simple', community_search_text(content)), 'B');
+
+CREATE INDEX IF NOT EXISTS idx_community_signals_search_vector
+    ON community_signals USING GIN (search_vector);
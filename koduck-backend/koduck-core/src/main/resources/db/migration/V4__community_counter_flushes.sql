@@ -0,0 +1,12 @@
+-- 社区信号计数写回（ADR-0172）
+-- 点赞、评论、浏览增量先累积在 Redis（或本实例内存），按批写回 community_signals。
+-- 每批有唯一 ID，与计数更新在同一事务中写入本表：批次写回后若来不及确认而被重放，主键冲突或已存在即跳过，增量不会重复累加。
+
+CREATE TABLE IF NOT EXISTS community_counter_flushes (
+    batch_id VARCHAR(36) PRIMARY KEY,
+    flushed_at TIMESTAMP NOT NULL
+);
+
+-- 定期清理过期批次标记
+CREATE INDEX IF NOT EXISTS idx_community_counter_flushes_flushed_at
+    ON community_counter_flushes(flushed_at);
@@ -0,0 +1,22 @@
+-- 社区关注关系与关注动态（ADR-0174）
+-- 关注动态由每个用户预先计算好的时间线提供，发布信号时写入粉丝的时间线，读取时不再联表查询。
+-- 粉丝数达到阈值的作者改为读取时从其发件箱拉取，避免一次发布写入大量时间线。
+
+CREATE TABLE IF NOT EXISTS community_user_follows (
+    id BIGSERIAL PRIMARY KEY,
+    follower_id BIGINT NOT NULL,
+    followee_id BIGINT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (follower_id) REFERENCES users(id) ON DELETE CASCADE,
+    FOREIGN KEY (followee_id) REFERENCES users(id) ON DELETE CASCADE,
+    UNIQUE(follower_id, followee_id),
+    CHECK (follower_id <> followee_id)
+);
+
+-- 写入时间线时按作者分批读取粉丝；按关注者读取关注列表由唯一约束的索引覆盖
+CREATE INDEX IF NOT EXISTS idx_community_user_follows_followee
+    ON community_user_follows(followee_id, follower_id);
+
+-- 关注时回填、重建时间线时按作者读取最近的信号
+CREATE INDEX IF NOT EXISTS idx_community_signals_user_created
+    ON community_signals(user_id, created_at DESC);
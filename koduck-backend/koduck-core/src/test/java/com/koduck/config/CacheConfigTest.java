@@ -1,10 +1,15 @@
 package com.koduck.config;
 
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.cache.RedisCacheWriter;
@@ -12,15 +17,18 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import com.koduck.infrastructure.cache.codec.CacheValueCodec;
+import com.koduck.infrastructure.cache.codec.CacheValueFormat;
 import com.koduck.infrastructure.config.properties.CacheProperties;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * Unit tests for {@link CacheConfig}.
  *
- * <p>Verifies cache name registration and per-cache TTL settings configured in
+ * <p>Verifies cache name registration and per-cache TTL and value format settings configured in
  * {@link CacheConfig#cacheManager(RedisConnectionFactory)}.</p>
  *
  * @author Koduck Team
@@ -39,6 +47,9 @@ class CacheConfigTest {
     /** TTL for 1 hour. */
     private static final Duration TTL_1_HOUR = Duration.ofHours(1);
 
+    /** First byte of binary cache entries. */
+    private static final byte BINARY_MAGIC = (byte) 0xB1;
+
     /**
      * Extracts the TTL from a cache configuration by invoking the
      * {@link RedisCacheWriter.TtlFunction} with dummy key/value arguments.
@@ -51,6 +62,34 @@ class CacheConfigTest {
         return ttlFunction.getTimeToLive("test-key", "test-value");
     }
 
+    /**
+     * Creates the cache configuration under test without application codecs.
+     *
+     * @param cacheProperties cache properties
+     * @param customizers     cache manager customizers
+     * @return cache configuration
+     */
+    @SuppressWarnings("unchecked")
+    private CacheConfig newCacheConfig(CacheProperties cacheProperties,
+                                       RedisCacheManagerBuilderCustomizer... customizers) {
+        ObjectProvider<CacheValueCodec<?>> codecs = mock(ObjectProvider.class);
+        when(codecs.orderedStream()).thenReturn(Stream.empty());
+        ObjectProvider<RedisCacheManagerBuilderCustomizer> customizerProvider = mock(ObjectProvider.class);
+        when(customizerProvider.orderedStream()).thenAnswer(invocation -> Stream.of(customizers));
+        return new CacheConfig(new ObjectMapper(), cacheProperties, codecs, customizerProvider);
+    }
+
+    /**
+     * Returns the first byte a cache configuration writes for a price value.
+     *
+     * @param configuration cache configuration to inspect
+     * @return first serialized byte
+     */
+    private byte firstValueByte(RedisCacheConfiguration configuration) {
+        ByteBuffer buffer = configuration.getValueSerializationPair().write(new BigDecimal("12.34"));
+        return buffer.get(0);
+    }
+
     /**
      * Ensures that the cache manager produced by {@link CacheConfig} contains
      * entries for all expected caches and that each cache has the correct
@@ -60,8 +99,7 @@ class CacheConfigTest {
     @DisplayName("shouldRegisterExpectedCacheNamesAndTtlSettings")
     void shouldRegisterExpectedCacheNamesAndTtlSettings() {
         CacheProperties cacheProperties = new CacheProperties();
-        ObjectMapper objectMapper = new ObjectMapper();
-        CacheConfig cacheConfig = new CacheConfig(objectMapper, cacheProperties);
+        CacheConfig cacheConfig = newCacheConfig(cacheProperties);
         RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
 
         RedisCacheManager cacheManager = cacheConfig.cacheManager(connectionFactory);
@@ -85,4 +123,50 @@ class CacheConfigTest {
         assertThat(resolveTtl(configurations.get(CacheConfig.CACHE_MARKET_INDICES))).isEqualTo(TTL_30_SECONDS);
         assertThat(resolveTtl(configurations.get(CacheConfig.CACHE_HOT_STOCKS))).isEqualTo(TTL_1_MINUTE);
     }
+
+    /**
+     * Ensures that caches switched to the binary format write binary entries while the
+     * others keep writing JSON, and that caches known only by their format are registered.
+     */
+    @Test
+    @DisplayName("shouldApplyPerCacheValueFormats")
+    void shouldApplyPerCacheValueFormats() {
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.getValueFormats().put(CacheConfig.CACHE_PRICE, CacheValueFormat.BINARY);
+        cacheProperties.getValueFormats().put("priceLatest", CacheValueFormat.BINARY);
+        CacheConfig cacheConfig = newCacheConfig(cacheProperties);
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+
+        RedisCacheManager cacheManager = cacheConfig.cacheManager(connectionFactory);
+        cacheManager.afterPropertiesSet();
+        Map<String, RedisCacheConfiguration> configurations = cacheManager.getCacheConfigurations();
+
+        assertThat(firstValueByte(configurations.get(CacheConfig.CACHE_PRICE))).isEqualTo(BINARY_MAGIC);
+        assertThat(firstValueByte(configurations.get(CacheConfig.CACHE_KLINE))).isNotEqualTo(BINARY_MAGIC);
+        assertThat(configurations).containsKey("priceLatest");
+        assertThat(firstValueByte(configurations.get("priceLatest"))).isEqualTo(BINARY_MAGIC);
+        assertThat(resolveTtl(configurations.get("priceLatest"))).isEqualTo(TTL_5_MINUTES);
+    }
+
+    /**
+     * Ensures that module customizers run after the built-in configuration, so a module can
+     * replace the configuration of an existing cache or add its own.
+     */
+    @Test
+    @DisplayName("shouldApplyCacheManagerCustomizersLast")
+    void shouldApplyCacheManagerCustomizersLast() {
+        RedisCacheConfiguration custom = RedisCacheConfiguration.defaultCacheConfig().entryTtl(TTL_1_HOUR);
+        CacheConfig cacheConfig = newCacheConfig(new CacheProperties(),
+                builder -> builder.withCacheConfiguration(CacheConfig.CACHE_PRICE, custom)
+                        .withCacheConfiguration("moduleCache", custom));
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+
+        RedisCacheManager cacheManager = cacheConfig.cacheManager(connectionFactory);
+        cacheManager.afterPropertiesSet();
+        Map<String, RedisCacheConfiguration> configurations = cacheManager.getCacheConfigurations();
+
+        assertThat(resolveTtl(configurations.get(CacheConfig.CACHE_PRICE))).isEqualTo(TTL_1_HOUR);
+        assertThat(resolveTtl(configurations.get("moduleCache"))).isEqualTo(TTL_1_HOUR);
+        assertThat(resolveTtl(configurations.get(CacheConfig.CACHE_KLINE))).isEqualTo(TTL_1_MINUTE);
+    }
 }
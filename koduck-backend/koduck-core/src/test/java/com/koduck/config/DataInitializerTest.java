@@ -15,10 +15,10 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.koduck.entity.auth.Role;
 import com.koduck.entity.auth.User;
+import com.koduck.repository.auth.CredentialRepository;
 import com.koduck.repository.auth.RoleRepository;
 import com.koduck.repository.auth.UserRepository;
 import com.koduck.repository.auth.UserRoleRepository;
-import com.koduck.repository.credential.CredentialRepository;
 import com.koduck.service.support.UserRolesTableChecker;
 import com.koduck.util.CredentialEncryptionUtil;
 
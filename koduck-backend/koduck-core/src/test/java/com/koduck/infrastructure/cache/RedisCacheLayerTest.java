@@ -0,0 +1,187 @@
+package com.koduck.infrastructure.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.koduck.infrastructure.config.RedisConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RedisCacheLayer} against a real Redis.
+ *
+ * <p>Runs a {@code redis:7-alpine} container (the image used by docker-compose) shared by all tests
+ * in the class, so the pipelined and swap paths always execute instead of being skipped.
+ * All keys live under a random prefix and are removed after each test.</p>
+ *
+ * @author Koduck Team
+ */
+@Testcontainers
+class RedisCacheLayerTest {
+
+    /** Redis port inside the container. */
+    private static final int REDIS_PORT = 6379;
+
+    /** Redis shared by the tests in this class. */
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(REDIS_PORT);
+
+    /** Members in the large replace tests, several pipeline batches. */
+    private static final int LARGE_SIZE = 10_000;
+
+    /** TTL used by the list and value tests. */
+    private static final long TTL_SECONDS = 120;
+
+    /** Connection factory for the container Redis. */
+    private LettuceConnectionFactory connectionFactory;
+
+    /** Template configured like production. */
+    private RedisTemplate<String, Object> redisTemplate;
+
+    /** Layer under test. */
+    private RedisCacheLayer cacheLayer;
+
+    /** Key prefix isolating this test run. */
+    private String prefix;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(REDIS_PORT)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new RedisConfig(new ObjectMapper()).redisTemplate(connectionFactory);
+        cacheLayer = new RedisCacheLayer(redisTemplate);
+        prefix = "test:cache-layer:" + UUID.randomUUID() + ":";
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(redisTemplate.keys(prefix + "*"));
+        redisTemplate.delete(redisTemplate.keys("{" + prefix + "*"));
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("tempKey should share the hash slot of the target key")
+    void tempKeyShouldShareHashSlot() {
+        assertThat(RedisCacheLayer.tempKey("user:watch:1")).startsWith("{user:watch:1}:swap:");
+        assertThat(RedisCacheLayer.tempKey("{user:1}:watch")).startsWith("{user:1}:watch:swap:");
+    }
+
+    @Test
+    @DisplayName("replaceSet should replace a 10k-member set and drop the previous members")
+    void replaceSetShouldReplaceLargeSet() {
+        String key = prefix + "set";
+        cacheLayer.replaceSet(key, List.of("stale-1", "stale-2"));
+
+        List<String> members = members("symbol-", LARGE_SIZE);
+        cacheLayer.replaceSet(key, members);
+
+        assertThat(redisTemplate.opsForSet().size(key)).isEqualTo(LARGE_SIZE);
+        assertThat(cacheLayer.getSetMembers(key)).contains("symbol-0", "symbol-9999").doesNotContain("stale-1");
+        assertThat(redisTemplate.getExpire(key)).isEqualTo(-1L);
+        assertThat(redisTemplate.keys("{" + key + "}:swap:*")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("replaceSet with no members should delete the key")
+    void replaceSetWithNoMembersShouldDeleteKey() {
+        String key = prefix + "empty";
+        cacheLayer.replaceSet(key, List.of("a"));
+
+        cacheLayer.replaceSet(key, Arrays.asList(null, null));
+
+        assertThat(cacheLayer.hasKey(key)).isFalse();
+    }
+
+    @Test
+    @DisplayName("replaceList should keep order, skip nulls and apply the TTL")
+    void replaceListShouldKeepOrderAndTtl() {
+        String key = prefix + "list";
+        cacheLayer.replaceList(key, List.of("old"), TTL_SECONDS);
+
+        List<Object> values = new ArrayList<>(members("v-", LARGE_SIZE));
+        values.add(1, null);
+        cacheLayer.replaceList(key, values, TTL_SECONDS);
+
+        assertThat(redisTemplate.opsForList().size(key)).isEqualTo(LARGE_SIZE);
+        assertThat(cacheLayer.getListRange(key, 0, 2)).containsExactly("v-0", "v-1", "v-2");
+        assertThat(cacheLayer.getListRange(key, -1, -1)).containsExactly("v-9999");
+        assertThat(redisTemplate.getExpire(key)).isBetween(1L, TTL_SECONDS);
+    }
+
+    @Test
+    @DisplayName("Concurrent readers should never observe an empty or partial set during replaceSet")
+    void readersShouldNotObservePartialSet() throws InterruptedException {
+        String key = prefix + "swap";
+        cacheLayer.replaceSet(key, members("a-", LARGE_SIZE));
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong unexpected = new AtomicLong();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                Long size = redisTemplate.opsForSet().size(key);
+                if (size == null || size != LARGE_SIZE) {
+                    unexpected.incrementAndGet();
+                }
+            }
+        });
+        reader.start();
+        for (int round = 0; round < 10; round++) {
+            cacheLayer.replaceSet(key, members(round % 2 == 0 ? "b-" : "a-", LARGE_SIZE));
+        }
+        running.set(false);
+        reader.join();
+
+        assertThat(unexpected.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("multiSet and multiGet should round-trip values in key order with the TTL")
+    void multiSetAndMultiGetShouldRoundTrip() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put(prefix + "k1", "v1");
+        values.put(prefix + "k2", 42);
+        values.put(prefix + "k3", Map.of("symbol", "600000"));
+
+        cacheLayer.multiSet(values, TTL_SECONDS);
+
+        List<Object> fetched = cacheLayer.multiGet(List.of(prefix + "k3", prefix + "missing", prefix + "k1",
+                prefix + "k2"));
+        assertThat(fetched).hasSize(4);
+        assertThat(fetched.get(0)).isEqualTo(Map.of("symbol", "600000"));
+        assertThat(fetched.get(1)).isNull();
+        assertThat(fetched.get(2)).isEqualTo("v1");
+        assertThat(fetched.get(3)).isEqualTo(42);
+        assertThat(redisTemplate.getExpire(prefix + "k2")).isBetween(1L, TTL_SECONDS);
+        assertThat(cacheLayer.multiGet(List.of())).isEmpty();
+    }
+
+    private static List<String> members(String prefix, int size) {
+        List<String> members = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            members.add(prefix + i);
+        }
+        return members;
+    }
+}
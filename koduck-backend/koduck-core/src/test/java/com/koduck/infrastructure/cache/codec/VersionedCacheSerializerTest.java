@@ -0,0 +1,223 @@
+package com.koduck.infrastructure.cache.codec;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link VersionedCacheSerializer} and the binary primitives it builds on.
+ *
+ * @author Koduck Team
+ */
+class VersionedCacheSerializerTest {
+
+    /** Type id of the test bar codec. */
+    private static final int BAR_TYPE_ID = 16;
+
+    /** Typed JSON serializer used by the JSON format and for legacy entries. */
+    private GenericJackson2JsonRedisSerializer jsonSerializer;
+
+    /** Registry with the built-in codecs and the test bar codec. */
+    private CacheCodecRegistry registry;
+
+    /** Serializer writing JSON. */
+    private VersionedCacheSerializer jsonWriter;
+
+    /** Serializer writing binary. */
+    private VersionedCacheSerializer binaryWriter;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        mapper.activateDefaultTyping(mapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        jsonSerializer = new GenericJackson2JsonRedisSerializer(mapper);
+        registry = new CacheCodecRegistry(List.of(new BarCodec()));
+        jsonWriter = new VersionedCacheSerializer(jsonSerializer, registry, CacheValueFormat.JSON);
+        binaryWriter = new VersionedCacheSerializer(jsonSerializer, registry, CacheValueFormat.BINARY);
+    }
+
+    @Test
+    @DisplayName("JSON format writes exactly what the JSON serializer writes")
+    void jsonFormatMatchesJsonSerializer() {
+        BigDecimal price = new BigDecimal("12.34");
+
+        assertThat(jsonWriter.serialize(price)).isEqualTo(jsonSerializer.serialize(price));
+        assertThat(jsonWriter.deserialize(jsonWriter.serialize(price))).isEqualTo(price);
+    }
+
+    @Test
+    @DisplayName("Binary format round-trips BigDecimal and keeps its scale")
+    void binaryRoundTripsDecimal() {
+        for (String text : List.of("0", "12.30", "-0.0001", "1E+3", "123456789012345678901234567890.123456789")) {
+            BigDecimal value = new BigDecimal(text);
+
+            byte[] bytes = binaryWriter.serialize(value);
+
+            assertThat(bytes[0]).isEqualTo(VersionedCacheSerializer.MAGIC);
+            assertThat(binaryWriter.deserialize(bytes)).isEqualTo(value);
+        }
+    }
+
+    @Test
+    @DisplayName("Binary format round-trips a registered type and a list of it")
+    void binaryRoundTripsRegisteredTypeAndList() {
+        Bar bar = new Bar("600519", new BigDecimal("1688.00"), 12_345L, Instant.parse("2026-10-16T07:00:00Z"));
+        List<Bar> bars = List.of(bar, new Bar("000001", null, null, null));
+
+        assertThat(binaryWriter.deserialize(binaryWriter.serialize(bar))).isEqualTo(bar);
+        assertThat(binaryWriter.deserialize(binaryWriter.serialize(bars))).isEqualTo(bars);
+    }
+
+    @Test
+    @DisplayName("Binary entries are smaller than the typed JSON of the same list")
+    void binaryIsSmallerThanJson() {
+        List<Bar> bars = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            bars.add(new Bar("600519", BigDecimal.valueOf(168_800 + i, 2), 10_000L + i,
+                    Instant.ofEpochSecond(1_760_000_000L + i * 60L)));
+        }
+
+        assertThat(binaryWriter.serialize(bars).length * 4).isLessThan(jsonWriter.serialize(bars).length);
+    }
+
+    @Test
+    @DisplayName("Values without a codec fall back to JSON in binary mode")
+    void unregisteredValuesFallBackToJson() {
+        Map<String, String> map = new HashMap<>(Map.of("symbol", "600519"));
+        List<Object> mixed = new ArrayList<>(List.of(new BigDecimal("1.0"), "text"));
+
+        assertThat(binaryWriter.serialize(map)).isEqualTo(jsonSerializer.serialize(map));
+        assertThat(binaryWriter.serialize(mixed)).isEqualTo(jsonSerializer.serialize(mixed));
+        assertThat(binaryWriter.serialize(new ArrayList<>())).isEqualTo(jsonSerializer.serialize(new ArrayList<>()));
+        assertThat(binaryWriter.deserialize(binaryWriter.serialize(map))).isEqualTo(map);
+    }
+
+    @Test
+    @DisplayName("Both formats are readable whatever the write format")
+    void readsBothFormats() {
+        BigDecimal price = new BigDecimal("9.87");
+
+        assertThat(jsonWriter.deserialize(binaryWriter.serialize(price))).isEqualTo(price);
+        assertThat(binaryWriter.deserialize(jsonSerializer.serialize(price))).isEqualTo(price);
+        assertThat(binaryWriter.deserialize(null)).isNull();
+        assertThat(binaryWriter.deserialize(new byte[0])).isNull();
+    }
+
+    @Test
+    @DisplayName("Entries from a newer format version or an unknown type read as a miss")
+    void unknownVersionOrTypeIsMiss() {
+        byte[] bytes = binaryWriter.serialize(new BigDecimal("1.5"));
+        byte[] newerVersion = bytes.clone();
+        newerVersion[1] = (byte) (VersionedCacheSerializer.FORMAT_VERSION + 1);
+        byte[] unknownType = binaryWriter.serialize(
+                new Bar("600519", BigDecimal.ONE, 1L, Instant.EPOCH));
+
+        assertThat(binaryWriter.deserialize(newerVersion)).isNull();
+        assertThat(new VersionedCacheSerializer(jsonSerializer, CacheCodecRegistry.builtIn(), CacheValueFormat.BINARY)
+                .deserialize(unknownType)).isNull();
+    }
+
+    @Test
+    @DisplayName("Truncated or padded binary entries are rejected")
+    void corruptEntriesAreRejected() {
+        byte[] bytes = binaryWriter.serialize(new Bar("600519", new BigDecimal("1688.00"), 1L, Instant.EPOCH));
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 2);
+        byte[] padded = Arrays.copyOf(bytes, bytes.length + 1);
+
+        assertThatThrownBy(() -> binaryWriter.deserialize(truncated)).isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> binaryWriter.deserialize(padded)).isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("Registry rejects reserved and duplicate type ids")
+    void registryRejectsReservedAndDuplicateIds() {
+        CacheValueCodec<BigDecimal> reserved = new BigDecimalCacheCodec();
+
+        assertThatThrownBy(() -> new CacheCodecRegistry(List.of(reserved)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CacheCodecRegistry(List.of(new BarCodec(), new BarCodec())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Varints and zigzag longs round-trip at their limits")
+    void primitivesRoundTrip() {
+        CacheBinaryWriter out = new CacheBinaryWriter(1);
+        long[] longs = {0L, 1L, -1L, 63L, -64L, Long.MAX_VALUE, Long.MIN_VALUE};
+        for (long value : longs) {
+            out.writeSignedVarLong(value);
+        }
+        out.writeVarInt(Integer.MAX_VALUE);
+        out.writeString("贵州茅台");
+        out.writeString(null);
+        out.writeInstant(Instant.parse("1969-12-31T23:59:59.999999999Z"));
+
+        CacheBinaryReader in = new CacheBinaryReader(out.toByteArray(), 0);
+        for (long value : longs) {
+            assertThat(in.readSignedVarLong()).isEqualTo(value);
+        }
+        assertThat(in.readVarInt()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(in.readString()).isEqualTo("贵州茅台");
+        assertThat(in.readString()).isNull();
+        assertThat(in.readInstant()).isEqualTo(Instant.parse("1969-12-31T23:59:59.999999999Z"));
+        assertThat(in.remaining()).isZero();
+    }
+
+    /**
+     * Minimal bar used to exercise application codecs.
+     *
+     * @param symbol    symbol
+     * @param close     close price
+     * @param volume    volume
+     * @param timestamp bar time
+     */
+    record Bar(String symbol, BigDecimal close, Long volume, Instant timestamp) {
+    }
+
+    /**
+     * Codec for {@link Bar}.
+     */
+    static final class BarCodec implements CacheValueCodec<Bar> {
+
+        @Override
+        public int typeId() {
+            return BAR_TYPE_ID;
+        }
+
+        @Override
+        public Class<Bar> type() {
+            return Bar.class;
+        }
+
+        @Override
+        public void write(Bar value, CacheBinaryWriter out) {
+            out.writeString(value.symbol());
+            out.writeDecimal(value.close());
+            out.writeNullableLong(value.volume());
+            out.writeInstant(value.timestamp());
+        }
+
+        @Override
+        public Bar read(CacheBinaryReader in) {
+            return new Bar(in.readString(), in.readDecimal(), in.readNullableLong(), in.readInstant());
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.koduck.security;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.koduck.event.auth.UserTokensRevokedEvent;
+import com.koduck.infrastructure.config.JwtConfig;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link AuthenticationCache}.
+ *
+ * @author Koduck Team
+ */
+class AuthenticationCacheTest {
+
+    /** Start of the test clock. */
+    private static final long NOW = 1_800_000_000_000L;
+
+    /** Configured TTL: 5 minutes. */
+    private static final long TTL_MS = 300_000L;
+
+    /** Token expiry far beyond the TTL. */
+    private static final Instant TOKEN_EXPIRY = Instant.ofEpochMilli(NOW + 3_600_000L);
+
+    /** Test clock. */
+    private final AtomicLong clock = new AtomicLong(NOW);
+
+    /** JWT configuration. */
+    private JwtConfig jwtConfig;
+
+    /** Cache under test. */
+    private AuthenticationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        jwtConfig = new JwtConfig();
+        jwtConfig.getAuthCache().setEnabled(true);
+        jwtConfig.getAuthCache().setTtlMs(TTL_MS);
+        cache = new AuthenticationCache(jwtConfig, clock::get);
+    }
+
+    @Test
+    @DisplayName("shouldReturnCachedPrincipalUntilTtl")
+    void shouldReturnCachedPrincipalUntilTtl() {
+        UserDetails principal = principal("1");
+
+        assertTrue(cache.put("token-1", 1L, principal, TOKEN_EXPIRY, cache.epoch()));
+        assertSame(principal, cache.get("token-1"));
+        assertNull(cache.get("token-2"));
+
+        clock.addAndGet(TTL_MS);
+        assertNull(cache.get("token-1"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("shouldExpireWithTokenWhenTokenExpiresBeforeTtl")
+    void shouldExpireWithTokenWhenTokenExpiresBeforeTtl() {
+        cache.put("token-1", 1L, principal("1"), Instant.ofEpochMilli(NOW + 1_000L), cache.epoch());
+
+        clock.addAndGet(999L);
+        assertNotNull(cache.get("token-1"));
+        clock.addAndGet(1L);
+        assertNull(cache.get("token-1"));
+        assertFalse(cache.put("token-2", 1L, principal("1"), Instant.ofEpochMilli(NOW), cache.epoch()));
+    }
+
+    @Test
+    @DisplayName("shouldEvictAllTokensOfUserOnRevocation")
+    void shouldEvictAllTokensOfUserOnRevocation() {
+        cache.put("token-1", 1L, principal("1"), TOKEN_EXPIRY, cache.epoch());
+        cache.put("token-2", 1L, principal("1"), TOKEN_EXPIRY, cache.epoch());
+        cache.put("token-3", 2L, principal("2"), TOKEN_EXPIRY, cache.epoch());
+
+        cache.onUserTokensRevoked(new UserTokensRevokedEvent(1L, UserTokensRevokedEvent.Reason.PASSWORD_CHANGED));
+
+        assertNull(cache.get("token-1"));
+        assertNull(cache.get("token-2"));
+        assertNotNull(cache.get("token-3"));
+        assertEquals(0, cache.evictUser(1L));
+    }
+
+    @Test
+    @DisplayName("shouldNotCachePrincipalLoadedAcrossRevocation")
+    void shouldNotCachePrincipalLoadedAcrossRevocation() {
+        long epoch = cache.epoch();
+        cache.evictUser(1L);
+
+        assertFalse(cache.put("token-1", 1L, principal("1"), TOKEN_EXPIRY, epoch));
+        assertNull(cache.get("token-1"));
+    }
+
+    @Test
+    @DisplayName("shouldStopCachingWhenFullUntilEntriesExpire")
+    void shouldStopCachingWhenFullUntilEntriesExpire() {
+        jwtConfig.getAuthCache().setMaxEntries(2);
+        cache.put("token-1", 1L, principal("1"), Instant.ofEpochMilli(NOW + 1_000L), cache.epoch());
+        cache.put("token-2", 2L, principal("2"), TOKEN_EXPIRY, cache.epoch());
+
+        assertFalse(cache.put("token-3", 3L, principal("3"), TOKEN_EXPIRY, cache.epoch()));
+
+        clock.addAndGet(1_000L);
+        assertTrue(cache.put("token-3", 3L, principal("3"), TOKEN_EXPIRY, cache.epoch()));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("shouldBypassCacheWhenDisabled")
+    void shouldBypassCacheWhenDisabled() {
+        jwtConfig.getAuthCache().setEnabled(false);
+
+        assertFalse(cache.put("token-1", 1L, principal("1"), TOKEN_EXPIRY, cache.epoch()));
+        assertNull(cache.get("token-1"));
+    }
+
+    @Test
+    @DisplayName("shouldBeDisabledByDefault")
+    void shouldBeDisabledByDefault() {
+        AuthenticationCache defaults = new AuthenticationCache(new JwtConfig(), clock::get);
+
+        assertFalse(defaults.put("token-1", 1L, principal("1"), TOKEN_EXPIRY, defaults.epoch()));
+        assertNull(defaults.get("token-1"));
+    }
+
+    private static UserDetails principal(String username) {
+        return new User(username, "", List.of());
+    }
+}
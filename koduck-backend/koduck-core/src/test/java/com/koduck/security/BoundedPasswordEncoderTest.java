@@ -0,0 +1,161 @@
+package com.koduck.security;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.koduck.exception.PasswordHashingRejectedException;
+import com.koduck.infrastructure.config.properties.PasswordHashingProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link BoundedPasswordEncoder}.
+ *
+ * @author Koduck Team
+ */
+class BoundedPasswordEncoderTest {
+
+    /** Cheapest BCrypt cost, to keep the tests fast. */
+    private static final int STRENGTH = 4;
+
+    /** Meter registry. */
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /** Callers running concurrently with the test thread. */
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    /** Released to let blocked hashes finish. */
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    /** Encoder under test. */
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        if (encoder != null) {
+            encoder.close();
+        }
+    }
+
+    @Test
+    @DisplayName("shouldEncodeAndMatchOnHashingThreads")
+    void shouldEncodeAndMatchOnHashingThreads() {
+        encoder = new BoundedPasswordEncoder(properties(STRENGTH, 2, 4, Duration.ofSeconds(5)), meterRegistry);
+
+        String hash = encoder.encode("secret");
+
+        assertTrue(hash.startsWith("$2a$04$"));
+        assertTrue(encoder.matches("secret", hash));
+        assertFalse(encoder.matches("wrong", hash));
+        assertEquals(1L, meterRegistry.get("koduck.password.hash.duration").tag("operation", "encode")
+                .timer().count());
+        assertEquals(2L, meterRegistry.get("koduck.password.hash.duration").tag("operation", "matches")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("shouldShedRequestsWhenQueueIsFull")
+    void shouldShedRequestsWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blockingDelegate(started),
+                properties(STRENGTH, 1, 1, Duration.ofSeconds(5)), meterRegistry);
+        String hash = new BCryptPasswordEncoder(STRENGTH).encode("secret");
+
+        Future<Boolean> running = callers.submit(() -> encoder.matches("secret", hash));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<Boolean> queued = callers.submit(() -> encoder.matches("secret", hash));
+        awaitQueueDepth(1);
+
+        assertEquals(1.0, meterRegistry.get("koduck.password.hash.queue.depth").gauge().value());
+        assertThrows(PasswordHashingRejectedException.class, () -> encoder.matches("secret", hash));
+        assertEquals(1.0, meterRegistry.get("koduck.password.hash.rejected").tag("reason", "queue_full")
+                .counter().count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("shouldShedRequestsThatWaitTooLong")
+    void shouldShedRequestsThatWaitTooLong() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blockingDelegate(started),
+                properties(STRENGTH, 1, 1, Duration.ofMillis(50)), meterRegistry);
+
+        assertThrows(PasswordHashingRejectedException.class, () -> encoder.encode("secret"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(1.0, meterRegistry.get("koduck.password.hash.rejected").tag("reason", "timeout")
+                .counter().count());
+    }
+
+    @Test
+    @DisplayName("shouldUpgradeOnlyHashesBelowConfiguredStrength")
+    void shouldUpgradeOnlyHashesBelowConfiguredStrength() {
+        encoder = new BoundedPasswordEncoder(properties(5, 1, 1, Duration.ofSeconds(5)), meterRegistry);
+
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret")));
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("secret")));
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("secret")));
+    }
+
+    private BCryptPasswordEncoder blockingDelegate(CountDownLatch started) {
+        return new BCryptPasswordEncoder(STRENGTH) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                block(started);
+                return super.encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                block(started);
+                return super.matches(rawPassword, encodedPassword);
+            }
+        };
+    }
+
+    private void block(CountDownLatch started) {
+        started.countDown();
+        try {
+            release.await();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (encoder.queueDepth() < depth && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(depth, encoder.queueDepth());
+    }
+
+    private static PasswordHashingProperties properties(int strength, int threads, int queueCapacity,
+                                                        Duration timeout) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setStrength(strength);
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setTimeout(timeout);
+        return properties;
+    }
+}
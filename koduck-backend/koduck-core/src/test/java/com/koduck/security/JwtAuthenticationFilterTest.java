@@ -0,0 +1,117 @@
+package com.koduck.security;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.koduck.event.auth.UserTokensRevokedEvent;
+import com.koduck.infrastructure.config.JwtConfig;
+import com.koduck.util.JwtUtil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link JwtAuthenticationFilter} with the verified token cache.
+ *
+ * @author Koduck Team
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    /** Signing secret for testing. */
+    private static final String SECRET = "test-secret-key-for-jwt-signing-must-be-at-least-32-characters-long";
+
+    /** Test user ID. */
+    private static final Long USER_ID = 42L;
+
+    /** Mock user details service. */
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    /** JWT utility. */
+    private JwtUtil jwtUtil;
+
+    /** Verified token cache. */
+    private AuthenticationCache authenticationCache;
+
+    /** Filter under test. */
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setSecret(SECRET);
+        jwtConfig.getAuthCache().setEnabled(true);
+        jwtUtil = new JwtUtil(jwtConfig);
+        authenticationCache = new AuthenticationCache(jwtConfig);
+        filter = new JwtAuthenticationFilter(jwtUtil, jwtConfig, userDetailsService, authenticationCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("shouldLoadPrincipalOncePerToken")
+    void shouldLoadPrincipalOncePerToken() throws Exception {
+        when(userDetailsService.loadUserByUsername("42")).thenReturn(new User("42", "", List.of()));
+        String token = jwtUtil.generateAccessToken(USER_ID, "alice", "alice@example.com");
+
+        authenticate(token);
+        Authentication authentication = authenticate(token);
+
+        assertNotNull(authentication);
+        assertEquals("42", ((User) authentication.getPrincipal()).getUsername());
+        verify(userDetailsService, times(1)).loadUserByUsername("42");
+    }
+
+    @Test
+    @DisplayName("shouldReloadPrincipalAfterRevocation")
+    void shouldReloadPrincipalAfterRevocation() throws Exception {
+        when(userDetailsService.loadUserByUsername("42")).thenReturn(new User("42", "", List.of()));
+        String token = jwtUtil.generateAccessToken(USER_ID, "alice", "alice@example.com");
+
+        authenticate(token);
+        authenticationCache.onUserTokensRevoked(
+                new UserTokensRevokedEvent(USER_ID, UserTokensRevokedEvent.Reason.LOGOUT));
+        authenticate(token);
+
+        verify(userDetailsService, times(2)).loadUserByUsername("42");
+    }
+
+    @Test
+    @DisplayName("shouldNotAuthenticateInvalidToken")
+    void shouldNotAuthenticateInvalidToken() throws Exception {
+        assertNull(authenticate("not-a-jwt"));
+        assertEquals(0, authenticationCache.size());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
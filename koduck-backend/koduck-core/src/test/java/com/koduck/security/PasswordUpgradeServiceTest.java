@@ -0,0 +1,78 @@
+package com.koduck.security;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.koduck.entity.auth.User;
+import com.koduck.repository.auth.UserRepository;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link PasswordUpgradeService}.
+ *
+ * @author Koduck Team
+ */
+@ExtendWith(MockitoExtension.class)
+class PasswordUpgradeServiceTest {
+
+    /** Upgraded hash. */
+    private static final String NEW_HASH = "$2a$12$upgraded";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private PasswordUpgradeService passwordUpgradeService;
+
+    @Test
+    @DisplayName("shouldStoreUpgradedHashByPrincipalId")
+    void shouldStoreUpgradedHashByPrincipalId() {
+        AuthUserPrincipal principal = AuthUserPrincipal.builder().id(42L).username("alice").build();
+
+        UserDetails result = passwordUpgradeService.updatePassword(principal, NEW_HASH);
+
+        assertSame(principal, result);
+        verify(userRepository).updatePassword(42L, NEW_HASH);
+        verify(userRepository, never()).findByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("shouldResolveUserIdByUsername")
+    void shouldResolveUserIdByUsername() {
+        User user = User.builder().id(7L).username("bob").build();
+        when(userRepository.findByUsername("bob")).thenReturn(Optional.of(user));
+        UserDetails details = springUser("bob");
+
+        passwordUpgradeService.updatePassword(details, NEW_HASH);
+
+        verify(userRepository).updatePassword(7L, NEW_HASH);
+    }
+
+    @Test
+    @DisplayName("shouldSkipUnknownUser")
+    void shouldSkipUnknownUser() {
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+        UserDetails details = springUser("ghost");
+
+        assertSame(details, passwordUpgradeService.updatePassword(details, NEW_HASH));
+        verify(userRepository, never()).updatePassword(anyLong(), anyString());
+    }
+
+    private static UserDetails springUser(String username) {
+        return new org.springframework.security.core.userdetails.User(username, "$2a$10$old", List.of());
+    }
+}
@@ -0,0 +1,142 @@
+package com.koduck.security.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.koduck.infrastructure.config.properties.ApiRateLimitProperties;
+import com.koduck.security.AuthUserPrincipal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link ApiRateLimitFilter}.
+ *
+ * @author Koduck Team
+ */
+class ApiRateLimitFilterTest {
+
+    /** Test clock in nanoseconds. */
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1_000));
+
+    /** Filter under test. */
+    private ApiRateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ApiRateLimitProperties properties = new ApiRateLimitProperties();
+        properties.setRules(List.of(
+                rule("backtest-submit", "/api/v1/backtest/**", List.of("post"), 2, Duration.ofMinutes(1)),
+                rule("kline", "/api/v1/market/stocks/{symbol}/kline", List.of(), 3, Duration.ofSeconds(1))));
+        filter = new ApiRateLimitFilter(properties, new LocalTokenBucketLimiter(clock::get), new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("shouldRejectWith429AndRetryAfterWhenBucketIsEmpty")
+    void shouldRejectWith429AndRetryAfterWhenBucketIsEmpty() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, send("GET", "/api/v1/market/stocks/600000/kline", "10.0.0.1").getStatus());
+        }
+
+        MockHttpServletResponse rejected = send("GET", "/api/v1/market/stocks/600000/kline", "10.0.0.1");
+        assertEquals(429, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+        assertTrue(rejected.getContentAsString().contains("1007"));
+    }
+
+    @Test
+    @DisplayName("shouldKeySeparateBucketsByIpForAnonymousRequests")
+    void shouldKeySeparateBucketsByIpForAnonymousRequests() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            send("GET", "/api/v1/market/stocks/600000/kline", "10.0.0.1");
+        }
+
+        assertEquals(200, send("GET", "/api/v1/market/stocks/000001/kline", "10.0.0.2").getStatus());
+        assertEquals(429, send("GET", "/api/v1/market/stocks/000001/kline", "10.0.0.1").getStatus());
+    }
+
+    @Test
+    @DisplayName("shouldKeyByUserIdAcrossIpsWhenAuthenticated")
+    void shouldKeyByUserIdAcrossIpsWhenAuthenticated() throws Exception {
+        AuthUserPrincipal principal = AuthUserPrincipal.builder().id(7L).username("alice").build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+
+        assertEquals(200, send("POST", "/api/v1/backtest/run", "10.0.0.1").getStatus());
+        assertEquals(200, send("POST", "/api/v1/backtest/run", "10.0.0.2").getStatus());
+        MockHttpServletResponse rejected = send("POST", "/api/v1/backtest/run", "10.0.0.3");
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("30", rejected.getHeader("Retry-After"));
+    }
+
+    @Test
+    @DisplayName("shouldIgnoreUnmatchedPathsAndMethods")
+    void shouldIgnoreUnmatchedPathsAndMethods() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(200, send("GET", "/api/v1/backtest/results", "10.0.0.1").getStatus());
+            assertEquals(200, send("GET", "/api/v1/portfolio", "10.0.0.1").getStatus());
+        }
+    }
+
+    @Test
+    @DisplayName("shouldRefillAfterRetryAfter")
+    void shouldRefillAfterRetryAfter() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            send("GET", "/api/v1/market/stocks/600000/kline", "10.0.0.1");
+        }
+        MockFilterChain chain = new MockFilterChain();
+        assertEquals(429, send("GET", "/api/v1/market/stocks/600000/kline", "10.0.0.1", chain).getStatus());
+        assertNull(chain.getRequest());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        chain = new MockFilterChain();
+        assertEquals(200, send("GET", "/api/v1/market/stocks/600000/kline", "10.0.0.1", chain).getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    private MockHttpServletResponse send(String method, String uri, String ip) throws Exception {
+        return send(method, uri, ip, new MockFilterChain());
+    }
+
+    private MockHttpServletResponse send(String method, String uri, String ip, MockFilterChain chain)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(ip);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static ApiRateLimitProperties.Rule rule(String name, String pattern, List<String> methods,
+                                                    long capacity, Duration period) {
+        ApiRateLimitProperties.Rule rule = new ApiRateLimitProperties.Rule();
+        rule.setName(name);
+        rule.setPattern(pattern);
+        rule.setMethods(methods);
+        rule.setCapacity(capacity);
+        rule.setRefillTokens(capacity);
+        rule.setRefillPeriod(period);
+        return rule;
+    }
+}
@@ -0,0 +1,108 @@
+package com.koduck.security.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link LocalTokenBucketLimiter}.
+ *
+ * @author Koduck Team
+ */
+class LocalTokenBucketLimiterTest {
+
+    /** One second in nanoseconds. */
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /** Burst of 5, refilled at 1 token per second. */
+    private static final BucketSpec SPEC = new BucketSpec(5, 1, Duration.ofSeconds(1));
+
+    /** Test clock. */
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+    /** Limiter under test. */
+    private final LocalTokenBucketLimiter limiter = new LocalTokenBucketLimiter(clock::get);
+
+    @Test
+    @DisplayName("shouldAllowBurstUpToCapacity")
+    void shouldAllowBurstUpToCapacity() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0L, limiter.tryAcquire("k", SPEC));
+        }
+
+        assertEquals(SECOND, limiter.tryAcquire("k", SPEC));
+        assertEquals(0L, limiter.tryAcquire("other", SPEC));
+    }
+
+    @Test
+    @DisplayName("shouldRefillAtConfiguredRate")
+    void shouldRefillAtConfiguredRate() {
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("k", SPEC);
+        }
+
+        clock.addAndGet(SECOND / 2);
+        assertEquals(SECOND / 2, limiter.tryAcquire("k", SPEC));
+        clock.addAndGet(SECOND / 2);
+        assertEquals(0L, limiter.tryAcquire("k", SPEC));
+        assertTrue(limiter.tryAcquire("k", SPEC) > 0);
+
+        clock.addAndGet(10 * SECOND);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0L, limiter.tryAcquire("k", SPEC));
+        }
+        assertTrue(limiter.tryAcquire("k", SPEC) > 0);
+    }
+
+    @Test
+    @DisplayName("shouldPurgeOnlyFullBuckets")
+    void shouldPurgeOnlyFullBuckets() {
+        limiter.tryAcquire("idle", SPEC);
+        clock.addAndGet(SECOND);
+        limiter.tryAcquire("busy", SPEC);
+
+        assertEquals(1, limiter.purgeIdle());
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    @DisplayName("shouldNeverExceedCapacityUnderContention")
+    void shouldNeverExceedCapacityUnderContention() throws InterruptedException {
+        BucketSpec spec = new BucketSpec(1_000, 1, Duration.ofHours(1));
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(8);
+        for (int t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    if (limiter.tryAcquire("shared", spec) == 0) {
+                        granted.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        done.await();
+        executor.shutdown();
+
+        assertEquals(1_000, granted.get());
+    }
+
+    @Test
+    @DisplayName("shouldRejectInvalidSpec")
+    void shouldRejectInvalidSpec() {
+        assertThrows(IllegalArgumentException.class, () -> new BucketSpec(0, 1, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new BucketSpec(1, 1, Duration.ZERO));
+    }
+}
@@ -0,0 +1,78 @@
+package com.koduck.security.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link RedisTokenBucketLimiter}.
+ *
+ * @author Koduck Team
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisTokenBucketLimiterTest {
+
+    /** Test clock in epoch microseconds. */
+    private static final long NOW_MICROS = 1_800_000_000_000_000L;
+
+    /** Burst of 10, refilled at 5 tokens per second. */
+    private static final BucketSpec SPEC = new BucketSpec(10, 5, Duration.ofSeconds(1));
+
+    /** Redis template mock. */
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    /** Limiter under test. */
+    private RedisTokenBucketLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new RedisTokenBucketLimiter(redisTemplate, new LocalTokenBucketLimiter(), () -> NOW_MICROS);
+    }
+
+    @Test
+    @DisplayName("shouldPassBucketParametersInMicroseconds")
+    void shouldPassBucketParametersInMicroseconds() {
+        when(redisTemplate.execute(RedisTokenBucketLimiter.ACQUIRE_SCRIPT, List.of("rate_limit:api:search:u:1"),
+                Long.toString(NOW_MICROS), "200000", "2000000")).thenReturn(0L);
+
+        assertEquals(0L, limiter.tryAcquire("search:u:1", SPEC));
+    }
+
+    @Test
+    @DisplayName("shouldReturnWaitInNanoseconds")
+    void shouldReturnWaitInNanoseconds() {
+        when(redisTemplate.execute(eq(RedisTokenBucketLimiter.ACQUIRE_SCRIPT), anyList(), any(), any(), any()))
+                .thenReturn(150_000L);
+
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(150_000L), limiter.tryAcquire("search:u:1", SPEC));
+    }
+
+    @Test
+    @DisplayName("shouldFallBackToLocalBucketsWhenRedisFails")
+    void shouldFallBackToLocalBucketsWhenRedisFails() {
+        when(redisTemplate.execute(eq(RedisTokenBucketLimiter.ACQUIRE_SCRIPT), anyList(), any(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0L, limiter.tryAcquire("search:u:1", SPEC));
+        }
+        assertTrue(limiter.tryAcquire("search:u:1", SPEC) > 0);
+    }
+}
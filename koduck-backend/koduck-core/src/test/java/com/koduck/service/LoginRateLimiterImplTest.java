@@ -0,0 +1,198 @@
+package com.koduck.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.koduck.entity.auth.LoginAttempt;
+import com.koduck.infrastructure.config.properties.RateLimitProperties;
+import com.koduck.repository.auth.LoginAttemptRepository;
+import com.koduck.service.impl.auth.LoginRateLimiterImpl;
+import com.koduck.service.support.InMemorySlidingWindowCounter;
+import com.koduck.service.support.LoginAttemptAuditWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link LoginRateLimiterImpl}.
+ *
+ * @author Koduck Team
+ */
+@ExtendWith(MockitoExtension.class)
+class LoginRateLimiterImplTest {
+
+    /** Maximum failures per user. */
+    private static final int MAX_PER_USER = 5;
+
+    /** Maximum failures per IP. */
+    private static final int MAX_PER_IP = 20;
+
+    /** Throttling window. */
+    private static final Duration WINDOW = Duration.ofMinutes(15);
+
+    /** Start of the test clock. */
+    private static final long NOW = 1_800_000_000_000L;
+
+    /** Simulated attempts per second. */
+    private static final int ATTEMPTS_PER_SECOND = 10_000;
+
+    /** Audit queue capacity. */
+    private static final int QUEUE_CAPACITY = 20_000;
+
+    /** IP address constant. */
+    private static final String IP_ADDRESS = "192.168.1.1";
+
+    /** Login attempt repository mock. */
+    @Mock
+    private LoginAttemptRepository loginAttemptRepository;
+
+    /** Test clock. */
+    private final AtomicLong clock = new AtomicLong(NOW);
+
+    /** Audit writer. */
+    private LoginAttemptAuditWriter auditWriter;
+
+    /** Limiter under test. */
+    private LoginRateLimiterImpl limiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties(
+                new RateLimitProperties.LoginFailure(MAX_PER_USER, MAX_PER_IP, WINDOW),
+                new RateLimitProperties.PasswordReset());
+        auditWriter = new LoginAttemptAuditWriter(loginAttemptRepository, 500, QUEUE_CAPACITY);
+        limiter = new LoginRateLimiterImpl(new InMemorySlidingWindowCounter(clock::get), auditWriter, properties);
+    }
+
+    @Test
+    @DisplayName("shouldBlockUserAfterConfiguredFailures")
+    void shouldBlockUserAfterConfiguredFailures() {
+        for (int i = 0; i < MAX_PER_USER; i++) {
+            assertTrue(limiter.allowLoginAttempt("Trader@Example.com", "10.0.0." + i));
+            limiter.recordLoginFailure("trader@example.com", "10.0.0." + i, "JUnit");
+        }
+
+        assertFalse(limiter.allowLoginAttempt("TRADER@example.com", "10.0.1.1"));
+        assertTrue(limiter.allowLoginAttempt("other@example.com", "10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("shouldBlockIpAfterConfiguredFailuresAcrossUsers")
+    void shouldBlockIpAfterConfiguredFailuresAcrossUsers() {
+        for (int i = 0; i < MAX_PER_IP; i++) {
+            limiter.recordLoginFailure("user" + i, IP_ADDRESS, "JUnit");
+        }
+
+        assertFalse(limiter.allowLoginAttempt("fresh-user", IP_ADDRESS));
+        assertTrue(limiter.allowLoginAttempt("fresh-user", "192.168.1.2"));
+    }
+
+    @Test
+    @DisplayName("shouldResetUserCounterOnSuccessButKeepIpCounter")
+    void shouldResetUserCounterOnSuccessButKeepIpCounter() {
+        for (int i = 0; i < MAX_PER_USER; i++) {
+            limiter.recordLoginFailure("trader", IP_ADDRESS, "JUnit");
+        }
+        limiter.recordLoginSuccess("trader", IP_ADDRESS, "JUnit");
+
+        assertTrue(limiter.allowLoginAttempt("trader", IP_ADDRESS));
+        for (int i = MAX_PER_USER; i < MAX_PER_IP; i++) {
+            limiter.recordLoginFailure("user" + i, IP_ADDRESS, "JUnit");
+        }
+        assertFalse(limiter.allowLoginAttempt("trader", IP_ADDRESS));
+    }
+
+    @Test
+    @DisplayName("shouldUnblockAsWindowSlides")
+    void shouldUnblockAsWindowSlides() {
+        for (int i = 0; i < MAX_PER_USER; i++) {
+            limiter.recordLoginFailure("trader", null, "JUnit");
+        }
+        assertFalse(limiter.allowLoginAttempt("trader", null));
+
+        clock.addAndGet(2 * WINDOW.toMillis());
+        assertTrue(limiter.allowLoginAttempt("trader", null));
+    }
+
+    @Test
+    @DisplayName("shouldThrottleCredentialStuffingBurstWithoutCountQueries")
+    void shouldThrottleCredentialStuffingBurstWithoutCountQueries() {
+        int ips = 200;
+        int accounts = 5_000;
+        int allowed = 0;
+        // One simulated second: 10k attempts, one every 100 microseconds, rotating over many IPs and accounts
+        for (int i = 0; i < ATTEMPTS_PER_SECOND; i++) {
+            if (i % 10 == 0) {
+                clock.incrementAndGet();
+            }
+            String ip = "10.0." + (i % ips) + ".1";
+            String account = "victim" + (i % accounts) + "@example.com";
+            if (limiter.allowLoginAttempt(account, ip)) {
+                allowed++;
+                limiter.recordLoginFailure(account, ip, "stuffer");
+            }
+        }
+
+        // Each IP gets at most MAX_PER_IP failures in the window, regardless of accounts
+        assertEquals(ips * MAX_PER_IP, allowed);
+        assertFalse(limiter.allowLoginAttempt("fresh@example.com", "10.0.1.1"));
+        assertEquals(allowed, auditWriter.pending());
+        verify(loginAttemptRepository, never()).countFailedAttempts(anyString(), anyString(), any());
+        verify(loginAttemptRepository, never()).countFailedAttemptsByIp(anyString(), any());
+
+        assertEquals(allowed, auditWriter.flush());
+        verify(loginAttemptRepository, atLeastOnce()).saveAll(any());
+        assertEquals(0, auditWriter.pending());
+    }
+
+    @Test
+    @DisplayName("shouldBlockTargetedAccountUnderDistributedAttack")
+    void shouldBlockTargetedAccountUnderDistributedAttack() {
+        int allowed = 0;
+        for (int i = 0; i < ATTEMPTS_PER_SECOND; i++) {
+            if (i % 10 == 0) {
+                clock.incrementAndGet();
+            }
+            String ip = "172." + (16 + i / 65_536) + "." + (i / 256 % 256) + "." + (i % 256);
+            if (limiter.allowLoginAttempt("ceo@example.com", ip)) {
+                allowed++;
+                limiter.recordLoginFailure("ceo@example.com", ip, "stuffer");
+            }
+        }
+
+        assertEquals(MAX_PER_USER, allowed);
+    }
+
+    @Test
+    @DisplayName("shouldWriteAuditRowsInBatches")
+    @SuppressWarnings("unchecked")
+    void shouldWriteAuditRowsInBatches() {
+        for (int i = 0; i < 1_200; i++) {
+            limiter.recordLoginFailure("user" + i, IP_ADDRESS, "u".repeat(600));
+        }
+
+        assertEquals(1_200, auditWriter.flush());
+
+        ArgumentCaptor<List<LoginAttempt>> batches = ArgumentCaptor.forClass(List.class);
+        verify(loginAttemptRepository, times(3)).saveAll(batches.capture());
+        LoginAttempt first = batches.getAllValues().get(0).get(0);
+        assertFalse(first.getSuccess());
+        assertEquals(500, first.getUserAgent().length());
+    }
+}
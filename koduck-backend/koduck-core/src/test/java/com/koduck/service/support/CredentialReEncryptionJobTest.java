@@ -0,0 +1,138 @@
+package com.koduck.service.support;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.koduck.entity.auth.UserCredential;
+import com.koduck.exception.CredentialEncryptionException;
+import com.koduck.repository.auth.CredentialRepository;
+import com.koduck.util.CredentialEncryptionUtil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link CredentialReEncryptionJob}.
+ *
+ * @author Koduck Team
+ */
+@ExtendWith(MockitoExtension.class)
+class CredentialReEncryptionJobTest {
+
+    /** Payload encrypted with a previous key. */
+    private static final String OLD_KEY = "old:key";
+
+    /** Payload encrypted with a previous key. */
+    private static final String OLD_SECRET = "old:secret";
+
+    /** Payload encrypted with the current key. */
+    private static final String CURRENT = "cur:value";
+
+    @Mock
+    private CredentialRepository credentialRepository;
+
+    @Mock
+    private CredentialEncryptionUtil credentialEncryptionUtil;
+
+    /** Job under test. */
+    private CredentialReEncryptionJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new CredentialReEncryptionJob(credentialRepository, credentialEncryptionUtil);
+        ReflectionTestUtils.setField(job, "batchSize", 2);
+        lenient().when(credentialEncryptionUtil.needsReEncryption(anyString()))
+                .thenAnswer(invocation -> invocation.<String>getArgument(0).startsWith("old:"));
+        lenient().when(credentialEncryptionUtil.reEncrypt(anyString()))
+                .thenAnswer(invocation -> "cur:" + invocation.<String>getArgument(0));
+    }
+
+    @Test
+    @DisplayName("shouldRewriteOnlyPayloadsOfPreviousKeysInBatches")
+    void shouldRewriteOnlyPayloadsOfPreviousKeysInBatches() {
+        when(credentialRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(credential(1L, OLD_KEY, OLD_SECRET), credential(2L, CURRENT, null)));
+        when(credentialRepository.findByIdGreaterThanOrderByIdAsc(eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(credential(3L, CURRENT, OLD_SECRET)));
+        when(credentialRepository.replaceApiKeyEncrypted(1L, OLD_KEY, "cur:" + OLD_KEY)).thenReturn(1);
+        when(credentialRepository.replaceApiSecretEncrypted(1L, OLD_SECRET, "cur:" + OLD_SECRET)).thenReturn(1);
+        when(credentialRepository.replaceApiSecretEncrypted(3L, OLD_SECRET, "cur:" + OLD_SECRET)).thenReturn(1);
+
+        CredentialReEncryptionJob.Result result = job.reEncryptAll();
+
+        assertEquals(new CredentialReEncryptionJob.Result(3, 3, 0), result);
+        verify(credentialRepository, never()).replaceApiKeyEncrypted(eq(2L), anyString(), anyString());
+        verify(credentialRepository, never()).replaceApiKeyEncrypted(eq(3L), anyString(), anyString());
+        verify(credentialEncryptionUtil, times(1)).invalidate(OLD_KEY);
+        verify(credentialEncryptionUtil, times(2)).invalidate(OLD_SECRET);
+    }
+
+    @Test
+    @DisplayName("shouldNotCountPayloadsChangedConcurrently")
+    void shouldNotCountPayloadsChangedConcurrently() {
+        when(credentialRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(credential(1L, OLD_KEY, null)));
+        when(credentialRepository.replaceApiKeyEncrypted(1L, OLD_KEY, "cur:" + OLD_KEY)).thenReturn(0);
+
+        CredentialReEncryptionJob.Result result = job.reEncryptAll();
+
+        assertEquals(new CredentialReEncryptionJob.Result(1, 0, 0), result);
+        verify(credentialEncryptionUtil, never()).invalidate(anyString());
+    }
+
+    @Test
+    @DisplayName("shouldCountUndecryptableCredentialsAndContinue")
+    void shouldCountUndecryptableCredentialsAndContinue() {
+        when(credentialRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(credential(1L, "old:broken", null)));
+        when(credentialEncryptionUtil.reEncrypt("old:broken"))
+                .thenThrow(new CredentialEncryptionException("broken", null));
+
+        CredentialReEncryptionJob.Result result = job.reEncryptAll();
+
+        assertEquals(new CredentialReEncryptionJob.Result(1, 0, 1), result);
+    }
+
+    @Test
+    @DisplayName("shouldStayIdleAfterCleanPass")
+    void shouldStayIdleAfterCleanPass() {
+        when(credentialEncryptionUtil.hasPreviousKeys()).thenReturn(true);
+        when(credentialRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(credential(1L, CURRENT, null)));
+
+        job.run();
+        job.run();
+
+        verify(credentialRepository, times(1)).findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("shouldSkipWhenNoPreviousKeys")
+    void shouldSkipWhenNoPreviousKeys() {
+        when(credentialEncryptionUtil.hasPreviousKeys()).thenReturn(false);
+
+        job.run();
+
+        verify(credentialRepository, never()).findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class));
+    }
+
+    private static UserCredential credential(Long id, String apiKey, String apiSecret) {
+        return UserCredential.builder().id(id).apiKeyEncrypted(apiKey).apiSecretEncrypted(apiSecret).build();
+    }
+}
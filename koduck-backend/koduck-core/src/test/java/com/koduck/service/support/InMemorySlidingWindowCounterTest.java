@@ -0,0 +1,90 @@
+package com.koduck.service.support;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for {@link InMemorySlidingWindowCounter}.
+ *
+ * @author Koduck Team
+ */
+class InMemorySlidingWindowCounterTest {
+
+    /** Counter window. */
+    private static final Duration WINDOW = Duration.ofSeconds(60);
+
+    /** Start of the test clock, aligned to a window boundary. */
+    private static final long NOW = 1_800_000_000_000L - 1_800_000_000_000L % 60_000L;
+
+    /** Floating point tolerance. */
+    private static final double DELTA = 1e-9;
+
+    /** Test clock. */
+    private final AtomicLong clock = new AtomicLong(NOW);
+
+    /** Counter under test. */
+    private final InMemorySlidingWindowCounter counter = new InMemorySlidingWindowCounter(clock::get);
+
+    @Test
+    @DisplayName("shouldCountWithinCurrentWindow")
+    void shouldCountWithinCurrentWindow() {
+        counter.increment("k", WINDOW);
+        counter.increment("k", WINDOW);
+
+        assertEquals(3.0, counter.increment("k", WINDOW), DELTA);
+        assertEquals(3.0, counter.estimate("k", WINDOW), DELTA);
+        assertEquals(0.0, counter.estimate("other", WINDOW), DELTA);
+    }
+
+    @Test
+    @DisplayName("shouldWeightPreviousWindowByRemainingOverlap")
+    void shouldWeightPreviousWindowByRemainingOverlap() {
+        for (int i = 0; i < 10; i++) {
+            counter.increment("k", WINDOW);
+        }
+        clock.addAndGet(60_000L + 15_000L);
+        counter.increment("k", WINDOW);
+
+        // 10 in the previous window weighted by 45/60, plus 1 in the current one
+        assertEquals(8.5, counter.estimate("k", WINDOW), DELTA);
+        clock.addAndGet(30_000L);
+        assertEquals(3.5, counter.estimate("k", WINDOW), DELTA);
+    }
+
+    @Test
+    @DisplayName("shouldForgetCountsAfterTwoWindows")
+    void shouldForgetCountsAfterTwoWindows() {
+        counter.increment("k", WINDOW);
+        clock.addAndGet(120_000L);
+
+        assertEquals(0.0, counter.estimate("k", WINDOW), DELTA);
+    }
+
+    @Test
+    @DisplayName("shouldResetKey")
+    void shouldResetKey() {
+        counter.increment("k", WINDOW);
+        counter.reset("k", WINDOW);
+
+        assertEquals(0.0, counter.estimate("k", WINDOW), DELTA);
+        assertEquals(0, counter.size());
+    }
+
+    @Test
+    @DisplayName("shouldPurgeOnlyExpiredKeys")
+    void shouldPurgeOnlyExpiredKeys() {
+        counter.increment("old", WINDOW);
+        clock.addAndGet(60_000L);
+        counter.increment("recent", WINDOW);
+        clock.addAndGet(60_000L);
+
+        assertEquals(1, counter.purgeExpired());
+        assertEquals(1, counter.size());
+        assertEquals(0.0, counter.estimate("old", WINDOW), DELTA);
+    }
+}
@@ -0,0 +1,98 @@
+package com.koduck.service.support;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link RedisSlidingWindowCounter}.
+ *
+ * @author Koduck Team
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisSlidingWindowCounterTest {
+
+    /** Counter window. */
+    private static final Duration WINDOW = Duration.ofSeconds(60);
+
+    /** Bucket start of the test clock. */
+    private static final long BUCKET = 1_800_000_000_000L - 1_800_000_000_000L % 60_000L;
+
+    /** Test clock: a quarter into the bucket. */
+    private static final long NOW = BUCKET + 15_000L;
+
+    /** Floating point tolerance. */
+    private static final double DELTA = 1e-9;
+
+    /** Redis template mock. */
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    /** Fallback counter. */
+    private InMemorySlidingWindowCounter fallback;
+
+    /** Counter under test. */
+    private RedisSlidingWindowCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        fallback = new InMemorySlidingWindowCounter(() -> NOW);
+        counter = new RedisSlidingWindowCounter(redisTemplate, fallback, () -> NOW);
+    }
+
+    @Test
+    @DisplayName("shouldIncrementCurrentBucketInOneScriptCall")
+    void shouldIncrementCurrentBucketInOneScriptCall() {
+        List<String> keys = List.of("{k}:" + BUCKET, "{k}:" + (BUCKET - 60_000L));
+        when(redisTemplate.execute(eq(RedisSlidingWindowCounter.COUNT_SCRIPT), eq(keys), eq("1"), eq("120000")))
+                .thenReturn(List.of(2L, 8L));
+
+        // 8 in the previous bucket weighted by 45/60, plus 2 in the current one
+        assertEquals(8.0, counter.increment("k", WINDOW), DELTA);
+    }
+
+    @Test
+    @DisplayName("shouldReadWithoutIncrementing")
+    void shouldReadWithoutIncrementing() {
+        when(redisTemplate.execute(eq(RedisSlidingWindowCounter.COUNT_SCRIPT), anyList(), eq("0"), any()))
+                .thenReturn(List.of(0L, 4L));
+
+        assertEquals(3.0, counter.estimate("k", WINDOW), DELTA);
+    }
+
+    @Test
+    @DisplayName("shouldFallBackToLocalCounterWhenRedisFails")
+    void shouldFallBackToLocalCounterWhenRedisFails() {
+        when(redisTemplate.execute(eq(RedisSlidingWindowCounter.COUNT_SCRIPT), anyList(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        counter.increment("k", WINDOW);
+        counter.increment("k", WINDOW);
+
+        assertEquals(2.0, counter.estimate("k", WINDOW), DELTA);
+        assertEquals(2.0, fallback.estimate("k", WINDOW), DELTA);
+    }
+
+    @Test
+    @DisplayName("shouldDeleteBothBucketsOnReset")
+    void shouldDeleteBothBucketsOnReset() {
+        counter.reset("k", WINDOW);
+
+        verify(redisTemplate).delete(List.of("{k}:" + BUCKET, "{k}:" + (BUCKET - 60_000L)));
+    }
+}
@@ -1,15 +1,21 @@
 package com.koduck.util;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.koduck.exception.CredentialEncryptionException;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
- * Unit tests for {@link CredentialEncryptionUtil} initialization behavior.
+ * Unit tests for {@link CredentialEncryptionUtil}.
  *
  * @author GitHub Copilot
  */
@@ -21,6 +27,15 @@ class CredentialEncryptionUtilTest {
     /** Sample plain text for encryption/decryption tests. */
     private static final String SAMPLE_PLAIN_TEXT = "plain-text";
 
+    /** Retired encryption key. */
+    private static final String PREVIOUS_KEY = "previous-encryption-key";
+
+    /** Default decrypt cache lifetime in milliseconds. */
+    private static final long CACHE_TTL_MS = 60_000L;
+
+    /** Test clock. */
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+
     @Test
     @DisplayName("shouldThrowWhenEncryptionKeyMissing")
     void shouldThrowWhenEncryptionKeyMissing() {
@@ -48,6 +63,123 @@ class CredentialEncryptionUtilTest {
         assertEquals(SAMPLE_PLAIN_TEXT, credentialEncryptionUtil.decrypt(encryptedText));
     }
 
+    @Test
+    @DisplayName("shouldDecryptPayloadsOfPreviousKeyAndReEncryptThem")
+    void shouldDecryptPayloadsOfPreviousKeyAndReEncryptThem() {
+        CredentialEncryptionUtil previous = initialized(PREVIOUS_KEY);
+        String oldPayload = previous.encrypt(SAMPLE_PLAIN_TEXT);
+        CredentialEncryptionUtil current = initialized(ENCRYPTION_KEY, PREVIOUS_KEY);
+
+        assertTrue(current.hasPreviousKeys());
+        assertTrue(current.needsReEncryption(oldPayload));
+        assertEquals(SAMPLE_PLAIN_TEXT, current.decrypt(oldPayload));
+
+        String newPayload = current.reEncrypt(oldPayload);
+        assertFalse(current.needsReEncryption(newPayload));
+        assertEquals(SAMPLE_PLAIN_TEXT, current.decrypt(newPayload));
+        assertThrows(CredentialEncryptionException.class, () -> previous.decrypt(newPayload));
+    }
+
+    @Test
+    @DisplayName("shouldNotWriteKeyIdByDefault")
+    void shouldNotWriteKeyIdByDefault() {
+        CredentialEncryptionUtil util = initialized(ENCRYPTION_KEY);
+
+        String payload = util.encrypt(SAMPLE_PLAIN_TEXT);
+
+        assertEquals(-1, payload.indexOf(':'));
+        assertFalse(util.needsReEncryption(payload));
+        assertEquals(SAMPLE_PLAIN_TEXT, util.decrypt(payload));
+    }
+
+    @Test
+    @DisplayName("shouldWriteKeyIdOnlyWhenEnabled")
+    void shouldWriteKeyIdOnlyWhenEnabled() {
+        CredentialEncryptionUtil writer = initialized(ENCRYPTION_KEY);
+        ReflectionTestUtils.setField(writer, "writeKeyId", true);
+        String unprefixed = initialized(ENCRYPTION_KEY).encrypt(SAMPLE_PLAIN_TEXT);
+
+        String prefixed = writer.encrypt(SAMPLE_PLAIN_TEXT);
+
+        assertTrue(prefixed.indexOf(':') > 0);
+        assertFalse(writer.needsReEncryption(prefixed));
+        assertTrue(writer.needsReEncryption(unprefixed));
+        assertTrue(writer.reEncrypt(unprefixed).startsWith(prefixed.substring(0, prefixed.indexOf(':') + 1)));
+        CredentialEncryptionUtil reader = initialized(ENCRYPTION_KEY);
+        assertEquals(SAMPLE_PLAIN_TEXT, reader.decrypt(prefixed));
+        assertTrue(reader.needsReEncryption(prefixed));
+        assertEquals(-1, reader.reEncrypt(prefixed).indexOf(':'));
+    }
+
+    @Test
+    @DisplayName("shouldDecryptPayloadsWithoutKeyId")
+    void shouldDecryptPayloadsWithoutKeyId() {
+        CredentialEncryptionUtil previous = initialized(PREVIOUS_KEY);
+        ReflectionTestUtils.setField(previous, "writeKeyId", true);
+        String payload = previous.encrypt(SAMPLE_PLAIN_TEXT);
+        String legacyPayload = payload.substring(payload.indexOf(':') + 1);
+        CredentialEncryptionUtil current = initialized(ENCRYPTION_KEY, PREVIOUS_KEY);
+
+        assertEquals(SAMPLE_PLAIN_TEXT, current.decrypt(legacyPayload));
+        assertTrue(current.needsReEncryption(legacyPayload));
+        assertThrows(CredentialEncryptionException.class, () -> initialized(ENCRYPTION_KEY).decrypt(legacyPayload));
+    }
+
+    @Test
+    @DisplayName("shouldRejectTamperedPayload")
+    void shouldRejectTamperedPayload() {
+        CredentialEncryptionUtil util = initialized(ENCRYPTION_KEY);
+        String payload = util.encrypt(SAMPLE_PLAIN_TEXT);
+        int middle = payload.length() / 2;
+        String tampered = payload.substring(0, middle) + (payload.charAt(middle) == 'A' ? 'B' : 'A')
+                + payload.substring(middle + 1);
+
+        assertThrows(CredentialEncryptionException.class, () -> util.decrypt(tampered));
+        assertThrows(CredentialEncryptionException.class, () -> util.decrypt("too-short"));
+    }
+
+    @Test
+    @DisplayName("shouldCacheDecryptedValuesUntilExpiryOrInvalidation")
+    void shouldCacheDecryptedValuesUntilExpiryOrInvalidation() {
+        CredentialEncryptionUtil util = initialized(ENCRYPTION_KEY);
+        String first = util.encrypt(SAMPLE_PLAIN_TEXT);
+        String second = util.encrypt("other-text");
+
+        util.decrypt(first);
+        util.decrypt(second);
+        assertEquals(2, util.cacheSize());
+
+        util.invalidate(first);
+        assertEquals(1, util.cacheSize());
+
+        clock.addAndGet(CACHE_TTL_MS);
+        assertEquals("other-text", util.decrypt(second));
+        util.invalidateAll();
+        assertEquals(0, util.cacheSize());
+    }
+
+    @Test
+    @DisplayName("shouldSkipCacheWhenFull")
+    void shouldSkipCacheWhenFull() {
+        CredentialEncryptionUtil util = new TestableCredentialEncryptionUtil(null, clock);
+        ReflectionTestUtils.setField(util, "encryptionKeyFromConfig", ENCRYPTION_KEY);
+        ReflectionTestUtils.setField(util, "decryptCacheMaxEntries", 1);
+        util.init();
+
+        util.decrypt(util.encrypt(SAMPLE_PLAIN_TEXT));
+        assertEquals(SAMPLE_PLAIN_TEXT, util.decrypt(util.encrypt(SAMPLE_PLAIN_TEXT)));
+
+        assertEquals(1, util.cacheSize());
+    }
+
+    private CredentialEncryptionUtil initialized(String key, String... previousKeys) {
+        TestableCredentialEncryptionUtil util = new TestableCredentialEncryptionUtil(null, clock);
+        ReflectionTestUtils.setField(util, "encryptionKeyFromConfig", key);
+        ReflectionTestUtils.setField(util, "previousKeysFromConfig", previousKeys);
+        util.init();
+        return util;
+    }
+
     private static final class TestableCredentialEncryptionUtil extends CredentialEncryptionUtil {
 
         /** Encryption key from environment for testing. */
@@ -57,6 +189,11 @@ class CredentialEncryptionUtilTest {
             this.encryptionKeyFromEnvironment = encryptionKeyFromEnvironment;
         }
 
+        private TestableCredentialEncryptionUtil(String encryptionKeyFromEnvironment, AtomicLong clock) {
+            super(clock::get);
+            this.encryptionKeyFromEnvironment = encryptionKeyFromEnvironment;
+        }
+
         @Override
         String getEncryptionKeyFromEnvironment() {
             return encryptionKeyFromEnvironment;
@@ -2,6 +2,7 @@ package com.koduck.infrastructure.cache;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -28,6 +29,22 @@ public interface CacheLayer {
      */
     Object getValue(String key);
 
+    /**
+     * 批量设置缓存值，所有键使用相同的过期时间。
+     *
+     * @param values 键到缓存值的映射
+     * @param ttlSeconds 过期时间（秒）
+     */
+    void multiSet(Map<String, ?> values, long ttlSeconds);
+
+    /**
+     * 批量获取缓存值。
+     *
+     * @param keys 缓存键
+     * @return 与键顺序一致的缓存值，不存在的键对应 {@code null}
+     */
+    List<Object> multiGet(Collection<String> keys);
+
     /**
      * 删除缓存。
      *
@@ -68,7 +85,7 @@ public interface CacheLayer {
     Set<Object> getSetMembers(String key);
 
     /**
-     * 替换集合。
+     * 替换集合。读取方只会看到替换前或替换后的完整集合。
      *
      * @param key 缓存键
      * @param members 成员集合
@@ -76,7 +93,7 @@ public interface CacheLayer {
     void replaceSet(String key, Collection<?> members);
 
     /**
-     * 替换列表。
+     * 替换列表。读取方只会看到替换前或替换后的完整列表。
      *
      * @param key 缓存键
      * @param values 值集合
@@ -1,22 +1,60 @@
 package com.koduck.infrastructure.cache;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
 /**
  * {@link CacheLayer}的Redis实现。
  *
+ * <p>批量写入走管道：{@link #multiSet} 的全部 {@code SET ... EX} 与 {@link #replaceSet}/{@link #replaceList}
+ * 的全部分块写入在一次往返内发出。替换集合与列表时先把新内容写入临时键，再由 Lua 脚本原子地
+ * {@code RENAME} 到目标键并设置过期时间，读取方不会看到空键或写到一半的内容；临时键带有安全过期时间，
+ * 管道中途失败时自动清理。临时键与目标键位于同一哈希槽，可用于 Redis Cluster。</p>
+ *
  * @author Koduck Team
  */
 @Component
 public class RedisCacheLayer implements CacheLayer {
 
+    /**
+     * 单条 SADD/RPUSH 命令携带的最大成员数。
+     */
+    static final int WRITE_BATCH_SIZE = 1000;
+
+    /**
+     * 临时键的安全过期时间（秒）。
+     */
+    static final long TEMP_KEY_TTL_SECONDS = 60;
+
+    /**
+     * 原子替换脚本：KEYS[1] 为临时键，KEYS[2] 为目标键，ARGV[1] 为过期秒数（不大于 0 表示永久）。
+     * 临时键不存在（新内容为空）时删除目标键。
+     */
+    private static final byte[] SWAP_SCRIPT = (
+            "if redis.call('EXISTS', KEYS[1]) == 1 then "
+                    + "redis.call('RENAME', KEYS[1], KEYS[2]) "
+                    + "if tonumber(ARGV[1]) > 0 then redis.call('EXPIRE', KEYS[2], ARGV[1]) "
+                    + "else redis.call('PERSIST', KEYS[2]) end "
+                    + "else redis.call('DEL', KEYS[2]) end "
+                    + "return 1"
+    ).getBytes(StandardCharsets.UTF_8);
+
     /**
      * 缓存操作的Redis模板。
      */
@@ -46,6 +84,45 @@ public class RedisCacheLayer implements CacheLayer {
         return redisTemplate.opsForValue().get(Objects.requireNonNull(key, "key must not be null"));
     }
 
+    @Override
+    public void multiSet(Map<String, ?> values, long ttlSeconds) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        RedisSerializer<String> keySerializer = keySerializer();
+        RedisSerializer<Object> valueSerializer = valueSerializer();
+        Expiration expiration = ttlSeconds > 0 ? Expiration.seconds(ttlSeconds) : Expiration.persistent();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Map.Entry<String, ?> entry : values.entrySet()) {
+                connection.stringCommands().set(
+                        serialize(keySerializer, Objects.requireNonNull(entry.getKey(), "key must not be null")),
+                        serialize(valueSerializer, Objects.requireNonNull(entry.getValue(), "value must not be null")),
+                        expiration,
+                        RedisStringCommands.SetOption.upsert()
+                );
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public List<Object> multiGet(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return List.of();
+        }
+        List<String> nonNullKeys = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            nonNullKeys.add(Objects.requireNonNull(key, "key must not be null"));
+        }
+        List<Object> values = redisTemplate.opsForValue().multiGet(nonNullKeys);
+        if (values == null) {
+            List<Object> missing = new ArrayList<>(nonNullKeys.size());
+            nonNullKeys.forEach(key -> missing.add(null));
+            return missing;
+        }
+        return values;
+    }
+
     @Override
     public void delete(String key) {
         redisTemplate.delete(Objects.requireNonNull(key, "key must not be null"));
@@ -81,30 +158,14 @@ public class RedisCacheLayer implements CacheLayer {
     @Override
     public void replaceSet(String key, Collection<?> members) {
         String nonNullKey = Objects.requireNonNull(key, "key must not be null");
-        redisTemplate.delete(nonNullKey);
-        if (members == null || members.isEmpty()) {
-            return;
-        }
-        for (Object member : members) {
-            if (member != null) {
-                redisTemplate.opsForSet().add(nonNullKey, member);
-            }
-        }
+        replace(nonNullKey, members, 0, (connection, tempKey, batch) -> connection.setCommands().sAdd(tempKey, batch));
     }
 
     @Override
     public void replaceList(String key, Collection<?> values, long ttlSeconds) {
         String nonNullKey = Objects.requireNonNull(key, "key must not be null");
-        redisTemplate.delete(nonNullKey);
-        if (values == null || values.isEmpty()) {
-            return;
-        }
-        Object[] valueArray = values.stream().filter(Objects::nonNull).toArray();
-        if (valueArray.length == 0) {
-            return;
-        }
-        redisTemplate.opsForList().rightPushAll(nonNullKey, valueArray);
-        redisTemplate.expire(nonNullKey, ttlSeconds, TimeUnit.SECONDS);
+        replace(nonNullKey, values, ttlSeconds,
+                (connection, tempKey, batch) -> connection.listCommands().rPush(tempKey, batch));
     }
 
     @Override
@@ -115,4 +176,79 @@ public class RedisCacheLayer implements CacheLayer {
                 end
         );
     }
+
+    private void replace(String key, Collection<?> values, long ttlSeconds, BatchWriter writer) {
+        RedisSerializer<String> keySerializer = keySerializer();
+        RedisSerializer<Object> valueSerializer = valueSerializer();
+        byte[] rawKey = serialize(keySerializer, key);
+        byte[] rawTempKey = serialize(keySerializer, tempKey(key));
+        List<byte[]> rawValues = new ArrayList<>(values == null ? 0 : values.size());
+        if (values != null) {
+            for (Object value : values) {
+                if (value != null) {
+                    rawValues.add(serialize(valueSerializer, value));
+                }
+            }
+        }
+        byte[] rawTtl = Long.toString(Math.max(0L, ttlSeconds)).getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.keyCommands().del(rawTempKey);
+            for (int from = 0; from < rawValues.size(); from += WRITE_BATCH_SIZE) {
+                List<byte[]> batch = rawValues.subList(from, Math.min(rawValues.size(), from + WRITE_BATCH_SIZE));
+                writer.write(connection, rawTempKey, batch.toArray(new byte[0][]));
+            }
+            if (!rawValues.isEmpty()) {
+                connection.keyCommands().expire(rawTempKey, TEMP_KEY_TTL_SECONDS);
+            }
+            connection.scriptingCommands().eval(SWAP_SCRIPT, ReturnType.INTEGER, 2, rawTempKey, rawKey, rawTtl);
+            return null;
+        });
+    }
+
+    /**
+     * 生成与目标键位于同一哈希槽的临时键。目标键已带哈希标签时直接追加后缀，否则把目标键整体作为哈希标签
+     * （目标键含不成对的 {@code '}'} 时除外，项目中的键不使用花括号）。
+     *
+     * @param key 目标键
+     * @return 临时键
+     */
+    static String tempKey(String key) {
+        String suffix = ":swap:" + UUID.randomUUID();
+        int open = key.indexOf('{');
+        if (open >= 0 && key.indexOf('}', open + 1) > open + 1) {
+            return key + suffix;
+        }
+        return "{" + key + "}" + suffix;
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<String> keySerializer() {
+        return (RedisSerializer<String>) redisTemplate.getKeySerializer();
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<Object> valueSerializer() {
+        return (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+    }
+
+    private static <T> byte[] serialize(RedisSerializer<T> serializer, T value) {
+        byte[] raw = serializer.serialize(value);
+        return Objects.requireNonNull(raw, "serialized value must not be null");
+    }
+
+    /**
+     * 向临时键写入一批已序列化的成员。
+     */
+    @FunctionalInterface
+    private interface BatchWriter {
+
+        /**
+         * 写入一批成员。
+         *
+         * @param connection Redis 连接
+         * @param tempKey 临时键
+         * @param batch 成员
+         */
+        void write(RedisConnection connection, byte[] tempKey, byte[][] batch);
+    }
 }
@@ -0,0 +1,34 @@
+package com.koduck.infrastructure.cache.codec;
+
+import java.math.BigDecimal;
+
+/**
+ * {@link BigDecimal} 的内置编解码器，覆盖最新价、昨收价等价格缓存。
+ *
+ * @author Koduck Team
+ */
+public final class BigDecimalCacheCodec implements CacheValueCodec<BigDecimal> {
+
+    /** 类型编号。 */
+    public static final int TYPE_ID = 1;
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public Class<BigDecimal> type() {
+        return BigDecimal.class;
+    }
+
+    @Override
+    public void write(BigDecimal value, CacheBinaryWriter out) {
+        out.writeDecimal(value);
+    }
+
+    @Override
+    public BigDecimal read(CacheBinaryReader in) {
+        return in.readDecimal();
+    }
+}
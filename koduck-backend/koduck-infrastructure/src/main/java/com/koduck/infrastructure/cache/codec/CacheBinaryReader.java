@@ -0,0 +1,176 @@
+package com.koduck.infrastructure.cache.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * 缓存二进制格式的输入游标，与 {@link CacheBinaryWriter} 对应。
+ *
+ * <p>内容截断或格式不符时抛出 {@link IllegalArgumentException}。</p>
+ *
+ * @author Koduck Team
+ */
+public final class CacheBinaryReader {
+
+    /** 变长长整数的最大字节数。 */
+    private static final int MAX_VAR_LONG_BYTES = 10;
+
+    /** 输入内容。 */
+    private final byte[] data;
+
+    /** 当前位置。 */
+    private int position;
+
+    /**
+     * 从指定位置开始读取。
+     *
+     * @param data     输入内容
+     * @param position 起始位置
+     */
+    public CacheBinaryReader(byte[] data, int position) {
+        this.data = data;
+        this.position = position;
+    }
+
+    /**
+     * 读取一个无符号字节。
+     *
+     * @return 0 至 255
+     */
+    public int readByte() {
+        require(1);
+        return data[position++] & 0xFF;
+    }
+
+    /**
+     * 读取布尔值。
+     *
+     * @return 值
+     */
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    /**
+     * 读取无符号变长整数。
+     *
+     * @return 值
+     */
+    public int readVarInt() {
+        long value = readVarLong();
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Varint out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * 读取无符号变长长整数。
+     *
+     * @return 值
+     */
+    public long readVarLong() {
+        long value = 0;
+        for (int i = 0; i < MAX_VAR_LONG_BYTES; i++) {
+            int current = readByte();
+            value |= (long) (current & 0x7F) << (7 * i);
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at " + position);
+    }
+
+    /**
+     * 读取有符号变长长整数。
+     *
+     * @return 值
+     */
+    public long readSignedVarLong() {
+        long raw = readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    /**
+     * 读取可空长整数。
+     *
+     * @return 值
+     */
+    public Long readNullableLong() {
+        return readBoolean() ? readSignedVarLong() : null;
+    }
+
+    /**
+     * 读取可空字符串。
+     *
+     * @return 字符串
+     */
+    public String readString() {
+        int length = readVarInt();
+        if (length == 0) {
+            return null;
+        }
+        require(length - 1);
+        String value = new String(data, position, length - 1, StandardCharsets.UTF_8);
+        position += length - 1;
+        return value;
+    }
+
+    /**
+     * 读取可空时间点。
+     *
+     * @return 时间点
+     */
+    public Instant readInstant() {
+        if (!readBoolean()) {
+            return null;
+        }
+        long seconds = readSignedVarLong();
+        return Instant.ofEpochSecond(seconds, readVarInt());
+    }
+
+    /**
+     * 读取可空十进制数。
+     *
+     * @return 十进制数
+     */
+    public BigDecimal readDecimal() {
+        int tag = readByte();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1: {
+                int scale = Math.toIntExact(readSignedVarLong());
+                return BigDecimal.valueOf(readSignedVarLong(), scale);
+            }
+            case 2: {
+                int scale = Math.toIntExact(readSignedVarLong());
+                int length = readVarInt();
+                require(length);
+                byte[] magnitude = Arrays.copyOfRange(data, position, position + length);
+                position += length;
+                return new BigDecimal(new BigInteger(magnitude), scale);
+            }
+            default:
+                throw new IllegalArgumentException("Unknown decimal tag: " + tag);
+        }
+    }
+
+    /**
+     * 剩余未读字节数。
+     *
+     * @return 字节数
+     */
+    public int remaining() {
+        return data.length - position;
+    }
+
+    private void require(int length) {
+        if (length < 0 || position + length > data.length) {
+            throw new IllegalArgumentException("Truncated cache value at " + position);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.koduck.infrastructure.cache.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * 缓存二进制格式的输出缓冲区。
+ *
+ * <p>整数使用变长编码，有符号数先做 ZigZag 变换；可空字段带一个存在标记。
+ * {@link BigDecimal} 写为标度与非标度值，能放入 {@code long} 的非标度值同样变长编码，
+ * 常见价格只占 3 至 5 个字节。</p>
+ *
+ * @author Koduck Team
+ */
+public final class CacheBinaryWriter {
+
+    /** 默认初始容量。 */
+    private static final int DEFAULT_CAPACITY = 256;
+
+    /** 缓冲区。 */
+    private byte[] buffer;
+
+    /** 已写入长度。 */
+    private int size;
+
+    /**
+     * 使用默认容量构造。
+     */
+    public CacheBinaryWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 使用指定初始容量构造。
+     *
+     * @param capacity 初始容量
+     */
+    public CacheBinaryWriter(int capacity) {
+        this.buffer = new byte[Math.max(16, capacity)];
+    }
+
+    /**
+     * 写入一个字节。
+     *
+     * @param value 字节
+     */
+    public void writeByte(int value) {
+        ensure(1);
+        buffer[size++] = (byte) value;
+    }
+
+    /**
+     * 写入布尔值。
+     *
+     * @param value 值
+     */
+    public void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * 写入无符号变长整数。
+     *
+     * @param value 非负值
+     */
+    public void writeVarInt(int value) {
+        writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    /**
+     * 写入无符号变长长整数。
+     *
+     * @param value 值，按无符号解释
+     */
+    public void writeVarLong(long value) {
+        ensure(10);
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        buffer[size++] = (byte) remaining;
+    }
+
+    /**
+     * 写入有符号变长长整数。
+     *
+     * @param value 值
+     */
+    public void writeSignedVarLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * 写入可空长整数。
+     *
+     * @param value 值
+     */
+    public void writeNullableLong(Long value) {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeSignedVarLong(value);
+        }
+    }
+
+    /**
+     * 写入可空 UTF-8 字符串，长度加一写在前面，0 表示 {@code null}。
+     *
+     * @param value 字符串
+     */
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length + 1);
+        writeBytes(bytes);
+    }
+
+    /**
+     * 写入可空时间点。
+     *
+     * @param value 时间点
+     */
+    public void writeInstant(Instant value) {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeSignedVarLong(value.getEpochSecond());
+            writeVarInt(value.getNano());
+        }
+    }
+
+    /**
+     * 写入可空十进制数：标记 0 为 {@code null}，1 为紧凑形式，2 为任意精度形式。
+     *
+     * @param value 十进制数
+     */
+    public void writeDecimal(BigDecimal value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+        BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() < Long.SIZE) {
+            writeByte(1);
+            writeSignedVarLong(value.scale());
+            writeSignedVarLong(unscaled.longValue());
+            return;
+        }
+        byte[] magnitude = unscaled.toByteArray();
+        writeByte(2);
+        writeSignedVarLong(value.scale());
+        writeVarInt(magnitude.length);
+        writeBytes(magnitude);
+    }
+
+    /**
+     * 写入原始字节。
+     *
+     * @param bytes 字节
+     */
+    public void writeBytes(byte[] bytes) {
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    /**
+     * 已写入长度。
+     *
+     * @return 字节数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 复制已写入的内容。
+     *
+     * @return 字节数组
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    private void ensure(int additional) {
+        if (size + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.koduck.infrastructure.cache.codec;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 按值类型与类型编号查找 {@link CacheValueCodec}。
+ *
+ * <p>内置编解码器总是注册；类型编号或值类型重复时拒绝启动，避免两个版本的编号含义不一致。</p>
+ *
+ * @author Koduck Team
+ */
+public final class CacheCodecRegistry {
+
+    /** 应用编解码器可用的最小类型编号。 */
+    public static final int MIN_APPLICATION_TYPE_ID = 16;
+
+    /** 按值类型索引。 */
+    private final Map<Class<?>, CacheValueCodec<?>> byType = new HashMap<>();
+
+    /** 按类型编号索引。 */
+    private final Map<Integer, CacheValueCodec<?>> byId = new HashMap<>();
+
+    /**
+     * 使用内置与应用编解码器构造。
+     *
+     * @param codecs 应用编解码器
+     */
+    public CacheCodecRegistry(Collection<? extends CacheValueCodec<?>> codecs) {
+        register(new BigDecimalCacheCodec());
+        for (CacheValueCodec<?> codec : codecs) {
+            if (codec.typeId() < MIN_APPLICATION_TYPE_ID) {
+                throw new IllegalArgumentException("Cache codec type id " + codec.typeId()
+                        + " is reserved, use " + MIN_APPLICATION_TYPE_ID + " or above: " + codec.getClass().getName());
+            }
+            register(codec);
+        }
+    }
+
+    /**
+     * 只包含内置编解码器的注册表。
+     *
+     * @return 注册表
+     */
+    public static CacheCodecRegistry builtIn() {
+        return new CacheCodecRegistry(List.of());
+    }
+
+    /**
+     * 查找值类型的编解码器。
+     *
+     * @param type 值类型
+     * @return 编解码器，未注册时为 {@code null}
+     */
+    public CacheValueCodec<?> forType(Class<?> type) {
+        return byType.get(type);
+    }
+
+    /**
+     * 查找类型编号的编解码器。
+     *
+     * @param typeId 类型编号
+     * @return 编解码器，未注册时为 {@code null}
+     */
+    public CacheValueCodec<?> forId(int typeId) {
+        return byId.get(typeId);
+    }
+
+    private void register(CacheValueCodec<?> codec) {
+        Objects.requireNonNull(codec.type(), "codec type must not be null");
+        CacheValueCodec<?> sameId = byId.putIfAbsent(codec.typeId(), codec);
+        if (sameId != null) {
+            throw new IllegalArgumentException("Duplicate cache codec type id " + codec.typeId() + ": "
+                    + sameId.getClass().getName() + ", " + codec.getClass().getName());
+        }
+        CacheValueCodec<?> sameType = byType.putIfAbsent(codec.type(), codec);
+        if (sameType != null) {
+            throw new IllegalArgumentException("Duplicate cache codec for " + codec.type().getName());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.koduck.infrastructure.cache.codec;
+
+/**
+ * 单一类型缓存值的二进制编解码器。
+ *
+ * <p>实现类注册为 Spring Bean 后由缓存配置收集。{@link #typeId()} 写入每个条目的头部，
+ * 一经上线不可复用：字段布局变化时应分配新的 {@code typeId}，旧编号写入的条目在读取时视为未命中。</p>
+ *
+ * @param <T> 值类型
+ * @author Koduck Team
+ */
+public interface CacheValueCodec<T> {
+
+    /**
+     * 类型编号，1 至 15 保留给内置编解码器。
+     *
+     * @return 类型编号
+     */
+    int typeId();
+
+    /**
+     * 编解码的值类型，按精确类型匹配。
+     *
+     * @return 值类型
+     */
+    Class<T> type();
+
+    /**
+     * 写入一个非空值。
+     *
+     * @param value 值
+     * @param out   输出
+     */
+    void write(T value, CacheBinaryWriter out);
+
+    /**
+     * 读取一个值。
+     *
+     * @param in 输入
+     * @return 值
+     */
+    T read(CacheBinaryReader in);
+}
@@ -0,0 +1,21 @@
+package com.koduck.infrastructure.cache.codec;
+
+/**
+ * 缓存值的写入格式。
+ *
+ * <p>读取时两种格式都能识别，此设置只决定新写入的条目使用哪种格式。</p>
+ *
+ * @author Koduck Team
+ */
+public enum CacheValueFormat {
+
+    /**
+     * 带类型信息的 JSON，与 {@code GenericJackson2JsonRedisSerializer} 的输出相同。
+     */
+    JSON,
+
+    /**
+     * 带版本头的二进制格式；没有注册编解码器的值仍写为 JSON。
+     */
+    BINARY
+}
@@ -0,0 +1,197 @@
+package com.koduck.infrastructure.cache.codec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 同时读取 JSON 与二进制缓存值的 Redis 序列化器。
+ *
+ * <p>二进制条目以 {@code 0xB1} 开头，这个字节不可能是 UTF-8 文本的首字节，
+ * 因此不带头部的内容一律交给 JSON 序列化器。头部依次为格式版本、值形态（单值或列表）与类型编号，
+ * 随后是编解码器写入的字段：</p>
+ * <pre>
+ * 0xB1 | version | kind | typeId(varint) | payload
+ * </pre>
+ *
+ * <p>写入格式为 {@link CacheValueFormat#BINARY} 时，注册了编解码器的值及其非空同类型列表写为二进制，
+ * 其余值仍写为 JSON。读取不受写入格式影响：滚动发布时先让所有实例升级到能读取二进制的版本，
+ * 再按缓存开启二进制写入。格式版本或类型编号无法识别的条目（由更新的版本写入）按未命中处理，
+ * 由调用方重新加载后覆盖；内容损坏则抛出 {@link SerializationException}。</p>
+ *
+ * @author Koduck Team
+ */
+@Slf4j
+public class VersionedCacheSerializer implements RedisSerializer<Object> {
+
+    /** 二进制条目的首字节。 */
+    static final byte MAGIC = (byte) 0xB1;
+
+    /** 当前二进制格式版本。 */
+    static final int FORMAT_VERSION = 1;
+
+    /** 单值条目。 */
+    static final int KIND_VALUE = 0;
+
+    /** 同类型列表条目。 */
+    static final int KIND_LIST = 1;
+
+    /** 头部长度上限：首字节、版本、形态与最长 5 字节的类型编号。 */
+    private static final int HEADER_CAPACITY = 8;
+
+    /** JSON 序列化器，处理旧条目与没有编解码器的值。 */
+    private final RedisSerializer<Object> jsonSerializer;
+
+    /** 编解码器注册表。 */
+    private final CacheCodecRegistry registry;
+
+    /** 新条目的写入格式。 */
+    private final CacheValueFormat writeFormat;
+
+    /**
+     * 构造序列化器。
+     *
+     * @param jsonSerializer JSON 序列化器
+     * @param registry       编解码器注册表
+     * @param writeFormat    写入格式
+     */
+    public VersionedCacheSerializer(RedisSerializer<Object> jsonSerializer, CacheCodecRegistry registry,
+                                    CacheValueFormat writeFormat) {
+        this.jsonSerializer = Objects.requireNonNull(jsonSerializer, "jsonSerializer must not be null");
+        this.registry = Objects.requireNonNull(registry, "registry must not be null");
+        this.writeFormat = Objects.requireNonNull(writeFormat, "writeFormat must not be null");
+    }
+
+    /**
+     * 新条目的写入格式。
+     *
+     * @return 写入格式
+     */
+    public CacheValueFormat getWriteFormat() {
+        return writeFormat;
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (writeFormat == CacheValueFormat.BINARY && value != null) {
+            byte[] encoded = encode(value);
+            if (encoded != null) {
+                return encoded;
+            }
+        }
+        return jsonSerializer.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return jsonSerializer.deserialize(bytes);
+        }
+        try {
+            return decode(bytes);
+        }
+        catch (IllegalArgumentException | ArithmeticException e) {
+            throw new SerializationException("Could not read binary cache value: " + e.getMessage(), e);
+        }
+    }
+
+    private byte[] encode(Object value) {
+        if (value instanceof List<?> list) {
+            CacheValueCodec<?> codec = listCodec(list);
+            if (codec == null) {
+                return null;
+            }
+            CacheBinaryWriter out = header(KIND_LIST, codec, HEADER_CAPACITY + list.size() * 32);
+            out.writeVarInt(list.size());
+            for (Object element : list) {
+                writeValue(codec, element, out);
+            }
+            return out.toByteArray();
+        }
+        CacheValueCodec<?> codec = registry.forType(value.getClass());
+        if (codec == null) {
+            return null;
+        }
+        CacheBinaryWriter out = header(KIND_VALUE, codec, HEADER_CAPACITY + 32);
+        writeValue(codec, value, out);
+        return out.toByteArray();
+    }
+
+    private CacheValueCodec<?> listCodec(List<?> list) {
+        if (list.isEmpty() || list.get(0) == null) {
+            return null;
+        }
+        Class<?> type = list.get(0).getClass();
+        CacheValueCodec<?> codec = registry.forType(type);
+        if (codec == null) {
+            return null;
+        }
+        for (Object element : list) {
+            if (element == null || element.getClass() != type) {
+                return null;
+            }
+        }
+        return codec;
+    }
+
+    private static CacheBinaryWriter header(int kind, CacheValueCodec<?> codec, int capacity) {
+        CacheBinaryWriter out = new CacheBinaryWriter(capacity);
+        out.writeByte(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+        out.writeByte(kind);
+        out.writeVarInt(codec.typeId());
+        return out;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void writeValue(CacheValueCodec<T> codec, Object value, CacheBinaryWriter out) {
+        codec.write((T) value, out);
+    }
+
+    private Object decode(byte[] bytes) {
+        CacheBinaryReader in = new CacheBinaryReader(bytes, 1);
+        int version = in.readByte();
+        if (version != FORMAT_VERSION) {
+            log.debug("Skipping cache value with unsupported binary format version {}", version);
+            return null;
+        }
+        int kind = in.readByte();
+        int typeId = in.readVarInt();
+        CacheValueCodec<?> codec = registry.forId(typeId);
+        if (codec == null) {
+            log.debug("Skipping cache value with unknown binary type id {}", typeId);
+            return null;
+        }
+        Object result;
+        if (kind == KIND_VALUE) {
+            result = codec.read(in);
+        }
+        else if (kind == KIND_LIST) {
+            int count = in.readVarInt();
+            if (count > in.remaining()) {
+                throw new IllegalArgumentException("List length " + count + " exceeds payload");
+            }
+            List<Object> values = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                values.add(codec.read(in));
+            }
+            result = values;
+        }
+        else {
+            throw new IllegalArgumentException("Unknown value kind: " + kind);
+        }
+        if (in.remaining() != 0) {
+            throw new IllegalArgumentException(
+                    in.remaining() + " trailing bytes after " + codec.type().getSimpleName());
+        }
+        return result;
+    }
+}
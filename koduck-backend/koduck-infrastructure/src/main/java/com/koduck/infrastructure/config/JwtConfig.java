@@ -46,6 +46,16 @@ public class JwtConfig {
      */
     private static final String DEFAULT_HEADER_NAME = HttpHeaderConstants.AUTHORIZATION;
 
+    /**
+     * Default maximum number of cached verified tokens.
+     */
+    private static final int DEFAULT_AUTH_CACHE_MAX_ENTRIES = 10_000;
+
+    /**
+     * Default maximum lifetime of a cached principal: 5 minutes in milliseconds.
+     */
+    private static final long DEFAULT_AUTH_CACHE_TTL_MS = 300_000L;
+
     /**
      * Secret key used to sign JWT tokens. Should be a secure random string.
      */
@@ -71,4 +81,34 @@ public class JwtConfig {
      * HTTP header name where the JWT is expected (default "Authorization").
      */
     private String headerName = DEFAULT_HEADER_NAME;
+
+    /**
+     * Cache of verified tokens and their principals used by the authentication filter.
+     */
+    private AuthCache authCache = new AuthCache();
+
+    /**
+     * Verified token cache settings.
+     */
+    @Data
+    public static class AuthCache {
+
+        /**
+         * Whether verified tokens and principals are cached (default false). Keep it off until the
+         * logout and password reset paths publish {@code UserTokensRevokedEvent}; until then a cached
+         * principal outlives logout, deletion or demotion for up to {@link #ttlMs}.
+         */
+        private boolean enabled;
+
+        /**
+         * Maximum number of cached tokens; new tokens are not cached while full (default 10,000).
+         */
+        private int maxEntries = DEFAULT_AUTH_CACHE_MAX_ENTRIES;
+
+        /**
+         * Maximum lifetime of a cached principal in milliseconds, further capped by the token expiry
+         * (default 5 minutes).
+         */
+        private long ttlMs = DEFAULT_AUTH_CACHE_TTL_MS;
+    }
 }
@@ -5,6 +5,7 @@ import java.util.Objects;
 
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.rabbit.annotation.EnableRabbit;
@@ -55,6 +56,67 @@ public class RabbitPricePushConfig {
         );
     }
 
+    /**
+     * Per-node queue used when symbol routing is enabled.
+     *
+     * <p>The queue is non-durable and auto-deleted once its consumers go away; {@code x-expires}
+     * removes it if the node dies before its consumer ever attached. Bindings are maintained at
+     * runtime from local subscriptions rather than declared here.</p>
+     *
+     * @param properties price push properties
+     * @return the node queue
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "koduck.messaging.price-push", name = "symbol-routing-enabled",
+        havingValue = "true")
+    public Queue pricePushNodeQueue(PricePushRabbitProperties properties) {
+        return new Queue(
+            properties.getNodeQueue(),
+            false,
+            false,
+            true,
+            Map.of(
+                "x-dead-letter-exchange", properties.getDeadLetterExchange(),
+                "x-dead-letter-routing-key", properties.getDeadLetterRoutingKey(),
+                "x-expires", properties.getNodeQueueExpiresMs()
+            )
+        );
+    }
+
+    /**
+     * Per-node broadcast queue used when symbol routing is disabled.
+     *
+     * <p>Bound with the shared routing key next to the shared queue, so the direct exchange delivers
+     * every quote to every node. Non-durable and auto-deleted like the node queue. Nothing is
+     * declared when {@link PricePushRabbitProperties#isBroadcastActive()} is false.</p>
+     *
+     * @param pricePushExchange price exchange
+     * @param properties        price push properties
+     * @return the broadcast queue and its binding, or nothing
+     */
+    @Bean
+    public Declarables pricePushBroadcastDeclarables(@Qualifier("pricePushExchange") DirectExchange pricePushExchange,
+                                                     PricePushRabbitProperties properties) {
+        if (!properties.isBroadcastActive()) {
+            return new Declarables();
+        }
+        Queue queue = new Queue(
+            properties.getBroadcastQueue(),
+            false,
+            false,
+            true,
+            Map.of(
+                "x-dead-letter-exchange", properties.getDeadLetterExchange(),
+                "x-dead-letter-routing-key", properties.getDeadLetterRoutingKey(),
+                "x-expires", properties.getNodeQueueExpiresMs()
+            )
+        );
+        Binding binding = BindingBuilder.bind(queue)
+            .to(pricePushExchange)
+            .with(properties.getRoutingKey());
+        return new Declarables(queue, binding);
+    }
+
     @Bean
     public Queue pricePushDeadLetterQueue(PricePushRabbitProperties properties) {
         return new Queue(properties.getDeadLetterQueue(), true);
@@ -83,13 +145,33 @@ public class RabbitPricePushConfig {
         return new Jackson2JsonMessageConverter(Objects.requireNonNull(objectMapper, "objectMapper must not be null"));
     }
 
+    /**
+     * Batch listener container factory for the realtime price queue.
+     *
+     * <p>Messages are delivered to the listener as raw {@code List<Message>} batches so the
+     * consumer can decode payloads itself instead of going through the type-header driven
+     * {@link Jackson2JsonMessageConverter}. Concurrency, prefetch and batch sizing come from
+     * {@link PricePushRabbitProperties}.</p>
+     *
+     * @param connectionFactory the RabbitMQ connection factory
+     * @param properties        price push properties
+     * @return the container factory
+     */
     @Bean(name = "pricePushRabbitListenerContainerFactory")
     public SimpleRabbitListenerContainerFactory pricePushRabbitListenerContainerFactory(
         ConnectionFactory connectionFactory,
-        MessageConverter rabbitMessageConverter) {
+        PricePushRabbitProperties properties) {
+        int concurrency = Math.max(1, properties.getConsumerConcurrency());
+        int batchSize = Math.max(1, properties.getBatchSize());
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
-        factory.setMessageConverter(rabbitMessageConverter);
+        factory.setConcurrentConsumers(concurrency);
+        factory.setMaxConcurrentConsumers(Math.max(concurrency, properties.getConsumerMaxConcurrency()));
+        factory.setPrefetchCount(Math.max(batchSize, properties.getPrefetch()));
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(Math.max(1L, properties.getBatchReceiveTimeoutMs()));
         factory.setDefaultRequeueRejected(false);
         return factory;
     }
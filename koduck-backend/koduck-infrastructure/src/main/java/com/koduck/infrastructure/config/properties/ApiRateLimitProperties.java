@@ -0,0 +1,106 @@
+package com.koduck.infrastructure.config.properties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Properties for request-level API rate limiting.
+ * <p>
+ * This class binds the prefix {@code koduck.rate-limit.api}. Each rule applies a token bucket to the
+ * requests matching its path pattern (and HTTP methods, when given), keyed by the authenticated user id
+ * or, for anonymous requests, the client IP. The first matching rule wins.
+ * </p>
+ *
+ * @author Koduck Team
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "koduck.rate-limit.api")
+public class ApiRateLimitProperties {
+
+    /**
+     * Whether API rate limiting is enabled.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Bucket store.
+     */
+    private Store store = Store.MEMORY;
+
+    /**
+     * Rules in match order.
+     */
+    private List<Rule> rules = new ArrayList<>();
+
+    /**
+     * Token bucket store.
+     */
+    public enum Store {
+
+        /**
+         * Per-instance buckets in memory.
+         */
+        MEMORY,
+
+        /**
+         * Cluster-wide buckets in Redis, updated by an atomic script.
+         */
+        REDIS
+    }
+
+    /**
+     * Rate limit rule for a route pattern.
+     */
+    @Getter
+    @Setter
+    public static class Rule {
+
+        /**
+         * Rule name, used in bucket keys and logs. Defaults to the pattern.
+         */
+        private String name;
+
+        /**
+         * Path pattern, e.g. {@code /api/v1/market/stocks/{symbol}/kline}.
+         */
+        private String pattern;
+
+        /**
+         * HTTP methods the rule applies to; empty means all methods.
+         */
+        private List<String> methods = new ArrayList<>();
+
+        /**
+         * Bucket capacity, the largest burst allowed.
+         */
+        private long capacity = 20;
+
+        /**
+         * Tokens added every refill period.
+         */
+        private long refillTokens = 10;
+
+        /**
+         * Refill period.
+         */
+        private Duration refillPeriod = Duration.ofSeconds(1);
+
+        /**
+         * Returns the rule name, defaulting to the pattern.
+         *
+         * @return rule name
+         */
+        public String getName() {
+            return name != null ? name : pattern;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.koduck.infrastructure.config.properties;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 import jakarta.annotation.PostConstruct;
 
@@ -8,6 +10,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 
+import com.koduck.infrastructure.cache.codec.CacheValueFormat;
+
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -80,13 +84,25 @@ public class CacheProperties {
      */
     private Duration portfolioSummaryTtl = Duration.ofHours(1);
 
+    /**
+     * Value format written by caches without an entry in {@link #valueFormats}.
+     */
+    private CacheValueFormat valueFormat = CacheValueFormat.JSON;
+
+    /**
+     * Per-cache value format overrides keyed by cache name. Both formats are always readable,
+     * so switching a cache to {@code binary} only affects new entries.
+     */
+    private Map<String, CacheValueFormat> valueFormats = new HashMap<>();
+
     /**
      * Logs the effective cache TTL configuration after construction.
      */
     @PostConstruct
     public void init() {
-        log.info("[CacheProperties] defaultTtl={}, klineTtl={}, priceTtl={}, marketSearchTtl={}",
-                defaultTtl, klineTtl, priceTtl, marketSearchTtl);
+        log.info("[CacheProperties] defaultTtl={}, klineTtl={}, priceTtl={}, marketSearchTtl={}, "
+                + "valueFormat={}, valueFormats={}",
+                defaultTtl, klineTtl, priceTtl, marketSearchTtl, valueFormat, valueFormats);
     }
 
     /**
@@ -250,4 +266,54 @@ public class CacheProperties {
     public void setPortfolioSummaryTtl(Duration portfolioSummaryTtl) {
         this.portfolioSummaryTtl = portfolioSummaryTtl;
     }
+
+    /**
+     * Gets the default cache value format.
+     *
+     * @return default value format
+     */
+    public CacheValueFormat getValueFormat() {
+        return valueFormat;
+    }
+
+    /**
+     * Sets the default cache value format.
+     *
+     * @param valueFormat default value format
+     */
+    public void setValueFormat(CacheValueFormat valueFormat) {
+        this.valueFormat = valueFormat;
+    }
+
+    /**
+     * Gets the per-cache value format overrides.
+     *
+     * @return value formats keyed by cache name
+     */
+    public Map<String, CacheValueFormat> getValueFormats() {
+        return valueFormats;
+    }
+
+    /**
+     * Sets the per-cache value format overrides.
+     *
+     * @param valueFormats value formats keyed by cache name
+     */
+    public void setValueFormats(Map<String, CacheValueFormat> valueFormats) {
+        this.valueFormats = valueFormats;
+    }
+
+    /**
+     * Resolves the value format written by the given cache.
+     *
+     * @param cacheName cache name
+     * @return the override for the cache, or the default value format
+     */
+    public CacheValueFormat resolveValueFormat(String cacheName) {
+        CacheValueFormat format = valueFormats == null ? null : valueFormats.get(cacheName);
+        if (format != null) {
+            return format;
+        }
+        return valueFormat == null ? CacheValueFormat.JSON : valueFormat;
+    }
 }
@@ -0,0 +1,56 @@
+package com.koduck.infrastructure.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Properties for password hashing.
+ * <p>
+ * This class binds the prefix {@code koduck.security.password-hashing}. BCrypt runs on a dedicated,
+ * bounded executor so a burst of logins cannot take every CPU; requests beyond the queue are shed.
+ * Raising {@code strength} rehashes each password at its owner's next successful login.
+ * </p>
+ *
+ * @author Koduck Team
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "koduck.security.password-hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * Default BCrypt cost factor.
+     */
+    private static final int DEFAULT_STRENGTH = 10;
+
+    /**
+     * Default queue capacity.
+     */
+    private static final int DEFAULT_QUEUE_CAPACITY = 64;
+
+    /**
+     * BCrypt cost factor (4-31); each increment doubles the hashing time.
+     */
+    private int strength = DEFAULT_STRENGTH;
+
+    /**
+     * Hashing threads; defaults to half of the available processors.
+     */
+    private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * Hashing requests allowed to wait for a thread before new ones are rejected.
+     */
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+    /**
+     * Longest time a caller waits for a queued hash before giving up.
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+}
@@ -1,5 +1,7 @@
 package com.koduck.infrastructure.config.properties;
 
+import java.util.UUID;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,6 +14,27 @@ import org.springframework.context.annotation.Configuration;
 @ConfigurationProperties(prefix = "koduck.messaging.price-push")
 public class PricePushRabbitProperties {
 
+    /** Default number of concurrent consumers. */
+    private static final int DEFAULT_CONSUMER_CONCURRENCY = 2;
+
+    /** Default upper bound of concurrent consumers. */
+    private static final int DEFAULT_CONSUMER_MAX_CONCURRENCY = 8;
+
+    /** Default per-consumer prefetch count. */
+    private static final int DEFAULT_PREFETCH = 500;
+
+    /** Default number of messages assembled into one listener batch. */
+    private static final int DEFAULT_BATCH_SIZE = 200;
+
+    /** Default time in milliseconds to wait for a batch to fill up. */
+    private static final long DEFAULT_BATCH_RECEIVE_TIMEOUT_MS = 50L;
+
+    /** Default interval in milliseconds between symbol-interest binding reconciliations. */
+    private static final long DEFAULT_INTEREST_SYNC_INTERVAL_MS = 1000L;
+
+    /** Default idle time in milliseconds before the broker deletes an orphaned node queue. */
+    private static final long DEFAULT_NODE_QUEUE_EXPIRES_MS = 60_000L;
+
     /** Whether the price push pipeline is enabled. */
     private boolean enabled = true;
 
@@ -33,6 +56,50 @@ public class PricePushRabbitProperties {
     /** Dead letter routing key. */
     private String deadLetterRoutingKey = "stock.realtime.dlq";
 
+    /** Number of concurrent consumers started for the realtime queue. */
+    private int consumerConcurrency = DEFAULT_CONSUMER_CONCURRENCY;
+
+    /** Upper bound of concurrent consumers when the queue backs up. */
+    private int consumerMaxConcurrency = DEFAULT_CONSUMER_MAX_CONCURRENCY;
+
+    /** Unacknowledged messages each consumer may hold; never lower than {@link #batchSize}. */
+    private int prefetch = DEFAULT_PREFETCH;
+
+    /** Number of messages delivered to the listener in one batch. */
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /** Time in milliseconds to wait for a partial batch before delivering it. */
+    private long batchReceiveTimeoutMs = DEFAULT_BATCH_RECEIVE_TIMEOUT_MS;
+
+    /**
+     * Whether each node consumes from its own queue bound only to the symbols its local
+     * clients subscribe to. Requires the publisher to use per-symbol routing keys
+     * ({@code <routing-key>.<symbol>}).
+     */
+    private boolean symbolRoutingEnabled;
+
+    /** Identifier of this node, used to name its queue when symbol routing is enabled. */
+    private String nodeId = UUID.randomUUID().toString();
+
+    /** Name prefix of per-node queues. */
+    private String nodeQueuePrefix = "koduck.price.realtime.node.";
+
+    /** Idle time in milliseconds after which the broker deletes an orphaned node queue. */
+    private long nodeQueueExpiresMs = DEFAULT_NODE_QUEUE_EXPIRES_MS;
+
+    /** Interval in milliseconds between symbol-interest binding reconciliations. */
+    private long interestSyncIntervalMs = DEFAULT_INTEREST_SYNC_INTERVAL_MS;
+
+    /**
+     * Whether each node also receives every quote on its own broadcast queue while symbol routing
+     * is disabled. The shared queue splits quotes between nodes as competing consumers; node-local
+     * state such as live portfolio valuation is fed from the broadcast queue instead.
+     */
+    private boolean broadcastEnabled = true;
+
+    /** Name prefix of per-node broadcast queues. */
+    private String broadcastQueuePrefix = "koduck.price.realtime.broadcast.";
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -88,4 +155,147 @@ public class PricePushRabbitProperties {
     public void setDeadLetterRoutingKey(String deadLetterRoutingKey) {
         this.deadLetterRoutingKey = deadLetterRoutingKey;
     }
+
+    public int getConsumerConcurrency() {
+        return consumerConcurrency;
+    }
+
+    public void setConsumerConcurrency(int consumerConcurrency) {
+        this.consumerConcurrency = consumerConcurrency;
+    }
+
+    public int getConsumerMaxConcurrency() {
+        return consumerMaxConcurrency;
+    }
+
+    public void setConsumerMaxConcurrency(int consumerMaxConcurrency) {
+        this.consumerMaxConcurrency = consumerMaxConcurrency;
+    }
+
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    public void setPrefetch(int prefetch) {
+        this.prefetch = prefetch;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getBatchReceiveTimeoutMs() {
+        return batchReceiveTimeoutMs;
+    }
+
+    public void setBatchReceiveTimeoutMs(long batchReceiveTimeoutMs) {
+        this.batchReceiveTimeoutMs = batchReceiveTimeoutMs;
+    }
+
+    public boolean isSymbolRoutingEnabled() {
+        return symbolRoutingEnabled;
+    }
+
+    public void setSymbolRoutingEnabled(boolean symbolRoutingEnabled) {
+        this.symbolRoutingEnabled = symbolRoutingEnabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public String getNodeQueuePrefix() {
+        return nodeQueuePrefix;
+    }
+
+    public void setNodeQueuePrefix(String nodeQueuePrefix) {
+        this.nodeQueuePrefix = nodeQueuePrefix;
+    }
+
+    public long getNodeQueueExpiresMs() {
+        return nodeQueueExpiresMs;
+    }
+
+    public void setNodeQueueExpiresMs(long nodeQueueExpiresMs) {
+        this.nodeQueueExpiresMs = nodeQueueExpiresMs;
+    }
+
+    public long getInterestSyncIntervalMs() {
+        return interestSyncIntervalMs;
+    }
+
+    public void setInterestSyncIntervalMs(long interestSyncIntervalMs) {
+        this.interestSyncIntervalMs = interestSyncIntervalMs;
+    }
+
+    public boolean isBroadcastEnabled() {
+        return broadcastEnabled;
+    }
+
+    public void setBroadcastEnabled(boolean broadcastEnabled) {
+        this.broadcastEnabled = broadcastEnabled;
+    }
+
+    public String getBroadcastQueuePrefix() {
+        return broadcastQueuePrefix;
+    }
+
+    public void setBroadcastQueuePrefix(String broadcastQueuePrefix) {
+        this.broadcastQueuePrefix = broadcastQueuePrefix;
+    }
+
+    /**
+     * Name of this node's queue when symbol routing is enabled.
+     *
+     * @return node queue name
+     */
+    public String getNodeQueue() {
+        return nodeQueuePrefix + nodeId;
+    }
+
+    /**
+     * Name of this node's broadcast queue.
+     *
+     * @return broadcast queue name
+     */
+    public String getBroadcastQueue() {
+        return broadcastQueuePrefix + nodeId;
+    }
+
+    /**
+     * Whether this node consumes a broadcast queue. Only possible without symbol routing: routed
+     * messages carry per-symbol routing keys, which a queue bound with the shared key never sees.
+     *
+     * @return {@code true} when the broadcast queue is declared and consumed
+     */
+    public boolean isBroadcastActive() {
+        return broadcastEnabled && !symbolRoutingEnabled;
+    }
+
+    /**
+     * Queue the realtime price listener consumes from.
+     *
+     * @return the node queue when symbol routing is enabled, otherwise the shared queue
+     */
+    public String getConsumerQueue() {
+        return symbolRoutingEnabled ? getNodeQueue() : queue;
+    }
+
+    /**
+     * Routing key the publisher uses for one symbol when symbol routing is enabled.
+     *
+     * @param symbol stock symbol
+     * @return per-symbol routing key
+     */
+    public String symbolRoutingKey(String symbol) {
+        return routingKey + "." + symbol;
+    }
 }
@@ -7,6 +7,7 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.validation.annotation.Validated;
 
@@ -60,6 +61,10 @@ public record RateLimitProperties(
 
     /**
      * Login failure throttling configuration.
+     *
+     * <p>Failures are counted with a sliding window counter, in memory per instance or in Redis
+     * when limits must hold across the cluster. Audit rows are written to {@code login_attempts}
+     * asynchronously in batches.</p>
      */
     public static final class LoginFailure {
 
@@ -78,6 +83,16 @@ public record RateLimitProperties(
          */
         private static final Duration DEFAULT_WINDOW_DURATION = Duration.ofMinutes(15);
 
+        /**
+         * Default audit batch size.
+         */
+        private static final int DEFAULT_AUDIT_BATCH_SIZE = 500;
+
+        /**
+         * Default audit queue capacity.
+         */
+        private static final int DEFAULT_AUDIT_QUEUE_CAPACITY = 10_000;
+
         /**
          * Maximum failures per user.
          */
@@ -93,20 +108,57 @@ public record RateLimitProperties(
          */
         private final Duration windowDuration;
 
+        /**
+         * Counter store.
+         */
+        private final Store store;
+
+        /**
+         * Audit rows written per batch.
+         */
+        private final int auditBatchSize;
+
+        /**
+         * Audit rows buffered before new rows are dropped.
+         */
+        private final int auditQueueCapacity;
+
         /**
          * Creates login failure settings with constructor binding.
          *
          * @param maxFailuresPerUser maximum failures per user
          * @param maxFailuresPerIp maximum failures per IP
          * @param windowDuration throttling window duration
+         * @param store counter store
+         * @param auditBatchSize audit rows written per batch
+         * @param auditQueueCapacity audit rows buffered before new rows are dropped
          */
+        @ConstructorBinding
         public LoginFailure(
                 @DefaultValue("5") @Min(1) int maxFailuresPerUser,
                 @DefaultValue("20") @Min(1) int maxFailuresPerIp,
-                @DefaultValue("15m") @NotNull Duration windowDuration) {
+                @DefaultValue("15m") @NotNull Duration windowDuration,
+                @DefaultValue("MEMORY") @NotNull Store store,
+                @DefaultValue("500") @Min(1) int auditBatchSize,
+                @DefaultValue("10000") @Min(1) int auditQueueCapacity) {
             this.maxFailuresPerUser = maxFailuresPerUser;
             this.maxFailuresPerIp = maxFailuresPerIp;
             this.windowDuration = Objects.requireNonNull(windowDuration, "windowDuration must not be null");
+            this.store = Objects.requireNonNull(store, "store must not be null");
+            this.auditBatchSize = auditBatchSize;
+            this.auditQueueCapacity = auditQueueCapacity;
+        }
+
+        /**
+         * Creates login failure settings with the in-memory store and default audit batching.
+         *
+         * @param maxFailuresPerUser maximum failures per user
+         * @param maxFailuresPerIp maximum failures per IP
+         * @param windowDuration throttling window duration
+         */
+        public LoginFailure(int maxFailuresPerUser, int maxFailuresPerIp, Duration windowDuration) {
+            this(maxFailuresPerUser, maxFailuresPerIp, windowDuration, Store.MEMORY,
+                    DEFAULT_AUDIT_BATCH_SIZE, DEFAULT_AUDIT_QUEUE_CAPACITY);
         }
 
         /**
@@ -145,6 +197,49 @@ public record RateLimitProperties(
         public Duration getWindowDuration() {
             return windowDuration;
         }
+
+        /**
+         * Gets the failure counter store.
+         *
+         * @return counter store
+         */
+        public Store getStore() {
+            return store;
+        }
+
+        /**
+         * Gets the number of audit rows written per batch.
+         *
+         * @return audit batch size
+         */
+        public int getAuditBatchSize() {
+            return auditBatchSize;
+        }
+
+        /**
+         * Gets the number of audit rows buffered before new rows are dropped.
+         *
+         * @return audit queue capacity
+         */
+        public int getAuditQueueCapacity() {
+            return auditQueueCapacity;
+        }
+
+        /**
+         * Failure counter store.
+         */
+        public enum Store {
+
+            /**
+             * Per-instance counters in memory.
+             */
+            MEMORY,
+
+            /**
+             * Cluster-wide counters in Redis, updated by an atomic script.
+             */
+            REDIS
+        }
     }
 
     /**
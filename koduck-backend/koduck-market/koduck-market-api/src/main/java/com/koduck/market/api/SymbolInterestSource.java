@@ -0,0 +1,22 @@
+package com.koduck.market.api;
+
+import java.util.Set;
+
+/**
+ * 本节点需要接收实时行情的股票来源。
+ *
+ * <p>开启按股票路由（{@code koduck.messaging.price-push.symbol-routing-enabled}）后，
+ * 节点队列只绑定本地 WebSocket 订阅的股票以及各模块通过本接口声明的股票，
+ * 例如持仓实时估值需要在线用户持有的股票。实现应返回当前集合的快照，调用频率为每个同步周期一次。</p>
+ *
+ * @author Koduck Team
+ */
+public interface SymbolInterestSource {
+
+    /**
+     * 当前需要接收行情的股票代码。
+     *
+     * @return 股票代码集合，没有时返回空集合
+     */
+    Set<String> interestedSymbols();
+}
@@ -0,0 +1,33 @@
+package com.koduck.market.dto.screener;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * 选股条件：{@code field operator value} 或 {@code field operator compareTo × multiplier}。
+ *
+ * <p>字段写法如 {@code close}、{@code volume}、{@code changePercent}、{@code rsi(14)}、
+ * {@code lower(20)}（布林带下轨）、{@code ma(20)}、{@code volumeMa(20)}。</p>
+ *
+ * @param field      左侧字段
+ * @param operator   比较运算符：{@code >}、{@code >=}、{@code <}、{@code <=}
+ * @param value      比较常量，与 {@code compareTo} 二选一
+ * @param compareTo  右侧字段
+ * @param multiplier 右侧字段倍数，默认 1
+ * @author Koduck Team
+ */
+public record ScreenerCondition(
+    @NotBlank(message = "字段不能为空")
+    String field,
+
+    @NotBlank(message = "运算符不能为空")
+    String operator,
+
+    BigDecimal value,
+
+    String compareTo,
+
+    BigDecimal multiplier
+) {
+}
@@ -0,0 +1,72 @@
+package com.koduck.market.dto.screener;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import com.koduck.util.CollectionCopyUtils;
+
+/**
+ * 全市场选股请求。
+ *
+ * <p>{@code allOf} 中的条件必须全部成立；{@code anyOf} 非空时其中至少一个成立。
+ * 结果按 {@code sortBy} 字段排序，默认按涨跌幅降序。</p>
+ *
+ * @param allOf      必须全部成立的条件
+ * @param anyOf      至少一个成立的条件
+ * @param sortBy     排序字段
+ * @param descending 是否降序，默认 true
+ * @param limit      返回条数
+ * @author Koduck Team
+ */
+public record ScreenerRequest(
+    @Valid
+    List<ScreenerCondition> allOf,
+
+    @Valid
+    List<ScreenerCondition> anyOf,
+
+    String sortBy,
+
+    Boolean descending,
+
+    @Min(value = 1, message = "返回条数最小为 1")
+    @Max(value = 500, message = "返回条数最大为 500")
+    Integer limit
+) {
+
+    /** 默认排序字段。 */
+    private static final String DEFAULT_SORT = "changePercent";
+
+    /**
+     * 紧凑构造函数，用于填充默认值并创建条件的防御性拷贝。
+     *
+     * @param allOf      必须全部成立的条件
+     * @param anyOf      至少一个成立的条件
+     * @param sortBy     排序字段
+     * @param descending 是否降序
+     * @param limit      返回条数
+     */
+    public ScreenerRequest {
+        allOf = allOf == null ? List.of() : CollectionCopyUtils.copyList(allOf);
+        anyOf = anyOf == null ? List.of() : CollectionCopyUtils.copyList(anyOf);
+        if (sortBy == null || sortBy.isBlank()) {
+            sortBy = DEFAULT_SORT;
+        }
+        if (descending == null) {
+            descending = Boolean.TRUE;
+        }
+    }
+
+    @Override
+    public List<ScreenerCondition> allOf() {
+        return CollectionCopyUtils.copyList(allOf);
+    }
+
+    @Override
+    public List<ScreenerCondition> anyOf() {
+        return CollectionCopyUtils.copyList(anyOf);
+    }
+}
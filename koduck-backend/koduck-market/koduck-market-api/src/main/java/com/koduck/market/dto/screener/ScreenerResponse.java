@@ -0,0 +1,84 @@
+package com.koduck.market.dto.screener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import com.koduck.util.CollectionCopyUtils;
+
+/**
+ * 全市场选股响应。
+ *
+ * @param market       市场代码
+ * @param timeframe    K 线周期
+ * @param universeSize 参与筛选的股票数
+ * @param matched      满足条件的股票数
+ * @param asOf         快照中最新 K 线时间
+ * @param items        排名结果
+ * @author Koduck Team
+ */
+public record ScreenerResponse(
+    String market,
+    String timeframe,
+    int universeSize,
+    int matched,
+    LocalDateTime asOf,
+    List<Item> items
+) {
+
+    /**
+     * 紧凑构造函数，用于创建结果的防御性拷贝。
+     *
+     * @param market       市场代码
+     * @param timeframe    K 线周期
+     * @param universeSize 参与筛选的股票数
+     * @param matched      满足条件的股票数
+     * @param asOf         快照中最新 K 线时间
+     * @param items        排名结果
+     */
+    public ScreenerResponse {
+        items = CollectionCopyUtils.copyList(items);
+    }
+
+    @Override
+    public List<Item> items() {
+        return CollectionCopyUtils.copyList(items);
+    }
+
+    /**
+     * 单只股票的筛选结果。
+     *
+     * @param symbol        股票代码
+     * @param name          股票名称
+     * @param close         最新收盘价
+     * @param changePercent 涨跌幅（百分比）
+     * @param values        条件与排序引用的字段值
+     */
+    public record Item(
+        String symbol,
+        String name,
+        BigDecimal close,
+        BigDecimal changePercent,
+        Map<String, BigDecimal> values
+    ) {
+
+        /**
+         * 紧凑构造函数，用于创建字段值的防御性拷贝。
+         *
+         * @param symbol        股票代码
+         * @param name          股票名称
+         * @param close         最新收盘价
+         * @param changePercent 涨跌幅
+         * @param values        字段值
+         */
+        public Item {
+            values = CollectionCopyUtils.copyMap(values);
+        }
+
+        @Override
+        public Map<String, BigDecimal> values() {
+            return CollectionCopyUtils.copyMap(values);
+        }
+    }
+}
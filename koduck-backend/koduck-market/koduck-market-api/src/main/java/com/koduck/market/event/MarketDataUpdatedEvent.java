@@ -33,6 +33,9 @@ public class MarketDataUpdatedEvent extends DomainEvent {
     /** 市场代码。 */
     private final String market;
 
+    /** 昨收价，未知时为 {@code null}。 */
+    private final BigDecimal previousClose;
+
     /**
      * 构造行情数据更新事件。
      *
@@ -43,11 +46,26 @@ public class MarketDataUpdatedEvent extends DomainEvent {
      */
     public MarketDataUpdatedEvent(String symbol, BigDecimal currentPrice,
                                    BigDecimal changePercent, String market) {
+        this(symbol, currentPrice, changePercent, market, null);
+    }
+
+    /**
+     * 构造带昨收价的行情数据更新事件。
+     *
+     * @param symbol 股票代码
+     * @param currentPrice 当前价格
+     * @param changePercent 涨跌幅
+     * @param market 市场代码
+     * @param previousClose 昨收价，未知时为 {@code null}
+     */
+    public MarketDataUpdatedEvent(String symbol, BigDecimal currentPrice,
+                                   BigDecimal changePercent, String market, BigDecimal previousClose) {
         super();
         this.symbol = symbol;
         this.currentPrice = currentPrice;
         this.changePercent = changePercent;
         this.market = market;
+        this.previousClose = previousClose;
     }
 
     @Override
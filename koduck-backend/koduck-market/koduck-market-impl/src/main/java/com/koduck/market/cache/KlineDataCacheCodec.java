@@ -0,0 +1,62 @@
+package com.koduck.market.cache;
+
+import org.springframework.stereotype.Component;
+
+import com.koduck.infrastructure.cache.codec.CacheBinaryReader;
+import com.koduck.infrastructure.cache.codec.CacheBinaryWriter;
+import com.koduck.infrastructure.cache.codec.CacheValueCodec;
+import com.koduck.market.model.KlineData;
+
+/**
+ * K 线的缓存二进制编解码器。
+ *
+ * <p>字段按记录声明顺序写入；价格与成交额保留原始标度，读取结果与写入值 {@code equals}。</p>
+ *
+ * @author Koduck Team
+ */
+@Component
+public class KlineDataCacheCodec implements CacheValueCodec<KlineData> {
+
+    /** 类型编号，上线后不可修改。 */
+    public static final int TYPE_ID = 16;
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public Class<KlineData> type() {
+        return KlineData.class;
+    }
+
+    @Override
+    public void write(KlineData value, CacheBinaryWriter out) {
+        out.writeString(value.symbol());
+        out.writeString(value.market());
+        out.writeInstant(value.timestamp());
+        out.writeDecimal(value.open());
+        out.writeDecimal(value.high());
+        out.writeDecimal(value.low());
+        out.writeDecimal(value.close());
+        out.writeNullableLong(value.volume());
+        out.writeDecimal(value.amount());
+        out.writeString(value.timeframe());
+    }
+
+    @Override
+    public KlineData read(CacheBinaryReader in) {
+        return new KlineData(
+            in.readString(),
+            in.readString(),
+            in.readInstant(),
+            in.readDecimal(),
+            in.readDecimal(),
+            in.readDecimal(),
+            in.readDecimal(),
+            in.readNullableLong(),
+            in.readDecimal(),
+            in.readString()
+        );
+    }
+}
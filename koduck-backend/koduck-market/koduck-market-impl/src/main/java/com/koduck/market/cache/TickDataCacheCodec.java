@@ -0,0 +1,74 @@
+package com.koduck.market.cache;
+
+import org.springframework.stereotype.Component;
+
+import com.koduck.infrastructure.cache.codec.CacheBinaryReader;
+import com.koduck.infrastructure.cache.codec.CacheBinaryWriter;
+import com.koduck.infrastructure.cache.codec.CacheValueCodec;
+import com.koduck.market.model.TickData;
+
+/**
+ * 实时逐笔行情的缓存二进制编解码器。
+ *
+ * <p>字段按记录声明顺序写入，读取结果与写入值 {@code equals}。</p>
+ *
+ * @author Koduck Team
+ */
+@Component
+public class TickDataCacheCodec implements CacheValueCodec<TickData> {
+
+    /** 类型编号，上线后不可修改。 */
+    public static final int TYPE_ID = 17;
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public Class<TickData> type() {
+        return TickData.class;
+    }
+
+    @Override
+    public void write(TickData value, CacheBinaryWriter out) {
+        out.writeString(value.symbol());
+        out.writeString(value.market());
+        out.writeInstant(value.timestamp());
+        out.writeDecimal(value.price());
+        out.writeDecimal(value.change());
+        out.writeDecimal(value.changePercent());
+        out.writeNullableLong(value.volume());
+        out.writeDecimal(value.amount());
+        out.writeDecimal(value.bidPrice());
+        out.writeNullableLong(value.bidVolume());
+        out.writeDecimal(value.askPrice());
+        out.writeNullableLong(value.askVolume());
+        out.writeDecimal(value.dayHigh());
+        out.writeDecimal(value.dayLow());
+        out.writeDecimal(value.open());
+        out.writeDecimal(value.prevClose());
+    }
+
+    @Override
+    public TickData read(CacheBinaryReader in) {
+        return new TickData(
+            in.readString(),
+            in.readString(),
+            in.readInstant(),
+            in.readDecimal(),
+            in.readDecimal(),
+            in.readDecimal(),
+            in.readNullableLong(),
+            in.readDecimal(),
+            in.readDecimal(),
+            in.readNullableLong(),
+            in.readDecimal(),
+            in.readNullableLong(),
+            in.readDecimal(),
+            in.readDecimal(),
+            in.readDecimal(),
+            in.readDecimal()
+        );
+    }
+}
@@ -34,6 +34,21 @@ public class MarketProperties {
     /** 技术指标配置。 */
     private IndicatorConfig indicators = new IndicatorConfig();
 
+    /** 合成分时配置。 */
+    private TickConfig tick = new TickConfig();
+
+    /** 实时行情刷新调度配置。 */
+    private RefreshConfig refresh = new RefreshConfig();
+
+    /** 全市场选股配置。 */
+    private ScreenerConfig screener = new ScreenerConfig();
+
+    /** 证券搜索索引配置。 */
+    private SearchConfig search = new SearchConfig();
+
+    /** 热门股票排行榜配置。 */
+    private LeaderboardConfig leaderboard = new LeaderboardConfig();
+
     /**
      * 缓存配置。
      */
@@ -71,5 +86,112 @@ public class MarketProperties {
         private int defaultPeriod = 14;
         /** 支持的指标列表。 */
         private String supported = "SMA,EMA,MACD,RSI,KDJ,BOLL";
+        /** 指标计算使用的 K 线周期。 */
+        private String timeframe = "1D";
+        /** 新建序列时加载的历史 K 线数。 */
+        private int warmupBars = 250;
+        /** 增量刷新时拉取的最近 K 线数，无法与已有状态衔接时回退为全量预热。 */
+        private int refreshBars = 10;
+        /** 内存中最多保留的指标序列数。 */
+        private int maxCachedSeries = 5000;
+    }
+
+    /**
+     * 合成分时配置。
+     */
+    @Data
+    public static class TickConfig {
+        /** 每只股票内存环形缓冲区容量（条）。 */
+        private int bufferCapacity = 4800;
+        /** 是否异步批量回写 stock_tick_history。 */
+        private boolean writeBehindEnabled = true;
+        /** 单批回写最大行数。 */
+        private int flushBatchSize = 500;
+        /** 回写间隔（毫秒）。 */
+        private long flushIntervalMs = 2000;
+        /** 待回写队列上限，超出后丢弃最新分时并计数。 */
+        private int maxPendingWrites = 100000;
+        /** 大单成交额阈值（元）。 */
+        private double blockOrderAmount = 1000000.0;
+    }
+
+    /**
+     * 实时行情刷新调度配置。
+     *
+     * <p>间隔为 0 或负数表示该市场状态下不刷新。</p>
+     */
+    @Data
+    public static class RefreshConfig {
+        /** 是否启用按订阅刷新调度。 */
+        private boolean enabled = true;
+        /** 调度器基础节拍（毫秒）。 */
+        private long tickIntervalMs = 1000;
+        /** 单次刷新请求的最大股票数。 */
+        private int batchSize = 50;
+        /** 单个周期每个市场最多刷新的股票数，按等待时长与订阅人数的优先级截取。 */
+        private int maxSymbolsPerCycle = 500;
+        /** 连续交易时段刷新间隔（毫秒）。 */
+        private long openIntervalMs = 3000;
+        /** 盘前/盘后时段刷新间隔（毫秒）。 */
+        private long extendedIntervalMs = 15000;
+        /** 午间休市刷新间隔（毫秒）。 */
+        private long breakIntervalMs = 60000;
+        /** 收盘后刷新间隔（毫秒）。 */
+        private long closedIntervalMs = 0;
+        /** 市场状态未知时刷新间隔（毫秒）。 */
+        private long unknownIntervalMs = 10000;
+    }
+
+    /**
+     * 全市场选股配置。
+     */
+    @Data
+    public static class ScreenerConfig {
+        /** 是否启用选股快照定时刷新。 */
+        private boolean enabled = true;
+        /** 选股覆盖的市场。 */
+        private String market = "AShare";
+        /** 选股使用的 K 线周期。 */
+        private String timeframe = "1D";
+        /** 每只股票常驻内存的已收盘 K 线数，决定指标列的预热深度。 */
+        private int historyBars = 120;
+        /** 全量加载时每次查询的股票数。 */
+        private int loadBatchSize = 500;
+        /** 常驻的指标列上限，超出时淘汰最久未使用的列。 */
+        private int maxColumns = 32;
+        /** 增量刷新间隔（毫秒）。 */
+        private long refreshIntervalMs = 60000;
+        /** 全量重建间隔（毫秒），用于吸收历史 K 线修正与股票池变化。 */
+        private long fullReloadIntervalMs = 21600000;
+        /** 默认返回条数。 */
+        private int defaultLimit = 50;
+    }
+
+    /**
+     * 证券搜索索引配置。
+     */
+    @Data
+    public static class SearchConfig {
+        /** 是否由内存索引回答证券搜索。 */
+        private boolean enabled = true;
+        /** 检查证券列表变化的间隔（毫秒），变化时在后台重建索引。 */
+        private long refreshIntervalMs = 300000;
+        /** 按需构建索引失败后，再次尝试前等待的时长（毫秒），期间查询使用空索引。 */
+        private long buildRetryBackoffMs = 30000;
+    }
+
+    /**
+     * 热门股票排行榜配置。
+     */
+    @Data
+    public static class LeaderboardConfig {
+        /** 是否由增量排行榜回答热门股票查询。 */
+        private boolean enabled = true;
+        /** 是否把排行榜分数镜像到 Redis 有序集合，供多实例共享与重启恢复。 */
+        private boolean mirrorEnabled = true;
+        /** 向 Redis 刷写变化分数的间隔（毫秒）。 */
+        private long flushIntervalMs = 1000;
+        /** 单次查询返回条数上限。 */
+        private int maxLimit = 100;
     }
 }
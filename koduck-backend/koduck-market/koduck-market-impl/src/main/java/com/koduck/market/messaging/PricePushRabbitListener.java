@@ -0,0 +1,309 @@
+package com.koduck.market.messaging;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.koduck.common.event.DomainEventPublisher;
+import com.koduck.infrastructure.config.properties.PricePushRabbitProperties;
+import com.koduck.market.dto.PriceUpdateDto;
+import com.koduck.market.event.MarketDataUpdatedEvent;
+import com.koduck.market.service.HotStockLeaderboardService;
+import com.koduck.market.service.RealtimeRefreshScheduler;
+import com.koduck.market.service.StockSubscriptionService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 实时行情队列的批量消费者。
+ *
+ * <p>容器按 {@code koduck.messaging.price-push.batch-size} 聚合消息后一次性交给本监听器；
+ * 批内消息先由 {@link RealtimePriceMessageDecoder} 流式解码，再按股票代码合并，只保留
+ * 每只股票行情时间最新的一条（缺少行情时间时以到达顺序为准），最后逐只推送给 {@link StockSubscriptionService}、合并进
+ * {@link HotStockLeaderboardService} 的热门股票排行榜，并以 {@link MarketDataUpdatedEvent} 发布给其他模块
+ * （如持仓实时估值）。单条解码失败只计数并跳过，不影响同批其他消息。</p>
+ *
+ * <p>开启 {@code symbol-routing-enabled} 时消费本节点的独立队列（见 {@link SymbolInterestRouter}），
+ * 否则消费共享队列。共享队列由各节点竞争消费，每个节点只拿到一部分行情，而持仓估值等节点内状态需要
+ * 全部行情：未开启路由且 {@code broadcast-enabled} 时，{@link #onBroadcast} 消费本节点的广播队列
+ * （以共享路由键绑定，收到每一条行情），只负责发布 {@link MarketDataUpdatedEvent}，共享队列不再发布事件。
+ * 开启路由时节点队列已绑定各 {@link com.koduck.market.api.SymbolInterestSource} 声明的股票，事件仍随推送发布。</p>
+ *
+ * <p>容器有多个并发消费者，同一股票的行情可能乱序到达不同批次。监听器记录每只股票已推送行情的时间，
+ * 早于该时间的行情直接丢弃，不会用旧价格覆盖订阅者、排行榜和持仓估值中的新价格。</p>
+ *
+ * <p>暴露的指标：</p>
+ * <ul>
+ *   <li>{@code koduck.price.push.consumer.lag}：行情产生到被消费的延迟</li>
+ *   <li>{@code koduck.price.push.batch.latency}：单批处理耗时</li>
+ *   <li>{@code koduck.price.push.batch.size}：批大小分布</li>
+ *   <li>{@code koduck.price.push.decode.failures}：解码失败数</li>
+ *   <li>{@code koduck.price.push.coalesced}：因合并而丢弃的过期行情数</li>
+ *   <li>{@code koduck.price.push.stale}：早于已推送行情而丢弃的行情数</li>
+ * </ul>
+ *
+ * @author Koduck Team
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "koduck.messaging.price-push", name = "enabled", havingValue = "true")
+public class PricePushRabbitListener {
+
+    /** 消息解码器。 */
+    private final RealtimePriceMessageDecoder decoder;
+
+    /** 股票订阅服务。 */
+    private final StockSubscriptionService stockSubscriptionService;
+
+    /** 热门股票排行榜服务。 */
+    private final HotStockLeaderboardService hotStockLeaderboardService;
+
+    /** 领域事件发布器。 */
+    private final DomainEventPublisher eventPublisher;
+
+    /** 时钟。 */
+    private final Clock clock;
+
+    /** 消费延迟。 */
+    private final Timer consumerLag;
+
+    /** 单批处理耗时。 */
+    private final Timer batchLatency;
+
+    /** 批大小分布。 */
+    private final DistributionSummary batchSize;
+
+    /** 解码失败计数。 */
+    private final Counter decodeFailures;
+
+    /** 合并丢弃计数。 */
+    private final Counter coalesced;
+
+    /** 乱序丢弃计数。 */
+    private final Counter stale;
+
+    /** 是否由广播队列发布行情事件。 */
+    private final boolean broadcastActive;
+
+    /** 每只股票已推送行情的时间（毫秒）。 */
+    private final Map<String, Long> lastPushedAt = new ConcurrentHashMap<>();
+
+    /** 每只股票已由广播队列发布事件的行情时间（毫秒）。 */
+    private final Map<String, Long> lastPublishedAt = new ConcurrentHashMap<>();
+
+    /**
+     * 构造批量消费者。
+     *
+     * @param decoder                    消息解码器
+     * @param stockSubscriptionService   股票订阅服务
+     * @param hotStockLeaderboardService 热门股票排行榜服务
+     * @param eventPublisher             领域事件发布器
+     * @param properties                 行情推送配置
+     * @param meterRegistry              指标注册表
+     */
+    @Autowired
+    public PricePushRabbitListener(RealtimePriceMessageDecoder decoder,
+                                   StockSubscriptionService stockSubscriptionService,
+                                   HotStockLeaderboardService hotStockLeaderboardService,
+                                   DomainEventPublisher eventPublisher,
+                                   PricePushRabbitProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this(decoder, stockSubscriptionService, hotStockLeaderboardService, eventPublisher, properties,
+            meterRegistry, Clock.systemUTC());
+    }
+
+    /**
+     * 构造批量消费者（可注入时钟，用于测试）。
+     *
+     * @param decoder                    消息解码器
+     * @param stockSubscriptionService   股票订阅服务
+     * @param hotStockLeaderboardService 热门股票排行榜服务
+     * @param eventPublisher             领域事件发布器
+     * @param properties                 行情推送配置
+     * @param meterRegistry              指标注册表
+     * @param clock                      时钟
+     */
+    PricePushRabbitListener(RealtimePriceMessageDecoder decoder,
+                            StockSubscriptionService stockSubscriptionService,
+                            HotStockLeaderboardService hotStockLeaderboardService,
+                            DomainEventPublisher eventPublisher,
+                            PricePushRabbitProperties properties,
+                            MeterRegistry meterRegistry,
+                            Clock clock) {
+        this.decoder = decoder;
+        this.stockSubscriptionService = stockSubscriptionService;
+        this.hotStockLeaderboardService = hotStockLeaderboardService;
+        this.eventPublisher = eventPublisher;
+        this.broadcastActive = properties.isBroadcastActive();
+        this.clock = clock;
+        this.consumerLag = Timer.builder("koduck.price.push.consumer.lag")
+            .description("Delay between quote generation and consumption")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.batchLatency = Timer.builder("koduck.price.push.batch.latency")
+            .description("Time spent processing one realtime price batch")
+            .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("koduck.price.push.batch.size")
+            .description("Number of messages per realtime price batch")
+            .register(meterRegistry);
+        this.decodeFailures = Counter.builder("koduck.price.push.decode.failures")
+            .description("Realtime price messages that could not be decoded")
+            .register(meterRegistry);
+        this.coalesced = Counter.builder("koduck.price.push.coalesced")
+            .description("Stale realtime price messages superseded within a batch")
+            .register(meterRegistry);
+        this.stale = Counter.builder("koduck.price.push.stale")
+            .description("Realtime price messages older than the last quote pushed for the symbol")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 处理一批实时行情消息。
+     *
+     * @param messages 容器聚合的消息批
+     */
+    @RabbitListener(
+        queues = "#{@pricePushRabbitProperties.consumerQueue}",
+        containerFactory = "pricePushRabbitListenerContainerFactory")
+    public void onMessages(List<Message> messages) {
+        if (messages == null || messages.isEmpty()) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        batchSize.record(messages.size());
+        for (RealtimePriceMessageDecoder.DecodedPriceUpdate decoded : coalesce(messages, true)) {
+            PriceUpdateDto update = decoded.update();
+            if (!advance(lastPushedAt, update.symbol(), decoded.eventEpochMillis())) {
+                stale.increment();
+                continue;
+            }
+            try {
+                stockSubscriptionService.onPriceUpdate(update);
+            }
+            catch (RuntimeException e) {
+                log.warn("Failed to dispatch price update for {}: {}", update.symbol(), e.getMessage());
+            }
+            try {
+                hotStockLeaderboardService.onQuote(update.symbol(), update.name(), update.changePercent(),
+                    update.volume(), decoded.amount());
+            }
+            catch (RuntimeException e) {
+                log.warn("Failed to rank price update for {}: {}", update.symbol(), e.getMessage());
+            }
+            if (!broadcastActive) {
+                publish(update);
+            }
+        }
+        batchLatency.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 处理本节点广播队列中的一批行情，只发布 {@link MarketDataUpdatedEvent}。
+     *
+     * <p>容器只在未开启按股票路由且开启 {@code broadcast-enabled} 时启动。</p>
+     *
+     * @param messages 容器聚合的消息批
+     */
+    @RabbitListener(
+        queues = "#{@pricePushRabbitProperties.broadcastQueue}",
+        containerFactory = "pricePushRabbitListenerContainerFactory",
+        autoStartup = "#{@pricePushRabbitProperties.broadcastActive}")
+    public void onBroadcast(List<Message> messages) {
+        if (messages == null || messages.isEmpty()) {
+            return;
+        }
+        for (RealtimePriceMessageDecoder.DecodedPriceUpdate decoded : coalesce(messages, false)) {
+            if (advance(lastPublishedAt, decoded.update().symbol(), decoded.eventEpochMillis())) {
+                publish(decoded.update());
+            }
+        }
+    }
+
+    // 解码并按股票代码合并，保留行情时间最新的一条；measure 为 false 时不记录消费指标
+    private Collection<RealtimePriceMessageDecoder.DecodedPriceUpdate> coalesce(List<Message> messages,
+                                                                               boolean measure) {
+        long now = clock.millis();
+        Map<String, RealtimePriceMessageDecoder.DecodedPriceUpdate> latestBySymbol = new LinkedHashMap<>(messages.size() * 2);
+        for (Message message : messages) {
+            RealtimePriceMessageDecoder.DecodedPriceUpdate decoded;
+            try {
+                decoded = decoder.decode(message);
+            }
+            catch (IOException | RuntimeException e) {
+                if (measure) {
+                    decodeFailures.increment();
+                }
+                log.debug("Skip undecodable realtime price message: {}", e.getMessage());
+                continue;
+            }
+            if (measure && decoded.eventEpochMillis() > 0L) {
+                consumerLag.record(Math.max(0L, now - decoded.eventEpochMillis()), TimeUnit.MILLISECONDS);
+            }
+            RealtimePriceMessageDecoder.DecodedPriceUpdate previous = latestBySymbol.get(decoded.update().symbol());
+            if (previous == null) {
+                latestBySymbol.put(decoded.update().symbol(), decoded);
+            }
+            else {
+                if (measure) {
+                    coalesced.increment();
+                }
+                if (!isOlder(decoded, previous)) {
+                    latestBySymbol.put(decoded.update().symbol(), decoded);
+                }
+            }
+        }
+        return latestBySymbol.values();
+    }
+
+    private void publish(PriceUpdateDto update) {
+        if (update.price() == null) {
+            return;
+        }
+        try {
+            eventPublisher.publish(toEvent(update));
+        }
+        catch (RuntimeException e) {
+            log.warn("Failed to publish price update for {}: {}", update.symbol(), e.getMessage());
+        }
+    }
+
+    // 任一方缺少行情时间时以到达顺序为准，后到的较新
+    private static boolean isOlder(RealtimePriceMessageDecoder.DecodedPriceUpdate candidate,
+                                   RealtimePriceMessageDecoder.DecodedPriceUpdate kept) {
+        return candidate.eventEpochMillis() > 0L && kept.eventEpochMillis() > 0L
+            && candidate.eventEpochMillis() < kept.eventEpochMillis();
+    }
+
+    // 行情不早于已处理的行情时推进并返回 true；缺少行情时间的行情总是处理
+    private static boolean advance(Map<String, Long> processedAt, String symbol, long eventEpochMillis) {
+        if (eventEpochMillis <= 0L) {
+            return true;
+        }
+        Long pushed = processedAt.merge(symbol, eventEpochMillis, Math::max);
+        return pushed.longValue() == eventEpochMillis;
+    }
+
+    private static MarketDataUpdatedEvent toEvent(PriceUpdateDto update) {
+        BigDecimal price = BigDecimal.valueOf(update.price());
+        BigDecimal previousClose = update.change() == null ? null : price.subtract(BigDecimal.valueOf(update.change()));
+        return new MarketDataUpdatedEvent(update.symbol(), price,
+            update.changePercent() == null ? null : BigDecimal.valueOf(update.changePercent()),
+            RealtimeRefreshScheduler.marketOf(update.symbol()).getCode(), previousClose);
+    }
+}
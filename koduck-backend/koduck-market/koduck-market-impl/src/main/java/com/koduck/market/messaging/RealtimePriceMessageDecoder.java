@@ -0,0 +1,182 @@
+package com.koduck.market.messaging;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.koduck.common.constants.DateTimePatternConstants;
+import com.koduck.market.dto.PriceUpdateDto;
+
+/**
+ * 实时行情消息解码器。
+ *
+ * <p>使用 Jackson 流式 {@link JsonParser} 直接将 data-service 推送的 JSON 解码为
+ * {@link PriceUpdateDto}，不经过中间 Map 或 DTO，也不依赖 {@code __TypeId__} 消息头。
+ * 数值字段同时兼容数字与字符串形式；{@code timestamp} 兼容 ISO-8601（无时区时按交易所时区）、
+ * epoch 秒与 epoch 毫秒，缺失时回退到 AMQP 消息的 timestamp 属性。</p>
+ *
+ * @author Koduck Team
+ */
+@Component
+public class RealtimePriceMessageDecoder {
+
+    /** 小于该值的数值时间戳视为 epoch 秒。 */
+    private static final long EPOCH_SECONDS_UPPER_BOUND = 100_000_000_000L;
+
+    /** 毫秒/秒换算。 */
+    private static final long MILLIS_PER_SECOND = 1000L;
+
+    /** JSON 解析工厂。 */
+    private final JsonFactory jsonFactory;
+
+    /**
+     * 构造解码器。
+     *
+     * @param objectMapper 共享 ObjectMapper，仅复用其 JsonFactory
+     */
+    public RealtimePriceMessageDecoder(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * 解码一条 AMQP 消息。
+     *
+     * @param message AMQP 消息
+     * @return 解码结果
+     * @throws IOException 消息体不是合法 JSON 对象或缺少股票代码时抛出
+     */
+    public DecodedPriceUpdate decode(Message message) throws IOException {
+        String symbol = null;
+        String name = null;
+        Double price = null;
+        Double change = null;
+        Double changePercent = null;
+        Long volume = null;
+        Double amount = null;
+        long eventEpochMillis = 0L;
+        try (JsonParser parser = jsonFactory.createParser(message.getBody())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Realtime price payload is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "symbol" -> symbol = textValue(parser, value);
+                    case "name" -> name = textValue(parser, value);
+                    case "price" -> price = doubleValue(parser, value);
+                    case "changeAmount", "change" -> change = doubleValue(parser, value);
+                    case "changePercent" -> changePercent = doubleValue(parser, value);
+                    case "volume" -> volume = longValue(parser, value);
+                    case "amount" -> amount = doubleValue(parser, value);
+                    case "timestamp" -> eventEpochMillis = epochMillisValue(parser, value);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        if (symbol == null || symbol.isBlank()) {
+            throw new IOException("Realtime price payload has no symbol");
+        }
+        if (eventEpochMillis <= 0L) {
+            Date sentAt = message.getMessageProperties().getTimestamp();
+            eventEpochMillis = sentAt == null ? 0L : sentAt.getTime();
+        }
+        PriceUpdateDto update = new PriceUpdateDto(symbol, name, price, change, changePercent, volume);
+        return new DecodedPriceUpdate(update, amount, eventEpochMillis);
+    }
+
+    private static String textValue(JsonParser parser, JsonToken token) throws IOException {
+        return token == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+    }
+
+    private static Double doubleValue(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getDoubleValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText().trim();
+            if (text.isEmpty()) {
+                return null;
+            }
+            try {
+                return Double.valueOf(text);
+            }
+            catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private static Long longValue(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        Double value = doubleValue(parser, token);
+        return value == null ? null : value.longValue();
+    }
+
+    private static long epochMillisValue(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return toEpochMillis(parser.getDoubleValue());
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            parser.skipChildren();
+            return 0L;
+        }
+        String text = parser.getText().trim();
+        if (text.isEmpty()) {
+            return 0L;
+        }
+        try {
+            return Instant.parse(text).toEpochMilli();
+        }
+        catch (DateTimeParseException e) {
+            return parseLenient(text);
+        }
+    }
+
+    private static long parseLenient(String text) {
+        try {
+            return LocalDateTime.parse(text)
+                .atZone(DateTimePatternConstants.MARKET_ZONE_ID)
+                .toInstant()
+                .toEpochMilli();
+        }
+        catch (DateTimeParseException e) {
+            try {
+                return toEpochMillis(Double.parseDouble(text));
+            }
+            catch (NumberFormatException ignored) {
+                return 0L;
+            }
+        }
+    }
+
+    private static long toEpochMillis(double raw) {
+        if (raw <= 0) {
+            return 0L;
+        }
+        return raw < EPOCH_SECONDS_UPPER_BOUND ? (long) (raw * MILLIS_PER_SECOND) : (long) raw;
+    }
+
+    /**
+     * 解码后的行情更新。
+     *
+     * @param update           行情更新
+     * @param amount           成交额，消息未携带时为 {@code null}
+     * @param eventEpochMillis 行情产生时间（epoch 毫秒），未知时为 0
+     */
+    public record DecodedPriceUpdate(PriceUpdateDto update, Double amount, long eventEpochMillis) {
+    }
+}
@@ -0,0 +1,187 @@
+package com.koduck.market.messaging;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.koduck.infrastructure.config.properties.PricePushRabbitProperties;
+import com.koduck.market.api.SymbolInterestSource;
+import com.koduck.market.config.MarketProperties;
+import com.koduck.market.service.StockSubscriptionService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 按订阅兴趣维护本节点队列的路由绑定。
+ *
+ * <p>多实例部署时，每个节点拥有独立队列，定期将本地订阅的股票集合
+ * （{@link StockSubscriptionService#getAllSubscribedSymbols()}）与各 {@link SymbolInterestSource}
+ * 声明的股票（如在线用户持有的股票）合并后与已绑定集合比对，
+ * 为新增股票声明 {@code <routing-key>.<symbol>} 绑定、为不再需要的股票解除绑定。
+ * 这样每个节点只接收本地用户关注的行情，整体推送量随节点数线性扩展。</p>
+ *
+ * <p>热门股票排行榜需要全市场行情，与按股票路由不兼容：两者同时开启时启动日志输出错误，
+ * 排行榜只包含各节点绑定的股票。</p>
+ *
+ * <p>单个绑定声明失败时保留差异，下个周期重试；Broker 连接重建后（auto-delete 队列可能
+ * 已被重建）清空已绑定集合，下个周期全量重新绑定。</p>
+ *
+ * @author Koduck Team
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "koduck.messaging.price-push", name = {"enabled", "symbol-routing-enabled"},
+    havingValue = "true")
+public class SymbolInterestRouter {
+
+    /** Broker 管理接口。 */
+    private final AmqpAdmin amqpAdmin;
+
+    /** 行情交换机。 */
+    private final DirectExchange pricePushExchange;
+
+    /** 行情推送配置。 */
+    private final PricePushRabbitProperties properties;
+
+    /** 股票订阅服务。 */
+    private final StockSubscriptionService stockSubscriptionService;
+
+    /** 其他模块声明的行情需求。 */
+    private final ObjectProvider<SymbolInterestSource> interestSources;
+
+    /** 已绑定到本节点队列的股票代码。 */
+    private final Set<String> boundSymbols = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 构造路由维护器。
+     *
+     * @param amqpAdmin                Broker 管理接口
+     * @param pricePushExchange        行情交换机
+     * @param properties               行情推送配置
+     * @param stockSubscriptionService 股票订阅服务
+     * @param interestSources          其他模块声明的行情需求
+     * @param marketProperties         市场模块配置
+     * @param connectionFactory        RabbitMQ 连接工厂，用于感知连接重建
+     * @param meterRegistry            指标注册表
+     */
+    public SymbolInterestRouter(AmqpAdmin amqpAdmin,
+                                @Qualifier("pricePushExchange") DirectExchange pricePushExchange,
+                                PricePushRabbitProperties properties,
+                                StockSubscriptionService stockSubscriptionService,
+                                ObjectProvider<SymbolInterestSource> interestSources,
+                                MarketProperties marketProperties,
+                                ConnectionFactory connectionFactory,
+                                MeterRegistry meterRegistry) {
+        this.amqpAdmin = amqpAdmin;
+        this.pricePushExchange = pricePushExchange;
+        this.properties = properties;
+        this.stockSubscriptionService = stockSubscriptionService;
+        this.interestSources = interestSources;
+        if (marketProperties.getLeaderboard().isEnabled()) {
+            log.error("koduck.market.leaderboard.enabled is combined with symbol routing: this node only "
+                + "receives quotes for bound symbols, so hot stock leaderboards miss the rest of the market");
+        }
+        connectionFactory.addConnectionListener(connection -> boundSymbols.clear());
+        Gauge.builder("koduck.price.push.bound.symbols", boundSymbols, Set::size)
+            .description("Symbols currently bound to this node's realtime price queue")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 将本节点队列的绑定与本地订阅及其他模块的行情需求对齐。
+     */
+    @Scheduled(fixedDelayString = "${koduck.messaging.price-push.interest-sync-interval-ms:1000}")
+    public synchronized void reconcile() {
+        Set<String> desired = new HashSet<>(stockSubscriptionService.getAllSubscribedSymbols());
+        boolean complete = collectInterest(desired);
+        int added = 0;
+        for (String symbol : desired) {
+            if (!boundSymbols.contains(symbol) && apply(symbol, true)) {
+                boundSymbols.add(symbol);
+                added++;
+            }
+        }
+        int removed = 0;
+        if (complete) {
+            for (String symbol : new HashSet<>(boundSymbols)) {
+                if (!desired.contains(symbol) && apply(symbol, false)) {
+                    boundSymbols.remove(symbol);
+                    removed++;
+                }
+            }
+        }
+        if (added > 0 || removed > 0) {
+            log.debug("Symbol routing reconciled for {}: +{} -{} bound={}",
+                properties.getNodeQueue(), added, removed, boundSymbols.size());
+        }
+    }
+
+    /**
+     * 当前已绑定的股票代码快照。
+     *
+     * @return 股票代码集合
+     */
+    public Set<String> snapshotBoundSymbols() {
+        return Set.copyOf(boundSymbols);
+    }
+
+    /**
+     * 节点下线时解除全部绑定，避免 Broker 在队列删除前继续投递。
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        for (String symbol : new HashSet<>(boundSymbols)) {
+            apply(symbol, false);
+        }
+        boundSymbols.clear();
+    }
+
+    // 某个来源失败时返回 false，本周期只绑定不解绑，避免误删仍需要的绑定
+    private boolean collectInterest(Set<String> desired) {
+        boolean complete = true;
+        for (SymbolInterestSource source : interestSources.orderedStream().toList()) {
+            try {
+                desired.addAll(source.interestedSymbols());
+            }
+            catch (RuntimeException e) {
+                complete = false;
+                log.warn("Failed to collect symbol interest from {}: {}", source.getClass().getSimpleName(),
+                    e.getMessage());
+            }
+        }
+        return complete;
+    }
+
+    private boolean apply(String symbol, boolean bind) {
+        Binding binding = new Binding(properties.getNodeQueue(), Binding.DestinationType.QUEUE,
+            pricePushExchange.getName(), properties.symbolRoutingKey(symbol), null);
+        try {
+            if (bind) {
+                amqpAdmin.declareBinding(binding);
+            }
+            else {
+                amqpAdmin.removeBinding(binding);
+            }
+            return true;
+        }
+        catch (AmqpException e) {
+            log.warn("Failed to {} symbol routing key for {}: {}", bind ? "bind" : "unbind", symbol, e.getMessage());
+            return false;
+        }
+    }
+}
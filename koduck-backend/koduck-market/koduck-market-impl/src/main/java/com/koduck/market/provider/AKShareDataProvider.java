@@ -35,6 +35,8 @@ import com.koduck.market.MarketType;
 import com.koduck.market.model.KlineData;
 import com.koduck.market.model.TickData;
 import com.koduck.market.provider.MarketDataProvider;
+import com.koduck.market.provider.calendar.ExchangeCalendars;
+import com.koduck.market.service.SymbolSearchService;
 import com.koduck.market.service.support.AKShareDataMapperSupport;
 
 /**
@@ -69,22 +71,6 @@ public class AKShareDataProvider implements MarketDataProvider {
     private static final int HEALTH_SCORE_DISABLED = 0;
     /** Full health score. */
     private static final int HEALTH_SCORE_FULL = 100;
-    /** Morning open hour. */
-    private static final int OPEN_MORNING_HOUR = 9;
-    /** Morning open minute. */
-    private static final int OPEN_MORNING_MINUTE = 30;
-    /** Morning close hour. */
-    private static final int CLOSE_MORNING_HOUR = 11;
-    /** Morning close minute. */
-    private static final int CLOSE_MORNING_MINUTE = 30;
-    /** Afternoon open hour. */
-    private static final int OPEN_AFTERNOON_HOUR = 13;
-    /** Afternoon close hour. */
-    private static final int CLOSE_AFTERNOON_HOUR = 15;
-    /** Minutes per hour. */
-    private static final int MINUTES_PER_HOUR = 60;
-    /** Asia/Shanghai timezone. */
-    private static final String TIMEZONE_ASIA_SHANGHAI = "Asia/Shanghai";
 
     /** List data response type. */
     private static final ParameterizedTypeReference<
@@ -102,6 +88,8 @@ public class AKShareDataProvider implements MarketDataProvider {
     private final WebClient webClient;
     /** The data service properties. */
     private final DataServiceProperties properties;
+    /** In-memory symbol search backed by stock_basic. */
+    private final SymbolSearchService symbolSearchService;
     /** Subscribed symbols set. */
     private final Set<String> subscribedSymbols = ConcurrentHashMap.newKeySet();
     /** Provider availability flag. */
@@ -114,14 +102,18 @@ public class AKShareDataProvider implements MarketDataProvider {
      *
      * @param webClient WebClient
      * @param properties 配置属性
+     * @param symbolSearchService 证券搜索服务
      */
     public AKShareDataProvider(
         @Qualifier("dataServiceWebClient") WebClient webClient,
-        DataServiceProperties properties) {
+        DataServiceProperties properties,
+        SymbolSearchService symbolSearchService) {
         this.webClient = Objects.requireNonNull(webClient,
             "webClient must not be null");
         this.properties = Objects.requireNonNull(properties,
             "properties must not be null");
+        this.symbolSearchService = Objects.requireNonNull(symbolSearchService,
+            "symbolSearchService must not be null");
     }
 
     @Override
@@ -242,41 +234,21 @@ public class AKShareDataProvider implements MarketDataProvider {
 
     @Override
     public MarketStatus getMarketStatus() {
-        // A股交易时间：9:30-11:30, 13:00-15:00（北京时间）
-        java.time.ZonedDateTime now = java.time.ZonedDateTime.now(
-            java.time.ZoneId.of(TIMEZONE_ASIA_SHANGHAI));
-        int hour = now.getHour();
-        int minute = now.getMinute();
-        java.time.DayOfWeek dayOfWeek = now.getDayOfWeek();
-
-        // 周末
-        if (dayOfWeek == java.time.DayOfWeek.SATURDAY
-            || dayOfWeek == java.time.DayOfWeek.SUNDAY) {
-            return MarketStatus.CLOSED;
-        }
-
-        int timeInMinutes = hour * MINUTES_PER_HOUR + minute;
-        int openMorning = OPEN_MORNING_HOUR * MINUTES_PER_HOUR + OPEN_MORNING_MINUTE;
-        int closeMorning = CLOSE_MORNING_HOUR * MINUTES_PER_HOUR + CLOSE_MORNING_MINUTE;
-        int openAfternoon = OPEN_AFTERNOON_HOUR * MINUTES_PER_HOUR;
-        int closeAfternoon = CLOSE_AFTERNOON_HOUR * MINUTES_PER_HOUR;
-
-        if (timeInMinutes >= openMorning && timeInMinutes <= closeMorning) {
-            return MarketStatus.OPEN;
-        }
-        else if (timeInMinutes > closeMorning && timeInMinutes < openAfternoon) {
-            return MarketStatus.BREAK;
-        }
-        else if (timeInMinutes >= openAfternoon && timeInMinutes <= closeAfternoon) {
-            return MarketStatus.OPEN;
-        }
-        else {
-            return MarketStatus.CLOSED;
-        }
+        // A股交易时段与休市安排见 calendar/a_share.properties
+        return ExchangeCalendars.forMarket(MarketType.A_SHARE)
+            .map(calendar -> calendar.statusAt(Instant.now()))
+            .orElse(MarketStatus.UNKNOWN);
     }
 
     @Override
     public List<SymbolInfo> searchSymbols(String keyword, int limit) {
+        // stock_basic 已同步 A 股列表时由内存索引回答，不再请求数据服务
+        String market = getMarketType().getCode();
+        if (symbolSearchService.covers(market)) {
+            return symbolSearchService.search(keyword, market, limit).stream()
+                .map(entry -> AKShareDataMapperSupport.toSymbolInfo(entry.symbol(), entry.name()))
+                .toList();
+        }
         if (!isAvailable()) {
             LOG.warn(DATA_SERVICE_DISABLED_MESSAGE);
             return Collections.emptyList();
@@ -2,12 +2,8 @@ package com.koduck.market.provider;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalTime;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -27,8 +23,9 @@ import com.koduck.infrastructure.config.properties.DataServiceProperties;
 import com.koduck.market.MarketType;
 import com.koduck.market.model.KlineData;
 import com.koduck.market.model.TickData;
+import com.koduck.market.provider.calendar.ExchangeCalendars;
+import com.koduck.market.service.SymbolSearchService;
 import com.koduck.market.util.DataConverter;
-import com.koduck.market.service.support.HKStockMarketCalendar;
 import com.koduck.market.service.support.MarketDataMapReader;
 import com.koduck.market.service.support.MarketTimeframeParser;
 
@@ -46,8 +43,6 @@ public class HKStockProvider extends AbstractDataServiceMarketProvider {
     /** Logger instance for this class. */
     private static final Logger LOG = LoggerFactory.getLogger(HKStockProvider.class);
 
-    /** Hong Kong timezone for market hours calculation. */
-    private static final ZoneId HONG_KONG_ZONE = ZoneId.of("Asia/Hong_Kong");
 
     /** Base path for HK stock data service endpoints. */
     private static final String HK_STOCK_BASE_PATH = "/hk";
@@ -55,6 +50,9 @@ public class HKStockProvider extends AbstractDataServiceMarketProvider {
     /** Provider name identifier. */
     private static final String PROVIDER_NAME = "akshare-hk-stock";
 
+    /** Default exchange for HK listings. */
+    private static final String DEFAULT_EXCHANGE = "HKEX";
+
     /** Minimum volume for kline mock data generation. */
     private static final long KLINE_VOLUME_MIN = 100_000L;
 
@@ -109,16 +107,22 @@ public class HKStockProvider extends AbstractDataServiceMarketProvider {
     /** Mock data for fallback. */
     private final Map<String, BigDecimal> basePrices = new LinkedHashMap<>();
 
+    /** In-memory symbol search backed by stock_basic. */
+    private final SymbolSearchService symbolSearchService;
+
     /**
      * Constructs a new HKStockProvider.
      *
      * @param properties the data service properties
      * @param webClient the WebClient for data service calls
+     * @param symbolSearchService the in-memory symbol search service
      */
     public HKStockProvider(
             DataServiceProperties properties,
-            @Qualifier("dataServiceWebClient") WebClient webClient) {
+            @Qualifier("dataServiceWebClient") WebClient webClient,
+            SymbolSearchService symbolSearchService) {
         super(properties, webClient);
+        this.symbolSearchService = symbolSearchService;
         initBasePrices();
     }
 
@@ -134,33 +138,10 @@ public class HKStockProvider extends AbstractDataServiceMarketProvider {
 
     @Override
     public MarketStatus getMarketStatus() {
-        ZonedDateTime now = ZonedDateTime.now(HONG_KONG_ZONE);
-        LocalTime time = now.toLocalTime();
-        DayOfWeek dayOfWeek = now.getDayOfWeek();
-
-        if (HKStockMarketCalendar.isWeekend(dayOfWeek)
-                || HKStockMarketCalendar.isPublicHoliday(now.toLocalDate())) {
-            return MarketStatus.CLOSED;
-        }
-
-        if (HKStockMarketCalendar.isPreMarket(time)) {
-            return MarketStatus.PRE_MARKET;
-        }
-
-        if (HKStockMarketCalendar.isMorningSession(time)
-                || HKStockMarketCalendar.isAfternoonSession(time)) {
-            return MarketStatus.OPEN;
-        }
-
-        if (HKStockMarketCalendar.isLunchBreak(time)) {
-            return MarketStatus.BREAK;
-        }
-
-        if (HKStockMarketCalendar.isClosingAuction(time)) {
-            return MarketStatus.POST_MARKET;
-        }
-
-        return MarketStatus.CLOSED;
+        // 港股交易时段、半日市与假期见 calendar/hk_stock.properties
+        return ExchangeCalendars.forMarket(MarketType.HK_STOCK)
+            .map(calendar -> calendar.statusAt(Instant.now()))
+            .orElse(MarketStatus.UNKNOWN);
     }
 
     @Override
@@ -359,6 +340,25 @@ public class HKStockProvider extends AbstractDataServiceMarketProvider {
                 .build();
     }
 
+    /**
+     * Searches symbols from the stock_basic index when it holds HK listings,
+     * otherwise falls back to the data service endpoint.
+     *
+     * @param keyword search keyword
+     * @param limit maximum number of results
+     * @return list of symbol insights
+     */
+    @Override
+    public List<SymbolInfo> searchSymbols(String keyword, int limit) {
+        String market = getMarketType().getCode();
+        if (!symbolSearchService.covers(market)) {
+            return super.searchSymbols(keyword, limit);
+        }
+        return symbolSearchService.search(keyword, market, limit).stream()
+                .map(entry -> new SymbolInfo(entry.symbol(), entry.name(), market, DEFAULT_EXCHANGE, "stock"))
+                .toList();
+    }
+
     @Override
     protected SymbolInfo convertToSymbolInfo(Map<String, Object> data) {
         String exchange = MarketDataMapReader.getString(data, "exchange");
@@ -366,7 +366,7 @@ public class HKStockProvider extends AbstractDataServiceMarketProvider {
                 MarketDataMapReader.getString(data, "symbol"),
                 MarketDataMapReader.getString(data, "name"),
                 MarketType.HK_STOCK.getCode(),
-                exchange != null ? exchange : "HKEX",
+                exchange != null ? exchange : DEFAULT_EXCHANGE,
                 "stock"
         );
     }
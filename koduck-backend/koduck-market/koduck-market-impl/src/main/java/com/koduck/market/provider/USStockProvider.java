@@ -1,12 +1,7 @@
 package com.koduck.market.provider;
 
 import java.math.BigDecimal;
-import java.time.DayOfWeek;
 import java.time.Instant;
-import java.time.LocalDate;
-import java.time.LocalTime;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -30,6 +25,7 @@ import com.koduck.market.MarketType;
 import com.koduck.market.model.KlineData;
 import com.koduck.market.model.TickData;
 import com.koduck.market.provider.MarketDataProvider;
+import com.koduck.market.provider.calendar.ExchangeCalendars;
 import com.koduck.market.service.support.USStockMockDataProvider;
 
 import lombok.Getter;
@@ -54,8 +50,6 @@ public class USStockProvider implements MarketDataProvider {
 
     /** Logger. */
     private static final Logger LOG = LoggerFactory.getLogger(USStockProvider.class);
-    /** US Eastern time zone. */
-    private static final ZoneId US_EASTERN = ZoneId.of("America/New_York");
     /** Provider name. */
     private static final String PROVIDER_NAME = "finnhub-us-stock";
     /** Query param: token. */
@@ -66,42 +60,6 @@ public class USStockProvider implements MarketDataProvider {
     private static final int HEALTH_SCORE_FULL = 100;
     /** Health score: half. */
     private static final int HEALTH_SCORE_HALF = 50;
-    /** Pre-market start hour. */
-    private static final int PRE_MARKET_START_HOUR = 4;
-    /** Pre-market end hour. */
-    private static final int PRE_MARKET_END_HOUR = 9;
-    /** Pre-market end minute. */
-    private static final int PRE_MARKET_END_MINUTE = 30;
-    /** Regular start hour. */
-    private static final int REGULAR_START_HOUR = 9;
-    /** Regular start minute. */
-    private static final int REGULAR_START_MINUTE = 30;
-    /** Regular end hour. */
-    private static final int REGULAR_END_HOUR = 16;
-    /** Post-market end hour. */
-    private static final int POST_MARKET_END_HOUR = 20;
-    /** January. */
-    private static final int JANUARY = 1;
-    /** July. */
-    private static final int JULY = 7;
-    /** December. */
-    private static final int DECEMBER = 12;
-    /** New Year's Day. */
-    private static final int NEW_YEAR_DAY = 1;
-    /** Alternative New Year's Day. */
-    private static final int NEW_YEAR_DAY_ALT = 2;
-    /** Independence Day. */
-    private static final int INDEPENDENCE_DAY = 4;
-    /** Independence Day Eve. */
-    private static final int INDEPENDENCE_DAY_EVE = 3;
-    /** Day after Independence Day. */
-    private static final int INDEPENDENCE_DAY_AFTER = 5;
-    /** Christmas Day. */
-    private static final int CHRISTMAS_DAY = 25;
-    /** Christmas Eve. */
-    private static final int CHRISTMAS_EVE = 24;
-    /** Day after Christmas. */
-    private static final int CHRISTMAS_AFTER = 26;
     /** Timeframe: 1 minute. */
     private static final String TIMEFRAME_1M = "1m";
     /** Timeframe: 5 minutes. */
@@ -325,41 +283,10 @@ public class USStockProvider implements MarketDataProvider {
 
     @Override
     public MarketStatus getMarketStatus() {
-        ZonedDateTime now = ZonedDateTime.now(US_EASTERN);
-        LocalTime time = now.toLocalTime();
-        DayOfWeek dayOfWeek = now.getDayOfWeek();
-
-        // 周末检查
-        if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
-            return MarketStatus.CLOSED;
-        }
-
-        // 市场假日（简化）
-        if (isMarketHoliday(now.toLocalDate())) {
-            return MarketStatus.CLOSED;
-        }
-
-        // 交易时间（东部时间）
-        LocalTime preMarketStart = LocalTime.of(PRE_MARKET_START_HOUR, 0);
-        LocalTime preMarketEnd = LocalTime.of(PRE_MARKET_END_HOUR, PRE_MARKET_END_MINUTE);
-        LocalTime regularStart = LocalTime.of(REGULAR_START_HOUR, REGULAR_START_MINUTE);
-        LocalTime regularEnd = LocalTime.of(REGULAR_END_HOUR, 0);
-        LocalTime postMarketEnd = LocalTime.of(POST_MARKET_END_HOUR, 0);
-
-        if (time.isAfter(preMarketStart) && time.isBefore(preMarketEnd)) {
-            return MarketStatus.PRE_MARKET;
-        }
-        else if ((time.equals(regularStart) || time.isAfter(regularStart))
-            && time.isBefore(regularEnd)) {
-            return MarketStatus.OPEN;
-        }
-        else if ((time.equals(regularEnd) || time.isAfter(regularEnd))
-            && time.isBefore(postMarketEnd)) {
-            return MarketStatus.POST_MARKET;
-        }
-        else {
-            return MarketStatus.CLOSED;
-        }
+        // 交易时段与休市安排（美东时间）见 calendar/us_stock.properties
+        return ExchangeCalendars.forMarket(MarketType.US_STOCK)
+            .map(calendar -> calendar.statusAt(Instant.now()))
+            .orElse(MarketStatus.UNKNOWN);
     }
 
     @Override
@@ -444,36 +371,6 @@ public class USStockProvider implements MarketDataProvider {
         return klines;
     }
 
-    private boolean isMarketHoliday(LocalDate date) {
-        int month = date.getMonthValue();
-        int day = date.getDayOfMonth();
-        DayOfWeek dow = date.getDayOfWeek();
-
-        return isNewYearHoliday(month, day, dow)
-            || isIndependenceDayHoliday(month, day, dow)
-            || isChristmasHoliday(month, day, dow);
-    }
-
-    private boolean isNewYearHoliday(int month, int day, DayOfWeek dow) {
-        return month == JANUARY
-            && (day == NEW_YEAR_DAY
-            || (day == NEW_YEAR_DAY_ALT && dow == DayOfWeek.MONDAY));
-    }
-
-    private boolean isIndependenceDayHoliday(int month, int day, DayOfWeek dow) {
-        return month == JULY
-            && (day == INDEPENDENCE_DAY
-            || (day == INDEPENDENCE_DAY_EVE && dow == DayOfWeek.FRIDAY)
-            || (day == INDEPENDENCE_DAY_AFTER && dow == DayOfWeek.MONDAY));
-    }
-
-    private boolean isChristmasHoliday(int month, int day, DayOfWeek dow) {
-        return month == DECEMBER
-            && (day == CHRISTMAS_DAY
-            || (day == CHRISTMAS_EVE && dow == DayOfWeek.FRIDAY)
-            || (day == CHRISTMAS_AFTER && dow == DayOfWeek.MONDAY));
-    }
-
     /**
      * 获取已订阅的股票代码。
      *
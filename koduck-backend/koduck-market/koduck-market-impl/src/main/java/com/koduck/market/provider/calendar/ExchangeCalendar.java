@@ -0,0 +1,488 @@
+package com.koduck.market.provider.calendar;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.koduck.market.provider.MarketDataProvider.MarketStatus;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 预计算的交易所交易日历。
+ *
+ * <p>加载时为覆盖年份内的每一天确定日类型（休市 / 全天 / 半天），每种日类型对应一张
+ * 按分钟展开的时段模板（1440 个状态 + 开市分钟前缀和 + 下一开盘分钟）。
+ * 运行时查询只需一次时区偏移换算与几次数组下标访问：</p>
+ * <ul>
+ *   <li>{@link #statusAt(Instant)}：当前市场状态；</li>
+ *   <li>{@link #nextOpen(Instant)}：下一个连续交易时段的开始时间；</li>
+ *   <li>{@link #tradingMinutesBetween(Instant, Instant)}：两时刻之间的连续交易分钟数。</li>
+ * </ul>
+ *
+ * <p>覆盖年份之外的日期按规则回退：周末休市，{@code fixed-holidays} 中的固定日期假日按
+ * {@code fixed-holiday-observance} 顺延后休市，其余工作日按全天交易处理。农历节日与调休无法推算，
+ * 因此首次查询到覆盖年份之外的日期时输出一次告警，提示补充交易所公告的休市安排。</p>
+ *
+ * <p>日历数据来自 {@code calendar/<market>.properties}，支持的键：</p>
+ * <pre>
+ * zone=Asia/Shanghai
+ * from-year=2025
+ * to-year=2026
+ * sessions=09:30-11:30 OPEN, 11:30-13:00 BREAK, 13:00-15:00 OPEN
+ * half-day-sessions=09:30-12:00 OPEN
+ * holidays=2026-01-01, 2026-01-02
+ * half-days=2026-12-24
+ * fixed-holidays=01-01, 05-01
+ * fixed-holiday-observance=NEXT_WEEKDAY
+ * </pre>
+ *
+ * @author Koduck Team
+ */
+@Slf4j
+public final class ExchangeCalendar {
+
+    /** 每天分钟数。 */
+    private static final int MINUTES_PER_DAY = 1440;
+
+    /** 每小时分钟数。 */
+    private static final int MINUTES_PER_HOUR = 60;
+
+    /** 每分钟秒数。 */
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    /** 每天秒数。 */
+    private static final int SECONDS_PER_DAY = MINUTES_PER_DAY * SECONDS_PER_MINUTE;
+
+    /** 日类型：休市。 */
+    private static final byte DAY_CLOSED = 0;
+
+    /** 日类型：全天交易。 */
+    private static final byte DAY_REGULAR = 1;
+
+    /** 日类型：半天交易。 */
+    private static final byte DAY_HALF = 2;
+
+    /** 无下一开盘时的占位值。 */
+    private static final int NONE = -1;
+
+    /** 市场状态枚举值缓存。 */
+    private static final MarketStatus[] STATUSES = MarketStatus.values();
+
+    /** 交易所时区。 */
+    private final ZoneId zone;
+
+    /** 交易所时区规则。 */
+    private final ZoneRules zoneRules;
+
+    /** 覆盖范围首年。 */
+    private final int fromYear;
+
+    /** 覆盖范围末年。 */
+    private final int toYear;
+
+    /** 覆盖范围首日（epoch day）。 */
+    private final long firstEpochDay;
+
+    /** 覆盖范围之外使用的固定日期假日。 */
+    private final List<MonthDay> fixedHolidays;
+
+    /** 固定日期假日落在周末时的顺延规则。 */
+    private final Observance observance;
+
+    /** 覆盖范围之外按年份计算的固定日期假日。 */
+    private final Map<Integer, Set<LocalDate>> fallbackHolidays = new ConcurrentHashMap<>();
+
+    /** 是否已对覆盖范围之外的查询告警。 */
+    private final AtomicBoolean outOfRangeWarned = new AtomicBoolean();
+
+    /** 各日类型对应的时段模板，下标为日类型。 */
+    private final SessionTemplate[] templates;
+
+    /** 覆盖范围内每天的日类型。 */
+    private final byte[] dayTypes;
+
+    /** 覆盖范围内每天之前累计的交易分钟数，长度为天数 + 1。 */
+    private final long[] tradingMinutesBeforeDay;
+
+    /** 覆盖范围内每天起（含当天）第一个交易日的下标，不存在时为 {@link #NONE}。 */
+    private final int[] nextTradingDay;
+
+    private ExchangeCalendar(ZoneId zone, int fromYear, int toYear, SessionTemplate regular, SessionTemplate half,
+                             byte[] dayTypes, List<MonthDay> fixedHolidays, Observance observance) {
+        this.zone = zone;
+        this.zoneRules = zone.getRules();
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+        this.firstEpochDay = LocalDate.of(fromYear, 1, 1).toEpochDay();
+        this.fixedHolidays = fixedHolidays;
+        this.observance = observance;
+        this.templates = new SessionTemplate[] {SessionTemplate.closed(), regular, half};
+        this.dayTypes = dayTypes;
+        int days = dayTypes.length;
+        this.tradingMinutesBeforeDay = new long[days + 1];
+        for (int d = 0; d < days; d++) {
+            tradingMinutesBeforeDay[d + 1] = tradingMinutesBeforeDay[d] + templates[dayTypes[d]].openMinutes();
+        }
+        this.nextTradingDay = new int[days];
+        int next = NONE;
+        for (int d = days - 1; d >= 0; d--) {
+            if (templates[dayTypes[d]].openMinutes() > 0) {
+                next = d;
+            }
+            nextTradingDay[d] = next;
+        }
+    }
+
+    /**
+     * 从日历配置构建日历。
+     *
+     * @param properties 日历配置
+     * @return 日历
+     * @throws IllegalArgumentException 配置缺失或格式错误时抛出
+     */
+    public static ExchangeCalendar from(Properties properties) {
+        ZoneId zone = ZoneId.of(required(properties, "zone"));
+        int fromYear = Integer.parseInt(required(properties, "from-year"));
+        int toYear = Integer.parseInt(required(properties, "to-year"));
+        if (toYear < fromYear) {
+            throw new IllegalArgumentException("to-year must not be before from-year");
+        }
+        SessionTemplate regular = SessionTemplate.parse(required(properties, "sessions"));
+        String halfSpec = properties.getProperty("half-day-sessions");
+        SessionTemplate half = halfSpec == null || halfSpec.isBlank() ? regular : SessionTemplate.parse(halfSpec);
+        Set<LocalDate> holidays = parseDates(properties.getProperty("holidays"));
+        Set<LocalDate> halfDays = parseDates(properties.getProperty("half-days"));
+        List<MonthDay> fixedHolidays = parseMonthDays(properties.getProperty("fixed-holidays"));
+        String observanceSpec = properties.getProperty("fixed-holiday-observance");
+        Observance observance = observanceSpec == null || observanceSpec.isBlank()
+            ? Observance.NEXT_WEEKDAY
+            : Observance.valueOf(observanceSpec.trim().toUpperCase(Locale.ROOT));
+
+        LocalDate firstDay = LocalDate.of(fromYear, 1, 1);
+        LocalDate endExclusive = LocalDate.of(toYear + 1, 1, 1);
+        byte[] dayTypes = new byte[(int) (endExclusive.toEpochDay() - firstDay.toEpochDay())];
+        LocalDate day = firstDay;
+        for (int d = 0; d < dayTypes.length; d++, day = day.plusDays(1)) {
+            if (isWeekend(day.getDayOfWeek()) || holidays.contains(day)) {
+                dayTypes[d] = DAY_CLOSED;
+            }
+            else {
+                dayTypes[d] = halfDays.contains(day) ? DAY_HALF : DAY_REGULAR;
+            }
+        }
+        return new ExchangeCalendar(zone, fromYear, toYear, regular, half, dayTypes, fixedHolidays, observance);
+    }
+
+    /**
+     * 交易所时区。
+     *
+     * @return 时区
+     */
+    public ZoneId zone() {
+        return zone;
+    }
+
+    /**
+     * 查询指定时刻的市场状态。
+     *
+     * @param instant 时刻
+     * @return 市场状态
+     */
+    public MarketStatus statusAt(Instant instant) {
+        long localSeconds = localEpochSecond(instant);
+        long epochDay = Math.floorDiv(localSeconds, SECONDS_PER_DAY);
+        int minute = (int) (Math.floorMod(localSeconds, SECONDS_PER_DAY) / SECONDS_PER_MINUTE);
+        return STATUSES[templateOf(epochDay).status[minute]];
+    }
+
+    /**
+     * 判断指定日期是否为交易日。
+     *
+     * @param date 交易所当地日期
+     * @return 是否为交易日
+     */
+    public boolean isTradingDay(LocalDate date) {
+        return templateOf(date.toEpochDay()).openMinutes() > 0;
+    }
+
+    /**
+     * 查询不早于指定时刻的下一个连续交易时段开始时间。
+     *
+     * @param instant 起始时刻
+     * @return 下一开盘时刻；覆盖范围之外一周内仍无交易日时返回 {@code null}
+     */
+    public Instant nextOpen(Instant instant) {
+        long localSeconds = localEpochSecond(instant);
+        long epochDay = Math.floorDiv(localSeconds, SECONDS_PER_DAY);
+        long secondOfDay = Math.floorMod(localSeconds, SECONDS_PER_DAY);
+        int minute = (int) ((secondOfDay + SECONDS_PER_MINUTE - 1) / SECONDS_PER_MINUTE);
+        int start = templateOf(epochDay).nextSessionStart[minute];
+        if (start != NONE) {
+            return toInstant(epochDay, start);
+        }
+        long nextDay = nextTradingEpochDay(epochDay + 1);
+        if (nextDay == Long.MIN_VALUE) {
+            return null;
+        }
+        return toInstant(nextDay, templateOf(nextDay).nextSessionStart[0]);
+    }
+
+    /**
+     * 统计 {@code [from, to)} 区间内的连续交易分钟数。
+     *
+     * <p>超出覆盖年份的部分不计入。</p>
+     *
+     * @param from 起始时刻（含）
+     * @param to   结束时刻（不含）
+     * @return 交易分钟数，{@code to} 不晚于 {@code from} 时为 0
+     */
+    public long tradingMinutesBetween(Instant from, Instant to) {
+        if (!to.isAfter(from)) {
+            return 0L;
+        }
+        return cumulativeTradingMinutes(to) - cumulativeTradingMinutes(from);
+    }
+
+    private long cumulativeTradingMinutes(Instant instant) {
+        long localSeconds = localEpochSecond(instant);
+        long dayIndex = Math.floorDiv(localSeconds, SECONDS_PER_DAY) - firstEpochDay;
+        if (dayIndex < 0) {
+            return 0L;
+        }
+        if (dayIndex >= dayTypes.length) {
+            return tradingMinutesBeforeDay[dayTypes.length];
+        }
+        int minute = (int) (Math.floorMod(localSeconds, SECONDS_PER_DAY) / SECONDS_PER_MINUTE);
+        int day = (int) dayIndex;
+        return tradingMinutesBeforeDay[day] + templates[dayTypes[day]].openBefore[minute];
+    }
+
+    private long nextTradingEpochDay(long fromEpochDay) {
+        long searchFrom = fromEpochDay;
+        long dayIndex = fromEpochDay - firstEpochDay;
+        if (dayIndex >= 0 && dayIndex < dayTypes.length) {
+            int next = nextTradingDay[(int) dayIndex];
+            if (next != NONE) {
+                return firstEpochDay + next;
+            }
+            searchFrom = firstEpochDay + dayTypes.length;
+        }
+        for (int i = 0; i < DayOfWeek.values().length; i++) {
+            if (templateOf(searchFrom + i).openMinutes() > 0) {
+                return searchFrom + i;
+            }
+        }
+        return Long.MIN_VALUE;
+    }
+
+    private SessionTemplate templateOf(long epochDay) {
+        long dayIndex = epochDay - firstEpochDay;
+        if (dayIndex >= 0 && dayIndex < dayTypes.length) {
+            return templates[dayTypes[(int) dayIndex]];
+        }
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        if (outOfRangeWarned.compareAndSet(false, true)) {
+            log.warn("Exchange calendar for {} covers {}-{} only; {} falls back to weekday and fixed-holiday rules, "
+                + "add the exchange's announced holidays to its calendar file", zone, fromYear, toYear, date);
+        }
+        return isWeekend(date.getDayOfWeek()) || fallbackHolidaysOf(date.getYear()).contains(date)
+            ? templates[DAY_CLOSED]
+            : templates[DAY_REGULAR];
+    }
+
+    private Set<LocalDate> fallbackHolidaysOf(int year) {
+        return fallbackHolidays.computeIfAbsent(year, key -> {
+            Set<LocalDate> observed = new HashSet<>();
+            for (MonthDay monthDay : fixedHolidays) {
+                if (monthDay.isValidYear(key)) {
+                    LocalDate day = observance.observe(monthDay.atYear(key), observed);
+                    if (day != null) {
+                        observed.add(day);
+                    }
+                }
+            }
+            return Set.copyOf(observed);
+        });
+    }
+
+    private long localEpochSecond(Instant instant) {
+        return instant.getEpochSecond() + zoneRules.getOffset(instant).getTotalSeconds();
+    }
+
+    private Instant toInstant(long epochDay, int minuteOfDay) {
+        return LocalDate.ofEpochDay(epochDay)
+            .atTime(LocalTime.ofSecondOfDay((long) minuteOfDay * SECONDS_PER_MINUTE))
+            .atZone(zone)
+            .toInstant();
+    }
+
+    private static boolean isWeekend(DayOfWeek dayOfWeek) {
+        return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+    }
+
+    private static String required(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing calendar property: " + key);
+        }
+        return value.trim();
+    }
+
+    private static Set<LocalDate> parseDates(String spec) {
+        Set<LocalDate> dates = new HashSet<>();
+        if (spec == null) {
+            return dates;
+        }
+        for (String token : spec.split(",")) {
+            String trimmed = token.trim();
+            if (!trimmed.isEmpty()) {
+                dates.add(LocalDate.parse(trimmed));
+            }
+        }
+        return dates;
+    }
+
+    private static List<MonthDay> parseMonthDays(String spec) {
+        List<MonthDay> monthDays = new ArrayList<>();
+        if (spec == null) {
+            return monthDays;
+        }
+        for (String token : spec.split(",")) {
+            String trimmed = token.trim();
+            if (!trimmed.isEmpty()) {
+                monthDays.add(MonthDay.parse("--" + trimmed));
+            }
+        }
+        return List.copyOf(monthDays);
+    }
+
+    /**
+     * 固定日期假日落在周末时的顺延规则。
+     */
+    enum Observance {
+
+        /** 周六提前到周五（不跨年），周日顺延到周一，如纽交所。 */
+        NEAREST_WEEKDAY,
+
+        /** 周末顺延到下一个非假日的工作日，如 A 股。 */
+        NEXT_WEEKDAY,
+
+        /** 周六不补假，周日顺延到下一个非假日的工作日，如港股。 */
+        SUNDAY_TO_NEXT_WEEKDAY;
+
+        /**
+         * 计算假日的实际休市日。
+         *
+         * @param date     假日日期
+         * @param observed 同年已确定的休市日
+         * @return 休市日；不补假时为 {@code null}
+         */
+        LocalDate observe(LocalDate date, Set<LocalDate> observed) {
+            DayOfWeek dayOfWeek = date.getDayOfWeek();
+            if (this == NEAREST_WEEKDAY) {
+                if (dayOfWeek == DayOfWeek.SATURDAY) {
+                    LocalDate friday = date.minusDays(1);
+                    return friday.getYear() == date.getYear() ? friday : null;
+                }
+                return dayOfWeek == DayOfWeek.SUNDAY ? date.plusDays(1) : date;
+            }
+            if (this == SUNDAY_TO_NEXT_WEEKDAY && dayOfWeek == DayOfWeek.SATURDAY) {
+                return null;
+            }
+            LocalDate day = date;
+            while (isWeekend(day.getDayOfWeek()) || observed.contains(day)) {
+                day = day.plusDays(1);
+            }
+            return day;
+        }
+    }
+
+    /**
+     * 按分钟展开的单日时段模板。
+     */
+    private static final class SessionTemplate {
+
+        /** 每分钟的市场状态序号。 */
+        private final byte[] status;
+
+        /** 当天 {@code [0, m)} 内的交易分钟数，长度 1441。 */
+        private final int[] openBefore;
+
+        /** 不早于第 m 分钟的下一个交易时段开始分钟，长度 1441。 */
+        private final int[] nextSessionStart;
+
+        private SessionTemplate(byte[] status) {
+            this.status = status;
+            this.openBefore = new int[MINUTES_PER_DAY + 1];
+            this.nextSessionStart = new int[MINUTES_PER_DAY + 1];
+            byte open = (byte) MarketStatus.OPEN.ordinal();
+            for (int m = 0; m < MINUTES_PER_DAY; m++) {
+                openBefore[m + 1] = openBefore[m] + (status[m] == open ? 1 : 0);
+            }
+            nextSessionStart[MINUTES_PER_DAY] = NONE;
+            for (int m = MINUTES_PER_DAY - 1; m >= 0; m--) {
+                boolean starts = status[m] == open && (m == 0 || status[m - 1] != open);
+                nextSessionStart[m] = starts ? m : nextSessionStart[m + 1];
+            }
+        }
+
+        static SessionTemplate closed() {
+            byte[] status = new byte[MINUTES_PER_DAY];
+            Arrays.fill(status, (byte) MarketStatus.CLOSED.ordinal());
+            return new SessionTemplate(status);
+        }
+
+        /**
+         * 解析 {@code HH:mm-HH:mm STATUS} 逗号分隔列表，未覆盖的分钟为 CLOSED。
+         */
+        static SessionTemplate parse(String spec) {
+            byte[] status = new byte[MINUTES_PER_DAY];
+            Arrays.fill(status, (byte) MarketStatus.CLOSED.ordinal());
+            for (String token : spec.split(",")) {
+                String range = token.trim();
+                if (range.isEmpty()) {
+                    continue;
+                }
+                String[] parts = range.split("\\s+");
+                String[] bounds = parts.length == 2 ? parts[0].split("-") : new String[0];
+                if (bounds.length != 2) {
+                    throw new IllegalArgumentException("Invalid session range: " + range);
+                }
+                int start = minuteOfDay(bounds[0]);
+                int end = minuteOfDay(bounds[1]);
+                if (end <= start) {
+                    throw new IllegalArgumentException("Session must end after it starts: " + range);
+                }
+                Arrays.fill(status, start, end, (byte) MarketStatus.valueOf(parts[1]).ordinal());
+            }
+            return new SessionTemplate(status);
+        }
+
+        int openMinutes() {
+            return openBefore[MINUTES_PER_DAY];
+        }
+
+        private static int minuteOfDay(String time) {
+            if ("24:00".equals(time)) {
+                return MINUTES_PER_DAY;
+            }
+            LocalTime parsed = LocalTime.parse(time);
+            return parsed.getHour() * MINUTES_PER_HOUR + parsed.getMinute();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.koduck.market.provider.calendar;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import com.koduck.market.MarketType;
+
+/**
+ * 各市场交易日历的共享注册表。
+ *
+ * <p>首次访问时从 classpath 的 {@code calendar/<market-code>.properties} 加载并预计算全部日历，
+ * 之后的查询均为常数时间。没有日历文件的市场返回 {@link Optional#empty()}。</p>
+ *
+ * @author Koduck Team
+ */
+public final class ExchangeCalendars {
+
+    /** 日历文件目录。 */
+    private static final String RESOURCE_DIR = "calendar/";
+
+    /** 日历文件后缀。 */
+    private static final String RESOURCE_SUFFIX = ".properties";
+
+    private ExchangeCalendars() {
+    }
+
+    /**
+     * 获取指定市场的交易日历。
+     *
+     * @param marketType 市场类型
+     * @return 交易日历
+     */
+    public static Optional<ExchangeCalendar> forMarket(MarketType marketType) {
+        return Optional.ofNullable(Holder.CALENDARS.get(marketType));
+    }
+
+    /**
+     * 从 classpath 加载单个日历文件。
+     *
+     * @param resource 资源路径
+     * @return 交易日历；资源不存在时为 {@code null}
+     * @throws IllegalStateException 资源读取失败或格式错误时抛出
+     */
+    static ExchangeCalendar load(String resource) {
+        ClassLoader loader = ExchangeCalendars.class.getClassLoader();
+        try (InputStream in = loader.getResourceAsStream(resource)) {
+            if (in == null) {
+                return null;
+            }
+            Properties properties = new Properties();
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+            return ExchangeCalendar.from(properties);
+        }
+        catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("Failed to load exchange calendar " + resource, e);
+        }
+    }
+
+    /**
+     * 延迟加载持有者。
+     */
+    private static final class Holder {
+
+        /** 市场类型到日历的映射。 */
+        private static final Map<MarketType, ExchangeCalendar> CALENDARS = loadAll();
+
+        private static Map<MarketType, ExchangeCalendar> loadAll() {
+            Map<MarketType, ExchangeCalendar> calendars = new EnumMap<>(MarketType.class);
+            for (MarketType marketType : MarketType.values()) {
+                ExchangeCalendar calendar = load(RESOURCE_DIR + marketType.getCode() + RESOURCE_SUFFIX);
+                if (calendar != null) {
+                    calendars.put(marketType, calendar);
+                }
+            }
+            return calendars;
+        }
+    }
+}
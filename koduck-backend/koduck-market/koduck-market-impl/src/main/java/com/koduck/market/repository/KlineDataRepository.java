@@ -0,0 +1,54 @@
+package com.koduck.market.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.koduck.market.entity.KlineData;
+
+/**
+ * K 线数据仓库，提供 kline_data 表的批量读取。
+ *
+ * @author Koduck Team
+ */
+@Repository
+public interface KlineDataRepository extends JpaRepository<KlineData, Long> {
+
+    /**
+     * 一次查询多只股票各自最近的 K 线，按股票代码、K 线时间升序排列。
+     *
+     * <p>以窗口函数在库内截取每只股票最近 {@code limit} 根，走 {@code idx_kline_composite} 索引。</p>
+     *
+     * @param market    市场代码
+     * @param timeframe K 线周期
+     * @param symbols   股票代码
+     * @param limit     每只股票的最大条数
+     * @return K 线列表
+     */
+    @Query(value = "SELECT k.* FROM kline_data k WHERE k.id IN ("
+        + "SELECT ranked.id FROM ("
+        + "SELECT r.id, ROW_NUMBER() OVER (PARTITION BY r.symbol ORDER BY r.kline_time DESC) AS rn "
+        + "FROM kline_data r WHERE r.market = :market AND r.timeframe = :timeframe AND r.symbol IN (:symbols)"
+        + ") ranked WHERE ranked.rn <= :limit) "
+        + "ORDER BY k.symbol, k.kline_time", nativeQuery = true)
+    List<KlineData> findRecentBySymbols(@Param("market") String market,
+                                        @Param("timeframe") String timeframe,
+                                        @Param("symbols") Collection<String> symbols,
+                                        @Param("limit") int limit);
+
+    /**
+     * 查询指定市场、周期在某时间点及之后的全部 K 线，按 K 线时间升序排列。
+     *
+     * @param market    市场代码
+     * @param timeframe K 线周期
+     * @param since     起始 K 线时间（含）
+     * @return K 线列表
+     */
+    List<KlineData> findByMarketAndTimeframeAndKlineTimeGreaterThanEqualOrderByKlineTimeAsc(
+        String market, String timeframe, LocalDateTime since);
+}
@@ -0,0 +1,41 @@
+package com.koduck.market.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.koduck.market.entity.StockBasic;
+
+/**
+ * 股票基本信息仓库，提供 stock_basic 表的数据库访问。
+ *
+ * @author Koduck Team
+ */
+@Repository
+public interface StockBasicRepository extends JpaRepository<StockBasic, Long> {
+
+    /**
+     * 查询指定市场、指定类型的全部股票，按代码排序。
+     *
+     * @param market 市场代码
+     * @param type   股票类型（STOCK 或 INDEX）
+     * @return 股票列表
+     */
+    List<StockBasic> findByMarketAndTypeOrderBySymbolAsc(String market, String type);
+
+    /**
+     * 查询全部未退市的证券。
+     *
+     * @return 证券列表
+     */
+    List<StockBasic> findByDelistDateIsNull();
+
+    /**
+     * 查询最近更新的一条记录，用于判断证券列表是否变化。
+     *
+     * @return 最近更新的记录
+     */
+    Optional<StockBasic> findTopByOrderByUpdatedAtDesc();
+}
@@ -0,0 +1,25 @@
+package com.koduck.market.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.koduck.market.entity.StockRealtime;
+
+/**
+ * 股票实时行情仓库，提供 stock_realtime 表的数据库访问。
+ *
+ * @author Koduck Team
+ */
+@Repository
+public interface StockRealtimeRepository extends JpaRepository<StockRealtime, String> {
+
+    /**
+     * 查询指定类型的全部最新行情快照。
+     *
+     * @param type 股票类型（STOCK 或 INDEX）
+     * @return 行情快照列表
+     */
+    List<StockRealtime> findByType(String type);
+}
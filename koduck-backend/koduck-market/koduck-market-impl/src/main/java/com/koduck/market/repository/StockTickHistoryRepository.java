@@ -0,0 +1,27 @@
+package com.koduck.market.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.koduck.market.entity.StockTickHistory;
+
+/**
+ * 合成分时历史仓库，提供 stock_tick_history 表的数据库访问。
+ *
+ * @author Koduck Team
+ */
+@Repository
+public interface StockTickHistoryRepository extends JpaRepository<StockTickHistory, Long> {
+
+    /**
+     * 查询指定股票最新的分时，按分时时间降序排列。
+     *
+     * @param symbol   股票代码
+     * @param pageable 分页参数（用于限制条数）
+     * @return 分时列表
+     */
+    List<StockTickHistory> findBySymbolOrderByTickTimeDesc(String symbol, Pageable pageable);
+}
@@ -0,0 +1,60 @@
+package com.koduck.market.service;
+
+import java.util.List;
+
+import com.koduck.market.service.support.HotStockRanking;
+
+/**
+ * 热门股票排行榜服务接口。
+ *
+ * <p>排行榜随每条实时行情增量维护，读取只取榜首 K 名，不对全市场重新排序。</p>
+ *
+ * @author Koduck Team
+ */
+public interface HotStockLeaderboardService {
+
+    /**
+     * 合并一条实时行情；为 {@code null} 的指标保持原分数不变。
+     *
+     * @param symbol        股票代码
+     * @param name          股票名称，可为 {@code null}
+     * @param changePercent 涨跌幅（百分比）
+     * @param volume        成交量
+     * @param amount        成交额
+     */
+    void onQuote(String symbol, String name, Double changePercent, Long volume, Double amount);
+
+    /**
+     * 读取榜单。
+     *
+     * @param market  市场代码，{@code AShare} 与 {@code a_share} 等价
+     * @param ranking 榜单
+     * @param limit   返回条数上限
+     * @return 按榜单顺序排列的股票
+     */
+    List<HotStock> top(String market, HotStockRanking ranking, int limit);
+
+    /**
+     * 丢弃内存排行榜，从最新的 {@code stock_realtime} 快照重建，再以 Redis 镜像中更新的分数覆盖。
+     *
+     * @return 重建后的股票数
+     */
+    int rebuild();
+
+    /**
+     * 把自上次刷写以来变化的分数写入 Redis 镜像。
+     *
+     * @return 写入的分数条数
+     */
+    int flush();
+
+    /**
+     * 榜单条目。
+     *
+     * @param symbol 股票代码
+     * @param name   股票名称，未知时为 {@code null}
+     * @param score  排序分数
+     */
+    record HotStock(String symbol, String name, double score) {
+    }
+}
@@ -0,0 +1,349 @@
+package com.koduck.market.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.koduck.common.constants.MarketConstants;
+import com.koduck.common.constants.RedisKeyConstants;
+import com.koduck.market.config.MarketProperties;
+import com.koduck.market.entity.StockRealtime;
+import com.koduck.market.repository.StockRealtimeRepository;
+import com.koduck.market.service.support.HotStockRanking;
+import com.koduck.market.service.support.HotStockRanking.Metric;
+import com.koduck.market.service.support.LeaderboardIndex;
+import com.koduck.market.service.support.SymbolSearchIndex;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 热门股票排行榜服务实现。
+ *
+ * <p>每个市场、每个排序指标维护一个 {@link LeaderboardIndex}，行情到达时只调整该股票的位置，
+ * 榜单读取沿索引取前 K 名。市场由股票代码格式推断，与 {@link RealtimeRefreshScheduler} 一致。</p>
+ *
+ * <p>变化的分数先记入待刷写表，定时任务按 Redis 键批量写入 {@code hot:rank:{market}:{metric}}
+ * 有序集合，同一股票在两次刷写之间只写最新分数。重启后首次访问时从 {@code stock_realtime} 快照重建，
+ * 再用 Redis 镜像中其他实例写入的更新分数覆盖。</p>
+ *
+ * <p>开启镜像时榜单读取直接取 Redis 有序集合的前 K 名，使各实例返回相同的榜单（本地索引只在重建时合并
+ * 其他实例的分数）；Redis 不可用或尚无镜像数据时回退到本地索引。</p>
+ *
+ * @author Koduck Team
+ */
+@Slf4j
+@Service
+public class HotStockLeaderboardServiceImpl implements HotStockLeaderboardService {
+
+    /** 待刷写表中表示移除的分数。 */
+    private static final Double REMOVED = Double.NaN;
+
+    /** 股票实时行情仓库。 */
+    private final StockRealtimeRepository stockRealtimeRepository;
+
+    /** Redis 模板。 */
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
+
+    /** 排行榜配置。 */
+    private final MarketProperties.LeaderboardConfig config;
+
+    /** 市场键到各指标排行榜。 */
+    private final Map<String, LeaderboardIndex[]> boards = new ConcurrentHashMap<>();
+
+    /** 股票名称。 */
+    private final Map<String, String> names = new ConcurrentHashMap<>();
+
+    /** Redis 键到待刷写的股票分数。 */
+    private final Map<String, Map<String, Double>> pending = new ConcurrentHashMap<>();
+
+    /** 重建互斥锁。 */
+    private final Object loadMonitor = new Object();
+
+    /** 是否已从快照加载。 */
+    private volatile boolean loaded;
+
+    /**
+     * 构造排行榜服务。
+     *
+     * @param stockRealtimeRepository 股票实时行情仓库
+     * @param redisTemplate           Redis 模板
+     * @param marketProperties        市场模块配置
+     */
+    public HotStockLeaderboardServiceImpl(StockRealtimeRepository stockRealtimeRepository,
+                                          ObjectProvider<StringRedisTemplate> redisTemplate,
+                                          MarketProperties marketProperties) {
+        this.stockRealtimeRepository = stockRealtimeRepository;
+        this.redisTemplate = redisTemplate;
+        this.config = marketProperties.getLeaderboard();
+    }
+
+    @Override
+    public void onQuote(String symbol, String name, Double changePercent, Long volume, Double amount) {
+        if (!config.isEnabled() || symbol == null || symbol.isBlank()) {
+            return;
+        }
+        ensureLoaded();
+        if (name != null) {
+            names.put(symbol, name);
+        }
+        String market = marketKeyOf(symbol);
+        LeaderboardIndex[] board = board(market);
+        apply(market, board, Metric.CHANGE_PERCENT, symbol, changePercent, true);
+        apply(market, board, Metric.VOLUME, symbol, volume == null ? null : volume.doubleValue(), true);
+        apply(market, board, Metric.AMOUNT, symbol, amount, true);
+    }
+
+    @Override
+    public List<HotStock> top(String market, HotStockRanking ranking, int limit) {
+        if (!config.isEnabled() || ranking == null || limit <= 0) {
+            return List.of();
+        }
+        ensureLoaded();
+        String marketKey = SymbolSearchIndex.marketKey(market);
+        int capped = Math.min(limit, Math.max(1, config.getMaxLimit()));
+        List<HotStock> mirrored = topFromMirror(marketKey, ranking, capped);
+        if (mirrored != null) {
+            return mirrored;
+        }
+        LeaderboardIndex[] board = boards.get(marketKey);
+        if (board == null) {
+            return List.of();
+        }
+        LeaderboardIndex index = board[ranking.metric().ordinal()];
+        List<LeaderboardIndex.Ranked> ranked = ranking.descending() ? index.top(capped) : index.bottom(capped);
+        List<HotStock> result = new ArrayList<>(ranked.size());
+        for (LeaderboardIndex.Ranked entry : ranked) {
+            result.add(new HotStock(entry.symbol(), names.get(entry.symbol()), entry.score()));
+        }
+        return result;
+    }
+
+    @Override
+    public int rebuild() {
+        synchronized (loadMonitor) {
+            boards.values().forEach(board -> {
+                for (LeaderboardIndex index : board) {
+                    index.clear();
+                }
+            });
+            List<StockRealtime> snapshot = stockRealtimeRepository.findByType(MarketConstants.STOCK_TYPE);
+            for (StockRealtime quote : snapshot) {
+                if (quote.getSymbol() == null) {
+                    continue;
+                }
+                if (quote.getName() != null) {
+                    names.put(quote.getSymbol(), quote.getName());
+                }
+                String symbol = quote.getSymbol();
+                String market = marketKeyOf(symbol);
+                LeaderboardIndex[] board = board(market);
+                apply(market, board, Metric.CHANGE_PERCENT, symbol, toDouble(quote.getChangePercent()), false);
+                apply(market, board, Metric.VOLUME, symbol,
+                    quote.getVolume() == null ? null : quote.getVolume().doubleValue(), false);
+                apply(market, board, Metric.AMOUNT, symbol, toDouble(quote.getAmount()), false);
+            }
+            int overlaid = overlayMirror();
+            loaded = true;
+            int size = boards.values().stream()
+                .mapToInt(board -> board[Metric.CHANGE_PERCENT.ordinal()].size())
+                .sum();
+            log.info("Hot stock leaderboards rebuilt: snapshot={}, mirrored={}, ranked={}",
+                snapshot.size(), overlaid, size);
+            return size;
+        }
+    }
+
+    /**
+     * 定时刷写 Redis 镜像。
+     */
+    @Scheduled(fixedDelayString = "${koduck.market.leaderboard.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        if (!config.isEnabled() || pending.isEmpty()) {
+            return;
+        }
+        try {
+            flush();
+        }
+        catch (RuntimeException e) {
+            log.warn("Hot stock leaderboard flush failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public int flush() {
+        StringRedisTemplate redis = mirror();
+        if (redis == null) {
+            pending.clear();
+            return 0;
+        }
+        int written = 0;
+        for (Map.Entry<String, Map<String, Double>> entry : pending.entrySet()) {
+            String key = entry.getKey();
+            Map<String, Double> scores = entry.getValue();
+            Set<ZSetOperations.TypedTuple<String>> additions = new HashSet<>();
+            List<Object> removals = new ArrayList<>();
+            Map<String, Double> drained = new HashMap<>();
+            for (Map.Entry<String, Double> score : scores.entrySet()) {
+                if (!scores.remove(score.getKey(), score.getValue())) {
+                    continue;
+                }
+                drained.put(score.getKey(), score.getValue());
+                if (score.getValue().isNaN()) {
+                    removals.add(score.getKey());
+                }
+                else {
+                    additions.add(new DefaultTypedTuple<>(score.getKey(), score.getValue()));
+                }
+            }
+            if (drained.isEmpty()) {
+                continue;
+            }
+            try {
+                if (!additions.isEmpty()) {
+                    redis.opsForZSet().add(key, additions);
+                }
+                if (!removals.isEmpty()) {
+                    redis.opsForZSet().remove(key, removals.toArray());
+                }
+                redis.expire(key, RedisKeyConstants.TTL_HOT_RANK, TimeUnit.SECONDS);
+            }
+            catch (RuntimeException e) {
+                drained.forEach(scores::putIfAbsent);
+                throw e;
+            }
+            written += drained.size();
+        }
+        return written;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (loadMonitor) {
+            if (loaded) {
+                return;
+            }
+            try {
+                rebuild();
+            }
+            catch (RuntimeException e) {
+                log.warn("Hot stock leaderboard rebuild failed, starting empty: {}", e.getMessage());
+                loaded = true;
+            }
+        }
+    }
+
+    /**
+     * 从 Redis 镜像读取榜单，降序用 {@code ZREVRANGE}，升序用 {@code ZRANGE}。
+     *
+     * @return 榜单；未开启镜像、Redis 不可用或镜像为空时返回 {@code null}，由调用方回退到本地索引
+     */
+    private List<HotStock> topFromMirror(String marketKey, HotStockRanking ranking, int limit) {
+        StringRedisTemplate redis = mirror();
+        if (redis == null) {
+            return null;
+        }
+        String key = RedisKeyConstants.hotRankKey(marketKey, ranking.metric().code());
+        Set<ZSetOperations.TypedTuple<String>> scores;
+        try {
+            scores = ranking.descending()
+                ? redis.opsForZSet().reverseRangeWithScores(key, 0, limit - 1)
+                : redis.opsForZSet().rangeWithScores(key, 0, limit - 1);
+        }
+        catch (RuntimeException e) {
+            // 刷写任务已按刷写间隔告警，读取路径不重复告警
+            log.debug("Hot stock leaderboard mirror read failed, using local index: {}", e.getMessage());
+            return null;
+        }
+        if (scores == null || scores.isEmpty()) {
+            return null;
+        }
+        List<HotStock> result = new ArrayList<>(scores.size());
+        for (ZSetOperations.TypedTuple<String> score : scores) {
+            if (score.getValue() != null && score.getScore() != null) {
+                result.add(new HotStock(score.getValue(), names.get(score.getValue()), score.getScore()));
+            }
+        }
+        return result;
+    }
+
+    private int overlayMirror() {
+        StringRedisTemplate redis = mirror();
+        if (redis == null) {
+            return 0;
+        }
+        int overlaid = 0;
+        for (Map.Entry<String, LeaderboardIndex[]> board : boards.entrySet()) {
+            for (Metric metric : Metric.values()) {
+                Set<ZSetOperations.TypedTuple<String>> scores;
+                try {
+                    scores = redis.opsForZSet()
+                        .rangeWithScores(RedisKeyConstants.hotRankKey(board.getKey(), metric.code()), 0, -1);
+                }
+                catch (RuntimeException e) {
+                    log.warn("Hot stock leaderboard mirror unavailable: {}", e.getMessage());
+                    return overlaid;
+                }
+                if (scores == null) {
+                    continue;
+                }
+                LeaderboardIndex index = board.getValue()[metric.ordinal()];
+                for (ZSetOperations.TypedTuple<String> score : scores) {
+                    if (score.getValue() != null && score.getScore() != null) {
+                        index.update(score.getValue(), score.getScore());
+                        overlaid++;
+                    }
+                }
+            }
+        }
+        return overlaid;
+    }
+
+    private void apply(String market, LeaderboardIndex[] board, Metric metric, String symbol, Double value,
+                       boolean mirror) {
+        if (value == null) {
+            return;
+        }
+        if (board[metric.ordinal()].update(symbol, value) && mirror && config.isMirrorEnabled()) {
+            double score = Double.isFinite(value) ? value : REMOVED;
+            pending.computeIfAbsent(RedisKeyConstants.hotRankKey(market, metric.code()),
+                key -> new ConcurrentHashMap<>()).put(symbol, score);
+        }
+    }
+
+    private LeaderboardIndex[] board(String market) {
+        return boards.computeIfAbsent(market, key -> {
+            LeaderboardIndex[] board = new LeaderboardIndex[Metric.values().length];
+            for (int i = 0; i < board.length; i++) {
+                board[i] = new LeaderboardIndex();
+            }
+            return board;
+        });
+    }
+
+    private StringRedisTemplate mirror() {
+        return config.isMirrorEnabled() ? redisTemplate.getIfAvailable() : null;
+    }
+
+    private static String marketKeyOf(String symbol) {
+        return SymbolSearchIndex.marketKey(RealtimeRefreshScheduler.marketOf(symbol).getCode());
+    }
+
+    private static Double toDouble(BigDecimal value) {
+        return value == null ? null : value.doubleValue();
+    }
+}
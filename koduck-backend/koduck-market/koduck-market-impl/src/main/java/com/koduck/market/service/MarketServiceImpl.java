@@ -7,6 +7,7 @@ import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 
+import com.koduck.common.constants.MarketConstants;
 import com.koduck.market.api.MarketCommandService;
 import com.koduck.market.api.MarketQueryService;
 import com.koduck.market.dto.MarketIndexDto;
@@ -16,6 +17,8 @@ import com.koduck.market.dto.StockIndustryDto;
 import com.koduck.market.dto.StockStatsDto;
 import com.koduck.market.dto.StockValuationDto;
 import com.koduck.market.dto.SymbolInfoDto;
+import com.koduck.market.service.support.HotStockRanking;
+import com.koduck.market.service.support.SymbolSearchIndex;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,18 +40,46 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class MarketServiceImpl implements MarketQueryService, MarketCommandService {
 
+    /** 证券搜索服务。 */
+    private final SymbolSearchService symbolSearchService;
+
+    /** 热门股票排行榜服务。 */
+    private final HotStockLeaderboardService hotStockLeaderboardService;
+
     @Override
     public List<SymbolInfoDto> searchSymbols(String keyword, int page, int size) {
         log.debug("搜索股票: keyword={}, page={}, size={}", keyword, page, size);
-        // TODO: 实现股票搜索逻辑
-        return Collections.emptyList();
+        long window = (long) page * size;
+        if (page < 1 || size < 1 || window > Integer.MAX_VALUE) {
+            return Collections.emptyList();
+        }
+        int offset = (page - 1) * size;
+        List<SymbolSearchIndex.Entry> entries = symbolSearchService.search(keyword, null, (int) window);
+        if (entries.size() <= offset) {
+            return Collections.emptyList();
+        }
+        return entries.subList(offset, entries.size()).stream()
+            .map(entry -> SymbolInfoDto.builder()
+                .symbol(entry.symbol())
+                .name(entry.name())
+                .type(entry.type())
+                .market(entry.market())
+                .build())
+            .toList();
     }
 
     @Override
     public List<SymbolInfoDto> getHotStocks(String market, int limit) {
         log.debug("获取热门股票: market={}, limit={}", market, limit);
-        // TODO: 实现热门股票查询逻辑
-        return Collections.emptyList();
+        return hotStockLeaderboardService.top(market, HotStockRanking.VOLUME, limit).stream()
+            .map(stock -> SymbolInfoDto.builder()
+                .symbol(stock.symbol())
+                .name(stock.name())
+                .type(MarketConstants.STOCK_TYPE)
+                .market(market)
+                .volume((long) stock.score())
+                .build())
+            .toList();
     }
 
     @Override
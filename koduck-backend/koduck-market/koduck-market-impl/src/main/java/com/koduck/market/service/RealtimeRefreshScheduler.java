@@ -0,0 +1,229 @@
+package com.koduck.market.service;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.koduck.market.MarketType;
+import com.koduck.market.config.MarketProperties;
+import com.koduck.market.provider.MarketDataProvider;
+import com.koduck.market.provider.MarketDataProvider.MarketStatus;
+import com.koduck.market.provider.ProviderFactory;
+import com.koduck.service.RealtimeDataTriggerService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 按订阅兴趣驱动的实时行情刷新调度器。
+ *
+ * <p>每个节拍收集当前被订阅的股票集合，按市场分组后读取对应主提供商的
+ * {@link MarketDataProvider#getMarketStatus()}：连续交易时段高频刷新，盘前盘后与午休降频，
+ * 收盘后停止。到期的市场截取优先级最高的 {@code max-symbols-per-cycle} 只，
+ * 再按 {@code batch-size} 切分为多次 {@link RealtimeDataTriggerService#triggerRealtimeUpdate(List)} 调用。
+ * 上游请求只花在有人关注、且价格可能变化的股票上。</p>
+ *
+ * <p>优先级 = 距上次刷新的时长 ×（1 + 订阅人数），从未刷新过的股票最优先（其中订阅人数多的在前）。
+ * 订阅人数多的股票刷新得更频繁，而长尾股票的优先级随等待时间增长，超过上限时也会在后续周期轮到，不会一直得不到刷新。</p>
+ *
+ * @author Koduck Team
+ */
+@Slf4j
+@Component
+public class RealtimeRefreshScheduler {
+
+    /** A 股代码：6 位数字。 */
+    private static final Pattern A_SHARE_SYMBOL = Pattern.compile("\\d{6}");
+
+    /** 港股代码：4~5 位数字。 */
+    private static final Pattern HK_SYMBOL = Pattern.compile("\\d{4,5}");
+
+    /** 美股代码：1~5 位字母，可带类别后缀。 */
+    private static final Pattern US_SYMBOL = Pattern.compile("[A-Za-z]{1,5}(\\.[A-Za-z])?");
+
+    /** 股票订阅服务。 */
+    private final StockSubscriptionService stockSubscriptionService;
+
+    /** 数据提供商工厂。 */
+    private final ProviderFactory providerFactory;
+
+    /** 实时刷新触发器。 */
+    private final ObjectProvider<RealtimeDataTriggerService> triggerService;
+
+    /** 刷新调度配置。 */
+    private final MarketProperties.RefreshConfig config;
+
+    /** 时钟。 */
+    private final Clock clock;
+
+    /** 各市场上次刷新时间（epoch 毫秒）。 */
+    private final Map<MarketType, Long> lastRefreshMillis = new EnumMap<>(MarketType.class);
+
+    /** 各股票上次刷新时间（epoch 毫秒），只保留仍被订阅的股票。 */
+    private final Map<String, Long> lastSymbolRefreshMillis = new HashMap<>();
+
+    /**
+     * 构造刷新调度器。
+     *
+     * @param stockSubscriptionService 股票订阅服务
+     * @param providerFactory          数据提供商工厂
+     * @param triggerService           实时刷新触发器
+     * @param marketProperties         市场模块配置
+     */
+    @Autowired
+    public RealtimeRefreshScheduler(StockSubscriptionService stockSubscriptionService,
+                                    ProviderFactory providerFactory,
+                                    ObjectProvider<RealtimeDataTriggerService> triggerService,
+                                    MarketProperties marketProperties) {
+        this(stockSubscriptionService, providerFactory, triggerService, marketProperties, Clock.systemUTC());
+    }
+
+    /**
+     * 构造刷新调度器（可注入时钟，用于测试）。
+     *
+     * @param stockSubscriptionService 股票订阅服务
+     * @param providerFactory          数据提供商工厂
+     * @param triggerService           实时刷新触发器
+     * @param marketProperties         市场模块配置
+     * @param clock                    时钟
+     */
+    RealtimeRefreshScheduler(StockSubscriptionService stockSubscriptionService,
+                             ProviderFactory providerFactory,
+                             ObjectProvider<RealtimeDataTriggerService> triggerService,
+                             MarketProperties marketProperties,
+                             Clock clock) {
+        this.stockSubscriptionService = stockSubscriptionService;
+        this.providerFactory = providerFactory;
+        this.triggerService = triggerService;
+        this.config = marketProperties.getRefresh();
+        this.clock = clock;
+    }
+
+    /**
+     * 调度节拍：为到期的市场触发一轮刷新。
+     *
+     * @return 本次触发刷新的股票数
+     */
+    @Scheduled(fixedDelayString = "${koduck.market.refresh.tick-interval-ms:1000}")
+    public synchronized int refreshDue() {
+        if (!config.isEnabled()) {
+            return 0;
+        }
+        RealtimeDataTriggerService trigger = triggerService.getIfAvailable();
+        if (trigger == null) {
+            return 0;
+        }
+        Set<String> symbols = stockSubscriptionService.getAllSubscribedSymbols();
+        if (symbols.isEmpty()) {
+            return 0;
+        }
+        lastSymbolRefreshMillis.keySet().retainAll(symbols);
+        Map<MarketType, List<String>> byMarket = new EnumMap<>(MarketType.class);
+        for (String symbol : symbols) {
+            byMarket.computeIfAbsent(marketOf(symbol), key -> new ArrayList<>()).add(symbol);
+        }
+        long now = clock.millis();
+        int triggered = 0;
+        for (Map.Entry<MarketType, List<String>> entry : byMarket.entrySet()) {
+            MarketType market = entry.getKey();
+            long interval = intervalFor(statusOf(market));
+            if (interval <= 0) {
+                continue;
+            }
+            Long last = lastRefreshMillis.get(market);
+            if (last != null && now - last < interval) {
+                continue;
+            }
+            lastRefreshMillis.put(market, now);
+            triggered += dispatch(trigger, market, entry.getValue(), now);
+        }
+        return triggered;
+    }
+
+    private int dispatch(RealtimeDataTriggerService trigger, MarketType market, List<String> symbols, long now) {
+        List<String> ranked = rankByPriority(symbols, now);
+        int limit = Math.min(ranked.size(), Math.max(1, config.getMaxSymbolsPerCycle()));
+        int batchSize = Math.max(1, config.getBatchSize());
+        for (int from = 0; from < limit; from += batchSize) {
+            List<String> batch = List.copyOf(ranked.subList(from, Math.min(limit, from + batchSize)));
+            for (String symbol : batch) {
+                lastSymbolRefreshMillis.put(symbol, now);
+            }
+            try {
+                trigger.triggerRealtimeUpdate(batch);
+            }
+            catch (RuntimeException e) {
+                log.warn("Realtime refresh trigger failed for {} {} symbols: {}", market, batch.size(), e.getMessage());
+            }
+        }
+        if (ranked.size() > limit) {
+            log.debug("Realtime refresh for {} capped at {} of {} subscribed symbols, the rest wait for later cycles",
+                market, limit, ranked.size());
+        }
+        return limit;
+    }
+
+    private List<String> rankByPriority(List<String> symbols, long now) {
+        Map<String, Integer> subscriberCounts = new HashMap<>(symbols.size() * 2);
+        Map<String, Long> priorities = new HashMap<>(symbols.size() * 2);
+        for (String symbol : symbols) {
+            int subscribers = stockSubscriptionService.getSubscribers(symbol).size();
+            Long last = lastSymbolRefreshMillis.get(symbol);
+            subscriberCounts.put(symbol, subscribers);
+            priorities.put(symbol, last == null ? Long.MAX_VALUE : Math.max(0L, now - last) * (1L + subscribers));
+        }
+        List<String> ranked = new ArrayList<>(symbols);
+        ranked.sort(Comparator.<String>comparingLong(priorities::get).reversed()
+            .thenComparing(Comparator.<String>comparingInt(subscriberCounts::get).reversed())
+            .thenComparing(Comparator.naturalOrder()));
+        return ranked;
+    }
+
+    private MarketStatus statusOf(MarketType market) {
+        try {
+            return providerFactory.getPrimaryProvider(market)
+                .map(MarketDataProvider::getMarketStatus)
+                .orElse(MarketStatus.UNKNOWN);
+        }
+        catch (RuntimeException e) {
+            log.debug("Market status unavailable for {}: {}", market, e.getMessage());
+            return MarketStatus.UNKNOWN;
+        }
+    }
+
+    private long intervalFor(MarketStatus status) {
+        return switch (status) {
+            case OPEN -> config.getOpenIntervalMs();
+            case PRE_MARKET, POST_MARKET -> config.getExtendedIntervalMs();
+            case BREAK -> config.getBreakIntervalMs();
+            case CLOSED -> config.getClosedIntervalMs();
+            case UNKNOWN -> config.getUnknownIntervalMs();
+        };
+    }
+
+    /**
+     * 根据代码格式推断股票所属市场，无法识别时按 A 股处理。
+     */
+    static MarketType marketOf(String symbol) {
+        if (A_SHARE_SYMBOL.matcher(symbol).matches()) {
+            return MarketType.A_SHARE;
+        }
+        if (HK_SYMBOL.matcher(symbol).matches()) {
+            return MarketType.HK_STOCK;
+        }
+        if (US_SYMBOL.matcher(symbol).matches()) {
+            return MarketType.US_STOCK;
+        }
+        return MarketType.A_SHARE;
+    }
+}
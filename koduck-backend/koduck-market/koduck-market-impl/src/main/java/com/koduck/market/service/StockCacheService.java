@@ -45,7 +45,7 @@ public interface StockCacheService {
      * 缓存热门股票列表。
      * 键：hot:stocks:{type}，TTL：60秒
      *
-     * @param type    热门股票类型（volume, gain, loss）
+     * @param type    热门股票类型（volume, gain, loss, amount）
      * @param symbols 股票代码列表
      */
     void cacheHotStocks(String type, List<String> symbols);
@@ -53,7 +53,7 @@ public interface StockCacheService {
     /**
      * 获取缓存的热门股票列表。
      *
-     * @param type 热门股票类型（volume, gain, loss）
+     * @param type 热门股票类型（volume, gain, loss, amount）
      * @return 股票代码列表，如未找到则返回null
      */
     List<String> getCachedHotStocks(String type);
@@ -0,0 +1,27 @@
+package com.koduck.market.service;
+
+import com.koduck.market.dto.screener.ScreenerRequest;
+import com.koduck.market.dto.screener.ScreenerResponse;
+
+/**
+ * 全市场横截面选股服务接口。
+ *
+ * @author Koduck Team
+ */
+public interface StockScreenerService {
+
+    /**
+     * 在全市场快照上一次性评估条件并返回排名结果。
+     *
+     * @param request 选股请求
+     * @return 选股结果
+     */
+    ScreenerResponse screen(ScreenerRequest request);
+
+    /**
+     * 刷新选股快照：到期时全量重建，否则只合并最新 K 线。
+     *
+     * @return 本次合并的 K 线数
+     */
+    int refresh();
+}
@@ -0,0 +1,437 @@
+package com.koduck.market.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.koduck.common.constants.DateTimePatternConstants;
+import com.koduck.common.constants.MarketConstants;
+import com.koduck.exception.ValidationException;
+import com.koduck.market.config.MarketProperties;
+import com.koduck.market.dto.screener.ScreenerCondition;
+import com.koduck.market.dto.screener.ScreenerRequest;
+import com.koduck.market.dto.screener.ScreenerResponse;
+import com.koduck.market.entity.KlineData;
+import com.koduck.market.entity.StockBasic;
+import com.koduck.market.repository.KlineDataRepository;
+import com.koduck.market.repository.StockBasicRepository;
+import com.koduck.market.service.support.ScreenFilter;
+import com.koduck.market.service.support.ScreenerField;
+import com.koduck.market.service.support.ScreenerSnapshot;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 全市场横截面选股服务实现。
+ *
+ * <p>股票池与最近 {@code history-bars} 根 K 线常驻在一个 {@link ScreenerSnapshot} 中：</p>
+ * <ul>
+ *   <li>全量重建按 {@code load-batch-size} 只股票一批，以窗口函数查询各自最近的 K 线，不按股票逐只查询；</li>
+ *   <li>增量刷新只查询快照最新 K 线时间及之后的行，合并形成中 K 线并推进指标状态；</li>
+ *   <li>选股时条件被编译为作用于基本类型列的 {@link ScreenFilter}，排序使用基本类型堆，整个过程不访问数据库。</li>
+ * </ul>
+ *
+ * <p>快照由读写锁保护：合并 K 线与首次建立指标列持有写锁，条件评估持有读锁。选股先在读锁下取已有列，
+ * 只有引用的指标列尚未建立时才取写锁，并在写锁内重新检查后建立。</p>
+ *
+ * @author Koduck Team
+ */
+@Slf4j
+@Service
+public class StockScreenerServiceImpl implements StockScreenerService {
+
+    /** 字段值保留的小数位数。 */
+    private static final int VALUE_SCALE = 4;
+
+    /** 收盘价字段。 */
+    private static final ScreenerField CLOSE = ScreenerField.parse("close").orElseThrow();
+
+    /** 涨跌幅字段。 */
+    private static final ScreenerField CHANGE_PERCENT = ScreenerField.parse("changePercent").orElseThrow();
+
+    /** 股票基本信息仓库。 */
+    private final StockBasicRepository stockBasicRepository;
+
+    /** K 线数据仓库。 */
+    private final KlineDataRepository klineDataRepository;
+
+    /** 选股配置。 */
+    private final MarketProperties.ScreenerConfig config;
+
+    /** 时钟。 */
+    private final Clock clock;
+
+    /** 快照读写锁。 */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 刷新互斥锁，保证同一时刻只有一次重建或增量刷新。 */
+    private final Object refreshMonitor = new Object();
+
+    /** 当前快照，尚未加载时为 {@code null}。 */
+    private ScreenerSnapshot snapshot;
+
+    /** 上次全量重建时间（epoch 毫秒）。 */
+    private long lastReloadMillis;
+
+    /**
+     * 构造选股服务。
+     *
+     * @param stockBasicRepository 股票基本信息仓库
+     * @param klineDataRepository  K 线数据仓库
+     * @param marketProperties     市场模块配置
+     */
+    @Autowired
+    public StockScreenerServiceImpl(StockBasicRepository stockBasicRepository,
+                                    KlineDataRepository klineDataRepository,
+                                    MarketProperties marketProperties) {
+        this(stockBasicRepository, klineDataRepository, marketProperties, Clock.systemUTC());
+    }
+
+    /**
+     * 构造选股服务（可注入时钟，用于测试）。
+     *
+     * @param stockBasicRepository 股票基本信息仓库
+     * @param klineDataRepository  K 线数据仓库
+     * @param marketProperties     市场模块配置
+     * @param clock                时钟
+     */
+    StockScreenerServiceImpl(StockBasicRepository stockBasicRepository,
+                             KlineDataRepository klineDataRepository,
+                             MarketProperties marketProperties,
+                             Clock clock) {
+        this.stockBasicRepository = stockBasicRepository;
+        this.klineDataRepository = klineDataRepository;
+        this.config = marketProperties.getScreener();
+        this.clock = clock;
+    }
+
+    /**
+     * 定时刷新快照。
+     */
+    @Scheduled(fixedDelayString = "${koduck.market.screener.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            refresh();
+        }
+        catch (RuntimeException e) {
+            log.warn("Screener snapshot refresh failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public int refresh() {
+        synchronized (refreshMonitor) {
+            ScreenerSnapshot current = currentSnapshot();
+            if (current == null || clock.millis() - lastReloadMillis >= config.getFullReloadIntervalMs()) {
+                return reload(current);
+            }
+            return applyRecent(current);
+        }
+    }
+
+    @Override
+    public ScreenerResponse screen(ScreenerRequest request) {
+        List<CompiledCondition> allOf = compile(request.allOf(), "allOf");
+        List<CompiledCondition> anyOf = compile(request.anyOf(), "anyOf");
+        ScreenerField sortField = resolve(request.sortBy(), "sortBy");
+        int limit = request.limit() == null ? config.getDefaultLimit() : request.limit();
+        ScreenerSnapshot current = currentSnapshot();
+        if (current == null) {
+            refresh();
+            current = currentSnapshot();
+        }
+
+        Set<ScreenerField> fields = referencedFields(sortField, allOf, anyOf);
+        lock.readLock().lock();
+        try {
+            Map<ScreenerField, double[]> columns = existingColumns(current, fields);
+            if (columns != null) {
+                return evaluate(current, columns, allOf, anyOf, sortField, request.descending(), limit);
+            }
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+
+        Map<ScreenerField, double[]> columns = new LinkedHashMap<>();
+        lock.writeLock().lock();
+        try {
+            // 写锁内重新检查：其他请求可能已建立该列，column 只建立仍缺失的指标列，再降级为读锁评估条件
+            for (ScreenerField field : fields) {
+                columns.put(field, current.column(field));
+            }
+            lock.readLock().lock();
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            return evaluate(current, columns, allOf, anyOf, sortField, request.descending(), limit);
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 在读锁下评估条件并排序。
+     */
+    private ScreenerResponse evaluate(ScreenerSnapshot current, Map<ScreenerField, double[]> columns,
+                                      List<CompiledCondition> allOf, List<CompiledCondition> anyOf,
+                                      ScreenerField sortField, boolean descending, int limit) {
+        double[] close = current.findColumn(CLOSE);
+        double[] change = current.findColumn(CHANGE_PERCENT);
+        ScreenFilter filter = ScreenFilter.allOf(toFilters(allOf, columns))
+            .and(ScreenFilter.anyOf(toFilters(anyOf, columns)));
+        BitSet candidates = current.populated();
+        filter.retain(candidates);
+        int[] ranked = ScreenerSnapshot.topK(candidates, columns.get(sortField), descending, limit);
+        List<ScreenerResponse.Item> items = new ArrayList<>(ranked.length);
+        for (int slot : ranked) {
+            Map<String, BigDecimal> values = new LinkedHashMap<>();
+            for (Map.Entry<ScreenerField, double[]> column : columns.entrySet()) {
+                BigDecimal value = scaled(column.getValue()[slot]);
+                if (value != null) {
+                    values.put(column.getKey().code(), value);
+                }
+            }
+            items.add(new ScreenerResponse.Item(current.symbol(slot), current.name(slot),
+                scaled(close[slot]), scaled(change[slot]), values));
+        }
+        long latest = current.latestTime();
+        LocalDateTime asOf = latest == ScreenerSnapshot.NO_BAR ? null : toDateTime(latest);
+        return new ScreenerResponse(config.getMarket(), config.getTimeframe(), current.size(),
+            candidates.cardinality(), asOf, items);
+    }
+
+    /**
+     * 全量重建快照：股票池一次查询，K 线按批次查询。
+     */
+    private int reload(ScreenerSnapshot previous) {
+        List<StockBasic> universe = stockBasicRepository.findByMarketAndTypeOrderBySymbolAsc(
+            config.getMarket(), MarketConstants.STOCK_TYPE);
+        List<String> symbols = new ArrayList<>(universe.size());
+        List<String> names = new ArrayList<>(universe.size());
+        for (StockBasic stock : universe) {
+            if (stock.getSymbol() != null && stock.getDelistDate() == null) {
+                symbols.add(stock.getSymbol());
+                names.add(stock.getName());
+            }
+        }
+        ScreenerSnapshot next = new ScreenerSnapshot(symbols, names,
+            Math.max(1, config.getHistoryBars()), Math.max(1, config.getMaxColumns()));
+        int batchSize = Math.max(1, config.getLoadBatchSize());
+        int applied = 0;
+        for (int from = 0; from < symbols.size(); from += batchSize) {
+            List<String> batch = symbols.subList(from, Math.min(symbols.size(), from + batchSize));
+            List<KlineData> bars = klineDataRepository.findRecentBySymbols(
+                config.getMarket(), config.getTimeframe(), batch, config.getHistoryBars() + 1);
+            for (KlineData bar : bars) {
+                applied += apply(next, bar);
+            }
+        }
+        if (previous != null) {
+            lock.readLock().lock();
+            try {
+                next.warmColumns(previous);
+            }
+            finally {
+                lock.readLock().unlock();
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            snapshot = next;
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+        lastReloadMillis = clock.millis();
+        log.info("Screener snapshot rebuilt: market={}, symbols={}, bars={}",
+            config.getMarket(), symbols.size(), applied);
+        return applied;
+    }
+
+    /**
+     * 合并快照最新 K 线时间及之后的 K 线。
+     */
+    private int applyRecent(ScreenerSnapshot current) {
+        long latest;
+        lock.readLock().lock();
+        try {
+            latest = current.latestTime();
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+        if (latest == ScreenerSnapshot.NO_BAR) {
+            return 0;
+        }
+        List<KlineData> bars = klineDataRepository
+            .findByMarketAndTimeframeAndKlineTimeGreaterThanEqualOrderByKlineTimeAsc(
+                config.getMarket(), config.getTimeframe(), toDateTime(latest));
+        int applied = 0;
+        lock.writeLock().lock();
+        try {
+            for (KlineData bar : bars) {
+                applied += apply(current, bar);
+            }
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+        return applied;
+    }
+
+    private static int apply(ScreenerSnapshot target, KlineData bar) {
+        if (bar.getKlineTime() == null || bar.getClosePrice() == null) {
+            return 0;
+        }
+        int slot = target.slotOf(bar.getSymbol());
+        if (slot < 0) {
+            return 0;
+        }
+        double close = bar.getClosePrice().doubleValue();
+        long time = bar.getKlineTime().atZone(DateTimePatternConstants.MARKET_ZONE_ID).toEpochSecond();
+        boolean merged = target.apply(slot, time,
+            priceOr(bar.getHighPrice(), close),
+            priceOr(bar.getLowPrice(), close),
+            close,
+            bar.getVolume() == null ? 0.0 : bar.getVolume(),
+            bar.getAmount() == null ? Double.NaN : bar.getAmount().doubleValue());
+        return merged ? 1 : 0;
+    }
+
+    private ScreenerSnapshot currentSnapshot() {
+        lock.readLock().lock();
+        try {
+            return snapshot;
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 请求引用的字段：排序字段在前，其后按条件出现顺序。
+     */
+    private static Set<ScreenerField> referencedFields(ScreenerField sortField, List<CompiledCondition> allOf,
+                                                      List<CompiledCondition> anyOf) {
+        Set<ScreenerField> fields = new LinkedHashSet<>();
+        fields.add(sortField);
+        for (List<CompiledCondition> group : List.of(allOf, anyOf)) {
+            for (CompiledCondition condition : group) {
+                fields.add(condition.left());
+                if (condition.right() != null) {
+                    fields.add(condition.right());
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * 取已有列，任一指标列尚未建立时返回 {@code null}；不修改快照，可在读锁下调用。
+     */
+    private static Map<ScreenerField, double[]> existingColumns(ScreenerSnapshot target, Set<ScreenerField> fields) {
+        Map<ScreenerField, double[]> columns = new LinkedHashMap<>();
+        for (ScreenerField field : fields) {
+            double[] column = target.findColumn(field);
+            if (column == null) {
+                return null;
+            }
+            columns.put(field, column);
+        }
+        return columns;
+    }
+
+    private static List<ScreenFilter> toFilters(List<CompiledCondition> conditions,
+                                                Map<ScreenerField, double[]> columns) {
+        List<ScreenFilter> filters = new ArrayList<>(conditions.size());
+        for (CompiledCondition condition : conditions) {
+            double[] left = columns.get(condition.left());
+            if (condition.right() == null) {
+                filters.add(ScreenFilter.compare(left, condition.operator(), condition.constant()));
+            }
+            else {
+                double[] right = columns.get(condition.right());
+                filters.add(ScreenFilter.compare(left, condition.operator(), right, condition.constant()));
+            }
+        }
+        return filters;
+    }
+
+    private static List<CompiledCondition> compile(List<ScreenerCondition> conditions, String group) {
+        List<CompiledCondition> compiled = new ArrayList<>(conditions.size());
+        for (int i = 0; i < conditions.size(); i++) {
+            ScreenerCondition condition = conditions.get(i);
+            String path = group + "[" + i + "]";
+            if (condition == null) {
+                throw ValidationException.forField(path, "condition must not be null");
+            }
+            ScreenerField left = resolve(condition.field(), path + ".field");
+            ScreenFilter.Operator operator = ScreenFilter.Operator.fromCode(condition.operator())
+                .orElseThrow(() -> ValidationException.forField(path + ".operator",
+                    "Unsupported operator: " + condition.operator()));
+            boolean hasField = condition.compareTo() != null && !condition.compareTo().isBlank();
+            if (hasField == (condition.value() != null)) {
+                throw ValidationException.forField(path, "exactly one of value and compareTo must be set");
+            }
+            if (hasField) {
+                double multiplier = condition.multiplier() == null ? 1.0 : condition.multiplier().doubleValue();
+                compiled.add(new CompiledCondition(left, operator,
+                    resolve(condition.compareTo(), path + ".compareTo"), multiplier));
+            }
+            else {
+                compiled.add(new CompiledCondition(left, operator, null, condition.value().doubleValue()));
+            }
+        }
+        return compiled;
+    }
+
+    private static ScreenerField resolve(String code, String path) {
+        return ScreenerField.parse(code)
+            .orElseThrow(() -> ValidationException.forField(path, "Unknown screener field: " + code));
+    }
+
+    private static LocalDateTime toDateTime(long epochSecond) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), DateTimePatternConstants.MARKET_ZONE_ID);
+    }
+
+    private static BigDecimal scaled(double value) {
+        return Double.isFinite(value) ? BigDecimal.valueOf(value).setScale(VALUE_SCALE, RoundingMode.HALF_UP) : null;
+    }
+
+    private static double priceOr(BigDecimal price, double fallback) {
+        return price == null ? fallback : price.doubleValue();
+    }
+
+    /**
+     * 编译后的条件。
+     *
+     * @param left     左侧字段
+     * @param operator 比较运算符
+     * @param right    右侧字段，与常量比较时为 {@code null}
+     * @param constant 常量；右侧为字段时为倍数
+     */
+    private record CompiledCondition(ScreenerField left, ScreenFilter.Operator operator,
+                                     ScreenerField right, double constant) {
+    }
+}
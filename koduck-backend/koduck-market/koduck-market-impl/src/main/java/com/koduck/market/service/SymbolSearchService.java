@@ -0,0 +1,38 @@
+package com.koduck.market.service;
+
+import java.util.List;
+
+import com.koduck.market.service.support.SymbolSearchIndex;
+
+/**
+ * 证券搜索服务接口，由 {@code stock_basic} 构建的内存索引回答。
+ *
+ * @author Koduck Team
+ */
+public interface SymbolSearchService {
+
+    /**
+     * 搜索证券。
+     *
+     * @param keyword 关键词：代码前缀、名称片段或拼音首字母
+     * @param market  市场过滤，为空时搜索全部市场
+     * @param limit   返回条数上限
+     * @return 按相关度排列的证券
+     */
+    List<SymbolSearchIndex.Entry> search(String keyword, String market, int limit);
+
+    /**
+     * 索引是否覆盖指定市场；不覆盖时调用方应回退到其他数据源。
+     *
+     * @param market 市场代码
+     * @return 索引已启用且包含该市场的证券时返回 {@code true}
+     */
+    boolean covers(String market);
+
+    /**
+     * 证券列表变化时重建索引。
+     *
+     * @return 是否重建
+     */
+    boolean refresh();
+}
@@ -0,0 +1,172 @@
+package com.koduck.market.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.koduck.market.config.MarketProperties;
+import com.koduck.market.entity.StockBasic;
+import com.koduck.market.repository.StockBasicRepository;
+import com.koduck.market.service.support.SymbolSearchIndex;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 证券搜索服务实现。
+ *
+ * <p>索引为不可变的 {@link SymbolSearchIndex}，查询只读取 volatile 引用，不加锁、不访问数据库。
+ * 定时任务以 {@code stock_basic} 的行数与最近更新时间作为签名，签名变化时在后台线程构建新索引，
+ * 构建完成后整体替换引用，查询永远看到完整的新索引或旧索引。首次查询时若索引尚未建立则同步构建一次。</p>
+ *
+ * <p>按需构建失败（如数据库不可用）后，{@code build-retry-backoff-ms} 内的查询直接使用空索引，
+ * 不再同步访问数据库；等待同一次构建的并发查询也会看到这次失败，不会逐个重试。
+ * 空索引不覆盖任何市场，调用方会回退到原有查询。</p>
+ *
+ * @author Koduck Team
+ */
+@Slf4j
+@Service
+public class SymbolSearchServiceImpl implements SymbolSearchService {
+
+    /** 股票基本信息仓库。 */
+    private final StockBasicRepository stockBasicRepository;
+
+    /** 搜索配置。 */
+    private final MarketProperties.SearchConfig config;
+
+    /** 刷新互斥锁，保证同一时刻只有一次构建。 */
+    private final Object refreshMonitor = new Object();
+
+    /** 当前索引，尚未建立时为 {@code null}。 */
+    private volatile SymbolSearchIndex index;
+
+    /** 当前索引对应的证券列表签名。 */
+    private Signature signature;
+
+    /** 时钟。 */
+    private final Clock clock;
+
+    /** 上次按需构建失败的时间（epoch 毫秒），尚未失败时为 {@link Long#MIN_VALUE}。 */
+    private long lastFailedBuildMillis = Long.MIN_VALUE;
+
+    /**
+     * 构造证券搜索服务。
+     *
+     * @param stockBasicRepository 股票基本信息仓库
+     * @param marketProperties     市场模块配置
+     */
+    @Autowired
+    public SymbolSearchServiceImpl(StockBasicRepository stockBasicRepository, MarketProperties marketProperties) {
+        this(stockBasicRepository, marketProperties, Clock.systemUTC());
+    }
+
+    /**
+     * 构造证券搜索服务（可注入时钟，用于测试）。
+     *
+     * @param stockBasicRepository 股票基本信息仓库
+     * @param marketProperties     市场模块配置
+     * @param clock                时钟
+     */
+    SymbolSearchServiceImpl(StockBasicRepository stockBasicRepository, MarketProperties marketProperties,
+                            Clock clock) {
+        this.stockBasicRepository = stockBasicRepository;
+        this.config = marketProperties.getSearch();
+        this.clock = clock;
+    }
+
+    @Override
+    public List<SymbolSearchIndex.Entry> search(String keyword, String market, int limit) {
+        if (!config.isEnabled()) {
+            return List.of();
+        }
+        return currentIndex().search(keyword, market, limit);
+    }
+
+    @Override
+    public boolean covers(String market) {
+        return config.isEnabled() && currentIndex().size(market) > 0;
+    }
+
+    /**
+     * 定时检查证券列表是否变化。
+     */
+    @Scheduled(fixedDelayString = "${koduck.market.search.refresh-interval-ms:300000}")
+    public void scheduledRefresh() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            refresh();
+        }
+        catch (RuntimeException e) {
+            log.warn("Symbol search index refresh failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean refresh() {
+        synchronized (refreshMonitor) {
+            Signature latest = readSignature();
+            if (index != null && latest.equals(signature)) {
+                return false;
+            }
+            List<StockBasic> stocks = stockBasicRepository.findByDelistDateIsNull();
+            List<SymbolSearchIndex.Entry> entries = new ArrayList<>(stocks.size());
+            for (StockBasic stock : stocks) {
+                entries.add(new SymbolSearchIndex.Entry(stock.getSymbol(), stock.getName(), stock.getMarket(),
+                    stock.getType()));
+            }
+            index = SymbolSearchIndex.build(entries);
+            signature = latest;
+            log.info("Symbol search index rebuilt: entries={}", index.size());
+            return true;
+        }
+    }
+
+    private SymbolSearchIndex currentIndex() {
+        SymbolSearchIndex current = index;
+        if (current != null) {
+            return current;
+        }
+        synchronized (refreshMonitor) {
+            if (index != null) {
+                return index;
+            }
+            long now = clock.millis();
+            if (lastFailedBuildMillis != Long.MIN_VALUE
+                    && now - lastFailedBuildMillis < config.getBuildRetryBackoffMs()) {
+                return SymbolSearchIndex.EMPTY;
+            }
+            try {
+                refresh();
+            }
+            catch (RuntimeException e) {
+                lastFailedBuildMillis = now;
+                log.warn("Symbol search index build failed, retrying after {} ms: {}",
+                    config.getBuildRetryBackoffMs(), e.getMessage());
+            }
+            return index == null ? SymbolSearchIndex.EMPTY : index;
+        }
+    }
+
+    private Signature readSignature() {
+        LocalDateTime updatedAt = stockBasicRepository.findTopByOrderByUpdatedAtDesc()
+            .map(StockBasic::getUpdatedAt)
+            .orElse(null);
+        return new Signature(stockBasicRepository.count(), updatedAt);
+    }
+
+    /**
+     * 证券列表签名。
+     *
+     * @param count     行数
+     * @param updatedAt 最近更新时间
+     */
+    private record Signature(long count, LocalDateTime updatedAt) {
+    }
+}
@@ -0,0 +1,251 @@
+package com.koduck.market.service;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.koduck.common.constants.DateTimePatternConstants;
+import com.koduck.market.config.MarketProperties;
+import com.koduck.market.dto.TickDto;
+import com.koduck.market.entity.StockRealtime;
+import com.koduck.market.entity.StockTickHistory;
+import com.koduck.market.repository.StockTickHistoryRepository;
+import com.koduck.market.service.support.StockTickHistoryWriteBehind;
+import com.koduck.market.service.support.TickRingBuffer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 合成分时服务实现。
+ *
+ * <p>每只被追踪的股票持有一个列式 {@link TickRingBuffer}，由相邻实时快照的累计成交量差值
+ * 合成分时；读取最新分时直接切片内存缓冲区，未追踪的股票返回空列表而不创建缓冲区。分时通过
+ * {@link StockTickHistoryWriteBehind} 异步批量落库，首次追踪或追加时从
+ * {@code stock_tick_history} 回填缓冲区，保证重启后分时带连续；回填在发布缓冲区之前完成，不在锁内查询数据库。</p>
+ *
+ * @author Koduck Team
+ */
+@Slf4j
+@Service
+public class SyntheticTickServiceImpl implements SyntheticTickService {
+
+    /** 买入方向类型。 */
+    private static final String TYPE_BUY = "buy";
+
+    /** 卖出方向类型。 */
+    private static final String TYPE_SELL = "sell";
+
+    /** 普通成交标记。 */
+    private static final String FLAG_NORMAL = "NORMAL";
+
+    /** 大单成交标记。 */
+    private static final String FLAG_BLOCK_ORDER = "BLOCK_ORDER";
+
+    /** 分时时间格式。 */
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss")
+        .withZone(DateTimePatternConstants.MARKET_ZONE_ID);
+
+    /** 股票代码到分时缓冲区的映射。 */
+    private final Map<String, TickRingBuffer> buffers = new ConcurrentHashMap<>();
+
+    /** 分时历史仓库。 */
+    private final StockTickHistoryRepository tickHistoryRepository;
+
+    /** 异步回写器。 */
+    private final StockTickHistoryWriteBehind writeBehind;
+
+    /** 分时配置。 */
+    private final MarketProperties.TickConfig config;
+
+    /** 时钟。 */
+    private final Clock clock;
+
+    /**
+     * 构造合成分时服务。
+     *
+     * @param tickHistoryRepository 分时历史仓库
+     * @param writeBehind           异步回写器
+     * @param marketProperties      市场模块配置
+     */
+    @Autowired
+    public SyntheticTickServiceImpl(StockTickHistoryRepository tickHistoryRepository,
+                                    StockTickHistoryWriteBehind writeBehind,
+                                    MarketProperties marketProperties) {
+        this(tickHistoryRepository, writeBehind, marketProperties, Clock.systemDefaultZone());
+    }
+
+    /**
+     * 构造合成分时服务（可注入时钟，用于测试）。
+     *
+     * @param tickHistoryRepository 分时历史仓库
+     * @param writeBehind           异步回写器
+     * @param marketProperties      市场模块配置
+     * @param clock                 时钟
+     */
+    SyntheticTickServiceImpl(StockTickHistoryRepository tickHistoryRepository,
+                             StockTickHistoryWriteBehind writeBehind,
+                             MarketProperties marketProperties,
+                             Clock clock) {
+        this.tickHistoryRepository = tickHistoryRepository;
+        this.writeBehind = writeBehind;
+        this.config = marketProperties.getTick();
+        this.clock = clock;
+    }
+
+    @Override
+    public void trackSymbol(String symbol) {
+        if (symbol == null || symbol.isBlank()) {
+            return;
+        }
+        bufferFor(symbol);
+    }
+
+    @Override
+    public Set<String> snapshotTrackedSymbols() {
+        return Set.copyOf(buffers.keySet());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>当快照缺少价格，或与上一条分时相比既无新增成交量也无价格变化时不生成分时，返回 {@code null}。</p>
+     */
+    @Override
+    public TickDto appendSyntheticTickFromRealtime(StockRealtime realtime) {
+        if (realtime == null || realtime.getSymbol() == null || realtime.getPrice() == null) {
+            return null;
+        }
+        TickRingBuffer buffer = bufferFor(realtime.getSymbol());
+        double price = realtime.getPrice().doubleValue();
+        long epochMillis = resolveEpochMillis(realtime);
+        long volume;
+        double amount;
+        byte side;
+        synchronized (buffer) {
+            volume = realtime.getVolume() == null ? 0L : buffer.advanceVolume(realtime.getVolume());
+            amount = realtime.getAmount() == null ? 0.0 : buffer.advanceAmount(realtime.getAmount().doubleValue());
+            double lastPrice = buffer.lastPrice();
+            if (volume <= 0 && Double.compare(price, lastPrice) == 0) {
+                return null;
+            }
+            side = classifySide(price, lastPrice, buffer.lastSide(), realtime);
+            buffer.append(epochMillis, price, volume, amount, side);
+        }
+        writeBehind.enqueue(realtime.getSymbol(), epochMillis, price, volume, amount);
+        return toTickDto(epochMillis, price, volume, amount, side);
+    }
+
+    @Override
+    public List<TickDto> getLatestTicks(String symbol, int limit) {
+        if (symbol == null || symbol.isBlank() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        TickRingBuffer buffer = buffers.get(symbol);
+        if (buffer == null) {
+            return Collections.emptyList();
+        }
+        return buffer.latest(limit, this::toTickDto);
+    }
+
+    /**
+     * 获取或创建股票的缓冲区。新缓冲区先回填历史再发布，并发创建时以先发布者为准。
+     */
+    private TickRingBuffer bufferFor(String symbol) {
+        TickRingBuffer existing = buffers.get(symbol);
+        if (existing != null) {
+            return existing;
+        }
+        TickRingBuffer created = new TickRingBuffer(config.getBufferCapacity());
+        restoreFromHistory(symbol, created);
+        TickRingBuffer raced = buffers.putIfAbsent(symbol, created);
+        return raced != null ? raced : created;
+    }
+
+    private void restoreFromHistory(String symbol, TickRingBuffer buffer) {
+        List<StockTickHistory> history;
+        try {
+            history = tickHistoryRepository.findBySymbolOrderByTickTimeDesc(
+                symbol, PageRequest.of(0, buffer.capacity()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to restore tick history for {}: {}", symbol, e.getMessage());
+            return;
+        }
+        byte side = TickRingBuffer.SIDE_NONE;
+        double lastPrice = Double.NaN;
+        for (int i = history.size() - 1; i >= 0; i--) {
+            StockTickHistory row = history.get(i);
+            if (row.getTickTime() == null || row.getPrice() == null) {
+                continue;
+            }
+            double price = row.getPrice().doubleValue();
+            side = tickRule(price, lastPrice, side);
+            buffer.append(row.getTickTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+                price,
+                row.getVolume() == null ? 0L : row.getVolume(),
+                row.getAmount() == null ? 0.0 : row.getAmount().doubleValue(),
+                side);
+            lastPrice = price;
+        }
+        if (!history.isEmpty()) {
+            log.debug("Restored {} ticks for {}", buffer.size(), symbol);
+        }
+    }
+
+    private long resolveEpochMillis(StockRealtime realtime) {
+        if (realtime.getUpdatedAt() != null) {
+            return realtime.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+        return clock.millis();
+    }
+
+    private static byte classifySide(double price, double lastPrice, byte lastSide, StockRealtime realtime) {
+        byte side = tickRule(price, lastPrice, lastSide);
+        if (side != TickRingBuffer.SIDE_NONE) {
+            return side;
+        }
+        if (realtime.getAskPrice() != null && price >= realtime.getAskPrice().doubleValue()) {
+            return TickRingBuffer.SIDE_BUY;
+        }
+        if (realtime.getBidPrice() != null && price <= realtime.getBidPrice().doubleValue()) {
+            return TickRingBuffer.SIDE_SELL;
+        }
+        BigDecimal prevClose = realtime.getPrevClose();
+        if (prevClose != null && price < prevClose.doubleValue()) {
+            return TickRingBuffer.SIDE_SELL;
+        }
+        return TickRingBuffer.SIDE_BUY;
+    }
+
+    /**
+     * Tick rule：价格上行为买、下行为卖，持平沿用上一条方向。
+     */
+    private static byte tickRule(double price, double lastPrice, byte lastSide) {
+        if (Double.isNaN(lastPrice) || price == lastPrice) {
+            return lastSide;
+        }
+        return price > lastPrice ? TickRingBuffer.SIDE_BUY : TickRingBuffer.SIDE_SELL;
+    }
+
+    private TickDto toTickDto(long epochMillis, double price, long volume, double amount, byte side) {
+        return new TickDto(
+            TIME_FORMATTER.format(Instant.ofEpochMilli(epochMillis)),
+            price,
+            (int) Math.min(volume, Integer.MAX_VALUE),
+            amount,
+            side == TickRingBuffer.SIDE_SELL ? TYPE_SELL : TYPE_BUY,
+            amount >= config.getBlockOrderAmount() ? FLAG_BLOCK_ORDER : FLAG_NORMAL,
+            epochMillis);
+    }
+}
@@ -0,0 +1,322 @@
+package com.koduck.market.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import com.koduck.common.constants.DateTimePatternConstants;
+import com.koduck.exception.ValidationException;
+import com.koduck.market.config.MarketProperties;
+import com.koduck.market.dto.KlineDataDto;
+import com.koduck.market.dto.indicator.IndicatorListResponse;
+import com.koduck.market.dto.indicator.IndicatorResponse;
+import com.koduck.market.exception.MarketDataException;
+import com.koduck.market.service.support.IncrementalIndicator;
+import com.koduck.market.service.support.IndicatorKernels;
+import com.koduck.market.service.support.IndicatorType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 技术指标计算服务实现。
+ *
+ * <p>每个（市场、股票、K 线周期、指标、指标周期）对应一条常驻内存的 {@link IncrementalIndicator}
+ * 序列。首次请求时加载 {@code warmup-bars} 根历史 K 线预热；之后每次请求只拉取最近
+ * {@code refresh-bars} 根，把新收盘的 K 线 O(1) 并入状态，最新一根（可能仍在形成中）通过
+ * {@link IncrementalIndicator#peek} 计算，不修改状态。拉取结果与已有状态无法衔接时回退为全量预热。</p>
+ *
+ * <p>指标值保留 4 位小数；K 线数不足以产出指标时返回空值映射与 {@code NEUTRAL} 趋势。</p>
+ *
+ * @author Koduck Team
+ */
+@Slf4j
+@Service
+public class TechnicalIndicatorServiceImpl implements TechnicalIndicatorService {
+
+    /** 多头趋势。 */
+    static final String TREND_BULLISH = "BULLISH";
+
+    /** 空头趋势。 */
+    static final String TREND_BEARISH = "BEARISH";
+
+    /** 无明显趋势。 */
+    static final String TREND_NEUTRAL = "NEUTRAL";
+
+    /** 指标值保留的小数位数。 */
+    private static final int VALUE_SCALE = 4;
+
+    /** RSI 多空分界。 */
+    private static final double RSI_MIDLINE = 50.0;
+
+    /** K 线服务。 */
+    private final ObjectProvider<KlineService> klineService;
+
+    /** 指标配置。 */
+    private final MarketProperties.IndicatorConfig config;
+
+    /** 已启用的指标，保持配置顺序。 */
+    private final Set<IndicatorType> supported;
+
+    /** 指标序列缓存。 */
+    private final Map<SeriesKey, IndicatorSeries> series = new ConcurrentHashMap<>();
+
+    /** 访问序号，用于淘汰最久未访问的序列。 */
+    private final AtomicLong accessSequence = new AtomicLong();
+
+    /**
+     * 构造技术指标服务。
+     *
+     * @param klineService     K 线服务
+     * @param marketProperties 市场模块配置
+     */
+    public TechnicalIndicatorServiceImpl(ObjectProvider<KlineService> klineService,
+                                         MarketProperties marketProperties) {
+        this.klineService = klineService;
+        this.config = marketProperties.getIndicators();
+        this.supported = parseSupported(config.getSupported());
+    }
+
+    @Override
+    public IndicatorListResponse getAvailableIndicators() {
+        List<IndicatorListResponse.IndicatorInfo> indicators = new ArrayList<>(supported.size());
+        for (IndicatorType type : supported) {
+            indicators.add(new IndicatorListResponse.IndicatorInfo(
+                type.name(), type.displayName(), type.description(), type.defaultPeriods(), type.category()));
+        }
+        return IndicatorListResponse.builder().indicators(indicators).build();
+    }
+
+    @Override
+    public IndicatorResponse calculateIndicator(String market, String symbol, String indicator, Integer period) {
+        if (market == null || market.isBlank()) {
+            throw ValidationException.forField("market", "market must not be blank");
+        }
+        if (symbol == null || symbol.isBlank()) {
+            throw ValidationException.forField("symbol", "symbol must not be blank");
+        }
+        IndicatorType type = IndicatorType.fromCode(indicator)
+            .filter(supported::contains)
+            .orElseThrow(() -> ValidationException.forField("indicator", "Unsupported indicator: " + indicator));
+        int effectivePeriod = resolvePeriod(type, period);
+        SeriesKey key = new SeriesKey(market.trim().toUpperCase(Locale.ROOT), symbol.trim(),
+            config.getTimeframe(), type, effectivePeriod);
+        IndicatorSeries entry = series.computeIfAbsent(key, k -> new IndicatorSeries());
+        entry.lastAccess = accessSequence.incrementAndGet();
+        evictIfNeeded();
+
+        double[] out = new double[type.outputCount()];
+        boolean ready;
+        double close;
+        long timestamp;
+        synchronized (entry) {
+            refresh(key, entry);
+            close = entry.formingClose;
+            timestamp = entry.formingTimestamp;
+            ready = entry.indicator.peek(entry.formingHigh, entry.formingLow, close, out);
+        }
+
+        Map<String, BigDecimal> values = new LinkedHashMap<>();
+        if (ready) {
+            String[] keys = type.outputKeys();
+            for (int i = 0; i < keys.length; i++) {
+                if (Double.isFinite(out[i])) {
+                    values.put(keys[i], BigDecimal.valueOf(out[i]).setScale(VALUE_SCALE, RoundingMode.HALF_UP));
+                }
+            }
+        }
+        return IndicatorResponse.builder()
+            .symbol(key.symbol())
+            .market(key.market())
+            .indicator(type.name())
+            .period(effectivePeriod)
+            .values(values)
+            .trend(ready ? trendOf(type, out, close) : TREND_NEUTRAL)
+            .timestamp(LocalDateTime.ofInstant(Instant.ofEpochSecond(timestamp), DateTimePatternConstants.MARKET_ZONE_ID))
+            .build();
+    }
+
+    /**
+     * 使序列追上最新 K 线：并入新收盘的 K 线，并记录最新一根作为形成中 K 线。
+     */
+    private void refresh(SeriesKey key, IndicatorSeries entry) {
+        if (entry.indicator != null) {
+            List<KlineDataDto> recent = fetch(key, Math.max(2, config.getRefreshBars()));
+            if (recent.isEmpty()) {
+                return;
+            }
+            if (recent.get(0).timestamp() <= entry.committedTimestamp) {
+                for (int i = 0; i < recent.size() - 1; i++) {
+                    KlineDataDto bar = recent.get(i);
+                    if (bar.timestamp() > entry.committedTimestamp) {
+                        push(entry, bar);
+                    }
+                }
+                KlineDataDto last = recent.get(recent.size() - 1);
+                if (last.timestamp() > entry.committedTimestamp) {
+                    entry.setForming(last);
+                    return;
+                }
+            }
+            log.debug("Indicator series {} lost continuity, rebuilding from history", key);
+        }
+        List<KlineDataDto> history = fetch(key, Math.max(config.getWarmupBars(), key.period() + 1));
+        if (history.isEmpty()) {
+            throw new MarketDataException("No kline data available for indicator calculation", key.symbol());
+        }
+        entry.indicator = IncrementalIndicator.create(key.type(), key.period());
+        entry.committedTimestamp = Long.MIN_VALUE;
+        for (int i = 0; i < history.size() - 1; i++) {
+            push(entry, history.get(i));
+        }
+        entry.setForming(history.get(history.size() - 1));
+    }
+
+    private static void push(IndicatorSeries entry, KlineDataDto bar) {
+        double close = bar.close().doubleValue();
+        entry.indicator.push(priceOr(bar.high(), close), priceOr(bar.low(), close), close);
+        entry.committedTimestamp = bar.timestamp();
+    }
+
+    private List<KlineDataDto> fetch(SeriesKey key, int limit) {
+        KlineService service = klineService.getIfAvailable();
+        if (service == null) {
+            throw new MarketDataException("Kline service is not available", key.symbol());
+        }
+        List<KlineDataDto> bars = service.getKlineData(key.market(), key.symbol(), key.timeframe(), limit, null);
+        if (bars == null || bars.isEmpty()) {
+            return List.of();
+        }
+        List<KlineDataDto> sorted = new ArrayList<>(bars.size());
+        for (KlineDataDto bar : bars) {
+            if (bar != null && bar.timestamp() != null && bar.close() != null) {
+                sorted.add(bar);
+            }
+        }
+        sorted.sort(Comparator.comparingLong(KlineDataDto::timestamp));
+        return sorted;
+    }
+
+    private void evictIfNeeded() {
+        int limit = Math.max(1, config.getMaxCachedSeries());
+        while (series.size() > limit) {
+            Optional<SeriesKey> eldest = series.entrySet().stream()
+                .min(Comparator.comparingLong(e -> e.getValue().lastAccess))
+                .map(Map.Entry::getKey);
+            if (eldest.isEmpty()) {
+                return;
+            }
+            series.remove(eldest.get());
+        }
+    }
+
+    private int resolvePeriod(IndicatorType type, Integer requested) {
+        if (type == IndicatorType.MACD) {
+            return IndicatorKernels.MACD_SLOW;
+        }
+        int resolved;
+        if (requested != null) {
+            resolved = requested;
+        }
+        else if (type == IndicatorType.SMA || type == IndicatorType.EMA || type == IndicatorType.RSI) {
+            resolved = config.getDefaultPeriod();
+        }
+        else {
+            resolved = type.defaultPeriods().get(0);
+        }
+        if (resolved <= 0 || resolved >= config.getWarmupBars()) {
+            throw ValidationException.forField("period",
+                "period must be between 1 and " + (config.getWarmupBars() - 1));
+        }
+        return resolved;
+    }
+
+    static String trendOf(IndicatorType type, double[] values, double close) {
+        double signal = switch (type) {
+            case SMA, EMA -> close - values[0];
+            case MACD -> values[2];
+            case RSI -> values[0] - RSI_MIDLINE;
+            case KDJ -> values[0] - values[1];
+            case BOLL -> close - values[1];
+        };
+        if (signal > 0) {
+            return TREND_BULLISH;
+        }
+        return signal < 0 ? TREND_BEARISH : TREND_NEUTRAL;
+    }
+
+    private static Set<IndicatorType> parseSupported(String configured) {
+        Set<IndicatorType> types = new LinkedHashSet<>();
+        if (configured != null) {
+            for (String code : configured.split(",")) {
+                IndicatorType.fromCode(code).ifPresent(types::add);
+            }
+        }
+        return types.isEmpty() ? EnumSet.allOf(IndicatorType.class) : types;
+    }
+
+    private static double priceOr(BigDecimal price, double fallback) {
+        return price == null ? fallback : price.doubleValue();
+    }
+
+    /**
+     * 指标序列键。
+     *
+     * @param market    市场
+     * @param symbol    股票代码
+     * @param timeframe K 线周期
+     * @param type      指标类型
+     * @param period    指标周期
+     */
+    record SeriesKey(String market, String symbol, String timeframe, IndicatorType type, int period) {
+    }
+
+    /**
+     * 单条指标序列的可变状态，访问时以实例加锁。
+     */
+    private static final class IndicatorSeries {
+
+        /** 增量指标状态，尚未预热时为 {@code null}。 */
+        private IncrementalIndicator indicator;
+
+        /** 最后并入状态的 K 线时间戳（epoch 秒）。 */
+        private long committedTimestamp = Long.MIN_VALUE;
+
+        /** 形成中 K 线时间戳（epoch 秒）。 */
+        private long formingTimestamp;
+
+        /** 形成中 K 线最高价。 */
+        private double formingHigh;
+
+        /** 形成中 K 线最低价。 */
+        private double formingLow;
+
+        /** 形成中 K 线收盘价。 */
+        private double formingClose;
+
+        /** 最近访问序号。 */
+        private volatile long lastAccess;
+
+        private void setForming(KlineDataDto bar) {
+            formingTimestamp = bar.timestamp();
+            formingClose = bar.close().doubleValue();
+            formingHigh = priceOr(bar.high(), formingClose);
+            formingLow = priceOr(bar.low(), formingClose);
+        }
+    }
+}
@@ -119,19 +119,29 @@ public final class AKShareDataMapperSupport {
             .build();
     }
 
-    private static MarketDataProvider.SymbolInfo mapToSymbolInfo(Map<String, Object> data) {
-        String normalizedSymbol = DataConverter.normalizeSymbol(
-            MarketDataMapReader.getString(data, KEY_SYMBOL),
-            MarketType.A_SHARE.getCode());
+    /**
+     * 将 A 股代码与名称转换为 {@link MarketDataProvider.SymbolInfo}，代码补全交易所后缀。
+     *
+     * @param symbol 股票代码
+     * @param name   股票名称
+     * @return 证券信息
+     */
+    public static MarketDataProvider.SymbolInfo toSymbolInfo(String symbol, String name) {
+        String normalizedSymbol = DataConverter.normalizeSymbol(symbol, MarketType.A_SHARE.getCode());
         return new MarketDataProvider.SymbolInfo(
             normalizedSymbol,
-            MarketDataMapReader.getString(data, KEY_NAME),
+            name,
             MarketType.A_SHARE.getCode(),
             resolveExchange(normalizedSymbol),
             "stock"
         );
     }
 
+    private static MarketDataProvider.SymbolInfo mapToSymbolInfo(Map<String, Object> data) {
+        return toSymbolInfo(MarketDataMapReader.getString(data, KEY_SYMBOL),
+            MarketDataMapReader.getString(data, KEY_NAME));
+    }
+
     private static SymbolInfoDto mapToSymbolInfoDto(Map<String, Object> data) {
         return SymbolInfoDto.builder()
             .symbol(MarketDataMapReader.getString(data, KEY_SYMBOL))
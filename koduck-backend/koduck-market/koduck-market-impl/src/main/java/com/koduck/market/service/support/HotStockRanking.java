@@ -0,0 +1,120 @@
+package com.koduck.market.service.support;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import com.koduck.common.constants.RedisKeyConstants;
+
+/**
+ * 热门股票榜单。
+ *
+ * <p>每个榜单是某一排序指标上的正序或倒序视图；涨幅榜与跌幅榜共用涨跌幅指标。</p>
+ *
+ * @author Koduck Team
+ */
+public enum HotStockRanking {
+
+    /** 涨幅榜。 */
+    GAIN(RedisKeyConstants.HOT_STOCKS_GAIN, Metric.CHANGE_PERCENT, true),
+
+    /** 跌幅榜。 */
+    LOSS(RedisKeyConstants.HOT_STOCKS_LOSS, Metric.CHANGE_PERCENT, false),
+
+    /** 成交量榜。 */
+    VOLUME(RedisKeyConstants.HOT_STOCKS_VOLUME, Metric.VOLUME, true),
+
+    /** 成交额榜。 */
+    AMOUNT(RedisKeyConstants.HOT_STOCKS_AMOUNT, Metric.AMOUNT, true);
+
+    /** 榜单类型代码，与 {@code hot:stocks:{type}} 一致。 */
+    private final String type;
+
+    /** 排序指标。 */
+    private final Metric metric;
+
+    /** 是否按分数降序。 */
+    private final boolean descending;
+
+    HotStockRanking(String type, Metric metric, boolean descending) {
+        this.type = type;
+        this.metric = metric;
+        this.descending = descending;
+    }
+
+    /**
+     * 榜单类型代码。
+     *
+     * @return 类型代码
+     */
+    public String type() {
+        return type;
+    }
+
+    /**
+     * 排序指标。
+     *
+     * @return 指标
+     */
+    public Metric metric() {
+        return metric;
+    }
+
+    /**
+     * 是否按分数降序。
+     *
+     * @return 降序时返回 {@code true}
+     */
+    public boolean descending() {
+        return descending;
+    }
+
+    /**
+     * 按类型代码查找榜单，忽略大小写。
+     *
+     * @param type 类型代码，如 {@code gain}、{@code volume}
+     * @return 榜单
+     */
+    public static Optional<HotStockRanking> fromType(String type) {
+        if (type == null) {
+            return Optional.empty();
+        }
+        String normalized = type.trim().toLowerCase(Locale.ROOT);
+        for (HotStockRanking ranking : values()) {
+            if (ranking.type.equals(normalized)) {
+                return Optional.of(ranking);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 排序指标，每个指标维护一个 {@link LeaderboardIndex}。
+     */
+    public enum Metric {
+
+        /** 涨跌幅（百分比）。 */
+        CHANGE_PERCENT("change"),
+
+        /** 成交量。 */
+        VOLUME("volume"),
+
+        /** 成交额。 */
+        AMOUNT("amount");
+
+        /** Redis 键中的指标代码。 */
+        private final String code;
+
+        Metric(String code) {
+            this.code = code;
+        }
+
+        /**
+         * Redis 键中的指标代码。
+         *
+         * @return 指标代码
+         */
+        public String code() {
+            return code;
+        }
+    }
+}
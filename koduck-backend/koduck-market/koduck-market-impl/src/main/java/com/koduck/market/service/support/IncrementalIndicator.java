@@ -0,0 +1,483 @@
+package com.koduck.market.service.support;
+
+/**
+ * 基于原始类型滚动状态的增量技术指标。
+ *
+ * <p>每根已收盘 K 线通过 {@link #push} 以 O(1) 摊还代价并入状态；尚未收盘的最新 K 线通过
+ * {@link #peek} 计算“假如它现在收盘”的指标值，不修改状态，因此盘中可反复调用。
+ * 状态只保存窗口所需的 {@code double[]} / {@code long[]} 与若干标量，不持有 K 线对象。</p>
+ *
+ * <p>计算口径与 {@link IndicatorKernels} 完全一致：</p>
+ * <ul>
+ *   <li>SMA / BOLL：环形缓冲区 + 滑动和（BOLL 另加平方和），缓冲区每绕回一圈重新求和一次以消除累积误差</li>
+ *   <li>EMA / MACD：以首根收盘价为种子的递推 EMA，MACD 柱为 2 × (DIF - DEA)</li>
+ *   <li>RSI：前 N 个涨跌幅取算术平均作种子，其后按 Wilder 平滑递推</li>
+ *   <li>KDJ：单调双端队列维护 N 日最高/最低价，K、D 初值 50 按 1/3 平滑</li>
+ * </ul>
+ *
+ * <p>实例非线程安全，由调用方按序列加锁。</p>
+ *
+ * @author Koduck Team
+ */
+public abstract class IncrementalIndicator {
+
+    /** 指标周期。 */
+    protected final int period;
+
+    /** 已并入的 K 线数。 */
+    protected long count;
+
+    /**
+     * 构造增量指标。
+     *
+     * @param period 指标周期
+     */
+    protected IncrementalIndicator(int period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period must be positive: " + period);
+        }
+        this.period = period;
+    }
+
+    /**
+     * 创建指定类型的增量指标。
+     *
+     * @param type   指标类型
+     * @param period 指标周期（MACD 固定使用 12/26/9，忽略该参数）
+     * @return 增量指标
+     */
+    public static IncrementalIndicator create(IndicatorType type, int period) {
+        return switch (type) {
+            case SMA -> new Sma(period);
+            case EMA -> new Ema(period);
+            case MACD -> new Macd();
+            case RSI -> new Rsi(period);
+            case KDJ -> new Kdj(period);
+            case BOLL -> new Boll(period);
+        };
+    }
+
+    /**
+     * 产出第一个指标值所需的最少 K 线数。
+     *
+     * @param type   指标类型
+     * @param period 指标周期
+     * @return 最少 K 线数
+     */
+    public static int requiredBars(IndicatorType type, int period) {
+        return switch (type) {
+            case MACD -> IndicatorKernels.MACD_SLOW;
+            case RSI -> period + 1;
+            default -> period;
+        };
+    }
+
+    /**
+     * 已并入的 K 线数。
+     *
+     * @return K 线数
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * 并入一根已收盘 K 线。
+     *
+     * @param high  最高价
+     * @param low   最低价
+     * @param close 收盘价
+     */
+    public abstract void push(double high, double low, double close);
+
+    /**
+     * 计算以给定 K 线作为下一根 K 线时的指标值，不修改状态。
+     *
+     * @param high  最高价
+     * @param low   最低价
+     * @param close 收盘价
+     * @param out   输出数组，长度不小于 {@link IndicatorType#outputCount()}
+     * @return K 线数不足以产出指标时返回 {@code false}
+     */
+    public abstract boolean peek(double high, double low, double close, double[] out);
+
+    /**
+     * 简单移动平均。
+     */
+    static final class Sma extends IncrementalIndicator {
+
+        /** 窗口内收盘价。 */
+        private final double[] window;
+
+        /** 下一个写入位置。 */
+        private int cursor;
+
+        /** 窗口内收盘价之和。 */
+        private double sum;
+
+        Sma(int period) {
+            super(period);
+            this.window = new double[period];
+        }
+
+        @Override
+        public void push(double high, double low, double close) {
+            if (count >= period) {
+                sum -= window[cursor];
+            }
+            window[cursor] = close;
+            sum += close;
+            count++;
+            if (++cursor == period) {
+                cursor = 0;
+                sum = resum(window);
+            }
+        }
+
+        @Override
+        public boolean peek(double high, double low, double close, double[] out) {
+            if (count + 1 < period) {
+                return false;
+            }
+            double evicted = count >= period ? window[cursor] : 0.0;
+            out[0] = (sum - evicted + close) / period;
+            return true;
+        }
+    }
+
+    /**
+     * 指数移动平均。
+     */
+    static final class Ema extends IncrementalIndicator {
+
+        /** 平滑系数。 */
+        private final double alpha;
+
+        /** 当前 EMA。 */
+        private double value;
+
+        Ema(int period) {
+            super(period);
+            this.alpha = 2.0 / (period + 1);
+        }
+
+        @Override
+        public void push(double high, double low, double close) {
+            value = next(close);
+            count++;
+        }
+
+        @Override
+        public boolean peek(double high, double low, double close, double[] out) {
+            if (count + 1 < period) {
+                return false;
+            }
+            out[0] = next(close);
+            return true;
+        }
+
+        private double next(double close) {
+            return count == 0 ? close : value + alpha * (close - value);
+        }
+    }
+
+    /**
+     * MACD(12, 26, 9)。
+     */
+    static final class Macd extends IncrementalIndicator {
+
+        /** 快线平滑系数。 */
+        private static final double FAST_ALPHA = 2.0 / (IndicatorKernels.MACD_FAST + 1);
+
+        /** 慢线平滑系数。 */
+        private static final double SLOW_ALPHA = 2.0 / (IndicatorKernels.MACD_SLOW + 1);
+
+        /** 信号线平滑系数。 */
+        private static final double SIGNAL_ALPHA = 2.0 / (IndicatorKernels.MACD_SIGNAL + 1);
+
+        /** 快线 EMA。 */
+        private double fast;
+
+        /** 慢线 EMA。 */
+        private double slow;
+
+        /** DEA。 */
+        private double dea;
+
+        Macd() {
+            super(IndicatorKernels.MACD_SLOW);
+        }
+
+        @Override
+        public void push(double high, double low, double close) {
+            if (count == 0) {
+                fast = close;
+                slow = close;
+            }
+            else {
+                fast += FAST_ALPHA * (close - fast);
+                slow += SLOW_ALPHA * (close - slow);
+                dea += SIGNAL_ALPHA * ((fast - slow) - dea);
+            }
+            count++;
+        }
+
+        @Override
+        public boolean peek(double high, double low, double close, double[] out) {
+            if (count + 1 < period) {
+                return false;
+            }
+            double nextFast = fast + FAST_ALPHA * (close - fast);
+            double nextSlow = slow + SLOW_ALPHA * (close - slow);
+            double dif = nextFast - nextSlow;
+            double nextDea = dea + SIGNAL_ALPHA * (dif - dea);
+            out[0] = dif;
+            out[1] = nextDea;
+            out[2] = 2.0 * (dif - nextDea);
+            return true;
+        }
+    }
+
+    /**
+     * Wilder RSI。
+     */
+    static final class Rsi extends IncrementalIndicator {
+
+        /** 上一根收盘价。 */
+        private double previousClose;
+
+        /** 种子期为涨幅累计和，之后为平均涨幅。 */
+        private double gain;
+
+        /** 种子期为跌幅累计和，之后为平均跌幅。 */
+        private double loss;
+
+        Rsi(int period) {
+            super(period);
+        }
+
+        @Override
+        public void push(double high, double low, double close) {
+            if (count > 0) {
+                double change = close - previousClose;
+                double up = Math.max(change, 0.0);
+                double down = Math.max(-change, 0.0);
+                if (count < period) {
+                    gain += up;
+                    loss += down;
+                }
+                else if (count == period) {
+                    gain = (gain + up) / period;
+                    loss = (loss + down) / period;
+                }
+                else {
+                    gain = (gain * (period - 1) + up) / period;
+                    loss = (loss * (period - 1) + down) / period;
+                }
+            }
+            previousClose = close;
+            count++;
+        }
+
+        @Override
+        public boolean peek(double high, double low, double close, double[] out) {
+            if (count < period) {
+                return false;
+            }
+            double change = close - previousClose;
+            double up = Math.max(change, 0.0);
+            double down = Math.max(-change, 0.0);
+            if (count == period) {
+                out[0] = IndicatorKernels.rsiOf((gain + up) / period, (loss + down) / period);
+            }
+            else {
+                out[0] = IndicatorKernels.rsiOf(
+                    (gain * (period - 1) + up) / period, (loss * (period - 1) + down) / period);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * KDJ(N, 3, 3)。
+     */
+    static final class Kdj extends IncrementalIndicator {
+
+        /** N 日最高价。 */
+        private final MonotonicDeque highs;
+
+        /** N 日最低价。 */
+        private final MonotonicDeque lows;
+
+        /** K 值。 */
+        private double k = IndicatorKernels.KDJ_INITIAL;
+
+        /** D 值。 */
+        private double d = IndicatorKernels.KDJ_INITIAL;
+
+        Kdj(int period) {
+            super(period);
+            this.highs = new MonotonicDeque(period, true);
+            this.lows = new MonotonicDeque(period, false);
+        }
+
+        @Override
+        public void push(double high, double low, double close) {
+            highs.offer(count, high);
+            lows.offer(count, low);
+            k = IndicatorKernels.smooth(k, IndicatorKernels.rsvOf(close, highs.first(), lows.first()));
+            d = IndicatorKernels.smooth(d, k);
+            count++;
+        }
+
+        @Override
+        public boolean peek(double high, double low, double close, double[] out) {
+            if (count + 1 < period) {
+                return false;
+            }
+            double highest = Math.max(high, highs.firstAfter(count - period, Double.NEGATIVE_INFINITY));
+            double lowest = Math.min(low, lows.firstAfter(count - period, Double.POSITIVE_INFINITY));
+            double nextK = IndicatorKernels.smooth(k, IndicatorKernels.rsvOf(close, highest, lowest));
+            double nextD = IndicatorKernels.smooth(d, nextK);
+            out[0] = nextK;
+            out[1] = nextD;
+            out[2] = 3.0 * nextK - 2.0 * nextD;
+            return true;
+        }
+    }
+
+    /**
+     * 布林带(N, 2)。
+     */
+    static final class Boll extends IncrementalIndicator {
+
+        /** 窗口内收盘价。 */
+        private final double[] window;
+
+        /** 下一个写入位置。 */
+        private int cursor;
+
+        /** 窗口内收盘价之和。 */
+        private double sum;
+
+        /** 窗口内收盘价平方和。 */
+        private double sumOfSquares;
+
+        Boll(int period) {
+            super(period);
+            this.window = new double[period];
+        }
+
+        @Override
+        public void push(double high, double low, double close) {
+            if (count >= period) {
+                double evicted = window[cursor];
+                sum -= evicted;
+                sumOfSquares -= evicted * evicted;
+            }
+            window[cursor] = close;
+            sum += close;
+            sumOfSquares += close * close;
+            count++;
+            if (++cursor == period) {
+                cursor = 0;
+                sum = resum(window);
+                double squares = 0.0;
+                for (double value : window) {
+                    squares += value * value;
+                }
+                sumOfSquares = squares;
+            }
+        }
+
+        @Override
+        public boolean peek(double high, double low, double close, double[] out) {
+            if (count + 1 < period) {
+                return false;
+            }
+            double evicted = count >= period ? window[cursor] : 0.0;
+            double middle = (sum - evicted + close) / period;
+            double meanOfSquares = (sumOfSquares - evicted * evicted + close * close) / period;
+            double width = IndicatorKernels.BOLL_WIDTH * Math.sqrt(Math.max(0.0, meanOfSquares - middle * middle));
+            out[0] = middle + width;
+            out[1] = middle;
+            out[2] = middle - width;
+            return true;
+        }
+    }
+
+    private static double resum(double[] window) {
+        double total = 0.0;
+        for (double value : window) {
+            total += value;
+        }
+        return total;
+    }
+
+    /**
+     * 以环形数组实现的单调双端队列，维护滑动窗口最大值或最小值。
+     */
+    static final class MonotonicDeque {
+
+        /** 元素对应的 K 线序号。 */
+        private final long[] positions;
+
+        /** 元素值。 */
+        private final double[] values;
+
+        /** true 维护最大值，false 维护最小值。 */
+        private final boolean maximum;
+
+        /** 窗口大小。 */
+        private final int window;
+
+        /** 队首下标。 */
+        private int head;
+
+        /** 元素个数。 */
+        private int size;
+
+        MonotonicDeque(int window, boolean maximum) {
+            this.window = window;
+            this.maximum = maximum;
+            this.positions = new long[window];
+            this.values = new double[window];
+        }
+
+        void offer(long position, double value) {
+            while (size > 0 && positions[head] <= position - window) {
+                head = (head + 1) % window;
+                size--;
+            }
+            while (size > 0 && dominates(value, values[(head + size - 1) % window])) {
+                size--;
+            }
+            int tail = (head + size) % window;
+            positions[tail] = position;
+            values[tail] = value;
+            size++;
+        }
+
+        double first() {
+            return values[head];
+        }
+
+        /**
+         * 返回序号大于 {@code expiredPosition} 的首个元素值。
+         * 由于每次 offer 都已剔除更早的元素，最多只需跳过一个。
+         */
+        double firstAfter(long expiredPosition, double fallback) {
+            for (int i = 0; i < size; i++) {
+                int index = (head + i) % window;
+                if (positions[index] > expiredPosition) {
+                    return values[index];
+                }
+            }
+            return fallback;
+        }
+
+        private boolean dominates(double incoming, double existing) {
+            return maximum ? incoming >= existing : incoming <= existing;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.koduck.market.service.support;
+
+/**
+ * 技术指标的全量重算参考实现。
+ *
+ * <p>每次调用都从第一根 K 线开始完整重算，只返回最后一根 K 线上的指标值。
+ * 这里的口径是 {@link IncrementalIndicator} 的基准：两者对同一序列的结果应在浮点误差内一致，
+ * 单元测试与基准测试均以此为对照。</p>
+ *
+ * @author Koduck Team
+ */
+public final class IndicatorKernels {
+
+    /** MACD 快线周期。 */
+    public static final int MACD_FAST = 12;
+
+    /** MACD 慢线周期。 */
+    public static final int MACD_SLOW = 26;
+
+    /** MACD 信号线周期。 */
+    public static final int MACD_SIGNAL = 9;
+
+    /** KDJ 的 K、D 平滑周期。 */
+    public static final int KDJ_SMOOTH = 3;
+
+    /** KDJ 的 K、D 初始值，同时作为 RSV 无波动时的取值。 */
+    public static final double KDJ_INITIAL = 50.0;
+
+    /** 布林带标准差倍数。 */
+    public static final double BOLL_WIDTH = 2.0;
+
+    /** 百分比基数。 */
+    static final double HUNDRED = 100.0;
+
+    /** 无涨跌时 RSI 的中性值。 */
+    static final double RSI_NEUTRAL = 50.0;
+
+    private IndicatorKernels() {
+    }
+
+    /**
+     * 计算序列前 {@code length} 根 K 线的最后一个指标值。
+     *
+     * @param type   指标类型
+     * @param period 指标周期（MACD 忽略）
+     * @param high   最高价
+     * @param low    最低价
+     * @param close  收盘价
+     * @param length 参与计算的 K 线数
+     * @param out    输出数组，长度不小于 {@link IndicatorType#outputCount()}
+     * @return K 线数不足以产出指标时返回 {@code false}
+     */
+    public static boolean evaluate(IndicatorType type, int period, double[] high, double[] low,
+                                   double[] close, int length, double[] out) {
+        if (length < IncrementalIndicator.requiredBars(type, period)) {
+            return false;
+        }
+        switch (type) {
+            case SMA -> out[0] = mean(close, length - period, length);
+            case EMA -> out[0] = ema(close, length, period);
+            case MACD -> macd(close, length, out);
+            case RSI -> out[0] = rsi(close, length, period);
+            case KDJ -> kdj(high, low, close, length, period, out);
+            case BOLL -> boll(close, length, period, out);
+            default -> throw new IllegalArgumentException("Unsupported indicator: " + type);
+        }
+        return true;
+    }
+
+    private static double mean(double[] values, int from, int to) {
+        double sum = 0.0;
+        for (int i = from; i < to; i++) {
+            sum += values[i];
+        }
+        return sum / (to - from);
+    }
+
+    private static double ema(double[] close, int length, int period) {
+        double alpha = 2.0 / (period + 1);
+        double value = close[0];
+        for (int i = 1; i < length; i++) {
+            value += alpha * (close[i] - value);
+        }
+        return value;
+    }
+
+    private static void macd(double[] close, int length, double[] out) {
+        double fastAlpha = 2.0 / (MACD_FAST + 1);
+        double slowAlpha = 2.0 / (MACD_SLOW + 1);
+        double signalAlpha = 2.0 / (MACD_SIGNAL + 1);
+        double fast = close[0];
+        double slow = close[0];
+        double dea = 0.0;
+        for (int i = 1; i < length; i++) {
+            fast += fastAlpha * (close[i] - fast);
+            slow += slowAlpha * (close[i] - slow);
+            dea += signalAlpha * ((fast - slow) - dea);
+        }
+        double dif = fast - slow;
+        out[0] = dif;
+        out[1] = dea;
+        out[2] = 2.0 * (dif - dea);
+    }
+
+    private static double rsi(double[] close, int length, int period) {
+        double gain = 0.0;
+        double loss = 0.0;
+        for (int i = 1; i <= period; i++) {
+            double change = close[i] - close[i - 1];
+            gain += Math.max(change, 0.0);
+            loss += Math.max(-change, 0.0);
+        }
+        gain /= period;
+        loss /= period;
+        for (int i = period + 1; i < length; i++) {
+            double change = close[i] - close[i - 1];
+            gain = (gain * (period - 1) + Math.max(change, 0.0)) / period;
+            loss = (loss * (period - 1) + Math.max(-change, 0.0)) / period;
+        }
+        return rsiOf(gain, loss);
+    }
+
+    private static void kdj(double[] high, double[] low, double[] close, int length, int period, double[] out) {
+        double k = KDJ_INITIAL;
+        double d = KDJ_INITIAL;
+        for (int i = 0; i < length; i++) {
+            double highest = Double.NEGATIVE_INFINITY;
+            double lowest = Double.POSITIVE_INFINITY;
+            for (int j = Math.max(0, i - period + 1); j <= i; j++) {
+                highest = Math.max(highest, high[j]);
+                lowest = Math.min(lowest, low[j]);
+            }
+            double rsv = rsvOf(close[i], highest, lowest);
+            k = smooth(k, rsv);
+            d = smooth(d, k);
+        }
+        out[0] = k;
+        out[1] = d;
+        out[2] = 3.0 * k - 2.0 * d;
+    }
+
+    private static void boll(double[] close, int length, int period, double[] out) {
+        double middle = mean(close, length - period, length);
+        double squares = 0.0;
+        for (int i = length - period; i < length; i++) {
+            double deviation = close[i] - middle;
+            squares += deviation * deviation;
+        }
+        double width = BOLL_WIDTH * Math.sqrt(squares / period);
+        out[0] = middle + width;
+        out[1] = middle;
+        out[2] = middle - width;
+    }
+
+    static double rsiOf(double averageGain, double averageLoss) {
+        if (averageLoss == 0.0) {
+            return averageGain == 0.0 ? RSI_NEUTRAL : HUNDRED;
+        }
+        return HUNDRED - HUNDRED / (1.0 + averageGain / averageLoss);
+    }
+
+    static double rsvOf(double close, double highest, double lowest) {
+        double range = highest - lowest;
+        return range > 0.0 ? (close - lowest) / range * HUNDRED : KDJ_INITIAL;
+    }
+
+    static double smooth(double previous, double value) {
+        return (previous * (KDJ_SMOOTH - 1) + value) / KDJ_SMOOTH;
+    }
+}
@@ -0,0 +1,114 @@
+package com.koduck.market.service.support;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 支持的技术指标类型及其元数据。
+ *
+ * <p>{@link #outputKeys()} 与 {@link IncrementalIndicator} / {@link IndicatorKernels}
+ * 写出的数组下标一一对应。</p>
+ *
+ * @author Koduck Team
+ */
+public enum IndicatorType {
+
+    /** 简单移动平均。 */
+    SMA("简单移动平均", "最近 N 根 K 线收盘价的算术平均", "TREND", List.of(5, 10, 20, 60), "ma"),
+
+    /** 指数移动平均。 */
+    EMA("指数移动平均", "以 2/(N+1) 为平滑系数的收盘价加权平均", "TREND", List.of(12, 26), "ema"),
+
+    /** 指数平滑异同移动平均线。 */
+    MACD("MACD", "EMA(12) 与 EMA(26) 之差及其 9 日平滑", "TREND", List.of(26), "dif", "dea", "macd"),
+
+    /** 相对强弱指标。 */
+    RSI("相对强弱指标", "Wilder 平滑的 N 日涨跌幅强弱比", "MOMENTUM", List.of(6, 14, 24), "rsi"),
+
+    /** 随机指标。 */
+    KDJ("随机指标", "N 日 RSV 经 3/3 平滑得到的 K、D、J 值", "MOMENTUM", List.of(9), "k", "d", "j"),
+
+    /** 布林带。 */
+    BOLL("布林带", "N 日均线加减 2 倍总体标准差", "VOLATILITY", List.of(20), "upper", "middle", "lower");
+
+    /** 指标名称。 */
+    private final String displayName;
+
+    /** 指标说明。 */
+    private final String description;
+
+    /** 指标分类。 */
+    private final String category;
+
+    /** 常用周期，第一个为默认周期。 */
+    private final List<Integer> defaultPeriods;
+
+    /** 输出值名称。 */
+    private final String[] outputKeys;
+
+    IndicatorType(String displayName, String description, String category,
+                  List<Integer> defaultPeriods, String... outputKeys) {
+        this.displayName = displayName;
+        this.description = description;
+        this.category = category;
+        this.defaultPeriods = defaultPeriods;
+        this.outputKeys = outputKeys;
+    }
+
+    public String displayName() {
+        return displayName;
+    }
+
+    public String description() {
+        return description;
+    }
+
+    public String category() {
+        return category;
+    }
+
+    public List<Integer> defaultPeriods() {
+        return defaultPeriods;
+    }
+
+    /**
+     * 输出值名称（返回副本）。
+     *
+     * @return 输出值名称
+     */
+    public String[] outputKeys() {
+        return outputKeys.clone();
+    }
+
+    /**
+     * 输出值个数。
+     *
+     * @return 输出值个数
+     */
+    public int outputCount() {
+        return outputKeys.length;
+    }
+
+    /**
+     * 按代码解析指标类型，{@code MA} 视为 {@link #SMA} 的别名。
+     *
+     * @param code 指标代码
+     * @return 指标类型；无法识别时为空
+     */
+    public static Optional<IndicatorType> fromCode(String code) {
+        if (code == null || code.isBlank()) {
+            return Optional.empty();
+        }
+        String normalized = code.trim().toUpperCase(Locale.ROOT);
+        if ("MA".equals(normalized)) {
+            return Optional.of(SMA);
+        }
+        for (IndicatorType type : values()) {
+            if (type.name().equals(normalized)) {
+                return Optional.of(type);
+            }
+        }
+        return Optional.empty();
+    }
+}
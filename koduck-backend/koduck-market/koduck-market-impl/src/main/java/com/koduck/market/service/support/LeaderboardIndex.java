@@ -0,0 +1,141 @@
+package com.koduck.market.service.support;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 单一排序指标的增量排行榜。
+ *
+ * <p>按（分数, 代码）有序保存全部股票的最新分数，另以代码索引当前条目：一条行情到达时
+ * 先删旧条目再插新条目，代价 O(log n)；读取头部或尾部 K 名只需沿跳表顺序走 K 步，
+ * 不再对全市场重新排序。同一指标的正序与倒序（如涨幅榜与跌幅榜）共用一个索引。</p>
+ *
+ * <p>写入在索引上串行，读取不加锁；并发读取可能在一次替换的间隙短暂看不到正在更新的股票，
+ * 但不会看到同一股票两次。</p>
+ *
+ * @author Koduck Team
+ */
+public final class LeaderboardIndex {
+
+    /** 排序：分数升序，分数相同按代码升序。 */
+    private static final Comparator<Ranked> ORDER = Comparator.comparingDouble(Ranked::score)
+        .thenComparing(Ranked::symbol);
+
+    /** 有序条目。 */
+    private final ConcurrentSkipListSet<Ranked> ordered = new ConcurrentSkipListSet<>(ORDER);
+
+    /** 代码到当前条目的索引。 */
+    private final Map<String, Ranked> bySymbol = new ConcurrentHashMap<>();
+
+    /**
+     * 更新股票分数。
+     *
+     * @param symbol 股票代码
+     * @param score  分数，非有限值视为移除
+     * @return 排行榜内容发生变化时返回 {@code true}
+     */
+    public synchronized boolean update(String symbol, double score) {
+        if (!Double.isFinite(score)) {
+            return remove(symbol);
+        }
+        Ranked previous = bySymbol.get(symbol);
+        if (previous != null && Double.compare(previous.score(), score) == 0) {
+            return false;
+        }
+        Ranked next = new Ranked(symbol, score);
+        if (previous != null) {
+            ordered.remove(previous);
+        }
+        ordered.add(next);
+        bySymbol.put(symbol, next);
+        return true;
+    }
+
+    /**
+     * 移除股票。
+     *
+     * @param symbol 股票代码
+     * @return 股票原本在榜内时返回 {@code true}
+     */
+    public synchronized boolean remove(String symbol) {
+        Ranked previous = bySymbol.remove(symbol);
+        if (previous == null) {
+            return false;
+        }
+        ordered.remove(previous);
+        return true;
+    }
+
+    /**
+     * 清空排行榜。
+     */
+    public synchronized void clear() {
+        bySymbol.clear();
+        ordered.clear();
+    }
+
+    /**
+     * 分数最高的前 K 名，分数降序。
+     *
+     * @param limit 条数上限
+     * @return 排名条目
+     */
+    public List<Ranked> top(int limit) {
+        return take(ordered.descendingIterator(), Math.min(limit, size()));
+    }
+
+    /**
+     * 分数最低的前 K 名，分数升序。
+     *
+     * @param limit 条数上限
+     * @return 排名条目
+     */
+    public List<Ranked> bottom(int limit) {
+        return take(ordered.iterator(), Math.min(limit, size()));
+    }
+
+    /**
+     * 股票的当前分数。
+     *
+     * @param symbol 股票代码
+     * @return 分数；不在榜内时返回 {@link Double#NaN}
+     */
+    public double score(String symbol) {
+        Ranked ranked = bySymbol.get(symbol);
+        return ranked == null ? Double.NaN : ranked.score();
+    }
+
+    /**
+     * 榜内股票数。
+     *
+     * @return 股票数
+     */
+    public int size() {
+        return bySymbol.size();
+    }
+
+    private static List<Ranked> take(Iterator<Ranked> iterator, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        List<Ranked> result = new ArrayList<>(limit);
+        while (result.size() < limit && iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    /**
+     * 排名条目。
+     *
+     * @param symbol 股票代码
+     * @param score  分数
+     */
+    public record Ranked(String symbol, double score) {
+    }
+}
@@ -0,0 +1,163 @@
+package com.koduck.market.service.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 汉字拼音首字母。
+ *
+ * <p>GB2312 一级汉字按拼音排序，首字母由编码所在区间直接得到；二级汉字与证券简称中的多音字
+ * 由 classpath 的 {@code pinyin/initials-supplement.properties} 补充，补充表优先。
+ * 运行时缺少 GB2312 字符集时只使用补充表。</p>
+ *
+ * @author Koduck Team
+ */
+public final class PinyinInitials {
+
+    /** 补充表资源路径。 */
+    private static final String SUPPLEMENT_RESOURCE = "pinyin/initials-supplement.properties";
+
+    /** GB2312 字符集名称。 */
+    private static final String GB2312 = "GB2312";
+
+    /** 有拼音区间的首字母（GB2312 一级汉字中没有 i、u、v 开头的字）。 */
+    private static final char[] LETTERS = "abcdefghjklmnopqrstwxyz".toCharArray();
+
+    /** 各首字母区间在 GB2312 中的起始编码，末尾为一级汉字结束编码（不含）。 */
+    private static final int[] BOUNDARIES = {
+        0xB0A1, 0xB0C5, 0xB2C1, 0xB4EE, 0xB6EA, 0xB7A2, 0xB8C1, 0xB9FE, 0xBBF7, 0xBFA6, 0xC0AC, 0xC2E8,
+        0xC4C3, 0xC5B6, 0xC5BE, 0xC6DA, 0xC8BB, 0xC8F6, 0xCBFA, 0xCDDA, 0xCEF4, 0xD1B9, 0xD4D1, 0xD7FA,
+    };
+
+    /** 全角 ASCII 起始码位。 */
+    private static final char FULL_WIDTH_FIRST = '\uFF01';
+
+    /** 全角 ASCII 结束码位。 */
+    private static final char FULL_WIDTH_LAST = '\uFF5E';
+
+    /** 全角与半角 ASCII 的码位差。 */
+    private static final int FULL_WIDTH_OFFSET = 0xFEE0;
+
+    /** 字节掩码。 */
+    private static final int BYTE_MASK = 0xFF;
+
+    /** 字节位数。 */
+    private static final int BYTE_BITS = 8;
+
+    /** ASCII 上界（不含）。 */
+    private static final char ASCII_LIMIT = 0x80;
+
+    /** 无首字母。 */
+    private static final char NONE = 0;
+
+    private PinyinInitials() {
+    }
+
+    /**
+     * 计算文本的首字母串。
+     *
+     * <p>汉字取拼音首字母，ASCII 字母转小写，数字保留，其余字符（空格、{@code *}、{@code -} 等）跳过。</p>
+     *
+     * @param text 文本
+     * @return 小写首字母串；{@code text} 为 {@code null} 时返回空串
+     */
+    public static String of(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder initials = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char initial = initial(text.charAt(i));
+            if (initial != NONE) {
+                initials.append(initial);
+            }
+        }
+        return initials.toString();
+    }
+
+    /**
+     * 计算单个字符的首字母。
+     *
+     * @param c 字符
+     * @return 小写首字母或数字；无法识别时返回 {@code 0}
+     */
+    public static char initial(char c) {
+        char ch = c >= FULL_WIDTH_FIRST && c <= FULL_WIDTH_LAST ? (char) (c - FULL_WIDTH_OFFSET) : c;
+        if (ch < ASCII_LIMIT) {
+            return Character.isLetterOrDigit(ch) ? Character.toLowerCase(ch) : NONE;
+        }
+        Character supplement = Holder.SUPPLEMENT.get(ch);
+        if (supplement != null) {
+            return supplement;
+        }
+        if (Holder.CHARSET == null) {
+            return NONE;
+        }
+        byte[] bytes = String.valueOf(ch).getBytes(Holder.CHARSET);
+        if (bytes.length != 2) {
+            return NONE;
+        }
+        int code = ((bytes[0] & BYTE_MASK) << BYTE_BITS) | (bytes[1] & BYTE_MASK);
+        if (code < BOUNDARIES[0] || code >= BOUNDARIES[LETTERS.length]) {
+            return NONE;
+        }
+        for (int i = LETTERS.length - 1; i >= 0; i--) {
+            if (code >= BOUNDARIES[i]) {
+                return LETTERS[i];
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * 从 classpath 加载补充表。
+     *
+     * @param resource 资源路径
+     * @return 汉字到首字母的映射；资源不存在时为空
+     * @throws IllegalStateException 资源读取失败时抛出
+     */
+    static Map<Character, Character> loadSupplement(String resource) {
+        Map<Character, Character> supplement = new HashMap<>();
+        ClassLoader loader = PinyinInitials.class.getClassLoader();
+        try (InputStream in = loader.getResourceAsStream(resource)) {
+            if (in == null) {
+                return supplement;
+            }
+            Properties properties = new Properties();
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+            for (String key : properties.stringPropertyNames()) {
+                char letter = key.trim().toLowerCase(Locale.ROOT).charAt(0);
+                String chars = properties.getProperty(key).trim();
+                for (int i = 0; i < chars.length(); i++) {
+                    supplement.put(chars.charAt(i), letter);
+                }
+            }
+            return supplement;
+        }
+        catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("Failed to load pinyin supplement " + resource, e);
+        }
+    }
+
+    /**
+     * 延迟加载持有者。
+     */
+    private static final class Holder {
+
+        /** 补充表。 */
+        private static final Map<Character, Character> SUPPLEMENT = loadSupplement(SUPPLEMENT_RESOURCE);
+
+        /** GB2312 字符集，运行时不支持时为 {@code null}。 */
+        private static final Charset CHARSET = Charset.isSupported(GB2312) ? Charset.forName(GB2312) : null;
+    }
+}
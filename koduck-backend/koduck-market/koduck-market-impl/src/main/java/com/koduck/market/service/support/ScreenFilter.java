@@ -0,0 +1,175 @@
+package com.koduck.market.service.support;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 可组合的横截面过滤条件。
+ *
+ * <p>过滤条件作用于 {@link ScreenerSnapshot} 的列：候选集合以 {@link BitSet} 表示，
+ * 每个条件只遍历仍在候选集合中的槽位并清除不满足的位，前面的条件越严格后面的条件越便宜。
+ * 列值为 {@code NaN}（K 线不足以产出指标）时任何比较都不成立。</p>
+ *
+ * @author Koduck Team
+ */
+@FunctionalInterface
+public interface ScreenFilter {
+
+    /**
+     * 从候选集合中清除不满足条件的槽位。
+     *
+     * @param candidates 候选槽位集合，原地修改
+     */
+    void retain(BitSet candidates);
+
+    /**
+     * 与另一个条件同时成立。
+     *
+     * @param other 另一个条件
+     * @return 组合条件
+     */
+    default ScreenFilter and(ScreenFilter other) {
+        return candidates -> {
+            retain(candidates);
+            other.retain(candidates);
+        };
+    }
+
+    /**
+     * 全部条件同时成立；列表为空时不过滤。
+     *
+     * @param filters 条件列表
+     * @return 组合条件
+     */
+    static ScreenFilter allOf(List<ScreenFilter> filters) {
+        return candidates -> {
+            for (ScreenFilter filter : filters) {
+                if (candidates.isEmpty()) {
+                    return;
+                }
+                filter.retain(candidates);
+            }
+        };
+    }
+
+    /**
+     * 至少一个条件成立；列表为空时不过滤。
+     *
+     * @param filters 条件列表
+     * @return 组合条件
+     */
+    static ScreenFilter anyOf(List<ScreenFilter> filters) {
+        return candidates -> {
+            if (filters.isEmpty()) {
+                return;
+            }
+            BitSet union = new BitSet(candidates.length());
+            for (ScreenFilter filter : filters) {
+                BitSet branch = (BitSet) candidates.clone();
+                branch.andNot(union);
+                filter.retain(branch);
+                union.or(branch);
+            }
+            candidates.and(union);
+        };
+    }
+
+    /**
+     * 列与常量比较。
+     *
+     * @param column   列
+     * @param operator 比较运算符
+     * @param constant 常量
+     * @return 条件
+     */
+    static ScreenFilter compare(double[] column, Operator operator, double constant) {
+        return candidates -> {
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                if (!operator.test(column[slot], constant)) {
+                    candidates.clear(slot);
+                }
+            }
+        };
+    }
+
+    /**
+     * 列与另一列的倍数比较：{@code left op right * multiplier}。
+     *
+     * @param left       左列
+     * @param operator   比较运算符
+     * @param right      右列
+     * @param multiplier 右列倍数
+     * @return 条件
+     */
+    static ScreenFilter compare(double[] left, Operator operator, double[] right, double multiplier) {
+        return candidates -> {
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                if (!operator.test(left[slot], right[slot] * multiplier)) {
+                    candidates.clear(slot);
+                }
+            }
+        };
+    }
+
+    /**
+     * 比较运算符。
+     */
+    enum Operator {
+
+        /** 大于。 */
+        GT(">"),
+
+        /** 大于等于。 */
+        GE(">="),
+
+        /** 小于。 */
+        LT("<"),
+
+        /** 小于等于。 */
+        LE("<=");
+
+        /** 运算符符号。 */
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        /**
+         * 比较两个值，任一值为 {@code NaN} 时返回 {@code false}。
+         *
+         * @param left  左值
+         * @param right 右值
+         * @return 比较结果
+         */
+        public boolean test(double left, double right) {
+            return switch (this) {
+                case GT -> left > right;
+                case GE -> left >= right;
+                case LT -> left < right;
+                case LE -> left <= right;
+            };
+        }
+
+        /**
+         * 按符号（{@code >}、{@code >=}、{@code <}、{@code <=}）或名称（{@code GT} 等）解析运算符。
+         *
+         * @param code 运算符代码
+         * @return 运算符；无法识别时为空
+         */
+        public static Optional<Operator> fromCode(String code) {
+            if (code == null) {
+                return Optional.empty();
+            }
+            String normalized = code.trim().toUpperCase(Locale.ROOT);
+            for (Operator operator : values()) {
+                if (operator.symbol.equals(normalized) || operator.name().equals(normalized)) {
+                    return Optional.of(operator);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.koduck.market.service.support;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 选股条件可引用的字段。
+ *
+ * <p>字段写法：</p>
+ * <ul>
+ *   <li>行情字段：{@code close}、{@code high}、{@code low}、{@code volume}、{@code amount}、{@code changePercent}；</li>
+ *   <li>指标输出：{@code 输出名(周期)}，输出名取自 {@link IndicatorType#outputKeys()}，
+ *       例如 {@code rsi(14)}、{@code lower(20)}、{@code ma(5)}；省略周期时取该指标的第一个常用周期，
+ *       MACD 的 {@code dif}/{@code dea}/{@code macd} 固定使用 12/26/9；</li>
+ *   <li>成交量均线：{@code volumeMa(周期)}，含形成中 K 线。</li>
+ * </ul>
+ *
+ * @param code   规范化后的字段代码
+ * @param kind   字段类别
+ * @param type   指标类型，行情字段为 {@code null}
+ * @param period 指标周期，行情字段为 0
+ * @param output 指标输出下标，行情字段为行情列下标
+ * @author Koduck Team
+ */
+public record ScreenerField(String code, Kind kind, IndicatorType type, int period, int output) {
+
+    /** 收盘价列。 */
+    static final int CLOSE = 0;
+
+    /** 最高价列。 */
+    static final int HIGH = 1;
+
+    /** 最低价列。 */
+    static final int LOW = 2;
+
+    /** 成交量列。 */
+    static final int VOLUME = 3;
+
+    /** 成交额列。 */
+    static final int AMOUNT = 4;
+
+    /** 涨跌幅（百分比）列。 */
+    static final int CHANGE_PERCENT = 5;
+
+    /** 行情列数。 */
+    static final int BAR_COLUMNS = 6;
+
+    /** 行情字段代码，下标与行情列一致。 */
+    private static final String[] BAR_CODES = {"close", "high", "low", "volume", "amount", "changePercent"};
+
+    /** 成交量均线字段名。 */
+    private static final String VOLUME_MA = "volumema";
+
+    /**
+     * 字段类别。
+     */
+    public enum Kind {
+
+        /** 最新 K 线行情。 */
+        BAR,
+
+        /** 基于价格的指标。 */
+        PRICE_INDICATOR,
+
+        /** 基于成交量的均线。 */
+        VOLUME_INDICATOR
+    }
+
+    /**
+     * 是否为指标字段。
+     *
+     * @return 指标字段返回 {@code true}
+     */
+    public boolean isIndicator() {
+        return kind != Kind.BAR;
+    }
+
+    /**
+     * 解析字段代码。
+     *
+     * @param raw 字段代码
+     * @return 字段；无法识别时为空
+     */
+    public static Optional<ScreenerField> parse(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return Optional.empty();
+        }
+        String text = raw.replace(" ", "");
+        for (int i = 0; i < BAR_CODES.length; i++) {
+            if (BAR_CODES[i].equalsIgnoreCase(text)) {
+                return Optional.of(new ScreenerField(BAR_CODES[i], Kind.BAR, null, 0, i));
+            }
+        }
+        String name = text;
+        Integer period = null;
+        int open = text.indexOf('(');
+        if (open > 0) {
+            if (!text.endsWith(")")) {
+                return Optional.empty();
+            }
+            name = text.substring(0, open);
+            try {
+                period = Integer.parseInt(text.substring(open + 1, text.length() - 1));
+            }
+            catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+            if (period <= 0) {
+                return Optional.empty();
+            }
+        }
+        String key = name.toLowerCase(Locale.ROOT);
+        if (VOLUME_MA.equals(key)) {
+            return period == null
+                ? Optional.empty()
+                : Optional.of(new ScreenerField("volumeMa(" + period + ")", Kind.VOLUME_INDICATOR,
+                    IndicatorType.SMA, period, 0));
+        }
+        for (IndicatorType type : IndicatorType.values()) {
+            String[] keys = type.outputKeys();
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(key)) {
+                    int effective;
+                    if (type == IndicatorType.MACD) {
+                        effective = IndicatorKernels.MACD_SLOW;
+                    }
+                    else {
+                        effective = period != null ? period : type.defaultPeriods().get(0);
+                    }
+                    return Optional.of(new ScreenerField(key + "(" + effective + ")", Kind.PRICE_INDICATOR,
+                        type, effective, i));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
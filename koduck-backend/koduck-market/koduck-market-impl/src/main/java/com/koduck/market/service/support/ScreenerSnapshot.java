@@ -0,0 +1,509 @@
+package com.koduck.market.service.support;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 全市场横截面选股快照（列式存储）。
+ *
+ * <p>每只股票占一个槽位，所有数据按列保存在基本类型数组中：</p>
+ * <ul>
+ *   <li>最新一根（可能仍在形成中的）K 线的行情列，下标见 {@link ScreenerField}；</li>
+ *   <li>最近 {@code historyBars} 根已收盘 K 线的最高价、最低价、收盘价、成交量环形历史，
+ *       按 {@code 槽位 × historyBars} 连续排布；</li>
+ *   <li>指标列：每个（指标、周期）一组 {@link IncrementalIndicator} 状态与输出列。首次被条件引用时
+ *       用环形历史回放建立，之后随 K 线推进 O(1) 更新。指标列数超过上限时淘汰最久未使用的一列，
+ *       使用顺序记录在列上的访问序号中，查找列不改变映射结构。</li>
+ * </ul>
+ *
+ * <p>{@link #apply} 按时间戳合并 K 线：时间相同则覆盖形成中 K 线；时间更新则先把原形成中 K 线并入历史与指标状态；
+ * 时间更早的修正数据忽略，留给下一次全量重建。</p>
+ *
+ * <p>本类不是线程安全的，由调用方加锁：{@link #findColumn} 与其他只读方法可在共享锁下并发调用，
+ * {@link #apply}、{@link #column} 与 {@link #warmColumns} 需要独占锁。</p>
+ *
+ * @author Koduck Team
+ */
+public final class ScreenerSnapshot {
+
+    /** 尚无 K 线时的时间戳。 */
+    public static final long NO_BAR = Long.MIN_VALUE;
+
+    /** 百分比基数。 */
+    private static final double HUNDRED = 100.0;
+
+    /** 股票代码。 */
+    private final String[] symbols;
+
+    /** 股票名称。 */
+    private final String[] names;
+
+    /** 股票代码到槽位的映射。 */
+    private final Map<String, Integer> slots;
+
+    /** 每只股票保留的已收盘 K 线数。 */
+    private final int historyBars;
+
+    /** 指标列上限。 */
+    private final int maxColumns;
+
+    /** 历史最高价。 */
+    private final double[] historyHigh;
+
+    /** 历史最低价。 */
+    private final double[] historyLow;
+
+    /** 历史收盘价。 */
+    private final double[] historyClose;
+
+    /** 历史成交量。 */
+    private final double[] historyVolume;
+
+    /** 各槽位历史的下一个写入位置。 */
+    private final int[] historyHead;
+
+    /** 各槽位历史的有效条数。 */
+    private final int[] historySize;
+
+    /** 形成中 K 线时间戳（epoch 秒）。 */
+    private final long[] barTime;
+
+    /** 形成中 K 线行情列。 */
+    private final double[][] bars;
+
+    /** 指标列。 */
+    private final Map<ColumnKey, IndicatorColumn> indicators = new HashMap<>();
+
+    /** 指标列访问序号。 */
+    private final AtomicLong accessSequence = new AtomicLong();
+
+    /** 已合并 K 线中的最大时间戳。 */
+    private long latestTime = NO_BAR;
+
+    /**
+     * 创建空快照。
+     *
+     * @param symbols     股票代码
+     * @param names       股票名称，与代码一一对应
+     * @param historyBars 每只股票保留的已收盘 K 线数
+     * @param maxColumns  指标列上限
+     */
+    public ScreenerSnapshot(List<String> symbols, List<String> names, int historyBars, int maxColumns) {
+        if (symbols.size() != names.size()) {
+            throw new IllegalArgumentException("symbols and names must have the same size");
+        }
+        if (historyBars <= 0 || maxColumns <= 0) {
+            throw new IllegalArgumentException("historyBars and maxColumns must be positive");
+        }
+        int size = symbols.size();
+        this.symbols = symbols.toArray(new String[0]);
+        this.names = names.toArray(new String[0]);
+        this.slots = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            slots.putIfAbsent(this.symbols[i], i);
+        }
+        this.historyBars = historyBars;
+        this.maxColumns = maxColumns;
+        this.historyHigh = new double[size * historyBars];
+        this.historyLow = new double[size * historyBars];
+        this.historyClose = new double[size * historyBars];
+        this.historyVolume = new double[size * historyBars];
+        this.historyHead = new int[size];
+        this.historySize = new int[size];
+        this.barTime = new long[size];
+        Arrays.fill(barTime, NO_BAR);
+        this.bars = new double[ScreenerField.BAR_COLUMNS][size];
+        for (double[] column : bars) {
+            Arrays.fill(column, Double.NaN);
+        }
+    }
+
+    /**
+     * 槽位数。
+     *
+     * @return 股票数
+     */
+    public int size() {
+        return symbols.length;
+    }
+
+    /**
+     * 查询股票代码所在槽位。
+     *
+     * @param symbol 股票代码
+     * @return 槽位；不在快照中时返回 -1
+     */
+    public int slotOf(String symbol) {
+        Integer slot = slots.get(symbol);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * 槽位对应的股票代码。
+     *
+     * @param slot 槽位
+     * @return 股票代码
+     */
+    public String symbol(int slot) {
+        return symbols[slot];
+    }
+
+    /**
+     * 槽位对应的股票名称。
+     *
+     * @param slot 槽位
+     * @return 股票名称
+     */
+    public String name(int slot) {
+        return names[slot];
+    }
+
+    /**
+     * 形成中 K 线时间戳。
+     *
+     * @param slot 槽位
+     * @return epoch 秒；尚无 K 线时为 {@link #NO_BAR}
+     */
+    public long barTime(int slot) {
+        return barTime[slot];
+    }
+
+    /**
+     * 已合并 K 线中的最大时间戳。
+     *
+     * @return epoch 秒；尚无 K 线时为 {@link #NO_BAR}
+     */
+    public long latestTime() {
+        return latestTime;
+    }
+
+    /**
+     * 已有 K 线的槽位集合。
+     *
+     * @return 新建的候选集合
+     */
+    public BitSet populated() {
+        BitSet populated = new BitSet(symbols.length);
+        for (int slot = 0; slot < symbols.length; slot++) {
+            if (barTime[slot] != NO_BAR) {
+                populated.set(slot);
+            }
+        }
+        return populated;
+    }
+
+    /**
+     * 合并一根 K 线。
+     *
+     * @param slot   槽位
+     * @param time   K 线时间戳（epoch 秒）
+     * @param high   最高价
+     * @param low    最低价
+     * @param close  收盘价
+     * @param volume 成交量
+     * @param amount 成交额
+     * @return K 线早于当前形成中 K 线而被忽略时返回 {@code false}
+     */
+    public boolean apply(int slot, long time, double high, double low, double close, double volume, double amount) {
+        long current = barTime[slot];
+        if (time < current) {
+            return false;
+        }
+        if (current != NO_BAR && time > current) {
+            commit(slot);
+        }
+        barTime[slot] = time;
+        bars[ScreenerField.CLOSE][slot] = close;
+        bars[ScreenerField.HIGH][slot] = high;
+        bars[ScreenerField.LOW][slot] = low;
+        bars[ScreenerField.VOLUME][slot] = volume;
+        bars[ScreenerField.AMOUNT][slot] = amount;
+        double previous = Double.NaN;
+        if (historySize[slot] > 0) {
+            previous = historyClose[historyIndex(slot, historySize[slot] - 1)];
+        }
+        bars[ScreenerField.CHANGE_PERCENT][slot] = previous > 0.0
+            ? (close - previous) / previous * HUNDRED
+            : Double.NaN;
+        for (Map.Entry<ColumnKey, IndicatorColumn> entry : indicators.entrySet()) {
+            entry.getValue().peek(slot, entry.getKey().kind());
+        }
+        latestTime = Math.max(latestTime, time);
+        return true;
+    }
+
+    /**
+     * 获取字段对应的已有列，不建立指标列。
+     *
+     * @param field 字段
+     * @return 列数组（只读使用），下标为槽位，无值为 {@code NaN}；指标列尚未建立时为 {@code null}
+     */
+    public double[] findColumn(ScreenerField field) {
+        if (!field.isIndicator()) {
+            return bars[field.output()];
+        }
+        IndicatorColumn column = indicators.get(new ColumnKey(field.kind(), field.type(), field.period()));
+        if (column == null) {
+            return null;
+        }
+        column.lastAccess = accessSequence.incrementAndGet();
+        return column.outputs[field.output()];
+    }
+
+    /**
+     * 获取字段对应的列，指标列不存在时从环形历史建立。
+     *
+     * @param field 字段
+     * @return 列数组（只读使用），下标为槽位，无值为 {@code NaN}
+     */
+    public double[] column(ScreenerField field) {
+        double[] existing = findColumn(field);
+        if (existing != null) {
+            return existing;
+        }
+        ColumnKey key = new ColumnKey(field.kind(), field.type(), field.period());
+        IndicatorColumn column = materialize(key);
+        column.lastAccess = accessSequence.incrementAndGet();
+        indicators.put(key, column);
+        evictColumns();
+        return column.outputs[field.output()];
+    }
+
+    /**
+     * 按另一快照已建立的指标列预先建立本快照的指标列，用于全量重建后保持热列。
+     *
+     * @param previous 旧快照
+     */
+    public void warmColumns(ScreenerSnapshot previous) {
+        for (Map.Entry<ColumnKey, IndicatorColumn> entry : previous.indicators.entrySet()) {
+            if (!indicators.containsKey(entry.getKey())) {
+                IndicatorColumn column = materialize(entry.getKey());
+                column.lastAccess = entry.getValue().lastAccess;
+                indicators.put(entry.getKey(), column);
+            }
+        }
+        accessSequence.accumulateAndGet(previous.accessSequence.get(), Math::max);
+        evictColumns();
+    }
+
+    /**
+     * 指标列数。
+     *
+     * @return 已建立的指标列数
+     */
+    public int indicatorColumnCount() {
+        return indicators.size();
+    }
+
+    /**
+     * 在候选集合中按列值选出排名靠前的槽位。
+     *
+     * <p>使用容量为 {@code limit} 的基本类型堆，代价 O(n log limit)；{@code NaN} 排在最后，列值相同按槽位排序。</p>
+     *
+     * @param candidates 候选集合
+     * @param key        排序列
+     * @param descending 是否降序
+     * @param limit      返回条数上限
+     * @return 按排名排列的槽位
+     */
+    public static int[] topK(BitSet candidates, double[] key, boolean descending, int limit) {
+        int capacity = Math.min(limit, candidates.cardinality());
+        if (capacity <= 0) {
+            return new int[0];
+        }
+        // 大顶堆：堆顶是当前入选中排名最靠后的槽位
+        int[] heap = new int[capacity];
+        int size = 0;
+        for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+            if (size < capacity) {
+                heap[size] = slot;
+                siftUp(heap, size, key, descending);
+                size++;
+            }
+            else if (rank(key, descending, slot, heap[0]) < 0) {
+                heap[0] = slot;
+                siftDown(heap, size, key, descending);
+            }
+        }
+        int[] ranked = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            ranked[i] = heap[0];
+            heap[0] = heap[i];
+            siftDown(heap, i, key, descending);
+        }
+        return ranked;
+    }
+
+    private static int rank(double[] key, boolean descending, int a, int b) {
+        double x = key[a];
+        double y = key[b];
+        boolean missingX = Double.isNaN(x);
+        boolean missingY = Double.isNaN(y);
+        if (missingX != missingY) {
+            return missingX ? 1 : -1;
+        }
+        int order = 0;
+        if (!missingX) {
+            order = descending ? Double.compare(y, x) : Double.compare(x, y);
+        }
+        return order != 0 ? order : Integer.compare(a, b);
+    }
+
+    private static void siftUp(int[] heap, int index, double[] key, boolean descending) {
+        int slot = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (rank(key, descending, slot, heap[parent]) <= 0) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = slot;
+    }
+
+    private static void siftDown(int[] heap, int size, double[] key, boolean descending) {
+        if (size == 0) {
+            return;
+        }
+        int slot = heap[0];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && rank(key, descending, heap[right], heap[child]) > 0) {
+                child = right;
+            }
+            if (rank(key, descending, slot, heap[child]) >= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = slot;
+    }
+
+    private void commit(int slot) {
+        double high = bars[ScreenerField.HIGH][slot];
+        double low = bars[ScreenerField.LOW][slot];
+        double close = bars[ScreenerField.CLOSE][slot];
+        double volume = bars[ScreenerField.VOLUME][slot];
+        int index = slot * historyBars + historyHead[slot];
+        historyHigh[index] = high;
+        historyLow[index] = low;
+        historyClose[index] = close;
+        historyVolume[index] = volume;
+        historyHead[slot] = (historyHead[slot] + 1) % historyBars;
+        historySize[slot] = Math.min(historyBars, historySize[slot] + 1);
+        for (Map.Entry<ColumnKey, IndicatorColumn> entry : indicators.entrySet()) {
+            IncrementalIndicator state = entry.getValue().states[slot];
+            if (entry.getKey().kind() == ScreenerField.Kind.VOLUME_INDICATOR) {
+                state.push(volume, volume, volume);
+            }
+            else {
+                state.push(high, low, close);
+            }
+        }
+    }
+
+    /**
+     * 第 {@code offset} 根（从最旧算起）历史 K 线的数组下标。
+     */
+    private int historyIndex(int slot, int offset) {
+        int start = historyHead[slot] - historySize[slot] + offset;
+        return slot * historyBars + Math.floorMod(start, historyBars);
+    }
+
+    private IndicatorColumn materialize(ColumnKey key) {
+        IndicatorColumn column = new IndicatorColumn(key.type().outputCount(), symbols.length);
+        boolean volume = key.kind() == ScreenerField.Kind.VOLUME_INDICATOR;
+        for (int slot = 0; slot < symbols.length; slot++) {
+            IncrementalIndicator state = IncrementalIndicator.create(key.type(), key.period());
+            for (int offset = 0; offset < historySize[slot]; offset++) {
+                int index = historyIndex(slot, offset);
+                if (volume) {
+                    state.push(historyVolume[index], historyVolume[index], historyVolume[index]);
+                }
+                else {
+                    state.push(historyHigh[index], historyLow[index], historyClose[index]);
+                }
+            }
+            column.states[slot] = state;
+            column.peek(slot, key.kind());
+        }
+        return column;
+    }
+
+    private void evictColumns() {
+        while (indicators.size() > maxColumns) {
+            ColumnKey eldest = null;
+            long eldestAccess = Long.MAX_VALUE;
+            for (Map.Entry<ColumnKey, IndicatorColumn> entry : indicators.entrySet()) {
+                if (entry.getValue().lastAccess < eldestAccess) {
+                    eldest = entry.getKey();
+                    eldestAccess = entry.getValue().lastAccess;
+                }
+            }
+            indicators.remove(eldest);
+        }
+    }
+
+    /**
+     * 指标列键。
+     *
+     * @param kind   字段类别
+     * @param type   指标类型
+     * @param period 指标周期
+     */
+    private record ColumnKey(ScreenerField.Kind kind, IndicatorType type, int period) {
+    }
+
+    /**
+     * 一组指标状态及其输出列。
+     */
+    private final class IndicatorColumn {
+
+        /** 各槽位的增量指标状态。 */
+        private final IncrementalIndicator[] states;
+
+        /** 输出列，按指标输出下标排列。 */
+        private final double[][] outputs;
+
+        /** 单槽位输出缓冲区。 */
+        private final double[] scratch;
+
+        /** 最近一次访问的序号，共享锁下也会更新。 */
+        private volatile long lastAccess;
+
+        private IndicatorColumn(int outputCount, int size) {
+            this.states = new IncrementalIndicator[size];
+            this.outputs = new double[outputCount][size];
+            this.scratch = new double[outputCount];
+        }
+
+        /**
+         * 以槽位的形成中 K 线计算输出列。
+         */
+        private void peek(int slot, ScreenerField.Kind kind) {
+            boolean ready = false;
+            if (barTime[slot] != NO_BAR) {
+                if (kind == ScreenerField.Kind.VOLUME_INDICATOR) {
+                    double volume = bars[ScreenerField.VOLUME][slot];
+                    ready = states[slot].peek(volume, volume, volume, scratch);
+                }
+                else {
+                    ready = states[slot].peek(bars[ScreenerField.HIGH][slot], bars[ScreenerField.LOW][slot],
+                        bars[ScreenerField.CLOSE][slot], scratch);
+                }
+            }
+            for (int i = 0; i < outputs.length; i++) {
+                outputs[i][slot] = ready ? scratch[i] : Double.NaN;
+            }
+        }
+    }
+}
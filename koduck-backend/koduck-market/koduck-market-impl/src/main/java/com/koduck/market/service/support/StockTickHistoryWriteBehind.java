@@ -0,0 +1,198 @@
+package com.koduck.market.service.support;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.koduck.market.config.MarketProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 合成分时的异步批量回写器。
+ *
+ * <p>分时先进入有界队列，由调度线程按批次通过 JDBC batch 写入
+ * {@code stock_tick_history}，避免每条分时一次 INSERT。队列满时丢弃新分时并计数，
+ * 内存中的分时带不受影响。</p>
+ *
+ * @author Koduck Team
+ */
+@Slf4j
+@Component
+public class StockTickHistoryWriteBehind {
+
+    /** 批量插入语句。 */
+    private static final String INSERT_SQL =
+        "INSERT INTO stock_tick_history (symbol, tick_time, price, volume, amount) VALUES (?, ?, ?, ?, ?)";
+
+    /** 价格列小数位。 */
+    private static final int PRICE_SCALE = 4;
+
+    /** 成交额列小数位。 */
+    private static final int AMOUNT_SCALE = 2;
+
+    /** 参数下标：股票代码。 */
+    private static final int PARAM_SYMBOL = 1;
+
+    /** 参数下标：分时时间。 */
+    private static final int PARAM_TICK_TIME = 2;
+
+    /** 参数下标：价格。 */
+    private static final int PARAM_PRICE = 3;
+
+    /** 参数下标：成交量。 */
+    private static final int PARAM_VOLUME = 4;
+
+    /** 参数下标：成交额。 */
+    private static final int PARAM_AMOUNT = 5;
+
+    /** JDBC 模板。 */
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 分时配置。 */
+    private final MarketProperties.TickConfig config;
+
+    /** 待回写队列。 */
+    private final BlockingQueue<PendingTick> pending;
+
+    /** 因队列满或写入失败而丢弃的分时数。 */
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    /**
+     * 构造回写器。
+     *
+     * @param jdbcTemplate     JDBC 模板
+     * @param marketProperties 市场模块配置
+     */
+    public StockTickHistoryWriteBehind(JdbcTemplate jdbcTemplate, MarketProperties marketProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = marketProperties.getTick();
+        this.pending = new ArrayBlockingQueue<>(Math.max(1, config.getMaxPendingWrites()));
+    }
+
+    /**
+     * 将一条分时加入回写队列。
+     *
+     * @param symbol      股票代码
+     * @param epochMillis 时间戳（epoch 毫秒）
+     * @param price       价格
+     * @param volume      成交量
+     * @param amount      成交额
+     * @return 是否成功入队
+     */
+    public boolean enqueue(String symbol, long epochMillis, double price, long volume, double amount) {
+        if (!config.isWriteBehindEnabled()) {
+            return false;
+        }
+        boolean accepted = pending.offer(new PendingTick(symbol, epochMillis, price, volume, amount));
+        if (!accepted) {
+            long dropped = droppedCount.incrementAndGet();
+            if (dropped % config.getMaxPendingWrites() == 1) {
+                log.warn("Tick write-behind queue full, dropped={} pending={}", dropped, pending.size());
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * 将队列中的分时批量写入数据库，直到队列清空。
+     *
+     * @return 本次写入的行数
+     */
+    @Scheduled(fixedDelayString = "${koduck.market.tick.flush-interval-ms:2000}")
+    public synchronized int flush() {
+        int batchSize = Math.max(1, config.getFlushBatchSize());
+        List<PendingTick> batch = new ArrayList<>(batchSize);
+        int written = 0;
+        while (pending.drainTo(batch, batchSize) > 0) {
+            written += writeBatch(batch);
+            batch.clear();
+        }
+        if (written > 0) {
+            log.debug("Flushed {} synthetic ticks to stock_tick_history", written);
+        }
+        return written;
+    }
+
+    /**
+     * 应用关闭前写出剩余分时。
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 当前待回写条数。
+     *
+     * @return 待回写条数
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 累计丢弃条数。
+     *
+     * @return 丢弃条数
+     */
+    public long droppedCount() {
+        return droppedCount.get();
+    }
+
+    private int writeBatch(List<PendingTick> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    PendingTick tick = batch.get(i);
+                    ps.setString(PARAM_SYMBOL, tick.symbol());
+                    ps.setTimestamp(PARAM_TICK_TIME, new Timestamp(tick.epochMillis()));
+                    ps.setBigDecimal(PARAM_PRICE,
+                        BigDecimal.valueOf(tick.price()).setScale(PRICE_SCALE, RoundingMode.HALF_UP));
+                    ps.setLong(PARAM_VOLUME, tick.volume());
+                    ps.setBigDecimal(PARAM_AMOUNT,
+                        BigDecimal.valueOf(tick.amount()).setScale(AMOUNT_SCALE, RoundingMode.HALF_UP));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return batch.size();
+                }
+            });
+            return batch.size();
+        }
+        catch (DataAccessException e) {
+            droppedCount.addAndGet(batch.size());
+            log.warn("Failed to persist {} synthetic ticks: {}", batch.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 待回写的分时。
+     *
+     * @param symbol      股票代码
+     * @param epochMillis 时间戳（epoch 毫秒）
+     * @param price       价格
+     * @param volume      成交量
+     * @param amount      成交额
+     */
+    private record PendingTick(String symbol, long epochMillis, double price, long volume, double amount) {
+    }
+}
@@ -0,0 +1,431 @@
+package com.koduck.market.service.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 不可变的内存证券搜索索引。
+ *
+ * <p>每只证券的检索文本由代码、名称、名称拼音首字母三段组成（均已规范化为小写半角），
+ * 构建时为每段文本的单字与相邻双字建立倒排表（升序槽位数组）。查询时：</p>
+ * <ul>
+ *   <li>单字查询直接取该字的倒排表，多字查询取其各双字中最短的一张倒排表作为候选；</li>
+ *   <li>逐个候选校验并打分：代码精确 &gt; 代码前缀 &gt; 名称精确 &gt; 名称前缀 &gt; 首字母精确 &gt;
+ *       首字母前缀 &gt; 名称包含 &gt; 首字母包含 &gt; 代码包含，同分时名称短者优先，再按代码排序；</li>
+ *   <li>用容量为 {@code limit} 的基本类型堆保留得分最高的结果。</li>
+ * </ul>
+ *
+ * <p>查询只读取构建后不再修改的数组，可被任意线程并发调用；重建时整体替换实例。</p>
+ *
+ * @author Koduck Team
+ */
+public final class SymbolSearchIndex {
+
+    /** 分段分隔符，不会出现在规范化后的查询中。 */
+    private static final char SEPARATOR = '\0';
+
+    /** 代码精确匹配得分。 */
+    private static final int CODE_EXACT = 9;
+
+    /** 代码前缀匹配得分。 */
+    private static final int CODE_PREFIX = 8;
+
+    /** 名称精确匹配得分。 */
+    private static final int NAME_EXACT = 7;
+
+    /** 名称前缀匹配得分。 */
+    private static final int NAME_PREFIX = 6;
+
+    /** 首字母精确匹配得分。 */
+    private static final int INITIALS_EXACT = 5;
+
+    /** 首字母前缀匹配得分。 */
+    private static final int INITIALS_PREFIX = 4;
+
+    /** 名称包含得分。 */
+    private static final int NAME_CONTAINS = 3;
+
+    /** 首字母包含得分。 */
+    private static final int INITIALS_CONTAINS = 2;
+
+    /** 代码包含得分。 */
+    private static final int CODE_CONTAINS = 1;
+
+    /** 排序键中得分的位移。 */
+    private static final int SCORE_SHIFT = 40;
+
+    /** 排序键中名称长度的位移。 */
+    private static final int LENGTH_SHIFT = 24;
+
+    /** 排序键中名称长度的上限。 */
+    private static final int LENGTH_MASK = 0xFFFF;
+
+    /** 排序键中槽位的掩码。 */
+    private static final int SLOT_MASK = 0xFFFFFF;
+
+    /** 单字键与双字键之间的位移。 */
+    private static final int GRAM_SHIFT = 16;
+
+    /** 全角 ASCII 起始码位。 */
+    private static final char FULL_WIDTH_FIRST = '\uFF01';
+
+    /** 全角 ASCII 结束码位。 */
+    private static final char FULL_WIDTH_LAST = '\uFF5E';
+
+    /** 全角与半角 ASCII 的码位差。 */
+    private static final int FULL_WIDTH_OFFSET = 0xFEE0;
+
+    /** 交易所前缀（如 {@code sh600000}）长度。 */
+    private static final int EXCHANGE_PREFIX_LENGTH = 2;
+
+    /** 可省略的交易所前缀。 */
+    private static final String[] EXCHANGE_PREFIXES = {"sh", "sz", "bj"};
+
+    /** 空索引。 */
+    public static final SymbolSearchIndex EMPTY = build(List.of());
+
+    /** 证券条目，按代码排序。 */
+    private final Entry[] entries;
+
+    /** 规范化代码。 */
+    private final String[] codes;
+
+    /** 规范化名称。 */
+    private final String[] names;
+
+    /** 名称拼音首字母。 */
+    private final String[] initials;
+
+    /** 各条目的市场编号。 */
+    private final int[] marketIds;
+
+    /** 规范化市场键到市场编号的映射。 */
+    private final Map<String, Integer> marketIdsByKey;
+
+    /** 各市场的条目数。 */
+    private final int[] marketSizes;
+
+    /** 单字与双字倒排表。 */
+    private final Map<Integer, int[]> postings;
+
+    private SymbolSearchIndex(Entry[] entries, Map<String, Integer> marketIdsByKey, int[] marketIds,
+                              Map<Integer, int[]> postings) {
+        int size = entries.length;
+        this.entries = entries;
+        this.codes = new String[size];
+        this.names = new String[size];
+        this.initials = new String[size];
+        this.marketIds = marketIds;
+        this.marketIdsByKey = marketIdsByKey;
+        this.marketSizes = new int[marketIdsByKey.size()];
+        this.postings = postings;
+        for (int slot = 0; slot < size; slot++) {
+            codes[slot] = normalize(entries[slot].symbol());
+            names[slot] = normalize(entries[slot].name());
+            initials[slot] = PinyinInitials.of(entries[slot].name());
+            marketSizes[marketIds[slot]]++;
+        }
+    }
+
+    /**
+     * 构建索引。
+     *
+     * @param source 证券条目，代码为空的条目被忽略
+     * @return 索引
+     */
+    public static SymbolSearchIndex build(List<Entry> source) {
+        List<Entry> valid = new ArrayList<>(source.size());
+        for (Entry entry : source) {
+            if (entry != null && entry.symbol() != null && !entry.symbol().isBlank()) {
+                valid.add(entry);
+            }
+        }
+        Entry[] entries = valid.toArray(new Entry[0]);
+        Arrays.sort(entries, Comparator.comparing(Entry::symbol).thenComparing(entry -> marketKey(entry.market())));
+
+        Map<String, Integer> marketIdsByKey = new HashMap<>();
+        int[] marketIds = new int[entries.length];
+        Map<Integer, PostingBuilder> builders = new HashMap<>();
+        for (int slot = 0; slot < entries.length; slot++) {
+            Entry entry = entries[slot];
+            marketIds[slot] = marketIdsByKey.computeIfAbsent(marketKey(entry.market()), key -> marketIdsByKey.size());
+            String text = normalize(entry.symbol()) + SEPARATOR + normalize(entry.name()) + SEPARATOR
+                + PinyinInitials.of(entry.name());
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == SEPARATOR) {
+                    continue;
+                }
+                builders.computeIfAbsent(gram(c), key -> new PostingBuilder()).add(slot);
+                if (i + 1 < text.length() && text.charAt(i + 1) != SEPARATOR) {
+                    builders.computeIfAbsent(gram(c, text.charAt(i + 1)), key -> new PostingBuilder()).add(slot);
+                }
+            }
+        }
+        Map<Integer, int[]> postings = new HashMap<>(builders.size() * 2);
+        for (Map.Entry<Integer, PostingBuilder> builder : builders.entrySet()) {
+            postings.put(builder.getKey(), builder.getValue().toArray());
+        }
+        return new SymbolSearchIndex(entries, marketIdsByKey, marketIds, postings);
+    }
+
+    /**
+     * 条目数。
+     *
+     * @return 证券数
+     */
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * 指定市场的条目数。
+     *
+     * @param market 市场代码，{@code AShare} 与 {@code a_share} 视为同一市场
+     * @return 条目数
+     */
+    public int size(String market) {
+        Integer marketId = marketIdsByKey.get(marketKey(market));
+        return marketId == null ? 0 : marketSizes[marketId];
+    }
+
+    /**
+     * 搜索证券。
+     *
+     * @param keyword 关键词：代码前缀、名称片段或拼音首字母，可带 {@code sh}/{@code sz}/{@code bj} 前缀
+     * @param market  市场过滤，为空时搜索全部市场
+     * @param limit   返回条数上限
+     * @return 按相关度排列的条目
+     */
+    public List<Entry> search(String keyword, String market, int limit) {
+        String query = normalizeQuery(keyword);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int marketFilter = -1;
+        if (market != null && !market.isBlank()) {
+            Integer marketId = marketIdsByKey.get(marketKey(market));
+            if (marketId == null) {
+                return List.of();
+            }
+            marketFilter = marketId;
+        }
+        int[] candidates = candidates(query);
+        if (candidates.length == 0) {
+            return List.of();
+        }
+        long[] heap = new long[Math.min(limit, candidates.length)];
+        int heapSize = 0;
+        for (int slot : candidates) {
+            if (marketFilter >= 0 && marketIds[slot] != marketFilter) {
+                continue;
+            }
+            int score = score(slot, query);
+            if (score == 0) {
+                continue;
+            }
+            long key = rankKey(score, names[slot].length(), slot);
+            if (heapSize < heap.length) {
+                heap[heapSize] = key;
+                siftUp(heap, heapSize);
+                heapSize++;
+            }
+            else if (key > heap[0]) {
+                heap[0] = key;
+                siftDown(heap, heapSize);
+            }
+        }
+        Arrays.sort(heap, 0, heapSize);
+        List<Entry> results = new ArrayList<>(heapSize);
+        for (int i = heapSize - 1; i >= 0; i--) {
+            results.add(entries[SLOT_MASK - (int) (heap[i] & SLOT_MASK)]);
+        }
+        return results;
+    }
+
+    /**
+     * 规范化市场代码：转小写并去掉非字母数字字符，使 {@code AShare} 与 {@code a_share} 一致。
+     *
+     * @param market 市场代码
+     * @return 市场键
+     */
+    public static String marketKey(String market) {
+        if (market == null) {
+            return "";
+        }
+        StringBuilder key = new StringBuilder(market.length());
+        for (int i = 0; i < market.length(); i++) {
+            char c = market.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                key.append(Character.toLowerCase(c));
+            }
+        }
+        return key.toString();
+    }
+
+    private int[] candidates(String query) {
+        if (query.length() == 1) {
+            return postings.getOrDefault(gram(query.charAt(0)), new int[0]);
+        }
+        int[] shortest = null;
+        for (int i = 0; i + 1 < query.length(); i++) {
+            int[] posting = postings.get(gram(query.charAt(i), query.charAt(i + 1)));
+            if (posting == null) {
+                return new int[0];
+            }
+            if (shortest == null || posting.length < shortest.length) {
+                shortest = posting;
+            }
+        }
+        return shortest;
+    }
+
+    private int score(int slot, String query) {
+        String code = codes[slot];
+        if (code.startsWith(query)) {
+            return code.length() == query.length() ? CODE_EXACT : CODE_PREFIX;
+        }
+        String name = names[slot];
+        if (name.startsWith(query)) {
+            return name.length() == query.length() ? NAME_EXACT : NAME_PREFIX;
+        }
+        String letters = initials[slot];
+        if (letters.startsWith(query)) {
+            return letters.length() == query.length() ? INITIALS_EXACT : INITIALS_PREFIX;
+        }
+        if (name.contains(query)) {
+            return NAME_CONTAINS;
+        }
+        if (letters.contains(query)) {
+            return INITIALS_CONTAINS;
+        }
+        return code.contains(query) ? CODE_CONTAINS : 0;
+    }
+
+    /**
+     * 排序键：得分越高、名称越短、槽位越小，键越大。
+     */
+    private static long rankKey(int score, int nameLength, int slot) {
+        return ((long) score << SCORE_SHIFT)
+            | ((long) (LENGTH_MASK - Math.min(nameLength, LENGTH_MASK)) << LENGTH_SHIFT)
+            | (SLOT_MASK - slot);
+    }
+
+    /**
+     * 小顶堆上浮：堆顶为当前入选中排名最靠后的键。
+     */
+    private static void siftUp(long[] heap, int index) {
+        long key = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= key) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = key;
+    }
+
+    private static void siftDown(long[] heap, int size) {
+        long key = heap[0];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (key <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = key;
+    }
+
+    private static int gram(char c) {
+        return c;
+    }
+
+    private static int gram(char first, char second) {
+        return (first << GRAM_SHIFT) | second;
+    }
+
+    /**
+     * 规范化文本：全角 ASCII 转半角，转小写，去掉空白。
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= FULL_WIDTH_FIRST && c <= FULL_WIDTH_LAST) {
+                c = (char) (c - FULL_WIDTH_OFFSET);
+            }
+            if (!Character.isWhitespace(c) && c != SEPARATOR) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static String normalizeQuery(String keyword) {
+        String query = normalize(keyword);
+        if (query.length() > EXCHANGE_PREFIX_LENGTH && Character.isDigit(query.charAt(EXCHANGE_PREFIX_LENGTH))) {
+            for (String prefix : EXCHANGE_PREFIXES) {
+                if (query.startsWith(prefix)) {
+                    return query.substring(EXCHANGE_PREFIX_LENGTH);
+                }
+            }
+        }
+        return query;
+    }
+
+    /**
+     * 证券条目。
+     *
+     * @param symbol 证券代码
+     * @param name   证券名称
+     * @param market 市场代码
+     * @param type   证券类型
+     */
+    public record Entry(String symbol, String name, String market, String type) {
+    }
+
+    /**
+     * 倒排表构建器：槽位按升序追加，同一槽位只记录一次。
+     */
+    private static final class PostingBuilder {
+
+        /** 初始容量。 */
+        private static final int INITIAL_CAPACITY = 4;
+
+        /** 槽位。 */
+        private int[] slots = new int[INITIAL_CAPACITY];
+
+        /** 槽位数。 */
+        private int size;
+
+        private void add(int slot) {
+            if (size > 0 && slots[size - 1] == slot) {
+                return;
+            }
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(slots, size);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.koduck.market.service.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 单只股票的分时环形缓冲区（列式存储）。
+ *
+ * <p>时间戳、价格、成交量、成交额和方向分别保存在独立的基本类型数组中，
+ * 追加为 O(1)，读取最新 N 条只遍历所需的槽位，不为历史分时分配对象。
+ * 缓冲区写满后覆盖最旧的数据。</p>
+ *
+ * <p>所有方法均以实例自身为锁；需要原子地"读取上一条 + 追加"时，
+ * 调用方可在外层 {@code synchronized (buffer)} 中组合调用。</p>
+ *
+ * @author Koduck Team
+ */
+public final class TickRingBuffer {
+
+    /** 主动买入方向。 */
+    public static final byte SIDE_BUY = 1;
+
+    /** 主动卖出方向。 */
+    public static final byte SIDE_SELL = -1;
+
+    /** 方向未知。 */
+    public static final byte SIDE_NONE = 0;
+
+    /** 分时时间戳（epoch 毫秒）。 */
+    private final long[] epochMillis;
+
+    /** 成交价格。 */
+    private final double[] prices;
+
+    /** 分时成交量（相邻快照的累计量差值）。 */
+    private final long[] volumes;
+
+    /** 分时成交额（相邻快照的累计额差值）。 */
+    private final double[] amounts;
+
+    /** 成交方向。 */
+    private final byte[] sides;
+
+    /** 下一次写入的槽位。 */
+    private int head;
+
+    /** 当前有效条数。 */
+    private int size;
+
+    /** 上一次快照的累计成交量，-1 表示尚无基线。 */
+    private long lastCumulativeVolume = -1L;
+
+    /** 上一次快照的累计成交额，负数表示尚无基线。 */
+    private double lastCumulativeAmount = -1.0;
+
+    /**
+     * 创建指定容量的缓冲区。
+     *
+     * @param capacity 容量，必须大于 0
+     */
+    public TickRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.epochMillis = new long[capacity];
+        this.prices = new double[capacity];
+        this.volumes = new long[capacity];
+        this.amounts = new double[capacity];
+        this.sides = new byte[capacity];
+    }
+
+    /**
+     * 追加一条分时。
+     *
+     * @param timestamp 时间戳（epoch 毫秒）
+     * @param price     价格
+     * @param volume    成交量
+     * @param amount    成交额
+     * @param side      方向
+     */
+    public synchronized void append(long timestamp, double price, long volume, double amount, byte side) {
+        epochMillis[head] = timestamp;
+        prices[head] = price;
+        volumes[head] = volume;
+        amounts[head] = amount;
+        sides[head] = side;
+        head = (head + 1) % epochMillis.length;
+        if (size < epochMillis.length) {
+            size++;
+        }
+    }
+
+    /**
+     * 记录最新快照的累计量，并返回相对上一次快照的成交量增量。
+     *
+     * <p>首次调用或累计量回退（新交易日重置）时只建立基线，返回 0。</p>
+     *
+     * @param cumulativeVolume 快照累计成交量
+     * @return 成交量增量
+     */
+    public synchronized long advanceVolume(long cumulativeVolume) {
+        long previous = lastCumulativeVolume;
+        lastCumulativeVolume = cumulativeVolume;
+        if (previous < 0 || cumulativeVolume < previous) {
+            return 0L;
+        }
+        return cumulativeVolume - previous;
+    }
+
+    /**
+     * 记录最新快照的累计成交额，并返回相对上一次快照的增量。
+     *
+     * @param cumulativeAmount 快照累计成交额
+     * @return 成交额增量
+     */
+    public synchronized double advanceAmount(double cumulativeAmount) {
+        double previous = lastCumulativeAmount;
+        lastCumulativeAmount = cumulativeAmount;
+        if (previous < 0 || cumulativeAmount < previous) {
+            return 0.0;
+        }
+        return cumulativeAmount - previous;
+    }
+
+    /**
+     * 当前有效条数。
+     *
+     * @return 条数
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 缓冲区容量。
+     *
+     * @return 容量
+     */
+    public int capacity() {
+        return epochMillis.length;
+    }
+
+    /**
+     * 最新一条分时的价格。
+     *
+     * @return 价格，缓冲区为空时返回 {@link Double#NaN}
+     */
+    public synchronized double lastPrice() {
+        return size == 0 ? Double.NaN : prices[lastIndex()];
+    }
+
+    /**
+     * 最新一条分时的方向。
+     *
+     * @return 方向，缓冲区为空时返回 {@link #SIDE_NONE}
+     */
+    public synchronized byte lastSide() {
+        return size == 0 ? SIDE_NONE : sides[lastIndex()];
+    }
+
+    /**
+     * 按从新到旧的顺序读取最新的若干条分时。
+     *
+     * @param limit  最大条数
+     * @param mapper 槽位到结果对象的映射
+     * @param <T>    结果类型
+     * @return 结果列表，最新的在前
+     */
+    public synchronized <T> List<T> latest(int limit, TickMapper<T> mapper) {
+        int count = Math.min(Math.max(limit, 0), size);
+        List<T> result = new ArrayList<>(count);
+        int index = lastIndex();
+        for (int i = 0; i < count; i++) {
+            result.add(mapper.map(epochMillis[index], prices[index], volumes[index],
+                amounts[index], sides[index]));
+            index = index == 0 ? epochMillis.length - 1 : index - 1;
+        }
+        return result;
+    }
+
+    private int lastIndex() {
+        return head == 0 ? epochMillis.length - 1 : head - 1;
+    }
+
+    /**
+     * 将缓冲区槽位映射为结果对象。
+     *
+     * @param <T> 结果类型
+     */
+    @FunctionalInterface
+    public interface TickMapper<T> {
+
+        /**
+         * 映射单条分时。
+         *
+         * @param epochMillis 时间戳（epoch 毫秒）
+         * @param price       价格
+         * @param volume      成交量
+         * @param amount      成交额
+         * @param side        方向
+         * @return 结果对象
+         */
+        T map(long epochMillis, double price, long volume, double amount, byte side);
+    }
+}
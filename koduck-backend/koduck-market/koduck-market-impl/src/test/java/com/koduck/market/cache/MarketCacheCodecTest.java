@@ -0,0 +1,89 @@
+package com.koduck.market.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import com.koduck.infrastructure.cache.codec.CacheBinaryReader;
+import com.koduck.infrastructure.cache.codec.CacheBinaryWriter;
+import com.koduck.infrastructure.cache.codec.CacheCodecRegistry;
+import com.koduck.infrastructure.cache.codec.CacheValueCodec;
+import com.koduck.infrastructure.cache.codec.CacheValueFormat;
+import com.koduck.infrastructure.cache.codec.VersionedCacheSerializer;
+import com.koduck.market.model.KlineData;
+import com.koduck.market.model.TickData;
+
+/**
+ * KlineDataCacheCodec 与 TickDataCacheCodec 单元测试。
+ *
+ * @author Koduck Team
+ */
+class MarketCacheCodecTest {
+
+    @Test
+    @DisplayName("K 线编解码保留全部字段与价格标度")
+    void shouldRoundTripKline() {
+        KlineData kline = new KlineData("600519", "AShare", Instant.parse("2026-10-16T01:30:00Z"),
+            new BigDecimal("1676.00"), new BigDecimal("1699.00"), new BigDecimal("1671.20"),
+            new BigDecimal("1688.50"), 2_345_678L, new BigDecimal("3958123456.78"), "1d");
+        KlineData sparse = new KlineData("00700", null, null, BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE,
+            BigDecimal.ONE, null, null, null);
+
+        assertEquals(kline, roundTrip(new KlineDataCacheCodec(), kline));
+        assertEquals(sparse, roundTrip(new KlineDataCacheCodec(), sparse));
+    }
+
+    @Test
+    @DisplayName("逐笔行情编解码保留全部字段，空字段仍为空")
+    void shouldRoundTripTick() {
+        TickData tick = TickData.builder()
+            .symbol("600519").market("AShare").timestamp(Instant.parse("2026-10-16T06:59:58.120Z"))
+            .price(new BigDecimal("1688.50")).change(new BigDecimal("-12.30"))
+            .changePercent(new BigDecimal("-0.72")).volume(2_345_678L).amount(new BigDecimal("3958123456.78"))
+            .bidPrice(new BigDecimal("1688.49")).bidVolume(300L).askPrice(new BigDecimal("1688.50")).askVolume(500L)
+            .dayHigh(new BigDecimal("1699.00")).dayLow(new BigDecimal("1671.20"))
+            .open(new BigDecimal("1676.00")).prevClose(new BigDecimal("1700.80"))
+            .build();
+        TickData empty = TickData.builder().symbol("AAPL").build();
+
+        assertEquals(tick, roundTrip(new TickDataCacheCodec(), tick));
+        assertEquals(empty, roundTrip(new TickDataCacheCodec(), empty));
+    }
+
+    @Test
+    @DisplayName("K 线列表经版本化序列化器写为二进制并原样读回")
+    void shouldSerializeKlineListAsBinary() {
+        VersionedCacheSerializer serializer = new VersionedCacheSerializer(new GenericJackson2JsonRedisSerializer(),
+            new CacheCodecRegistry(List.of(new KlineDataCacheCodec(), new TickDataCacheCodec())),
+            CacheValueFormat.BINARY);
+        List<KlineData> klines = List.of(
+            KlineData.builder().symbol("600519").market("AShare").timestamp(Instant.ofEpochSecond(1_760_000_000L))
+                .open(new BigDecimal("1676.00")).high(new BigDecimal("1680.00")).low(new BigDecimal("1675.10"))
+                .close(new BigDecimal("1679.30")).volume(1_200L).timeframe("1m").build(),
+            KlineData.builder().symbol("600519").market("AShare").timestamp(Instant.ofEpochSecond(1_760_000_060L))
+                .open(new BigDecimal("1679.30")).high(new BigDecimal("1681.00")).low(new BigDecimal("1678.00"))
+                .close(new BigDecimal("1680.20")).volume(900L).timeframe("1m").build());
+
+        byte[] bytes = serializer.serialize(klines);
+
+        assertEquals((byte) 0xB1, bytes[0]);
+        assertTrue(bytes.length < 128, "two bars should fit in 128 bytes, was " + bytes.length);
+        assertEquals(klines, serializer.deserialize(bytes));
+    }
+
+    private static <T> T roundTrip(CacheValueCodec<T> codec, T value) {
+        CacheBinaryWriter out = new CacheBinaryWriter();
+        codec.write(value, out);
+        CacheBinaryReader in = new CacheBinaryReader(out.toByteArray(), 0);
+        T result = codec.read(in);
+        assertEquals(0, in.remaining());
+        return result;
+    }
+}
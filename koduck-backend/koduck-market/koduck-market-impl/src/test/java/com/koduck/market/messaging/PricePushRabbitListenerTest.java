@@ -0,0 +1,256 @@
+package com.koduck.market.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.koduck.common.event.DomainEvent;
+import com.koduck.common.event.DomainEventPublisher;
+import com.koduck.infrastructure.config.properties.PricePushRabbitProperties;
+import com.koduck.market.dto.PriceUpdateDto;
+import com.koduck.market.event.MarketDataUpdatedEvent;
+import com.koduck.market.service.HotStockLeaderboardService;
+import com.koduck.market.service.StockSubscriptionService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * PricePushRabbitListener 单元测试。
+ *
+ * @author Koduck Team
+ */
+@ExtendWith(MockitoExtension.class)
+class PricePushRabbitListenerTest {
+
+    /** 固定的当前时间。 */
+    private static final Instant NOW = Instant.parse("2026-10-16T02:00:01Z");
+
+    @Mock
+    private StockSubscriptionService stockSubscriptionService;
+
+    @Mock
+    private HotStockLeaderboardService hotStockLeaderboardService;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    /** 指标注册表。 */
+    private SimpleMeterRegistry meterRegistry;
+
+    /** 测试目标对象。 */
+    private PricePushRabbitListener listener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        PricePushRabbitProperties properties = new PricePushRabbitProperties();
+        properties.setBroadcastEnabled(false);
+        listener = listener(properties);
+    }
+
+    @Test
+    @DisplayName("同批同一股票只推送最新一条行情")
+    void shouldCoalesceBySymbolWithinBatch() {
+        listener.onMessages(List.of(
+            message("{\"symbol\":\"600000\",\"price\":10.0,\"timestamp\":\"2026-10-16T10:00:00+08:00\"}"),
+            message("{\"symbol\":\"000001\",\"price\":\"12.5\",\"volume\":100}"),
+            message("{\"symbol\":\"600000\",\"name\":\"浦发银行\",\"price\":10.2,\"changeAmount\":0.2,"
+                + "\"changePercent\":2.0,\"volume\":\"3000\",\"timestamp\":\"2026-10-16T10:00:00.500+08:00\"}")));
+
+        ArgumentCaptor<PriceUpdateDto> captor = ArgumentCaptor.forClass(PriceUpdateDto.class);
+        verify(stockSubscriptionService, times(2)).onPriceUpdate(captor.capture());
+        PriceUpdateDto first = captor.getAllValues().get(0);
+        assertEquals("600000", first.symbol());
+        assertEquals("浦发银行", first.name());
+        assertEquals(10.2, first.price());
+        assertEquals(0.2, first.change());
+        assertEquals(3000L, first.volume());
+        assertEquals(12.5, captor.getAllValues().get(1).price());
+        assertEquals(1.0, meterRegistry.counter("koduck.price.push.coalesced").count());
+        assertEquals(3.0, meterRegistry.summary("koduck.price.push.batch.size").totalAmount());
+        assertEquals(1000.0, meterRegistry.timer("koduck.price.push.consumer.lag").max(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("同批乱序到达时保留行情时间最新的一条")
+    void shouldKeepNewestEventTimeWithinBatch() {
+        listener.onMessages(List.of(
+            message("{\"symbol\":\"600000\",\"price\":10.2,\"timestamp\":\"2026-10-16T10:00:00.500+08:00\"}"),
+            message("{\"symbol\":\"600000\",\"price\":10.0,\"timestamp\":\"2026-10-16T10:00:00+08:00\"}")));
+
+        ArgumentCaptor<PriceUpdateDto> captor = ArgumentCaptor.forClass(PriceUpdateDto.class);
+        verify(stockSubscriptionService, times(1)).onPriceUpdate(captor.capture());
+        assertEquals(10.2, captor.getValue().price());
+        assertEquals(1.0, meterRegistry.counter("koduck.price.push.coalesced").count());
+    }
+
+    @Test
+    @DisplayName("后到批次中早于已推送行情的行情应丢弃")
+    void shouldDropQuotesOlderThanLastPushed() {
+        listener.onMessages(List.of(
+            message("{\"symbol\":\"600000\",\"price\":10.2,\"timestamp\":\"2026-10-16T10:00:00.500+08:00\"}")));
+        listener.onMessages(List.of(
+            message("{\"symbol\":\"600000\",\"price\":10.0,\"timestamp\":\"2026-10-16T10:00:00+08:00\"}"),
+            message("{\"symbol\":\"000001\",\"price\":12.5,\"timestamp\":\"2026-10-16T10:00:00+08:00\"}")));
+        listener.onMessages(List.of(
+            message("{\"symbol\":\"600000\",\"price\":10.3,\"timestamp\":\"2026-10-16T10:00:01+08:00\"}")));
+
+        ArgumentCaptor<PriceUpdateDto> captor = ArgumentCaptor.forClass(PriceUpdateDto.class);
+        verify(stockSubscriptionService, times(3)).onPriceUpdate(captor.capture());
+        assertEquals(List.of(10.2, 12.5, 10.3), captor.getAllValues().stream().map(PriceUpdateDto::price).toList());
+        verify(hotStockLeaderboardService, times(3)).onQuote(any(), any(), any(), any(), any());
+        verify(eventPublisher, times(3)).publish(any());
+        assertEquals(1.0, meterRegistry.counter("koduck.price.push.stale").count());
+    }
+
+    @Test
+    @DisplayName("合并后的行情连同成交额进入热门股票排行榜")
+    void shouldFeedLeaderboardWithCoalescedQuotes() {
+        listener.onMessages(List.of(
+            message("{\"symbol\":\"600000\",\"changePercent\":1.0,\"volume\":100,\"amount\":1000.0}"),
+            message("{\"symbol\":\"600000\",\"name\":\"浦发银行\",\"changePercent\":2.0,\"volume\":300,"
+                + "\"amount\":\"3150.5\"}")));
+
+        verify(hotStockLeaderboardService, times(1)).onQuote("600000", "浦发银行", 2.0, 300L, 3150.5);
+    }
+
+    @Test
+    @DisplayName("带价格的合并行情以领域事件发布，昨收价由现价减涨跌额得出")
+    void shouldPublishMarketDataEvents() {
+        listener.onMessages(List.of(
+            message("{\"symbol\":\"600000\",\"price\":10.2,\"changeAmount\":0.2,\"changePercent\":2.0}"),
+            message("{\"symbol\":\"000001\",\"price\":12.5}"),
+            message("{\"symbol\":\"000002\",\"volume\":100}")));
+
+        ArgumentCaptor<DomainEvent> captor = ArgumentCaptor.forClass(DomainEvent.class);
+        verify(eventPublisher, times(2)).publish(captor.capture());
+        MarketDataUpdatedEvent first = (MarketDataUpdatedEvent) captor.getAllValues().get(0);
+        assertEquals("600000", first.getSymbol());
+        assertEquals(0, new BigDecimal("10.2").compareTo(first.getCurrentPrice()));
+        assertEquals(0, new BigDecimal("10.0").compareTo(first.getPreviousClose()));
+        assertEquals(0, new BigDecimal("2.0").compareTo(first.getChangePercent()));
+        MarketDataUpdatedEvent second = (MarketDataUpdatedEvent) captor.getAllValues().get(1);
+        assertEquals("000001", second.getSymbol());
+        assertNull(second.getPreviousClose());
+    }
+
+    @Test
+    @DisplayName("广播队列生效时共享队列不发布事件，广播批次只发布最新行情事件并丢弃旧行情")
+    void broadcastShouldPublishEventsInsteadOfSharedQueue() {
+        listener = listener(new PricePushRabbitProperties());
+
+        listener.onMessages(List.of(
+            message("{\"symbol\":\"600000\",\"price\":10.2,\"timestamp\":\"2026-10-16T10:00:00.500+08:00\"}")));
+        verify(stockSubscriptionService, times(1)).onPriceUpdate(any());
+        verify(eventPublisher, never()).publish(any());
+
+        listener.onBroadcast(List.of(
+            message("{\"symbol\":\"600000\",\"price\":10.2,\"timestamp\":\"2026-10-16T10:00:00.500+08:00\"}"),
+            message("{\"symbol\":\"600000\",\"price\":10.0,\"timestamp\":\"2026-10-16T10:00:00+08:00\"}"),
+            message("{\"symbol\":\"000001\",\"volume\":100}")));
+        listener.onBroadcast(List.of(
+            message("{\"symbol\":\"600000\",\"price\":9.9,\"timestamp\":\"2026-10-16T10:00:00.200+08:00\"}")));
+
+        ArgumentCaptor<DomainEvent> captor = ArgumentCaptor.forClass(DomainEvent.class);
+        verify(eventPublisher, times(1)).publish(captor.capture());
+        assertEquals(0, new BigDecimal("10.2")
+            .compareTo(((MarketDataUpdatedEvent) captor.getValue()).getCurrentPrice()));
+        verify(stockSubscriptionService, times(1)).onPriceUpdate(any());
+        verify(hotStockLeaderboardService, times(1)).onQuote(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("开启按股票路由时广播队列不生效，事件随节点队列的推送发布")
+    void routedNodeShouldPublishEventsFromNodeQueue() {
+        PricePushRabbitProperties properties = new PricePushRabbitProperties();
+        properties.setSymbolRoutingEnabled(true);
+        listener = listener(properties);
+
+        listener.onMessages(List.of(message("{\"symbol\":\"600000\",\"price\":10.0}")));
+
+        verify(eventPublisher, times(1)).publish(any());
+    }
+
+    @Test
+    @DisplayName("排行榜异常不应影响行情推送")
+    void leaderboardFailureShouldNotStopDispatch() {
+        doThrow(new IllegalStateException("boom")).when(hotStockLeaderboardService)
+            .onQuote(any(), any(), any(), any(), any());
+
+        listener.onMessages(List.of(
+            message("{\"symbol\":\"600000\",\"price\":10.0}"),
+            message("{\"symbol\":\"000001\",\"price\":12.0}")));
+
+        verify(stockSubscriptionService, times(2)).onPriceUpdate(any());
+    }
+
+    @Test
+    @DisplayName("无法解码的消息只计数跳过，不影响同批其他消息")
+    void undecodableMessageShouldBeSkipped() {
+        listener.onMessages(List.of(
+            message("not-json"),
+            message("{\"price\":1.0}"),
+            message("{\"symbol\":\"600000\",\"price\":10.0}")));
+
+        verify(stockSubscriptionService, times(1)).onPriceUpdate(any());
+        assertEquals(2.0, meterRegistry.counter("koduck.price.push.decode.failures").count());
+    }
+
+    @Test
+    @DisplayName("推送异常不应中断同批后续股票")
+    void dispatchFailureShouldNotStopBatch() {
+        doThrow(new IllegalStateException("boom")).when(stockSubscriptionService)
+            .onPriceUpdate(any());
+
+        listener.onMessages(List.of(
+            message("{\"symbol\":\"600000\",\"price\":10.0}"),
+            message("{\"symbol\":\"000001\",\"price\":12.0}")));
+
+        verify(stockSubscriptionService, times(2)).onPriceUpdate(any());
+    }
+
+    @Test
+    @DisplayName("消息体缺少时间戳时使用 AMQP timestamp 属性计算消费延迟")
+    void shouldFallBackToMessageTimestamp() {
+        MessageProperties properties = new MessageProperties();
+        properties.setTimestamp(Date.from(NOW.minusMillis(250)));
+        listener.onMessages(List.of(
+            new Message("{\"symbol\":\"600000\",\"price\":10.0}".getBytes(StandardCharsets.UTF_8), properties)));
+
+        assertEquals(250.0, meterRegistry.timer("koduck.price.push.consumer.lag").max(TimeUnit.MILLISECONDS));
+    }
+
+    private PricePushRabbitListener listener(PricePushRabbitProperties properties) {
+        return new PricePushRabbitListener(new RealtimePriceMessageDecoder(new ObjectMapper()),
+            stockSubscriptionService, hotStockLeaderboardService, eventPublisher, properties, meterRegistry,
+            Clock.fixed(NOW, ZoneId.of("UTC")));
+    }
+
+    private static Message message(String json) {
+        return new Message(json.getBytes(StandardCharsets.UTF_8), new MessageProperties());
+    }
+}
@@ -0,0 +1,154 @@
+package com.koduck.market.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionListener;
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.koduck.infrastructure.config.properties.PricePushRabbitProperties;
+import com.koduck.market.api.SymbolInterestSource;
+import com.koduck.market.config.MarketProperties;
+import com.koduck.market.service.StockSubscriptionService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * SymbolInterestRouter 单元测试。
+ *
+ * @author Koduck Team
+ */
+@ExtendWith(MockitoExtension.class)
+class SymbolInterestRouterTest {
+
+    @Mock
+    private AmqpAdmin amqpAdmin;
+
+    @Mock
+    private StockSubscriptionService stockSubscriptionService;
+
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    @Mock
+    private ObjectProvider<SymbolInterestSource> interestSources;
+
+    /** 其他模块声明的行情需求。 */
+    private List<SymbolInterestSource> sources;
+
+    /** 测试目标对象。 */
+    private SymbolInterestRouter router;
+
+    @BeforeEach
+    void setUp() {
+        PricePushRabbitProperties properties = new PricePushRabbitProperties();
+        properties.setSymbolRoutingEnabled(true);
+        properties.setNodeId("node-a");
+        sources = List.of();
+        when(interestSources.orderedStream()).thenAnswer(invocation -> sources.stream());
+        router = new SymbolInterestRouter(amqpAdmin, new DirectExchange(properties.getExchange()), properties,
+            stockSubscriptionService, interestSources, new MarketProperties(), connectionFactory,
+            new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("应为新增订阅绑定、为取消订阅解绑按股票路由键")
+    void shouldBindAddedAndUnbindRemovedSymbols() {
+        when(stockSubscriptionService.getAllSubscribedSymbols())
+            .thenReturn(Set.of("600000", "000001"))
+            .thenReturn(Set.of("600000"));
+
+        router.reconcile();
+        router.reconcile();
+
+        verify(amqpAdmin, times(2)).declareBinding(any());
+        ArgumentCaptor<Binding> removed = ArgumentCaptor.forClass(Binding.class);
+        verify(amqpAdmin).removeBinding(removed.capture());
+        assertEquals("stock.realtime.000001", removed.getValue().getRoutingKey());
+        assertEquals("koduck.price.realtime.node.node-a", removed.getValue().getDestination());
+        assertEquals(Set.of("600000"), router.snapshotBoundSymbols());
+    }
+
+    @Test
+    @DisplayName("绑定失败的股票应在下个周期重试")
+    void failedBindingShouldBeRetried() {
+        when(stockSubscriptionService.getAllSubscribedSymbols()).thenReturn(Set.of("600000"));
+        doThrow(new AmqpIOException(new IOException("broker down")))
+            .doNothing()
+            .when(amqpAdmin).declareBinding(any());
+
+        router.reconcile();
+        assertEquals(Set.of(), router.snapshotBoundSymbols());
+        router.reconcile();
+
+        assertEquals(Set.of("600000"), router.snapshotBoundSymbols());
+        verify(amqpAdmin, times(2)).declareBinding(any());
+    }
+
+    @Test
+    @DisplayName("连接重建后应全量重新绑定")
+    void reconnectShouldTriggerFullRebind() {
+        ArgumentCaptor<ConnectionListener> listener = ArgumentCaptor.forClass(ConnectionListener.class);
+        verify(connectionFactory).addConnectionListener(listener.capture());
+        when(stockSubscriptionService.getAllSubscribedSymbols()).thenReturn(Set.of("600000"));
+
+        router.reconcile();
+        router.reconcile();
+        listener.getValue().onCreate(null);
+        router.reconcile();
+
+        verify(amqpAdmin, times(2)).declareBinding(
+            argThat(binding -> "stock.realtime.600000".equals(binding.getRoutingKey())));
+        verify(amqpAdmin, never()).removeBinding(any());
+    }
+
+    @Test
+    @DisplayName("其他模块声明的股票应与本地订阅一起绑定")
+    void shouldBindSymbolsFromInterestSources() {
+        when(stockSubscriptionService.getAllSubscribedSymbols()).thenReturn(Set.of("600000"));
+        sources = List.of(() -> Set.of("000001", "600000"));
+
+        router.reconcile();
+
+        assertEquals(Set.of("600000", "000001"), router.snapshotBoundSymbols());
+        verify(amqpAdmin, times(2)).declareBinding(any());
+    }
+
+    @Test
+    @DisplayName("行情需求来源失败时本周期不解绑")
+    void failingInterestSourceShouldNotUnbind() {
+        when(stockSubscriptionService.getAllSubscribedSymbols()).thenReturn(Set.of("600000"));
+        sources = List.of(() -> Set.of("000001"));
+        router.reconcile();
+        sources = List.of(() -> {
+            throw new IllegalStateException("positions unavailable");
+        });
+
+        router.reconcile();
+
+        assertEquals(Set.of("600000", "000001"), router.snapshotBoundSymbols());
+        verify(amqpAdmin, never()).removeBinding(any());
+    }
+}
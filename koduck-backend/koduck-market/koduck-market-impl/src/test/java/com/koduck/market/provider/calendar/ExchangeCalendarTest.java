@@ -0,0 +1,160 @@
+package com.koduck.market.provider.calendar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Properties;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.koduck.market.MarketType;
+import com.koduck.market.provider.MarketDataProvider.MarketStatus;
+
+/**
+ * ExchangeCalendar 单元测试。
+ *
+ * @author Koduck Team
+ */
+class ExchangeCalendarTest {
+
+    /** 上海时区。 */
+    private static final ZoneId SHANGHAI = ZoneId.of("Asia/Shanghai");
+
+    /** 纽约时区。 */
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    @Test
+    @DisplayName("A 股应区分连续交易、午休、收盘与法定假日")
+    void aShareStatusShouldFollowSessionsAndHolidays() {
+        ExchangeCalendar calendar = ExchangeCalendars.forMarket(MarketType.A_SHARE).orElseThrow();
+
+        assertEquals(MarketStatus.CLOSED, calendar.statusAt(at(SHANGHAI, "2026-10-16T09:29:59")));
+        assertEquals(MarketStatus.OPEN, calendar.statusAt(at(SHANGHAI, "2026-10-16T09:30:00")));
+        assertEquals(MarketStatus.BREAK, calendar.statusAt(at(SHANGHAI, "2026-10-16T12:00:00")));
+        assertEquals(MarketStatus.OPEN, calendar.statusAt(at(SHANGHAI, "2026-10-16T14:59:59")));
+        assertEquals(MarketStatus.CLOSED, calendar.statusAt(at(SHANGHAI, "2026-10-16T15:00:00")));
+        assertEquals(MarketStatus.CLOSED, calendar.statusAt(at(SHANGHAI, "2026-10-17T10:00:00")));
+        assertEquals(MarketStatus.CLOSED, calendar.statusAt(at(SHANGHAI, "2026-10-06T10:00:00")));
+        assertFalse(calendar.isTradingDay(LocalDate.of(2026, 10, 1)));
+        assertTrue(calendar.isTradingDay(LocalDate.of(2026, 10, 9)));
+    }
+
+    @Test
+    @DisplayName("下一开盘时间应跳过午休、周末与长假")
+    void nextOpenShouldSkipBreaksWeekendsAndHolidays() {
+        ExchangeCalendar calendar = ExchangeCalendars.forMarket(MarketType.A_SHARE).orElseThrow();
+
+        assertEquals(at(SHANGHAI, "2026-10-16T13:00:00"), calendar.nextOpen(at(SHANGHAI, "2026-10-16T11:45:00")));
+        assertEquals(at(SHANGHAI, "2026-10-16T09:30:00"), calendar.nextOpen(at(SHANGHAI, "2026-10-16T09:30:00")));
+        assertEquals(at(SHANGHAI, "2026-10-19T09:30:00"), calendar.nextOpen(at(SHANGHAI, "2026-10-16T15:30:00")));
+        assertEquals(at(SHANGHAI, "2026-10-08T09:30:00"), calendar.nextOpen(at(SHANGHAI, "2026-09-30T16:00:00")));
+    }
+
+    @Test
+    @DisplayName("交易分钟数应只统计连续交易时段")
+    void tradingMinutesShouldCountOpenSessionsOnly() {
+        ExchangeCalendar calendar = ExchangeCalendars.forMarket(MarketType.A_SHARE).orElseThrow();
+
+        assertEquals(240L, calendar.tradingMinutesBetween(
+            at(SHANGHAI, "2026-10-16T00:00:00"), at(SHANGHAI, "2026-10-17T00:00:00")));
+        assertEquals(120L, calendar.tradingMinutesBetween(
+            at(SHANGHAI, "2026-10-16T10:00:00"), at(SHANGHAI, "2026-10-16T13:30:00")));
+        assertEquals(240L, calendar.tradingMinutesBetween(
+            at(SHANGHAI, "2026-09-30T15:00:00"), at(SHANGHAI, "2026-10-08T15:00:00")));
+        assertEquals(0L, calendar.tradingMinutesBetween(
+            at(SHANGHAI, "2026-10-16T13:30:00"), at(SHANGHAI, "2026-10-16T10:00:00")));
+    }
+
+    @Test
+    @DisplayName("美股应处理夏令时、盘前盘后与提前收市")
+    void usCalendarShouldHandleDstAndEarlyClose() {
+        ExchangeCalendar calendar = ExchangeCalendars.forMarket(MarketType.US_STOCK).orElseThrow();
+
+        assertEquals(MarketStatus.OPEN, calendar.statusAt(Instant.parse("2026-07-01T13:30:00Z")));
+        assertEquals(MarketStatus.PRE_MARKET, calendar.statusAt(Instant.parse("2026-12-01T14:00:00Z")));
+        assertEquals(MarketStatus.OPEN, calendar.statusAt(Instant.parse("2026-12-01T14:30:00Z")));
+        assertEquals(MarketStatus.POST_MARKET, calendar.statusAt(at(NEW_YORK, "2026-11-27T13:30:00")));
+        assertEquals(MarketStatus.CLOSED, calendar.statusAt(at(NEW_YORK, "2026-11-26T11:00:00")));
+    }
+
+    @Test
+    @DisplayName("港股半日市只有上午盘")
+    void hkHalfDayShouldOnlyHaveMorningSession() {
+        ExchangeCalendar calendar = ExchangeCalendars.forMarket(MarketType.HK_STOCK).orElseThrow();
+        ZoneId hongKong = ZoneId.of("Asia/Hong_Kong");
+
+        assertEquals(MarketStatus.PRE_MARKET, calendar.statusAt(at(hongKong, "2026-12-24T09:10:00")));
+        assertEquals(MarketStatus.POST_MARKET, calendar.statusAt(at(hongKong, "2026-12-24T12:05:00")));
+        assertEquals(MarketStatus.CLOSED, calendar.statusAt(at(hongKong, "2026-12-24T14:00:00")));
+        assertEquals(MarketStatus.OPEN, calendar.statusAt(at(hongKong, "2026-12-23T14:00:00")));
+    }
+
+    @Test
+    @DisplayName("覆盖年份应包含历史年份与已公告的年份")
+    void coverageShouldIncludePastAndAnnouncedYears() {
+        ExchangeCalendar aShare = ExchangeCalendars.forMarket(MarketType.A_SHARE).orElseThrow();
+        ExchangeCalendar hk = ExchangeCalendars.forMarket(MarketType.HK_STOCK).orElseThrow();
+        ExchangeCalendar us = ExchangeCalendars.forMarket(MarketType.US_STOCK).orElseThrow();
+
+        assertFalse(aShare.isTradingDay(LocalDate.of(2023, 1, 26)));
+        assertFalse(hk.isTradingDay(LocalDate.of(2027, 2, 8)));
+        assertTrue(hk.isTradingDay(LocalDate.of(2027, 2, 10)));
+        assertFalse(us.isTradingDay(LocalDate.of(2028, 11, 23)));
+    }
+
+    @Test
+    @DisplayName("覆盖年份之外应按周末与固定日期假日规则处理")
+    void outOfRangeDatesShouldUseFixedHolidayRules() {
+        ExchangeCalendar aShare = ExchangeCalendars.forMarket(MarketType.A_SHARE).orElseThrow();
+        ExchangeCalendar us = ExchangeCalendars.forMarket(MarketType.US_STOCK).orElseThrow();
+
+        assertEquals(MarketStatus.CLOSED, aShare.statusAt(at(SHANGHAI, "2030-01-01T10:00:00")));
+        assertEquals(MarketStatus.OPEN, aShare.statusAt(at(SHANGHAI, "2030-01-02T10:00:00")));
+        assertEquals(at(SHANGHAI, "2027-01-04T09:30:00"), aShare.nextOpen(at(SHANGHAI, "2026-12-31T15:00:00")));
+        assertFalse(us.isTradingDay(LocalDate.of(2032, 7, 5)));
+        assertFalse(us.isTradingDay(LocalDate.of(2032, 12, 24)));
+        assertTrue(us.isTradingDay(LocalDate.of(2032, 12, 31)));
+    }
+
+    @Test
+    @DisplayName("周日的固定日期假日应顺延并避开已有假日")
+    void sundayFixedHolidaysShouldShiftPastObservedDays() {
+        Properties properties = new Properties();
+        properties.setProperty("zone", "Asia/Hong_Kong");
+        properties.setProperty("from-year", "2026");
+        properties.setProperty("to-year", "2026");
+        properties.setProperty("sessions", "09:30-16:00 OPEN");
+        properties.setProperty("fixed-holidays", "01-01, 12-25, 12-26");
+        properties.setProperty("fixed-holiday-observance", "SUNDAY_TO_NEXT_WEEKDAY");
+
+        ExchangeCalendar calendar = ExchangeCalendar.from(properties);
+
+        assertTrue(calendar.isTradingDay(LocalDate.of(2022, 1, 3)));
+        assertFalse(calendar.isTradingDay(LocalDate.of(2022, 12, 26)));
+        assertFalse(calendar.isTradingDay(LocalDate.of(2022, 12, 27)));
+        assertTrue(calendar.isTradingDay(LocalDate.of(2022, 12, 28)));
+    }
+
+    @Test
+    @DisplayName("格式错误的时段配置应被拒绝")
+    void invalidSessionSpecShouldBeRejected() {
+        Properties properties = new Properties();
+        properties.setProperty("zone", "Asia/Shanghai");
+        properties.setProperty("from-year", "2026");
+        properties.setProperty("to-year", "2026");
+        properties.setProperty("sessions", "11:30-09:30 OPEN");
+
+        assertThrows(IllegalArgumentException.class, () -> ExchangeCalendar.from(properties));
+    }
+
+    private static Instant at(ZoneId zone, String localDateTime) {
+        return LocalDateTime.parse(localDateTime).atZone(zone).toInstant();
+    }
+}
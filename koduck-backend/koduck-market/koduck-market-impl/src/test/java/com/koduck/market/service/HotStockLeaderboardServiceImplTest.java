@@ -0,0 +1,247 @@
+package com.koduck.market.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import com.koduck.common.constants.MarketConstants;
+import com.koduck.common.constants.RedisKeyConstants;
+import com.koduck.market.config.MarketProperties;
+import com.koduck.market.entity.StockRealtime;
+import com.koduck.market.repository.StockRealtimeRepository;
+import com.koduck.market.service.support.HotStockRanking;
+
+/**
+ * HotStockLeaderboardServiceImpl 单元测试。
+ *
+ * @author Koduck Team
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class HotStockLeaderboardServiceImplTest {
+
+    /** A 股涨跌幅镜像键。 */
+    private static final String CHANGE_KEY = RedisKeyConstants.hotRankKey("ashare", "change");
+
+    /** A 股成交量镜像键。 */
+    private static final String VOLUME_KEY = RedisKeyConstants.hotRankKey("ashare", "volume");
+
+    @Mock
+    private StockRealtimeRepository stockRealtimeRepository;
+
+    @Mock
+    private ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    /** 市场模块配置。 */
+    private MarketProperties properties;
+
+    /** 测试目标对象。 */
+    private HotStockLeaderboardServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MarketProperties();
+        when(redisTemplateProvider.getIfAvailable()).thenReturn(redisTemplate);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(stockRealtimeRepository.findByType(MarketConstants.STOCK_TYPE)).thenReturn(List.of(
+            realtime("600000", "浦发银行", "1.50", 1_000L, "10000"),
+            realtime("000001", "平安银行", "-2.00", 5_000L, "60000"),
+            realtime("600036", "招商银行", "0.80", 3_000L, "90000"),
+            realtime("00700", "腾讯控股", "3.00", 9_000L, "800000")));
+        service = new HotStockLeaderboardServiceImpl(stockRealtimeRepository, redisTemplateProvider, properties);
+    }
+
+    @Test
+    @DisplayName("首次读取时从 stock_realtime 快照重建，按市场分榜")
+    void shouldRebuildFromSnapshotOnFirstRead() {
+        List<HotStockLeaderboardService.HotStock> gainers = service.top("AShare", HotStockRanking.GAIN, 2);
+        List<HotStockLeaderboardService.HotStock> losers = service.top("a_share", HotStockRanking.LOSS, 1);
+
+        assertEquals(List.of("600000", "600036"), symbols(gainers));
+        assertEquals("浦发银行", gainers.get(0).name());
+        assertEquals(1.5, gainers.get(0).score());
+        assertEquals(List.of("000001"), symbols(losers));
+        assertEquals(List.of("00700"), symbols(service.top("HKStock", HotStockRanking.VOLUME, 5)));
+        assertEquals(List.of("600036", "000001", "600000"),
+            symbols(service.top("AShare", HotStockRanking.AMOUNT, 5)));
+        verify(stockRealtimeRepository, times(1)).findByType(MarketConstants.STOCK_TYPE);
+    }
+
+    @Test
+    @DisplayName("实时行情增量调整排名，缺失的指标保持原分数")
+    void shouldApplyQuotesIncrementally() {
+        service.onQuote("600036", null, 5.0, null, null);
+        service.onQuote("000001", "平安银行", 0.1, 8_000L, null);
+
+        assertEquals(List.of("600036", "600000"), symbols(service.top("AShare", HotStockRanking.GAIN, 2)));
+        assertEquals(List.of("000001", "600036", "600000"),
+            symbols(service.top("AShare", HotStockRanking.VOLUME, 5)));
+        assertEquals("招商银行", service.top("AShare", HotStockRanking.GAIN, 1).get(0).name());
+        assertEquals(90000.0, service.top("AShare", HotStockRanking.AMOUNT, 1).get(0).score());
+    }
+
+    @Test
+    @DisplayName("重建时以 Redis 镜像中的分数覆盖快照")
+    void shouldOverlayMirrorOnRebuild() {
+        when(zSetOperations.rangeWithScores(CHANGE_KEY, 0, -1)).thenReturn(Set.of(
+            new DefaultTypedTuple<>("000001", 7.0),
+            new DefaultTypedTuple<>("688981", 4.0)));
+
+        service.rebuild();
+
+        assertEquals(List.of("000001", "688981", "600000"),
+            symbols(service.top("AShare", HotStockRanking.GAIN, 3)));
+        assertNull(service.top("AShare", HotStockRanking.GAIN, 2).get(1).name());
+    }
+
+    @Test
+    @DisplayName("开启镜像时从 Redis 有序集合读取榜单，降序用 ZREVRANGE、升序用 ZRANGE")
+    void shouldServeTopFromMirror() {
+        Set<ZSetOperations.TypedTuple<String>> gainers = new LinkedHashSet<>();
+        gainers.add(new DefaultTypedTuple<>("688981", 9.0));
+        gainers.add(new DefaultTypedTuple<>("600000", 1.5));
+        when(zSetOperations.reverseRangeWithScores(CHANGE_KEY, 0, 1)).thenReturn(gainers);
+        Set<ZSetOperations.TypedTuple<String>> losers = new LinkedHashSet<>();
+        losers.add(new DefaultTypedTuple<>("601398", -4.0));
+        when(zSetOperations.rangeWithScores(CHANGE_KEY, 0, 0)).thenReturn(losers);
+
+        List<HotStockLeaderboardService.HotStock> top = service.top("AShare", HotStockRanking.GAIN, 2);
+
+        assertEquals(List.of("688981", "600000"), symbols(top));
+        assertEquals(9.0, top.get(0).score());
+        assertNull(top.get(0).name());
+        assertEquals("浦发银行", top.get(1).name());
+        assertEquals(List.of("601398"), symbols(service.top("AShare", HotStockRanking.LOSS, 1)));
+    }
+
+    @Test
+    @DisplayName("镜像读取失败、镜像为空或关闭镜像时回退到本地索引")
+    void shouldFallBackToLocalIndexWhenMirrorUnavailable() {
+        when(zSetOperations.reverseRangeWithScores(eq(CHANGE_KEY), anyLong(), anyLong()))
+            .thenThrow(new IllegalStateException("redis down"));
+
+        assertEquals(List.of("600000", "600036"), symbols(service.top("AShare", HotStockRanking.GAIN, 2)));
+        assertEquals(List.of("000001"), symbols(service.top("AShare", HotStockRanking.LOSS, 1)));
+
+        properties.getLeaderboard().setMirrorEnabled(false);
+        service.top("AShare", HotStockRanking.VOLUME, 1);
+        verify(zSetOperations, never()).reverseRangeWithScores(eq(VOLUME_KEY), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("刷写只写入变化的指标，同一股票只写最新分数")
+    @SuppressWarnings("unchecked")
+    void flushShouldWriteLatestChangedScores() {
+        service.onQuote("600000", null, 2.0, null, null);
+        service.onQuote("600000", null, 2.5, null, null);
+        service.onQuote("600036", null, null, 3_000L, null);
+
+        assertEquals(1, service.flush());
+
+        ArgumentCaptor<Set<ZSetOperations.TypedTuple<String>>> captor = ArgumentCaptor.forClass(Set.class);
+        verify(zSetOperations).add(eq(CHANGE_KEY), captor.capture());
+        ZSetOperations.TypedTuple<String> tuple = captor.getValue().iterator().next();
+        assertEquals("600000", tuple.getValue());
+        assertEquals(2.5, tuple.getScore());
+        verify(zSetOperations, never()).add(eq(VOLUME_KEY), anySet());
+        verify(redisTemplate).expire(CHANGE_KEY, RedisKeyConstants.TTL_HOT_RANK, TimeUnit.SECONDS);
+        assertEquals(0, service.flush());
+    }
+
+    @Test
+    @DisplayName("刷写失败时保留待写分数，下次重试")
+    void flushFailureShouldKeepPendingScores() {
+        service.onQuote("600000", null, 2.0, null, null);
+        when(zSetOperations.add(anyString(), anySet()))
+            .thenThrow(new IllegalStateException("redis down"))
+            .thenReturn(1L);
+
+        service.scheduledFlush();
+
+        assertEquals(1, service.flush());
+        verify(zSetOperations, times(2)).add(eq(CHANGE_KEY), anySet());
+    }
+
+    @Test
+    @DisplayName("Redis 不可用或关闭镜像时排行榜仍在本实例内工作")
+    void shouldWorkWithoutMirror() {
+        when(redisTemplateProvider.getIfAvailable()).thenReturn(null);
+
+        service.onQuote("600036", null, 5.0, null, null);
+
+        assertEquals("600036", service.top("AShare", HotStockRanking.GAIN, 1).get(0).symbol());
+        assertEquals(0, service.flush());
+    }
+
+    @Test
+    @DisplayName("快照加载失败时以空榜启动，之后的行情正常计入")
+    void shouldStartEmptyWhenSnapshotFails() {
+        when(stockRealtimeRepository.findByType(MarketConstants.STOCK_TYPE))
+            .thenThrow(new IllegalStateException("db down"));
+
+        service.onQuote("600000", "浦发银行", 1.0, 100L, 1000.0);
+
+        assertEquals(List.of("600000"), symbols(service.top("AShare", HotStockRanking.GAIN, 5)));
+    }
+
+    @Test
+    @DisplayName("关闭后不再维护排行榜")
+    void disabledShouldReturnEmpty() {
+        properties.getLeaderboard().setEnabled(false);
+
+        service.onQuote("600000", null, 1.0, null, null);
+
+        assertTrue(service.top("AShare", HotStockRanking.GAIN, 5).isEmpty());
+        verify(stockRealtimeRepository, never()).findByType(any());
+    }
+
+    private static List<String> symbols(List<HotStockLeaderboardService.HotStock> stocks) {
+        return stocks.stream().map(HotStockLeaderboardService.HotStock::symbol).toList();
+    }
+
+    private static StockRealtime realtime(String symbol, String name, String changePercent, Long volume,
+                                          String amount) {
+        return StockRealtime.builder()
+            .symbol(symbol)
+            .name(name)
+            .changePercent(new BigDecimal(changePercent))
+            .volume(volume)
+            .amount(new BigDecimal(amount))
+            .build();
+    }
+}
@@ -3,6 +3,7 @@ package com.koduck.market.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
 
 import com.koduck.market.dto.MarketIndexDto;
 import com.koduck.market.dto.PriceQuoteDto;
@@ -11,18 +12,24 @@ import com.koduck.market.dto.StockIndustryDto;
 import com.koduck.market.dto.StockStatsDto;
 import com.koduck.market.dto.StockValuationDto;
 import com.koduck.market.dto.SymbolInfoDto;
+import com.koduck.market.service.support.HotStockRanking;
+import com.koduck.market.service.support.SymbolSearchIndex;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
 
 /**
  * MarketServiceImpl 单元测试。
  *
  * @author Koduck Team
  */
+@ExtendWith(MockitoExtension.class)
 class MarketServiceImplTest {
 
     /** 默认页码。 */
@@ -31,32 +38,74 @@ class MarketServiceImplTest {
     /** 默认页大小。 */
     private static final int DEFAULT_SIZE = 10;
 
+    @Mock
+    private SymbolSearchService symbolSearchService;
+
+    @Mock
+    private HotStockLeaderboardService hotStockLeaderboardService;
+
     /** 测试目标对象。 */
     private MarketServiceImpl marketService;
 
     @BeforeEach
     void setUp() {
-        marketService = new MarketServiceImpl();
+        marketService = new MarketServiceImpl(symbolSearchService, hotStockLeaderboardService);
     }
 
     @Test
-    @DisplayName("搜索股票应返回空列表")
+    @DisplayName("搜索无匹配时应返回空列表")
     void searchSymbolsShouldReturnEmptyList() {
+        when(symbolSearchService.search("AAPL", null, DEFAULT_SIZE)).thenReturn(List.of());
+
         List<SymbolInfoDto> result = marketService.searchSymbols("AAPL", DEFAULT_PAGE, DEFAULT_SIZE);
 
         assertNotNull(result);
         assertEquals(0, result.size());
     }
 
+    @Test
+    @DisplayName("搜索结果按页截取并转换为 SymbolInfoDto")
+    void searchSymbolsShouldPageIndexResults() {
+        when(symbolSearchService.search("yh", null, 4)).thenReturn(List.of(
+            new SymbolSearchIndex.Entry("000001", "平安银行", "AShare", "STOCK"),
+            new SymbolSearchIndex.Entry("600000", "浦发银行", "AShare", "STOCK"),
+            new SymbolSearchIndex.Entry("600036", "招商银行", "AShare", "STOCK")));
+
+        List<SymbolInfoDto> result = marketService.searchSymbols("yh", 2, 2);
+
+        assertEquals(1, result.size());
+        assertEquals("600036", result.get(0).symbol());
+        assertEquals("招商银行", result.get(0).name());
+        assertEquals("AShare", result.get(0).market());
+    }
+
     @Test
     @DisplayName("获取热门股票应返回空列表")
     void getHotStocksShouldReturnEmptyList() {
+        when(hotStockLeaderboardService.top("US", HotStockRanking.VOLUME, DEFAULT_SIZE)).thenReturn(List.of());
+
         List<SymbolInfoDto> result = marketService.getHotStocks("US", DEFAULT_SIZE);
 
         assertNotNull(result);
         assertEquals(0, result.size());
     }
 
+    @Test
+    @DisplayName("热门股票取自成交量排行榜")
+    void getHotStocksShouldReadVolumeLeaderboard() {
+        when(hotStockLeaderboardService.top("AShare", HotStockRanking.VOLUME, 2)).thenReturn(List.of(
+            new HotStockLeaderboardService.HotStock("600000", "浦发银行", 5_000_000),
+            new HotStockLeaderboardService.HotStock("000001", "平安银行", 3_000_000)));
+
+        List<SymbolInfoDto> result = marketService.getHotStocks("AShare", 2);
+
+        assertEquals(2, result.size());
+        assertEquals("600000", result.get(0).symbol());
+        assertEquals("浦发银行", result.get(0).name());
+        assertEquals(5_000_000L, result.get(0).volume());
+        assertEquals("AShare", result.get(1).market());
+    }
+
     @Test
     @DisplayName("获取股票详情应返回空 Optional")
     void getStockDetailShouldReturnEmptyOptional() {
@@ -0,0 +1,216 @@
+package com.koduck.market.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.koduck.market.MarketType;
+import com.koduck.market.config.MarketProperties;
+import com.koduck.market.provider.MarketDataProvider;
+import com.koduck.market.provider.MarketDataProvider.MarketStatus;
+import com.koduck.market.provider.ProviderFactory;
+import com.koduck.service.RealtimeDataTriggerService;
+
+/**
+ * RealtimeRefreshScheduler 单元测试。
+ *
+ * @author Koduck Team
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RealtimeRefreshSchedulerTest {
+
+    @Mock
+    private StockSubscriptionService stockSubscriptionService;
+
+    @Mock
+    private ProviderFactory providerFactory;
+
+    @Mock
+    private ObjectProvider<RealtimeDataTriggerService> triggerProvider;
+
+    @Mock
+    private RealtimeDataTriggerService trigger;
+
+    @Mock
+    private MarketDataProvider aShareProvider;
+
+    /** 可调时钟。 */
+    private MutableClock clock;
+
+    /** 测试目标对象。 */
+    private RealtimeRefreshScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        MarketProperties properties = new MarketProperties();
+        properties.getRefresh().setBatchSize(2);
+        properties.getRefresh().setMaxSymbolsPerCycle(3);
+        clock = new MutableClock(Instant.parse("2026-10-16T02:00:00Z"));
+        when(triggerProvider.getIfAvailable()).thenReturn(trigger);
+        when(providerFactory.getPrimaryProvider(MarketType.A_SHARE)).thenReturn(Optional.of(aShareProvider));
+        when(providerFactory.getPrimaryProvider(MarketType.US_STOCK)).thenReturn(Optional.empty());
+        when(stockSubscriptionService.getSubscribers(anyString())).thenReturn(Set.of(1L));
+        scheduler = new RealtimeRefreshScheduler(stockSubscriptionService, providerFactory, triggerProvider,
+            properties, clock);
+    }
+
+    @Test
+    @DisplayName("交易时段应按订阅人数排序、截断并分批触发刷新")
+    @SuppressWarnings("unchecked")
+    void openMarketShouldRankCapAndBatch() {
+        when(aShareProvider.getMarketStatus()).thenReturn(MarketStatus.OPEN);
+        when(stockSubscriptionService.getAllSubscribedSymbols())
+            .thenReturn(Set.of("600000", "000001", "300750", "601398"));
+        when(stockSubscriptionService.getSubscribers("300750")).thenReturn(Set.of(1L, 2L, 3L));
+        when(stockSubscriptionService.getSubscribers("601398")).thenReturn(Set.of(1L, 2L));
+
+        int triggered = scheduler.refreshDue();
+
+        assertEquals(3, triggered);
+        ArgumentCaptor<List<String>> batches = ArgumentCaptor.forClass(List.class);
+        verify(trigger, times(2)).triggerRealtimeUpdate(batches.capture());
+        assertEquals(List.of("300750", "601398"), batches.getAllValues().get(0));
+        assertEquals(List.of("000001"), batches.getAllValues().get(1));
+    }
+
+    @Test
+    @DisplayName("超过上限的股票应在后续周期轮到，订阅人数多的刷新更频繁")
+    void symbolsBeyondCapShouldBeRefreshedInLaterCycles() {
+        when(aShareProvider.getMarketStatus()).thenReturn(MarketStatus.OPEN);
+        List<String> symbols = List.of("300750", "601398", "000001", "000002", "600000", "600519", "601318");
+        when(stockSubscriptionService.getAllSubscribedSymbols()).thenReturn(Set.copyOf(symbols));
+        when(stockSubscriptionService.getSubscribers("300750")).thenReturn(Set.of(1L, 2L, 3L));
+        when(stockSubscriptionService.getSubscribers("601398")).thenReturn(Set.of(1L, 2L));
+        List<String> refreshed = new ArrayList<>();
+        doAnswer(invocation -> refreshed.addAll(invocation.getArgument(0)))
+            .when(trigger).triggerRealtimeUpdate(any());
+
+        Map<String, Integer> lastCycle = new HashMap<>();
+        Map<String, Integer> refreshes = new HashMap<>();
+        for (int cycle = 0; cycle < 30; cycle++) {
+            refreshed.clear();
+            assertEquals(3, scheduler.refreshDue());
+            assertEquals(3, refreshed.size());
+            for (String symbol : refreshed) {
+                int waited = cycle - lastCycle.getOrDefault(symbol, -1);
+                assertTrue(waited <= 3, symbol + " waited " + waited + " cycles");
+                lastCycle.put(symbol, cycle);
+                refreshes.merge(symbol, 1, Integer::sum);
+            }
+            clock.advanceMillis(3000);
+        }
+
+        assertEquals(Set.copyOf(symbols), refreshes.keySet());
+        for (String symbol : symbols) {
+            assertTrue(29 - lastCycle.get(symbol) < 3, symbol + " was not refreshed in the last cycles");
+        }
+        assertTrue(refreshes.get("300750") > refreshes.get("600000"));
+    }
+
+    @Test
+    @DisplayName("收盘状态不应触发刷新")
+    void closedMarketShouldNotRefresh() {
+        when(aShareProvider.getMarketStatus()).thenReturn(MarketStatus.CLOSED);
+        when(stockSubscriptionService.getAllSubscribedSymbols()).thenReturn(Set.of("600000"));
+
+        assertEquals(0, scheduler.refreshDue());
+        verify(trigger, never()).triggerRealtimeUpdate(any());
+    }
+
+    @Test
+    @DisplayName("刷新间隔应随市场状态调整")
+    void intervalShouldFollowMarketStatus() {
+        when(aShareProvider.getMarketStatus()).thenReturn(MarketStatus.BREAK);
+        when(stockSubscriptionService.getAllSubscribedSymbols()).thenReturn(Set.of("600000"));
+
+        assertEquals(1, scheduler.refreshDue());
+        clock.advanceMillis(3000);
+        assertEquals(0, scheduler.refreshDue());
+
+        when(aShareProvider.getMarketStatus()).thenReturn(MarketStatus.OPEN);
+        assertEquals(1, scheduler.refreshDue());
+        clock.advanceMillis(1000);
+        assertEquals(0, scheduler.refreshDue());
+    }
+
+    @Test
+    @DisplayName("无主提供商的市场按未知状态低频刷新")
+    void marketWithoutProviderShouldUseUnknownInterval() {
+        when(stockSubscriptionService.getAllSubscribedSymbols()).thenReturn(Set.of("AAPL"));
+
+        assertEquals(1, scheduler.refreshDue());
+        clock.advanceMillis(5000);
+        assertEquals(0, scheduler.refreshDue());
+        clock.advanceMillis(5000);
+        assertEquals(1, scheduler.refreshDue());
+    }
+
+    @Test
+    @DisplayName("应根据代码格式推断市场")
+    void shouldInferMarketFromSymbol() {
+        assertEquals(MarketType.A_SHARE, RealtimeRefreshScheduler.marketOf("600000"));
+        assertEquals(MarketType.HK_STOCK, RealtimeRefreshScheduler.marketOf("00700"));
+        assertEquals(MarketType.US_STOCK, RealtimeRefreshScheduler.marketOf("BRK.B"));
+    }
+
+    /**
+     * 可手动推进的测试时钟。
+     */
+    private static final class MutableClock extends Clock {
+
+        /** 当前时间。 */
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advanceMillis(long millis) {
+            now = now.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.koduck.market.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.koduck.exception.ValidationException;
+import com.koduck.market.config.MarketProperties;
+import com.koduck.market.dto.screener.ScreenerCondition;
+import com.koduck.market.dto.screener.ScreenerRequest;
+import com.koduck.market.dto.screener.ScreenerResponse;
+import com.koduck.market.entity.KlineData;
+import com.koduck.market.entity.StockBasic;
+import com.koduck.market.repository.KlineDataRepository;
+import com.koduck.market.repository.StockBasicRepository;
+
+/**
+ * StockScreenerServiceImpl 单元测试。
+ *
+ * @author Koduck Team
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StockScreenerServiceImplTest {
+
+    /** 股票数。 */
+    private static final int SYMBOLS = 5;
+
+    /** 每只股票的 K 线数。 */
+    private static final int BARS = 40;
+
+    /** 起始交易日。 */
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 5, 0, 0);
+
+    @Mock
+    private StockBasicRepository stockBasicRepository;
+
+    @Mock
+    private KlineDataRepository klineDataRepository;
+
+    /** 测试目标对象。 */
+    private StockScreenerServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        MarketProperties properties = new MarketProperties();
+        properties.getScreener().setHistoryBars(60);
+        properties.getScreener().setLoadBatchSize(2);
+        List<StockBasic> universe = new ArrayList<>();
+        for (int i = 0; i < SYMBOLS; i++) {
+            universe.add(StockBasic.builder().symbol(symbol(i)).name("股票" + i).market("AShare").build());
+        }
+        when(stockBasicRepository.findByMarketAndTypeOrderBySymbolAsc("AShare", "STOCK")).thenReturn(universe);
+        when(klineDataRepository.findRecentBySymbols(eq("AShare"), eq("1D"), anyCollection(), anyInt()))
+            .thenAnswer(invocation -> history(invocation.getArgument(2)));
+        Clock clock = Clock.fixed(Instant.parse("2026-03-01T00:00:00Z"), ZoneOffset.UTC);
+        service = new StockScreenerServiceImpl(stockBasicRepository, klineDataRepository, properties, clock);
+    }
+
+    @Test
+    @DisplayName("全量加载按批次查询，不逐只股票查询")
+    void shouldLoadUniverseInBatches() {
+        int applied = service.refresh();
+
+        assertEquals(SYMBOLS * BARS, applied);
+        verify(klineDataRepository, times(3)).findRecentBySymbols(eq("AShare"), eq("1D"), anyCollection(), eq(61));
+    }
+
+    @Test
+    @DisplayName("组合条件筛选并按指标列排序")
+    void shouldScreenWithCombinedConditions() {
+        ScreenerRequest request = new ScreenerRequest(
+            List.of(
+                new ScreenerCondition("rsi(14)", "<", new BigDecimal("30"), null, null),
+                new ScreenerCondition("close", ">", null, "lower(20)", null),
+                new ScreenerCondition("volume", ">", null, "volumeMa(20)", new BigDecimal("2"))),
+            List.of(), "rsi(14)", false, 10);
+
+        ScreenerResponse response = service.screen(request);
+
+        assertEquals(SYMBOLS, response.universeSize());
+        assertEquals(List.of("000003", "000001"),
+            response.items().stream().map(ScreenerResponse.Item::symbol).toList());
+        assertEquals(START.plusDays(BARS - 1), response.asOf());
+        assertEquals(3, response.items().get(0).values().size());
+    }
+
+    @Test
+    @DisplayName("增量刷新只查询最新 K 线时间之后的数据并推进快照")
+    void shouldApplyRecentBarsIncrementally() {
+        service.refresh();
+        LocalDateTime last = START.plusDays(BARS - 1);
+        when(klineDataRepository.findByMarketAndTimeframeAndKlineTimeGreaterThanEqualOrderByKlineTimeAsc(
+            "AShare", "1D", last)).thenReturn(List.of(
+                bar(symbol(4), last, 10, 1_000),
+                bar(symbol(4), last.plusDays(1), 100, 50_000)));
+
+        int applied = service.refresh();
+        ScreenerResponse response = service.screen(new ScreenerRequest(
+            List.of(new ScreenerCondition("changePercent", ">=", new BigDecimal("50"), null, null)),
+            List.of(), null, null, null));
+
+        assertEquals(2, applied);
+        assertEquals(List.of(symbol(4)), response.items().stream().map(ScreenerResponse.Item::symbol).toList());
+        assertEquals(last.plusDays(1), response.asOf());
+        verify(stockBasicRepository, times(1)).findByMarketAndTypeOrderBySymbolAsc(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("未知字段或条件不完整时抛出校验异常")
+    void shouldRejectInvalidConditions() {
+        assertThrows(ValidationException.class, () -> service.screen(new ScreenerRequest(
+            List.of(new ScreenerCondition("unknown(5)", ">", BigDecimal.ONE, null, null)),
+            null, null, null, null)));
+        assertThrows(ValidationException.class, () -> service.screen(new ScreenerRequest(
+            List.of(new ScreenerCondition("close", ">", null, null, null)),
+            null, null, null, null)));
+        assertThrows(ValidationException.class, () -> service.screen(new ScreenerRequest(
+            List.of(new ScreenerCondition("close", "==", BigDecimal.ONE, null, null)),
+            null, null, null, null)));
+        verify(klineDataRepository, times(0)).findRecentBySymbols(any(), any(), anyCollection(), anyInt());
+    }
+
+    private static String symbol(int index) {
+        return String.format("%06d", index);
+    }
+
+    /**
+     * 生成历史：奇数号股票持续下跌（RSI 低）且最后一天放量，其余股票上涨。
+     */
+    private static List<KlineData> history(Collection<String> symbols) {
+        List<KlineData> bars = new ArrayList<>();
+        for (String symbol : symbols) {
+            int index = Integer.parseInt(symbol);
+            boolean falling = index % 2 == 1;
+            for (int day = 0; day < BARS; day++) {
+                double close = falling
+                    ? 50 - day * (0.5 + index * 0.1) + (day % 3 == 0 ? 1.2 : 0)
+                    : 20 + day * 0.3 + (day % 4 == 0 ? -0.2 : 0);
+                long volume = falling && day == BARS - 1 ? 10_000 : 1_000;
+                bars.add(bar(symbol, START.plusDays(day), close, volume));
+            }
+        }
+        return bars;
+    }
+
+    private static KlineData bar(String symbol, LocalDateTime time, double close, long volume) {
+        BigDecimal price = BigDecimal.valueOf(close);
+        return KlineData.builder()
+            .market("AShare")
+            .symbol(symbol)
+            .timeframe("1D")
+            .klineTime(time)
+            .openPrice(price)
+            .highPrice(price.add(BigDecimal.valueOf(0.5)))
+            .lowPrice(price.subtract(BigDecimal.valueOf(0.5)))
+            .closePrice(price)
+            .volume(volume)
+            .build();
+    }
+}
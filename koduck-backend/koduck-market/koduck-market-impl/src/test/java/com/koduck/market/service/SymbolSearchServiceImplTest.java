@@ -0,0 +1,175 @@
+package com.koduck.market.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.koduck.market.config.MarketProperties;
+import com.koduck.market.entity.StockBasic;
+import com.koduck.market.repository.StockBasicRepository;
+import com.koduck.market.service.support.SymbolSearchIndex;
+
+/**
+ * SymbolSearchServiceImpl 单元测试。
+ *
+ * @author Koduck Team
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SymbolSearchServiceImplTest {
+
+    /** 初始更新时间。 */
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 10, 16, 18, 0);
+
+    @Mock
+    private StockBasicRepository stockBasicRepository;
+
+    /** 市场模块配置。 */
+    private MarketProperties properties;
+
+    /** 可调时钟。 */
+    private MutableClock clock;
+
+    /** 测试目标对象。 */
+    private SymbolSearchServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MarketProperties();
+        when(stockBasicRepository.count()).thenReturn(2L);
+        when(stockBasicRepository.findTopByOrderByUpdatedAtDesc())
+            .thenReturn(Optional.of(stock("600000", "浦发银行", UPDATED_AT)));
+        when(stockBasicRepository.findByDelistDateIsNull()).thenReturn(List.of(
+            stock("600000", "浦发银行", UPDATED_AT),
+            stock("000001", "平安银行", UPDATED_AT)));
+        clock = new MutableClock(Instant.parse("2026-10-16T10:00:00Z"));
+        service = new SymbolSearchServiceImpl(stockBasicRepository, properties, clock);
+    }
+
+    @Test
+    @DisplayName("首次搜索时构建索引，之后不再访问数据库")
+    void shouldBuildIndexOnFirstSearch() {
+        List<SymbolSearchIndex.Entry> first = service.search("pfyh", null, 10);
+        List<SymbolSearchIndex.Entry> second = service.search("yh", "a_share", 10);
+
+        assertEquals(List.of("600000"), first.stream().map(SymbolSearchIndex.Entry::symbol).toList());
+        assertEquals(2, second.size());
+        assertTrue(service.covers("a_share"));
+        assertFalse(service.covers("us_stock"));
+        verify(stockBasicRepository, times(1)).findByDelistDateIsNull();
+    }
+
+    @Test
+    @DisplayName("签名未变化时不重建，行数或更新时间变化时整体替换索引")
+    void shouldRebuildOnlyWhenStockListChanges() {
+        assertTrue(service.refresh());
+        assertFalse(service.refresh());
+
+        when(stockBasicRepository.findTopByOrderByUpdatedAtDesc())
+            .thenReturn(Optional.of(stock("600519", "贵州茅台", UPDATED_AT.plusDays(1))));
+        when(stockBasicRepository.findByDelistDateIsNull()).thenReturn(List.of(
+            stock("600000", "浦发银行", UPDATED_AT),
+            stock("600519", "贵州茅台", UPDATED_AT.plusDays(1))));
+
+        assertTrue(service.refresh());
+        assertEquals("600519", service.search("gzmt", null, 10).get(0).symbol());
+        assertTrue(service.search("平安", null, 10).isEmpty());
+        verify(stockBasicRepository, times(2)).findByDelistDateIsNull();
+    }
+
+    @Test
+    @DisplayName("关闭后不构建索引也不覆盖任何市场")
+    void shouldStayIdleWhenDisabled() {
+        properties.getSearch().setEnabled(false);
+
+        assertTrue(service.search("pfyh", null, 10).isEmpty());
+        assertFalse(service.covers("a_share"));
+        verify(stockBasicRepository, never()).findByDelistDateIsNull();
+    }
+
+    @Test
+    @DisplayName("构建失败后在退避期内使用空索引，不再访问数据库，期满后重试")
+    void shouldBackOffAfterFailedBuild() {
+        when(stockBasicRepository.findByDelistDateIsNull()).thenThrow(new IllegalStateException("db down"));
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(service.search("pfyh", null, 10).isEmpty());
+            assertFalse(service.covers("a_share"));
+        }
+        verify(stockBasicRepository, times(1)).findByDelistDateIsNull();
+
+        clock.advanceMillis(properties.getSearch().getBuildRetryBackoffMs() - 1);
+        assertFalse(service.covers("a_share"));
+        verify(stockBasicRepository, times(1)).findByDelistDateIsNull();
+
+        when(stockBasicRepository.findByDelistDateIsNull()).thenReturn(List.of(
+            stock("600000", "浦发银行", UPDATED_AT)));
+        clock.advanceMillis(1);
+        assertEquals("600000", service.search("pfyh", null, 10).get(0).symbol());
+        assertTrue(service.covers("a_share"));
+        verify(stockBasicRepository, times(2)).findByDelistDateIsNull();
+    }
+
+    private static StockBasic stock(String symbol, String name, LocalDateTime updatedAt) {
+        return StockBasic.builder()
+            .symbol(symbol)
+            .name(name)
+            .market("AShare")
+            .type("STOCK")
+            .updatedAt(updatedAt)
+            .build();
+    }
+
+    /**
+     * 可手动推进的测试时钟。
+     */
+    private static final class MutableClock extends Clock {
+
+        /** 当前时间。 */
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advanceMillis(long millis) {
+            now = now.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
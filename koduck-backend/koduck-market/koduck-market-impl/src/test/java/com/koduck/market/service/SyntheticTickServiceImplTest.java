@@ -0,0 +1,187 @@
+package com.koduck.market.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.koduck.market.config.MarketProperties;
+import com.koduck.market.dto.TickDto;
+import com.koduck.market.entity.StockRealtime;
+import com.koduck.market.entity.StockTickHistory;
+import com.koduck.market.repository.StockTickHistoryRepository;
+import com.koduck.market.service.support.StockTickHistoryWriteBehind;
+
+/**
+ * SyntheticTickServiceImpl 单元测试。
+ *
+ * @author Koduck Team
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SyntheticTickServiceImplTest {
+
+    /** 测试股票代码。 */
+    private static final String SYMBOL = "600000";
+
+    /** 测试缓冲区容量。 */
+    private static final int CAPACITY = 4;
+
+    @Mock
+    private StockTickHistoryRepository tickHistoryRepository;
+
+    @Mock
+    private StockTickHistoryWriteBehind writeBehind;
+
+    /** 测试目标对象。 */
+    private SyntheticTickServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        MarketProperties properties = new MarketProperties();
+        properties.getTick().setBufferCapacity(CAPACITY);
+        properties.getTick().setBlockOrderAmount(1000.0);
+        when(tickHistoryRepository.findBySymbolOrderByTickTimeDesc(anyString(), any()))
+            .thenReturn(List.of());
+        service = new SyntheticTickServiceImpl(tickHistoryRepository, writeBehind, properties,
+            Clock.fixed(Instant.parse("2026-10-16T02:00:00Z"), ZoneId.of("UTC")));
+    }
+
+    @Test
+    @DisplayName("首个快照只建立成交量基线")
+    void firstSnapshotShouldEstablishBaseline() {
+        TickDto tick = service.appendSyntheticTickFromRealtime(realtime("10.00", 1000L, "10000"));
+
+        assertNotNull(tick);
+        assertEquals(0, tick.size());
+        assertEquals(10.00, tick.price());
+        assertTrue(service.snapshotTrackedSymbols().contains(SYMBOL));
+    }
+
+    @Test
+    @DisplayName("相邻快照的累计量差值应生成分时并按 tick rule 判定方向")
+    void shouldSynthesizeDeltaAndSide() {
+        service.appendSyntheticTickFromRealtime(realtime("10.00", 1000L, "10000"));
+        TickDto up = service.appendSyntheticTickFromRealtime(realtime("10.10", 1300L, "13030"));
+        TickDto down = service.appendSyntheticTickFromRealtime(realtime("10.05", 1400L, "13530"));
+
+        assertEquals(300, up.size());
+        assertEquals(3030.0, up.amount(), 1e-6);
+        assertEquals("buy", up.type());
+        assertEquals("BLOCK_ORDER", up.flag());
+        assertEquals(100, down.size());
+        assertEquals("sell", down.type());
+        assertEquals("NORMAL", down.flag());
+        verify(writeBehind, times(3)).enqueue(eq(SYMBOL), anyLong(), anyDouble(), anyLong(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("无成交且价格不变的快照不生成分时")
+    void unchangedSnapshotShouldBeSkipped() {
+        service.appendSyntheticTickFromRealtime(realtime("10.00", 1000L, "10000"));
+
+        assertNull(service.appendSyntheticTickFromRealtime(realtime("10.00", 1000L, "10000")));
+        verify(writeBehind, times(1)).enqueue(eq(SYMBOL), anyLong(), anyDouble(), anyLong(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("缺少价格的快照应被忽略")
+    void snapshotWithoutPriceShouldBeIgnored() {
+        StockRealtime realtime = realtime("10.00", 1000L, "10000");
+        realtime.setPrice(null);
+
+        assertNull(service.appendSyntheticTickFromRealtime(realtime));
+        verify(writeBehind, never()).enqueue(anyString(), anyLong(), anyDouble(), anyLong(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("最新分时应按从新到旧返回且缓冲区写满后覆盖最旧数据")
+    void latestTicksShouldBeNewestFirstAndWrapAround() {
+        long volume = 1000L;
+        for (int i = 0; i < CAPACITY + 2; i++) {
+            volume += 100L;
+            service.appendSyntheticTickFromRealtime(
+                realtime(BigDecimal.valueOf(10.0 + i).toPlainString(), volume, "0"));
+        }
+
+        List<TickDto> ticks = service.getLatestTicks(SYMBOL, 10);
+
+        assertEquals(CAPACITY, ticks.size());
+        assertEquals(15.0, ticks.get(0).price());
+        assertEquals(12.0, ticks.get(CAPACITY - 1).price());
+        assertEquals(2, service.getLatestTicks(SYMBOL, 2).size());
+    }
+
+    @Test
+    @DisplayName("首次追踪时应从分时历史回填缓冲区")
+    void trackSymbolShouldRestoreFromHistory() {
+        LocalDateTime base = LocalDateTime.of(2026, 10, 16, 10, 0);
+        when(tickHistoryRepository.findBySymbolOrderByTickTimeDesc(eq(SYMBOL), any()))
+            .thenReturn(List.of(history(base.plusSeconds(6), "10.20"), history(base.plusSeconds(3), "10.10"),
+                history(base, "10.30")));
+
+        service.trackSymbol(SYMBOL);
+        List<TickDto> ticks = service.getLatestTicks(SYMBOL, 10);
+
+        assertEquals(3, ticks.size());
+        assertEquals(10.20, ticks.get(0).price());
+        assertEquals("buy", ticks.get(0).type());
+        assertEquals("sell", ticks.get(1).type());
+        verify(tickHistoryRepository, times(1)).findBySymbolOrderByTickTimeDesc(eq(SYMBOL), any());
+    }
+
+    @Test
+    @DisplayName("未追踪股票的查询应返回空列表且不创建缓冲区")
+    void latestTicksForUntrackedSymbolShouldNotCreateBuffer() {
+        assertTrue(service.getLatestTicks("000001", 10).isEmpty());
+
+        assertTrue(service.snapshotTrackedSymbols().isEmpty());
+        verify(tickHistoryRepository, never()).findBySymbolOrderByTickTimeDesc(anyString(), any());
+    }
+
+    private static StockRealtime realtime(String price, Long volume, String amount) {
+        return StockRealtime.builder()
+            .symbol(SYMBOL)
+            .name("浦发银行")
+            .price(new BigDecimal(price))
+            .prevClose(new BigDecimal("10.00"))
+            .volume(volume)
+            .amount(new BigDecimal(amount))
+            .build();
+    }
+
+    private static StockTickHistory history(LocalDateTime time, String price) {
+        return StockTickHistory.builder()
+            .symbol(SYMBOL)
+            .tickTime(time)
+            .price(new BigDecimal(price))
+            .volume(100L)
+            .amount(new BigDecimal("1000"))
+            .build();
+    }
+}
@@ -0,0 +1,161 @@
+package com.koduck.market.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.koduck.exception.ValidationException;
+import com.koduck.market.config.MarketProperties;
+import com.koduck.market.dto.KlineDataDto;
+import com.koduck.market.dto.indicator.IndicatorResponse;
+
+/**
+ * TechnicalIndicatorServiceImpl 单元测试。
+ *
+ * @author Koduck Team
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TechnicalIndicatorServiceImplTest {
+
+    /** 日线秒数。 */
+    private static final long DAY_SECONDS = 86_400L;
+
+    /** 起始时间戳（epoch 秒）。 */
+    private static final long START = 1_760_000_000L;
+
+    @Mock
+    private ObjectProvider<KlineService> klineProvider;
+
+    @Mock
+    private KlineService klineService;
+
+    /** 测试目标对象。 */
+    private TechnicalIndicatorServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        MarketProperties properties = new MarketProperties();
+        properties.getIndicators().setWarmupBars(60);
+        properties.getIndicators().setRefreshBars(5);
+        when(klineProvider.getIfAvailable()).thenReturn(klineService);
+        service = new TechnicalIndicatorServiceImpl(klineProvider, properties);
+    }
+
+    @Test
+    @DisplayName("MA 别名按 SMA 计算，最新一根 K 线参与计算")
+    void shouldComputeSmaIncludingFormingBar() {
+        stubHistory(1, 30);
+
+        IndicatorResponse response = service.calculateIndicator("a_share", "600000", "MA", 5);
+
+        assertEquals("SMA", response.indicator());
+        assertEquals("A_SHARE", response.market());
+        assertEquals(new BigDecimal("28.0000"), response.values().get("ma"));
+        assertEquals(TechnicalIndicatorServiceImpl.TREND_BULLISH, response.trend());
+    }
+
+    @Test
+    @DisplayName("后续请求只拉取最近 K 线并增量并入")
+    void shouldAdvanceIncrementally() {
+        stubHistory(1, 30);
+        service.calculateIndicator("A_SHARE", "600000", "SMA", 5);
+
+        // 第 30 根收盘，第 31 根开始形成，收盘价 100
+        List<KlineDataDto> recent = new ArrayList<>(bars(27, 30));
+        recent.add(bar(31, 100));
+        stubRecent(5, recent);
+
+        IndicatorResponse response = service.calculateIndicator("A_SHARE", "600000", "SMA", 5);
+
+        // (27 + 28 + 29 + 30 + 100) / 5
+        assertEquals(new BigDecimal("42.8000"), response.values().get("ma"));
+        verify(klineService).getKlineData(eq("A_SHARE"), eq("600000"), eq("1D"), eq(60), isNull());
+    }
+
+    @Test
+    @DisplayName("最近 K 线无法衔接时回退为全量预热")
+    void shouldRebuildWhenContinuityIsLost() {
+        stubHistory(1, 30);
+        service.calculateIndicator("A_SHARE", "600000", "SMA", 5);
+
+        stubRecent(5, bars(40, 44));
+        stubHistory(1, 44);
+
+        IndicatorResponse response = service.calculateIndicator("A_SHARE", "600000", "SMA", 5);
+
+        assertEquals(new BigDecimal("42.0000"), response.values().get("ma"));
+    }
+
+    @Test
+    @DisplayName("K 线不足时返回空值与中性趋势")
+    void shouldReturnEmptyValuesWhenNotEnoughBars() {
+        stubHistory(1, 3);
+
+        IndicatorResponse response = service.calculateIndicator("A_SHARE", "600000", "BOLL", null);
+
+        assertEquals(20, response.period());
+        assertTrue(response.values().isEmpty());
+        assertEquals(TechnicalIndicatorServiceImpl.TREND_NEUTRAL, response.trend());
+    }
+
+    @Test
+    @DisplayName("不支持的指标与非法周期被拒绝")
+    void shouldRejectInvalidRequests() {
+        assertThrows(ValidationException.class,
+            () -> service.calculateIndicator("A_SHARE", "600000", "VOL", 5));
+        assertThrows(ValidationException.class,
+            () -> service.calculateIndicator("A_SHARE", "600000", "RSI", 0));
+        assertEquals(6, service.getAvailableIndicators().indicators().size());
+    }
+
+    private void stubHistory(int from, int to) {
+        List<KlineDataDto> data = new ArrayList<>(bars(from, to));
+        // 故意乱序，服务端应自行按时间排序
+        Collections.reverse(data);
+        when(klineService.getKlineData("A_SHARE", "600000", "1D", 60, null)).thenReturn(data);
+    }
+
+    private void stubRecent(int limit, List<KlineDataDto> data) {
+        when(klineService.getKlineData("A_SHARE", "600000", "1D", limit, null)).thenReturn(data);
+    }
+
+    private static List<KlineDataDto> bars(int from, int to) {
+        List<KlineDataDto> data = new ArrayList<>();
+        for (int i = from; i <= to; i++) {
+            data.add(bar(i, i));
+        }
+        return data;
+    }
+
+    private static KlineDataDto bar(int index, double close) {
+        BigDecimal price = BigDecimal.valueOf(close);
+        return KlineDataDto.builder()
+            .timestamp(START + index * DAY_SECONDS)
+            .open(price)
+            .high(price)
+            .low(price)
+            .close(price)
+            .volume(1000L)
+            .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.koduck.market.service.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * IncrementalIndicator 单元测试：逐根对照 {@link IndicatorKernels} 全量重算结果。
+ *
+ * @author Koduck Team
+ */
+class IncrementalIndicatorTest {
+
+    /** 随机序列长度。 */
+    private static final int BARS = 600;
+
+    /** 允许误差。 */
+    private static final double TOLERANCE = 1e-6;
+
+    @Test
+    @DisplayName("增量结果逐根与全量重算一致")
+    void shouldMatchFullRecompute() {
+        for (IndicatorType type : IndicatorType.values()) {
+            for (int period : new int[] {1, 5, 14, 20}) {
+                assertMatchesReference(type, period, randomWalk(BARS, 42L + period));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("peek 不修改状态")
+    void peekShouldNotMutateState() {
+        double[][] bars = randomWalk(40, 7L);
+        IncrementalIndicator indicator = IncrementalIndicator.create(IndicatorType.KDJ, 9);
+        for (int i = 0; i < 39; i++) {
+            indicator.push(bars[0][i], bars[1][i], bars[2][i]);
+        }
+        double[] first = new double[3];
+        double[] second = new double[3];
+        assertTrue(indicator.peek(bars[0][39], bars[1][39], bars[2][39], first));
+        indicator.peek(bars[0][39] * 2, bars[1][39] / 2, bars[2][39] * 1.5, new double[3]);
+        assertTrue(indicator.peek(bars[0][39], bars[1][39], bars[2][39], second));
+        assertEquals(39, indicator.count());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(first[i], second[i], 0.0);
+        }
+    }
+
+    @Test
+    @DisplayName("K 线不足时不产出指标")
+    void shouldNotBeReadyBeforeRequiredBars() {
+        IncrementalIndicator rsi = IncrementalIndicator.create(IndicatorType.RSI, 14);
+        double[] out = new double[1];
+        for (int i = 0; i < 14; i++) {
+            assertFalse(rsi.peek(10, 10, 10 + i, out));
+            rsi.push(10, 10, 10 + i);
+        }
+        assertTrue(rsi.peek(10, 10, 30, out));
+        assertEquals(100.0, out[0], TOLERANCE);
+    }
+
+    private static void assertMatchesReference(IndicatorType type, int period, double[][] bars) {
+        IncrementalIndicator indicator = IncrementalIndicator.create(type, period);
+        double[] streaming = new double[type.outputCount()];
+        double[] reference = new double[type.outputCount()];
+        for (int i = 0; i < bars[2].length; i++) {
+            boolean ready = indicator.peek(bars[0][i], bars[1][i], bars[2][i], streaming);
+            boolean expected = IndicatorKernels.evaluate(type, period, bars[0], bars[1], bars[2], i + 1, reference);
+            assertEquals(expected, ready, type + "(" + period + ") readiness at bar " + i);
+            if (ready) {
+                for (int k = 0; k < reference.length; k++) {
+                    assertEquals(reference[k], streaming[k], TOLERANCE,
+                        type + "(" + period + ")[" + k + "] at bar " + i);
+                }
+            }
+            indicator.push(bars[0][i], bars[1][i], bars[2][i]);
+        }
+    }
+
+    private static double[][] randomWalk(int length, long seed) {
+        Random random = new Random(seed);
+        double[] high = new double[length];
+        double[] low = new double[length];
+        double[] close = new double[length];
+        double price = 100.0;
+        for (int i = 0; i < length; i++) {
+            price = Math.max(1.0, price * (1.0 + (random.nextDouble() - 0.5) * 0.04));
+            close[i] = price;
+            high[i] = price * (1.0 + random.nextDouble() * 0.02);
+            low[i] = price * (1.0 - random.nextDouble() * 0.02);
+        }
+        return new double[][] {high, low, close};
+    }
+}
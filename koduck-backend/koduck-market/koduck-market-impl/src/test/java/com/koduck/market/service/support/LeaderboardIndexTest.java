@@ -0,0 +1,93 @@
+package com.koduck.market.service.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LeaderboardIndex 单元测试。
+ *
+ * @author Koduck Team
+ */
+class LeaderboardIndexTest {
+
+    @Test
+    @DisplayName("头部按分数降序、尾部按分数升序，分数相同按代码排序")
+    void shouldReadBothEnds() {
+        LeaderboardIndex index = new LeaderboardIndex();
+        index.update("600000", 2.5);
+        index.update("000001", -1.0);
+        index.update("600036", 2.5);
+        index.update("000002", 9.9);
+
+        assertEquals(List.of("000002", "600036", "600000"), symbols(index.top(3)));
+        assertEquals(List.of("000001", "600000"), symbols(index.bottom(2)));
+        assertEquals(4, index.top(10).size());
+        assertTrue(index.top(0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("同一股票更新后只保留最新分数")
+    void shouldMoveUpdatedSymbol() {
+        LeaderboardIndex index = new LeaderboardIndex();
+        index.update("600000", 1.0);
+        index.update("000001", 2.0);
+
+        assertTrue(index.update("600000", 3.0));
+        assertFalse(index.update("600000", 3.0));
+
+        assertEquals(List.of("600000", "000001"), symbols(index.top(5)));
+        assertEquals(2, index.size());
+        assertEquals(3.0, index.score("600000"));
+    }
+
+    @Test
+    @DisplayName("非有限分数与 remove 将股票移出排行榜")
+    void shouldRemoveSymbol() {
+        LeaderboardIndex index = new LeaderboardIndex();
+        index.update("600000", 1.0);
+        index.update("000001", 2.0);
+
+        assertTrue(index.update("600000", Double.NaN));
+        assertTrue(index.remove("000001"));
+        assertFalse(index.remove("000001"));
+
+        assertEquals(0, index.size());
+        assertTrue(index.top(5).isEmpty());
+        assertTrue(Double.isNaN(index.score("600000")));
+    }
+
+    @Test
+    @DisplayName("随机更新序列下头部 K 名与全量排序一致")
+    void shouldMatchFullSort() {
+        LeaderboardIndex index = new LeaderboardIndex();
+        Map<String, Double> latest = new HashMap<>();
+        Random random = new Random(7L);
+        for (int i = 0; i < 5_000; i++) {
+            String symbol = String.format("%06d", random.nextInt(300));
+            double score = Math.round(random.nextGaussian() * 500) / 100.0;
+            index.update(symbol, score);
+            latest.put(symbol, score);
+        }
+
+        List<Map.Entry<String, Double>> expected = new ArrayList<>(latest.entrySet());
+        expected.sort(Map.Entry.<String, Double>comparingByValue().reversed()
+            .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())));
+        assertEquals(expected.subList(0, 20).stream().map(Map.Entry::getKey).toList(), symbols(index.top(20)));
+        assertEquals(latest.size(), index.size());
+    }
+
+    private static List<String> symbols(List<LeaderboardIndex.Ranked> ranked) {
+        return ranked.stream().map(LeaderboardIndex.Ranked::symbol).toList();
+    }
+}
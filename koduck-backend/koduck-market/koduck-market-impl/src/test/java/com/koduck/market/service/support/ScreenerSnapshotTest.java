@@ -0,0 +1,154 @@
+package com.koduck.market.service.support;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ScreenerSnapshot 单元测试。
+ *
+ * @author Koduck Team
+ */
+class ScreenerSnapshotTest {
+
+    /** 日线秒数。 */
+    private static final long DAY_SECONDS = 86_400L;
+
+    /** 允许误差。 */
+    private static final double TOLERANCE = 1e-6;
+
+    @Test
+    @DisplayName("指标列与全量重算一致，新 K 线推进状态、同一时间覆盖形成中 K 线")
+    void indicatorColumnsShouldMatchFullRecompute() {
+        double[][] walk = randomWalk(150, 11L);
+        ScreenerSnapshot snapshot = new ScreenerSnapshot(List.of("600000"), List.of("浦发银行"), 200, 8);
+        for (int i = 0; i < 100; i++) {
+            snapshot.apply(0, i * DAY_SECONDS, walk[0][i], walk[1][i], walk[2][i], 1_000 + i, Double.NaN);
+        }
+        // 先建立列，再继续推进，覆盖回放与增量两条路径
+        double[] rsi = snapshot.column(ScreenerField.parse("rsi(14)").orElseThrow());
+        double[] lower = snapshot.column(ScreenerField.parse("lower(20)").orElseThrow());
+        double[] dif = snapshot.column(ScreenerField.parse("dif").orElseThrow());
+        for (int i = 100; i < 150; i++) {
+            snapshot.apply(0, i * DAY_SECONDS, walk[0][i] * 2, walk[1][i], walk[2][i] * 2, 1, Double.NaN);
+            snapshot.apply(0, i * DAY_SECONDS, walk[0][i], walk[1][i], walk[2][i], 1_000 + i, Double.NaN);
+        }
+
+        double[] out = new double[3];
+        IndicatorKernels.evaluate(IndicatorType.RSI, 14, walk[0], walk[1], walk[2], 150, out);
+        assertEquals(out[0], rsi[0], TOLERANCE);
+        IndicatorKernels.evaluate(IndicatorType.BOLL, 20, walk[0], walk[1], walk[2], 150, out);
+        assertEquals(out[2], lower[0], TOLERANCE);
+        IndicatorKernels.evaluate(IndicatorType.MACD, 26, walk[0], walk[1], walk[2], 150, out);
+        assertEquals(out[0], dif[0], TOLERANCE);
+        double expectedChange = (walk[2][149] - walk[2][148]) / walk[2][148] * 100.0;
+        assertEquals(expectedChange, snapshot.column(ScreenerField.parse("changePercent").orElseThrow())[0],
+            TOLERANCE);
+    }
+
+    @Test
+    @DisplayName("环形历史绕回后新建的窗口指标仍然准确，早于形成中 K 线的数据被忽略")
+    void shouldRebuildFromWrappedHistory() {
+        double[][] walk = randomWalk(150, 5L);
+        ScreenerSnapshot snapshot = new ScreenerSnapshot(List.of("000001"), List.of("平安银行"), 40, 8);
+        for (int i = 0; i < 150; i++) {
+            snapshot.apply(0, i * DAY_SECONDS, walk[0][i], walk[1][i], walk[2][i], 1_000, Double.NaN);
+        }
+        assertFalse(snapshot.apply(0, 10 * DAY_SECONDS, 1, 1, 1, 1, 1));
+
+        double[] upper = snapshot.column(ScreenerField.parse("upper(20)").orElseThrow());
+        double[] out = new double[3];
+        IndicatorKernels.evaluate(IndicatorType.BOLL, 20, walk[0], walk[1], walk[2], 150, out);
+        assertEquals(out[0], upper[0], TOLERANCE);
+        assertEquals(149 * DAY_SECONDS, snapshot.latestTime());
+    }
+
+    @Test
+    @DisplayName("条件组合按列过滤，K 线不足的槽位不满足任何条件")
+    void filtersShouldCompose() {
+        ScreenerSnapshot snapshot = new ScreenerSnapshot(
+            List.of("A", "B", "C", "D"), List.of("a", "b", "c", "d"), 30, 8);
+        for (int day = 0; day < 25; day++) {
+            for (int slot = 0; slot < 3; slot++) {
+                double volume = day == 24 && slot != 1 ? 5_000 : 1_000;
+                double close = 10 + slot + (slot == 2 ? -day * 0.1 : day * 0.1);
+                snapshot.apply(slot, day * DAY_SECONDS, close, close, close, volume, Double.NaN);
+            }
+        }
+        snapshot.apply(3, 24 * DAY_SECONDS, 9, 9, 9, 9_000, Double.NaN);
+        double[] volume = snapshot.column(ScreenerField.parse("volume").orElseThrow());
+        double[] volumeMa = snapshot.column(ScreenerField.parse("volumeMa(20)").orElseThrow());
+        double[] close = snapshot.column(ScreenerField.parse("close").orElseThrow());
+
+        BitSet candidates = snapshot.populated();
+        ScreenFilter.compare(volume, ScreenFilter.Operator.GT, volumeMa, 2.0)
+            .and(ScreenFilter.anyOf(List.of(
+                ScreenFilter.compare(close, ScreenFilter.Operator.LT, 10.0),
+                ScreenFilter.compare(close, ScreenFilter.Operator.GE, 12.0))))
+            .retain(candidates);
+
+        assertEquals(BitSet.valueOf(new long[] {0b101}), candidates);
+    }
+
+    @Test
+    @DisplayName("findColumn 不建立指标列，超过上限时淘汰最久未被查找或建立的列")
+    void findColumnShouldNotMaterializeAndShouldRefreshRecency() {
+        ScreenerSnapshot snapshot = new ScreenerSnapshot(List.of("A"), List.of("a"), 30, 2);
+        for (int day = 0; day < 25; day++) {
+            snapshot.apply(0, day * DAY_SECONDS, 10 + day, 10 + day, 10 + day, 1_000, Double.NaN);
+        }
+        ScreenerField ma5 = ScreenerField.parse("ma(5)").orElseThrow();
+        ScreenerField ma10 = ScreenerField.parse("ma(10)").orElseThrow();
+        ScreenerField ma20 = ScreenerField.parse("ma(20)").orElseThrow();
+
+        assertNull(snapshot.findColumn(ma5));
+        assertEquals(0, snapshot.indicatorColumnCount());
+        assertNotNull(snapshot.findColumn(ScreenerField.parse("close").orElseThrow()));
+
+        double[] first = snapshot.column(ma5);
+        snapshot.column(ma10);
+        assertSame(first, snapshot.findColumn(ma5));
+        snapshot.column(ma20);
+
+        assertEquals(2, snapshot.indicatorColumnCount());
+        assertSame(first, snapshot.findColumn(ma5));
+        assertNull(snapshot.findColumn(ma10));
+    }
+
+    @Test
+    @DisplayName("topK 按列值排序，NaN 排在最后")
+    void topKShouldRankPrimitiveColumn() {
+        double[] key = {3.0, Double.NaN, 9.0, 1.0, 9.0, 5.0};
+        BitSet all = new BitSet();
+        all.set(0, key.length);
+
+        assertArrayEquals(new int[] {2, 4, 5}, ScreenerSnapshot.topK(all, key, true, 3));
+        assertArrayEquals(new int[] {3, 0, 5, 2, 4, 1}, ScreenerSnapshot.topK(all, key, false, 10));
+        assertTrue(ScreenerSnapshot.topK(new BitSet(), key, true, 3).length == 0);
+    }
+
+    private static double[][] randomWalk(int length, long seed) {
+        Random random = new Random(seed);
+        double[][] bars = new double[3][length];
+        double price = 50.0;
+        for (int i = 0; i < length; i++) {
+            price = Math.max(1.0, price + random.nextGaussian());
+            double spread = Math.abs(random.nextGaussian()) * 0.5;
+            bars[0][i] = price + spread;
+            bars[1][i] = price - spread;
+            bars[2][i] = price + (random.nextDouble() - 0.5) * spread;
+        }
+        return bars;
+    }
+}
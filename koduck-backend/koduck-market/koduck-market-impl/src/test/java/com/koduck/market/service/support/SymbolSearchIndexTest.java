@@ -0,0 +1,74 @@
+package com.koduck.market.service.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SymbolSearchIndex 单元测试。
+ *
+ * @author Koduck Team
+ */
+class SymbolSearchIndexTest {
+
+    /** 测试索引。 */
+    private final SymbolSearchIndex index = SymbolSearchIndex.build(List.of(
+        new SymbolSearchIndex.Entry("600000", "浦发银行", "AShare", "STOCK"),
+        new SymbolSearchIndex.Entry("000001", "平安银行", "AShare", "STOCK"),
+        new SymbolSearchIndex.Entry("601318", "中国平安", "AShare", "STOCK"),
+        new SymbolSearchIndex.Entry("000333", "美的集团", "AShare", "STOCK"),
+        new SymbolSearchIndex.Entry("00700", "腾讯控股", "HKStock", "STOCK"),
+        new SymbolSearchIndex.Entry("01318", "中国平安", "HKStock", "STOCK")));
+
+    @Test
+    @DisplayName("拼音首字母：一级汉字按编码区间，多音字与二级汉字查补充表")
+    void pinyinInitialsShouldCoverStockNames() {
+        assertEquals("pfyh", PinyinInitials.of("浦发银行"));
+        assertEquals("cqyh", PinyinInitials.of("重庆银行"));
+        assertEquals("stxs", PinyinInitials.of("*ST 鑫晟"));
+        assertEquals("tclkj", PinyinInitials.of("ＴＣＬ科技"));
+    }
+
+    @Test
+    @DisplayName("代码前缀优先于代码包含，交易所前缀可省略")
+    void shouldMatchCodePrefix() {
+        assertEquals(List.of("600000", "601318"), symbols(index.search("6", null, 10)).subList(0, 2));
+        assertEquals(List.of("600000"), symbols(index.search("600", null, 10)));
+        assertEquals(List.of("600000"), symbols(index.search("SH600000", null, 10)));
+    }
+
+    @Test
+    @DisplayName("名称片段与拼音首字母匹配，名称前缀排在名称包含之前")
+    void shouldMatchNameAndInitials() {
+        assertEquals(List.of("000001", "01318", "601318"), symbols(index.search("平安", null, 10)));
+        assertEquals(List.of("600000"), symbols(index.search("pfyh", null, 10)));
+        assertEquals(List.of("000001", "600000"), symbols(index.search("yh", null, 10)));
+        assertEquals(List.of("000333"), symbols(index.search("美的", null, 10)));
+    }
+
+    @Test
+    @DisplayName("按市场过滤，AShare 与 a_share 视为同一市场")
+    void shouldFilterByMarket() {
+        assertEquals(List.of("01318"), symbols(index.search("zgpa", "hk_stock", 10)));
+        assertEquals(List.of("601318"), symbols(index.search("zgpa", "AShare", 10)));
+        assertEquals(4, index.size("a_share"));
+        assertTrue(index.search("zgpa", "us_stock", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("limit 截断结果，空关键词与无匹配返回空列表")
+    void shouldRespectLimit() {
+        assertEquals(1, index.search("0", null, 1).size());
+        assertTrue(index.search("  ", null, 10).isEmpty());
+        assertTrue(index.search("不存在", null, 10).isEmpty());
+        assertTrue(SymbolSearchIndex.EMPTY.search("6", null, 10).isEmpty());
+    }
+
+    private static List<String> symbols(List<SymbolSearchIndex.Entry> entries) {
+        return entries.stream().map(SymbolSearchIndex.Entry::symbol).toList();
+    }
+}
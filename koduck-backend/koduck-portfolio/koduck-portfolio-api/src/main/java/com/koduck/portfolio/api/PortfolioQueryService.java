@@ -8,7 +8,10 @@ import jakarta.validation.constraints.Positive;
 
 import com.koduck.portfolio.dto.PortfolioPositionDto;
 import com.koduck.portfolio.dto.PortfolioSummaryDto;
+import com.koduck.portfolio.dto.PositionLotsDto;
 import com.koduck.portfolio.dto.TradeDto;
+import com.koduck.portfolio.dto.TradeHistoryQuery;
+import com.koduck.portfolio.dto.TradePageDto;
 
 /**
  * 投资组合查询服务接口。
@@ -71,4 +74,32 @@ public interface PortfolioQueryService {
             @NotNull String symbol,
             @Positive int page,
             @Positive int pageSize);
+
+    /**
+     * 按游标分页查询交易历史。
+     *
+     * <p>过滤与分页都在数据库中完成，翻页代价与页深无关；
+     * 游标无效时抛出 {@link com.koduck.portfolio.exception.PortfolioException}。</p>
+     *
+     * @param userId 用户ID
+     * @param query  查询条件
+     * @return 本页交易与下一页游标
+     */
+    TradePageDto getTradeHistory(
+            @NotNull @Positive Long userId,
+            @NotNull TradeHistoryQuery query);
+
+    /**
+     * 按批次计价方法获取用户各持仓的未平仓批次与已实现盈亏。
+     *
+     * <p>由交易历史重放得到，不改变持仓的加权平均成本；
+     * 计价方法无效时抛出 {@link com.koduck.portfolio.exception.PortfolioException}。</p>
+     *
+     * @param userId          用户ID
+     * @param costBasisMethod 计价方法（FIFO/LIFO），为空时使用配置的默认方法
+     * @return 持仓批次明细
+     */
+    List<PositionLotsDto> getPositionLots(
+            @NotNull @Positive Long userId,
+            String costBasisMethod);
 }
@@ -0,0 +1,45 @@
+package com.koduck.portfolio.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 实时估值推送数据传输对象。
+ *
+ * <p>不可变对象，使用 Java Record 实现。订阅后的第一条消息为全量快照，
+ * 之后每条消息只携带自上次推送以来价格变化的持仓，汇总始终为最新值。</p>
+ *
+ * @param snapshot  是否为全量快照
+ * @param summary   组合汇总
+ * @param positions 本次推送的持仓估值
+ * @param asOf      估值时间
+ * @author Koduck Team
+ */
+public record PortfolioValuationDto(
+        boolean snapshot,
+        PortfolioSummaryDto summary,
+        List<PositionValuation> positions,
+        Instant asOf
+) {
+
+    /**
+     * 单个持仓的估值。
+     *
+     * @param market        市场代码
+     * @param symbol        股票代码
+     * @param currentPrice  当前价格
+     * @param marketValue   市值
+     * @param pnl           盈亏
+     * @param dailyPnl      当日盈亏，昨收未知时为 0
+     */
+    public record PositionValuation(
+            String market,
+            String symbol,
+            BigDecimal currentPrice,
+            BigDecimal marketValue,
+            BigDecimal pnl,
+            BigDecimal dailyPnl
+    ) {
+    }
+}
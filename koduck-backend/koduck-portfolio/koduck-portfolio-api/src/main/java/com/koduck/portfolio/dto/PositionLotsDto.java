@@ -0,0 +1,47 @@
+package com.koduck.portfolio.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 持仓批次明细数据传输对象。
+ *
+ * <p>不可变对象，使用 Java Record 实现。由交易历史按指定计价方法重放得到，
+ * 已清仓但有已实现盈亏的持仓同样返回，{@code lots} 为空。</p>
+ *
+ * @param market          市场代码
+ * @param symbol          股票代码
+ * @param costBasisMethod 计价方法（FIFO/LIFO）
+ * @param openQuantity    未平仓数量
+ * @param openCost        未平仓成本
+ * @param averageCost     未平仓平均成本
+ * @param realizedPnl     已实现盈亏
+ * @param lots            未平仓批次，按买入顺序
+ * @author Koduck Team
+ */
+public record PositionLotsDto(
+        String market,
+        String symbol,
+        String costBasisMethod,
+        BigDecimal openQuantity,
+        BigDecimal openCost,
+        BigDecimal averageCost,
+        BigDecimal realizedPnl,
+        List<LotDto> lots
+) {
+
+    /**
+     * 未平仓批次。
+     *
+     * @param quantity   剩余数量
+     * @param price      买入价格
+     * @param acquiredAt 买入时间
+     */
+    public record LotDto(
+            BigDecimal quantity,
+            BigDecimal price,
+            LocalDateTime acquiredAt
+    ) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.koduck.portfolio.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 交易历史查询条件。
+ *
+ * <p>不可变对象，使用 Java Record 实现。为 {@code null} 的条件不参与过滤。</p>
+ *
+ * @param symbol    股票代码
+ * @param tradeType 交易类型（BUY/SELL）
+ * @param from      交易时间下界（含）
+ * @param to        交易时间上界（含）
+ * @param cursor    上一页返回的 {@link TradePageDto#nextCursor()}，首页为 {@code null}
+ * @param pageSize  每页大小，不大于 0 时使用默认值
+ * @author Koduck Team
+ */
+public record TradeHistoryQuery(
+        String symbol,
+        String tradeType,
+        LocalDateTime from,
+        LocalDateTime to,
+        String cursor,
+        int pageSize
+) {
+
+    /**
+     * 不带过滤条件的首页查询。
+     *
+     * @param pageSize 每页大小
+     * @return 查询条件
+     */
+    public static TradeHistoryQuery firstPage(int pageSize) {
+        return new TradeHistoryQuery(null, null, null, null, null, pageSize);
+    }
+}
@@ -0,0 +1,27 @@
+package com.koduck.portfolio.dto;
+
+import java.util.List;
+
+/**
+ * 交易历史分页结果。
+ *
+ * <p>不可变对象，使用 Java Record 实现。游标不透明，只能原样传回下一次查询。</p>
+ *
+ * @param items      本页交易，按交易时间、交易ID倒序
+ * @param nextCursor 下一页游标，没有更多数据时为 {@code null}
+ * @author Koduck Team
+ */
+public record TradePageDto(
+        List<TradeDto> items,
+        String nextCursor
+) {
+
+    /**
+     * 是否还有下一页。
+     *
+     * @return 有下一页时返回 true
+     */
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
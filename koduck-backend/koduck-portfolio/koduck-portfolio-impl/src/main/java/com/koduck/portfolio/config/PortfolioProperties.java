@@ -34,6 +34,9 @@ public class PortfolioProperties {
     /** 价格服务配置。 */
     private PriceConfig price = new PriceConfig();
 
+    /** 实时估值配置。 */
+    private ValuationConfig valuation = new ValuationConfig();
+
     /**
      * 缓存配置。
      */
@@ -58,6 +61,8 @@ public class PortfolioProperties {
         private int pricePrecision = 4;
         /** 数量精度（小数位）。 */
         private int quantityPrecision = 2;
+        /** 批次核算默认计价方法（FIFO/LIFO）。 */
+        private String costBasisMethod = "FIFO";
     }
 
     /**
@@ -70,4 +75,17 @@ public class PortfolioProperties {
         /** 缓存刷新间隔（秒）。 */
         private int refreshInterval = 30;
     }
+
+    /**
+     * 实时估值配置。
+     */
+    @Data
+    public static class ValuationConfig {
+        /** 是否开启实时估值推送。 */
+        private boolean enabled = true;
+        /** 推送估值变化的间隔（毫秒），同一用户在一个间隔内最多推送一次。 */
+        private long pushIntervalMs = 1000;
+        /** 用户订阅目的地，客户端订阅 {@code /user} 加该路径。 */
+        private String destination = "/queue/portfolio";
+    }
 }
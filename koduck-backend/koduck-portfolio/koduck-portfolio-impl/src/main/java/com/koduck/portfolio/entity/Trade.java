@@ -28,7 +28,8 @@ import lombok.experimental.SuperBuilder;
 @Entity
 @Table(name = "trades",
        indexes = {
-           @Index(name = "idx_trade_user", columnList = "user_id"),
+           @Index(name = "idx_trade_user_time_id", columnList = "user_id, trade_time DESC, id DESC"),
+           @Index(name = "idx_trade_user_symbol_time_id", columnList = "user_id, symbol, trade_time DESC, id DESC"),
            @Index(name = "idx_trade_symbol", columnList = "market, symbol"),
            @Index(name = "idx_trade_time", columnList = "trade_time")
        }
@@ -0,0 +1,31 @@
+package com.koduck.portfolio.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.koduck.portfolio.entity.TradeType;
+
+/**
+ * 批次重放所需的交易投影。
+ *
+ * <p>由 JPQL 构造表达式直接生成，不进入持久化上下文，流式读取大量交易时内存占用恒定。</p>
+ *
+ * @param userId    用户 ID
+ * @param market    市场
+ * @param symbol    股票代码
+ * @param tradeType 交易类型
+ * @param quantity  数量
+ * @param price     价格
+ * @param tradeTime 交易时间
+ * @author Koduck Team
+ */
+public record TradeReplayRow(
+        Long userId,
+        String market,
+        String symbol,
+        TradeType tradeType,
+        BigDecimal quantity,
+        BigDecimal price,
+        LocalDateTime tradeTime
+) {
+}
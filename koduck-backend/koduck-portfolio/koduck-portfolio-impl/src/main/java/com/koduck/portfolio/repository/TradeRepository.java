@@ -3,13 +3,19 @@ package com.koduck.portfolio.repository;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
+import jakarta.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.koduck.portfolio.entity.Trade;
+import com.koduck.portfolio.entity.TradeType;
 
 /**
  * 交易记录操作仓库，提供交易数据的数据库访问。
@@ -19,6 +25,10 @@ import com.koduck.portfolio.entity.Trade;
 @Repository
 public interface TradeRepository extends JpaRepository<Trade, Long> {
 
+    /** 批次重放投影的 JPQL 构造表达式。 */
+    String REPLAY_ROW_SELECT = "SELECT new com.koduck.portfolio.repository.TradeReplayRow("
+            + "t.userId, t.market, t.symbol, t.tradeType, t.quantity, t.price, t.tradeTime) FROM Trade t ";
+
     /**
      * 查询用户的所有交易，按交易时间降序排列。
      *
@@ -27,6 +37,57 @@ public interface TradeRepository extends JpaRepository<Trade, Long> {
      */
     List<Trade> findByUserIdOrderByTradeTimeDesc(Long userId);
 
+    /**
+     * 分页查询用户的交易，按交易时间、交易ID降序排列。
+     *
+     * @param userId   用户 ID
+     * @param pageable 分页参数
+     * @return 本页交易
+     */
+    List<Trade> findByUserIdOrderByTradeTimeDescIdDesc(Long userId, Pageable pageable);
+
+    /**
+     * 分页查询用户指定股票代码的交易（跨市场），按交易时间、交易ID降序排列。
+     *
+     * @param userId   用户 ID
+     * @param symbol   股票代码
+     * @param pageable 分页参数
+     * @return 本页交易
+     */
+    List<Trade> findByUserIdAndSymbolOrderByTradeTimeDescIdDesc(Long userId, String symbol, Pageable pageable);
+
+    /**
+     * 键集分页查询交易历史，按交易时间、交易ID降序排列。
+     *
+     * <p>只返回（交易时间, 交易ID）严格小于（{@code before}, {@code beforeId}）的交易：
+     * {@code tradeTime <= before} 是索引范围条件，与 {@code before} 同一时刻的交易再按ID过滤。
+     * 首页传入时间上界与 {@link Long#MAX_VALUE}。{@code symbol}、{@code tradeType} 为 {@code null} 时不过滤。</p>
+     *
+     * @param userId    用户 ID
+     * @param symbol    股票代码
+     * @param tradeType 交易类型
+     * @param from      交易时间下界（含）
+     * @param before    游标交易时间
+     * @param beforeId  游标交易ID
+     * @param pageable  分页参数，只使用页大小
+     * @return 本页交易
+     */
+    @Query("SELECT t FROM Trade t WHERE t.userId = :userId "
+            + "AND (:symbol IS NULL OR t.symbol = :symbol) "
+            + "AND (:tradeType IS NULL OR t.tradeType = :tradeType) "
+            + "AND t.tradeTime >= :from "
+            + "AND t.tradeTime <= :before "
+            + "AND (t.tradeTime < :before OR t.id < :beforeId) "
+            + "ORDER BY t.tradeTime DESC, t.id DESC")
+    List<Trade> findTradeHistoryPage(
+            @Param("userId") Long userId,
+            @Param("symbol") String symbol,
+            @Param("tradeType") TradeType tradeType,
+            @Param("from") LocalDateTime from,
+            @Param("before") LocalDateTime before,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable);
+
     /**
      * 查询用户指定股票的交易。
      *
@@ -95,4 +156,24 @@ public interface TradeRepository extends JpaRepository<Trade, Long> {
             @Param("userId") Long userId,
             @Param("market") String market,
             @Param("symbol") String symbol);
+
+    /**
+     * 按交易时间、交易ID升序查询用户的全部交易投影，用于重建批次。
+     *
+     * @param userId 用户 ID
+     * @return 交易投影
+     */
+    @Query(REPLAY_ROW_SELECT + "WHERE t.userId = :userId ORDER BY t.tradeTime, t.id")
+    List<TradeReplayRow> findReplayRowsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 按用户、交易时间、交易ID升序流式读取全部交易投影，用于批量重建批次。
+     *
+     * <p>必须在只读事务内消费并关闭返回的流；驱动按批拉取，不会一次性加载全表。</p>
+     *
+     * @return 交易投影流
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query(REPLAY_ROW_SELECT + "ORDER BY t.userId, t.tradeTime, t.id")
+    Stream<TradeReplayRow> streamAllReplayRows();
 }
@@ -0,0 +1,37 @@
+package com.koduck.portfolio.service;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.koduck.portfolio.dto.PositionLotsDto;
+import com.koduck.portfolio.service.support.CostBasisMethod;
+import com.koduck.portfolio.service.support.LotReplay;
+
+/**
+ * 批次成本核算服务。
+ *
+ * <p>从交易历史重建每个持仓的未平仓批次，按 FIFO/LIFO 匹配卖出并计算已实现盈亏。
+ * 持仓表中的加权平均成本不受影响。</p>
+ *
+ * @author Koduck Team
+ */
+public interface LotAccountingService {
+
+    /**
+     * 重放用户的交易历史，返回每个持仓的批次明细。
+     *
+     * @param userId 用户 ID
+     * @param method 计价方法，为 {@code null} 时使用配置的默认方法
+     * @return 持仓批次明细，按首次交易顺序
+     */
+    List<PositionLotsDto> getPositionLots(Long userId, CostBasisMethod method);
+
+    /**
+     * 单遍流式重放全部用户的交易历史，用于批量重算。
+     *
+     * @param method 计价方法，为 {@code null} 时使用配置的默认方法
+     * @param sink   每个用户重放完成后的结果接收方
+     * @return 重放的用户数
+     */
+    int replayAll(CostBasisMethod method, Consumer<LotReplay.UserLots> sink);
+}
@@ -0,0 +1,71 @@
+package com.koduck.portfolio.service;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import com.koduck.portfolio.dto.PortfolioValuationDto;
+
+/**
+ * 实时组合估值服务接口。
+ *
+ * <p>只为订阅了估值推送的用户常驻持仓簿；行情到达时只重算持有该股票的组合，
+ * 变化的估值按推送间隔合并后发给用户。</p>
+ *
+ * @author Koduck Team
+ */
+public interface PortfolioValuationService {
+
+    /**
+     * 开始跟踪用户的组合；同一用户的首个会话加载持仓簿。
+     *
+     * @param userId    用户 ID
+     * @param sessionId WebSocket 会话 ID
+     */
+    void track(Long userId, String sessionId);
+
+    /**
+     * 结束会话的跟踪；用户的最后一个会话结束时释放持仓簿。
+     *
+     * @param sessionId WebSocket 会话 ID
+     */
+    void untrack(String sessionId);
+
+    /**
+     * 持仓变化后重新加载用户的持仓簿；处于事务中时在提交后执行，未跟踪的用户忽略。
+     *
+     * @param userId 用户 ID
+     */
+    void reload(Long userId);
+
+    /**
+     * 按持仓 ID 重新加载其所属用户的持仓簿，未跟踪的持仓忽略。
+     *
+     * @param positionId 持仓 ID
+     */
+    void reloadByPosition(Long positionId);
+
+    /**
+     * 合并一条价格更新。
+     *
+     * @param symbol        股票代码
+     * @param price         最新价
+     * @param previousClose 昨收价，未知时为 {@code null}
+     * @return 估值发生变化的组合数
+     */
+    int onPrice(String symbol, BigDecimal price, BigDecimal previousClose);
+
+    /**
+     * 读取用户组合的全量估值。
+     *
+     * @param userId 用户 ID
+     * @return 全量估值，用户未被跟踪时为空
+     */
+    Optional<PortfolioValuationDto> snapshot(Long userId);
+
+    /**
+     * 把自上次推送以来估值变化的组合推送给各自用户。
+     *
+     * @return 推送的组合数
+     */
+    int flush();
+}
@@ -0,0 +1,79 @@
+package com.koduck.portfolio.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.koduck.portfolio.config.PortfolioProperties;
+import com.koduck.portfolio.dto.PositionLotsDto;
+import com.koduck.portfolio.repository.TradeReplayRow;
+import com.koduck.portfolio.repository.TradeRepository;
+import com.koduck.portfolio.service.LotAccountingService;
+import com.koduck.portfolio.service.SymbolKey;
+import com.koduck.portfolio.service.support.CostBasisMethod;
+import com.koduck.portfolio.service.support.LotBook;
+import com.koduck.portfolio.service.support.LotReplay;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 批次成本核算服务实现。
+ *
+ * @author Koduck Team
+ * @see LotAccountingService
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LotAccountingServiceImpl implements LotAccountingService {
+
+    private final TradeRepository tradeRepository;
+    private final PortfolioProperties properties;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PositionLotsDto> getPositionLots(Long userId, CostBasisMethod method) {
+        CostBasisMethod effective = resolve(method);
+        log.debug("Replaying lots for user: {}, method: {}", userId, effective);
+        List<PositionLotsDto> result = new ArrayList<>();
+        LotReplay replay = new LotReplay(effective, lots -> lots.books().forEach(
+                (key, book) -> result.add(toDto(key, book))));
+        tradeRepository.findReplayRowsByUserId(userId).forEach(replay::accept);
+        replay.finish();
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int replayAll(CostBasisMethod method, Consumer<LotReplay.UserLots> sink) {
+        CostBasisMethod effective = resolve(method);
+        long start = System.nanoTime();
+        LotReplay replay = new LotReplay(effective, sink);
+        try (Stream<TradeReplayRow> rows = tradeRepository.streamAllReplayRows()) {
+            rows.forEach(replay::accept);
+        }
+        int users = replay.finish();
+        log.info("Replayed {} trades of {} users with {} in {} ms", replay.trades(), users, effective,
+                (System.nanoTime() - start) / 1_000_000);
+        return users;
+    }
+
+    private CostBasisMethod resolve(CostBasisMethod method) {
+        return method != null
+                ? method
+                : CostBasisMethod.of(properties.getCalculation().getCostBasisMethod(), CostBasisMethod.FIFO);
+    }
+
+    private static PositionLotsDto toDto(SymbolKey key, LotBook book) {
+        List<PositionLotsDto.LotDto> lots = book.openLots().stream()
+                .map(lot -> new PositionLotsDto.LotDto(lot.quantity(), lot.price(), lot.acquiredAt()))
+                .toList();
+        return new PositionLotsDto(key.market(), key.symbol(), book.method().name(), book.openQuantity(),
+                book.openCost(), book.averageCost(), book.realizedPnl(), lots);
+    }
+}
@@ -17,6 +17,7 @@ import com.koduck.portfolio.entity.Trade;
 import com.koduck.portfolio.entity.TradeType;
 import com.koduck.portfolio.repository.PortfolioPositionRepository;
 import com.koduck.portfolio.repository.TradeRepository;
+import com.koduck.portfolio.service.PortfolioValuationService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,7 +25,8 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 投资组合命令服务实现类。
  *
- * <p>实现 {@link PortfolioCommandService} 接口，提供投资组合写操作。</p>
+ * <p>实现 {@link PortfolioCommandService} 接口，提供投资组合写操作。
+ * 持仓变化后通知 {@link PortfolioValuationService} 在事务提交后重新加载实时估值。</p>
  *
  * @author Koduck Team
  * @see PortfolioCommandService
@@ -42,6 +44,7 @@ public class PortfolioCommandServiceImpl implements PortfolioCommandService {
 
     private final PortfolioPositionRepository positionRepository;
     private final TradeRepository tradeRepository;
+    private final PortfolioValuationService valuationService;
 
     @Override
     @Transactional
@@ -65,6 +68,7 @@ public class PortfolioCommandServiceImpl implements PortfolioCommandService {
             existing.setQuantity(totalQuantity);
             existing.setAvgCost(newAvgCost);
             PortfolioPosition saved = positionRepository.save(existing);
+            valuationService.reload(userId);
             log.info("Updated position: id={}, user={}, symbol={}", saved.getId(), userId, symbol);
             return saved.getId();
         }
@@ -80,6 +84,7 @@ public class PortfolioCommandServiceImpl implements PortfolioCommandService {
 
         PortfolioPosition saved = positionRepository.save(
                 Objects.requireNonNull(position, POSITION_NULL_MESSAGE));
+        valuationService.reload(userId);
         log.info("Added position: id={}, user={}, symbol={}", saved.getId(), userId, symbol);
         return saved.getId();
     }
@@ -101,6 +106,7 @@ public class PortfolioCommandServiceImpl implements PortfolioCommandService {
         position.setQuantity(quantity);
         position.setAvgCost(avgCost);
         positionRepository.save(position);
+        valuationService.reloadByPosition(positionId);
         log.info("Updated position: id={}", positionId);
         return true;
     }
@@ -117,6 +123,7 @@ public class PortfolioCommandServiceImpl implements PortfolioCommandService {
         }
 
         positionRepository.deleteById(positionId);
+        valuationService.reloadByPosition(positionId);
         log.info("Deleted position: {}", positionId);
         return true;
     }
@@ -149,6 +156,7 @@ public class PortfolioCommandServiceImpl implements PortfolioCommandService {
 
         // Update position based on trade
         updatePositionFromTrade(userId, market, symbol, type, quantity, price);
+        valuationService.reload(userId);
 
         log.info("Recorded trade: id={}, user={}, symbol={}", savedTrade.getId(), userId, symbol);
         return savedTrade.getId();
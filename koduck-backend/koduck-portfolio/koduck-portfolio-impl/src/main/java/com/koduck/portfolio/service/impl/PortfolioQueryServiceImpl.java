@@ -2,10 +2,13 @@ package com.koduck.portfolio.service.impl;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import com.koduck.common.constants.MarketConstants;
@@ -13,12 +16,20 @@ import com.koduck.portfolio.api.PortfolioQueryService;
 import com.koduck.portfolio.config.PortfolioCacheConfig;
 import com.koduck.portfolio.dto.PortfolioPositionDto;
 import com.koduck.portfolio.dto.PortfolioSummaryDto;
+import com.koduck.portfolio.dto.PositionLotsDto;
 import com.koduck.portfolio.dto.TradeDto;
+import com.koduck.portfolio.dto.TradeHistoryQuery;
+import com.koduck.portfolio.dto.TradePageDto;
 import com.koduck.portfolio.entity.PortfolioPosition;
 import com.koduck.portfolio.entity.Trade;
+import com.koduck.portfolio.entity.TradeType;
+import com.koduck.portfolio.exception.PortfolioException;
 import com.koduck.portfolio.repository.PortfolioPositionRepository;
 import com.koduck.portfolio.repository.TradeRepository;
+import com.koduck.portfolio.service.LotAccountingService;
 import com.koduck.portfolio.service.PortfolioPriceService;
+import com.koduck.portfolio.service.support.CostBasisMethod;
+import com.koduck.portfolio.service.support.TradeCursor;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -45,9 +56,19 @@ public class PortfolioQueryServiceImpl implements PortfolioQueryService {
     /** 默认页大小。 */
     private static final int DEFAULT_PAGE_SIZE = 20;
 
+    /** 最大页大小。 */
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /** 未指定下界时的交易时间下界。 */
+    private static final LocalDateTime EARLIEST_TRADE_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /** 未指定上界时的交易时间上界。 */
+    private static final LocalDateTime LATEST_TRADE_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     private final PortfolioPositionRepository positionRepository;
     private final TradeRepository tradeRepository;
     private final PortfolioPriceService priceService;
+    private final LotAccountingService lotAccountingService;
 
     @Override
     @Cacheable(value = PortfolioCacheConfig.CACHE_PORTFOLIO_SUMMARY, key = "#userId")
@@ -114,13 +135,8 @@ public class PortfolioQueryServiceImpl implements PortfolioQueryService {
     @Override
     public List<TradeDto> getTrades(Long userId, int page, int pageSize) {
         log.debug("Getting trades for user: {}, page: {}, pageSize: {}", userId, page, pageSize);
-        int size = pageSize > 0 ? pageSize : DEFAULT_PAGE_SIZE;
-        int offset = (Math.max(page, 1) - 1) * size;
-
-        List<Trade> trades = tradeRepository.findByUserIdOrderByTradeTimeDesc(userId);
-        return trades.stream()
-                .skip(offset)
-                .limit(size)
+        return tradeRepository.findByUserIdOrderByTradeTimeDescIdDesc(userId, pageRequest(page, pageSize))
+                .stream()
                 .map(this::convertTradeToDto)
                 .toList();
     }
@@ -129,17 +145,87 @@ public class PortfolioQueryServiceImpl implements PortfolioQueryService {
     public List<TradeDto> getTradesBySymbol(Long userId, String symbol, int page, int pageSize) {
         log.debug("Getting trades for user: {}, symbol: {}, page: {}, pageSize: {}", 
                 userId, symbol, page, pageSize);
-        int size = pageSize > 0 ? pageSize : DEFAULT_PAGE_SIZE;
-        int offset = (Math.max(page, 1) - 1) * size;
-
-        List<Trade> trades = tradeRepository.findByUserIdAndSymbolOrderByTradeTimeDesc(userId, symbol);
-        return trades.stream()
-                .skip(offset)
-                .limit(size)
+        return tradeRepository.findByUserIdAndSymbolOrderByTradeTimeDescIdDesc(
+                        userId, symbol, pageRequest(page, pageSize))
+                .stream()
                 .map(this::convertTradeToDto)
                 .toList();
     }
 
+    @Override
+    public TradePageDto getTradeHistory(Long userId, TradeHistoryQuery query) {
+        log.debug("Getting trade history for user: {}, query: {}", userId, query);
+        int size = historyPageSize(query.pageSize());
+        LocalDateTime from = query.from() != null ? query.from() : EARLIEST_TRADE_TIME;
+        LocalDateTime before = query.to() != null ? query.to() : LATEST_TRADE_TIME;
+        Long beforeId = Long.MAX_VALUE;
+        if (query.cursor() != null && !query.cursor().isBlank()) {
+            TradeCursor cursor = decodeCursor(query.cursor());
+            if (!cursor.tradeTime().isAfter(before)) {
+                before = cursor.tradeTime();
+                beforeId = cursor.id();
+            }
+        }
+        String symbol = query.symbol() == null || query.symbol().isBlank() ? null : query.symbol();
+
+        // 多取一条判断是否还有下一页
+        List<Trade> trades = tradeRepository.findTradeHistoryPage(userId, symbol, tradeType(query.tradeType()),
+                from, before, beforeId, PageRequest.ofSize(size + 1));
+        boolean hasMore = trades.size() > size;
+        List<Trade> page = hasMore ? trades.subList(0, size) : trades;
+        String nextCursor = null;
+        if (hasMore) {
+            Trade last = page.get(page.size() - 1);
+            nextCursor = new TradeCursor(last.getTradeTime(), last.getId()).encode();
+        }
+        return new TradePageDto(page.stream().map(this::convertTradeToDto).toList(), nextCursor);
+    }
+
+    @Override
+    public List<PositionLotsDto> getPositionLots(Long userId, String costBasisMethod) {
+        log.debug("Getting position lots for user: {}, method: {}", userId, costBasisMethod);
+        CostBasisMethod method;
+        try {
+            method = CostBasisMethod.of(costBasisMethod, null);
+        }
+        catch (IllegalArgumentException e) {
+            throw new PortfolioException("Unknown cost basis method: " + costBasisMethod, e);
+        }
+        return lotAccountingService.getPositionLots(userId, method);
+    }
+
+    /**
+     * Build an offset page request for the legacy page-number APIs.
+     */
+    private static PageRequest pageRequest(int page, int pageSize) {
+        return PageRequest.of(Math.max(page, 1) - 1, pageSize > 0 ? pageSize : DEFAULT_PAGE_SIZE);
+    }
+
+    private static int historyPageSize(int pageSize) {
+        return pageSize > 0 ? Math.min(pageSize, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+    }
+
+    private static TradeCursor decodeCursor(String cursor) {
+        try {
+            return TradeCursor.decode(cursor);
+        }
+        catch (IllegalArgumentException e) {
+            throw new PortfolioException("Invalid trade history cursor", e);
+        }
+    }
+
+    private static TradeType tradeType(String tradeType) {
+        if (tradeType == null || tradeType.isBlank()) {
+            return null;
+        }
+        try {
+            return TradeType.valueOf(tradeType.trim().toUpperCase(Locale.ROOT));
+        }
+        catch (IllegalArgumentException e) {
+            throw new PortfolioException("Unknown trade type: " + tradeType, e);
+        }
+    }
+
     /**
      * Calculate daily PnL for a single position.
      */
@@ -0,0 +1,422 @@
+package com.koduck.portfolio.service.impl;
+
+import java.math.BigDecimal;
+import java.security.Principal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import com.koduck.common.constants.MarketConstants;
+import com.koduck.market.api.SymbolInterestSource;
+import com.koduck.market.event.MarketDataUpdatedEvent;
+import com.koduck.portfolio.config.PortfolioProperties;
+import com.koduck.portfolio.dto.PortfolioValuationDto;
+import com.koduck.portfolio.entity.PortfolioPosition;
+import com.koduck.portfolio.repository.PortfolioPositionRepository;
+import com.koduck.portfolio.service.PortfolioPriceService;
+import com.koduck.portfolio.service.PortfolioValuationService;
+import com.koduck.portfolio.service.SymbolKey;
+import com.koduck.portfolio.service.support.PositionBook;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 实时组合估值服务实现。
+ *
+ * <p>用户订阅 {@code /user/queue/portfolio} 后加载其持仓与价格，建立常驻 {@link PositionBook}，
+ * 并登记到"股票代码 → 持有用户"索引。{@link MarketDataUpdatedEvent} 到达时只遍历该股票的持有用户，
+ * 单条行情的代价与在线用户总数无关。估值变化的用户记入待推送集合，定时任务按推送间隔
+ * 把变化的持仓与最新汇总发给用户，同一用户在一个间隔内最多收到一条消息。</p>
+ *
+ * <p>行情事件按股票代码匹配持仓，不区分市场。持仓增删改后由 {@link PortfolioCommandServiceImpl}
+ * 在事务提交后触发重新加载；最后一个会话断开或取消订阅时释放持仓簿。</p>
+ *
+ * <p>估值只在用户连接所在的实例内维护，该实例必须收到持仓股票的全部行情：未开启按股票路由时行情事件来自
+ * 本节点的广播队列；开启路由时本服务作为 {@link SymbolInterestSource} 声明被跟踪用户持有的股票，
+ * 由路由维护器绑定到本节点队列。</p>
+ *
+ * @author Koduck Team
+ */
+@Slf4j
+@Service
+public class PortfolioValuationServiceImpl implements PortfolioValuationService, SymbolInterestSource {
+
+    /** 用户目的地前缀。 */
+    private static final String USER_DESTINATION_PREFIX = "/user";
+
+    /** 持仓仓库。 */
+    private final PortfolioPositionRepository positionRepository;
+
+    /** 价格服务。 */
+    private final PortfolioPriceService priceService;
+
+    /** 消息发送模板，未启用 WebSocket 时不可用。 */
+    private final ObjectProvider<SimpMessageSendingOperations> messagingTemplate;
+
+    /** 估值配置。 */
+    private final PortfolioProperties.ValuationConfig config;
+
+    /** 用户 ID 到持仓簿。 */
+    private final Map<Long, PositionBook> books = new ConcurrentHashMap<>();
+
+    /** 股票代码到持有该股票的被跟踪用户。 */
+    private final Map<String, Set<Long>> holders = new ConcurrentHashMap<>();
+
+    /** 被跟踪用户的持仓 ID。 */
+    private final Map<Long, List<Long>> userPositions = new ConcurrentHashMap<>();
+
+    /** 持仓 ID 到所属用户，仅包含被跟踪用户。 */
+    private final Map<Long, Long> positionOwners = new ConcurrentHashMap<>();
+
+    /** 会话 ID 到用户 ID。 */
+    private final Map<String, Long> sessions = new ConcurrentHashMap<>();
+
+    /** 会话 ID 到估值订阅 ID。 */
+    private final Map<String, String> subscriptions = new ConcurrentHashMap<>();
+
+    /** 用户 ID 到其会话。 */
+    private final Map<Long, Set<String>> userSessions = new ConcurrentHashMap<>();
+
+    /** 估值变化、等待推送的用户。 */
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 构造实时估值服务。
+     *
+     * @param positionRepository  持仓仓库
+     * @param priceService        价格服务
+     * @param messagingTemplate   消息发送模板
+     * @param portfolioProperties 组合模块配置
+     */
+    public PortfolioValuationServiceImpl(PortfolioPositionRepository positionRepository,
+                                         PortfolioPriceService priceService,
+                                         ObjectProvider<SimpMessageSendingOperations> messagingTemplate,
+                                         PortfolioProperties portfolioProperties) {
+        this.positionRepository = positionRepository;
+        this.priceService = priceService;
+        this.messagingTemplate = messagingTemplate;
+        this.config = portfolioProperties.getValuation();
+    }
+
+    @Override
+    public void track(Long userId, String sessionId) {
+        if (!config.isEnabled() || userId == null || sessionId == null) {
+            return;
+        }
+        Long previous = sessions.put(sessionId, userId);
+        if (previous != null && !previous.equals(userId)) {
+            detach(previous, sessionId);
+        }
+        userSessions.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(sessionId);
+        if (!books.containsKey(userId)) {
+            refresh(userId);
+        }
+        else {
+            snapshot(userId).ifPresent(valuation -> send(userId, valuation));
+        }
+    }
+
+    @Override
+    public void untrack(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        subscriptions.remove(sessionId);
+        Long userId = sessions.remove(sessionId);
+        if (userId != null) {
+            detach(userId, sessionId);
+        }
+    }
+
+    @Override
+    public void reload(Long userId) {
+        if (userId == null || !userSessions.containsKey(userId)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh(userId);
+                }
+            });
+        }
+        else {
+            refresh(userId);
+        }
+    }
+
+    @Override
+    public void reloadByPosition(Long positionId) {
+        if (positionId == null) {
+            return;
+        }
+        Long userId = positionOwners.get(positionId);
+        if (userId != null) {
+            reload(userId);
+        }
+    }
+
+    @Override
+    public int onPrice(String symbol, BigDecimal price, BigDecimal previousClose) {
+        if (!config.isEnabled() || symbol == null || price == null) {
+            return 0;
+        }
+        Set<Long> users = holders.get(symbol);
+        if (users == null) {
+            return 0;
+        }
+        int changed = 0;
+        for (Long userId : users) {
+            PositionBook book = books.get(userId);
+            if (book != null && book.applyPrice(symbol, price, previousClose)) {
+                dirty.add(userId);
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public Optional<PortfolioValuationDto> snapshot(Long userId) {
+        PositionBook book = userId == null ? null : books.get(userId);
+        return book == null ? Optional.empty() : Optional.of(book.snapshot(Instant.now()));
+    }
+
+    @Override
+    public Set<String> interestedSymbols() {
+        return config.isEnabled() ? Set.copyOf(holders.keySet()) : Set.of();
+    }
+
+    /**
+     * 定时推送估值变化。
+     */
+    @Scheduled(fixedDelayString = "${koduck.portfolio.valuation.push-interval-ms:1000}")
+    public void scheduledFlush() {
+        if (!config.isEnabled() || dirty.isEmpty()) {
+            return;
+        }
+        try {
+            flush();
+        }
+        catch (RuntimeException e) {
+            log.warn("Portfolio valuation push failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public int flush() {
+        Instant asOf = Instant.now();
+        int pushed = 0;
+        for (Iterator<Long> iterator = dirty.iterator(); iterator.hasNext();) {
+            Long userId = iterator.next();
+            iterator.remove();
+            PositionBook book = books.get(userId);
+            PortfolioValuationDto delta = book == null ? null : book.drainChanges(asOf);
+            if (delta != null && send(userId, delta)) {
+                pushed++;
+            }
+        }
+        return pushed;
+    }
+
+    /**
+     * 合并行情事件。
+     *
+     * @param event 行情数据更新事件
+     */
+    @EventListener
+    public void onMarketDataUpdated(MarketDataUpdatedEvent event) {
+        onPrice(event.getSymbol(), event.getCurrentPrice(), event.getPreviousClose());
+    }
+
+    /**
+     * 用户订阅估值目的地时开始跟踪。
+     *
+     * @param event 会话订阅事件
+     */
+    @EventListener
+    public void onSessionSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        if (!(USER_DESTINATION_PREFIX + config.getDestination()).equals(accessor.getDestination())) {
+            return;
+        }
+        Long userId = userIdOf(event.getUser());
+        String sessionId = accessor.getSessionId();
+        if (userId == null || sessionId == null) {
+            log.debug("Ignoring portfolio valuation subscription without an authenticated user");
+            return;
+        }
+        if (accessor.getSubscriptionId() != null) {
+            subscriptions.put(sessionId, accessor.getSubscriptionId());
+        }
+        track(userId, sessionId);
+    }
+
+    /**
+     * 用户取消估值订阅时结束跟踪。
+     *
+     * @param event 会话取消订阅事件
+     */
+    @EventListener
+    public void onSessionUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        if (sessionId != null && subscriptionId != null && subscriptions.remove(sessionId, subscriptionId)) {
+            untrack(sessionId);
+        }
+    }
+
+    /**
+     * 会话断开时结束跟踪。
+     *
+     * @param event 会话断开事件
+     */
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        untrack(event.getSessionId());
+    }
+
+    private void detach(Long userId, String sessionId) {
+        Set<String> remaining = userSessions.computeIfPresent(userId, (id, userSessionIds) -> {
+            userSessionIds.remove(sessionId);
+            return userSessionIds.isEmpty() ? null : userSessionIds;
+        });
+        if (remaining == null) {
+            release(userId);
+        }
+    }
+
+    private void refresh(Long userId) {
+        try {
+            PositionBook book = load(userId);
+            if (book != null) {
+                send(userId, book.snapshot(Instant.now()));
+            }
+        }
+        catch (RuntimeException e) {
+            log.warn("Failed to load portfolio valuation for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private PositionBook load(Long userId) {
+        List<PortfolioPosition> positions = positionRepository.findByUserId(userId);
+        List<SymbolKey> keys = new ArrayList<>(positions.size());
+        List<Long> positionIds = new ArrayList<>(positions.size());
+        for (PortfolioPosition position : positions) {
+            keys.add(new SymbolKey(position.getMarket(), position.getSymbol()));
+            if (position.getId() != null) {
+                positionIds.add(position.getId());
+            }
+        }
+        Map<String, BigDecimal> prices = keys.isEmpty()
+                ? Map.of()
+                : priceService.getLatestPrices(keys, MarketConstants.DEFAULT_TIMEFRAME);
+        Map<String, BigDecimal> previousCloses = keys.isEmpty()
+                ? Map.of()
+                : priceService.getPreviousClosePrices(keys, MarketConstants.DEFAULT_TIMEFRAME);
+        PositionBook book = new PositionBook();
+        for (PortfolioPosition position : positions) {
+            if (position.getQuantity() == null || position.getAvgCost() == null) {
+                continue;
+            }
+            String key = new SymbolKey(position.getMarket(), position.getSymbol()).toKey();
+            book.add(position.getMarket(), position.getSymbol(), position.getQuantity(), position.getAvgCost(),
+                    prices.get(key), previousCloses.get(key));
+        }
+        if (!userSessions.containsKey(userId)) {
+            return null;
+        }
+        install(userId, book, positionIds);
+        log.debug("Portfolio valuation loaded: user={}, positions={}", userId, positionIds.size());
+        return book;
+    }
+
+    private void install(Long userId, PositionBook book, List<Long> positionIds) {
+        PositionBook previous = books.put(userId, book);
+        Set<String> symbols = book.symbols();
+        if (previous != null) {
+            for (String symbol : previous.symbols()) {
+                if (!symbols.contains(symbol)) {
+                    removeHolder(symbol, userId);
+                }
+            }
+        }
+        for (String symbol : symbols) {
+            holders.compute(symbol, (key, users) -> {
+                Set<Long> updated = users == null ? ConcurrentHashMap.newKeySet() : users;
+                updated.add(userId);
+                return updated;
+            });
+        }
+        List<Long> previousIds = userPositions.put(userId, positionIds);
+        if (previousIds != null) {
+            previousIds.forEach(positionId -> positionOwners.remove(positionId, userId));
+        }
+        positionIds.forEach(positionId -> positionOwners.put(positionId, userId));
+    }
+
+    private void release(Long userId) {
+        PositionBook book = books.remove(userId);
+        if (book != null) {
+            book.symbols().forEach(symbol -> removeHolder(symbol, userId));
+        }
+        List<Long> positionIds = userPositions.remove(userId);
+        if (positionIds != null) {
+            positionIds.forEach(positionId -> positionOwners.remove(positionId, userId));
+        }
+        dirty.remove(userId);
+    }
+
+    private void removeHolder(String symbol, Long userId) {
+        holders.computeIfPresent(symbol, (key, users) -> {
+            users.remove(userId);
+            return users.isEmpty() ? null : users;
+        });
+    }
+
+    private boolean send(Long userId, PortfolioValuationDto valuation) {
+        SimpMessageSendingOperations template = messagingTemplate.getIfAvailable();
+        if (template == null) {
+            return false;
+        }
+        try {
+            template.convertAndSendToUser(String.valueOf(userId), config.getDestination(), valuation);
+            return true;
+        }
+        catch (RuntimeException e) {
+            log.warn("Failed to push portfolio valuation to user {}: {}", userId, e.getMessage());
+            return false;
+        }
+    }
+
+    private static Long userIdOf(Principal principal) {
+        if (principal == null || principal.getName() == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(principal.getName());
+        }
+        catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.koduck.portfolio.service.support;
+
+import java.util.Locale;
+
+/**
+ * 卖出时匹配持仓批次的成本计价方法。
+ *
+ * @author Koduck Team
+ */
+public enum CostBasisMethod {
+
+    /** 先进先出：卖出先匹配最早买入的批次。 */
+    FIFO,
+
+    /** 后进先出：卖出先匹配最近买入的批次。 */
+    LIFO;
+
+    /**
+     * 解析计价方法，忽略大小写。
+     *
+     * @param value        方法名
+     * @param defaultValue 为空时使用的默认值
+     * @return 计价方法
+     * @throws IllegalArgumentException 方法名无效时
+     */
+    public static CostBasisMethod of(String value, CostBasisMethod defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
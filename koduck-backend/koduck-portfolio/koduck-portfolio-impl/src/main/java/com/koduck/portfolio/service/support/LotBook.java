@@ -0,0 +1,256 @@
+package com.koduck.portfolio.service.support;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 单个持仓的未平仓批次簿。
+ *
+ * <p>每个买入批次以数量、价格（均为 4 位小数的定点整数，与 {@code trades} 表精度一致）
+ * 和买入时间（UTC 秒）保存在三个并行的 {@code long} 环形数组中，两端都可以 O(1) 出入，
+ * 卖出按 {@link CostBasisMethod} 从队首（FIFO）或队尾（LIFO）逐批匹配并累计已实现盈亏。
+ * 同一时刻、同一价格的连续买入合并为一个批次。</p>
+ *
+ * <p>卖出数量超过未平仓数量时，超出部分不参与匹配，与持仓卖空时直接清仓的处理一致。
+ * 非线程安全，由调用方保证同一持仓串行访问。</p>
+ *
+ * @author Koduck Team
+ */
+public final class LotBook {
+
+    /** 定点小数位数。 */
+    private static final int SCALE = 4;
+
+    /** 初始批次容量。 */
+    private static final int INITIAL_CAPACITY = 4;
+
+    /** 计价方法。 */
+    private final CostBasisMethod method;
+
+    /** 批次数量（定点）。 */
+    private long[] quantities = new long[INITIAL_CAPACITY];
+
+    /** 批次价格（定点）。 */
+    private long[] prices = new long[INITIAL_CAPACITY];
+
+    /** 批次买入时间（UTC 秒）。 */
+    private long[] acquiredAt = new long[INITIAL_CAPACITY];
+
+    /** 队首下标。 */
+    private int head;
+
+    /** 批次数。 */
+    private int size;
+
+    /** 未平仓数量（定点）。 */
+    private long openQuantity;
+
+    /** 已实现盈亏。 */
+    private BigDecimal realizedPnl = BigDecimal.ZERO;
+
+    /** 未能匹配的卖出数量（定点）。 */
+    private long unmatchedQuantity;
+
+    /**
+     * 构造批次簿。
+     *
+     * @param method 计价方法
+     */
+    public LotBook(CostBasisMethod method) {
+        this.method = method;
+    }
+
+    /**
+     * 记录一笔买入。
+     *
+     * @param quantity 数量
+     * @param price    价格
+     * @param time     交易时间
+     */
+    public void buy(BigDecimal quantity, BigDecimal price, LocalDateTime time) {
+        long lotQuantity = toFixed(quantity);
+        if (lotQuantity <= 0) {
+            return;
+        }
+        long lotPrice = toFixed(price);
+        long lotTime = time.toEpochSecond(ZoneOffset.UTC);
+        openQuantity = Math.addExact(openQuantity, lotQuantity);
+        if (size > 0) {
+            int tail = index(size - 1);
+            if (prices[tail] == lotPrice && acquiredAt[tail] == lotTime) {
+                quantities[tail] += lotQuantity;
+                return;
+            }
+        }
+        if (size == quantities.length) {
+            grow();
+        }
+        int tail = index(size);
+        quantities[tail] = lotQuantity;
+        prices[tail] = lotPrice;
+        acquiredAt[tail] = lotTime;
+        size++;
+    }
+
+    /**
+     * 记录一笔卖出，按计价方法匹配批次。
+     *
+     * @param quantity 数量
+     * @param price    价格
+     * @return 本次卖出的已实现盈亏
+     */
+    public BigDecimal sell(BigDecimal quantity, BigDecimal price) {
+        long remaining = toFixed(quantity);
+        long sellPrice = toFixed(price);
+        BigDecimal realized = BigDecimal.ZERO;
+        while (remaining > 0 && size > 0) {
+            int slot = method == CostBasisMethod.FIFO ? head : index(size - 1);
+            long matched = Math.min(remaining, quantities[slot]);
+            realized = realized.add(BigDecimal.valueOf(matched, SCALE)
+                    .multiply(BigDecimal.valueOf(sellPrice - prices[slot], SCALE)));
+            quantities[slot] -= matched;
+            openQuantity -= matched;
+            remaining -= matched;
+            if (quantities[slot] == 0) {
+                if (method == CostBasisMethod.FIFO) {
+                    head = index(1);
+                }
+                size--;
+            }
+        }
+        if (size == 0) {
+            head = 0;
+        }
+        unmatchedQuantity += Math.max(0, remaining);
+        realizedPnl = realizedPnl.add(realized);
+        return realized;
+    }
+
+    /**
+     * 计价方法。
+     *
+     * @return 计价方法
+     */
+    public CostBasisMethod method() {
+        return method;
+    }
+
+    /**
+     * 未平仓数量。
+     *
+     * @return 未平仓数量
+     */
+    public BigDecimal openQuantity() {
+        return BigDecimal.valueOf(openQuantity, SCALE);
+    }
+
+    /**
+     * 未平仓批次的总成本。
+     *
+     * @return 总成本
+     */
+    public BigDecimal openCost() {
+        BigDecimal cost = BigDecimal.ZERO;
+        for (int i = 0; i < size; i++) {
+            int slot = index(i);
+            cost = cost.add(BigDecimal.valueOf(quantities[slot], SCALE)
+                    .multiply(BigDecimal.valueOf(prices[slot], SCALE)));
+        }
+        return cost;
+    }
+
+    /**
+     * 未平仓批次的平均成本。
+     *
+     * @return 平均成本，没有未平仓批次时为 0
+     */
+    public BigDecimal averageCost() {
+        if (openQuantity == 0) {
+            return BigDecimal.ZERO;
+        }
+        return openCost().divide(BigDecimal.valueOf(openQuantity, SCALE), SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 累计已实现盈亏。
+     *
+     * @return 已实现盈亏
+     */
+    public BigDecimal realizedPnl() {
+        return realizedPnl;
+    }
+
+    /**
+     * 累计未能匹配的卖出数量，非 0 说明交易记录中卖出多于买入。
+     *
+     * @return 未匹配数量
+     */
+    public BigDecimal unmatchedQuantity() {
+        return BigDecimal.valueOf(unmatchedQuantity, SCALE);
+    }
+
+    /**
+     * 未平仓批次数。
+     *
+     * @return 批次数
+     */
+    public int lotCount() {
+        return size;
+    }
+
+    /**
+     * 按买入顺序列出未平仓批次。
+     *
+     * @return 批次列表
+     */
+    public List<Lot> openLots() {
+        List<Lot> lots = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int slot = index(i);
+            lots.add(new Lot(BigDecimal.valueOf(quantities[slot], SCALE), BigDecimal.valueOf(prices[slot], SCALE),
+                    LocalDateTime.ofEpochSecond(acquiredAt[slot], 0, ZoneOffset.UTC)));
+        }
+        return lots;
+    }
+
+    private int index(int offset) {
+        return (head + offset) % quantities.length;
+    }
+
+    private void grow() {
+        int capacity = quantities.length * 2;
+        quantities = unwrap(quantities, capacity);
+        prices = unwrap(prices, capacity);
+        acquiredAt = unwrap(acquiredAt, capacity);
+        head = 0;
+    }
+
+    private long[] unwrap(long[] source, int capacity) {
+        long[] target = Arrays.copyOf(source, capacity);
+        if (head > 0) {
+            int firstPart = source.length - head;
+            System.arraycopy(source, head, target, 0, firstPart);
+            System.arraycopy(source, 0, target, firstPart, head);
+        }
+        return target;
+    }
+
+    private static long toFixed(BigDecimal value) {
+        return value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * 未平仓批次。
+     *
+     * @param quantity   剩余数量
+     * @param price      买入价格
+     * @param acquiredAt 买入时间
+     */
+    public record Lot(BigDecimal quantity, BigDecimal price, LocalDateTime acquiredAt) {
+    }
+}
@@ -0,0 +1,114 @@
+package com.koduck.portfolio.service.support;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.koduck.portfolio.entity.TradeType;
+import com.koduck.portfolio.repository.TradeReplayRow;
+import com.koduck.portfolio.service.SymbolKey;
+
+/**
+ * 从交易历史单遍重建批次簿。
+ *
+ * <p>输入必须按（用户, 交易时间, 交易ID）升序到达。同一用户的交易在内存中累积为每个持仓一个
+ * {@link LotBook}，遇到下一个用户时把上一个用户的结果交给 {@code sink} 并释放，
+ * 因此内存只与单个用户的批次数相关，与交易总量无关。</p>
+ *
+ * @author Koduck Team
+ */
+public final class LotReplay {
+
+    /** 计价方法。 */
+    private final CostBasisMethod method;
+
+    /** 用户结果接收方。 */
+    private final Consumer<UserLots> sink;
+
+    /** 当前用户。 */
+    private Long currentUser;
+
+    /** 当前用户的批次簿。 */
+    private Map<SymbolKey, LotBook> books = new LinkedHashMap<>();
+
+    /** 已输出的用户数。 */
+    private int users;
+
+    /** 已处理的交易数。 */
+    private long trades;
+
+    /**
+     * 构造重放器。
+     *
+     * @param method 计价方法
+     * @param sink   每个用户重放完成后的结果接收方
+     */
+    public LotReplay(CostBasisMethod method, Consumer<UserLots> sink) {
+        this.method = method;
+        this.sink = sink;
+    }
+
+    /**
+     * 重放一笔交易。
+     *
+     * @param row 交易
+     * @throws IllegalStateException 交易未按用户升序到达时
+     */
+    public void accept(TradeReplayRow row) {
+        if (!row.userId().equals(currentUser)) {
+            if (currentUser != null && row.userId() < currentUser) {
+                throw new IllegalStateException("Trades must be ordered by user, got user "
+                        + row.userId() + " after " + currentUser);
+            }
+            emit();
+            currentUser = row.userId();
+        }
+        LotBook book = books.computeIfAbsent(new SymbolKey(row.market(), row.symbol()),
+                key -> new LotBook(method));
+        if (row.tradeType() == TradeType.BUY) {
+            book.buy(row.quantity(), row.price(), row.tradeTime());
+        }
+        else {
+            book.sell(row.quantity(), row.price());
+        }
+        trades++;
+    }
+
+    /**
+     * 输出最后一个用户的结果。
+     *
+     * @return 输出的用户总数
+     */
+    public int finish() {
+        emit();
+        return users;
+    }
+
+    /**
+     * 已处理的交易数。
+     *
+     * @return 交易数
+     */
+    public long trades() {
+        return trades;
+    }
+
+    private void emit() {
+        if (currentUser == null) {
+            return;
+        }
+        sink.accept(new UserLots(currentUser, books));
+        users++;
+        currentUser = null;
+        books = new LinkedHashMap<>();
+    }
+
+    /**
+     * 单个用户的重放结果。
+     *
+     * @param userId 用户 ID
+     * @param books  按首次交易顺序排列的持仓批次簿
+     */
+    public record UserLots(Long userId, Map<SymbolKey, LotBook> books) {
+    }
+}
@@ -0,0 +1,224 @@
+package com.koduck.portfolio.service.support;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.koduck.portfolio.dto.PortfolioSummaryDto;
+import com.koduck.portfolio.dto.PortfolioValuationDto;
+import com.koduck.portfolio.dto.PortfolioValuationDto.PositionValuation;
+
+/**
+ * 单个用户的常驻持仓簿。
+ *
+ * <p>保存每个持仓的数量、成本、最新价与昨收，以及组合的总成本、总市值与当日盈亏。
+ * 价格变化时只重算该股票的持仓，并把差额计入组合总额，与持仓数量无关；
+ * 汇总口径与 {@code PortfolioQueryServiceImpl#getPortfolioSummary} 一致：最新价未知时按成本价计，
+ * 昨收未知时当日盈亏按 0 计。</p>
+ *
+ * <p>同一用户的行情更新与推送可能来自不同线程，所有方法在持仓簿上串行。</p>
+ *
+ * @author Koduck Team
+ */
+public final class PositionBook {
+
+    /** BigDecimal计算精度。 */
+    private static final int SCALE = 4;
+
+    /** Percentage multiplier (100). */
+    private static final BigDecimal PERCENTAGE_MULTIPLIER = BigDecimal.valueOf(100);
+
+    /** 股票代码到持仓；同一代码在不同市场各有一个持仓。 */
+    private final Map<String, List<Line>> lines = new LinkedHashMap<>();
+
+    /** 总成本。 */
+    private BigDecimal totalCost = BigDecimal.ZERO;
+
+    /** 总市值。 */
+    private BigDecimal totalMarketValue = BigDecimal.ZERO;
+
+    /** 当日盈亏。 */
+    private BigDecimal totalDailyPnl = BigDecimal.ZERO;
+
+    /**
+     * 加入一个持仓。
+     *
+     * @param market        市场代码
+     * @param symbol        股票代码
+     * @param quantity      持仓数量
+     * @param avgCost       平均成本
+     * @param price         最新价，未知时为 {@code null}
+     * @param previousClose 昨收价，未知时为 {@code null}
+     */
+    public synchronized void add(String market, String symbol, BigDecimal quantity, BigDecimal avgCost,
+                                 BigDecimal price, BigDecimal previousClose) {
+        Line line = new Line(market, symbol, quantity, avgCost);
+        line.revalue(price, previousClose);
+        lines.computeIfAbsent(symbol, key -> new ArrayList<>(1)).add(line);
+        totalCost = totalCost.add(line.cost);
+        totalMarketValue = totalMarketValue.add(line.marketValue);
+        totalDailyPnl = totalDailyPnl.add(line.dailyPnl);
+    }
+
+    /**
+     * 按新价格重算持有该股票的持仓。
+     *
+     * @param symbol        股票代码
+     * @param price         最新价
+     * @param previousClose 昨收价，为 {@code null} 时沿用已知昨收
+     * @return 估值是否变化
+     */
+    public synchronized boolean applyPrice(String symbol, BigDecimal price, BigDecimal previousClose) {
+        List<Line> held = lines.get(symbol);
+        if (held == null || price == null) {
+            return false;
+        }
+        boolean changed = false;
+        for (Line line : held) {
+            BigDecimal marketValue = line.marketValue;
+            BigDecimal dailyPnl = line.dailyPnl;
+            if (!line.revalue(price, previousClose == null ? line.previousClose : previousClose)) {
+                continue;
+            }
+            totalMarketValue = totalMarketValue.add(line.marketValue.subtract(marketValue));
+            totalDailyPnl = totalDailyPnl.add(line.dailyPnl.subtract(dailyPnl));
+            line.changed = true;
+            changed = true;
+        }
+        return changed;
+    }
+
+    /**
+     * 持有的股票代码。
+     *
+     * @return 股票代码集合的快照
+     */
+    public synchronized Set<String> symbols() {
+        return Set.copyOf(lines.keySet());
+    }
+
+    /**
+     * 组合汇总。
+     *
+     * @return 汇总
+     */
+    public synchronized PortfolioSummaryDto summary() {
+        BigDecimal totalPnl = totalMarketValue.subtract(totalCost);
+        BigDecimal totalPnlPercent = totalCost.compareTo(BigDecimal.ZERO) > 0
+                ? totalPnl.multiply(PERCENTAGE_MULTIPLIER).divide(totalCost, SCALE, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+        BigDecimal yesterdayMarketValue = totalMarketValue.subtract(totalDailyPnl);
+        BigDecimal dailyPnlPercent = yesterdayMarketValue.compareTo(BigDecimal.ZERO) > 0
+                ? totalDailyPnl.multiply(PERCENTAGE_MULTIPLIER)
+                        .divide(yesterdayMarketValue, SCALE, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+        return new PortfolioSummaryDto(totalCost, totalMarketValue, totalPnl, totalPnlPercent,
+                totalDailyPnl, dailyPnlPercent);
+    }
+
+    /**
+     * 全量估值；不清除变化标记，未推送的变化仍会出现在下一次增量中。
+     *
+     * @param asOf 估值时间
+     * @return 全量估值
+     */
+    public synchronized PortfolioValuationDto snapshot(Instant asOf) {
+        List<PositionValuation> positions = new ArrayList<>();
+        for (List<Line> held : lines.values()) {
+            for (Line line : held) {
+                positions.add(line.toValuation());
+            }
+        }
+        return new PortfolioValuationDto(true, summary(), positions, asOf);
+    }
+
+    /**
+     * 取出自上次取出以来估值变化的持仓，与同一时刻的汇总一起返回。
+     *
+     * @param asOf 估值时间
+     * @return 增量估值，没有变化时为 {@code null}
+     */
+    public synchronized PortfolioValuationDto drainChanges(Instant asOf) {
+        List<PositionValuation> positions = new ArrayList<>();
+        for (List<Line> held : lines.values()) {
+            for (Line line : held) {
+                if (line.changed) {
+                    line.changed = false;
+                    positions.add(line.toValuation());
+                }
+            }
+        }
+        return positions.isEmpty() ? null : new PortfolioValuationDto(false, summary(), positions, asOf);
+    }
+
+    /**
+     * 单个持仓。
+     */
+    private static final class Line {
+
+        /** 市场代码。 */
+        private final String market;
+
+        /** 股票代码。 */
+        private final String symbol;
+
+        /** 持仓数量。 */
+        private final BigDecimal quantity;
+
+        /** 平均成本。 */
+        private final BigDecimal avgCost;
+
+        /** 持仓成本。 */
+        private final BigDecimal cost;
+
+        /** 估值所用价格。 */
+        private BigDecimal price;
+
+        /** 昨收价。 */
+        private BigDecimal previousClose;
+
+        /** 市值。 */
+        private BigDecimal marketValue;
+
+        /** 当日盈亏。 */
+        private BigDecimal dailyPnl;
+
+        /** 自上次推送以来估值是否变化。 */
+        private boolean changed;
+
+        private Line(String market, String symbol, BigDecimal quantity, BigDecimal avgCost) {
+            this.market = market;
+            this.symbol = symbol;
+            this.quantity = quantity;
+            this.avgCost = avgCost;
+            this.cost = avgCost.multiply(quantity);
+        }
+
+        private boolean revalue(BigDecimal newPrice, BigDecimal newPreviousClose) {
+            BigDecimal effective = newPrice == null ? avgCost : newPrice;
+            if (price != null && price.compareTo(effective) == 0 && sameValue(previousClose, newPreviousClose)) {
+                return false;
+            }
+            price = effective;
+            previousClose = newPreviousClose;
+            marketValue = effective.multiply(quantity);
+            dailyPnl = newPreviousClose == null
+                    ? BigDecimal.ZERO
+                    : effective.subtract(newPreviousClose).multiply(quantity);
+            return true;
+        }
+
+        private PositionValuation toValuation() {
+            return new PositionValuation(market, symbol, price, marketValue, marketValue.subtract(cost), dailyPnl);
+        }
+
+        private static boolean sameValue(BigDecimal left, BigDecimal right) {
+            return left == null ? right == null : right != null && left.compareTo(right) == 0;
+        }
+    }
+}
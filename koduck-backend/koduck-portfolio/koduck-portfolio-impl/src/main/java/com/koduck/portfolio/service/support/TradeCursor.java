@@ -0,0 +1,77 @@
+package com.koduck.portfolio.service.support;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * 交易历史的键集分页游标。
+ *
+ * <p>记录上一页最后一条交易的（交易时间, 交易ID），下一页从严格小于该键的位置继续。
+ * 对外编码为不带填充的 URL 安全 Base64，调用方不应解析其内容。</p>
+ *
+ * @param tradeTime 上一页最后一条交易的交易时间
+ * @param id        上一页最后一条交易的ID
+ * @author Koduck Team
+ */
+public record TradeCursor(LocalDateTime tradeTime, Long id) {
+
+    /** 编码版本前缀。 */
+    private static final String VERSION = "1";
+
+    /** 字段分隔符。 */
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Creates a new TradeCursor with validation.
+     *
+     * @param tradeTime 交易时间
+     * @param id        交易ID
+     */
+    public TradeCursor {
+        Objects.requireNonNull(tradeTime, "tradeTime must not be null");
+        Objects.requireNonNull(id, "id must not be null");
+    }
+
+    /**
+     * 编码为不透明字符串。
+     *
+     * @return 游标字符串
+     */
+    public String encode() {
+        String raw = VERSION + SEPARATOR + tradeTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解码游标字符串。
+     *
+     * @param cursor 游标字符串
+     * @return 游标
+     * @throws IllegalArgumentException 游标格式无效时
+     */
+    public static TradeCursor decode(String cursor) {
+        Objects.requireNonNull(cursor, "cursor must not be null");
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        }
+        catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid trade cursor: " + cursor, e);
+        }
+        int first = raw.indexOf(SEPARATOR);
+        int last = raw.lastIndexOf(SEPARATOR);
+        if (first < 0 || first == last || !VERSION.equals(raw.substring(0, first))) {
+            throw new IllegalArgumentException("Invalid trade cursor: " + cursor);
+        }
+        try {
+            return new TradeCursor(LocalDateTime.parse(raw.substring(first + 1, last)),
+                    Long.valueOf(raw.substring(last + 1)));
+        }
+        catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid trade cursor: " + cursor, e);
+        }
+    }
+}
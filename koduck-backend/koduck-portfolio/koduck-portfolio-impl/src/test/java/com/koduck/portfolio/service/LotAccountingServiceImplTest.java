@@ -0,0 +1,134 @@
+package com.koduck.portfolio.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.koduck.portfolio.config.PortfolioProperties;
+import com.koduck.portfolio.dto.PositionLotsDto;
+import com.koduck.portfolio.entity.TradeType;
+import com.koduck.portfolio.repository.TradeReplayRow;
+import com.koduck.portfolio.repository.TradeRepository;
+import com.koduck.portfolio.service.impl.LotAccountingServiceImpl;
+import com.koduck.portfolio.service.support.CostBasisMethod;
+import com.koduck.portfolio.service.support.LotReplay;
+
+/**
+ * LotAccountingServiceImpl 单元测试。
+ *
+ * @author Koduck Team
+ */
+@ExtendWith(MockitoExtension.class)
+class LotAccountingServiceImplTest {
+
+    private static final Long TEST_USER_ID = 1L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 10, 19, 10, 0);
+
+    @Mock
+    private TradeRepository tradeRepository;
+
+    private PortfolioProperties properties;
+
+    private LotAccountingServiceImpl lotAccountingService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PortfolioProperties();
+        lotAccountingService = new LotAccountingServiceImpl(tradeRepository, properties);
+    }
+
+    @Test
+    @DisplayName("未指定计价方法时应使用配置的默认方法")
+    void getPositionLotsShouldUseConfiguredMethod() {
+        properties.getCalculation().setCostBasisMethod("LIFO");
+        when(tradeRepository.findReplayRowsByUserId(TEST_USER_ID)).thenReturn(trades(TEST_USER_ID));
+
+        List<PositionLotsDto> lots = lotAccountingService.getPositionLots(TEST_USER_ID, null);
+
+        assertEquals(1, lots.size());
+        PositionLotsDto position = lots.get(0);
+        assertEquals("LIFO", position.costBasisMethod());
+        assertDecimal("-50", position.realizedPnl());
+        assertDecimal("50", position.openQuantity());
+        assertDecimal("10", position.averageCost());
+        assertEquals(BASE_TIME, position.lots().get(0).acquiredAt());
+    }
+
+    @Test
+    @DisplayName("显式指定的计价方法应覆盖配置")
+    void getPositionLotsShouldHonourExplicitMethod() {
+        properties.getCalculation().setCostBasisMethod("LIFO");
+        when(tradeRepository.findReplayRowsByUserId(TEST_USER_ID)).thenReturn(trades(TEST_USER_ID));
+
+        PositionLotsDto position = lotAccountingService.getPositionLots(TEST_USER_ID, CostBasisMethod.FIFO).get(0);
+
+        assertEquals("FIFO", position.costBasisMethod());
+        assertDecimal("50", position.realizedPnl());
+        assertDecimal("12", position.averageCost());
+    }
+
+    @Test
+    @DisplayName("无交易时应返回空列表")
+    void getPositionLotsShouldReturnEmptyWithoutTrades() {
+        when(tradeRepository.findReplayRowsByUserId(TEST_USER_ID)).thenReturn(List.of());
+
+        assertTrue(lotAccountingService.getPositionLots(TEST_USER_ID, null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("批量重放应单遍处理全部用户")
+    void replayAllShouldStreamEveryUser() {
+        List<TradeReplayRow> rows = new ArrayList<>(trades(1L));
+        rows.addAll(trades(2L));
+        rows.addAll(trades(3L));
+        when(tradeRepository.streamAllReplayRows()).thenReturn(rows.stream());
+        List<LotReplay.UserLots> results = new ArrayList<>();
+
+        assertEquals(3, lotAccountingService.replayAll(null, results::add));
+        assertEquals(List.of(1L, 2L, 3L), results.stream().map(LotReplay.UserLots::userId).toList());
+    }
+
+    @Test
+    @DisplayName("批量重放结束后应关闭流")
+    void replayAllShouldCloseStream() {
+        boolean[] closed = {false};
+        when(tradeRepository.streamAllReplayRows())
+                .thenReturn(Stream.<TradeReplayRow>empty().onClose(() -> closed[0] = true));
+
+        assertEquals(0, lotAccountingService.replayAll(CostBasisMethod.FIFO, lots -> { }));
+        assertTrue(closed[0]);
+    }
+
+    /**
+     * 100@10、100@12，再以 11 卖出 150。
+     */
+    private static List<TradeReplayRow> trades(Long userId) {
+        return List.of(
+                row(userId, TradeType.BUY, "100", "10", 0),
+                row(userId, TradeType.BUY, "100", "12", 1),
+                row(userId, TradeType.SELL, "150", "11", 2));
+    }
+
+    private static TradeReplayRow row(Long userId, TradeType type, String quantity, String price, int minutes) {
+        return new TradeReplayRow(userId, "AShare", "600000", type, new BigDecimal(quantity),
+                new BigDecimal(price), BASE_TIME.plusMinutes(minutes));
+    }
+
+    private static void assertDecimal(String expected, BigDecimal actual) {
+        assertEquals(0, new BigDecimal(expected).compareTo(actual),
+                () -> "expected " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,137 @@
+package com.koduck.portfolio.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.koduck.portfolio.service.support.CostBasisMethod;
+import com.koduck.portfolio.service.support.LotBook;
+
+/**
+ * LotBook 单元测试。
+ *
+ * @author Koduck Team
+ */
+class LotBookTest {
+
+    private static final LocalDateTime DAY1 = LocalDateTime.of(2026, 1, 5, 10, 0);
+    private static final LocalDateTime DAY2 = LocalDateTime.of(2026, 2, 5, 10, 0);
+    private static final LocalDateTime DAY3 = LocalDateTime.of(2026, 3, 5, 10, 0);
+
+    @Test
+    @DisplayName("FIFO 应先匹配最早的批次并拆分部分卖出的批次")
+    void fifoShouldMatchOldestLotFirst() {
+        LotBook book = threeLots(CostBasisMethod.FIFO);
+
+        assertDecimal("500", book.sell(new BigDecimal("150"), new BigDecimal("14")));
+
+        List<LotBook.Lot> lots = book.openLots();
+        assertEquals(2, lots.size());
+        assertDecimal("50", lots.get(0).quantity());
+        assertDecimal("12", lots.get(0).price());
+        assertEquals(DAY2, lots.get(0).acquiredAt());
+        assertDecimal("100", book.openQuantity());
+        assertDecimal("1350", book.openCost());
+    }
+
+    @Test
+    @DisplayName("LIFO 应先匹配最近的批次")
+    void lifoShouldMatchNewestLotFirst() {
+        LotBook book = threeLots(CostBasisMethod.LIFO);
+
+        assertDecimal("90", book.sell(new BigDecimal("120"), new BigDecimal("14")));
+
+        List<LotBook.Lot> lots = book.openLots();
+        assertEquals(2, lots.size());
+        assertDecimal("100", lots.get(0).quantity());
+        assertDecimal("30", lots.get(1).quantity());
+        assertDecimal("12", lots.get(1).price());
+        assertDecimal("1360", book.openCost());
+    }
+
+    @Test
+    @DisplayName("累计已实现盈亏应覆盖多次卖出")
+    void realizedPnlShouldAccumulate() {
+        LotBook book = threeLots(CostBasisMethod.FIFO);
+
+        book.sell(new BigDecimal("100"), new BigDecimal("11"));
+        book.sell(new BigDecimal("100"), new BigDecimal("11"));
+
+        assertDecimal("0", book.realizedPnl());
+        assertDecimal("50", book.openQuantity());
+        assertDecimal("15", book.averageCost());
+    }
+
+    @Test
+    @DisplayName("卖出超过持仓时只匹配现有批次并记录未匹配数量")
+    void oversellShouldCloseAllLots() {
+        LotBook book = threeLots(CostBasisMethod.FIFO);
+
+        book.sell(new BigDecimal("300"), new BigDecimal("20"));
+
+        assertEquals(0, book.lotCount());
+        assertDecimal("0", book.openQuantity());
+        assertDecimal("0", book.averageCost());
+        assertDecimal("50", book.unmatchedQuantity());
+        assertDecimal("2050", book.realizedPnl());
+
+        book.buy(new BigDecimal("10"), new BigDecimal("5"), DAY3);
+        assertEquals(1, book.lotCount());
+        assertDecimal("50", book.openCost());
+    }
+
+    @Test
+    @DisplayName("同一时刻同一价格的买入应合并为一个批次")
+    void sameTimeAndPriceBuysShouldMerge() {
+        LotBook book = new LotBook(CostBasisMethod.FIFO);
+
+        book.buy(new BigDecimal("10"), new BigDecimal("10"), DAY1);
+        book.buy(new BigDecimal("20"), new BigDecimal("10"), DAY1);
+        book.buy(new BigDecimal("30"), new BigDecimal("10.5"), DAY1);
+
+        assertEquals(2, book.lotCount());
+        assertDecimal("30", book.openLots().get(0).quantity());
+    }
+
+    @Test
+    @DisplayName("环形数组扩容后批次顺序应保持不变")
+    void growShouldKeepLotOrder() {
+        LotBook book = new LotBook(CostBasisMethod.FIFO);
+        for (int i = 0; i < 6; i++) {
+            book.buy(BigDecimal.ONE, BigDecimal.valueOf(10 + i), DAY1.plusDays(i));
+        }
+        book.sell(new BigDecimal("3"), new BigDecimal("20"));
+        for (int i = 6; i < 20; i++) {
+            book.buy(BigDecimal.ONE, BigDecimal.valueOf(10 + i), DAY1.plusDays(i));
+        }
+
+        List<LotBook.Lot> lots = book.openLots();
+        assertEquals(17, lots.size());
+        for (int i = 0; i < lots.size(); i++) {
+            assertDecimal(String.valueOf(13 + i), lots.get(i).price());
+        }
+        assertTrue(lots.get(0).acquiredAt().isBefore(lots.get(16).acquiredAt()));
+    }
+
+    /**
+     * 100@10、100@12、50@15。
+     */
+    private static LotBook threeLots(CostBasisMethod method) {
+        LotBook book = new LotBook(method);
+        book.buy(new BigDecimal("100"), new BigDecimal("10"), DAY1);
+        book.buy(new BigDecimal("100"), new BigDecimal("12"), DAY2);
+        book.buy(new BigDecimal("50"), new BigDecimal("15"), DAY3);
+        return book;
+    }
+
+    private static void assertDecimal(String expected, BigDecimal actual) {
+        assertEquals(0, new BigDecimal(expected).compareTo(actual),
+                () -> "expected " + expected + " but was " + actual);
+    }
+}
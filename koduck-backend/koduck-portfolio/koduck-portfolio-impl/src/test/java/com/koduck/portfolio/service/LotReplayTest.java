@@ -0,0 +1,66 @@
+package com.koduck.portfolio.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.koduck.portfolio.entity.TradeType;
+import com.koduck.portfolio.repository.TradeReplayRow;
+import com.koduck.portfolio.service.support.CostBasisMethod;
+import com.koduck.portfolio.service.support.LotBook;
+import com.koduck.portfolio.service.support.LotReplay;
+
+/**
+ * LotReplay 单元测试。
+ *
+ * @author Koduck Team
+ */
+class LotReplayTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 10, 19, 10, 0);
+
+    @Test
+    @DisplayName("重放应按用户分组输出每个持仓的批次簿")
+    void replayShouldEmitOneResultPerUser() {
+        List<LotReplay.UserLots> results = new ArrayList<>();
+        LotReplay replay = new LotReplay(CostBasisMethod.FIFO, results::add);
+
+        replay.accept(row(1L, "600000", TradeType.BUY, "100", "10", 0));
+        replay.accept(row(1L, "000001", TradeType.BUY, "200", "5", 1));
+        replay.accept(row(1L, "600000", TradeType.BUY, "100", "12", 2));
+        replay.accept(row(1L, "600000", TradeType.SELL, "150", "13", 3));
+        replay.accept(row(2L, "600000", TradeType.BUY, "10", "11", 0));
+
+        assertEquals(2, replay.finish());
+        assertEquals(5, replay.trades());
+        assertEquals(2, results.size());
+        LotBook book = results.get(0).books().get(new SymbolKey("AShare", "600000"));
+        assertEquals(0, new BigDecimal("350").compareTo(book.realizedPnl()));
+        assertEquals(0, new BigDecimal("50").compareTo(book.openQuantity()));
+        assertEquals(2, results.get(0).books().size());
+        assertEquals(2L, results.get(1).userId().longValue());
+    }
+
+    @Test
+    @DisplayName("交易未按用户排序时应拒绝")
+    void replayShouldRejectUnorderedUsers() {
+        LotReplay replay = new LotReplay(CostBasisMethod.FIFO, lots -> { });
+        replay.accept(row(2L, "600000", TradeType.BUY, "10", "11", 0));
+
+        assertThrows(IllegalStateException.class,
+                () -> replay.accept(row(1L, "600000", TradeType.BUY, "10", "11", 1)));
+    }
+
+    private static TradeReplayRow row(Long userId, String symbol, TradeType type, String quantity, String price,
+            int minutes) {
+        return new TradeReplayRow(userId, "AShare", symbol, type, new BigDecimal(quantity), new BigDecimal(price),
+                BASE_TIME.plusMinutes(minutes));
+    }
+}
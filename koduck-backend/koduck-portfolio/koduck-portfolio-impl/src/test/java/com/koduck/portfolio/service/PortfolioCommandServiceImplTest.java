@@ -38,6 +38,9 @@ class PortfolioCommandServiceImplTest {
     @Mock
     private TradeRepository tradeRepository;
 
+    @Mock
+    private PortfolioValuationService valuationService;
+
     @InjectMocks
     private PortfolioCommandServiceImpl commandService;
 
@@ -60,6 +63,7 @@ class PortfolioCommandServiceImplTest {
                 new BigDecimal("100"), new BigDecimal("140.00"));
 
         verify(positionRepository).save(any(PortfolioPosition.class));
+        verify(valuationService).reload(TEST_USER_ID);
     }
 
     @Test
@@ -117,6 +121,7 @@ class PortfolioCommandServiceImplTest {
         boolean result = commandService.deletePosition(TEST_POSITION_ID);
 
         assertTrue(result);
+        verify(valuationService).reloadByPosition(TEST_POSITION_ID);
     }
 
     @Test
@@ -148,6 +153,7 @@ class PortfolioCommandServiceImplTest {
 
         verify(tradeRepository).save(any(Trade.class));
         verify(positionRepository).save(any(PortfolioPosition.class));
+        verify(valuationService).reload(TEST_USER_ID);
     }
 
     @Test
@@ -1,13 +1,20 @@
 package com.koduck.portfolio.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -19,17 +26,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import com.koduck.common.constants.MarketConstants;
 import com.koduck.portfolio.dto.PortfolioPositionDto;
 import com.koduck.portfolio.dto.PortfolioSummaryDto;
+import com.koduck.portfolio.dto.PositionLotsDto;
 import com.koduck.portfolio.dto.TradeDto;
+import com.koduck.portfolio.dto.TradeHistoryQuery;
+import com.koduck.portfolio.dto.TradePageDto;
 import com.koduck.portfolio.entity.PortfolioPosition;
 import com.koduck.portfolio.entity.Trade;
 import com.koduck.portfolio.entity.TradeType;
+import com.koduck.portfolio.exception.PortfolioException;
 import com.koduck.portfolio.repository.PortfolioPositionRepository;
 import com.koduck.portfolio.repository.TradeRepository;
 import com.koduck.portfolio.service.impl.PortfolioQueryServiceImpl;
+import com.koduck.portfolio.service.support.CostBasisMethod;
+import com.koduck.portfolio.service.support.TradeCursor;
 
 /**
  * PortfolioQueryServiceImpl 单元测试。
@@ -48,6 +62,9 @@ class PortfolioQueryServiceImplTest {
     @Mock
     private PortfolioPriceService priceService;
 
+    @Mock
+    private LotAccountingService lotAccountingService;
+
     @InjectMocks
     private PortfolioQueryServiceImpl queryService;
 
@@ -55,6 +72,7 @@ class PortfolioQueryServiceImplTest {
     private static final Long TEST_POSITION_ID = 100L;
     private static final String TEST_MARKET = "US";
     private static final String TEST_SYMBOL = "AAPL";
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 10, 19, 10, 0);
 
     @BeforeEach
     void setUp() {
@@ -132,7 +150,7 @@ class PortfolioQueryServiceImplTest {
     @Test
     @DisplayName("获取交易记录应返回空列表当无交易")
     void getTradesShouldReturnEmptyListWhenNoTrades() {
-        when(tradeRepository.findByUserIdOrderByTradeTimeDesc(TEST_USER_ID))
+        when(tradeRepository.findByUserIdOrderByTradeTimeDescIdDesc(TEST_USER_ID, PageRequest.of(0, 10)))
                 .thenReturn(Collections.emptyList());
 
         List<TradeDto> result = queryService.getTrades(TEST_USER_ID, 1, 10);
@@ -145,16 +163,77 @@ class PortfolioQueryServiceImplTest {
     @DisplayName("分页获取交易记录应正确分页")
     void getTradesShouldPaginateCorrectly() {
         List<Trade> trades = List.of(
-                createTestTrade(1L),
-                createTestTrade(2L),
-                createTestTrade(3L)
+                createTestTrade(3L),
+                createTestTrade(4L)
         );
-        when(tradeRepository.findByUserIdOrderByTradeTimeDesc(TEST_USER_ID))
+        when(tradeRepository.findByUserIdOrderByTradeTimeDescIdDesc(TEST_USER_ID, PageRequest.of(1, 2)))
                 .thenReturn(trades);
 
-        List<TradeDto> result = queryService.getTrades(TEST_USER_ID, 1, 2);
+        List<TradeDto> result = queryService.getTrades(TEST_USER_ID, 2, 2);
 
         assertEquals(2, result.size());
+        assertEquals(3L, result.get(0).id());
+    }
+
+    @Test
+    @DisplayName("交易历史首页应多取一条并返回下一页游标")
+    void getTradeHistoryShouldReturnNextCursorWhenMoreRows() {
+        when(tradeRepository.findTradeHistoryPage(eq(TEST_USER_ID), isNull(), isNull(), any(LocalDateTime.class),
+                any(LocalDateTime.class), eq(Long.MAX_VALUE), eq(PageRequest.ofSize(3))))
+                .thenReturn(List.of(createTestTrade(1L), createTestTrade(2L), createTestTrade(3L)));
+
+        TradePageDto result = queryService.getTradeHistory(TEST_USER_ID, TradeHistoryQuery.firstPage(2));
+
+        assertEquals(2, result.items().size());
+        assertTrue(result.hasMore());
+        TradeCursor cursor = TradeCursor.decode(result.nextCursor());
+        assertEquals(2L, cursor.id());
+        assertEquals(BASE_TIME.minusMinutes(2), cursor.tradeTime());
+    }
+
+    @Test
+    @DisplayName("交易历史应从游标位置继续并在数据库中过滤")
+    void getTradeHistoryShouldContinueFromCursorWithFilters() {
+        LocalDateTime from = BASE_TIME.minusDays(30);
+        String cursor = new TradeCursor(BASE_TIME.minusMinutes(2), 2L).encode();
+        when(tradeRepository.findTradeHistoryPage(TEST_USER_ID, TEST_SYMBOL, TradeType.SELL, from,
+                BASE_TIME.minusMinutes(2), 2L, PageRequest.ofSize(3)))
+                .thenReturn(List.of(createTestTrade(3L)));
+
+        TradePageDto result = queryService.getTradeHistory(TEST_USER_ID,
+                new TradeHistoryQuery(TEST_SYMBOL, "sell", from, BASE_TIME, cursor, 2));
+
+        assertEquals(1, result.items().size());
+        assertFalse(result.hasMore());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("交易历史游标无效时应抛出异常")
+    void getTradeHistoryShouldRejectInvalidCursor() {
+        TradeHistoryQuery query = new TradeHistoryQuery(null, null, null, null, "not-a-cursor", 20);
+
+        assertThrows(PortfolioException.class, () -> queryService.getTradeHistory(TEST_USER_ID, query));
+        verifyNoInteractions(tradeRepository);
+    }
+
+    @Test
+    @DisplayName("持仓批次查询应按解析后的计价方法委托批次核算")
+    void getPositionLotsShouldDelegateWithParsedMethod() {
+        PositionLotsDto lots = new PositionLotsDto(TEST_MARKET, TEST_SYMBOL, "LIFO", BigDecimal.TEN,
+                new BigDecimal("1500"), new BigDecimal("150"), BigDecimal.ZERO, List.of());
+        when(lotAccountingService.getPositionLots(TEST_USER_ID, CostBasisMethod.LIFO)).thenReturn(List.of(lots));
+        when(lotAccountingService.getPositionLots(TEST_USER_ID, null)).thenReturn(List.of());
+
+        assertEquals(List.of(lots), queryService.getPositionLots(TEST_USER_ID, "lifo"));
+        assertTrue(queryService.getPositionLots(TEST_USER_ID, null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("计价方法无效时应抛出异常")
+    void getPositionLotsShouldRejectUnknownMethod() {
+        assertThrows(PortfolioException.class, () -> queryService.getPositionLots(TEST_USER_ID, "HIFO"));
+        verifyNoInteractions(lotAccountingService);
     }
 
     private PortfolioPosition createTestPosition() {
@@ -179,6 +258,7 @@ class PortfolioQueryServiceImplTest {
                 .quantity(new BigDecimal("10"))
                 .price(new BigDecimal("140.00"))
                 .amount(new BigDecimal("1400.00"))
+                .tradeTime(BASE_TIME.minusMinutes(id))
                 .build();
     }
 }
@@ -0,0 +1,255 @@
+package com.koduck.portfolio.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import com.koduck.portfolio.config.PortfolioProperties;
+import com.koduck.portfolio.dto.PortfolioValuationDto;
+import com.koduck.portfolio.entity.PortfolioPosition;
+import com.koduck.portfolio.repository.PortfolioPositionRepository;
+import com.koduck.portfolio.service.impl.PortfolioValuationServiceImpl;
+
+/**
+ * PortfolioValuationServiceImpl 单元测试。
+ *
+ * @author Koduck Team
+ */
+@ExtendWith(MockitoExtension.class)
+class PortfolioValuationServiceImplTest {
+
+    private static final Long USER_A = 1L;
+    private static final Long USER_B = 2L;
+    private static final String DESTINATION = "/queue/portfolio";
+    private static final String MARKET = "AShare";
+
+    /** 最新价。 */
+    private static final Map<String, BigDecimal> LATEST = Map.of(
+            "AShare:600000", new BigDecimal("11.00"),
+            "AShare:000001", new BigDecimal("5.10"));
+
+    /** 昨收价。 */
+    private static final Map<String, BigDecimal> PREVIOUS_CLOSE = Map.of(
+            "AShare:600000", new BigDecimal("10.50"),
+            "AShare:000001", new BigDecimal("5.00"));
+
+    @Mock
+    private PortfolioPositionRepository positionRepository;
+
+    @Mock
+    private PortfolioPriceService priceService;
+
+    @Mock
+    private ObjectProvider<SimpMessageSendingOperations> messagingProvider;
+
+    @Mock
+    private SimpMessageSendingOperations messagingTemplate;
+
+    private PortfolioProperties properties;
+
+    private PortfolioValuationServiceImpl valuationService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PortfolioProperties();
+        lenient().when(messagingProvider.getIfAvailable()).thenReturn(messagingTemplate);
+        lenient().when(priceService.getLatestPrices(anyList(), anyString())).thenReturn(LATEST);
+        lenient().when(priceService.getPreviousClosePrices(anyList(), anyString())).thenReturn(PREVIOUS_CLOSE);
+        lenient().when(positionRepository.findByUserId(USER_A))
+                .thenReturn(List.of(position(100L, USER_A, "600000", "100")));
+        lenient().when(positionRepository.findByUserId(USER_B))
+                .thenReturn(List.of(position(200L, USER_B, "000001", "200")));
+        valuationService = new PortfolioValuationServiceImpl(
+                positionRepository, priceService, messagingProvider, properties);
+    }
+
+    @Test
+    @DisplayName("开始跟踪应加载持仓并推送全量快照")
+    void trackShouldLoadBookAndPushSnapshot() {
+        valuationService.track(USER_A, "s1");
+
+        PortfolioValuationDto pushed = capturePush(USER_A);
+        assertTrue(pushed.snapshot());
+        assertEquals(1, pushed.positions().size());
+        assertDecimal("1100.00", pushed.summary().totalMarketValue());
+        assertDecimal("50.00", pushed.summary().dailyPnl());
+    }
+
+    @Test
+    @DisplayName("行情只应重算持有该股票的组合")
+    void onPriceShouldRevalueOnlyHolders() {
+        valuationService.track(USER_A, "s1");
+        valuationService.track(USER_B, "s2");
+        clearInvocations(messagingTemplate);
+
+        assertEquals(1, valuationService.onPrice("600000", new BigDecimal("12.00"), new BigDecimal("10.50")));
+        assertEquals(0, valuationService.onPrice("300750", new BigDecimal("200.00"), null));
+        assertEquals(1, valuationService.flush());
+
+        PortfolioValuationDto pushed = capturePush(USER_A);
+        assertFalse(pushed.snapshot());
+        assertEquals(1, pushed.positions().size());
+        assertDecimal("1200.00", pushed.summary().totalMarketValue());
+        assertDecimal("150.00", pushed.summary().dailyPnl());
+        verify(messagingTemplate, never()).convertAndSendToUser(eq(String.valueOf(USER_B)), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("推送间隔内的多条行情应合并为一条消息")
+    void flushShouldCoalesceTicks() {
+        valuationService.track(USER_A, "s1");
+        clearInvocations(messagingTemplate);
+
+        valuationService.onPrice("600000", new BigDecimal("11.10"), null);
+        valuationService.onPrice("600000", new BigDecimal("11.20"), null);
+        valuationService.onPrice("600000", new BigDecimal("11.30"), null);
+
+        assertEquals(1, valuationService.flush());
+        assertEquals(0, valuationService.flush());
+        PortfolioValuationDto pushed = capturePush(USER_A);
+        assertDecimal("11.30", pushed.positions().get(0).currentPrice());
+        assertDecimal("1130.00", pushed.summary().totalMarketValue());
+    }
+
+    @Test
+    @DisplayName("最后一个会话结束后应释放持仓簿")
+    void untrackShouldReleaseBookAfterLastSession() {
+        valuationService.track(USER_A, "s1");
+        valuationService.track(USER_A, "s2");
+
+        valuationService.untrack("s1");
+        assertEquals(1, valuationService.onPrice("600000", new BigDecimal("12.00"), null));
+
+        valuationService.untrack("s2");
+        assertEquals(0, valuationService.onPrice("600000", new BigDecimal("13.00"), null));
+        assertTrue(valuationService.snapshot(USER_A).isEmpty());
+        verify(positionRepository, times(1)).findByUserId(USER_A);
+    }
+
+    @Test
+    @DisplayName("持仓变化后应按持仓 ID 重新加载所属用户")
+    void reloadByPositionShouldRebuildOwnerBook() {
+        valuationService.track(USER_A, "s1");
+        when(positionRepository.findByUserId(USER_A))
+                .thenReturn(List.of(position(100L, USER_A, "600000", "200"),
+                        position(101L, USER_A, "000001", "100")));
+
+        valuationService.reloadByPosition(100L);
+        valuationService.reloadByPosition(999L);
+
+        PortfolioValuationDto snapshot = valuationService.snapshot(USER_A).orElseThrow();
+        assertEquals(2, snapshot.positions().size());
+        assertDecimal("2710.00", snapshot.summary().totalMarketValue());
+        assertEquals(1, valuationService.onPrice("000001", new BigDecimal("5.20"), null));
+        verify(positionRepository, times(2)).findByUserId(USER_A);
+    }
+
+    @Test
+    @DisplayName("被跟踪用户持有的股票应声明为行情需求，释放后移除")
+    void interestedSymbolsShouldFollowTrackedHoldings() {
+        valuationService.track(USER_A, "s1");
+        valuationService.track(USER_B, "s2");
+        assertEquals(Set.of("600000", "000001"), valuationService.interestedSymbols());
+
+        valuationService.untrack("s2");
+        assertEquals(Set.of("600000"), valuationService.interestedSymbols());
+
+        properties.getValuation().setEnabled(false);
+        assertTrue(valuationService.interestedSymbols().isEmpty());
+    }
+
+    @Test
+    @DisplayName("订阅估值目的地应开始跟踪，断开连接应结束跟踪")
+    void sessionEventsShouldDriveTracking() {
+        Principal principal = () -> String.valueOf(USER_A);
+        valuationService.onSessionSubscribe(new SessionSubscribeEvent(this,
+                stompMessage(StompCommand.SUBSCRIBE, "s1", "/topic/stock/600000"), principal));
+        assertTrue(valuationService.snapshot(USER_A).isEmpty());
+
+        valuationService.onSessionSubscribe(new SessionSubscribeEvent(this,
+                stompMessage(StompCommand.SUBSCRIBE, "s1", "/user" + DESTINATION), principal));
+        assertTrue(valuationService.snapshot(USER_A).isPresent());
+
+        valuationService.onSessionDisconnect(new SessionDisconnectEvent(this,
+                stompMessage(StompCommand.DISCONNECT, "s1", null), "s1", CloseStatus.NORMAL, principal));
+        assertTrue(valuationService.snapshot(USER_A).isEmpty());
+    }
+
+    @Test
+    @DisplayName("关闭开关时不应加载持仓")
+    void trackShouldDoNothingWhenDisabled() {
+        properties.getValuation().setEnabled(false);
+
+        valuationService.track(USER_A, "s1");
+
+        assertEquals(0, valuationService.onPrice("600000", new BigDecimal("12.00"), null));
+        verifyNoInteractions(positionRepository, messagingTemplate);
+    }
+
+    private PortfolioValuationDto capturePush(Long userId) {
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSendToUser(eq(String.valueOf(userId)), eq(DESTINATION),
+                payload.capture());
+        return (PortfolioValuationDto) payload.getValue();
+    }
+
+    private static PortfolioPosition position(Long id, Long userId, String symbol, String quantity) {
+        return PortfolioPosition.builder()
+                .id(id)
+                .userId(userId)
+                .market(MARKET)
+                .symbol(symbol)
+                .quantity(new BigDecimal(quantity))
+                .avgCost(new BigDecimal("10.00"))
+                .build();
+    }
+
+    private static Message<byte[]> stompMessage(StompCommand command, String sessionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-0");
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static void assertDecimal(String expected, BigDecimal actual) {
+        assertEquals(0, new BigDecimal(expected).compareTo(actual),
+                () -> "expected " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,133 @@
+package com.koduck.portfolio.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.koduck.portfolio.dto.PortfolioSummaryDto;
+import com.koduck.portfolio.dto.PortfolioValuationDto;
+import com.koduck.portfolio.service.support.PositionBook;
+
+/**
+ * PositionBook 单元测试。
+ *
+ * @author Koduck Team
+ */
+class PositionBookTest {
+
+    private static final Instant AS_OF = Instant.parse("2026-10-19T02:00:00Z");
+
+    @Test
+    @DisplayName("汇总口径应与组合查询一致")
+    void summaryShouldMatchQueryServiceFormulas() {
+        PositionBook book = new PositionBook();
+        book.add("AShare", "600000", new BigDecimal("100"), new BigDecimal("10.00"),
+                new BigDecimal("11.00"), new BigDecimal("10.50"));
+        book.add("AShare", "000001", new BigDecimal("200"), new BigDecimal("5.00"), null, null);
+
+        PortfolioSummaryDto summary = book.summary();
+
+        assertDecimal("2000.00", summary.totalCost());
+        assertDecimal("2100.00", summary.totalMarketValue());
+        assertDecimal("100.00", summary.totalPnl());
+        assertDecimal("5.0000", summary.totalPnlPercent());
+        assertDecimal("50.00", summary.dailyPnl());
+        assertDecimal("2.4390", summary.dailyPnlPercent());
+    }
+
+    @Test
+    @DisplayName("价格更新应只重算该股票并保持汇总一致")
+    void applyPriceShouldAdjustTotalsIncrementally() {
+        PositionBook book = new PositionBook();
+        book.add("AShare", "600000", new BigDecimal("100"), new BigDecimal("10.00"),
+                new BigDecimal("11.00"), new BigDecimal("10.50"));
+        book.add("AShare", "000001", new BigDecimal("200"), new BigDecimal("5.00"),
+                new BigDecimal("5.10"), new BigDecimal("5.00"));
+
+        assertTrue(book.applyPrice("600000", new BigDecimal("12.00"), null));
+        assertFalse(book.applyPrice("600000", new BigDecimal("12.000"), null));
+        assertFalse(book.applyPrice("300750", new BigDecimal("200.00"), null));
+
+        PortfolioSummaryDto summary = book.summary();
+        assertDecimal("2220.00", summary.totalMarketValue());
+        assertDecimal("170.00", summary.dailyPnl());
+    }
+
+    @Test
+    @DisplayName("增量估值应只包含变化的持仓")
+    void drainChangesShouldReturnChangedPositionsOnce() {
+        PositionBook book = new PositionBook();
+        book.add("AShare", "600000", new BigDecimal("100"), new BigDecimal("10.00"),
+                new BigDecimal("11.00"), new BigDecimal("10.50"));
+        book.add("AShare", "000001", new BigDecimal("200"), new BigDecimal("5.00"),
+                new BigDecimal("5.10"), new BigDecimal("5.00"));
+        assertNull(book.drainChanges(AS_OF));
+
+        book.applyPrice("000001", new BigDecimal("5.20"), new BigDecimal("5.00"));
+        PortfolioValuationDto delta = book.drainChanges(AS_OF);
+
+        assertFalse(delta.snapshot());
+        assertEquals(1, delta.positions().size());
+        PortfolioValuationDto.PositionValuation position = delta.positions().get(0);
+        assertEquals("000001", position.symbol());
+        assertDecimal("1040.00", position.marketValue());
+        assertDecimal("40.00", position.pnl());
+        assertDecimal("40.00", position.dailyPnl());
+        assertDecimal("2140.00", delta.summary().totalMarketValue());
+        assertNull(book.drainChanges(AS_OF));
+    }
+
+    @Test
+    @DisplayName("随机行情序列后增量汇总应等于全量重算")
+    void incrementalTotalsShouldMatchFullRecompute() {
+        Random random = new Random(7L);
+        int symbols = 20;
+        BigDecimal[] quantity = new BigDecimal[symbols];
+        BigDecimal[] price = new BigDecimal[symbols];
+        BigDecimal[] previousClose = new BigDecimal[symbols];
+        PositionBook book = new PositionBook();
+        for (int i = 0; i < symbols; i++) {
+            quantity[i] = BigDecimal.valueOf(100L * (1 + random.nextInt(10)));
+            previousClose[i] = randomPrice(random);
+            price[i] = previousClose[i];
+            book.add("AShare", symbol(i), quantity[i], randomPrice(random), price[i], previousClose[i]);
+        }
+        for (int tick = 0; tick < 2_000; tick++) {
+            int i = random.nextInt(symbols);
+            price[i] = randomPrice(random);
+            book.applyPrice(symbol(i), price[i], previousClose[i]);
+        }
+
+        BigDecimal marketValue = BigDecimal.ZERO;
+        BigDecimal dailyPnl = BigDecimal.ZERO;
+        for (int i = 0; i < symbols; i++) {
+            marketValue = marketValue.add(price[i].multiply(quantity[i]));
+            dailyPnl = dailyPnl.add(price[i].subtract(previousClose[i]).multiply(quantity[i]));
+        }
+        PortfolioSummaryDto summary = book.summary();
+        assertDecimal(marketValue.toPlainString(), summary.totalMarketValue());
+        assertDecimal(dailyPnl.toPlainString(), summary.dailyPnl());
+        assertEquals(symbols, book.snapshot(AS_OF).positions().size());
+    }
+
+    private static String symbol(int index) {
+        return String.format("%06d", index);
+    }
+
+    private static BigDecimal randomPrice(Random random) {
+        return BigDecimal.valueOf(500 + random.nextInt(5_000), 2);
+    }
+
+    private static void assertDecimal(String expected, BigDecimal actual) {
+        assertEquals(0, new BigDecimal(expected).compareTo(actual),
+                () -> "expected " + expected + " but was " + actual);
+    }
+}
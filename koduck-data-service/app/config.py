@@ -113,6 +113,9 @@ class Settings(BaseSettings):
     PRICE_PUSH_MQ_EXCHANGE: str = "koduck.price.exchange"
     PRICE_PUSH_MQ_QUEUE: str = "koduck.price.realtime.queue"
     PRICE_PUSH_MQ_ROUTING_KEY: str = "stock.realtime"
+    # Publish with per-symbol routing keys (<routing_key>.<symbol>) so each backend
+    # node only receives the symbols its clients subscribe to.
+    PRICE_PUSH_MQ_SYMBOL_ROUTING: bool = False
     PRICE_PUSH_MQ_DLX: str = "koduck.price.dlx"
     PRICE_PUSH_MQ_DLQ: str = "koduck.price.realtime.dlq"
     PRICE_PUSH_MQ_DLK: str = "stock.realtime.dlq"
@@ -107,7 +107,7 @@ class RealtimeEventPublisher:
                 delivery_mode=DeliveryMode.PERSISTENT,
                 timestamp=datetime.now(timezone.utc),
             )
-            await self._exchange.publish(message, routing_key=settings.PRICE_PUSH_MQ_ROUTING_KEY)
+            await self._exchange.publish(message, routing_key=self._routing_key(data))
             return True
         except Exception as exc:
             logger.warning(
@@ -117,6 +117,12 @@ class RealtimeEventPublisher:
             )
             return False
 
+    @staticmethod
+    def _routing_key(data: dict[str, Any]) -> str:
+        if settings.PRICE_PUSH_MQ_SYMBOL_ROUTING:
+            return f"{settings.PRICE_PUSH_MQ_ROUTING_KEY}.{data.get('symbol')}"
+        return settings.PRICE_PUSH_MQ_ROUTING_KEY
+
     @staticmethod
     def _build_payload(data: dict[str, Any]) -> dict[str, Any]:
         return {